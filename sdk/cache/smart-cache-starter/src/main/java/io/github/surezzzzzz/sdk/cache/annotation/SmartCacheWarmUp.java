@@ -24,4 +24,9 @@ public @interface SmartCacheWarmUp {
      * 预热顺序（值越小，优先级越高）
      */
     int order() default 0;
+
+    /**
+     * 分页预热每页条数，&lt;= 0 时使用 warm-up.page-size；仅对接收 WarmUpPageRequest 的方法生效
+     */
+    int pageSize() default 0;
 }
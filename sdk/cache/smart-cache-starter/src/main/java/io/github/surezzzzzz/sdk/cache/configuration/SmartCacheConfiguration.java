@@ -13,11 +13,14 @@ import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
 import io.github.surezzzzzz.sdk.cache.pubsub.CacheInvalidationListener;
 import io.github.surezzzzzz.sdk.cache.serializer.JacksonSmartCacheSerializer;
 import io.github.surezzzzzz.sdk.cache.serializer.PackageSmartCacheTypeValidator;
+import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheBinarySerializer;
 import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheSerializer;
 import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheTypeValidator;
+import io.github.surezzzzzz.sdk.cache.serializer.SmileSmartCacheBinarySerializer;
 import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -76,6 +79,18 @@ public class SmartCacheConfiguration {
         return new JacksonSmartCacheSerializer(smartCacheObjectMapper, smartCacheTypeValidator);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnClass(name = SmartCacheConstant.SMILE_FACTORY_CLASS_NAME)
+    @ConditionalOnProperty(prefix = SmartCacheConstant.CONFIG_PREFIX, name = SmartCacheConstant.PROPERTY_SERIALIZER_FORMAT,
+            havingValue = SmartCacheConstant.SERIALIZER_FORMAT_SMILE)
+    public SmartCacheBinarySerializer smartCacheBinarySerializer(SmartCacheProperties properties,
+                                                                 SmartCacheTypeValidator smartCacheTypeValidator) {
+        SmartCacheProperties.SerializerConfig serializer = properties.getSerializer();
+        return new SmileSmartCacheBinarySerializer(smartCacheTypeValidator, serializer.getTypeIds(),
+                serializer.getCompressionThresholdBytes());
+    }
+
     @Bean
     public org.springframework.beans.factory.InitializingBean smartCacheRouteConfigurationValidator(
             SmartCacheProperties properties,
@@ -122,8 +137,9 @@ public class SmartCacheConfiguration {
             havingValue = SmartCacheConstant.PROPERTY_VALUE_TRUE, matchIfMissing = true)
     public L2Cache l2Cache(SmartCacheProperties properties,
                            RedisRouteTemplate redisRouteTemplate,
-                           SmartCacheSerializer smartCacheSerializer) {
-        return new L2Cache(properties, redisRouteTemplate, smartCacheSerializer);
+                           SmartCacheSerializer smartCacheSerializer,
+                           org.springframework.beans.factory.ObjectProvider<SmartCacheBinarySerializer> binarySerializerProvider) {
+        return new L2Cache(properties, redisRouteTemplate, smartCacheSerializer, binarySerializerProvider.getIfAvailable());
     }
 
     @Bean
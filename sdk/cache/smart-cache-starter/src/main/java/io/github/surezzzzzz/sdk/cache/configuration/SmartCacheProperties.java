@@ -9,10 +9,16 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import org.springframework.util.ClassUtils;
+
 import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Smart Cache 配置
@@ -85,6 +91,11 @@ public class SmartCacheProperties {
      */
     private SerializerConfig serializer = new SerializerConfig();
 
+    /**
+     * 热点 key 配置
+     */
+    private HotKeyConfig hotKey = new HotKeyConfig();
+
     @PostConstruct
     public void validate() {
         if (keyPrefix == null || keyPrefix.trim().isEmpty()) {
@@ -107,6 +118,7 @@ public class SmartCacheProperties {
         validateLock();
         validateRoute();
         validateSerializer();
+        validateHotKey();
         log.info("Smart Cache 配置校验完成");
     }
 
@@ -154,6 +166,16 @@ public class SmartCacheProperties {
                 l2.preload.enabled = false;
             }
         }
+        if (l2.staleWhileRevalidate.staleSeconds < 1) {
+            log.warn("L2 staleWhileRevalidate.staleSeconds {} 无效，使用默认值 {}", l2.staleWhileRevalidate.staleSeconds,
+                    SmartCacheConstant.DEFAULT_L2_SWR_STALE_SECONDS);
+            l2.staleWhileRevalidate.staleSeconds = SmartCacheConstant.DEFAULT_L2_SWR_STALE_SECONDS;
+        }
+        if (l2.staleWhileRevalidate.beta < 0) {
+            log.warn("L2 staleWhileRevalidate.beta {} 无效，使用默认值 {}", l2.staleWhileRevalidate.beta,
+                    SmartCacheConstant.DEFAULT_L2_SWR_BETA);
+            l2.staleWhileRevalidate.beta = SmartCacheConstant.DEFAULT_L2_SWR_BETA;
+        }
         if (l2.preload.executorThreads < 1) {
             log.warn("L2 preload.executorThreads {} 无效，使用默认值 {}", l2.preload.executorThreads,
                     SmartCacheConstant.DEFAULT_PRELOAD_EXECUTOR_THREADS);
@@ -183,6 +205,7 @@ public class SmartCacheProperties {
             pubsub.mode = SmartCacheConstant.PUBSUB_MODE_ROUTED;
         }
         if (!SmartCacheConstant.PUBSUB_MODE_ROUTED.equals(pubsub.mode)
+                && !SmartCacheConstant.PUBSUB_MODE_TRACKING.equals(pubsub.mode)
                 && !SmartCacheConstant.PUBSUB_MODE_DISABLED.equals(pubsub.mode)) {
             log.warn("Pub/Sub 模式 {} 无效，使用默认值 {}", pubsub.mode, SmartCacheConstant.PUBSUB_MODE_ROUTED);
             pubsub.mode = SmartCacheConstant.PUBSUB_MODE_ROUTED;
@@ -197,6 +220,32 @@ public class SmartCacheProperties {
                     String.format(ErrorMessage.SMART_CACHE_CONFIG_ERROR, "强一致性模式不能关闭 Pub/Sub")
             );
         }
+        if (SmartCacheConstant.PUBSUB_MODE_TRACKING.equals(pubsub.mode) && !l2.enabled) {
+            throw new CacheConfigurationException(
+                    ErrorCode.SMART_CACHE_CONFIG_ERROR,
+                    String.format(ErrorMessage.SMART_CACHE_CONFIG_ERROR, "pubsub.mode=tracking 需要开启 L2")
+            );
+        }
+        if (pubsub.tracking.probeIntervalSeconds < 1) {
+            log.warn("Redis tracking probeIntervalSeconds {} 无效，使用默认值 {}", pubsub.tracking.probeIntervalSeconds,
+                    SmartCacheConstant.DEFAULT_TRACKING_PROBE_INTERVAL_SECONDS);
+            pubsub.tracking.probeIntervalSeconds = SmartCacheConstant.DEFAULT_TRACKING_PROBE_INTERVAL_SECONDS;
+        }
+        if (pubsub.tracking.probeTimeoutMillis < 1) {
+            log.warn("Redis tracking probeTimeoutMillis {} 无效，使用默认值 {}", pubsub.tracking.probeTimeoutMillis,
+                    SmartCacheConstant.DEFAULT_TRACKING_PROBE_TIMEOUT_MILLIS);
+            pubsub.tracking.probeTimeoutMillis = SmartCacheConstant.DEFAULT_TRACKING_PROBE_TIMEOUT_MILLIS;
+        }
+        if (pubsub.batch.maxSize < 1) {
+            log.warn("Pub/Sub batch.maxSize {} 无效，使用默认值 {}", pubsub.batch.maxSize,
+                    SmartCacheConstant.DEFAULT_PUBSUB_BATCH_MAX_SIZE);
+            pubsub.batch.maxSize = SmartCacheConstant.DEFAULT_PUBSUB_BATCH_MAX_SIZE;
+        }
+        if (pubsub.batch.flushIntervalMillis < 1) {
+            log.warn("Pub/Sub batch.flushIntervalMillis {} 无效，使用默认值 {}", pubsub.batch.flushIntervalMillis,
+                    SmartCacheConstant.DEFAULT_PUBSUB_BATCH_FLUSH_INTERVAL_MILLIS);
+            pubsub.batch.flushIntervalMillis = SmartCacheConstant.DEFAULT_PUBSUB_BATCH_FLUSH_INTERVAL_MILLIS;
+        }
     }
 
     private void validateWarmUp() {
@@ -225,6 +274,19 @@ public class SmartCacheProperties {
                     SmartCacheConstant.DEFAULT_WARMUP_FAILURE_POLICY);
             warmUp.failurePolicy = SmartCacheConstant.DEFAULT_WARMUP_FAILURE_POLICY;
         }
+        if (warmUp.pageSize < 1) {
+            log.warn("预热每页条数 {} 无效，使用默认值 {}", warmUp.pageSize, SmartCacheConstant.DEFAULT_WARMUP_PAGE_SIZE);
+            warmUp.pageSize = SmartCacheConstant.DEFAULT_WARMUP_PAGE_SIZE;
+        }
+        if (warmUp.writeBatchSize < 1) {
+            log.warn("预热单批写入条数 {} 无效，使用默认值 {}", warmUp.writeBatchSize,
+                    SmartCacheConstant.DEFAULT_WARMUP_WRITE_BATCH_SIZE);
+            warmUp.writeBatchSize = SmartCacheConstant.DEFAULT_WARMUP_WRITE_BATCH_SIZE;
+        }
+        if (warmUp.maxWritesPerSecond < 0) {
+            log.warn("预热写入速率上限 {} 无效，不限速", warmUp.maxWritesPerSecond);
+            warmUp.maxWritesPerSecond = SmartCacheConstant.DEFAULT_WARMUP_MAX_WRITES_PER_SECOND;
+        }
     }
 
     private void validateLock() {
@@ -250,6 +312,65 @@ public class SmartCacheProperties {
                     SmartCacheConstant.TRUSTED_PACKAGE_JAVA_UTIL
             ));
         }
+        if (serializer.format == null || serializer.format.trim().isEmpty()) {
+            serializer.format = SmartCacheConstant.DEFAULT_SERIALIZER_FORMAT;
+        } else if (!SmartCacheConstant.SERIALIZER_FORMAT_JSON.equals(serializer.format)
+                && !SmartCacheConstant.SERIALIZER_FORMAT_SMILE.equals(serializer.format)) {
+            log.warn("序列化格式 {} 无效，使用默认值 {}", serializer.format, SmartCacheConstant.DEFAULT_SERIALIZER_FORMAT);
+            serializer.format = SmartCacheConstant.DEFAULT_SERIALIZER_FORMAT;
+        }
+        if (SmartCacheConstant.SERIALIZER_FORMAT_SMILE.equals(serializer.format)
+                && !ClassUtils.isPresent(SmartCacheConstant.SMILE_FACTORY_CLASS_NAME, getClass().getClassLoader())) {
+            throw new CacheConfigurationException(
+                    ErrorCode.SMART_CACHE_CONFIG_ERROR,
+                    String.format(ErrorMessage.SMART_CACHE_CONFIG_ERROR, "serializer.format=smile 需要引入 jackson-dataformat-smile")
+            );
+        }
+        if (serializer.typeIds == null) {
+            serializer.typeIds = new LinkedHashMap<>();
+        }
+        Set<Integer> usedTypeIds = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : serializer.typeIds.entrySet()) {
+            if (entry.getValue() == null || entry.getValue() < 1 || !usedTypeIds.add(entry.getValue())) {
+                throw new CacheConfigurationException(
+                        ErrorCode.SMART_CACHE_CONFIG_ERROR,
+                        String.format(ErrorMessage.SMART_CACHE_CONFIG_ERROR,
+                                "serializer.type-ids 编号必须为正数且不能重复：" + entry.getKey())
+                );
+            }
+        }
+    }
+
+    private void validateHotKey() {
+        if (hotKey.threshold < 1) {
+            log.warn("热点阈值 {} 无效，使用默认值 {}", hotKey.threshold, SmartCacheConstant.DEFAULT_HOT_KEY_THRESHOLD);
+            hotKey.threshold = SmartCacheConstant.DEFAULT_HOT_KEY_THRESHOLD;
+        }
+        if (hotKey.windowSeconds < 1) {
+            log.warn("热点统计窗口 {} 无效，使用默认值 {}", hotKey.windowSeconds,
+                    SmartCacheConstant.DEFAULT_HOT_KEY_WINDOW_SECONDS);
+            hotKey.windowSeconds = SmartCacheConstant.DEFAULT_HOT_KEY_WINDOW_SECONDS;
+        }
+        if (hotKey.ttlSeconds < 1 || hotKey.ttlSeconds > SmartCacheConstant.MAX_HOT_KEY_TTL_SECONDS) {
+            log.warn("热点本地副本 TTL {} 超出范围，使用默认值 {}", hotKey.ttlSeconds,
+                    SmartCacheConstant.DEFAULT_HOT_KEY_TTL_SECONDS);
+            hotKey.ttlSeconds = SmartCacheConstant.DEFAULT_HOT_KEY_TTL_SECONDS;
+        }
+        if (hotKey.maxSize < 1) {
+            log.warn("热点本地副本 maxSize {} 无效，使用默认值 {}", hotKey.maxSize,
+                    SmartCacheConstant.DEFAULT_HOT_KEY_MAX_SIZE);
+            hotKey.maxSize = SmartCacheConstant.DEFAULT_HOT_KEY_MAX_SIZE;
+        }
+        if (hotKey.sketchWidth < 1 || hotKey.sketchWidth > SmartCacheConstant.MAX_HOT_KEY_SKETCH_WIDTH) {
+            log.warn("频率草图宽度 {} 超出范围，使用默认值 {}", hotKey.sketchWidth,
+                    SmartCacheConstant.DEFAULT_HOT_KEY_SKETCH_WIDTH);
+            hotKey.sketchWidth = SmartCacheConstant.DEFAULT_HOT_KEY_SKETCH_WIDTH;
+        }
+        if (hotKey.sketchDepth < 1 || hotKey.sketchDepth > SmartCacheConstant.MAX_HOT_KEY_SKETCH_DEPTH) {
+            log.warn("频率草图深度 {} 超出范围，使用默认值 {}", hotKey.sketchDepth,
+                    SmartCacheConstant.DEFAULT_HOT_KEY_SKETCH_DEPTH);
+            hotKey.sketchDepth = SmartCacheConstant.DEFAULT_HOT_KEY_SKETCH_DEPTH;
+        }
     }
 
     public String getPubsubChannelPrefix() {
@@ -308,6 +429,11 @@ public class SmartCacheProperties {
          */
         private PreloadConfig preload = new PreloadConfig();
 
+        /**
+         * stale-while-revalidate 配置
+         */
+        private StaleWhileRevalidateConfig staleWhileRevalidate = new StaleWhileRevalidateConfig();
+
         @Data
         @NoArgsConstructor
         public static class PreloadConfig {
@@ -331,6 +457,25 @@ public class SmartCacheProperties {
              */
             private int executorQueueCapacity = SmartCacheConstant.DEFAULT_PRELOAD_EXECUTOR_QUEUE_CAPACITY;
         }
+
+        @Data
+        @NoArgsConstructor
+        public static class StaleWhileRevalidateConfig {
+            /**
+             * 是否开启 stale-while-revalidate
+             */
+            private boolean enabled = false;
+
+            /**
+             * 软过期后仍可返回旧值的时长（秒），Redis 硬过期 = 软过期 TTL + 该值
+             */
+            private int staleSeconds = SmartCacheConstant.DEFAULT_L2_SWR_STALE_SECONDS;
+
+            /**
+             * XFetch 提前刷新系数，0 表示仅在软过期后刷新
+             */
+            private double beta = SmartCacheConstant.DEFAULT_L2_SWR_BETA;
+        }
     }
 
     @Data
@@ -355,6 +500,49 @@ public class SmartCacheProperties {
          * channel 前缀
          */
         private String channelPrefix;
+
+        /**
+         * Redis CLIENT TRACKING 配置（mode=tracking 时生效）
+         */
+        private TrackingConfig tracking = new TrackingConfig();
+
+        /**
+         * 失效消息批量发布配置
+         */
+        private BatchConfig batch = new BatchConfig();
+
+        @Data
+        @NoArgsConstructor
+        public static class BatchConfig {
+            /**
+             * 是否将 evict 失效消息合并为批量消息发布
+             */
+            private boolean enabled = SmartCacheConstant.DEFAULT_PUBSUB_BATCH_ENABLED;
+
+            /**
+             * 单批最大 key 数，达到后立即发布
+             */
+            private int maxSize = SmartCacheConstant.DEFAULT_PUBSUB_BATCH_MAX_SIZE;
+
+            /**
+             * 合并等待时间（毫秒），首个 key 入队后最迟在该时间后发布
+             */
+            private long flushIntervalMillis = SmartCacheConstant.DEFAULT_PUBSUB_BATCH_FLUSH_INTERVAL_MILLIS;
+        }
+
+        @Data
+        @NoArgsConstructor
+        public static class TrackingConfig {
+            /**
+             * 健康检查间隔（秒）
+             */
+            private int probeIntervalSeconds = SmartCacheConstant.DEFAULT_TRACKING_PROBE_INTERVAL_SECONDS;
+
+            /**
+             * 探测超时（毫秒）
+             */
+            private long probeTimeoutMillis = SmartCacheConstant.DEFAULT_TRACKING_PROBE_TIMEOUT_MILLIS;
+        }
     }
 
     @Data
@@ -382,6 +570,21 @@ public class SmartCacheProperties {
                 SmartCacheConstant.TRUSTED_PACKAGE_JAVA_TIME,
                 SmartCacheConstant.TRUSTED_PACKAGE_JAVA_UTIL
         ));
+
+        /**
+         * 序列化格式：json（默认）或 smile（需引入 jackson-dataformat-smile）
+         */
+        private String format = SmartCacheConstant.DEFAULT_SERIALIZER_FORMAT;
+
+        /**
+         * 二进制格式的类型编号（全限定类名 -> 正整数），命中时 payload 只写入编号
+         */
+        private Map<String, Integer> typeIds = new LinkedHashMap<>();
+
+        /**
+         * 二进制格式压缩阈值（字节），数据段达到阈值时压缩，&lt;= 0 表示不压缩
+         */
+        private int compressionThresholdBytes = SmartCacheConstant.DEFAULT_SERIALIZER_COMPRESSION_THRESHOLD_BYTES;
     }
 
     @Data
@@ -415,6 +618,26 @@ public class SmartCacheProperties {
          * 预热失败策略
          */
         private String failurePolicy = SmartCacheConstant.DEFAULT_WARMUP_FAILURE_POLICY;
+
+        /**
+         * 分页预热默认每页条数（注解未指定时使用）
+         */
+        private int pageSize = SmartCacheConstant.DEFAULT_WARMUP_PAGE_SIZE;
+
+        /**
+         * 单批写入条数，每批一次 L2 pipeline
+         */
+        private int writeBatchSize = SmartCacheConstant.DEFAULT_WARMUP_WRITE_BATCH_SIZE;
+
+        /**
+         * 本实例全部预热任务的写入速率上限（条/秒），0 表示不限速
+         */
+        private int maxWritesPerSecond = SmartCacheConstant.DEFAULT_WARMUP_MAX_WRITES_PER_SECOND;
+
+        /**
+         * 分页预热是否记录断点，重启后从断点继续
+         */
+        private boolean checkpointEnabled = SmartCacheConstant.DEFAULT_WARMUP_CHECKPOINT_ENABLED;
     }
 
     @Data
@@ -424,5 +647,49 @@ public class SmartCacheProperties {
          * 分布式锁超时时间（秒）
          */
         private int timeoutSeconds = SmartCacheConstant.DEFAULT_LOCK_TIMEOUT_SECONDS;
+
+        /**
+         * 是否在分布式锁之前合并同一实例内对同一 key 的并发加载
+         */
+        private boolean singleFlightEnabled = SmartCacheConstant.DEFAULT_LOCK_SINGLE_FLIGHT_ENABLED;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class HotKeyConfig {
+        /**
+         * 是否启用热点 key 探测与本地副本
+         */
+        private boolean enabled = SmartCacheConstant.DEFAULT_HOT_KEY_ENABLED;
+
+        /**
+         * 单个统计窗口内 L2 读取次数达到该值即判定为热点
+         */
+        private int threshold = SmartCacheConstant.DEFAULT_HOT_KEY_THRESHOLD;
+
+        /**
+         * 统计窗口（秒）
+         */
+        private int windowSeconds = SmartCacheConstant.DEFAULT_HOT_KEY_WINDOW_SECONDS;
+
+        /**
+         * 热点本地副本 TTL（秒）
+         */
+        private int ttlSeconds = SmartCacheConstant.DEFAULT_HOT_KEY_TTL_SECONDS;
+
+        /**
+         * 热点本地副本最大条目数
+         */
+        private int maxSize = SmartCacheConstant.DEFAULT_HOT_KEY_MAX_SIZE;
+
+        /**
+         * 频率草图宽度
+         */
+        private int sketchWidth = SmartCacheConstant.DEFAULT_HOT_KEY_SKETCH_WIDTH;
+
+        /**
+         * 频率草图深度
+         */
+        private int sketchDepth = SmartCacheConstant.DEFAULT_HOT_KEY_SKETCH_DEPTH;
     }
 }
@@ -37,6 +37,16 @@ public final class ErrorMessage {
      */
     public static final String SMART_CACHE_SERIALIZATION_FAILED = "缓存序列化失败：%s";
 
+    /**
+     * 二进制 payload 类型编号未注册
+     */
+    public static final String SMART_CACHE_TYPE_ID_UNKNOWN = "缓存序列化失败，未注册的类型编号：%s";
+
+    /**
+     * 二进制 payload 压缩数据不完整
+     */
+    public static final String SMART_CACHE_BINARY_PAYLOAD_TRUNCATED = "二进制缓存压缩数据不完整";
+
     /**
      * Loader 执行失败
      */
@@ -52,6 +62,23 @@ public final class ErrorMessage {
      */
     public static final String SMART_CACHE_PUBSUB_INIT_FAILED = "Pub/Sub 初始化失败：%s";
 
+    /**
+     * Redis tracking 不可用
+     */
+    public static final String SMART_CACHE_TRACKING_UNSUPPORTED =
+            "pubsub.mode=tracking 需要 Redis 6.0+ 非集群、RESP3 协议的 Lettuce 数据源，当前：%s";
+
+    /**
+     * Redis tracking 探测失败
+     */
+    public static final String SMART_CACHE_TRACKING_PROBE_FAILED = "Redis tracking 连接（client id：%s）未收到探测 key 的失效推送";
+
+    /**
+     * 频率草图尺寸非法
+     */
+    public static final String SMART_CACHE_SKETCH_SIZE_INVALID =
+            "频率草图 width 必须为正数，depth 必须在 1 到 %d 之间，当前：width=%d，depth=%d";
+
     /**
      * 预热执行失败
      */
@@ -87,6 +114,16 @@ public final class ErrorMessage {
      */
     public static final String SMART_CACHE_WARMUP_MAP_KEY_INVALID = "预热方法返回的 Map key 必须为 String";
 
+    /**
+     * 分页预热方法签名无效
+     */
+    public static final String SMART_CACHE_WARMUP_PAGE_SIGNATURE_INVALID = "分页预热方法必须接收 WarmUpPageRequest 并返回 WarmUpPage";
+
+    /**
+     * 分页预热游标未推进
+     */
+    public static final String SMART_CACHE_WARMUP_CURSOR_NOT_ADVANCED = "分页预热返回的下一页游标与当前游标相同：%s";
+
     private ErrorMessage() {
         throw new UnsupportedOperationException("常量类不能实例化");
     }
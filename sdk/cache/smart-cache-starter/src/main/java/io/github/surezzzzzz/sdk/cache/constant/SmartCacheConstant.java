@@ -211,11 +211,111 @@ public final class SmartCacheConstant {
      */
     public static final String TRUSTED_PACKAGE_JAVA_UTIL = "java.util";
 
+    /**
+     * 序列化格式：JSON
+     */
+    public static final String SERIALIZER_FORMAT_JSON = "json";
+
+    /**
+     * 序列化格式：Smile 二进制
+     */
+    public static final String SERIALIZER_FORMAT_SMILE = "smile";
+
+    /**
+     * 默认序列化格式
+     */
+    public static final String DEFAULT_SERIALIZER_FORMAT = SERIALIZER_FORMAT_JSON;
+
+    /**
+     * 属性：serializer.format
+     */
+    public static final String PROPERTY_SERIALIZER_FORMAT = "serializer.format";
+
+    /**
+     * Jackson SmileFactory 类名
+     */
+    public static final String SMILE_FACTORY_CLASS_NAME = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+
+    /**
+     * 默认二进制压缩阈值（字节）
+     */
+    public static final int DEFAULT_SERIALIZER_COMPRESSION_THRESHOLD_BYTES = 4096;
+
+    /**
+     * 二进制 payload 魔数
+     */
+    public static final byte BINARY_PAYLOAD_MAGIC = (byte) 0x9F;
+
+    /**
+     * 二进制 payload 标记：数据段已压缩
+     */
+    public static final byte BINARY_FLAG_COMPRESSED = 0x01;
+
+    /**
+     * 二进制 payload 标记：类型以编号写入
+     */
+    public static final byte BINARY_FLAG_TYPE_ID = 0x02;
+
+    /**
+     * 二进制 payload 标记：携带软过期元数据
+     */
+    public static final byte BINARY_FLAG_SOFT_EXPIRE = 0x04;
+
+    /**
+     * 二进制 payload 头部预留长度（字节）
+     */
+    public static final int BINARY_HEADER_RESERVED_BYTES = 64;
+
+    /**
+     * 压缩/解压缓冲块大小（字节）
+     */
+    public static final int BINARY_COMPRESSION_CHUNK_BYTES = 4096;
+
     /**
      * Pub/Sub 模式：路由模式
      */
     public static final String PUBSUB_MODE_ROUTED = "routed";
 
+    /**
+     * Pub/Sub 模式：Redis CLIENT TRACKING 推送 L2 key 失效，clear 仍走 Pub/Sub
+     */
+    public static final String PUBSUB_MODE_TRACKING = "tracking";
+
+    /**
+     * Redis tracking 失效推送（RESP3 push）类型
+     */
+    public static final String TRACKING_PUSH_TYPE_INVALIDATE = "invalidate";
+
+    /**
+     * Redis 部署模式：cluster
+     */
+    public static final String REDIS_MODE_CLUSTER = "cluster";
+
+    /**
+     * Redis tracking 探测 key 标识
+     */
+    public static final String TRACKING_PROBE_KEY_SEGMENT = "tracking-probe";
+
+    /**
+     * Redis tracking 探测 key TTL（秒）
+     */
+    public static final long TRACKING_PROBE_TTL_SECONDS = 60L;
+
+    /**
+     * Redis tracking 默认健康检查间隔（秒）
+     */
+    public static final int DEFAULT_TRACKING_PROBE_INTERVAL_SECONDS = 30;
+
+    /**
+     * Redis tracking 默认探测超时（毫秒）
+     */
+    public static final long DEFAULT_TRACKING_PROBE_TIMEOUT_MILLIS = 1000L;
+
+    /**
+     * Redis tracking 线程名前缀
+     */
+    public static final String TRACKING_THREAD_NAME_PREFIX = "cache-tracking-";
+
     /**
      * Pub/Sub 模式：关闭
      */
@@ -246,6 +346,31 @@ public final class SmartCacheConstant {
      */
     public static final String OPERATION_CLEAR = "clear";
 
+    /**
+     * 缓存操作类型：批量删除
+     */
+    public static final String OPERATION_EVICT_BATCH = "evict-batch";
+
+    /**
+     * 失效消息批量发布默认关闭（滚动升级完成后再开启）
+     */
+    public static final boolean DEFAULT_PUBSUB_BATCH_ENABLED = false;
+
+    /**
+     * 失效消息默认单批最大 key 数
+     */
+    public static final int DEFAULT_PUBSUB_BATCH_MAX_SIZE = 256;
+
+    /**
+     * 失效消息默认合并等待时间（毫秒）
+     */
+    public static final long DEFAULT_PUBSUB_BATCH_FLUSH_INTERVAL_MILLIS = 5L;
+
+    /**
+     * 失效消息批量发布线程名
+     */
+    public static final String INVALIDATION_BATCH_THREAD_NAME = "cache-invalidation-batch";
+
     /**
      * 一致性模式：强一致性
      */
@@ -291,6 +416,51 @@ public final class SmartCacheConstant {
      */
     public static final String WARMUP_KEYS_KEY_SUFFIX = "warmup-keys";
 
+    /**
+     * 分页预热断点 key 后缀
+     */
+    public static final String WARMUP_CHECKPOINT_KEY_SUFFIX = "warmup-checkpoint";
+
+    /**
+     * 预热断点字段：下一页游标
+     */
+    public static final String WARMUP_CHECKPOINT_FIELD_CURSOR = "cursor";
+
+    /**
+     * 预热断点字段：已写入条目数
+     */
+    public static final String WARMUP_CHECKPOINT_FIELD_WRITTEN = "written";
+
+    /**
+     * 预热断点字段：已完成页数
+     */
+    public static final String WARMUP_CHECKPOINT_FIELD_PAGES = "pages";
+
+    /**
+     * 等待方从 L2 批量回填 L1 的单批 key 数
+     */
+    public static final int WARMUP_L1_LOAD_BATCH_SIZE = 500;
+
+    /**
+     * 预热任务状态：执行中
+     */
+    public static final String WARMUP_STATUS_RUNNING = "running";
+
+    /**
+     * 预热任务状态：已完成
+     */
+    public static final String WARMUP_STATUS_COMPLETED = "completed";
+
+    /**
+     * 预热任务状态：由其他实例完成，本实例仅回填 L1
+     */
+    public static final String WARMUP_STATUS_FOLLOWED = "followed";
+
+    /**
+     * 预热任务状态：失败
+     */
+    public static final String WARMUP_STATUS_FAILED = "failed";
+
     /**
      * 预热完成标记值
      */
@@ -380,6 +550,16 @@ public final class SmartCacheConstant {
      */
     public static final double DEFAULT_L2_TTL_RANDOM_OFFSET_RATIO = 0.1;
 
+    /**
+     * L2 stale-while-revalidate 默认可返回旧值时长（秒）
+     */
+    public static final int DEFAULT_L2_SWR_STALE_SECONDS = 300;
+
+    /**
+     * L2 stale-while-revalidate 默认 XFetch 系数
+     */
+    public static final double DEFAULT_L2_SWR_BETA = 1.0;
+
     // ==================== 预热默认值 ====================
 
     /**
@@ -412,6 +592,26 @@ public final class SmartCacheConstant {
      */
     public static final int MAX_WARMUP_COMPLETION_MARK_TTL_SECONDS = 3600;
 
+    /**
+     * 分页预热默认每页条数
+     */
+    public static final int DEFAULT_WARMUP_PAGE_SIZE = 1000;
+
+    /**
+     * 预热默认单批写入条数（一次 L2 pipeline）
+     */
+    public static final int DEFAULT_WARMUP_WRITE_BATCH_SIZE = 500;
+
+    /**
+     * 预热默认写入速率上限（条/秒），0 表示不限速
+     */
+    public static final int DEFAULT_WARMUP_MAX_WRITES_PER_SECOND = 0;
+
+    /**
+     * 分页预热默认记录断点
+     */
+    public static final boolean DEFAULT_WARMUP_CHECKPOINT_ENABLED = true;
+
     // ==================== 分布式锁默认值 ====================
 
     /**
@@ -429,6 +629,61 @@ public final class SmartCacheConstant {
      */
     public static final int MAX_LOCK_TIMEOUT_SECONDS = 300;
 
+    /**
+     * 默认开启进程内 single-flight 加载
+     */
+    public static final boolean DEFAULT_LOCK_SINGLE_FLIGHT_ENABLED = true;
+
+    /**
+     * 热点 key 探测默认关闭
+     */
+    public static final boolean DEFAULT_HOT_KEY_ENABLED = false;
+
+    /**
+     * 热点判定阈值：单个统计窗口内的 L2 读取次数
+     */
+    public static final int DEFAULT_HOT_KEY_THRESHOLD = 200;
+
+    /**
+     * 热点统计窗口（秒），每个窗口结束时计数减半
+     */
+    public static final int DEFAULT_HOT_KEY_WINDOW_SECONDS = 1;
+
+    /**
+     * 热点本地副本默认 TTL（秒）
+     */
+    public static final int DEFAULT_HOT_KEY_TTL_SECONDS = 2;
+
+    /**
+     * 热点本地副本默认最大条目数
+     */
+    public static final int DEFAULT_HOT_KEY_MAX_SIZE = 1024;
+
+    /**
+     * 频率草图默认宽度（每行计数器个数，向上取整为 2 的幂）
+     */
+    public static final int DEFAULT_HOT_KEY_SKETCH_WIDTH = 16384;
+
+    /**
+     * 频率草图默认深度（哈希行数）
+     */
+    public static final int DEFAULT_HOT_KEY_SKETCH_DEPTH = 4;
+
+    /**
+     * 频率草图最大宽度
+     */
+    public static final int MAX_HOT_KEY_SKETCH_WIDTH = 1 << 20;
+
+    /**
+     * 频率草图最大深度
+     */
+    public static final int MAX_HOT_KEY_SKETCH_DEPTH = 8;
+
+    /**
+     * 热点本地副本 TTL 上限（秒），超过后与 L1 无异，失效仅依赖消息通知
+     */
+    public static final int MAX_HOT_KEY_TTL_SECONDS = 60;
+
     private SmartCacheConstant() {
         throw new UnsupportedOperationException("常量类不能实例化");
     }
@@ -0,0 +1,138 @@
+package io.github.surezzzzzz.sdk.cache.layer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.surezzzzzz.sdk.cache.annotation.SmartCacheComponent;
+import io.github.surezzzzzz.sdk.cache.configuration.SmartCacheProperties;
+import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.support.CountMinSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 热点 key 本地副本
+ * <p>
+ * 以 Count-Min Sketch 统计每个 key 的 L2 读取频率，单个窗口内达到阈值的 key 被复制到独立的短 TTL 本地层，
+ * 后续读取在 L1 未命中（或 L1 关闭）时先查本地副本，避免热点 key 持续打到同一个 Redis 分片。
+ * 草图内存固定为 width × depth 个计数器，每个窗口结束时计数减半；本地副本的条目数与 TTL 单独限制，
+ * 数据最多滞后一个 TTL，本实例写入与收到的失效消息会同步删除副本。
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SmartCacheComponent
+@ConditionalOnClass(Caffeine.class)
+@ConditionalOnProperty(prefix = SmartCacheConstant.CONFIG_PREFIX + ".hot-key", name = SmartCacheConstant.PROPERTY_ENABLED,
+        havingValue = SmartCacheConstant.PROPERTY_VALUE_TRUE)
+public class HotKeyCache {
+
+    private final SmartCacheProperties.HotKeyConfig config;
+    private final CountMinSketch sketch;
+    private final long windowMillis;
+    private final AtomicLong windowStartMillis = new AtomicLong(System.currentTimeMillis());
+    private final Map<String, Cache<String, Object>> cacheMap = new ConcurrentHashMap<>();
+
+    public HotKeyCache(SmartCacheProperties properties) {
+        this.config = properties != null && properties.getHotKey() != null
+                ? properties.getHotKey()
+                : new SmartCacheProperties.HotKeyConfig();
+        this.sketch = new CountMinSketch(config.getSketchWidth(), config.getSketchDepth());
+        this.windowMillis = TimeUnit.SECONDS.toMillis(config.getWindowSeconds());
+        log.info("热点 key 探测已启用，阈值：{} 次/{} 秒，副本 TTL：{} 秒，草图计数器：{}",
+                config.getThreshold(), config.getWindowSeconds(), config.getTtlSeconds(), sketch.capacity());
+    }
+
+    private Cache<String, Object> getCache(String cacheName) {
+        return cacheMap.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtlSeconds(), TimeUnit.SECONDS)
+                .build());
+    }
+
+    /**
+     * 读取热点副本
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, String key) {
+        Cache<String, Object> cache = cacheMap.get(cacheName);
+        return cache != null ? (T) cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * 记录一次 L2 读取，达到阈值时将值复制到本地副本
+     *
+     * @return 是否被判定为热点
+     */
+    public boolean recordAccess(String cacheName, String key, Object value) {
+        rotateWindow();
+        int frequency = sketch.increment(cacheName + SmartCacheConstant.KEY_SEPARATOR + key);
+        if (frequency < config.getThreshold() || value == null) {
+            return false;
+        }
+        getCache(cacheName).put(key, value);
+        if (frequency == config.getThreshold()) {
+            log.debug("检测到热点 key，cacheName：{}，key：{}", cacheName, key);
+        }
+        return true;
+    }
+
+    /**
+     * 删除热点副本
+     */
+    public void evict(String cacheName, String key) {
+        Cache<String, Object> cache = cacheMap.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 清空缓存名称下的热点副本
+     */
+    public void clear(String cacheName) {
+        Cache<String, Object> cache = cacheMap.get(cacheName);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 清空全部热点副本
+     */
+    public void clearAll() {
+        cacheMap.values().forEach(Cache::invalidateAll);
+    }
+
+    /**
+     * 当前持有本地副本的热点 key
+     */
+    public Set<String> getHotKeys(String cacheName) {
+        Cache<String, Object> cache = cacheMap.get(cacheName);
+        if (cache == null) {
+            return Collections.emptySet();
+        }
+        cache.cleanUp();
+        return Collections.unmodifiableSet(new TreeSet<>(cache.asMap().keySet()));
+    }
+
+    /**
+     * 窗口到期时由一个线程将草图计数减半
+     */
+    private void rotateWindow() {
+        long start = windowStartMillis.get();
+        long now = System.currentTimeMillis();
+        if (now - start >= windowMillis && windowStartMillis.compareAndSet(start, now)) {
+            sketch.halve();
+        }
+    }
+}
@@ -141,6 +141,13 @@ public class L1Cache {
         }
     }
 
+    /**
+     * 清空全部缓存名称下的 L1
+     */
+    public void clearAll() {
+        cacheMap.values().forEach(Cache::invalidateAll);
+    }
+
     /**
      * 获取缓存大小
      */
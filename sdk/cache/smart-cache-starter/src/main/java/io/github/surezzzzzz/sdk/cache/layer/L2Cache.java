@@ -6,15 +6,22 @@ import io.github.surezzzzzz.sdk.cache.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
 import io.github.surezzzzzz.sdk.cache.exception.CacheRouteException;
 import io.github.surezzzzzz.sdk.cache.exception.SmartCacheException;
+import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheBinarySerializer;
+import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheEntry;
 import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheSerializer;
 import io.github.surezzzzzz.sdk.cache.support.KeyHelper;
 import io.github.surezzzzzz.sdk.redis.route.exception.SimpleRedisRouteException;
 import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -33,13 +40,25 @@ public class L2Cache {
     private final SmartCacheProperties properties;
     private final RedisRouteTemplate redisRouteTemplate;
     private final SmartCacheSerializer smartCacheSerializer;
+    private final SmartCacheBinarySerializer binarySerializer;
 
     public L2Cache(SmartCacheProperties properties,
                    RedisRouteTemplate redisRouteTemplate,
                    SmartCacheSerializer smartCacheSerializer) {
+        this(properties, redisRouteTemplate, smartCacheSerializer, null);
+    }
+
+    /**
+     * @param binarySerializer 二进制序列化器，为 null 时使用字符串序列化器读写
+     */
+    public L2Cache(SmartCacheProperties properties,
+                   RedisRouteTemplate redisRouteTemplate,
+                   SmartCacheSerializer smartCacheSerializer,
+                   SmartCacheBinarySerializer binarySerializer) {
         this.properties = properties;
         this.redisRouteTemplate = redisRouteTemplate;
         this.smartCacheSerializer = smartCacheSerializer;
+        this.binarySerializer = binarySerializer;
     }
 
     private String buildKey(String cacheName, String key) {
@@ -98,6 +117,10 @@ public class L2Cache {
     public <T> T get(String cacheName, String key, Class<?> expectedType) {
         try {
             String redisKey = buildKey(cacheName, key);
+            if (binarySerializer != null) {
+                SmartCacheEntry entry = decodeEntry(readBytes(redisKey), expectedType);
+                return entry != null ? (T) entry.getValue() : null;
+            }
             String payload = redisRouteTemplate.execute(redisKey, template -> template.opsForValue().get(redisKey));
             return (T) smartCacheSerializer.deserialize(payload, expectedType);
         } catch (Exception e) {
@@ -106,21 +129,70 @@ public class L2Cache {
         }
     }
 
+    /**
+     * 读取缓存条目（含 stale-while-revalidate 元数据）
+     *
+     * @param cacheName    缓存名称
+     * @param key          缓存 key
+     * @param expectedType 期望类型
+     * @return 缓存条目，不存在或读取失败时返回 null
+     */
+    public SmartCacheEntry getEntry(String cacheName, String key, Class<?> expectedType) {
+        try {
+            String redisKey = buildKey(cacheName, key);
+            SmartCacheEntry entry;
+            if (binarySerializer != null) {
+                entry = decodeEntry(readBytes(redisKey), expectedType);
+            } else {
+                String payload = redisRouteTemplate.execute(redisKey, template -> template.opsForValue().get(redisKey));
+                entry = smartCacheSerializer.deserializeEntry(payload, expectedType);
+            }
+            return entry != null && entry.getValue() != null ? entry : null;
+        } catch (Exception e) {
+            log.warn("L2 缓存读取失败，cacheName：{}，key：{}，降级到 L1。原因：{}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
     public void put(String cacheName, String key, Object value) {
         SmartCacheProperties.L2Config l2Config = properties.getL2();
         put(cacheName, key, value, l2Config.getExpireSeconds());
     }
 
     public void put(String cacheName, String key, Object value, int ttlSeconds) {
+        put(cacheName, key, value, ttlSeconds, 0L);
+    }
+
+    /**
+     * 写入缓存值，并记录本次加载耗时
+     * <p>
+     * 开启 stale-while-revalidate 时，{@code ttlSeconds} 为软过期 TTL，Redis 实际 TTL 额外增加 stale-seconds；
+     * 加载耗时用于 XFetch 概率提前刷新。
+     *
+     * @param cacheName     缓存名称
+     * @param key           缓存 key
+     * @param value         缓存值
+     * @param ttlSeconds    TTL（秒）
+     * @param computeMillis 加载耗时（毫秒）
+     */
+    public void put(String cacheName, String key, Object value, int ttlSeconds, long computeMillis) {
         if (value == null) {
             return;
         }
         try {
             String redisKey = buildKey(cacheName, key);
-            String payload = smartCacheSerializer.serialize(value, value.getClass());
             long actualTtl = calculateActualTtl(ttlSeconds);
+            long redisTtl = calculateHardTtl(actualTtl);
+            if (binarySerializer != null) {
+                byte[] payload = serializeBinaryPayload(value, actualTtl, computeMillis);
+                redisRouteTemplate.execute(redisKey, template -> template.execute((RedisCallback<Object>) connection ->
+                        connection.set(rawKey(template, redisKey), payload, toExpiration(redisTtl),
+                                RedisStringCommands.SetOption.upsert())));
+                return;
+            }
+            String payload = serializePayload(value, actualTtl, computeMillis);
             redisRouteTemplate.execute(redisKey, template -> {
-                template.opsForValue().set(redisKey, payload, actualTtl, TimeUnit.SECONDS);
+                template.opsForValue().set(redisKey, payload, redisTtl, TimeUnit.SECONDS);
                 return null;
             });
         } catch (Exception e) {
@@ -203,6 +275,19 @@ public class L2Cache {
         }
         try {
             List<String> redisKeys = buildRedisKeys(cacheName, keys);
+            if (binarySerializer != null) {
+                List<byte[]> rawValues = redisRouteTemplate.execute(redisKeys, template -> template.execute(
+                        (RedisCallback<List<byte[]>>) connection -> connection.mGet(rawKeys(template, redisKeys))));
+                if (rawValues != null) {
+                    for (int i = 0; i < keys.size(); i++) {
+                        SmartCacheEntry entry = decodeEntry(rawValues.get(i), expectedType);
+                        if (entry != null && entry.getValue() != null) {
+                            result.put(keys.get(i), (T) entry.getValue());
+                        }
+                    }
+                }
+                return result;
+            }
             List<String> values = redisRouteTemplate.execute(redisKeys, template -> template.opsForValue().multiGet(redisKeys));
             if (values != null) {
                 for (int i = 0; i < keys.size(); i++) {
@@ -250,21 +335,37 @@ public class L2Cache {
     }
 
     public void putAll(String cacheName, Map<String, Object> entries) {
+        putAll(cacheName, entries, properties.getL2().getExpireSeconds());
+    }
+
+    /**
+     * 管道批量写入，每个 key 独立计算随机偏移后的 TTL，避免同批写入的 key 同时过期
+     *
+     * @param cacheName  缓存名称
+     * @param entries    缓存条目
+     * @param ttlSeconds 基础 TTL（秒）
+     */
+    public void putAll(String cacheName, Map<String, Object> entries, int ttlSeconds) {
         if (entries == null || entries.isEmpty()) {
             return;
         }
+        if (binarySerializer != null) {
+            putAllBinary(cacheName, entries, ttlSeconds);
+            return;
+        }
         Map<String, String> payloads = new HashMap<>();
+        Map<String, Long> redisTtls = new HashMap<>();
         for (Map.Entry<String, Object> entry : entries.entrySet()) {
             if (entry.getValue() != null) {
                 String redisKey = buildKey(cacheName, entry.getKey());
-                payloads.put(redisKey, smartCacheSerializer.serialize(entry.getValue(), entry.getValue().getClass()));
+                long softTtl = calculateActualTtl(ttlSeconds);
+                payloads.put(redisKey, serializePayload(entry.getValue(), softTtl, 0L));
+                redisTtls.put(redisKey, calculateHardTtl(softTtl));
             }
         }
         if (payloads.isEmpty()) {
             return;
         }
-        SmartCacheProperties.L2Config l2Config = properties.getL2();
-        long actualTtl = calculateActualTtl(l2Config.getExpireSeconds());
         List<String> redisKeys = new ArrayList<>(payloads.keySet());
         try {
             redisRouteTemplate.execute(redisKeys, template -> {
@@ -273,7 +374,7 @@ public class L2Cache {
                     @SuppressWarnings("unchecked")
                     public Object execute(org.springframework.data.redis.core.RedisOperations operations) {
                         payloads.forEach((redisKey, payload) -> operations.opsForValue().set(
-                                redisKey, payload, actualTtl, TimeUnit.SECONDS));
+                                redisKey, payload, redisTtls.get(redisKey), TimeUnit.SECONDS));
                         return null;
                     }
                 });
@@ -303,6 +404,115 @@ public class L2Cache {
         }
     }
 
+    private void putAllBinary(String cacheName, Map<String, Object> entries, int ttlSeconds) {
+        Map<String, byte[]> payloads = new HashMap<>();
+        Map<String, Expiration> expirations = new HashMap<>();
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            if (entry.getValue() != null) {
+                String redisKey = buildKey(cacheName, entry.getKey());
+                long softTtl = calculateActualTtl(ttlSeconds);
+                payloads.put(redisKey, serializeBinaryPayload(entry.getValue(), softTtl, 0L));
+                expirations.put(redisKey, toExpiration(calculateHardTtl(softTtl)));
+            }
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+        List<String> redisKeys = new ArrayList<>(payloads.keySet());
+        try {
+            redisRouteTemplate.execute(redisKeys, template -> {
+                template.executePipelined((RedisCallback<Object>) connection -> {
+                    payloads.forEach((redisKey, payload) -> connection.set(rawKey(template, redisKey), payload,
+                            expirations.get(redisKey), RedisStringCommands.SetOption.upsert()));
+                    return null;
+                });
+                return null;
+            });
+        } catch (SimpleRedisRouteException e) {
+            if (io.github.surezzzzzz.sdk.redis.route.constant.ErrorCode.REDIS_ROUTE_009.equals(e.getErrorCode())) {
+                throw new CacheRouteException(
+                        ErrorCode.SMART_CACHE_ROUTE_CROSS_DATASOURCE,
+                        String.format(ErrorMessage.SMART_CACHE_ROUTE_CROSS_DATASOURCE, cacheName),
+                        e
+                );
+            }
+            throw new SmartCacheException(
+                    ErrorCode.SMART_CACHE_L2_OPERATION_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_L2_OPERATION_FAILED, cacheName),
+                    e
+            );
+        } catch (Exception e) {
+            throw new SmartCacheException(
+                    ErrorCode.SMART_CACHE_L2_OPERATION_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_L2_OPERATION_FAILED, cacheName),
+                    e
+            );
+        }
+    }
+
+    private byte[] readBytes(String redisKey) {
+        return redisRouteTemplate.execute(redisKey, template -> template.execute(
+                (RedisCallback<byte[]>) connection -> connection.get(rawKey(template, redisKey))));
+    }
+
+    /**
+     * 解码二进制 payload；非当前二进制格式的 payload 按字符串序列化器解析，兼容切换前写入的 JSON 数据
+     */
+    private SmartCacheEntry decodeEntry(byte[] payload, Class<?> expectedType) {
+        if (payload == null || payload.length == 0) {
+            return null;
+        }
+        if (binarySerializer.accepts(payload)) {
+            return binarySerializer.deserializeEntry(payload, expectedType);
+        }
+        return smartCacheSerializer.deserializeEntry(new String(payload, StandardCharsets.UTF_8), expectedType);
+    }
+
+    private byte[] serializeBinaryPayload(Object value, long softTtlSeconds, long computeMillis) {
+        if (!isStaleWhileRevalidateEnabled()) {
+            return binarySerializer.serialize(value, value.getClass());
+        }
+        long softExpireAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(softTtlSeconds);
+        return binarySerializer.serialize(value, value.getClass(), softExpireAt, computeMillis);
+    }
+
+    private static byte[] rawKey(StringRedisTemplate template, String redisKey) {
+        return template.getStringSerializer().serialize(redisKey);
+    }
+
+    private static byte[][] rawKeys(StringRedisTemplate template, List<String> redisKeys) {
+        byte[][] rawKeys = new byte[redisKeys.size()][];
+        for (int i = 0; i < redisKeys.size(); i++) {
+            rawKeys[i] = rawKey(template, redisKeys.get(i));
+        }
+        return rawKeys;
+    }
+
+    private static Expiration toExpiration(long ttlSeconds) {
+        return ttlSeconds > 0 ? Expiration.seconds(ttlSeconds) : Expiration.persistent();
+    }
+
+    private String serializePayload(Object value, long softTtlSeconds, long computeMillis) {
+        if (!isStaleWhileRevalidateEnabled()) {
+            return smartCacheSerializer.serialize(value, value.getClass());
+        }
+        long softExpireAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(softTtlSeconds);
+        return smartCacheSerializer.serialize(value, value.getClass(), softExpireAt, computeMillis);
+    }
+
+    private long calculateHardTtl(long softTtlSeconds) {
+        if (softTtlSeconds <= 0 || !isStaleWhileRevalidateEnabled()) {
+            return softTtlSeconds;
+        }
+        return softTtlSeconds + properties.getL2().getStaleWhileRevalidate().getStaleSeconds();
+    }
+
+    private boolean isStaleWhileRevalidateEnabled() {
+        return properties != null && properties.getL2() != null
+                && properties.getL2().getStaleWhileRevalidate() != null
+                && properties.getL2().getStaleWhileRevalidate().isEnabled();
+    }
+
     private List<String> buildRedisKeys(String cacheName, List<String> keys) {
         List<String> redisKeys = new ArrayList<>(keys.size());
         for (String key : keys) {
@@ -8,11 +8,14 @@ import io.github.surezzzzzz.sdk.cache.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
 import io.github.surezzzzzz.sdk.cache.exception.CacheLoadException;
 import io.github.surezzzzzz.sdk.cache.exception.SmartCacheException;
+import io.github.surezzzzzz.sdk.cache.layer.HotKeyCache;
 import io.github.surezzzzzz.sdk.cache.layer.L1Cache;
 import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
 import io.github.surezzzzzz.sdk.cache.pubsub.CacheInvalidationListener;
+import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheEntry;
 import io.github.surezzzzzz.sdk.cache.stats.CacheStats;
 import io.github.surezzzzzz.sdk.cache.stats.CacheStatsCollector;
+import io.github.surezzzzzz.sdk.cache.stats.InvalidationStats;
 import io.github.surezzzzzz.sdk.cache.support.KeyHelper;
 import io.github.surezzzzzz.sdk.lock.redis.SimpleRedisLock;
 import io.github.surezzzzzz.sdk.lock.redis.model.RedisLockLease;
@@ -23,6 +26,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Function;
 
 /**
  * Smart Cache 管理器
@@ -45,6 +49,9 @@ public class SmartCacheManager {
     @Autowired(required = false)
     private L2Cache l2Cache;
 
+    @Autowired(required = false)
+    private HotKeyCache hotKeyCache;
+
     @Autowired(required = false)
     private CacheStatsCollector statsCollector;
 
@@ -96,6 +103,16 @@ public class SmartCacheManager {
      */
     private final ConcurrentHashMap<String, LockHolder> localLocks = new ConcurrentHashMap<>();
 
+    /**
+     * 进程内正在加载的 key，同一 cacheName + key 的并发 miss 共享同一次加载（single-flight）
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * 正在后台 revalidate 的 key，保证同一实例内每个 key 只有一次后台刷新
+     */
+    private final Set<String> revalidatingKeys = ConcurrentHashMap.newKeySet();
+
     /**
      * 获取缓存值
      */
@@ -122,6 +139,11 @@ public class SmartCacheManager {
             }
         }
 
+        T hotValue = getHotKeyValue(cacheName, key, valueType);
+        if (hotValue != null) {
+            return hotValue;
+        }
+
         if (l2Cache != null) {
             T value = l2Cache.get(cacheName, key, valueType);
             if (value != null) {
@@ -220,16 +242,111 @@ public class SmartCacheManager {
             }
         }
 
+        // 再查热点副本
+        T hotValue = getHotKeyValue(cacheName, key, valueType);
+        if (hotValue != null) {
+            return hotValue;
+        }
+
         // 再查 L2
         if (l2Cache != null) {
-            T value = l2Cache.get(cacheName, key, valueType);
-            if (value != null) {
-                return handleL2Hit(cacheName, key, value);
+            if (isStaleWhileRevalidateEnabled()) {
+                SmartCacheEntry entry = l2Cache.getEntry(cacheName, key, valueType);
+                if (entry != null) {
+                    double beta = properties.getL2().getStaleWhileRevalidate().getBeta();
+                    if (entry.shouldRefresh(System.currentTimeMillis(), beta)) {
+                        asyncRevalidate(cacheName, key, loader, ttlSeconds);
+                    }
+                    return handleL2Hit(cacheName, key, entry.getValue());
+                }
+            } else {
+                T value = l2Cache.get(cacheName, key, valueType);
+                if (value != null) {
+                    return handleL2Hit(cacheName, key, value);
+                }
             }
         }
 
-        // L1 和 L2 都未命中，使用分布式锁加载数据（防止缓存击穿）
-        return loadWithLock(cacheName, key, loader, ttlSeconds, valueType);
+        // L1 和 L2 都未命中，先在进程内合并并发加载，再由 leader 使用分布式锁加载数据（防止缓存击穿）
+        if (!isSingleFlightEnabled()) {
+            return loadWithLock(cacheName, key, loader, ttlSeconds, valueType);
+        }
+        return loadWithSingleFlight(cacheName, key, loader, ttlSeconds, valueType);
+    }
+
+    /**
+     * 进程内 single-flight 加载
+     *
+     * <p>同一 cacheName + key 只有一个 leader 线程进入 {@link #loadWithLock}，其他并发线程等待 leader 的结果，
+     * 因而每个实例对同一热点 key 只发起一次分布式锁请求。leader 抛出的异常原样传递给等待者；
+     * 等待超过 lock.timeout-seconds（例如跨 key 的相互依赖）时，等待者退回自行加载。
+     */
+    private <T> T loadWithSingleFlight(String cacheName, String key, Callable<T> loader, int ttlSeconds,
+                                       Class<?> valueType) {
+        String flightKey = cacheName + SmartCacheConstant.KEY_SEPARATOR + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            return awaitInFlightLoad(existing, cacheName, key, loader, ttlSeconds, valueType);
+        }
+
+        try {
+            T value = loadWithLock(cacheName, key, loader, ttlSeconds, valueType);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(flightKey, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T awaitInFlightLoad(CompletableFuture<Object> flight, String cacheName, String key,
+                                    Callable<T> loader, int ttlSeconds, Class<?> valueType) {
+        Object value;
+        try {
+            value = flight.get(getLockTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("等待进程内加载超时，改为自行加载，cacheName：{}，key：{}", cacheName, key);
+            return loadWithLock(cacheName, key, loader, ttlSeconds, valueType);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheLoadException(
+                    ErrorCode.SMART_CACHE_LOAD_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_LOAD_FAILED,
+                            cacheName + SmartCacheConstant.KEY_SEPARATOR + key),
+                    e
+            );
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CacheLoadException(
+                    ErrorCode.SMART_CACHE_LOAD_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_LOAD_FAILED,
+                            cacheName + SmartCacheConstant.KEY_SEPARATOR + key),
+                    cause
+            );
+        }
+
+        // leader 以不同的期望类型读取到 L2 值时，类型不匹配的等待者按自身类型重新加载
+        if (value != null && valueType != null && !Object.class.equals(valueType) && !valueType.isInstance(value)) {
+            return loadWithLock(cacheName, key, loader, ttlSeconds, valueType);
+        }
+        if (statsCollector != null) {
+            statsCollector.recordMiss(cacheName);
+        }
+        return (T) value;
+    }
+
+    private boolean isSingleFlightEnabled() {
+        return properties == null || properties.getLock() == null || properties.getLock().isSingleFlightEnabled();
     }
 
     /**
@@ -282,11 +399,13 @@ public class SmartCacheManager {
                 }
             }
 
+            long loadStartMillis = System.currentTimeMillis();
             T value = loadValue(cacheName, key, loader);
+            long computeMillis = System.currentTimeMillis() - loadStartMillis;
             if (!renewLeaseBeforeWrite(lease, lockTimeout, "缓存击穿", cacheName, key)) {
                 return value;
             }
-            cacheLoadedValue(cacheName, key, value, ttlSeconds);
+            cacheLoadedValue(cacheName, key, value, ttlSeconds, computeMillis);
             return value;
         } finally {
             closeLease(lease, "缓存击穿", cacheName, key);
@@ -364,8 +483,9 @@ public class SmartCacheManager {
      * <p>{@code ttlSeconds <= 0} 时使用全局配置。
      */
     private <T> T loadAndCache(String cacheName, String key, Callable<T> loader, int ttlSeconds) {
+        long loadStartMillis = System.currentTimeMillis();
         T value = loadValue(cacheName, key, loader);
-        cacheLoadedValue(cacheName, key, value, ttlSeconds);
+        cacheLoadedValue(cacheName, key, value, ttlSeconds, System.currentTimeMillis() - loadStartMillis);
         return value;
     }
 
@@ -388,10 +508,12 @@ public class SmartCacheManager {
         }
     }
 
-    private void cacheLoadedValue(String cacheName, String key, Object value, int ttlSeconds) {
+    private void cacheLoadedValue(String cacheName, String key, Object value, int ttlSeconds, long computeMillis) {
         if (value != null) {
             if (l2Cache != null) {
-                if (ttlSeconds > 0) {
+                if (isStaleWhileRevalidateEnabled()) {
+                    l2Cache.put(cacheName, key, value, resolveL2TtlSeconds(ttlSeconds), computeMillis);
+                } else if (ttlSeconds > 0) {
                     l2Cache.put(cacheName, key, value, ttlSeconds);
                 } else {
                     l2Cache.put(cacheName, key, value);
@@ -405,6 +527,93 @@ public class SmartCacheManager {
         }
     }
 
+    /**
+     * stale-while-revalidate：返回旧值的同时在后台刷新一次
+     *
+     * <p>同一实例内每个 key 只提交一个后台刷新；配置了分布式锁时复用预刷新锁，多实例只有一个实例执行 loader。
+     * 刷新结果写入前续租成功才会写回 L2、L1 并发布失效通知。
+     */
+    private <T> void asyncRevalidate(String cacheName, String key, Callable<T> loader, int ttlSeconds) {
+        if (preloadExecutor == null) {
+            log.debug("跳过 stale-while-revalidate 刷新，未配置预刷新线程池，key：{}", key);
+            return;
+        }
+        String revalidateKey = cacheName + SmartCacheConstant.KEY_SEPARATOR + key;
+        if (!revalidatingKeys.add(revalidateKey)) {
+            return;
+        }
+
+        RedisLockLease lease = null;
+        if (redisLock != null) {
+            String keyPrefix = properties.getKeyPrefix();
+            String lockKey = KeyHelper.buildPreloadLockKey(keyPrefix, cacheName, properties.getMe(), key);
+            try {
+                Optional<RedisLockLease> optionalLease = redisLock.tryLockWithLease(lockKey, getLockTimeoutSeconds(),
+                        TimeUnit.SECONDS);
+                if (!optionalLease.isPresent()) {
+                    revalidatingKeys.remove(revalidateKey);
+                    log.debug("跳过 stale-while-revalidate 刷新，其他实例正在刷新，key：{}", key);
+                    return;
+                }
+                lease = optionalLease.get();
+            } catch (Exception e) {
+                revalidatingKeys.remove(revalidateKey);
+                log.warn("跳过 stale-while-revalidate 刷新，获取租约失败，cacheName：{}，key：{}，原因：{}",
+                        cacheName, key, e.getMessage());
+                return;
+            }
+        }
+
+        RedisLockLease revalidateLease = lease;
+        try {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    long loadStartMillis = System.currentTimeMillis();
+                    T newValue = loader.call();
+                    long computeMillis = System.currentTimeMillis() - loadStartMillis;
+                    if (newValue == null) {
+                        return;
+                    }
+                    if (revalidateLease != null && !renewLeaseBeforeWrite(revalidateLease, getLockTimeoutSeconds(),
+                            "stale-while-revalidate", cacheName, key)) {
+                        return;
+                    }
+                    doPut(cacheName, key, newValue, ttlSeconds, computeMillis);
+                    log.debug("stale-while-revalidate 刷新完成，cacheName：{}，key：{}，computeMillis：{}",
+                            cacheName, key, computeMillis);
+                } catch (Exception e) {
+                    log.warn("stale-while-revalidate 刷新失败，继续返回旧值，cacheName：{}，key：{}", cacheName, key, e);
+                } finally {
+                    if (revalidateLease != null) {
+                        closeLease(revalidateLease, "stale-while-revalidate", cacheName, key);
+                    }
+                    revalidatingKeys.remove(revalidateKey);
+                }
+            }, preloadExecutor);
+        } catch (RejectedExecutionException e) {
+            if (revalidateLease != null) {
+                closeLease(revalidateLease, "stale-while-revalidate", cacheName, key);
+            }
+            revalidatingKeys.remove(revalidateKey);
+            log.warn("跳过 stale-while-revalidate 刷新，线程池已饱和，cacheName：{}，key：{}", cacheName, key);
+        }
+    }
+
+    private boolean isStaleWhileRevalidateEnabled() {
+        return properties != null && properties.getL2() != null
+                && properties.getL2().getStaleWhileRevalidate() != null
+                && properties.getL2().getStaleWhileRevalidate().isEnabled();
+    }
+
+    private int resolveL2TtlSeconds(int ttlSeconds) {
+        if (ttlSeconds > 0) {
+            return ttlSeconds;
+        }
+        return properties != null && properties.getL2() != null
+                ? properties.getL2().getExpireSeconds()
+                : SmartCacheConstant.DEFAULT_L2_EXPIRE_SECONDS;
+    }
+
     private int getLockTimeoutSeconds() {
         return properties != null && properties.getLock() != null
                 ? properties.getLock().getTimeoutSeconds()
@@ -451,13 +660,19 @@ public class SmartCacheManager {
      * @param ttlSeconds L2 TTL（秒），&lt;= 0 时使用全局配置
      */
     public void put(String cacheName, String key, Object value, int ttlSeconds) {
+        doPut(cacheName, key, value, ttlSeconds, 0L);
+    }
+
+    private void doPut(String cacheName, String key, Object value, int ttlSeconds, long computeMillis) {
         if (value == null) {
             return;
         }
 
         // 写入 L2，ttlSeconds > 0 时使用指定 TTL，否则使用全局配置
         if (l2Cache != null) {
-            if (ttlSeconds > 0) {
+            if (isStaleWhileRevalidateEnabled()) {
+                l2Cache.put(cacheName, key, value, resolveL2TtlSeconds(ttlSeconds), computeMillis);
+            } else if (ttlSeconds > 0) {
                 l2Cache.put(cacheName, key, value, ttlSeconds);
             } else {
                 l2Cache.put(cacheName, key, value);
@@ -468,6 +683,9 @@ public class SmartCacheManager {
         if (l1Cache != null) {
             l1Cache.put(cacheName, key, value);
         }
+        if (hotKeyCache != null) {
+            hotKeyCache.evict(cacheName, key);
+        }
 
         // 通知其他实例删除旧 L1，后续读取从已更新的 L2 获取新值
         if (invalidationListener != null) {
@@ -483,6 +701,9 @@ public class SmartCacheManager {
         if (l1Cache != null) {
             l1Cache.evict(cacheName, key);
         }
+        if (hotKeyCache != null) {
+            hotKeyCache.evict(cacheName, key);
+        }
 
         // 删除 L2
         if (l2Cache != null) {
@@ -503,6 +724,9 @@ public class SmartCacheManager {
         if (l1Cache != null) {
             l1Cache.clear(cacheName);
         }
+        if (hotKeyCache != null) {
+            hotKeyCache.clear(cacheName);
+        }
 
         // 清空 L2
         if (l2Cache != null) {
@@ -539,11 +763,49 @@ public class SmartCacheManager {
         if (keys == null || keys.isEmpty()) {
             return new HashMap<>();
         }
+        Map<String, T> result = new HashMap<>();
+        lookupAll(cacheName, keys, valueType, result);
+        return result;
+    }
 
+    /**
+     * 批量获取缓存值，未命中的 key 通过批量加载器一次性加载
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys,
+                                     Function<Collection<String>, Map<String, T>> bulkLoader) {
+        return getAll(cacheName, keys, (Class<T>) Object.class, bulkLoader);
+    }
+
+    /**
+     * 批量获取缓存值，未命中的 key 通过批量加载器一次性加载
+     *
+     * <p>L1 批量读取后，L1 未命中的 key 以一次 MGET 读取 L2；两层都未命中的 key 合并为一次 {@code bulkLoader} 调用，
+     * 加载结果以一次 pipeline 写回 L2（每个 key 独立抖动 TTL）并回填 L1，加载器未返回的 key 写入 L1 空值占位。
+     * 同一 cacheName + key 与单条加载共用进程内 single-flight，已有加载在途的 key 等待其结果，
+     * 等待超过 lock.timeout-seconds 的 key 再合并为一次加载。批量加载不获取分布式锁，也不发布失效消息。
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, Class<T> valueType,
+                                     Function<Collection<String>, Map<String, T>> bulkLoader) {
+        if (keys == null || keys.isEmpty()) {
+            return new HashMap<>();
+        }
         Map<String, T> result = new HashMap<>();
+        List<String> missedKeys = lookupAll(cacheName, new ArrayList<>(new LinkedHashSet<>(keys)), valueType, result);
+        if (!missedKeys.isEmpty() && bulkLoader != null) {
+            result.putAll(bulkLoadWithSingleFlight(cacheName, missedKeys, valueType, bulkLoader));
+        }
+        return result;
+    }
+
+    /**
+     * 依次批量读取 L1、L2，命中值写入 result，返回两层都未命中的 key
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<String> lookupAll(String cacheName, List<String> keys, Class<T> valueType, Map<String, T> result) {
         Set<String> l1HitKeys = new HashSet<>();
 
-        // 先从 L1 批量获取
+        // 先从 L1 批量获取，空值占位同样计为命中
         if (l1Cache != null) {
             Map<String, T> l1Result = l1Cache.getAll(cacheName, keys);
             for (Map.Entry<String, T> entry : l1Result.entrySet()) {
@@ -562,7 +824,8 @@ public class SmartCacheManager {
             }
         }
 
-        // 如果有未命中的 key，从 L2 批量获取
+        // L1 未命中的 key 一次 MGET 读取 L2，并回写 L1
+        int l2HitCount = 0;
         if (!missedKeys.isEmpty() && l2Cache != null) {
             Map<String, T> l2Result = l2Cache.getAll(cacheName, missedKeys, valueType);
             Map<String, T> actualL2Result = new HashMap<>();
@@ -572,33 +835,163 @@ public class SmartCacheManager {
                 }
             }
             result.putAll(actualL2Result);
+            l2HitCount = actualL2Result.size();
 
-            // 回写 L1
             if (l1Cache != null && !actualL2Result.isEmpty()) {
                 l1Cache.putAll(cacheName, (Map<String, Object>) (Map<?, ?>) actualL2Result);
             }
+            List<String> l2MissedKeys = new ArrayList<>();
+            for (String key : missedKeys) {
+                if (!actualL2Result.containsKey(key)) {
+                    l2MissedKeys.add(key);
+                }
+            }
+            missedKeys = l2MissedKeys;
+        }
+
+        if (statsCollector != null) {
+            statsCollector.recordL1Hits(cacheName, l1HitKeys.size());
+            statsCollector.recordL2Hits(cacheName, l2HitCount);
+            statsCollector.recordMisses(cacheName, missedKeys.size());
+            statsCollector.recordBatch(cacheName, keys.size(), keys.size() - missedKeys.size());
+        }
+        return missedKeys;
+    }
+
+    /**
+     * 批量加载的进程内 single-flight
+     *
+     * <p>本线程成为 leader 的 key 合并为一次加载；其他线程在途的 key 等待其结果，超时或类型不匹配的 key 再合并加载一次。
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Map<String, T> bulkLoadWithSingleFlight(String cacheName, List<String> keys, Class<T> valueType,
+                                                        Function<Collection<String>, Map<String, T>> bulkLoader) {
+        Map<String, CompletableFuture<Object>> ledFlights = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Object>> followedFlights = new LinkedHashMap<>();
+        for (String key : keys) {
+            CompletableFuture<Object> flight = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(
+                    cacheName + SmartCacheConstant.KEY_SEPARATOR + key, flight);
+            if (existing == null) {
+                ledFlights.put(key, flight);
+            } else {
+                followedFlights.put(key, existing);
+            }
+        }
 
-            // 记录统计
-            if (statsCollector != null) {
-                int l2HitCount = actualL2Result.size();
-                int missCount = missedKeys.size() - l2HitCount;
-                for (int i = 0; i < l2HitCount; i++) {
-                    statsCollector.recordL2Hit(cacheName);
+        Map<String, T> loaded = new HashMap<>();
+        if (!ledFlights.isEmpty()) {
+            try {
+                Map<String, T> values = bulkLoadAndCache(cacheName, ledFlights.keySet(), bulkLoader);
+                for (Map.Entry<String, CompletableFuture<Object>> entry : ledFlights.entrySet()) {
+                    entry.getValue().complete(values.get(entry.getKey()));
+                }
+                loaded.putAll(values);
+            } catch (RuntimeException | Error e) {
+                for (CompletableFuture<Object> flight : ledFlights.values()) {
+                    flight.completeExceptionally(e);
                 }
-                for (int i = 0; i < missCount; i++) {
-                    statsCollector.recordMiss(cacheName);
+                throw e;
+            } finally {
+                for (Map.Entry<String, CompletableFuture<Object>> entry : ledFlights.entrySet()) {
+                    inFlightLoads.remove(cacheName + SmartCacheConstant.KEY_SEPARATOR + entry.getKey(), entry.getValue());
                 }
             }
         }
 
-        // 记录 L1 命中统计
-        if (statsCollector != null && l1Cache != null) {
-            for (int i = 0; i < l1HitKeys.size(); i++) {
-                statsCollector.recordL1Hit(cacheName);
+        if (!followedFlights.isEmpty()) {
+            List<String> retryKeys = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(getLockTimeoutSeconds());
+            for (Map.Entry<String, CompletableFuture<Object>> entry : followedFlights.entrySet()) {
+                String key = entry.getKey();
+                Object value;
+                try {
+                    value = entry.getValue().get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    log.warn("等待进程内加载超时，改为批量自行加载，cacheName：{}，key：{}", cacheName, key);
+                    retryKeys.add(key);
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CacheLoadException(
+                            ErrorCode.SMART_CACHE_LOAD_FAILED,
+                            String.format(ErrorMessage.SMART_CACHE_LOAD_FAILED,
+                                    cacheName + SmartCacheConstant.KEY_SEPARATOR + key),
+                            e
+                    );
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new CacheLoadException(
+                            ErrorCode.SMART_CACHE_LOAD_FAILED,
+                            String.format(ErrorMessage.SMART_CACHE_LOAD_FAILED,
+                                    cacheName + SmartCacheConstant.KEY_SEPARATOR + key),
+                            cause
+                    );
+                }
+                if (value == null) {
+                    continue;
+                }
+                if (valueType != null && !Object.class.equals(valueType) && !valueType.isInstance(value)) {
+                    retryKeys.add(key);
+                } else {
+                    loaded.put(key, (T) value);
+                }
+            }
+            if (!retryKeys.isEmpty()) {
+                loaded.putAll(bulkLoadAndCache(cacheName, retryKeys, bulkLoader));
             }
         }
+        return loaded;
+    }
 
-        return result;
+    /**
+     * 调用批量加载器并写回缓存，返回非空的加载结果
+     */
+    private <T> Map<String, T> bulkLoadAndCache(String cacheName, Collection<String> keys,
+                                                Function<Collection<String>, Map<String, T>> bulkLoader) {
+        Map<String, T> values;
+        try {
+            values = bulkLoader.apply(Collections.unmodifiableCollection(new ArrayList<>(keys)));
+        } catch (SmartCacheException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CacheLoadException(
+                    ErrorCode.SMART_CACHE_LOAD_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_LOAD_FAILED,
+                            cacheName + SmartCacheConstant.KEY_SEPARATOR + keys),
+                    e
+            );
+        }
+
+        Map<String, T> loaded = new HashMap<>();
+        Map<String, Object> l1Entries = new HashMap<>();
+        for (String key : keys) {
+            T value = values != null ? values.get(key) : null;
+            if (value != null) {
+                loaded.put(key, value);
+                l1Entries.put(key, value);
+            } else {
+                l1Entries.put(key, SmartCacheConstant.NULL_PLACEHOLDER);
+            }
+        }
+
+        if (l2Cache != null && !loaded.isEmpty()) {
+            try {
+                l2Cache.putAll(cacheName, new HashMap<String, Object>(loaded));
+            } catch (Exception e) {
+                log.warn("批量加载结果写入 L2 失败，仅回填 L1，cacheName：{}，原因：{}", cacheName, e.getMessage());
+            }
+        }
+        if (l1Cache != null) {
+            l1Cache.putAll(cacheName, l1Entries);
+        }
+        return loaded;
     }
 
     /**
@@ -618,6 +1011,9 @@ public class SmartCacheManager {
         if (l1Cache != null) {
             l1Cache.putAll(cacheName, entries);
         }
+        if (hotKeyCache != null) {
+            entries.keySet().forEach(key -> hotKeyCache.evict(cacheName, key));
+        }
 
         // 通知其他实例删除每个已更新 key 的旧 L1
         if (invalidationListener != null) {
@@ -639,6 +1035,18 @@ public class SmartCacheManager {
         return null;
     }
 
+    /**
+     * 获取失效消息统计（批量大小、发布/接收队列深度）
+     *
+     * @return 失效消息统计，未启用 Pub/Sub 监听器时返回 null
+     */
+    public InvalidationStats getInvalidationStats() {
+        if (invalidationListener != null) {
+            return invalidationListener.getInvalidationStats();
+        }
+        return null;
+    }
+
     /**
      * 检查是否为空值占位符
      *
@@ -649,6 +1057,24 @@ public class SmartCacheManager {
         return value == SmartCacheConstant.NULL_PLACEHOLDER;
     }
 
+    /**
+     * 读取热点副本，命中时计入热点命中
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getHotKeyValue(String cacheName, String key, Class<?> valueType) {
+        if (hotKeyCache == null) {
+            return null;
+        }
+        Object value = hotKeyCache.get(cacheName, key);
+        if (value == null || (valueType != null && !valueType.isInstance(value))) {
+            return null;
+        }
+        if (statsCollector != null) {
+            statsCollector.recordHotKeyHit(cacheName);
+        }
+        return (T) value;
+    }
+
     /**
      * L2 命中后的统一处理：回写 L1、记录统计、触发 preload
      *
@@ -668,6 +1094,9 @@ public class SmartCacheManager {
         if (l1Cache != null) {
             l1Cache.put(cacheName, key, rawValue);
         }
+        if (hotKeyCache != null) {
+            hotKeyCache.recordAccess(cacheName, key, rawValue);
+        }
         // 关闭预刷新时不触发 handler、TTL 查询或异步任务
         if (properties == null || !properties.getL2().getPreload().isEnabled()) {
             return (T) rawValue;
@@ -6,8 +6,11 @@ import io.github.surezzzzzz.sdk.cache.constant.ErrorCode;
 import io.github.surezzzzzz.sdk.cache.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
 import io.github.surezzzzzz.sdk.cache.exception.CacheConfigurationException;
+import io.github.surezzzzzz.sdk.cache.layer.HotKeyCache;
 import io.github.surezzzzzz.sdk.cache.layer.L1Cache;
+import io.github.surezzzzzz.sdk.cache.stats.InvalidationStats;
 import io.github.surezzzzzz.sdk.cache.support.KeyHelper;
+import io.github.surezzzzzz.sdk.redis.route.model.RedisServerInfo;
 import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -19,9 +22,16 @@ import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 缓存失效监听器
@@ -34,6 +44,9 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
     @Autowired(required = false)
     private L1Cache l1Cache;
 
+    @Autowired(required = false)
+    private HotKeyCache hotKeyCache;
+
     @Autowired
     private SmartCacheProperties properties;
 
@@ -49,6 +62,10 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
 
     private RedisMessageListenerContainer listenerContainer;
 
+    private CacheTrackingInvalidationSubscriber trackingSubscriber;
+
+    private ScheduledExecutorService trackingHealthExecutor;
+
     private final AtomicInteger threadCounter = new AtomicInteger(0);
 
     private final ExecutorService messageExecutor = new ThreadPoolExecutor(
@@ -66,6 +83,31 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
             new ThreadPoolExecutor.CallerRunsPolicy()
     );
 
+    private final ScheduledExecutorService batchFlushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, SmartCacheConstant.INVALIDATION_BATCH_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object pendingLock = new Object();
+
+    /**
+     * 等待合并发布的 evict key，按 cacheName 分组并去重
+     */
+    private Map<String, Set<String>> pendingEvictions = new HashMap<>();
+
+    private int pendingKeyCount;
+
+    private boolean flushScheduled;
+
+    private final LongAdder publishedMessageCount = new LongAdder();
+    private final LongAdder publishedKeyCount = new LongAdder();
+    private final LongAdder publishedBatchCount = new LongAdder();
+    private final LongAdder publishedBatchKeyCount = new LongAdder();
+    private final AtomicInteger maxPublishedBatchSize = new AtomicInteger();
+    private final LongAdder receivedKeyCount = new LongAdder();
+    private final LongAdder dedupedKeyCount = new LongAdder();
+
     @Override
     public void afterPropertiesSet() {
         if (properties == null || !SmartCacheConstant.CONSISTENCY_MODE_STRONG.equals(properties.getConsistency().getMode())) {
@@ -88,6 +130,11 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
             listenerContainer.afterPropertiesSet();
             listenerContainer.start();
             log.info("缓存失效 Pub/Sub 订阅初始化完成，channelPattern：{}", channelPattern);
+            if (isTrackingMode()) {
+                startTracking(routeProbeChannel);
+            }
+        } catch (CacheConfigurationException e) {
+            throw e;
         } catch (Exception e) {
             throw new CacheConfigurationException(
                     ErrorCode.SMART_CACHE_PUBSUB_INIT_FAILED,
@@ -97,8 +144,102 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
         }
     }
 
+    /**
+     * 开启 Redis CLIENT TRACKING：L2 key 的变更由 Redis 直接推送，put / evict 不再发布 Pub/Sub 消息
+     */
+    private void startTracking(String routeProbeChannel) {
+        RedisServerInfo serverInfo = redisRouteTemplate.serverInfoByKey(routeProbeChannel);
+        if (serverInfo != null && serverInfo.isKnown()) {
+            if (serverInfo.getVersion() != null && serverInfo.getVersion().isBefore(6, 0)) {
+                throw new CacheConfigurationException(
+                        ErrorCode.SMART_CACHE_PUBSUB_INIT_FAILED,
+                        String.format(ErrorMessage.SMART_CACHE_PUBSUB_INIT_FAILED,
+                                String.format(ErrorMessage.SMART_CACHE_TRACKING_UNSUPPORTED, serverInfo.getVersion()))
+                );
+            }
+            if (SmartCacheConstant.REDIS_MODE_CLUSTER.equals(serverInfo.getRedisMode())) {
+                throw new CacheConfigurationException(
+                        ErrorCode.SMART_CACHE_PUBSUB_INIT_FAILED,
+                        String.format(ErrorMessage.SMART_CACHE_PUBSUB_INIT_FAILED,
+                                String.format(ErrorMessage.SMART_CACHE_TRACKING_UNSUPPORTED, serverInfo.getRedisMode()))
+                );
+            }
+        }
+        String keyPrefix = properties.getKeyPrefix();
+        String trackingPrefix = KeyHelper.buildTrackingPrefix(properties.getL2().getKeyFormat(), keyPrefix);
+        String probePrefix = keyPrefix + SmartCacheConstant.KEY_SEPARATOR + SmartCacheConstant.TRACKING_PROBE_KEY_SEGMENT
+                + SmartCacheConstant.KEY_SEPARATOR + properties.getMe() + SmartCacheConstant.KEY_SEPARATOR;
+        SmartCacheProperties.PubSubConfig.TrackingConfig tracking = properties.getPubsub().getTracking();
+        trackingSubscriber = new CacheTrackingInvalidationSubscriber(
+                redisRouteTemplate.connectionFactoryByKey(routeProbeChannel), trackingPrefix, probePrefix,
+                tracking.getProbeTimeoutMillis(), this::evictTrackedKey, this::clearAllL1);
+        trackingSubscriber.start();
+        trackingHealthExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, SmartCacheConstant.TRACKING_THREAD_NAME_PREFIX + "health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        trackingHealthExecutor.scheduleWithFixedDelay(trackingSubscriber::checkHealth,
+                tracking.getProbeIntervalSeconds(), tracking.getProbeIntervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    private void evictTrackedKey(String redisKey) {
+        String[] cacheKey = KeyHelper.parseCacheKey(properties.getL2().getKeyFormat(), properties.getKeyPrefix(),
+                properties.getMe(), redisKey);
+        if (cacheKey == null || !evictLocal(cacheKey[0], cacheKey[1])) {
+            return;
+        }
+        log.debug("收到 Redis tracking 失效通知，cacheName：{}，key：{}", cacheKey[0], cacheKey[1]);
+    }
+
+    private void clearAllL1() {
+        if (l1Cache != null) {
+            l1Cache.clearAll();
+        }
+        if (hotKeyCache != null) {
+            hotKeyCache.clearAll();
+        }
+    }
+
+    /**
+     * 删除本地 L1 与热点副本
+     *
+     * @return 是否存在本地缓存层
+     */
+    private boolean evictLocal(String cacheName, String key) {
+        if (l1Cache != null) {
+            l1Cache.evict(cacheName, key);
+        }
+        if (hotKeyCache != null) {
+            hotKeyCache.evict(cacheName, key);
+        }
+        return l1Cache != null || hotKeyCache != null;
+    }
+
+    private boolean clearLocal(String cacheName) {
+        if (l1Cache != null) {
+            l1Cache.clear(cacheName);
+        }
+        if (hotKeyCache != null) {
+            hotKeyCache.clear(cacheName);
+        }
+        return l1Cache != null || hotKeyCache != null;
+    }
+
+    private boolean isTrackingMode() {
+        return SmartCacheConstant.PUBSUB_MODE_TRACKING.equals(properties.getPubsub().getMode());
+    }
+
     @PreDestroy
     public void destroy() {
+        batchFlushExecutor.shutdownNow();
+        flushPendingEvictions();
+        if (trackingHealthExecutor != null) {
+            trackingHealthExecutor.shutdownNow();
+        }
+        if (trackingSubscriber != null) {
+            trackingSubscriber.stop();
+        }
         if (listenerContainer != null) {
             try {
                 listenerContainer.stop();
@@ -138,13 +279,22 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
                 return;
             }
             if (SmartCacheConstant.OPERATION_EVICT.equals(msg.getOperation())) {
-                if (l1Cache != null) {
-                    l1Cache.evict(msg.getCacheName(), msg.getKey());
+                if (evictLocal(msg.getCacheName(), msg.getKey())) {
+                    receivedKeyCount.increment();
                     log.debug("收到缓存删除消息，cacheName：{}，key：{}", msg.getCacheName(), msg.getKey());
                 }
+            } else if (SmartCacheConstant.OPERATION_EVICT_BATCH.equals(msg.getOperation())) {
+                if ((l1Cache != null || hotKeyCache != null) && msg.getKeys() != null) {
+                    Set<String> keys = new LinkedHashSet<>(msg.getKeys());
+                    for (String key : keys) {
+                        evictLocal(msg.getCacheName(), key);
+                    }
+                    receivedKeyCount.add(keys.size());
+                    dedupedKeyCount.add(msg.getKeys().size() - keys.size());
+                    log.debug("收到缓存批量删除消息，cacheName：{}，key 数：{}", msg.getCacheName(), keys.size());
+                }
             } else if (SmartCacheConstant.OPERATION_CLEAR.equals(msg.getOperation())) {
-                if (l1Cache != null) {
-                    l1Cache.clear(msg.getCacheName());
+                if (clearLocal(msg.getCacheName())) {
                     log.debug("收到缓存清空消息，cacheName：{}", msg.getCacheName());
                 }
             }
@@ -160,9 +310,120 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
         if (SmartCacheConstant.PUBSUB_MODE_DISABLED.equals(properties.getPubsub().getMode())) {
             return;
         }
+        if (isTrackingMode() && SmartCacheConstant.OPERATION_EVICT.equals(operation)) {
+            // tracking 模式下 L2 写入/删除由 Redis 推送失效通知，只有 clear 仍走 Pub/Sub
+            return;
+        }
+        if (SmartCacheConstant.OPERATION_EVICT.equals(operation) && properties.getPubsub().getBatch().isEnabled()) {
+            enqueueEviction(cacheName, key);
+            return;
+        }
+        if (SmartCacheConstant.OPERATION_CLEAR.equals(operation)) {
+            // clear 覆盖该缓存名称下尚未发布的 evict
+            dropPendingEvictions(cacheName);
+        }
+        publish(new CacheInvalidationMessage(cacheName, key, operation, instanceId));
+    }
+
+    /**
+     * 获取失效消息统计
+     *
+     * @return 失效消息统计
+     */
+    public InvalidationStats getInvalidationStats() {
+        long batchCount = publishedBatchCount.sum();
+        long pending;
+        synchronized (pendingLock) {
+            pending = pendingKeyCount;
+        }
+        return InvalidationStats.builder()
+                .publishedMessageCount(publishedMessageCount.sum())
+                .publishedKeyCount(publishedKeyCount.sum())
+                .publishedBatchCount(batchCount)
+                .averageBatchSize(batchCount > 0 ? publishedBatchKeyCount.sum() * 1.0 / batchCount : 0)
+                .maxBatchSize(maxPublishedBatchSize.get())
+                .pendingKeyCount(pending)
+                .receiveQueueDepth(messageExecutor instanceof ThreadPoolExecutor
+                        ? ((ThreadPoolExecutor) messageExecutor).getQueue().size() : 0)
+                .receivedKeyCount(receivedKeyCount.sum())
+                .dedupedKeyCount(dedupedKeyCount.sum())
+                .build();
+    }
+
+    private void enqueueEviction(String cacheName, String key) {
+        boolean flushNow = false;
+        synchronized (pendingLock) {
+            if (pendingEvictions.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(key)) {
+                pendingKeyCount++;
+            }
+            if (pendingKeyCount >= properties.getPubsub().getBatch().getMaxSize()) {
+                flushNow = true;
+            } else if (!flushScheduled) {
+                flushScheduled = scheduleFlush();
+                // 调度失败（关闭阶段）时由调用线程直接发布
+                flushNow = !flushScheduled;
+            }
+        }
+        if (flushNow) {
+            // 达到批量上限时由写入线程同步发布，形成背压
+            flushPendingEvictions();
+        }
+    }
+
+    private boolean scheduleFlush() {
+        try {
+            batchFlushExecutor.schedule(this::flushPendingEvictions,
+                    properties.getPubsub().getBatch().getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void flushPendingEvictions() {
+        Map<String, Set<String>> snapshot;
+        synchronized (pendingLock) {
+            if (pendingEvictions.isEmpty()) {
+                flushScheduled = false;
+                return;
+            }
+            snapshot = pendingEvictions;
+            pendingEvictions = new HashMap<>();
+            pendingKeyCount = 0;
+            flushScheduled = false;
+        }
+        int maxSize = properties.getPubsub().getBatch().getMaxSize();
+        for (Map.Entry<String, Set<String>> entry : snapshot.entrySet()) {
+            List<String> keys = new ArrayList<>(entry.getValue());
+            for (int from = 0; from < keys.size(); from += maxSize) {
+                List<String> chunk = new ArrayList<>(keys.subList(from, Math.min(from + maxSize, keys.size())));
+                if (chunk.size() == 1) {
+                    publish(new CacheInvalidationMessage(entry.getKey(), chunk.get(0),
+                            SmartCacheConstant.OPERATION_EVICT, instanceId));
+                } else {
+                    publish(new CacheInvalidationMessage(entry.getKey(), null,
+                            SmartCacheConstant.OPERATION_EVICT_BATCH, instanceId, chunk));
+                    publishedBatchCount.increment();
+                    publishedBatchKeyCount.add(chunk.size());
+                    maxPublishedBatchSize.accumulateAndGet(chunk.size(), Math::max);
+                }
+            }
+        }
+    }
+
+    private void dropPendingEvictions(String cacheName) {
+        synchronized (pendingLock) {
+            Set<String> dropped = pendingEvictions.remove(cacheName);
+            if (dropped != null) {
+                pendingKeyCount -= dropped.size();
+            }
+        }
+    }
+
+    private void publish(CacheInvalidationMessage msg) {
         try {
-            String channel = KeyHelper.buildPubSubChannel(properties.getPubsubChannelPrefix(), properties.getMe(), cacheName);
-            CacheInvalidationMessage msg = new CacheInvalidationMessage(cacheName, key, operation, instanceId);
+            String channel = KeyHelper.buildPubSubChannel(properties.getPubsubChannelPrefix(), properties.getMe(),
+                    msg.getCacheName());
             String payload = smartCacheObjectMapper.writeValueAsString(msg);
             String routeProbeChannel = KeyHelper.buildPubSubChannel(properties.getPubsubChannelPrefix(), properties.getMe(),
                     SmartCacheConstant.PUBSUB_ROUTE_PROBE_KEY);
@@ -170,7 +431,10 @@ public class CacheInvalidationListener implements MessageListener, InitializingB
                 template.convertAndSend(channel, payload);
                 return null;
             });
-            log.debug("发布缓存失效消息，cacheName：{}，key：{}，operation：{}", cacheName, key, operation);
+            publishedMessageCount.increment();
+            publishedKeyCount.add(msg.getKeys() != null ? msg.getKeys().size() : 1);
+            log.debug("发布缓存失效消息，cacheName：{}，key：{}，operation：{}", msg.getCacheName(),
+                    msg.getKeys() != null ? msg.getKeys().size() + " keys" : msg.getKey(), msg.getOperation());
         } catch (Exception e) {
             log.error("发布缓存失效消息失败", e);
         }
@@ -1,10 +1,12 @@
 package io.github.surezzzzzz.sdk.cache.pubsub;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * Cache Invalidation Message
@@ -32,7 +34,7 @@ public class CacheInvalidationMessage implements Serializable {
     private String key;
 
     /**
-     * 操作类型：evict（删除单个）、clear（清空所有）
+     * 操作类型：evict（删除单个）、evict-batch（批量删除）、clear（清空所有）
      */
     private String operation;
 
@@ -40,4 +42,14 @@ public class CacheInvalidationMessage implements Serializable {
      * 发送者实例标识
      */
     private String sender;
+
+    /**
+     * 批量删除的缓存 key，仅 evict-batch 使用
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> keys;
+
+    public CacheInvalidationMessage(String cacheName, String key, String operation, String sender) {
+        this(cacheName, key, operation, sender, null);
+    }
 }
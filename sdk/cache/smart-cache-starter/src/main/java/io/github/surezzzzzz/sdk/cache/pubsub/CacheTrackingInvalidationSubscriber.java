@@ -0,0 +1,251 @@
+package io.github.surezzzzzz.sdk.cache.pubsub;
+
+import io.github.surezzzzzz.sdk.cache.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.cache.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.exception.CacheConfigurationException;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis CLIENT TRACKING 失效订阅器
+ * <p>
+ * 从数据源的 Lettuce 原生客户端新建一条独占的 RESP3 连接，不经过 Spring 的共享连接或连接池。
+ * 该连接以 {@code CLIENT ID} 取得自身 id，再以 BCAST PREFIX 开启 tracking，失效通知以 {@code invalidate}
+ * 推送消息回到同一连接，无需 REDIRECT，也就无需在 {@code CLIENT LIST} 中猜测订阅连接。
+ * 一条推送可携带多个 key（同一事件循环内同前缀的全部变更），逐个回调；key 列表为空表示 FLUSHALL / FLUSHDB。
+ * 探测 key 用于启动校验与周期健康检查：探测失败说明通知链路可能中断，先清空 L1 再重建连接。
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+public class CacheTrackingInvalidationSubscriber implements PushListener {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final String trackingPrefix;
+    private final String probePrefix;
+    private final String probeKey;
+    private final long probeTimeoutMillis;
+    private final Consumer<String> keyInvalidationHandler;
+    private final Runnable flushHandler;
+
+    private StatefulRedisConnection<String, String> trackingConnection;
+    private volatile CountDownLatch probeLatch;
+
+    public CacheTrackingInvalidationSubscriber(RedisConnectionFactory connectionFactory,
+                                               String trackingPrefix,
+                                               String probePrefix,
+                                               long probeTimeoutMillis,
+                                               Consumer<String> keyInvalidationHandler,
+                                               Runnable flushHandler) {
+        this.connectionFactory = connectionFactory;
+        this.trackingPrefix = trackingPrefix;
+        this.probePrefix = probePrefix;
+        this.probeKey = probePrefix + UUID.randomUUID();
+        this.probeTimeoutMillis = probeTimeoutMillis;
+        this.keyInvalidationHandler = keyInvalidationHandler;
+        this.flushHandler = flushHandler;
+    }
+
+    /**
+     * 建立独占连接并开启 tracking
+     */
+    public synchronized void start() {
+        RedisClient redisClient = resolveRedisClient();
+        trackingConnection = redisClient.connect(StringCodec.UTF8);
+        trackingConnection.addListener(this);
+        Long clientId = trackingConnection.sync().clientId();
+        enableTracking();
+        if (probe()) {
+            log.info("Redis tracking 失效订阅初始化完成，client：{}，prefix：{}", clientId, trackingPrefix);
+            return;
+        }
+        stop();
+        throw new CacheConfigurationException(
+                ErrorCode.SMART_CACHE_PUBSUB_INIT_FAILED,
+                String.format(ErrorMessage.SMART_CACHE_PUBSUB_INIT_FAILED,
+                        String.format(ErrorMessage.SMART_CACHE_TRACKING_PROBE_FAILED, clientId))
+        );
+    }
+
+    /**
+     * 关闭 tracking 与独占连接
+     */
+    public synchronized void stop() {
+        if (trackingConnection == null) {
+            return;
+        }
+        trackingConnection.removeListener(this);
+        try {
+            trackingConnection.sync().clientTracking(TrackingArgs.Builder.enabled(false));
+        } catch (Exception e) {
+            log.debug("关闭 Redis tracking 失败：{}", e.getMessage());
+        }
+        try {
+            trackingConnection.close();
+        } catch (Exception e) {
+            log.debug("关闭 Redis tracking 连接失败：{}", e.getMessage());
+        }
+        trackingConnection = null;
+    }
+
+    /**
+     * 健康检查：探测失败时清空 L1 并重建连接
+     */
+    public synchronized void checkHealth() {
+        boolean healthy;
+        try {
+            healthy = trackingConnection != null && probe();
+        } catch (Exception e) {
+            log.warn("Redis tracking 探测失败：{}", e.getMessage());
+            healthy = false;
+        }
+        if (healthy) {
+            return;
+        }
+        log.warn("Redis tracking 失效通知链路中断，清空 L1 并重建订阅");
+        flushHandler.run();
+        stop();
+        try {
+            start();
+        } catch (Exception e) {
+            log.error("Redis tracking 失效订阅重建失败，等待下次健康检查", e);
+        }
+    }
+
+    @Override
+    public void onPushMessage(PushMessage message) {
+        if (!SmartCacheConstant.TRACKING_PUSH_TYPE_INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        List<String> redisKeys = parseInvalidatedKeys(message.getContent());
+        if (redisKeys == null) {
+            // FLUSHALL / FLUSHDB 时 Redis 推送空 key 列表
+            flushHandler.run();
+            return;
+        }
+        for (String redisKey : redisKeys) {
+            dispatch(redisKey);
+        }
+    }
+
+    private void dispatch(String redisKey) {
+        if (redisKey.startsWith(probePrefix)) {
+            CountDownLatch latch = probeLatch;
+            if (latch != null && probeKey.equals(redisKey)) {
+                latch.countDown();
+            }
+            return;
+        }
+        try {
+            keyInvalidationHandler.accept(redisKey);
+        } catch (Exception e) {
+            log.warn("处理 Redis tracking 失效通知失败，key：{}，原因：{}", redisKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 解析 invalidate 推送：[invalidate, [key1, key2, ...]]，key 列表为 null 时返回 null
+     */
+    private static List<String> parseInvalidatedKeys(List<Object> content) {
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys == null) {
+            return null;
+        }
+        if (!(keys instanceof List)) {
+            return Collections.singletonList(toText(keys));
+        }
+        List<String> redisKeys = new ArrayList<>(((List<?>) keys).size());
+        for (Object key : (List<?>) keys) {
+            if (key != null) {
+                redisKeys.add(toText(key));
+            }
+        }
+        return redisKeys;
+    }
+
+    private boolean probe() {
+        CountDownLatch latch = new CountDownLatch(1);
+        probeLatch = latch;
+        try {
+            trackingConnection.sync().set(probeKey, UUID.randomUUID().toString(),
+                    SetArgs.Builder.ex(SmartCacheConstant.TRACKING_PROBE_TTL_SECONDS));
+            return latch.await(probeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            probeLatch = null;
+        }
+    }
+
+    private void enableTracking() {
+        TrackingArgs args = TrackingArgs.Builder.enabled().bcast();
+        if (!trackingPrefix.isEmpty()) {
+            if (probePrefix.startsWith(trackingPrefix)) {
+                args.prefixes(trackingPrefix);
+            } else {
+                args.prefixes(trackingPrefix, probePrefix);
+            }
+        }
+        trackingConnection.sync().clientTracking(args);
+    }
+
+    /**
+     * 取数据源的 Lettuce 原生客户端；tracking 推送依赖 RESP3，显式配置为 RESP2 的客户端直接拒绝
+     */
+    private RedisClient resolveRedisClient() {
+        AbstractRedisClient nativeClient = connectionFactory instanceof LettuceConnectionFactory
+                ? ((LettuceConnectionFactory) connectionFactory).getRequiredNativeClient()
+                : null;
+        if (!(nativeClient instanceof RedisClient)) {
+            throw new CacheConfigurationException(
+                    ErrorCode.SMART_CACHE_PUBSUB_INIT_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_PUBSUB_INIT_FAILED,
+                            String.format(ErrorMessage.SMART_CACHE_TRACKING_UNSUPPORTED,
+                                    nativeClient != null ? nativeClient.getClass().getSimpleName()
+                                            : connectionFactory.getClass().getSimpleName()))
+            );
+        }
+        RedisClient redisClient = (RedisClient) nativeClient;
+        if (redisClient.getOptions().getConfiguredProtocolVersion() == ProtocolVersion.RESP2) {
+            throw new CacheConfigurationException(
+                    ErrorCode.SMART_CACHE_PUBSUB_INIT_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_PUBSUB_INIT_FAILED,
+                            String.format(ErrorMessage.SMART_CACHE_TRACKING_UNSUPPORTED, ProtocolVersion.RESP2))
+            );
+        }
+        return redisClient;
+    }
+
+    private static String toText(Object value) {
+        if (value instanceof ByteBuffer) {
+            return StandardCharsets.UTF_8.decode(((ByteBuffer) value).duplicate()).toString();
+        }
+        if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return String.valueOf(value);
+    }
+}
@@ -22,6 +22,15 @@ public class JacksonSmartCacheSerializer implements SmartCacheSerializer {
 
     @Override
     public String serialize(Object value, Class<?> declaredType) {
+        return doSerialize(value, declaredType, null, null);
+    }
+
+    @Override
+    public String serialize(Object value, Class<?> declaredType, long softExpireAt, long computeMillis) {
+        return doSerialize(value, declaredType, softExpireAt, computeMillis);
+    }
+
+    private String doSerialize(Object value, Class<?> declaredType, Long softExpireAt, Long computeMillis) {
         if (value == null) {
             return null;
         }
@@ -30,6 +39,8 @@ public class JacksonSmartCacheSerializer implements SmartCacheSerializer {
             Class<?> valueType = declaredType == null || Object.class.equals(declaredType) ? value.getClass() : declaredType;
             payload.setType(valueType.getName());
             payload.setData(value);
+            payload.setSoftExpireAt(softExpireAt);
+            payload.setComputeMillis(computeMillis);
             return objectMapper.writeValueAsString(payload);
         } catch (Exception e) {
             throw new CacheSerializationException(
@@ -42,16 +53,22 @@ public class JacksonSmartCacheSerializer implements SmartCacheSerializer {
 
     @Override
     public Object deserialize(String payload, Class<?> expectedType) {
+        SmartCacheEntry entry = deserializeEntry(payload, expectedType);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    @Override
+    public SmartCacheEntry deserializeEntry(String payload, Class<?> expectedType) {
         if (payload == null || payload.trim().isEmpty()) {
             return null;
         }
         try {
             SmartCachePayload cachePayload = objectMapper.readValue(payload, SmartCachePayload.class);
             Class<?> targetType = resolveTargetType(cachePayload, expectedType);
-            if (targetType == null) {
-                return cachePayload.getData();
-            }
-            return objectMapper.convertValue(cachePayload.getData(), targetType);
+            Object value = targetType == null
+                    ? cachePayload.getData()
+                    : objectMapper.convertValue(cachePayload.getData(), targetType);
+            return new SmartCacheEntry(value, cachePayload.getSoftExpireAt(), cachePayload.getComputeMillis());
         } catch (CacheSerializationException e) {
             throw e;
         } catch (Exception e) {
@@ -0,0 +1,64 @@
+package io.github.surezzzzzz.sdk.cache.serializer;
+
+/**
+ * Smart Cache 二进制序列化器
+ * <p>
+ * 与 {@link SmartCacheSerializer} 并列的 byte[] SPI。注册该 Bean 后 L2 以二进制 payload 读写 Redis，
+ * 读取到不被 {@link #accepts(byte[])} 识别的 payload 时回退到字符串序列化器，便于从 JSON 平滑切换。
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+public interface SmartCacheBinarySerializer {
+
+    /**
+     * 序列化缓存值
+     *
+     * @param value         缓存值
+     * @param declaredType  声明类型
+     * @param softExpireAt  软过期时间戳（毫秒），&lt;= 0 表示不携带 stale-while-revalidate 元数据
+     * @param computeMillis 加载耗时（毫秒）
+     * @return payload
+     */
+    byte[] serialize(Object value, Class<?> declaredType, long softExpireAt, long computeMillis);
+
+    /**
+     * 反序列化缓存条目
+     *
+     * @param payload      payload
+     * @param expectedType 期望类型
+     * @return 缓存条目，payload 为空时返回 null
+     */
+    SmartCacheEntry deserializeEntry(byte[] payload, Class<?> expectedType);
+
+    /**
+     * 判断 payload 是否由当前序列化器写入
+     *
+     * @param payload payload
+     * @return true 表示可由当前序列化器解析
+     */
+    boolean accepts(byte[] payload);
+
+    /**
+     * 序列化缓存值（不携带 stale-while-revalidate 元数据）
+     *
+     * @param value        缓存值
+     * @param declaredType 声明类型
+     * @return payload
+     */
+    default byte[] serialize(Object value, Class<?> declaredType) {
+        return serialize(value, declaredType, 0L, 0L);
+    }
+
+    /**
+     * 反序列化缓存值
+     *
+     * @param payload      payload
+     * @param expectedType 期望类型
+     * @return 缓存值
+     */
+    default Object deserialize(byte[] payload, Class<?> expectedType) {
+        SmartCacheEntry entry = deserializeEntry(payload, expectedType);
+        return entry != null ? entry.getValue() : null;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.surezzzzzz.sdk.cache.serializer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Smart Cache L2 条目
+ * <p>
+ * 缓存值及其 stale-while-revalidate 元数据
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmartCacheEntry {
+
+    /**
+     * 缓存值
+     */
+    private Object value;
+
+    /**
+     * 软过期时间戳（毫秒），为空表示未开启 stale-while-revalidate
+     */
+    private Long softExpireAt;
+
+    /**
+     * 上一次加载耗时（毫秒）
+     */
+    private Long computeMillis;
+
+    /**
+     * 是否已经软过期
+     *
+     * @param nowMillis 当前时间戳（毫秒）
+     * @return true 表示已软过期
+     */
+    public boolean isSoftExpired(long nowMillis) {
+        return softExpireAt != null && nowMillis >= softExpireAt;
+    }
+
+    /**
+     * 按 XFetch 概率提前过期判断是否需要后台刷新
+     * <p>
+     * 判定条件：{@code now - computeMillis * beta * ln(rand) >= softExpireAt}。加载越慢、越接近软过期，
+     * 提前刷新的概率越高；软过期后恒为 true。
+     *
+     * @param nowMillis 当前时间戳（毫秒）
+     * @param beta      提前刷新系数，0 表示仅在软过期后刷新
+     * @return true 表示需要刷新
+     */
+    public boolean shouldRefresh(long nowMillis, double beta) {
+        if (softExpireAt == null) {
+            return false;
+        }
+        if (isSoftExpired(nowMillis)) {
+            return true;
+        }
+        long delta = computeMillis != null ? computeMillis : 0L;
+        if (delta <= 0 || beta <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        if (random <= 0) {
+            return true;
+        }
+        return nowMillis - delta * beta * Math.log(random) >= softExpireAt;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.surezzzzzz.sdk.cache.serializer;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -21,4 +22,16 @@ public class SmartCachePayload {
      * JSON 数据
      */
     private Object data;
+
+    /**
+     * 软过期时间戳（毫秒），仅开启 stale-while-revalidate 时写入
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long softExpireAt;
+
+    /**
+     * 上一次加载耗时（毫秒），仅开启 stale-while-revalidate 时写入
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long computeMillis;
 }
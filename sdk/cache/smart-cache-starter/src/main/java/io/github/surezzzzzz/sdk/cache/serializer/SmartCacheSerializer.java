@@ -24,4 +24,31 @@ public interface SmartCacheSerializer {
      * @return 缓存值
      */
     Object deserialize(String payload, Class<?> expectedType);
+
+    /**
+     * 序列化缓存值并携带 stale-while-revalidate 元数据
+     * <p>
+     * 默认实现忽略元数据，自定义序列化器需要覆盖该方法才能支持 stale-while-revalidate。
+     *
+     * @param value         缓存值
+     * @param declaredType  声明类型
+     * @param softExpireAt  软过期时间戳（毫秒）
+     * @param computeMillis 加载耗时（毫秒）
+     * @return payload
+     */
+    default String serialize(Object value, Class<?> declaredType, long softExpireAt, long computeMillis) {
+        return serialize(value, declaredType);
+    }
+
+    /**
+     * 反序列化缓存条目（含 stale-while-revalidate 元数据）
+     *
+     * @param payload      payload
+     * @param expectedType 期望类型
+     * @return 缓存条目，payload 为空时返回 null
+     */
+    default SmartCacheEntry deserializeEntry(String payload, Class<?> expectedType) {
+        Object value = deserialize(payload, expectedType);
+        return value != null ? new SmartCacheEntry(value, null, null) : null;
+    }
 }
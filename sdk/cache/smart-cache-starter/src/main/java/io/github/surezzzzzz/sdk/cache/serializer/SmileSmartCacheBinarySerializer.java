@@ -0,0 +1,236 @@
+package io.github.surezzzzzz.sdk.cache.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.surezzzzzz.sdk.cache.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.cache.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.exception.CacheSerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 基于 Jackson Smile 的紧凑二进制序列化器
+ * <p>
+ * payload 结构：{@code magic | flags | 类型（type-id 或类名）| [softExpireAt, computeMillis] | Smile 数据}。
+ * 类型头在数据之前，读取时直接按目标类型解析数据段，不经过中间树或 {@code convertValue}。
+ * 配置了 type-id 的类型只写入整数编号；数据段超过阈值时使用 Deflate 压缩。
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+public class SmileSmartCacheBinarySerializer implements SmartCacheBinarySerializer {
+
+    private final ObjectMapper objectMapper;
+    private final SmartCacheTypeValidator typeValidator;
+    private final Map<String, Integer> typeIdsByName;
+    private final Map<Integer, Class<?>> typesById;
+    private final int compressionThresholdBytes;
+    private final Map<String, Class<?>> trustedTypeCache = new ConcurrentHashMap<>();
+
+    public SmileSmartCacheBinarySerializer(SmartCacheTypeValidator typeValidator,
+                                           Map<String, Integer> typeIds,
+                                           int compressionThresholdBytes) {
+        this.objectMapper = new ObjectMapper(new SmileFactory());
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.typeValidator = typeValidator;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+        Map<String, Integer> names = new HashMap<>();
+        Map<Integer, Class<?>> types = new HashMap<>();
+        if (typeIds != null) {
+            for (Map.Entry<String, Integer> entry : typeIds.entrySet()) {
+                names.put(entry.getKey(), entry.getValue());
+                types.put(entry.getValue(), loadClass(entry.getKey()));
+            }
+        }
+        this.typeIdsByName = Collections.unmodifiableMap(names);
+        this.typesById = Collections.unmodifiableMap(types);
+    }
+
+    @Override
+    public byte[] serialize(Object value, Class<?> declaredType, long softExpireAt, long computeMillis) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> valueType = declaredType == null || Object.class.equals(declaredType) ? value.getClass() : declaredType;
+        try {
+            byte[] data = objectMapper.writeValueAsBytes(value);
+            byte flags = 0;
+            if (compressionThresholdBytes > 0 && data.length >= compressionThresholdBytes) {
+                data = deflate(data);
+                flags |= SmartCacheConstant.BINARY_FLAG_COMPRESSED;
+            }
+            Integer typeId = typeIdsByName.get(valueType.getName());
+            if (typeId != null) {
+                flags |= SmartCacheConstant.BINARY_FLAG_TYPE_ID;
+            }
+            if (softExpireAt > 0) {
+                flags |= SmartCacheConstant.BINARY_FLAG_SOFT_EXPIRE;
+            }
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length + SmartCacheConstant.BINARY_HEADER_RESERVED_BYTES);
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeByte(SmartCacheConstant.BINARY_PAYLOAD_MAGIC);
+            out.writeByte(flags);
+            if (typeId != null) {
+                out.writeInt(typeId);
+            } else {
+                out.writeUTF(valueType.getName());
+            }
+            if (softExpireAt > 0) {
+                out.writeLong(softExpireAt);
+                out.writeLong(computeMillis);
+            }
+            out.write(data);
+            out.flush();
+            return buffer.toByteArray();
+        } catch (Exception e) {
+            throw new CacheSerializationException(
+                    ErrorCode.SMART_CACHE_SERIALIZATION_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_SERIALIZATION_FAILED, value.getClass().getName()),
+                    e
+            );
+        }
+    }
+
+    @Override
+    public SmartCacheEntry deserializeEntry(byte[] payload, Class<?> expectedType) {
+        if (payload == null || payload.length == 0) {
+            return null;
+        }
+        if (!accepts(payload)) {
+            throw new CacheSerializationException(
+                    ErrorCode.SMART_CACHE_SERIALIZATION_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_SERIALIZATION_FAILED, expectedType)
+            );
+        }
+        try {
+            ByteArrayInputStream buffer = new ByteArrayInputStream(payload);
+            DataInputStream in = new DataInputStream(buffer);
+            in.readByte();
+            byte flags = in.readByte();
+            Class<?> storedType = (flags & SmartCacheConstant.BINARY_FLAG_TYPE_ID) != 0
+                    ? resolveTypeId(in.readInt())
+                    : null;
+            String storedTypeName = storedType == null ? in.readUTF() : null;
+            Long softExpireAt = null;
+            Long computeMillis = null;
+            if ((flags & SmartCacheConstant.BINARY_FLAG_SOFT_EXPIRE) != 0) {
+                softExpireAt = in.readLong();
+                computeMillis = in.readLong();
+            }
+            int offset = payload.length - buffer.available();
+            byte[] data = payload;
+            int length = payload.length - offset;
+            if ((flags & SmartCacheConstant.BINARY_FLAG_COMPRESSED) != 0) {
+                data = inflate(payload, offset, length);
+                offset = 0;
+                length = data.length;
+            }
+            Class<?> targetType = resolveTargetType(expectedType, storedType, storedTypeName);
+            Object value = objectMapper.readValue(data, offset, length, targetType);
+            return new SmartCacheEntry(value, softExpireAt, computeMillis);
+        } catch (CacheSerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CacheSerializationException(
+                    ErrorCode.SMART_CACHE_SERIALIZATION_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_SERIALIZATION_FAILED, expectedType),
+                    e
+            );
+        }
+    }
+
+    @Override
+    public boolean accepts(byte[] payload) {
+        return payload != null && payload.length > 1 && payload[0] == SmartCacheConstant.BINARY_PAYLOAD_MAGIC;
+    }
+
+    private Class<?> resolveTargetType(Class<?> expectedType, Class<?> storedType, String storedTypeName) {
+        if (expectedType != null && !Object.class.equals(expectedType)) {
+            return expectedType;
+        }
+        if (storedType != null) {
+            return storedType;
+        }
+        return trustedTypeCache.computeIfAbsent(storedTypeName, typeName -> {
+            if (!typeValidator.isTrusted(typeName)) {
+                throw new CacheSerializationException(
+                        ErrorCode.SMART_CACHE_SERIALIZATION_FAILED,
+                        String.format(ErrorMessage.SMART_CACHE_SERIALIZATION_FAILED, typeName)
+                );
+            }
+            return loadClass(typeName);
+        });
+    }
+
+    private Class<?> resolveTypeId(int typeId) {
+        Class<?> type = typesById.get(typeId);
+        if (type == null) {
+            throw new CacheSerializationException(
+                    ErrorCode.SMART_CACHE_SERIALIZATION_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_TYPE_ID_UNKNOWN, typeId)
+            );
+        }
+        return type;
+    }
+
+    private static Class<?> loadClass(String typeName) {
+        try {
+            return Class.forName(typeName);
+        } catch (ClassNotFoundException e) {
+            throw new CacheSerializationException(
+                    ErrorCode.SMART_CACHE_SERIALIZATION_FAILED,
+                    String.format(ErrorMessage.SMART_CACHE_SERIALIZATION_FAILED, typeName),
+                    e
+            );
+        }
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+            byte[] chunk = new byte[SmartCacheConstant.BINARY_COMPRESSION_CHUNK_BYTES];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(chunk);
+                out.write(chunk, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 2);
+            byte[] chunk = new byte[SmartCacheConstant.BINARY_COMPRESSION_CHUNK_BYTES];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(chunk);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException(ErrorMessage.SMART_CACHE_BINARY_PAYLOAD_TRUNCATED);
+                }
+                out.write(chunk, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
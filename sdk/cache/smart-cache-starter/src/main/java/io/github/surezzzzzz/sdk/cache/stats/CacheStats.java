@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * Cache Stats
  * <p>
@@ -68,4 +70,24 @@ public class CacheStats {
      * L2 缓存大小
      */
     private long l2Size;
+
+    /**
+     * 批量读取次数
+     */
+    private long batchRequestCount;
+
+    /**
+     * 批量读取部分命中次数（缓存命中部分 key，其余需加载）
+     */
+    private long batchPartialHitCount;
+
+    /**
+     * 热点副本命中数
+     */
+    private long hotKeyHitCount;
+
+    /**
+     * 当前持有本地副本的热点 key
+     */
+    private List<String> hotKeys;
 }
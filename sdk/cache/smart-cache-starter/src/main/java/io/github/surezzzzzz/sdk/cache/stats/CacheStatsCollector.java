@@ -2,13 +2,17 @@ package io.github.surezzzzzz.sdk.cache.stats;
 
 import io.github.surezzzzzz.sdk.cache.annotation.SmartCacheComponent;
 import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.layer.HotKeyCache;
 import io.github.surezzzzzz.sdk.cache.layer.L1Cache;
 import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -32,10 +36,16 @@ public class CacheStatsCollector {
     @Autowired(required = false)
     private L2Cache l2Cache;
 
+    @Autowired(required = false)
+    private HotKeyCache hotKeyCache;
+
     // 使用 LongAdder 代替 AtomicLong，在高并发场景下性能更好
     private final Map<String, LongAdder> l1HitCountMap = new ConcurrentHashMap<>();
     private final Map<String, LongAdder> l2HitCountMap = new ConcurrentHashMap<>();
     private final Map<String, LongAdder> missCountMap = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> hotKeyHitCountMap = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> batchRequestCountMap = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> batchPartialHitCountMap = new ConcurrentHashMap<>();
 
     /**
      * 记录 L1 命中
@@ -58,6 +68,61 @@ public class CacheStatsCollector {
         missCountMap.computeIfAbsent(cacheName, k -> new LongAdder()).increment();
     }
 
+    /**
+     * 记录热点副本命中
+     */
+    public void recordHotKeyHit(String cacheName) {
+        hotKeyHitCountMap.computeIfAbsent(cacheName, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 获取当前持有本地副本的热点 key，未启用热点探测时返回空集合
+     */
+    public Set<String> getHotKeys(String cacheName) {
+        return hotKeyCache != null ? hotKeyCache.getHotKeys(cacheName) : Collections.emptySet();
+    }
+
+    /**
+     * 批量记录 L1 命中
+     */
+    public void recordL1Hits(String cacheName, long count) {
+        if (count > 0) {
+            l1HitCountMap.computeIfAbsent(cacheName, k -> new LongAdder()).add(count);
+        }
+    }
+
+    /**
+     * 批量记录 L2 命中
+     */
+    public void recordL2Hits(String cacheName, long count) {
+        if (count > 0) {
+            l2HitCountMap.computeIfAbsent(cacheName, k -> new LongAdder()).add(count);
+        }
+    }
+
+    /**
+     * 批量记录未命中
+     */
+    public void recordMisses(String cacheName, long count) {
+        if (count > 0) {
+            missCountMap.computeIfAbsent(cacheName, k -> new LongAdder()).add(count);
+        }
+    }
+
+    /**
+     * 记录一次批量读取；缓存只命中部分 key 时计为部分命中
+     *
+     * @param cacheName    缓存名称
+     * @param requestCount 请求 key 数
+     * @param hitCount     L1 + L2 命中 key 数
+     */
+    public void recordBatch(String cacheName, long requestCount, long hitCount) {
+        batchRequestCountMap.computeIfAbsent(cacheName, k -> new LongAdder()).increment();
+        if (hitCount > 0 && hitCount < requestCount) {
+            batchPartialHitCountMap.computeIfAbsent(cacheName, k -> new LongAdder()).increment();
+        }
+    }
+
     /**
      * 获取统计信息
      */
@@ -66,11 +131,14 @@ public class CacheStatsCollector {
         long l1HitCount = l1HitCountMap.getOrDefault(cacheName, new LongAdder()).sum();
         long l2HitCount = l2HitCountMap.getOrDefault(cacheName, new LongAdder()).sum();
         long missCount = missCountMap.getOrDefault(cacheName, new LongAdder()).sum();
+        long hotKeyHitCount = hotKeyHitCountMap.getOrDefault(cacheName, new LongAdder()).sum();
+        long batchRequestCount = batchRequestCountMap.getOrDefault(cacheName, new LongAdder()).sum();
+        long batchPartialHitCount = batchPartialHitCountMap.getOrDefault(cacheName, new LongAdder()).sum();
 
         // 使用快照值计算统计信息，确保一致性
-        long totalRequests = l1HitCount + l2HitCount + missCount;
+        long totalRequests = l1HitCount + l2HitCount + hotKeyHitCount + missCount;
 
-        double hitRate = totalRequests > 0 ? (l1HitCount + l2HitCount) * 100.0 / totalRequests : 0;
+        double hitRate = totalRequests > 0 ? (l1HitCount + l2HitCount + hotKeyHitCount) * 100.0 / totalRequests : 0;
         double l1HitRate = totalRequests > 0 ? l1HitCount * 100.0 / totalRequests : 0;
         double l2HitRate = totalRequests > 0 ? l2HitCount * 100.0 / totalRequests : 0;
 
@@ -89,6 +157,10 @@ public class CacheStatsCollector {
                 .cacheSize(l1Size + l2Size)
                 .l1Size(l1Size)
                 .l2Size(l2Size)
+                .batchRequestCount(batchRequestCount)
+                .batchPartialHitCount(batchPartialHitCount)
+                .hotKeyHitCount(hotKeyHitCount)
+                .hotKeys(new ArrayList<>(getHotKeys(cacheName)))
                 .build();
     }
 
@@ -101,5 +173,8 @@ public class CacheStatsCollector {
         l1HitCountMap.remove(cacheName);
         l2HitCountMap.remove(cacheName);
         missCountMap.remove(cacheName);
+        hotKeyHitCountMap.remove(cacheName);
+        batchRequestCountMap.remove(cacheName);
+        batchPartialHitCountMap.remove(cacheName);
     }
 }
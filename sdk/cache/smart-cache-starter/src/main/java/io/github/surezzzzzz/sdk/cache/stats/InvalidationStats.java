@@ -0,0 +1,66 @@
+package io.github.surezzzzzz.sdk.cache.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Invalidation Stats
+ * <p>
+ * 缓存失效消息统计数据模型
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvalidationStats {
+
+    /**
+     * 已发布的消息数
+     */
+    private long publishedMessageCount;
+
+    /**
+     * 已发布的失效 key 数
+     */
+    private long publishedKeyCount;
+
+    /**
+     * 已发布的批量消息数
+     */
+    private long publishedBatchCount;
+
+    /**
+     * 批量消息平均 key 数
+     */
+    private double averageBatchSize;
+
+    /**
+     * 批量消息最大 key 数
+     */
+    private long maxBatchSize;
+
+    /**
+     * 等待合并发布的 key 数（发布侧队列深度）
+     */
+    private long pendingKeyCount;
+
+    /**
+     * 等待处理的接收消息数（接收侧队列深度）
+     */
+    private long receiveQueueDepth;
+
+    /**
+     * 已处理的失效 key 数
+     */
+    private long receivedKeyCount;
+
+    /**
+     * 批内重复而跳过的 key 数
+     */
+    private long dedupedKeyCount;
+}
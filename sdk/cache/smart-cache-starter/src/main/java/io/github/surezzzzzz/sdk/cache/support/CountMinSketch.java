@@ -0,0 +1,110 @@
+package io.github.surezzzzzz.sdk.cache.support;
+
+import io.github.surezzzzzz.sdk.cache.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.cache.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.cache.exception.CacheConfigurationException;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-Min Sketch 频率估计
+ * <p>
+ * 固定占用 depth × width 个 int 计数器，估计值只会偏大不会偏小。
+ * 增加计数时只抬高各行中最小的计数器（conservative update），降低哈希冲突带来的高估；
+ * {@link #halve()} 将所有计数器减半，用于按窗口衰减历史访问（TinyLFU 的 reset 方式）。
+ * 并发下计数为近似值，仅用于热点判定。
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L,
+            0x87c37b91114253d5L, 0x4cf5ad432745937fL, 0x2127599bf4325c37L, 0x880355f21e6d1965L
+    };
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    /**
+     * @param width 每行计数器个数，向上取整为 2 的幂
+     * @param depth 哈希行数，最大 8
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1 || depth > SEEDS.length) {
+            throw new CacheConfigurationException(
+                    ErrorCode.SMART_CACHE_CONFIG_ERROR,
+                    String.format(ErrorMessage.SMART_CACHE_CONFIG_ERROR,
+                            String.format(ErrorMessage.SMART_CACHE_SKETCH_SIZE_INVALID, SEEDS.length, width, depth))
+            );
+        }
+        this.width = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new AtomicIntegerArray(this.width * depth);
+    }
+
+    /**
+     * 增加一次计数并返回增加后的估计值
+     */
+    public int increment(String item) {
+        int hash = item.hashCode();
+        int[] indexes = new int[depth];
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = indexOf(hash, row);
+            min = Math.min(min, counters.get(indexes[row]));
+        }
+        if (min == Integer.MAX_VALUE) {
+            return min;
+        }
+        int estimate = min + 1;
+        for (int index : indexes) {
+            int current = counters.get(index);
+            while (current < estimate && !counters.compareAndSet(index, current, estimate)) {
+                current = counters.get(index);
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * 估计访问次数
+     */
+    public int estimate(String item) {
+        int hash = item.hashCode();
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(indexOf(hash, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 所有计数器减半
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            int current = counters.get(i);
+            while (current != 0 && !counters.compareAndSet(i, current, current >>> 1)) {
+                current = counters.get(i);
+            }
+        }
+    }
+
+    /**
+     * 计数器总数
+     */
+    public int capacity() {
+        return counters.length();
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 32;
+        return row * width + ((int) h & mask);
+    }
+}
@@ -132,6 +132,64 @@ public class KeyHelper {
                 me + SmartCacheConstant.KEY_SEPARATOR + cacheName;
     }
 
+    /**
+     * 构建 Redis CLIENT TRACKING 广播前缀
+     * <p>
+     * 取格式模板中 {cacheName} 之前的固定部分，覆盖同一 keyPrefix 下的全部缓存数据 key
+     *
+     * @param keyFormat 格式模板
+     * @param keyPrefix key 前缀
+     * @return 广播前缀，格式以 {cacheName} 开头时返回空字符串
+     */
+    public static String buildTrackingPrefix(String keyFormat, String keyPrefix) {
+        int cacheNameIndex = keyFormat.indexOf("{cacheName}");
+        String head = cacheNameIndex >= 0 ? keyFormat.substring(0, cacheNameIndex) : keyFormat;
+        int placeholderIndex = head.replace("{keyPrefix}", "").indexOf('{');
+        String prefix = head.replace("{keyPrefix}", keyPrefix);
+        return placeholderIndex >= 0 ? "" : prefix;
+    }
+
+    /**
+     * 从缓存数据 Key 反解析缓存名称和缓存 key
+     * <p>
+     * 依赖 {key} 占位符自动添加的 {keyPrefix:cacheName:me} hash tag
+     *
+     * @param keyFormat 格式模板
+     * @param keyPrefix key 前缀
+     * @param me        实例标识
+     * @param redisKey  Redis key
+     * @return [cacheName, key]，不属于当前应用组时返回 null
+     */
+    public static String[] parseCacheKey(String keyFormat, String keyPrefix, String me, String redisKey) {
+        if (redisKey == null) {
+            return null;
+        }
+        String hashTagHead = SmartCacheConstant.HASH_TAG_PREFIX + keyPrefix + SmartCacheConstant.KEY_SEPARATOR;
+        String hashTagTail = SmartCacheConstant.KEY_SEPARATOR + me + SmartCacheConstant.HASH_TAG_SUFFIX;
+        int start = redisKey.indexOf(hashTagHead);
+        if (start < 0) {
+            return null;
+        }
+        int end = redisKey.indexOf(hashTagTail, start + hashTagHead.length());
+        if (end < 0) {
+            return null;
+        }
+        String cacheName = redisKey.substring(start + hashTagHead.length(), end);
+        int keyIndex = keyFormat.indexOf("{key}");
+        String keySuffix = keyIndex >= 0
+                ? keyFormat.substring(keyIndex + "{key}".length())
+                .replace("{keyPrefix}", keyPrefix).replace("{cacheName}", cacheName).replace("{me}", me)
+                : "";
+        String key = redisKey.substring(end + hashTagTail.length());
+        if (!keySuffix.isEmpty()) {
+            if (!key.endsWith(keySuffix)) {
+                return null;
+            }
+            key = key.substring(0, key.length() - keySuffix.length());
+        }
+        return new String[]{cacheName, key};
+    }
+
     private KeyHelper() {
         throw new UnsupportedOperationException("工具类不能实例化");
     }
@@ -31,6 +31,11 @@ import java.util.concurrent.*;
 
 /**
  * Smart Cache 预热处理器
+ * <p>
+ * 同一 order 的任务在预热线程池上并行执行。预热方法可以直接返回全部数据，也可以接收 {@link WarmUpPageRequest}
+ * 按游标分页返回 {@link WarmUpPage}；数据按 warm-up.write-batch-size 分批以 L2 pipeline 写入，
+ * 并受本实例共享的 warm-up.max-writes-per-second 限速。分页任务每写完一页记录断点，持锁实例重启后从断点继续。
+ * </p>
  *
  * @author Sure
  */
@@ -66,6 +71,11 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
     @Qualifier(SmartCacheConstant.SMART_CACHE_WARMUP_EXECUTOR_BEAN_NAME)
     private Executor warmupExecutor;
 
+    private final Map<String, WarmUpProgress> progressMap = new ConcurrentHashMap<>();
+
+    private volatile WarmUpRateLimiter writeRateLimiter = new WarmUpRateLimiter(
+            SmartCacheConstant.DEFAULT_WARMUP_MAX_WRITES_PER_SECOND);
+
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
         ApplicationContext context = event.getApplicationContext();
@@ -80,6 +90,9 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
             return;
         }
 
+        writeRateLimiter = new WarmUpRateLimiter(properties != null && properties.getWarmUp() != null
+                ? properties.getWarmUp().getMaxWritesPerSecond()
+                : SmartCacheConstant.DEFAULT_WARMUP_MAX_WRITES_PER_SECOND);
         Map<Integer, List<WarmUpTask>> tasksByOrder = groupTasksByOrder(tasks);
         for (Map.Entry<Integer, List<WarmUpTask>> entry : tasksByOrder.entrySet()) {
             int order = entry.getKey();
@@ -99,6 +112,20 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
         log.info("缓存预热完成，执行任务数：{}", tasks.size());
     }
 
+    /**
+     * 获取各预热任务的进度快照
+     */
+    public List<WarmUpProgress> getProgress() {
+        List<WarmUpProgress> snapshot = new ArrayList<>();
+        for (WarmUpProgress progress : progressMap.values()) {
+            synchronized (progress) {
+                snapshot.add(progress.toBuilder().build());
+            }
+        }
+        snapshot.sort(Comparator.comparing(WarmUpProgress::getTaskName));
+        return snapshot;
+    }
+
     private List<WarmUpTask> findWarmUpTasks(ApplicationContext context) {
         List<WarmUpTask> tasks = new ArrayList<>();
         for (String beanName : context.getBeanDefinitionNames()) {
@@ -153,6 +180,9 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
                 SmartCacheConstant.WARMUP_COMPLETE_KEY_SUFFIX);
         String warmupKeysKey = KeyHelper.buildWarmUpMetadataKey(keyPrefix, cacheName, me,
                 SmartCacheConstant.WARMUP_KEYS_KEY_SUFFIX);
+        String checkpointKey = KeyHelper.buildWarmUpMetadataKey(keyPrefix, cacheName, me,
+                SmartCacheConstant.WARMUP_CHECKPOINT_KEY_SUFFIX);
+        WarmUpProgress progress = startProgress(task);
         RedisLockLease lease = null;
 
         try {
@@ -163,41 +193,51 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
                         lockKey, getLockTimeoutSeconds(), TimeUnit.SECONDS);
                 if (optionalLease.isPresent()) {
                     lease = optionalLease.get();
-                    writeWarmUpData(task, lease, cacheName, warmupKeysKey, warmupCompleteKey);
-                } else if (waitForWarmupComplete(warmupCompleteKey)) {
+                    writeWarmUpData(task, lease, cacheName, warmupKeysKey, warmupCompleteKey, checkpointKey, progress);
+                } else if (waitForWarmupComplete(warmupCompleteKey, checkpointKey)) {
                     loadWarmupDataToL1(warmupKeysKey, cacheName);
+                    progress.setStatus(SmartCacheConstant.WARMUP_STATUS_FOLLOWED);
                 } else {
                     throw createWarmUpException(task, ErrorMessage.SMART_CACHE_WARMUP_WAIT_TIMEOUT, null);
                 }
             } else {
-                writeWarmUpData(task, null, cacheName, null, null);
+                writeWarmUpData(task, null, cacheName, null, null, null, progress);
             }
+            finishProgress(progress, null);
         } catch (CacheWarmUpException e) {
+            finishProgress(progress, SmartCacheConstant.WARMUP_STATUS_FAILED);
             throw e;
         } catch (Exception e) {
+            finishProgress(progress, SmartCacheConstant.WARMUP_STATUS_FAILED);
             throw createWarmUpException(task, e);
         } finally {
             closeLease(lease);
         }
     }
 
-    private void writeWarmUpData(WarmUpTask task, RedisLockLease lease, String cacheName,
-                                 String warmupKeysKey, String warmupCompleteKey) throws Exception {
-        Map<String, Object> data = executeWarmUpMethod(task);
-        if (data == null || data.isEmpty()) {
-            return;
-        }
-        if (lease != null && !renewLeaseBeforeWrite(lease, getLockTimeoutSeconds(), cacheName)) {
-            throw createWarmUpException(task, ErrorMessage.SMART_CACHE_WARMUP_LEASE_RENEW_FAILED, null);
+    private void writeWarmUpData(WarmUpTask task, RedisLockLease lease, String cacheName, String warmupKeysKey,
+                                 String warmupCompleteKey, String checkpointKey, WarmUpProgress progress) throws Exception {
+        List<String> writtenKeys;
+        if (isPagedTask(task)) {
+            writtenKeys = writePagedWarmUpData(task, lease, cacheName, lease != null ? checkpointKey : null, progress);
+        } else {
+            Map<String, Object> data = executeWarmUpMethod(task);
+            if (data == null || data.isEmpty()) {
+                return;
+            }
+            if (lease != null && !renewLeaseBeforeWrite(lease, getLockTimeoutSeconds(), cacheName)) {
+                throw createWarmUpException(task, ErrorMessage.SMART_CACHE_WARMUP_LEASE_RENEW_FAILED, null);
+            }
+            writeEntries(cacheName, data, progress);
+            writtenKeys = new ArrayList<>(data.keySet());
+            log.info("缓存预热成功，写入缓存条目数：{}", data.size());
         }
-        cacheManager.putAll(cacheName, data);
-        log.info("缓存预热成功，写入缓存条目数：{}", data.size());
         if (warmupKeysKey == null || warmupCompleteKey == null) {
             return;
         }
 
         int ttlSeconds = getCompletionMarkTtlSeconds();
-        String keysPayload = smartCacheObjectMapper.writeValueAsString(new ArrayList<>(data.keySet()));
+        String keysPayload = smartCacheObjectMapper.writeValueAsString(writtenKeys);
         redisRouteTemplate.execute(warmupKeysKey, template -> {
             template.opsForValue().set(warmupKeysKey, keysPayload, ttlSeconds, TimeUnit.SECONDS);
             return null;
@@ -210,6 +250,152 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
         log.info("已设置缓存预热完成标记：{}", warmupCompleteKey);
     }
 
+    /**
+     * 分页预热：逐页调用预热方法并写入，每页写完后记录断点
+     *
+     * @return 供其他实例回填 L1 的 key（最多 L1 maxSize 个）
+     */
+    private List<String> writePagedWarmUpData(WarmUpTask task, RedisLockLease lease, String cacheName,
+                                              String checkpointKey, WarmUpProgress progress) throws Exception {
+        boolean checkpointEnabled = checkpointKey != null && isCheckpointEnabled();
+        Map<String, Object> checkpoint = checkpointEnabled ? readCheckpoint(checkpointKey) : null;
+        String cursor = null;
+        if (checkpoint != null) {
+            cursor = (String) checkpoint.get(SmartCacheConstant.WARMUP_CHECKPOINT_FIELD_CURSOR);
+            synchronized (progress) {
+                progress.setResumed(true);
+                progress.setWrittenCount(toLong(checkpoint.get(SmartCacheConstant.WARMUP_CHECKPOINT_FIELD_WRITTEN)));
+                progress.setPageCount(toLong(checkpoint.get(SmartCacheConstant.WARMUP_CHECKPOINT_FIELD_PAGES)));
+            }
+            log.info("从断点恢复缓存预热，cacheName：{}，游标：{}，已写入：{}", cacheName, cursor, progress.getWrittenCount());
+        }
+
+        int pageSize = task.warmUp.pageSize() > 0 ? task.warmUp.pageSize() : getPageSize();
+        int keyLimit = getL1MaxSize();
+        List<String> writtenKeys = new ArrayList<>();
+        while (true) {
+            WarmUpPage page = executeWarmUpPage(task, new WarmUpPageRequest(cursor, pageSize));
+            Map<String, Object> entries = page.getEntries();
+            if (!entries.isEmpty()) {
+                if (lease != null && !renewLeaseBeforeWrite(lease, getLockTimeoutSeconds(), cacheName)) {
+                    throw createWarmUpException(task, ErrorMessage.SMART_CACHE_WARMUP_LEASE_RENEW_FAILED, null);
+                }
+                writeEntries(cacheName, entries, progress);
+                for (String key : entries.keySet()) {
+                    if (writtenKeys.size() >= keyLimit) {
+                        break;
+                    }
+                    writtenKeys.add(key);
+                }
+            }
+            synchronized (progress) {
+                progress.setPageCount(progress.getPageCount() + 1);
+            }
+            log.info("缓存预热进度，任务：{}，页数：{}，已写入：{}", progress.getTaskName(), progress.getPageCount(),
+                    progress.getWrittenCount());
+
+            String nextCursor = page.getNextCursor();
+            if (nextCursor == null) {
+                break;
+            }
+            if (nextCursor.equals(cursor)) {
+                throw createWarmUpException(task,
+                        String.format(ErrorMessage.SMART_CACHE_WARMUP_CURSOR_NOT_ADVANCED, cursor), null);
+            }
+            cursor = nextCursor;
+            if (checkpointEnabled) {
+                saveCheckpoint(checkpointKey, cursor, progress);
+            }
+        }
+        if (checkpointEnabled) {
+            redisRouteTemplate.execute(checkpointKey, template -> template.delete(checkpointKey));
+        }
+        log.info("分页缓存预热成功，cacheName：{}，页数：{}，写入缓存条目数：{}", cacheName, progress.getPageCount(),
+                progress.getWrittenCount());
+        return writtenKeys;
+    }
+
+    /**
+     * 按批写入，每批一次 L2 pipeline，写入前按速率上限申请许可
+     */
+    private void writeEntries(String cacheName, Map<String, Object> entries, WarmUpProgress progress)
+            throws InterruptedException {
+        int batchSize = getWriteBatchSize();
+        Map<String, Object> batch = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() >= batchSize) {
+                writeBatch(cacheName, batch, progress);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(cacheName, batch, progress);
+        }
+    }
+
+    private void writeBatch(String cacheName, Map<String, Object> batch, WarmUpProgress progress)
+            throws InterruptedException {
+        writeRateLimiter.acquire(batch.size());
+        cacheManager.putAll(cacheName, batch);
+        synchronized (progress) {
+            progress.setWrittenCount(progress.getWrittenCount() + batch.size());
+        }
+    }
+
+    private Map<String, Object> readCheckpoint(String checkpointKey) throws Exception {
+        String payload = redisRouteTemplate.execute(checkpointKey,
+                template -> template.opsForValue().get(checkpointKey));
+        if (payload == null || payload.isEmpty()) {
+            return null;
+        }
+        return smartCacheObjectMapper.readValue(payload, new TypeReference<Map<String, Object>>() {
+        });
+    }
+
+    private void saveCheckpoint(String checkpointKey, String cursor, WarmUpProgress progress) throws Exception {
+        Map<String, Object> checkpoint = new LinkedHashMap<>();
+        checkpoint.put(SmartCacheConstant.WARMUP_CHECKPOINT_FIELD_CURSOR, cursor);
+        synchronized (progress) {
+            checkpoint.put(SmartCacheConstant.WARMUP_CHECKPOINT_FIELD_WRITTEN, progress.getWrittenCount());
+            checkpoint.put(SmartCacheConstant.WARMUP_CHECKPOINT_FIELD_PAGES, progress.getPageCount());
+        }
+        String payload = smartCacheObjectMapper.writeValueAsString(checkpoint);
+        int ttlSeconds = getCompletionMarkTtlSeconds();
+        redisRouteTemplate.execute(checkpointKey, template -> {
+            template.opsForValue().set(checkpointKey, payload, ttlSeconds, TimeUnit.SECONDS);
+            return null;
+        });
+    }
+
+    private WarmUpProgress startProgress(WarmUpTask task) {
+        String taskName = String.format(ErrorMessage.SMART_CACHE_WARMUP_TASK_NAME,
+                task.bean.getClass().getSimpleName(), task.method.getName());
+        WarmUpProgress progress = WarmUpProgress.builder()
+                .taskName(taskName)
+                .cacheName(task.warmUp.cacheName())
+                .status(SmartCacheConstant.WARMUP_STATUS_RUNNING)
+                .startTimeMillis(System.currentTimeMillis())
+                .build();
+        progressMap.put(taskName, progress);
+        return progress;
+    }
+
+    private void finishProgress(WarmUpProgress progress, String status) {
+        synchronized (progress) {
+            if (status != null) {
+                progress.setStatus(status);
+            } else if (SmartCacheConstant.WARMUP_STATUS_RUNNING.equals(progress.getStatus())) {
+                progress.setStatus(SmartCacheConstant.WARMUP_STATUS_COMPLETED);
+            }
+            progress.setEndTimeMillis(System.currentTimeMillis());
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
     private void closeLease(RedisLockLease lease) {
         if (lease == null) {
             return;
@@ -234,6 +420,28 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
                 : SmartCacheConstant.DEFAULT_WARMUP_COMPLETION_MARK_TTL_SECONDS;
     }
 
+    private int getPageSize() {
+        return properties != null && properties.getWarmUp() != null
+                ? properties.getWarmUp().getPageSize()
+                : SmartCacheConstant.DEFAULT_WARMUP_PAGE_SIZE;
+    }
+
+    private int getWriteBatchSize() {
+        return properties != null && properties.getWarmUp() != null
+                ? properties.getWarmUp().getWriteBatchSize()
+                : SmartCacheConstant.DEFAULT_WARMUP_WRITE_BATCH_SIZE;
+    }
+
+    private boolean isCheckpointEnabled() {
+        return properties == null || properties.getWarmUp() == null || properties.getWarmUp().isCheckpointEnabled();
+    }
+
+    private int getL1MaxSize() {
+        return properties != null && properties.getL1() != null
+                ? properties.getL1().getMaxSize()
+                : SmartCacheConstant.DEFAULT_L1_MAX_SIZE;
+    }
+
     private boolean isFailFast() {
         return properties != null && properties.getWarmUp() != null
                 && SmartCacheConstant.WARMUP_FAILURE_POLICY_FAIL_FAST.equals(
@@ -254,15 +462,25 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
         }
     }
 
-    private boolean waitForWarmupComplete(String warmupCompleteKey) throws Exception {
+    /**
+     * 等待持锁实例完成预热；分页预热的断点持续推进时重新计算等待超时
+     */
+    private boolean waitForWarmupComplete(String warmupCompleteKey, String checkpointKey) throws Exception {
         long startTime = System.currentTimeMillis();
         long timeoutMillis = SmartCacheConstant.WARMUP_WAIT_TIMEOUT_SECONDS * 1000L;
+        String lastCheckpoint = null;
         while (System.currentTimeMillis() - startTime < timeoutMillis) {
             String value = redisRouteTemplate.execute(warmupCompleteKey,
                     template -> template.opsForValue().get(warmupCompleteKey));
             if (SmartCacheConstant.WARMUP_COMPLETE_MARK_VALUE.equals(value)) {
                 return true;
             }
+            String checkpoint = redisRouteTemplate.execute(checkpointKey,
+                    template -> template.opsForValue().get(checkpointKey));
+            if (checkpoint != null && !checkpoint.equals(lastCheckpoint)) {
+                lastCheckpoint = checkpoint;
+                startTime = System.currentTimeMillis();
+            }
             try {
                 Thread.sleep(SmartCacheConstant.WARMUP_POLL_INTERVAL_MILLIS);
             } catch (InterruptedException e) {
@@ -284,30 +502,52 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
             log.warn("未找到预热 key 列表");
             return;
         }
-        for (String key : keys) {
-            Object value = l2Cache.get(cacheName, key);
-            if (value != null && l1Cache != null) {
-                l1Cache.put(cacheName, key, value);
+        if (l1Cache == null) {
+            return;
+        }
+        int loaded = 0;
+        for (int from = 0; from < keys.size(); from += SmartCacheConstant.WARMUP_L1_LOAD_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(keys.size(), from + SmartCacheConstant.WARMUP_L1_LOAD_BATCH_SIZE));
+            Map<String, Object> values;
+            try {
+                values = l2Cache.getAll(cacheName, batch);
+            } catch (Exception e) {
+                log.warn("批量读取预热数据失败，逐条读取，cacheName：{}，原因：{}", cacheName, e.getMessage());
+                values = new HashMap<>();
+                for (String key : batch) {
+                    Object value = l2Cache.get(cacheName, key);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
             }
+            l1Cache.putAll(cacheName, values);
+            loaded += values.size();
+        }
+        log.info("L1 预热完成，从 L2 加载条目数：{}", loaded);
+    }
+
+    private boolean isPagedTask(WarmUpTask task) {
+        Class<?>[] parameterTypes = task.method.getParameterTypes();
+        return parameterTypes.length == 1 && WarmUpPageRequest.class.equals(parameterTypes[0]);
+    }
+
+    private WarmUpPage executeWarmUpPage(WarmUpTask task, WarmUpPageRequest request) throws Exception {
+        Object result = invokeWarmUpMethod(task, request);
+        if (result == null) {
+            return WarmUpPage.last(Collections.emptyMap());
+        }
+        if (!(result instanceof WarmUpPage)) {
+            throw createWarmUpException(task, ErrorMessage.SMART_CACHE_WARMUP_PAGE_SIGNATURE_INVALID, null);
         }
-        log.info("L1 预热完成，从 L2 加载条目数：{}", keys.size());
+        return (WarmUpPage) result;
     }
 
     private Map<String, Object> executeWarmUpMethod(WarmUpTask task) throws Exception {
-        task.method.setAccessible(true);
-        Object result;
-        try {
-            result = task.method.invoke(task.bean);
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof Exception) {
-                throw (Exception) cause;
-            }
-            if (cause instanceof Error) {
-                throw (Error) cause;
-            }
-            throw e;
+        if (task.method.getParameterCount() > 0) {
+            throw createWarmUpException(task, ErrorMessage.SMART_CACHE_WARMUP_PAGE_SIGNATURE_INVALID, null);
         }
+        Object result = invokeWarmUpMethod(task);
         if (result == null) {
             return null;
         }
@@ -325,6 +565,22 @@ public class SmartCacheWarmUpProcessor implements ApplicationListener<ContextRef
         return data;
     }
 
+    private Object invokeWarmUpMethod(WarmUpTask task, Object... args) throws Exception {
+        task.method.setAccessible(true);
+        try {
+            return task.method.invoke(task.bean, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
     private CacheWarmUpException createWarmUpException(WarmUpTask task, Throwable cause) {
         String reason = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
         return createWarmUpException(task, reason, cause);
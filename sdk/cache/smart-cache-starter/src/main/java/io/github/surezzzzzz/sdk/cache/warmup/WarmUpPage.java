@@ -0,0 +1,44 @@
+package io.github.surezzzzzz.sdk.cache.warmup;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 分页预热结果
+ *
+ * @author surezzzzzz
+ */
+@Getter
+public class WarmUpPage {
+
+    /**
+     * 本页需要写入缓存的数据
+     */
+    private final Map<String, Object> entries;
+
+    /**
+     * 下一页游标，null 表示最后一页
+     */
+    private final String nextCursor;
+
+    private WarmUpPage(Map<String, Object> entries, String nextCursor) {
+        this.entries = entries != null ? entries : Collections.emptyMap();
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 还有后续页
+     */
+    public static WarmUpPage of(Map<String, Object> entries, String nextCursor) {
+        return new WarmUpPage(entries, nextCursor);
+    }
+
+    /**
+     * 最后一页
+     */
+    public static WarmUpPage last(Map<String, Object> entries) {
+        return new WarmUpPage(entries, null);
+    }
+}
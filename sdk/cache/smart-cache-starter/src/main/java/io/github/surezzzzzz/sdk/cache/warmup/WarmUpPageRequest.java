@@ -0,0 +1,30 @@
+package io.github.surezzzzzz.sdk.cache.warmup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 分页预热请求
+ * <p>
+ * 预热方法接收该参数时按页执行：{@code cursor} 为 null 表示第一页，其余为上一页返回的
+ * {@link WarmUpPage#getNextCursor()}；从断点恢复时为断点记录的游标。
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class WarmUpPageRequest {
+
+    /**
+     * 本页游标，第一页为 null
+     */
+    private final String cursor;
+
+    /**
+     * 期望的每页条数
+     */
+    private final int pageSize;
+}
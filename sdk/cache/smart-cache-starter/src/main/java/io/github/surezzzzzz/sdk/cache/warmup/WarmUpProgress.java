@@ -0,0 +1,58 @@
+package io.github.surezzzzzz.sdk.cache.warmup;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 预热任务进度快照
+ *
+ * @author surezzzzzz
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarmUpProgress {
+
+    /**
+     * 任务名称（Bean.method）
+     */
+    private String taskName;
+
+    /**
+     * 缓存名称
+     */
+    private String cacheName;
+
+    /**
+     * 任务状态：running / completed / followed / failed
+     */
+    private String status;
+
+    /**
+     * 已写入页数（含断点前已完成的页）
+     */
+    private long pageCount;
+
+    /**
+     * 已写入条目数（含断点前已写入的条目）
+     */
+    private long writtenCount;
+
+    /**
+     * 是否从断点恢复
+     */
+    private boolean resumed;
+
+    /**
+     * 开始时间戳（毫秒）
+     */
+    private long startTimeMillis;
+
+    /**
+     * 结束时间戳（毫秒），未结束时为 0
+     */
+    private long endTimeMillis;
+}
@@ -0,0 +1,47 @@
+package io.github.surezzzzzz.sdk.cache.warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 预热写入限速器
+ * <p>
+ * 按固定间隔发放许可：每次申请把下一个可用时间推后 permits × 间隔，调用方睡眠到自己的时间点，
+ * 因此同一实例内并行的预热任务共享同一个写入速率上限。{@code permitsPerSecond <= 0} 时不限速。
+ * </p>
+ *
+ * @author surezzzzzz
+ */
+class WarmUpRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    WarmUpRateLimiter(int permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0L;
+    }
+
+    /**
+     * 申请许可，超出速率时阻塞
+     */
+    void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+    }
+
+    private synchronized long reserve(int permits) {
+        if (intervalNanos == 0L || permits <= 0) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        long start = Math.max(now, nextFreeNanos);
+        nextFreeNanos = start + permits * intervalNanos;
+        return start - now;
+    }
+}
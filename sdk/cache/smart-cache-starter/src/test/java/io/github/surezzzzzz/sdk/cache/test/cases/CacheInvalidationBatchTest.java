@@ -0,0 +1,152 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.surezzzzzz.sdk.cache.configuration.SmartCacheProperties;
+import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.layer.L1Cache;
+import io.github.surezzzzzz.sdk.cache.pubsub.CacheInvalidationListener;
+import io.github.surezzzzzz.sdk.cache.pubsub.CacheInvalidationMessage;
+import io.github.surezzzzzz.sdk.cache.stats.InvalidationStats;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 缓存失效消息批量发布测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class CacheInvalidationBatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("合并窗口内的 evict 去重后以一条批量消息发布")
+    void shouldCoalesceEvictionsIntoOneBatch() throws Exception {
+        List<String> payloads = new CopyOnWriteArrayList<>();
+        CacheInvalidationListener listener = newListener(payloads, 100, 50L);
+
+        for (int i = 0; i < 10; i++) {
+            listener.publishInvalidation("cache", "key-" + (i % 5), SmartCacheConstant.OPERATION_EVICT);
+        }
+
+        assertTrue(waitUntil(() -> !payloads.isEmpty()), "合并窗口结束后应发布消息");
+        CacheInvalidationMessage message = objectMapper.readValue(payloads.get(0), CacheInvalidationMessage.class);
+        InvalidationStats stats = listener.getInvalidationStats();
+        log.info("批量消息：{}，统计：{}", payloads, stats);
+        assertEquals(1, payloads.size(), "10 次 evict 应合并为一条消息");
+        assertEquals(SmartCacheConstant.OPERATION_EVICT_BATCH, message.getOperation());
+        assertEquals(5, message.getKeys().size(), "同一 key 在批内只发布一次");
+        assertEquals(1, stats.getPublishedBatchCount());
+        assertEquals(5, stats.getMaxBatchSize());
+        assertEquals(0, stats.getPendingKeyCount());
+    }
+
+    @Test
+    @DisplayName("达到批量上限时由写入线程立即发布")
+    void shouldFlushWhenBatchIsFull() throws Exception {
+        List<String> payloads = new CopyOnWriteArrayList<>();
+        CacheInvalidationListener listener = newListener(payloads, 3, 60_000L);
+
+        listener.publishInvalidation("cache", "a", SmartCacheConstant.OPERATION_EVICT);
+        listener.publishInvalidation("cache", "b", SmartCacheConstant.OPERATION_EVICT);
+        listener.publishInvalidation("cache", "c", SmartCacheConstant.OPERATION_EVICT);
+
+        assertEquals(1, payloads.size(), "达到上限后应同步发布，不等待合并窗口");
+        assertEquals(Arrays.asList("a", "b", "c"),
+                objectMapper.readValue(payloads.get(0), CacheInvalidationMessage.class).getKeys());
+    }
+
+    @Test
+    @DisplayName("clear 丢弃该缓存名称下尚未发布的 evict")
+    void shouldDropPendingEvictionsOnClear() throws Exception {
+        List<String> payloads = new CopyOnWriteArrayList<>();
+        CacheInvalidationListener listener = newListener(payloads, 100, 60_000L);
+
+        listener.publishInvalidation("cache", "a", SmartCacheConstant.OPERATION_EVICT);
+        listener.publishInvalidation("cache", null, SmartCacheConstant.OPERATION_CLEAR);
+
+        assertEquals(1, payloads.size());
+        assertEquals(SmartCacheConstant.OPERATION_CLEAR,
+                objectMapper.readValue(payloads.get(0), CacheInvalidationMessage.class).getOperation());
+        assertEquals(0, listener.getInvalidationStats().getPendingKeyCount(), "clear 后不应再发布旧 evict");
+    }
+
+    @Test
+    @DisplayName("接收批量消息时批内重复 key 只失效一次")
+    void shouldDedupKeysWhenReceivingBatch() throws Exception {
+        CacheInvalidationListener listener = new CacheInvalidationListener();
+        L1Cache l1Cache = mock(L1Cache.class);
+        ExecutorService directExecutor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(directExecutor).submit(any(Runnable.class));
+        ReflectionTestUtils.setField(listener, "l1Cache", l1Cache);
+        ReflectionTestUtils.setField(listener, "smartCacheObjectMapper", objectMapper);
+        ReflectionTestUtils.setField(listener, "messageExecutor", directExecutor);
+        String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage("cache", null,
+                SmartCacheConstant.OPERATION_EVICT_BATCH, "other-instance", Arrays.asList("a", "b", "a")));
+
+        listener.onMessage(new DefaultMessage("channel".getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)), new byte[0]);
+
+        verify(l1Cache, times(1)).evict("cache", "a");
+        verify(l1Cache, times(1)).evict("cache", "b");
+        assertEquals(2, listener.getInvalidationStats().getReceivedKeyCount());
+        assertEquals(1, listener.getInvalidationStats().getDedupedKeyCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheInvalidationListener newListener(List<String> payloads, int maxSize, long flushIntervalMillis) {
+        SmartCacheProperties properties = new SmartCacheProperties();
+        properties.setMe("test");
+        properties.getPubsub().setChannelPrefix(SmartCacheConstant.DEFAULT_PUBSUB_CHANNEL_PREFIX);
+        properties.getPubsub().getBatch().setEnabled(true);
+        properties.getPubsub().getBatch().setMaxSize(maxSize);
+        properties.getPubsub().getBatch().setFlushIntervalMillis(flushIntervalMillis);
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> payloads.add(invocation.getArgument(1)))
+                .when(template).convertAndSend(anyString(), anyString());
+        RedisRouteTemplate redisRouteTemplate = mock(RedisRouteTemplate.class);
+        when(redisRouteTemplate.execute(anyString(), any(Function.class))).thenAnswer(invocation ->
+                ((Function<StringRedisTemplate, Object>) invocation.getArgument(1)).apply(template));
+
+        CacheInvalidationListener listener = new CacheInvalidationListener();
+        ReflectionTestUtils.setField(listener, "properties", properties);
+        ReflectionTestUtils.setField(listener, "redisRouteTemplate", redisRouteTemplate);
+        ReflectionTestUtils.setField(listener, "smartCacheObjectMapper", objectMapper);
+        return listener;
+    }
+
+    private boolean waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(10L);
+        }
+        return false;
+    }
+}
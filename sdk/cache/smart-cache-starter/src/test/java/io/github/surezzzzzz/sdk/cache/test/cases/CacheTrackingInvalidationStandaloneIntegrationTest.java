@@ -0,0 +1,85 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import io.github.surezzzzzz.sdk.cache.pubsub.CacheTrackingInvalidationSubscriber;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Redis CLIENT TRACKING 失效订阅端到端测试（standalone Redis 6.0+）
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(
+        classes = SmartCacheTestApplication.class,
+        properties = "spring.config.additional-location=classpath:/application-route-standalone.yml"
+)
+class CacheTrackingInvalidationStandaloneIntegrationTest {
+
+    private static final String DATASOURCE = "cache";
+    private static final String TRACKING_PREFIX = "smart-cache-tracking-it:";
+    private static final String PROBE_PREFIX = TRACKING_PREFIX + "tracking-probe:it:";
+
+    @Autowired
+    private RedisRouteTemplate redisRouteTemplate;
+
+    @Test
+    @DisplayName("一次 MSET / DEL 修改多个 key 时，推送中的每个 key 都回调")
+    void shouldEvictEveryKeyOfMultiKeyInvalidation() throws Exception {
+        RedisConnectionFactory connectionFactory = redisRouteTemplate.connectionFactory(DATASOURCE);
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        List<String> keys = Arrays.asList(TRACKING_PREFIX + "a", TRACKING_PREFIX + "b", TRACKING_PREFIX + "c");
+        List<String> evicted = new CopyOnWriteArrayList<>();
+        AtomicInteger flushCount = new AtomicInteger();
+        CountDownLatch written = new CountDownLatch(keys.size());
+        CountDownLatch deleted = new CountDownLatch(keys.size() * 2);
+        CacheTrackingInvalidationSubscriber subscriber = new CacheTrackingInvalidationSubscriber(
+                connectionFactory, TRACKING_PREFIX, PROBE_PREFIX, 1000L,
+                key -> {
+                    evicted.add(key);
+                    written.countDown();
+                    deleted.countDown();
+                },
+                flushCount::incrementAndGet);
+        subscriber.start();
+        try {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String key : keys) {
+                values.put(key, "v");
+            }
+            redisTemplate.opsForValue().multiSet(values);
+            assertTrue(written.await(5, TimeUnit.SECONDS), "MSET 涉及的每个 key 都应收到失效推送，实际：" + evicted);
+
+            redisTemplate.delete(keys);
+            assertTrue(deleted.await(5, TimeUnit.SECONDS), "DEL 涉及的每个 key 都应收到失效推送，实际：" + evicted);
+
+            log.info("tracking 多 key 失效推送：{}", evicted);
+            Set<String> distinct = new HashSet<>(evicted);
+            assertEquals(new HashSet<>(keys), distinct, "只应回调业务 key，探测 key 不回调");
+            assertEquals(0, flushCount.get(), "普通写入不应触发 L1 全量清空");
+        } finally {
+            subscriber.stop();
+            redisTemplate.delete(keys);
+        }
+    }
+}
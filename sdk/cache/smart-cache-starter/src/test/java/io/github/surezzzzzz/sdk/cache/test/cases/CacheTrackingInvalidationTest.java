@@ -0,0 +1,119 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import io.github.surezzzzzz.sdk.cache.configuration.SmartCacheProperties;
+import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.exception.CacheConfigurationException;
+import io.github.surezzzzzz.sdk.cache.pubsub.CacheTrackingInvalidationSubscriber;
+import io.github.surezzzzzz.sdk.cache.support.KeyHelper;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import io.lettuce.core.api.push.PushMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis CLIENT TRACKING 失效模式测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class CacheTrackingInvalidationTest {
+
+    @Test
+    @DisplayName("从 L2 key 反解析缓存名称和缓存 key")
+    void shouldParseCacheKey() {
+        String redisKey = KeyHelper.buildCacheKey(SmartCacheConstant.DEFAULT_L2_KEY_FORMAT, "sure-cache", "user", "app", "1001");
+
+        String[] parsed = KeyHelper.parseCacheKey(SmartCacheConstant.DEFAULT_L2_KEY_FORMAT, "sure-cache", "app", redisKey);
+
+        log.info("L2 key：{}，解析结果：{}", redisKey, parsed);
+        assertArrayEquals(new String[]{"user", "1001"}, parsed);
+        assertNull(KeyHelper.parseCacheKey(SmartCacheConstant.DEFAULT_L2_KEY_FORMAT, "sure-cache", "other-app", redisKey),
+                "其他应用组的 key 不应解析");
+    }
+
+    @Test
+    @DisplayName("自定义格式在 {key} 后带后缀时仍能反解析")
+    void shouldParseCacheKeyWithSuffix() {
+        String keyFormat = "{keyPrefix}:{cacheName}:{me}::{key}:v1";
+        String redisKey = KeyHelper.buildCacheKey(keyFormat, "p", "order", "app", "a:b");
+
+        assertArrayEquals(new String[]{"order", "a:b"}, KeyHelper.parseCacheKey(keyFormat, "p", "app", redisKey));
+        assertEquals("p:", KeyHelper.buildTrackingPrefix(keyFormat, "p"));
+        assertEquals("", KeyHelper.buildTrackingPrefix("{cacheName}:{keyPrefix}:{key}", "p"),
+                "格式以 {cacheName} 开头时不限制前缀");
+    }
+
+    @Test
+    @DisplayName("失效推送按 key 逐个回调，空列表清空全部 L1，探测 key 不回调")
+    void shouldDispatchInvalidationMessages() {
+        List<String> evicted = new ArrayList<>();
+        AtomicInteger flushCount = new AtomicInteger();
+        CacheTrackingInvalidationSubscriber subscriber = new CacheTrackingInvalidationSubscriber(
+                mock(RedisConnectionFactory.class), "sure-cache:", "sure-cache:tracking-probe:app:", 100L,
+                evicted::add, flushCount::incrementAndGet);
+
+        subscriber.onPushMessage(invalidate(Arrays.asList(
+                buffer("sure-cache:user:app::{sure-cache:user:app}1"),
+                buffer("sure-cache:tracking-probe:app:x"),
+                buffer("sure-cache:user:app::{sure-cache:user:app}2"))));
+        subscriber.onPushMessage(invalidate(null));
+
+        assertEquals(Arrays.asList(
+                        "sure-cache:user:app::{sure-cache:user:app}1", "sure-cache:user:app::{sure-cache:user:app}2"),
+                evicted, "一条推送中的全部 key 都应回调，探测 key 除外");
+        assertEquals(1, flushCount.get(), "空 key 列表应清空全部 L1");
+    }
+
+    @Test
+    @DisplayName("tracking 模式要求开启 L2")
+    void shouldRequireL2ForTrackingMode() {
+        SmartCacheProperties properties = new SmartCacheProperties();
+        properties.getPubsub().setMode(SmartCacheConstant.PUBSUB_MODE_TRACKING);
+        properties.getL2().setEnabled(false);
+
+        assertThrows(CacheConfigurationException.class, properties::validate);
+
+        properties.getL2().setEnabled(true);
+        properties.validate();
+        assertEquals(SmartCacheConstant.PUBSUB_MODE_TRACKING, properties.getPubsub().getMode());
+    }
+
+    private static PushMessage invalidate(List<ByteBuffer> keys) {
+        List<Object> content = Arrays.asList(buffer(SmartCacheConstant.TRACKING_PUSH_TYPE_INVALIDATE), keys);
+        return new PushMessage() {
+            @Override
+            public String getType() {
+                return SmartCacheConstant.TRACKING_PUSH_TYPE_INVALIDATE;
+            }
+
+            @Override
+            public List<Object> getContent() {
+                return content;
+            }
+
+            @Override
+            public List<Object> getContent(Function<ByteBuffer, Object> decodeFunction) {
+                return content;
+            }
+        };
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
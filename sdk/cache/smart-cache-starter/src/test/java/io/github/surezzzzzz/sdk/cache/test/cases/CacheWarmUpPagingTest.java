@@ -0,0 +1,192 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.surezzzzzz.sdk.cache.annotation.SmartCacheWarmUp;
+import io.github.surezzzzzz.sdk.cache.configuration.SmartCacheProperties;
+import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
+import io.github.surezzzzzz.sdk.cache.manager.SmartCacheManager;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import io.github.surezzzzzz.sdk.cache.warmup.SmartCacheWarmUpProcessor;
+import io.github.surezzzzzz.sdk.cache.warmup.WarmUpPage;
+import io.github.surezzzzzz.sdk.cache.warmup.WarmUpPageRequest;
+import io.github.surezzzzzz.sdk.cache.warmup.WarmUpProgress;
+import io.github.surezzzzzz.sdk.lock.redis.SimpleRedisLock;
+import io.github.surezzzzzz.sdk.lock.redis.model.RedisLockLease;
+import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 分页预热、写入限速与断点恢复测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class CacheWarmUpPagingTest {
+
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    @Test
+    @DisplayName("分页预热逐页写入并按批量大小分批，记录任务进度")
+    void shouldWritePagesInBatches() {
+        List<Map<String, Object>> batches = new CopyOnWriteArrayList<>();
+        SmartCacheProperties properties = new SmartCacheProperties();
+        properties.getWarmUp().setWriteBatchSize(2);
+        SmartCacheWarmUpProcessor processor = newProcessor(properties, batches);
+        PagedFixture fixture = new PagedFixture(5);
+
+        processor.onApplicationEvent(new ContextRefreshedEvent(newContext(fixture)));
+
+        WarmUpProgress progress = processor.getProgress().get(0);
+        log.info("分页预热请求：{}，写入批次：{}，进度：{}", fixture.requests, batches, progress);
+        assertEquals(Arrays.asList(null, "2", "4"), fixture.cursors(), "应按上一页返回的游标逐页请求");
+        assertEquals(2, fixture.requests.get(0).getPageSize(), "应使用注解指定的每页条数");
+        assertEquals(3, batches.size());
+        assertEquals(SmartCacheConstant.WARMUP_STATUS_COMPLETED, progress.getStatus());
+        assertEquals(3, progress.getPageCount());
+        assertEquals(5, progress.getWrittenCount());
+        assertFalse(progress.isResumed());
+    }
+
+    @Test
+    @DisplayName("持锁实例从断点游标继续预热，完成后删除断点")
+    @SuppressWarnings("unchecked")
+    void shouldResumeFromCheckpoint() throws Exception {
+        List<Map<String, Object>> batches = new CopyOnWriteArrayList<>();
+        SmartCacheWarmUpProcessor processor = newProcessor(new SmartCacheProperties(), batches);
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(endsWith(SmartCacheConstant.WARMUP_CHECKPOINT_KEY_SUFFIX)))
+                .thenReturn("{\"cursor\":\"2\",\"written\":2,\"pages\":1}");
+        RedisRouteTemplate redisRouteTemplate = mock(RedisRouteTemplate.class);
+        when(redisRouteTemplate.execute(anyString(), any(Function.class))).thenAnswer(invocation ->
+                ((Function<StringRedisTemplate, Object>) invocation.getArgument(1)).apply(template));
+        RedisLockLease lease = mock(RedisLockLease.class);
+        when(lease.renew(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        SimpleRedisLock redisLock = mock(SimpleRedisLock.class);
+        when(redisLock.tryLockWithLease(anyString(), anyLong(), any(TimeUnit.class))).thenReturn(Optional.of(lease));
+        ReflectionTestUtils.setField(processor, "redisLock", redisLock);
+        ReflectionTestUtils.setField(processor, "redisRouteTemplate", redisRouteTemplate);
+        ReflectionTestUtils.setField(processor, "l2Cache", mock(L2Cache.class));
+        PagedFixture fixture = new PagedFixture(5);
+
+        processor.onApplicationEvent(new ContextRefreshedEvent(newContext(fixture)));
+
+        WarmUpProgress progress = processor.getProgress().get(0);
+        log.info("断点恢复请求：{}，进度：{}", fixture.cursors(), progress);
+        assertEquals(Arrays.asList("2", "4"), fixture.cursors(), "应跳过断点前已写入的页");
+        assertTrue(progress.isResumed());
+        assertEquals(5, progress.getWrittenCount(), "写入条目数应包含断点前已写入的条目");
+        assertEquals(3, progress.getPageCount());
+        verify(valueOperations).set(endsWith(SmartCacheConstant.WARMUP_CHECKPOINT_KEY_SUFFIX),
+                contains("\"cursor\":\"4\""), anyLong(), eq(TimeUnit.SECONDS));
+        verify(template).delete(endsWith(SmartCacheConstant.WARMUP_CHECKPOINT_KEY_SUFFIX));
+        verify(valueOperations).set(endsWith(SmartCacheConstant.WARMUP_COMPLETE_KEY_SUFFIX),
+                eq(SmartCacheConstant.WARMUP_COMPLETE_MARK_VALUE), anyLong(), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("写入速率上限对全部批次生效")
+    void shouldThrottleWrites() {
+        List<Map<String, Object>> batches = new CopyOnWriteArrayList<>();
+        SmartCacheProperties properties = new SmartCacheProperties();
+        properties.getWarmUp().setWriteBatchSize(10);
+        properties.getWarmUp().setMaxWritesPerSecond(100);
+        SmartCacheWarmUpProcessor processor = newProcessor(properties, batches);
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (int i = 0; i < 30; i++) {
+            data.put("key-" + i, i);
+        }
+
+        long startNanos = System.nanoTime();
+        processor.onApplicationEvent(new ContextRefreshedEvent(newContext(new FullFixture(data))));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        log.info("30 条、100 条/秒限速下写入耗时：{} ms，批次数：{}", elapsedMillis, batches.size());
+        assertEquals(3, batches.size());
+        assertTrue(elapsedMillis >= 150, "第三批应至少等待约 200ms");
+    }
+
+    private SmartCacheWarmUpProcessor newProcessor(SmartCacheProperties properties,
+                                                   List<Map<String, Object>> batches) {
+        SmartCacheManager cacheManager = mock(SmartCacheManager.class);
+        doAnswer(invocation -> batches.add(new LinkedHashMap<>(invocation.getArgument(1))))
+                .when(cacheManager).putAll(anyString(), anyMap());
+        SmartCacheWarmUpProcessor processor = new SmartCacheWarmUpProcessor();
+        ReflectionTestUtils.setField(processor, "warmupExecutor", DIRECT_EXECUTOR);
+        ReflectionTestUtils.setField(processor, "properties", properties);
+        ReflectionTestUtils.setField(processor, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(processor, "smartCacheObjectMapper", new ObjectMapper());
+        return processor;
+    }
+
+    private ApplicationContext newContext(Object bean) {
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getParent()).thenReturn(null);
+        when(context.getBeanDefinitionNames()).thenReturn(new String[]{"warmupFixture"});
+        when(context.getBean("warmupFixture")).thenReturn(bean);
+        return context;
+    }
+
+    static class PagedFixture {
+
+        private final int total;
+        private final List<WarmUpPageRequest> requests = new ArrayList<>();
+
+        PagedFixture(int total) {
+            this.total = total;
+        }
+
+        @SmartCacheWarmUp(cacheName = "paged-warmup", pageSize = 2)
+        public WarmUpPage load(WarmUpPageRequest request) {
+            requests.add(request);
+            int from = request.getCursor() == null ? 0 : Integer.parseInt(request.getCursor());
+            int to = Math.min(total, from + request.getPageSize());
+            Map<String, Object> entries = new LinkedHashMap<>();
+            for (int i = from; i < to; i++) {
+                entries.put("item-" + i, i);
+            }
+            return to < total ? WarmUpPage.of(entries, String.valueOf(to)) : WarmUpPage.last(entries);
+        }
+
+        List<String> cursors() {
+            List<String> cursors = new ArrayList<>();
+            requests.forEach(request -> cursors.add(request.getCursor()));
+            return cursors;
+        }
+    }
+
+    static class FullFixture {
+
+        private final Map<String, Object> data;
+
+        FullFixture(Map<String, Object> data) {
+            this.data = data;
+        }
+
+        @SmartCacheWarmUp(cacheName = "throttled-warmup")
+        public Map<String, Object> load() {
+            return data;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import io.github.surezzzzzz.sdk.cache.configuration.SmartCacheProperties;
+import io.github.surezzzzzz.sdk.cache.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.cache.exception.CacheConfigurationException;
+import io.github.surezzzzzz.sdk.cache.layer.HotKeyCache;
+import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
+import io.github.surezzzzzz.sdk.cache.manager.SmartCacheManager;
+import io.github.surezzzzzz.sdk.cache.stats.CacheStats;
+import io.github.surezzzzzz.sdk.cache.stats.CacheStatsCollector;
+import io.github.surezzzzzz.sdk.cache.support.CountMinSketch;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 热点 key 探测与本地副本测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class HotKeyCacheTest {
+
+    @Test
+    @DisplayName("Count-Min Sketch 尺寸非法时抛出配置异常")
+    void shouldRejectInvalidSketchSize() {
+        CacheConfigurationException e = assertThrows(CacheConfigurationException.class, () -> new CountMinSketch(0, 4));
+        assertEquals(ErrorCode.SMART_CACHE_CONFIG_ERROR, e.getErrorCode());
+        assertThrows(CacheConfigurationException.class, () -> new CountMinSketch(1024, 9));
+    }
+
+    @Test
+    @DisplayName("Count-Min Sketch 估计值不低于真实次数且减半后衰减")
+    void shouldEstimateAndDecayFrequency() {
+        CountMinSketch sketch = new CountMinSketch(1000, 4);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("hot");
+        }
+        for (int i = 0; i < 1000; i++) {
+            sketch.increment("cold-" + i);
+        }
+
+        log.info("计数器总数：{}，hot 估计值：{}", sketch.capacity(), sketch.estimate("hot"));
+        assertEquals(1024 * 4, sketch.capacity(), "宽度应向上取整为 2 的幂");
+        assertTrue(sketch.estimate("hot") >= 100, "估计值不应低于真实次数");
+        assertTrue(sketch.estimate("cold-1") < 10, "冷 key 的估计值应远低于热点");
+        sketch.halve();
+        assertTrue(sketch.estimate("hot") >= 50 && sketch.estimate("hot") < 100, "减半后计数应衰减");
+    }
+
+    @Test
+    @DisplayName("窗口内读取达到阈值的 key 被复制到本地副本")
+    void shouldPromoteKeyAfterThreshold() {
+        HotKeyCache hotKeyCache = newHotKeyCache(3);
+
+        assertFalse(hotKeyCache.recordAccess("cache", "k", "v"));
+        assertFalse(hotKeyCache.recordAccess("cache", "k", "v"));
+        assertNull(hotKeyCache.get("cache", "k"), "未达阈值前不应复制");
+        assertTrue(hotKeyCache.recordAccess("cache", "k", "v"));
+
+        assertEquals("v", hotKeyCache.get("cache", "k"));
+        assertEquals(Collections.singleton("k"), hotKeyCache.getHotKeys("cache"));
+        hotKeyCache.evict("cache", "k");
+        assertNull(hotKeyCache.get("cache", "k"), "删除后副本应失效");
+    }
+
+    @Test
+    @DisplayName("L1 关闭时热点 key 从本地副本读取，不再访问 L2，并通过统计暴露")
+    void shouldServeHotKeyWithoutL2() {
+        HotKeyCache hotKeyCache = newHotKeyCache(2);
+        L2Cache l2Cache = mock(L2Cache.class);
+        when(l2Cache.get("cache", "sku", Object.class)).thenReturn("stock");
+        CacheStatsCollector statsCollector = new CacheStatsCollector();
+        ReflectionTestUtils.setField(statsCollector, "hotKeyCache", hotKeyCache);
+        SmartCacheManager manager = new SmartCacheManager();
+        ReflectionTestUtils.setField(manager, "l2Cache", l2Cache);
+        ReflectionTestUtils.setField(manager, "hotKeyCache", hotKeyCache);
+        ReflectionTestUtils.setField(manager, "statsCollector", statsCollector);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("stock", manager.get("cache", "sku"));
+        }
+
+        CacheStats stats = statsCollector.getStats("cache");
+        log.info("热点统计：{}", stats);
+        verify(l2Cache, times(2)).get("cache", "sku", Object.class);
+        assertEquals(8, stats.getHotKeyHitCount());
+        assertEquals(Collections.singletonList("sku"), stats.getHotKeys());
+
+        manager.evict("cache", "sku");
+        assertTrue(statsCollector.getHotKeys("cache").isEmpty(), "evict 应同步删除热点副本");
+    }
+
+    private HotKeyCache newHotKeyCache(int threshold) {
+        SmartCacheProperties properties = new SmartCacheProperties();
+        properties.getHotKey().setEnabled(true);
+        properties.getHotKey().setThreshold(threshold);
+        properties.getHotKey().setWindowSeconds(60);
+        return new HotKeyCache(properties);
+    }
+}
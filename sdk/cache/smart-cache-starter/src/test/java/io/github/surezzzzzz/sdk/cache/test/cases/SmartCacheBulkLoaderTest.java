@@ -0,0 +1,104 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import io.github.surezzzzzz.sdk.cache.constant.SmartCacheConstant;
+import io.github.surezzzzzz.sdk.cache.exception.CacheLoadException;
+import io.github.surezzzzzz.sdk.cache.layer.L1Cache;
+import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
+import io.github.surezzzzzz.sdk.cache.manager.SmartCacheManager;
+import io.github.surezzzzzz.sdk.cache.stats.CacheStatsCollector;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 批量加载 getAll 测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class SmartCacheBulkLoaderTest {
+
+    @Test
+    @DisplayName("两层未命中的 key 合并为一次加载并回填 L1、L2")
+    @SuppressWarnings("unchecked")
+    void shouldLoadMissedKeysInOneCall() {
+        SmartCacheManager manager = new SmartCacheManager();
+        L1Cache l1Cache = mock(L1Cache.class);
+        L2Cache l2Cache = mock(L2Cache.class);
+        CacheStatsCollector statsCollector = mock(CacheStatsCollector.class);
+        ReflectionTestUtils.setField(manager, "l1Cache", l1Cache);
+        ReflectionTestUtils.setField(manager, "l2Cache", l2Cache);
+        ReflectionTestUtils.setField(manager, "statsCollector", statsCollector);
+        when(l1Cache.getAll(eq("cache"), anyList())).thenReturn(Collections.singletonMap("a", "from-l1"));
+        when(l2Cache.getAll(eq("cache"), anyList(), eq(String.class)))
+                .thenReturn(Collections.singletonMap("b", "from-l2"));
+        List<Collection<String>> loaderCalls = new ArrayList<>();
+
+        Map<String, String> result = manager.getAll("cache", Arrays.asList("a", "b", "c", "d", "c"), String.class,
+                missed -> {
+                    loaderCalls.add(new ArrayList<>(missed));
+                    return Collections.singletonMap("c", "loaded");
+                });
+
+        log.info("批量加载结果：{}，加载器调用：{}", result, loaderCalls);
+        assertEquals(3, result.size());
+        assertEquals("loaded", result.get("c"));
+        assertEquals(1, loaderCalls.size(), "剩余 key 应只调用一次加载器");
+        assertEquals(Arrays.asList("c", "d"), loaderCalls.get(0), "重复 key 应去重");
+        verify(l2Cache).putAll("cache", Collections.singletonMap("c", "loaded"));
+        ArgumentCaptor<Map<String, Object>> l1Entries = ArgumentCaptor.forClass(Map.class);
+        verify(l1Cache, times(2)).putAll(eq("cache"), l1Entries.capture());
+        Map<String, Object> loadedEntries = l1Entries.getAllValues().get(1);
+        assertEquals("loaded", loadedEntries.get("c"));
+        assertSame(SmartCacheConstant.NULL_PLACEHOLDER, loadedEntries.get("d"), "加载器未返回的 key 应写入空值占位");
+        verify(statsCollector).recordMisses("cache", 2);
+        verify(statsCollector).recordBatch("cache", 4, 2);
+    }
+
+    @Test
+    @DisplayName("其他线程在途的 key 等待其结果，不重复加载")
+    @SuppressWarnings("unchecked")
+    void shouldJoinInFlightLoads() {
+        SmartCacheManager manager = new SmartCacheManager();
+        ConcurrentHashMap<String, CompletableFuture<Object>> inFlightLoads =
+                (ConcurrentHashMap<String, CompletableFuture<Object>>) ReflectionTestUtils.getField(manager, "inFlightLoads");
+        inFlightLoads.put("cache" + SmartCacheConstant.KEY_SEPARATOR + "a", CompletableFuture.completedFuture("shared"));
+        AtomicInteger loadedKeyCount = new AtomicInteger();
+
+        Map<String, Object> result = manager.getAll("cache", Arrays.asList("a", "b"), missed -> {
+            loadedKeyCount.addAndGet(missed.size());
+            return Collections.singletonMap("b", "own");
+        });
+
+        assertEquals("shared", result.get("a"), "在途 key 应复用已有加载结果");
+        assertEquals("own", result.get("b"));
+        assertEquals(1, loadedKeyCount.get(), "仅本线程 leader 的 key 参与加载");
+        assertEquals(1, inFlightLoads.size(), "leader 结束后应移除自己的在途记录");
+    }
+
+    @Test
+    @DisplayName("加载器异常包装为 CacheLoadException 并清理在途记录")
+    void shouldWrapLoaderFailure() {
+        SmartCacheManager manager = new SmartCacheManager();
+
+        assertThrows(CacheLoadException.class, () -> manager.getAll("cache", Collections.singletonList("a"),
+                missed -> {
+                    throw new IllegalStateException("db down");
+                }));
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(manager, "inFlightLoads")).isEmpty());
+    }
+}
@@ -61,9 +61,10 @@ class SmartCacheManagerNegativeBatchTest {
         assertFalse(result.containsKey("missing"), "两层未命中不应产生结果条目");
         verify(l2Cache).getAll("cache", Arrays.asList("l2-value", "missing"), String.class);
         verify(l1Cache).putAll(eq("cache"), anyMap());
-        verify(statsCollector, times(2)).recordL1Hit("cache");
-        verify(statsCollector).recordL2Hit("cache");
-        verify(statsCollector).recordMiss("cache");
+        verify(statsCollector).recordL1Hits("cache", 2);
+        verify(statsCollector).recordL2Hits("cache", 1);
+        verify(statsCollector).recordMisses("cache", 1);
+        verify(statsCollector).recordBatch("cache", 4, 3);
         log.info("批量负缓存边界验证通过，业务返回条目数：{}", result.size());
     }
 
@@ -0,0 +1,181 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import io.github.surezzzzzz.sdk.cache.configuration.SmartCacheProperties;
+import io.github.surezzzzzz.sdk.cache.exception.CacheLoadException;
+import io.github.surezzzzzz.sdk.cache.layer.L1Cache;
+import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
+import io.github.surezzzzzz.sdk.cache.manager.SmartCacheManager;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import io.github.surezzzzzz.sdk.lock.redis.SimpleRedisLock;
+import io.github.surezzzzzz.sdk.lock.redis.executor.RedisLockExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 进程内 single-flight 加载测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class SmartCacheSingleFlightTest {
+
+    private static final String CACHE_NAME = "single-flight-cache";
+    private static final String CACHE_KEY = "single-flight-key";
+    private static final int THREAD_COUNT = 20;
+
+    @Test
+    @DisplayName("同一 key 的并发 miss 只申请一次分布式锁并只执行一次 loader")
+    void shouldShareOneLoadAcrossConcurrentCallers() throws Exception {
+        CountingLockExecutor lockExecutor = new CountingLockExecutor();
+        CountDownLatch arrived = new CountDownLatch(THREAD_COUNT);
+        SmartCacheManager manager = newManager(lockExecutor, true, arrived);
+        AtomicInteger loaderCount = new AtomicInteger();
+
+        List<Future<String>> futures = runConcurrently(manager, () -> {
+            loaderCount.incrementAndGet();
+            awaitFollowersJoined(manager, arrived);
+            return "shared-value";
+        });
+
+        for (Future<String> future : futures) {
+            assertEquals("shared-value", future.get(5, TimeUnit.SECONDS), "所有调用方都应拿到 leader 的结果");
+        }
+        log.info("single-flight 并发加载，loader 次数：{}，加锁次数：{}", loaderCount.get(), lockExecutor.getLockCount());
+        assertEquals(1, loaderCount.get(), "loader 只应执行一次");
+        assertEquals(1, lockExecutor.getLockCount(), "分布式锁只应申请一次");
+    }
+
+    @Test
+    @DisplayName("leader 加载失败时异常传递给所有等待者")
+    void shouldPropagateLeaderFailureToFollowers() throws Exception {
+        CountingLockExecutor lockExecutor = new CountingLockExecutor();
+        CountDownLatch arrived = new CountDownLatch(THREAD_COUNT);
+        SmartCacheManager manager = newManager(lockExecutor, true, arrived);
+        AtomicInteger loaderCount = new AtomicInteger();
+
+        List<Future<String>> futures = runConcurrently(manager, () -> {
+            loaderCount.incrementAndGet();
+            awaitFollowersJoined(manager, arrived);
+            throw new IllegalStateException("测试加载失败");
+        });
+
+        for (Future<String> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof CacheLoadException, "等待者应收到 leader 的加载异常");
+        }
+        log.info("single-flight 失败传播，loader 次数：{}", loaderCount.get());
+        assertEquals(1, loaderCount.get(), "失败时 loader 也只应执行一次");
+    }
+
+    @Test
+    @DisplayName("关闭 single-flight 后保持逐线程加锁行为")
+    void shouldFallbackToPerThreadLockWhenDisabled() throws Exception {
+        CountingLockExecutor lockExecutor = new CountingLockExecutor();
+        SmartCacheManager manager = newManager(lockExecutor, false, new CountDownLatch(0));
+
+        String result = manager.get(CACHE_NAME, CACHE_KEY, () -> "value");
+        String again = manager.get(CACHE_NAME, CACHE_KEY + "-other", () -> "value");
+
+        assertEquals("value", result);
+        assertEquals("value", again);
+        assertEquals(2, lockExecutor.getLockCount(), "关闭后每次 miss 都应直接申请分布式锁");
+    }
+
+    private List<Future<String>> runConcurrently(SmartCacheManager manager, Callable<String> loader)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return manager.get(CACHE_NAME, CACHE_KEY, loader);
+                }));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            start.countDown();
+            return futures;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 在 leader 的 loader 内调用：先等全部调用方查完 L1，再等其余调用方挂到 leader 的在途加载上，之后才放行 leader
+     *
+     * <p>等待者通过 {@link CompletableFuture#get} 挂起时会在 future 上登记一个依赖，
+     * 依赖数达到调用方数 - 1 即说明全部等待者已加入，不依赖 sleep 的时长。
+     */
+    @SuppressWarnings("unchecked")
+    private void awaitFollowersJoined(SmartCacheManager manager, CountDownLatch arrived) throws InterruptedException {
+        assertTrue(arrived.await(5, TimeUnit.SECONDS), "全部调用方应在超时前查完 L1");
+        Map<String, CompletableFuture<Object>> inFlightLoads =
+                (Map<String, CompletableFuture<Object>>) ReflectionTestUtils.getField(manager, "inFlightLoads");
+        CompletableFuture<Object> flight = inFlightLoads.values().iterator().next();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.getNumberOfDependents() < THREAD_COUNT - 1) {
+            assertTrue(System.nanoTime() < deadline, "等待者应在超时前加入在途加载");
+            Thread.yield();
+        }
+    }
+
+    private SmartCacheManager newManager(CountingLockExecutor lockExecutor, boolean singleFlightEnabled,
+                                         CountDownLatch arrived) {
+        SmartCacheManager manager = new SmartCacheManager();
+        SmartCacheProperties properties = new SmartCacheProperties();
+        properties.getLock().setSingleFlightEnabled(singleFlightEnabled);
+        ReflectionTestUtils.setField(manager, "properties", properties);
+        ReflectionTestUtils.setField(manager, "redisLock", new SimpleRedisLock(lockExecutor));
+        L1Cache l1Cache = mock(L1Cache.class);
+        when(l1Cache.get(anyString(), anyString())).thenAnswer(invocation -> {
+            arrived.countDown();
+            return null;
+        });
+        ReflectionTestUtils.setField(manager, "l1Cache", l1Cache);
+        ReflectionTestUtils.setField(manager, "l2Cache", mock(L2Cache.class));
+        return manager;
+    }
+
+    static class CountingLockExecutor implements RedisLockExecutor {
+
+        private final AtomicInteger lockCount = new AtomicInteger();
+
+        @Override
+        public boolean tryLock(String lockKey, String lockValue, long expireTime, TimeUnit timeUnit) {
+            lockCount.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public boolean unlock(String lockKey, String lockValue) {
+            return true;
+        }
+
+        @Override
+        public boolean renew(String lockKey, String lockValue, long leaseTime, TimeUnit timeUnit) {
+            return true;
+        }
+
+        int getLockCount() {
+            return lockCount.get();
+        }
+    }
+}
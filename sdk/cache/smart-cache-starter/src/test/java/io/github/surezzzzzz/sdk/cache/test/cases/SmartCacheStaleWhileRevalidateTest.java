@@ -0,0 +1,121 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.surezzzzzz.sdk.cache.configuration.SmartCacheProperties;
+import io.github.surezzzzzz.sdk.cache.layer.L1Cache;
+import io.github.surezzzzzz.sdk.cache.layer.L2Cache;
+import io.github.surezzzzzz.sdk.cache.manager.SmartCacheManager;
+import io.github.surezzzzzz.sdk.cache.serializer.JacksonSmartCacheSerializer;
+import io.github.surezzzzzz.sdk.cache.serializer.PackageSmartCacheTypeValidator;
+import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheEntry;
+import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheSerializer;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * L2 stale-while-revalidate 测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class SmartCacheStaleWhileRevalidateTest {
+
+    private static final String CACHE_NAME = "swr-cache";
+    private static final String CACHE_KEY = "swr-key";
+
+    @Test
+    @DisplayName("软过期后立即返回旧值并在后台刷新一次")
+    void shouldReturnStaleValueAndRevalidateInBackground() {
+        L2Cache l2Cache = mock(L2Cache.class);
+        long softExpiredAt = System.currentTimeMillis() - 1000L;
+        when(l2Cache.getEntry(eq(CACHE_NAME), eq(CACHE_KEY), any()))
+                .thenReturn(new SmartCacheEntry("stale-value", softExpiredAt, 10L));
+        SmartCacheManager manager = newManager(l2Cache);
+        AtomicInteger loaderCount = new AtomicInteger();
+
+        String result = manager.get(CACHE_NAME, CACHE_KEY, () -> {
+            loaderCount.incrementAndGet();
+            return "fresh-value";
+        });
+
+        log.info("stale-while-revalidate 返回：{}，loader 次数：{}", result, loaderCount.get());
+        assertEquals("stale-value", result, "软过期后应立即返回旧值");
+        assertEquals(1, loaderCount.get(), "后台应刷新一次");
+        verify(l2Cache).put(eq(CACHE_NAME), eq(CACHE_KEY), eq("fresh-value"), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("未软过期且 beta 为 0 时不触发刷新")
+    void shouldNotRevalidateFreshEntry() {
+        L2Cache l2Cache = mock(L2Cache.class);
+        long softExpireAt = System.currentTimeMillis() + 60_000L;
+        when(l2Cache.getEntry(eq(CACHE_NAME), eq(CACHE_KEY), any()))
+                .thenReturn(new SmartCacheEntry("fresh-value", softExpireAt, 10L));
+        SmartCacheManager manager = newManager(l2Cache);
+        SmartCacheProperties properties = (SmartCacheProperties) ReflectionTestUtils.getField(manager, "properties");
+        properties.getL2().getStaleWhileRevalidate().setBeta(0);
+        AtomicInteger loaderCount = new AtomicInteger();
+
+        String result = manager.get(CACHE_NAME, CACHE_KEY, () -> {
+            loaderCount.incrementAndGet();
+            return "other-value";
+        });
+
+        assertEquals("fresh-value", result);
+        assertEquals(0, loaderCount.get(), "未软过期不应刷新");
+        verify(l2Cache, never()).put(anyString(), anyString(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("XFetch 在加载耗时远大于剩余软 TTL 时提前刷新")
+    void shouldRefreshEarlyWhenComputeCostDominates() {
+        long now = System.currentTimeMillis();
+        SmartCacheEntry entry = new SmartCacheEntry("value", now + 1L, 3_600_000L);
+
+        assertTrue(entry.shouldRefresh(now, 1.0), "加载耗时远大于剩余时间时应提前刷新");
+        assertFalse(new SmartCacheEntry("value", null, null).shouldRefresh(now, 1.0),
+                "无软过期元数据时不应刷新");
+    }
+
+    @Test
+    @DisplayName("Jackson 序列化器保留软过期元数据")
+    void shouldRoundTripSoftExpireMetadata() {
+        SmartCacheSerializer serializer = new JacksonSmartCacheSerializer(new ObjectMapper(),
+                new PackageSmartCacheTypeValidator(Collections.singletonList("java.lang")));
+
+        String payload = serializer.serialize("value", String.class, 123456L, 42L);
+        SmartCacheEntry entry = serializer.deserializeEntry(payload, Object.class);
+
+        log.info("stale-while-revalidate payload：{}", payload);
+        assertEquals("value", entry.getValue());
+        assertEquals(Long.valueOf(123456L), entry.getSoftExpireAt());
+        assertEquals(Long.valueOf(42L), entry.getComputeMillis());
+        assertFalse(serializer.serialize("value", String.class).contains("softExpireAt"),
+                "未开启时 payload 不应携带软过期字段");
+    }
+
+    private SmartCacheManager newManager(L2Cache l2Cache) {
+        SmartCacheManager manager = new SmartCacheManager();
+        SmartCacheProperties properties = new SmartCacheProperties();
+        properties.getL2().getStaleWhileRevalidate().setEnabled(true);
+        Executor directExecutor = Runnable::run;
+        ReflectionTestUtils.setField(manager, "properties", properties);
+        ReflectionTestUtils.setField(manager, "l1Cache", mock(L1Cache.class));
+        ReflectionTestUtils.setField(manager, "l2Cache", l2Cache);
+        ReflectionTestUtils.setField(manager, "preloadExecutor", directExecutor);
+        return manager;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.surezzzzzz.sdk.cache.test.cases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.surezzzzzz.sdk.cache.exception.CacheSerializationException;
+import io.github.surezzzzzz.sdk.cache.serializer.JacksonSmartCacheSerializer;
+import io.github.surezzzzzz.sdk.cache.serializer.PackageSmartCacheTypeValidator;
+import io.github.surezzzzzz.sdk.cache.serializer.SmartCacheEntry;
+import io.github.surezzzzzz.sdk.cache.serializer.SmileSmartCacheBinarySerializer;
+import io.github.surezzzzzz.sdk.cache.test.SmartCacheTestApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smile 二进制序列化器测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = SmartCacheTestApplication.class)
+class SmileSmartCacheBinarySerializerTest {
+
+    private static final PackageSmartCacheTypeValidator VALIDATOR =
+            new PackageSmartCacheTypeValidator(Arrays.asList("java.lang", "java.util"));
+
+    @Test
+    @DisplayName("按声明类型往返序列化并携带软过期元数据")
+    void shouldRoundTripWithMetadata() {
+        SmileSmartCacheBinarySerializer serializer = new SmileSmartCacheBinarySerializer(VALIDATOR,
+                Collections.emptyMap(), 4096);
+
+        byte[] payload = serializer.serialize("value", String.class, 123456L, 42L);
+        SmartCacheEntry entry = serializer.deserializeEntry(payload, Object.class);
+
+        assertTrue(serializer.accepts(payload));
+        assertEquals("value", entry.getValue());
+        assertEquals(Long.valueOf(123456L), entry.getSoftExpireAt());
+        assertEquals(Long.valueOf(42L), entry.getComputeMillis());
+        assertNull(serializer.deserializeEntry(serializer.serialize("value", String.class), String.class).getSoftExpireAt(),
+                "未携带元数据时软过期时间应为空");
+    }
+
+    @Test
+    @DisplayName("登记 type-id 后 payload 不再写入类名")
+    void shouldWriteTypeIdInsteadOfClassName() {
+        Map<String, Integer> typeIds = new HashMap<>();
+        typeIds.put(ArrayList.class.getName(), 7);
+        SmileSmartCacheBinarySerializer withTypeId = new SmileSmartCacheBinarySerializer(VALIDATOR, typeIds, 0);
+        SmileSmartCacheBinarySerializer withoutTypeId = new SmileSmartCacheBinarySerializer(VALIDATOR,
+                Collections.emptyMap(), 0);
+        List<String> value = new ArrayList<>(Arrays.asList("a", "b"));
+
+        byte[] compact = withTypeId.serialize(value, ArrayList.class);
+        byte[] named = withoutTypeId.serialize(value, ArrayList.class);
+
+        log.info("type-id payload {} 字节，类名 payload {} 字节", compact.length, named.length);
+        assertTrue(compact.length < named.length, "type-id payload 应更短");
+        assertFalse(new String(compact, StandardCharsets.ISO_8859_1).contains(ArrayList.class.getName()));
+        assertEquals(value, withTypeId.deserialize(compact, Object.class));
+    }
+
+    @Test
+    @DisplayName("超过阈值的数据段被压缩且可还原")
+    void shouldCompressLargePayload() {
+        SmileSmartCacheBinarySerializer compressing = new SmileSmartCacheBinarySerializer(VALIDATOR,
+                Collections.emptyMap(), 128);
+        SmileSmartCacheBinarySerializer plain = new SmileSmartCacheBinarySerializer(VALIDATOR,
+                Collections.emptyMap(), 0);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append("smart-cache-");
+        }
+        String value = builder.toString();
+
+        byte[] compressed = compressing.serialize(value, String.class);
+        byte[] uncompressed = plain.serialize(value, String.class);
+
+        log.info("压缩后 {} 字节，未压缩 {} 字节", compressed.length, uncompressed.length);
+        assertTrue(compressed.length < uncompressed.length, "重复数据压缩后应更短");
+        assertEquals(value, compressing.deserialize(compressed, String.class));
+    }
+
+    @Test
+    @DisplayName("类名不在可信包内时拒绝按 Object 读取")
+    void shouldRejectUntrustedType() {
+        SmileSmartCacheBinarySerializer writer = new SmileSmartCacheBinarySerializer(
+                new PackageSmartCacheTypeValidator(Collections.singletonList("java")), Collections.emptyMap(), 0);
+        SmileSmartCacheBinarySerializer reader = new SmileSmartCacheBinarySerializer(
+                new PackageSmartCacheTypeValidator(Collections.singletonList("java.lang")), Collections.emptyMap(), 0);
+
+        byte[] payload = writer.serialize(new ArrayList<>(Collections.singletonList("x")), ArrayList.class);
+
+        assertThrows(CacheSerializationException.class, () -> reader.deserialize(payload, Object.class));
+    }
+
+    @Test
+    @DisplayName("JSON payload 不被二进制序列化器识别")
+    void shouldNotAcceptJsonPayload() {
+        SmileSmartCacheBinarySerializer serializer = new SmileSmartCacheBinarySerializer(VALIDATOR,
+                Collections.emptyMap(), 0);
+        String json = new JacksonSmartCacheSerializer(new ObjectMapper(), VALIDATOR).serialize("value", String.class);
+
+        assertFalse(serializer.accepts(json.getBytes(StandardCharsets.UTF_8)), "JSON payload 应回退到字符串序列化器");
+    }
+}
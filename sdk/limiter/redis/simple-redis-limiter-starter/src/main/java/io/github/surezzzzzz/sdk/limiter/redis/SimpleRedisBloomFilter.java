@@ -0,0 +1,92 @@
+package io.github.surezzzzzz.sdk.limiter.redis;
+
+import io.github.surezzzzzz.sdk.limiter.redis.exception.InitException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author: Sure.
+ * @description 基于 Redis 位图的布隆过滤器参数与位偏移计算
+ * 位数组 m = -n·ln(p) / (ln2)²，哈希函数个数 k = m/n·ln2；
+ * 元素取 MD5 的前后 64 位作为两个基础哈希，第 i 个位偏移为 (h1 + i·h2) mod m，GETBIT / SETBIT 在 Lua 中原子执行
+ * @Date: 2026/10/17 10:00
+ */
+@Getter
+public final class SimpleRedisBloomFilter {
+
+    /**
+     * Redis 字符串最大 512MB，即 2^32 位
+     */
+    public static final long MAX_BIT_SIZE = 1L << 32;
+    private static final double LN2 = Math.log(2);
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    public SimpleRedisBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new InitException("布隆过滤器预估元素数必须大于0: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new InitException("布隆过滤器误判率必须在 (0, 1) 之间: " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        if (bits > MAX_BIT_SIZE) {
+            throw new InitException(String.format("布隆过滤器位数组 %d 位超过 Redis 字符串上限 %d 位，请降低预估元素数或提高误判率",
+                    bits, MAX_BIT_SIZE));
+        }
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bitSize = bits;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN2));
+    }
+
+    /**
+     * 计算元素对应的 k 个位偏移
+     *
+     * @param value 元素
+     * @return 位偏移（字符串形式，直接作为 Lua ARGV）
+     */
+    public List<String> offsets(String value) {
+        byte[] digest = md5(value.getBytes(StandardCharsets.UTF_8));
+        long hash1 = toLong(digest, 0);
+        long hash2 = toLong(digest, 8);
+        List<String> offsets = new ArrayList<>(hashFunctions);
+        long combined = hash1;
+        for (int i = 0; i < hashFunctions; i++) {
+            offsets.add(String.valueOf((combined & Long.MAX_VALUE) % bitSize));
+            combined += hash2;
+        }
+        return offsets;
+    }
+
+    /**
+     * 位数组占用内存（字节）
+     */
+    public long getMemoryBytes() {
+        return (bitSize + 7) / 8;
+    }
+
+    private static byte[] md5(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 不可用", e);
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
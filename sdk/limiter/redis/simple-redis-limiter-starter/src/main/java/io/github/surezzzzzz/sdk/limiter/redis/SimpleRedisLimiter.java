@@ -2,6 +2,7 @@ package io.github.surezzzzzz.sdk.limiter.redis;
 
 import io.github.surezzzzzz.sdk.limiter.redis.configuration.RedisLimiterComponent;
 import io.github.surezzzzzz.sdk.limiter.redis.configuration.RedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.constant.SetBackend;
 import io.github.surezzzzzz.sdk.limiter.redis.constant.TokenResult;
 import io.github.surezzzzzz.sdk.limiter.redis.exception.InitException;
 import io.github.surezzzzzz.sdk.lock.redis.SimpleRedisLock;
@@ -57,6 +58,10 @@ public class SimpleRedisLimiter {
     private String setBucket;
     @Getter
     private String compressSetBucket;
+    @Getter
+    private SetBackend setBackend;
+    @Getter
+    private SimpleRedisBloomFilter bloomFilter;
 
     private final RedisScript<Long> storeScript = new DefaultRedisScript<>(
             "local setKey = KEYS[1]\n" +
@@ -82,6 +87,29 @@ public class SimpleRedisLimiter {
                     "end\n" +
                     "return 1",
             Long.class);
+    private final RedisScript<Long> bloomStoreScript = new DefaultRedisScript<>(
+            "local bloomKey = KEYS[1]\n" +
+                    "local tokenKey = KEYS[2]\n" +
+                    "local exists = true\n" +
+                    "for i = 1, #ARGV do\n" +
+                    "    if redis.call('GETBIT', bloomKey, ARGV[i]) == 0 then\n" +
+                    "        exists = false\n" +
+                    "        break\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "if exists then\n" +
+                    "    return 2\n" +
+                    "end\n" +
+                    "local remainingTokens = redis.call('DECR', tokenKey)\n" +
+                    "if remainingTokens < 0 then\n" +
+                    "    redis.call('INCR', tokenKey)\n" +
+                    "    return 0\n" +
+                    "end\n" +
+                    "for i = 1, #ARGV do\n" +
+                    "    redis.call('SETBIT', bloomKey, ARGV[i], 1)\n" +
+                    "end\n" +
+                    "return 1",
+            Long.class);
 
     @PostConstruct
     private void init() {
@@ -93,6 +121,17 @@ public class SimpleRedisLimiter {
         tokenBucket = String.format("%s:%s", redisLimiterProperties.getToken().getBucket(), redisLimiterProperties.getMe());
         setBucket = String.format("%s:%s", redisLimiterProperties.getSet().getBucket(), redisLimiterProperties.getMe());
         compressSetBucket = String.format("%s:%s", redisLimiterProperties.getSet().getCompressBucket(), redisLimiterProperties.getMe());
+        setBackend = SetBackend.fromCode(redisLimiterProperties.getSet().getBackend());
+        if (setBackend == SetBackend.BLOOM) {
+            // bloom 与 set 使用不同的 Redis 类型，追加后缀避免切换存储方式时 WRONGTYPE
+            setBucket = setBucket + ":bloom";
+            compressSetBucket = compressSetBucket + ":bloom";
+            bloomFilter = new SimpleRedisBloomFilter(redisLimiterProperties.getSet().getExpectedInsertions(),
+                    redisLimiterProperties.getSet().getFalsePositiveRate());
+            log.info("Set 桶使用布隆过滤器 - expectedInsertions: {}, falsePositiveRate: {}, bitSize: {}, hashFunctions: {}, memory: {}MB",
+                    bloomFilter.getExpectedInsertions(), bloomFilter.getFalsePositiveRate(), bloomFilter.getBitSize(),
+                    bloomFilter.getHashFunctions(), bloomFilter.getMemoryBytes() / 1024 / 1024);
+        }
         log.info("Redis限流器Key配置 - initLockKey: {}, initializedKey: {}, resetSetLockKey: {}, resetTokenLockKey: {}, tokenBucket: {}, setBucket: {}, compressSetBucket: {}",
                 initLockKey, initializedKey, resetSetLockKey, resetTokenLockKey, tokenBucket, setBucket, compressSetBucket);
         try {
@@ -318,12 +357,22 @@ public class SimpleRedisLimiter {
 
         log.debug("执行 getToken | something: {}, hash: {}", something, hash);
         List<String> keys = Arrays.asList(hash ? compressSetBucket : setBucket, tokenBucket);
+        String member = hash ? String.valueOf(something.hashCode()) : something;
 
-        Long result = simpleRedisLimiterRedisTemplate.execute(
-                storeScript,
-                keys,
-                hash ? String.valueOf(something.hashCode()) : something
-        );
+        Long result;
+        if (setBackend == SetBackend.BLOOM) {
+            result = simpleRedisLimiterRedisTemplate.execute(
+                    bloomStoreScript,
+                    keys,
+                    bloomFilter.offsets(member).toArray()
+            );
+        } else {
+            result = simpleRedisLimiterRedisTemplate.execute(
+                    storeScript,
+                    keys,
+                    member
+            );
+        }
 
         log.debug("执行 getToken | result: {}", result);
         return TokenResult.fromCode(result).getCode();
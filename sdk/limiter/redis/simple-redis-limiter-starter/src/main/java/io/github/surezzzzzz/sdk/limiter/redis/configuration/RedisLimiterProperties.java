@@ -50,6 +50,9 @@ public class RedisLimiterProperties {
         private String cron = "0 0 0 * * ?";
         private String bucket = "surezzzzzz_redis_limiter_set_bucket";
         private String compressBucket = "surezzzzzz_redis_limiter_compress_set_bucket";
+        private String backend = "set";// 去重存储：set（精确）| bloom（布隆过滤器，内存按预估元素数定长）
+        private long expectedInsertions = 10000000L;// bloom 模式下每个重置周期预估的去重元素数
+        private double falsePositiveRate = 0.001;// bloom 模式下的误判率，误判时新元素会被当作已存在
     }
 
     @Getter
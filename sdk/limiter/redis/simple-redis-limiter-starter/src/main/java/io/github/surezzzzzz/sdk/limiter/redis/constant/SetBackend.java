@@ -0,0 +1,37 @@
+package io.github.surezzzzzz.sdk.limiter.redis.constant;
+
+import io.github.surezzzzzz.sdk.limiter.redis.exception.InitException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author: Sure.
+ * @description Set 桶去重存储方式
+ * @Date: 2026/10/17 10:00
+ */
+@Getter
+@AllArgsConstructor
+public enum SetBackend {
+    SET("set", "Redis Set，精确去重，内存随去重元素数线性增长"),
+    BLOOM("bloom", "Redis 位图布隆过滤器，按预估基数定长占用，存在误判");
+
+    private final String code;
+    private final String message;
+
+    public static SetBackend fromCode(String code) {
+        if (code == null || code.trim().isEmpty()) return SET;
+        for (SetBackend backend : values()) {
+            if (backend.code.equalsIgnoreCase(code.trim())) {
+                return backend;
+            }
+        }
+        List<String> validCodes = new ArrayList<>();
+        for (SetBackend backend : values()) {
+            validCodes.add(backend.code);
+        }
+        throw new InitException(String.format("不支持的 set.backend: %s，可选值: %s", code, validCodes));
+    }
+}
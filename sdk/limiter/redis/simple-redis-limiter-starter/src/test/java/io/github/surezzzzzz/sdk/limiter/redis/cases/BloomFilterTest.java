@@ -0,0 +1,83 @@
+package io.github.surezzzzzz.sdk.limiter.redis.cases;
+
+import io.github.surezzzzzz.sdk.limiter.redis.SimpleRedisBloomFilter;
+import io.github.surezzzzzz.sdk.limiter.redis.constant.SetBackend;
+import io.github.surezzzzzz.sdk.limiter.redis.exception.InitException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author: Sure.
+ * @description 布隆过滤器参数与误判率测试（本地 BitSet 模拟 Redis 位图）
+ * @Date: 2026/10/17 10:00
+ */
+@Slf4j
+public class BloomFilterTest {
+
+    @Test
+    public void sizingTest() {
+        SimpleRedisBloomFilter bloomFilter = new SimpleRedisBloomFilter(50000000L, 0.001);
+        log.info("5000 万元素 / 0.1% 误判率: bitSize={}, hashFunctions={}, memory={}MB",
+                bloomFilter.getBitSize(), bloomFilter.getHashFunctions(), bloomFilter.getMemoryBytes() / 1024 / 1024);
+        assertEquals(10, bloomFilter.getHashFunctions());
+        assertTrue(bloomFilter.getMemoryBytes() < 100L * 1024 * 1024, "5000 万元素应在百 MB 以内");
+
+        assertThrows(InitException.class, () -> new SimpleRedisBloomFilter(0L, 0.001));
+        assertThrows(InitException.class, () -> new SimpleRedisBloomFilter(1000L, 1.0));
+        assertThrows(InitException.class, () -> new SimpleRedisBloomFilter(Long.MAX_VALUE / 1024, 0.001));
+    }
+
+    @Test
+    public void falsePositiveRateTest() {
+        int insertions = 100000;
+        double expectedRate = 0.01;
+        SimpleRedisBloomFilter bloomFilter = new SimpleRedisBloomFilter(insertions, expectedRate);
+        BitSet bits = new BitSet((int) bloomFilter.getBitSize());
+
+        for (int i = 0; i < insertions; i++) {
+            List<String> offsets = bloomFilter.offsets("user_" + i);
+            assertEquals(bloomFilter.getHashFunctions(), offsets.size());
+            for (String offset : offsets) {
+                bits.set(Integer.parseInt(offset));
+            }
+        }
+        for (int i = 0; i < insertions; i++) {
+            assertTrue(contains(bloomFilter, bits, "user_" + i), "已插入元素不能漏判");
+        }
+
+        int falsePositives = 0;
+        int probes = 100000;
+        for (int i = 0; i < probes; i++) {
+            if (contains(bloomFilter, bits, "other_" + i)) {
+                falsePositives++;
+            }
+        }
+        double actualRate = (double) falsePositives / probes;
+        log.info("预期误判率: {}, 实际误判率: {}", expectedRate, actualRate);
+        assertTrue(actualRate < expectedRate * 1.5, "实际误判率应接近配置值: " + actualRate);
+    }
+
+    private boolean contains(SimpleRedisBloomFilter bloomFilter, BitSet bits, String value) {
+        for (String offset : bloomFilter.offsets(value)) {
+            if (!bits.get(Integer.parseInt(offset))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void setBackendCodeTest() {
+        assertEquals(SetBackend.SET, SetBackend.fromCode(null));
+        assertEquals(SetBackend.BLOOM, SetBackend.fromCode(" Bloom "));
+        InitException exception = assertThrows(InitException.class, () -> SetBackend.fromCode("bloon"));
+        log.info("非法 backend: {}", exception.getMessage());
+        assertTrue(exception.getMessage().contains("set") && exception.getMessage().contains("bloom"),
+                "错误信息应列出可选值");
+    }
+}
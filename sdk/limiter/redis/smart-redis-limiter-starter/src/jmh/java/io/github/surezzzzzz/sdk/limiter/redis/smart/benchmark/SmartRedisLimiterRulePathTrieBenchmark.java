@@ -0,0 +1,121 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.benchmark;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterHttpMethod;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.support.SmartRedisLimiterRulePathTrie;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 规则路径树基准测试
+ * <p>对比 SmartRedisLimiterRulePathTrie 与原 AntPathMatcher 三轮遍历实现在 10 / 100 / 1000 条规则下的单次匹配耗时。
+ * 规则与请求路径的生成方式与 SmartRedisLimiterRulePathTrieTest 的随机一致性测试相同。</p>
+ *
+ * <p>运行：{@code ./gradlew :sdk:limiter:redis:smart-redis-limiter-starter:jmh}</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmartRedisLimiterRulePathTrieBenchmark {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE"};
+    private static final int REQUEST_COUNT = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int ruleCount;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private List<SmartRedisLimiterProperties.SmartInterceptorRule> rules;
+    private SmartRedisLimiterRulePathTrie trie;
+    private String[] paths;
+    private String[] methods;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20261017L);
+        rules = randomRules(random, ruleCount);
+        trie = new SmartRedisLimiterRulePathTrie(rules);
+        paths = new String[REQUEST_COUNT];
+        methods = new String[REQUEST_COUNT];
+        String[] tails = {"", "/1", "/2/detail", "/a.json", "/list", "/x/y/export", "/x/y/z", "/"};
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            paths[i] = "/api/m" + random.nextInt(64) + "/r" + random.nextInt(8) + tails[random.nextInt(tails.length)];
+            methods[i] = METHODS[random.nextInt(METHODS.length)];
+        }
+    }
+
+    @Benchmark
+    public void trieFindFirst(Blackhole blackhole) {
+        int index = next();
+        blackhole.consume(trie.findFirst(paths[index], methods[index]));
+    }
+
+    @Benchmark
+    public void antPathMatcherFindFirst(Blackhole blackhole) {
+        int index = next();
+        blackhole.consume(referenceFindFirst(paths[index], methods[index]));
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = (index + 1) & (REQUEST_COUNT - 1);
+        return index;
+    }
+
+    /**
+     * 原 SmartRedisLimiterRuleMatchCacheHelper#doFindMatchedRule 的三轮遍历实现
+     */
+    private SmartRedisLimiterProperties.SmartInterceptorRule referenceFindFirst(String uri, String method) {
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if (rule.getPathPattern().equals(uri) && matchMethod(rule, method)) {
+                return rule;
+            }
+        }
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if (rule.getMethod() != null && !rule.getMethod().isEmpty()
+                    && pathMatcher.match(rule.getPathPattern(), uri)
+                    && matchMethod(rule, method)) {
+                return rule;
+            }
+        }
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if ((rule.getMethod() == null || rule.getMethod().isEmpty())
+                    && pathMatcher.match(rule.getPathPattern(), uri)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private boolean matchMethod(SmartRedisLimiterProperties.SmartInterceptorRule rule, String method) {
+        return SmartRedisLimiterHttpMethod.fromCode(rule.getMethod()).matches(method);
+    }
+
+    private List<SmartRedisLimiterProperties.SmartInterceptorRule> randomRules(Random random, int size) {
+        String[] tails = {"", "/*", "/**", "/{id}", "/{id}/detail", "/*.json", "/**/export", "/list"};
+        List<SmartRedisLimiterProperties.SmartInterceptorRule> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SmartRedisLimiterProperties.SmartInterceptorRule rule =
+                    new SmartRedisLimiterProperties.SmartInterceptorRule();
+            rule.setPathPattern("/api/m" + random.nextInt(Math.max(size / 4, 1))
+                    + "/r" + random.nextInt(8)
+                    + tails[random.nextInt(tails.length)]);
+            rule.setMethod(random.nextInt(3) == 0 ? null : METHODS[random.nextInt(METHODS.length)]);
+            result.add(rule);
+        }
+        return result;
+    }
+}
@@ -3,6 +3,7 @@ package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterRedisException;
@@ -10,6 +11,7 @@ import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterS
 import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionPlan;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterScriptCall;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterTimeoutExecutor;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.support.SmartRedisLimiterKeyHelper;
 import lombok.extern.slf4j.Slf4j;
@@ -19,13 +21,16 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.Function;
 
 /**
  * 限流算法抽象基类
- * 统一管理超时控制、降级处理、Redis Route 执行等公共逻辑
+ * 统一管理超时控制、降级处理、Redis Route 执行等公共逻辑；
+ * 子类只需提供窗口 Key 与 ARGV 的构建方式，单次执行与批量执行共用同一份脚本调用与结果解析
  *
  * @author Sure.
  * @Date: 2026-05-11
@@ -75,6 +80,13 @@ public abstract class AbstractSmartRedisLimiterAlgorithm implements SmartRedisLi
         return applicationContext;
     }
 
+    /**
+     * 超时保护线程池，供子类执行限流主流程以外的 Redis 操作
+     */
+    protected SmartRedisLimiterTimeoutExecutor getTimeoutExecutor() {
+        return timeoutExecutor;
+    }
+
     @Override
     public boolean tryAcquire(SmartRedisLimiterContext context,
                               List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
@@ -365,18 +377,118 @@ public abstract class AbstractSmartRedisLimiterAlgorithm implements SmartRedisLi
                 executionResult.isRouteResolved());
     }
 
+    @Override
+    public boolean supportsBatch() {
+        return true;
+    }
+
+    @Override
+    public SmartRedisLimiterScriptCall buildScriptCall(String routeKey,
+                                                       List<String> baseKeys,
+                                                       List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        List<String> keys = new ArrayList<>(limitRules.size());
+        for (int i = 0; i < limitRules.size(); i++) {
+            keys.add(buildScriptKey(baseKeys.get(i), limitRules.get(i)));
+        }
+        return SmartRedisLimiterScriptCall.builder()
+                .routeKey(routeKey)
+                .script(getScript())
+                .keys(keys)
+                .args(buildScriptArgs(limitRules))
+                .build();
+    }
+
+    @Override
+    public SmartRedisLimiterResult parseScriptResult(SmartRedisLimiterRedisExecutionResult<List<?>> executionResult) {
+        List<?> result = executionResult.getValue();
+        if (result == null || result.size() < SmartRedisLimiterStarterConstant.LUA_RESULT_FIELD_COUNT) {
+            log.warn("SmartRedisLimiter 限流脚本返回异常，触发降级: key={}", executionResult.getRouteKey());
+            throw scriptException(getScriptResultErrorCode(), getScriptResultErrorMessage(), executionResult);
+        }
+
+        boolean passed = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED_FIELD,
+                executionResult) == SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED;
+        long limit = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_LIMIT_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_LIMIT_FIELD,
+                executionResult);
+        long remaining = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_REMAINING_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_REMAINING_FIELD,
+                executionResult);
+        long resetAt = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_RESET_AT_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_RESET_AT_FIELD,
+                executionResult);
+
+        return SmartRedisLimiterResult.builder()
+                .passed(passed)
+                .limit(limit)
+                .remaining(remaining)
+                .resetAt(resetAt)
+                .routeKey(executionResult.getRouteKey())
+                .datasourceKey(executionResult.getDatasourceKey())
+                .redisMode(executionResult.getRedisMode())
+                .routeRequired(executionResult.isRouteRequired())
+                .routeResolved(executionResult.isRouteResolved())
+                .build();
+    }
+
+    /**
+     * 执行Redis限流检查并返回详细结果
+     * Lua脚本应返回列表：[passed(1/0), limit, remaining, resetAt]
+     */
+    protected SmartRedisLimiterResult doExecuteWithResult(SmartRedisLimiterContext context,
+                                                          List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                                          String keyStrategy,
+                                                          String baseKey) {
+        SmartRedisLimiterScriptCall call = buildScriptCall(
+                baseKey, Collections.nCopies(limitRules.size(), baseKey), limitRules);
+        SmartRedisLimiterRedisExecutionResult<List<?>> executionResult = executeRedis(baseKey,
+                redisTemplate -> redisTemplate.execute(
+                        call.getScript(), call.getKeys(), call.getArgs().toArray(new Object[0])));
+        SmartRedisLimiterResult result = parseScriptResult(executionResult);
+
+        if (!result.isPassed()) {
+            log.warn("SmartRedisLimiter 限流触发: key={}, rules={}", baseKey, limitRules);
+        } else {
+            log.debug("SmartRedisLimiter 限流通过: key={}", baseKey);
+        }
+        return result;
+    }
+
     /**
      * 子类实现：返回Lua脚本文本
      */
     protected abstract String getScriptText();
 
     /**
-     * 子类实现：执行Redis限流检查并返回详细结果
-     * Lua脚本应返回列表：[passed(1/0), limit, remaining, resetAt]
+     * 子类实现：构建单条规则的窗口 Key
+     *
+     * @param baseKey 基础 Key
+     * @param rule    限流规则
+     * @return 窗口 Key
+     */
+    protected abstract String buildScriptKey(String baseKey, SmartRedisLimiterProperties.SmartLimitRule rule);
+
+    /**
+     * 子类实现：构建脚本 ARGV（规则参数在前，当前时间等公共参数在后）
+     *
+     * @param limitRules 限流规则列表
+     * @return ARGV
+     */
+    protected abstract List<String> buildScriptArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules);
+
+    /**
+     * 子类实现：脚本返回结构非法时的错误码
+     */
+    protected abstract String getScriptResultErrorCode();
+
+    /**
+     * 子类实现：脚本返回结构非法时的错误消息
      */
-    protected abstract SmartRedisLimiterResult doExecuteWithResult(SmartRedisLimiterContext context,
-                                                                   List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
-                                                                   String keyStrategy,
-                                                                   String baseKey);
+    protected abstract String getScriptResultErrorMessage();
 
 }
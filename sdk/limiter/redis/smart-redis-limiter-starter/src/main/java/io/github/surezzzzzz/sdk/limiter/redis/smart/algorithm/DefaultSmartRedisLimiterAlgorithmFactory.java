@@ -2,6 +2,7 @@ package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
 
 import io.github.surezzzzzz.sdk.limiter.redis.smart.annotation.SmartRedisLimiterComponent;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -23,6 +24,18 @@ public class DefaultSmartRedisLimiterAlgorithmFactory implements SmartRedisLimit
     @Autowired
     private SmartRedisLimiterSlidingWindowAlgorithm slidingWindowAlgorithm;
 
+    @Autowired
+    private SmartRedisLimiterGcraAlgorithm gcraAlgorithm;
+
+    @Autowired
+    private SmartRedisLimiterSlidingCounterAlgorithm slidingCounterAlgorithm;
+
+    @Autowired
+    private SmartRedisLimiterLeaseAlgorithm leaseAlgorithm;
+
+    @Autowired
+    private SmartRedisLimiterConcurrencyAlgorithm concurrencyAlgorithm;
+
     @Override
     public SmartRedisLimiterAlgorithm getAlgorithm(String algorithm) {
         if (algorithm == null || algorithm.isEmpty()) {
@@ -33,6 +46,18 @@ public class DefaultSmartRedisLimiterAlgorithmFactory implements SmartRedisLimit
             case SmartRedisLimiterConstant.ALGORITHM_SLIDING:
                 log.debug("使用滑动窗口算法");
                 return slidingWindowAlgorithm;
+            case SmartRedisLimiterStarterConstant.ALGORITHM_GCRA:
+                log.debug("使用 GCRA 算法");
+                return gcraAlgorithm;
+            case SmartRedisLimiterStarterConstant.ALGORITHM_SLIDING_COUNTER:
+                log.debug("使用滑动窗口计数算法");
+                return slidingCounterAlgorithm;
+            case SmartRedisLimiterStarterConstant.ALGORITHM_LEASE:
+                log.debug("使用本地配额租约算法");
+                return leaseAlgorithm;
+            case SmartRedisLimiterStarterConstant.ALGORITHM_CONCURRENCY:
+                log.debug("使用并发限流算法");
+                return concurrencyAlgorithm;
             case SmartRedisLimiterConstant.ALGORITHM_FIXED:
             default:
                 log.debug("使用固定窗口算法");
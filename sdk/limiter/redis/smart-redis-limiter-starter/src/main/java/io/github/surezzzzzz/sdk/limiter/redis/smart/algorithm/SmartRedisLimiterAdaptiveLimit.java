@@ -0,0 +1,81 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import lombok.Getter;
+
+/**
+ * 自适应并发许可数估算（梯度算法）
+ * <p>以长期平均耗时为基线，近期耗时上升说明下游开始排队：
+ * {@code gradient = clamp(tolerance × longRtt / rtt, 0.5, 1)}，
+ * {@code newLimit = limit × gradient + sqrt(limit)}，再按 smoothing 平滑并限制在 [minLimit, maxLimit]。
+ * 耗时稳定时 gradient = 1，许可数按 sqrt(limit) 缓慢回升至 maxLimit；
+ * 在途请求不足估算值一半时视为应用侧空闲，不调整许可数，避免空闲期无限放大。</p>
+ *
+ * <p>估算状态仅保存在本实例，各实例独立收敛；线程安全。</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+final class SmartRedisLimiterAdaptiveLimit {
+
+    /**
+     * 规则配置的许可上限，规则变化后估算状态失效
+     */
+    @Getter
+    private final long maxLimit;
+    private final long minLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int longWindow;
+
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    SmartRedisLimiterAdaptiveLimit(long maxLimit, long minLimit, double tolerance, double smoothing, int longWindow) {
+        this.maxLimit = maxLimit;
+        this.minLimit = Math.min(minLimit, maxLimit);
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+        this.estimatedLimit = maxLimit;
+    }
+
+    /**
+     * 当前估算的许可数
+     */
+    synchronized long getLimit() {
+        return (long) estimatedLimit;
+    }
+
+    /**
+     * 记录一次耗时样本并调整许可数
+     *
+     * @param rttNanos 许可持有时长（纳秒）
+     * @param inFlight 获取许可时的在途请求数
+     * @return 调整后的许可数
+     */
+    synchronized long onSample(long rttNanos, long inFlight) {
+        if (rttNanos <= 0) {
+            return getLimit();
+        }
+        samples++;
+        // 预热阶段为算术平均，之后退化为窗口为 longWindow 的指数移动平均
+        longRttNanos += (rttNanos - longRttNanos) / Math.min(samples, longWindow);
+        // 耗时整体下降（如下游扩容）时加速基线跟随，避免长期维持过高基线
+        if (longRttNanos / rttNanos > SmartRedisLimiterStarterConstant.CONCURRENCY_LONG_RTT_DRIFT_RATIO) {
+            longRttNanos *= SmartRedisLimiterStarterConstant.CONCURRENCY_LONG_RTT_DECAY;
+        }
+        if (inFlight < estimatedLimit * SmartRedisLimiterStarterConstant.CONCURRENCY_APP_LIMITED_RATIO) {
+            return getLimit();
+        }
+
+        double gradient = Math.max(SmartRedisLimiterStarterConstant.CONCURRENCY_MIN_GRADIENT,
+                Math.min(SmartRedisLimiterStarterConstant.CONCURRENCY_MAX_GRADIENT,
+                        tolerance * longRttNanos / rttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        return getLimit();
+    }
+}
@@ -2,8 +2,13 @@ package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
 
 import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.*;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterKeyException;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterConfigurationException;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionPlan;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterScriptCall;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.generator.SmartRedisLimiterKeyGenerator;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.support.SmartRedisLimiterKeyHelper;
 import org.slf4j.Logger;
@@ -89,6 +94,43 @@ public interface SmartRedisLimiterAlgorithm {
                 plan.getFallback());
     }
 
+    /**
+     * 是否支持批量脚本调用（由批量限流按 datasource 合并为一次 pipeline）
+     * <p>不支持时批量限流逐条调用 {@link #tryAcquireWithResult(SmartRedisLimiterContext, SmartRedisLimiterExecutionPlan, String)}。</p>
+     *
+     * @return true-支持
+     */
+    default boolean supportsBatch() {
+        return false;
+    }
+
+    /**
+     * 构建一次脚本调用，baseKeys 与 limitRules 按下标一一对应；
+     * 多个资源的规则合并到同一次调用时，脚本先检查全部窗口再统一扣减，天然是全有或全无
+     *
+     * @param routeKey   路由 Key
+     * @param baseKeys   每条规则所属的基础 Key
+     * @param limitRules 限流规则列表
+     * @return 脚本调用
+     */
+    default SmartRedisLimiterScriptCall buildScriptCall(String routeKey,
+                                                        List<String> baseKeys,
+                                                        List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        throw new SmartRedisLimiterConfigurationException(ErrorCode.BATCH_ALGORITHM_UNSUPPORTED,
+                String.format(ErrorMessage.BATCH_ALGORITHM_UNSUPPORTED, getAlgorithm()));
+    }
+
+    /**
+     * 解析脚本返回值
+     *
+     * @param executionResult Redis 执行结果
+     * @return 限流检查结果
+     */
+    default SmartRedisLimiterResult parseScriptResult(SmartRedisLimiterRedisExecutionResult<List<?>> executionResult) {
+        throw new SmartRedisLimiterConfigurationException(ErrorCode.BATCH_ALGORITHM_UNSUPPORTED,
+                String.format(ErrorMessage.BATCH_ALGORITHM_UNSUPPORTED, getAlgorithm()));
+    }
+
     /**
      * 获取限流脚本
      *
@@ -148,9 +190,11 @@ public interface SmartRedisLimiterAlgorithm {
             return getApplicationContext().getBean(beanName, SmartRedisLimiterKeyGenerator.class);
         } catch (Exception e) {
             log.error("SmartRedisLimiter 无法获取KeyGenerator: {}", beanName, e);
+            // KEY_GENERATOR_NOT_FOUND 定义在 core 错误码中，与上方导入的 starter 错误码同名，需显式限定
             throw new SmartRedisLimiterKeyException(
-                    ErrorCode.KEY_GENERATOR_NOT_FOUND,
-                    String.format(ErrorMessage.KEY_GENERATOR_NOT_FOUND, beanName), e);
+                    io.github.surezzzzzz.sdk.limiter.redis.smart.constant.ErrorCode.KEY_GENERATOR_NOT_FOUND,
+                    String.format(io.github.surezzzzzz.sdk.limiter.redis.smart.constant.ErrorMessage
+                            .KEY_GENERATOR_NOT_FOUND, beanName), e);
         }
     }
 
@@ -11,7 +11,7 @@ public interface SmartRedisLimiterAlgorithmFactory {
     /**
      * 根据算法名称获取算法实现
      *
-     * @param algorithm 算法名称（fixed/sliding）
+     * @param algorithm 算法名称（fixed/sliding/gcra/sliding-counter/lease/concurrency）
      * @return 算法实现
      */
     SmartRedisLimiterAlgorithm getAlgorithm(String algorithm);
@@ -0,0 +1,261 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.annotation.SmartRedisLimiterComponent;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 并发（在途请求数）限流算法实现
+ *
+ * <p>每条规则对应一个 Redis ZSET 信号量：member 为许可 ID，score 为许可到期时间（毫秒）。
+ * 获取时先清理已到期的许可，任一规则的在途数达到 count 即拒绝；全部通过后在每个 ZSET 中登记同一许可 ID。
+ * 放行结果携带 {@link SmartRedisLimiterPermit}，业务完成后归还；未归还的许可在租约（window / unit）到期后自动回收。
+ *
+ * <p>开启 {@code concurrency.adaptive} 后，按许可持有时长（即业务耗时）估算本实例可用的许可数，
+ * 实际生效的许可数为 min(count, 估算值)，耗时上升时收缩、恢复后回升至 count。
+ *
+ * <p>Lua脚本返回值：[passed(1/0), limit, remaining, resetAt]
+ * <ul>
+ *   <li>limit: 最严格规则的许可数</li>
+ *   <li>remaining: 最严格规则登记本次许可后的剩余许可数</li>
+ *   <li>resetAt: 通过时为本次许可的到期时间，拒绝时为最早一个在途许可的到期时间（秒）</li>
+ * </ul>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@SmartRedisLimiterComponent
+@ConditionalOnProperty(prefix = SmartRedisLimiterConstant.CONFIG_PREFIX, name = "enable", havingValue = "true")
+@Slf4j
+public class SmartRedisLimiterConcurrencyAlgorithm extends AbstractSmartRedisLimiterAlgorithm {
+
+    private static final String LIMITER_SCRIPT =
+            "local key_count = #KEYS\n" +
+                    "local current_time = tonumber(ARGV[key_count * 2 + 1])\n" +
+                    "local permit_id = ARGV[key_count * 2 + 2]\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local limit = tonumber(ARGV[i * 2 - 1])\n" +
+                    "    redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', current_time)\n" +
+                    "    if redis.call('ZCARD', KEYS[i]) >= limit then\n" +
+                    "        local earliest = redis.call('ZRANGE', KEYS[i], 0, 0, 'WITHSCORES')\n" +
+                    "        local expire_at = current_time\n" +
+                    "        if earliest[2] then\n" +
+                    "            expire_at = tonumber(earliest[2])\n" +
+                    "        end\n" +
+                    "        return {0, limit, 0, math.ceil(expire_at / 1000)}\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "local min_remaining = nil\n" +
+                    "local min_limit = nil\n" +
+                    "local min_reset = nil\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local limit = tonumber(ARGV[i * 2 - 1])\n" +
+                    "    local lease = tonumber(ARGV[i * 2])\n" +
+                    "    redis.call('ZADD', KEYS[i], current_time + lease, permit_id)\n" +
+                    "    redis.call('PEXPIRE', KEYS[i], lease)\n" +
+                    "    local remaining = math.max(limit - redis.call('ZCARD', KEYS[i]), 0)\n" +
+                    "    if min_remaining == nil or remaining < min_remaining then\n" +
+                    "        min_remaining = remaining\n" +
+                    "        min_limit = limit\n" +
+                    "        min_reset = math.ceil((current_time + lease) / 1000)\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "return {1, min_limit, min_remaining, min_reset}";
+
+    private static final String RELEASE_SCRIPT =
+            "for i = 1, #KEYS do\n" +
+                    "    redis.call('ZREM', KEYS[i], ARGV[1])\n" +
+                    "end\n" +
+                    "return 1";
+
+    private final DefaultRedisScript<Long> releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+
+    /**
+     * 自适应许可数估算，Key 为限流基础 Key
+     */
+    private final Map<String, SmartRedisLimiterAdaptiveLimit> adaptiveLimits = new ConcurrentHashMap<>();
+
+    @Override
+    public String getAlgorithm() {
+        return SmartRedisLimiterStarterConstant.ALGORITHM_CONCURRENCY;
+    }
+
+    @Override
+    protected String getScriptText() {
+        return LIMITER_SCRIPT;
+    }
+
+    /**
+     * 当前生效的自适应许可数
+     *
+     * @param baseKey 限流基础 Key
+     * @return 估算的许可数，未开启自适应或尚无该 Key 的状态时返回 -1
+     */
+    public long getAdaptiveLimit(String baseKey) {
+        SmartRedisLimiterAdaptiveLimit adaptiveLimit = adaptiveLimits.get(baseKey);
+        return adaptiveLimit == null ? -1L : adaptiveLimit.getLimit();
+    }
+
+    /**
+     * 清空全部自适应状态，许可数恢复为规则配置的 count
+     */
+    public void clearAdaptiveLimits() {
+        adaptiveLimits.clear();
+    }
+
+    @Override
+    protected SmartRedisLimiterResult doExecuteWithResult(SmartRedisLimiterContext context,
+                                                          List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                                          String keyStrategy,
+                                                          String baseKey) {
+        List<String> keys = new ArrayList<>();
+        for (SmartRedisLimiterProperties.SmartLimitRule rule : limitRules) {
+            keys.add(buildScriptKey(baseKey, rule));
+        }
+        SmartRedisLimiterAdaptiveLimit adaptiveLimit = resolveAdaptiveLimit(baseKey, limitRules);
+        long estimatedLimit = adaptiveLimit == null ? Long.MAX_VALUE : adaptiveLimit.getLimit();
+        String permitId = UUID.randomUUID().toString();
+        List<String> args = buildPermitArgs(limitRules, estimatedLimit, System.currentTimeMillis(), permitId);
+
+        SmartRedisLimiterRedisExecutionResult<List<?>> executionResult = executeRedis(baseKey,
+                redisTemplate -> redisTemplate.execute(getScript(), keys, args.toArray(new Object[0])));
+        SmartRedisLimiterResult result = parseScriptResult(executionResult);
+
+        if (!result.isPassed()) {
+            log.warn("SmartRedisLimiter 并发限流触发: key={}, rules={}, adaptiveLimit={}",
+                    baseKey, limitRules, adaptiveLimit == null ? null : estimatedLimit);
+            return result;
+        }
+        log.debug("SmartRedisLimiter 并发许可获取: key={}, permitId={}", baseKey, permitId);
+
+        SmartRedisLimiterPermit permit = new SmartRedisLimiterPermit(this, permitId, baseKey, keys,
+                result.getLimit() - result.getRemaining(), System.nanoTime());
+        return SmartRedisLimiterResult.builder()
+                .passed(true)
+                .limit(result.getLimit())
+                .remaining(result.getRemaining())
+                .resetAt(result.getResetAt())
+                .permit(permit)
+                .routeKey(result.getRouteKey())
+                .datasourceKey(result.getDatasourceKey())
+                .redisMode(result.getRedisMode())
+                .routeRequired(result.isRouteRequired())
+                .routeResolved(result.isRouteResolved())
+                .build();
+    }
+
+    /**
+     * 归还许可：带超时保护删除 Redis 中的许可，失败时仅记录日志，由租约到期兜底回收
+     */
+    void release(SmartRedisLimiterPermit permit) {
+        long holdNanos = System.nanoTime() - permit.getAcquiredAtNanos();
+        long timeout = getProperties().getRedis().getCommandTimeout();
+        FutureTask<SmartRedisLimiterRedisExecutionResult<Long>> task = new FutureTask<>(() ->
+                executeRedis(permit.getBaseKey(), redisTemplate -> redisTemplate.execute(
+                        releaseScript, permit.getKeys(), permit.getPermitId())));
+        try {
+            getTimeoutExecutor().execute(task);
+            task.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("SmartRedisLimiter 并发许可归还超时({}ms)，将在租约到期后回收: key={}",
+                    timeout, permit.getBaseKey());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            log.warn("SmartRedisLimiter 并发许可归还被中断，将在租约到期后回收: key={}", permit.getBaseKey());
+        } catch (Exception e) {
+            log.warn("SmartRedisLimiter 并发许可归还失败，将在租约到期后回收: key={}", permit.getBaseKey(), e);
+        }
+
+        SmartRedisLimiterAdaptiveLimit adaptiveLimit = adaptiveLimits.get(permit.getBaseKey());
+        if (adaptiveLimit != null) {
+            long limit = adaptiveLimit.onSample(holdNanos, permit.getInFlight());
+            log.debug("SmartRedisLimiter 自适应并发: key={}, rtt={}ns, inFlight={}, limit={}",
+                    permit.getBaseKey(), holdNanos, permit.getInFlight(), limit);
+        }
+    }
+
+    /**
+     * 许可需要在业务完成后逐个归还，批量限流时逐条执行
+     */
+    @Override
+    public boolean supportsBatch() {
+        return false;
+    }
+
+    @Override
+    protected String buildScriptKey(String baseKey, SmartRedisLimiterProperties.SmartLimitRule rule) {
+        return buildWindowKey(baseKey, rule.getWindowSeconds(), SmartRedisLimiterStarterConstant.SUFFIX_CONCURRENCY);
+    }
+
+    @Override
+    protected List<String> buildScriptArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        return buildPermitArgs(limitRules, Long.MAX_VALUE, System.currentTimeMillis(), UUID.randomUUID().toString());
+    }
+
+    @Override
+    protected String getScriptResultErrorCode() {
+        return ErrorCode.CONCURRENCY_SCRIPT_RESULT_INVALID;
+    }
+
+    @Override
+    protected String getScriptResultErrorMessage() {
+        return ErrorMessage.CONCURRENCY_SCRIPT_RESULT_INVALID;
+    }
+
+    /**
+     * 构建许可脚本 ARGV：每条规则 [许可数, 租约毫秒]，末尾为当前毫秒时间戳与许可 ID
+     */
+    private List<String> buildPermitArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                         long estimatedLimit,
+                                         long currentTimeMillis,
+                                         String permitId) {
+        List<String> args = new ArrayList<>();
+        for (SmartRedisLimiterProperties.SmartLimitRule rule : limitRules) {
+            args.add(String.valueOf(Math.min(rule.getCount(), estimatedLimit)));
+            args.add(String.valueOf(rule.getWindowSeconds() * SmartRedisLimiterConstant.MILLIS_PER_SECOND));
+        }
+        args.add(String.valueOf(currentTimeMillis));
+        args.add(permitId);
+        return args;
+    }
+
+    /**
+     * 获取或创建自适应状态；规则 count 变化后重新估算，条目已满时新 Key 不做自适应
+     */
+    private SmartRedisLimiterAdaptiveLimit resolveAdaptiveLimit(
+            String baseKey, List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        SmartRedisLimiterProperties.ConcurrencyConfig config = getProperties().getConcurrency();
+        if (!Boolean.TRUE.equals(config.getAdaptive())) {
+            return null;
+        }
+        long maxLimit = limitRules.stream()
+                .mapToLong(SmartRedisLimiterProperties.SmartLimitRule::getCount)
+                .min()
+                .orElse(0L);
+        if (!adaptiveLimits.containsKey(baseKey) && adaptiveLimits.size() >= config.getMaxEntries()) {
+            return null;
+        }
+        return adaptiveLimits.compute(baseKey, (key, current) -> current != null && current.getMaxLimit() == maxLimit
+                ? current
+                : new SmartRedisLimiterAdaptiveLimit(maxLimit, config.getMinLimit(), config.getTolerance(),
+                config.getSmoothing(), config.getLongWindow()));
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.annotation.SmartRedisLimiterComponent;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GCRA（Generic Cell Rate Algorithm）限流算法实现
+ *
+ * <p>每条规则只保存一个理论到达时间（TAT，微秒）字符串，内存与阈值大小无关。
+ * 发放间隔 = 窗口微秒数 / 阈值，允许的突发量等于阈值；请求到达时若 {@code TAT + 间隔 - 窗口 > now} 则拒绝，
+ * 否则将 TAT 推进一个间隔。多规则时先全部检查、再全部推进，任一规则拒绝不会消耗其它规则的配额。
+ *
+ * <p>Lua脚本返回值：[passed(1/0), limit, remaining, resetAt]
+ * <ul>
+ *   <li>passed: 1=通过, 0=拒绝</li>
+ *   <li>limit: 最严格规则的限流阈值</li>
+ *   <li>remaining: 最严格规则当前还可突发的请求数</li>
+ *   <li>resetAt: 通过时为配额完全恢复的 Unix 时间戳（秒），拒绝时为下一次可通过的 Unix 时间戳（秒）</li>
+ * </ul>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@SmartRedisLimiterComponent
+@ConditionalOnProperty(prefix = SmartRedisLimiterConstant.CONFIG_PREFIX, name = "enable", havingValue = "true")
+@Slf4j
+public class SmartRedisLimiterGcraAlgorithm extends AbstractSmartRedisLimiterAlgorithm {
+
+    private static final String LIMITER_SCRIPT =
+            "local key_count = #KEYS\n" +
+                    "local current_time = tonumber(ARGV[key_count * 3 + 1])\n" +
+                    "local MICROSECONDS_PER_SECOND = 1000000\n" +
+                    "local MICROSECONDS_PER_MILLISECOND = 1000\n" +
+                    "local tats = {}\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local window = tonumber(ARGV[i * 3 - 1])\n" +
+                    "    local interval = tonumber(ARGV[i * 3])\n" +
+                    "    local tat = tonumber(redis.call('GET', KEYS[i]) or '0')\n" +
+                    "    if tat < current_time then\n" +
+                    "        tat = current_time\n" +
+                    "    end\n" +
+                    "    local allow_at = tat + interval - window\n" +
+                    "    if allow_at > current_time then\n" +
+                    "        return {0, tonumber(ARGV[i * 3 - 2]), 0, math.ceil(allow_at / MICROSECONDS_PER_SECOND)}\n" +
+                    "    end\n" +
+                    "    tats[i] = tat\n" +
+                    "end\n" +
+                    "local min_remaining = nil\n" +
+                    "local min_limit = nil\n" +
+                    "local min_reset = nil\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local limit = tonumber(ARGV[i * 3 - 2])\n" +
+                    "    local window = tonumber(ARGV[i * 3 - 1])\n" +
+                    "    local interval = tonumber(ARGV[i * 3])\n" +
+                    "    local new_tat = tats[i] + interval\n" +
+                    "    local ttl = math.ceil((new_tat - current_time) / MICROSECONDS_PER_MILLISECOND) + 1\n" +
+                    "    redis.call('SET', KEYS[i], new_tat, 'PX', ttl)\n" +
+                    "    local remaining = math.floor((window - (new_tat - current_time)) / interval)\n" +
+                    "    remaining = math.max(math.min(remaining, limit - 1), 0)\n" +
+                    "    if min_remaining == nil or remaining < min_remaining then\n" +
+                    "        min_remaining = remaining\n" +
+                    "        min_limit = limit\n" +
+                    "        min_reset = math.ceil(new_tat / MICROSECONDS_PER_SECOND)\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "return {1, min_limit, min_remaining, min_reset}";
+
+    @Override
+    public String getAlgorithm() {
+        return SmartRedisLimiterStarterConstant.ALGORITHM_GCRA;
+    }
+
+    @Override
+    protected String getScriptText() {
+        return LIMITER_SCRIPT;
+    }
+
+    @Override
+    protected String buildScriptKey(String baseKey, SmartRedisLimiterProperties.SmartLimitRule rule) {
+        return buildWindowKey(baseKey, rule.getWindowSeconds(), SmartRedisLimiterStarterConstant.SUFFIX_GCRA);
+    }
+
+    @Override
+    protected List<String> buildScriptArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        List<String> args = new ArrayList<>();
+        for (SmartRedisLimiterProperties.SmartLimitRule rule : limitRules) {
+            long windowMicros = rule.getWindowSeconds() * SmartRedisLimiterStarterConstant.MICROSECONDS_PER_SECOND;
+            args.add(String.valueOf(rule.getCount()));
+            args.add(String.valueOf(windowMicros));
+            args.add(String.valueOf(Math.max(windowMicros / rule.getCount(),
+                    SmartRedisLimiterStarterConstant.GCRA_MIN_EMISSION_INTERVAL_MICROS)));
+        }
+
+        args.add(String.valueOf(System.currentTimeMillis()
+                * SmartRedisLimiterStarterConstant.MICROSECONDS_PER_MILLISECOND));
+        return args;
+    }
+
+    @Override
+    protected String getScriptResultErrorCode() {
+        return ErrorCode.GCRA_SCRIPT_RESULT_INVALID;
+    }
+
+    @Override
+    protected String getScriptResultErrorMessage() {
+        return ErrorMessage.GCRA_SCRIPT_RESULT_INVALID;
+    }
+}
@@ -0,0 +1,320 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.annotation.SmartRedisLimiterComponent;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionPlan;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地配额租约限流算法实现
+ *
+ * <p>每次访问 Redis 时按 {@code lease.ratio × count} 一次性预取一批配额（固定窗口计数，预取量全部计入已使用），
+ * 当前请求消耗 1 个，其余保存在本地原子计数器中；后续请求直接从本地扣减，不访问 Redis、不经过超时保护线程池，
+ * 直到本地配额耗尽、租约到期（{@code lease.max-lease-millis} 与窗口剩余时间取小）或限额变化。
+ *
+ * <p>精度取舍：预取的配额在 Redis 中已计为使用，因此全局放行数不会超过阈值；
+ * 但其它实例未用完的配额在租约到期前无法被本实例使用，比例越大 Redis 往返越少、提前拒绝越多。
+ *
+ * <p>Lua脚本返回值：[passed(1/0), limit, remaining, resetAt, granted, ttl]
+ * <ul>
+ *   <li>passed: 1=通过, 0=拒绝</li>
+ *   <li>limit: 最严格窗口的限流阈值</li>
+ *   <li>remaining: 最严格窗口扣除本次预取后的剩余配额</li>
+ *   <li>resetAt: 最严格窗口的重置 Unix 时间戳（秒）</li>
+ *   <li>granted: 本次预取的配额数</li>
+ *   <li>ttl: 所有窗口中最短的剩余秒数</li>
+ * </ul>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@SmartRedisLimiterComponent
+@ConditionalOnProperty(prefix = SmartRedisLimiterConstant.CONFIG_PREFIX, name = "enable", havingValue = "true")
+@Slf4j
+public class SmartRedisLimiterLeaseAlgorithm extends AbstractSmartRedisLimiterAlgorithm {
+
+    private static final String LIMITER_SCRIPT =
+            "local key_count = #KEYS\n" +
+                    "local current_time = tonumber(ARGV[key_count * 3 + 1])\n" +
+                    "local granted = nil\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local limit = tonumber(ARGV[i * 3 - 2])\n" +
+                    "    local used = tonumber(redis.call('GET', KEYS[i]) or '0')\n" +
+                    "    if used >= limit then\n" +
+                    "        local ttl = redis.call('TTL', KEYS[i])\n" +
+                    "        return {0, limit, 0, current_time + math.max(ttl, 0), 0, 0}\n" +
+                    "    end\n" +
+                    "    local available = math.min(limit - used, tonumber(ARGV[i * 3]))\n" +
+                    "    if granted == nil or available < granted then\n" +
+                    "        granted = available\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "local min_remaining = nil\n" +
+                    "local min_limit = nil\n" +
+                    "local min_reset = nil\n" +
+                    "local min_ttl = nil\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local limit = tonumber(ARGV[i * 3 - 2])\n" +
+                    "    local window = tonumber(ARGV[i * 3 - 1])\n" +
+                    "    local used\n" +
+                    "    if redis.call('SET', KEYS[i], granted, 'EX', window, 'NX') then\n" +
+                    "        used = granted\n" +
+                    "    else\n" +
+                    "        used = tonumber(redis.call('INCRBY', KEYS[i], granted))\n" +
+                    "    end\n" +
+                    "    local ttl = math.max(redis.call('TTL', KEYS[i]), 0)\n" +
+                    "    if min_ttl == nil or ttl < min_ttl then\n" +
+                    "        min_ttl = ttl\n" +
+                    "    end\n" +
+                    "    local remaining = math.max(limit - used, 0)\n" +
+                    "    if min_remaining == nil or remaining < min_remaining then\n" +
+                    "        min_remaining = remaining\n" +
+                    "        min_limit = limit\n" +
+                    "        min_reset = current_time + ttl\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "return {1, min_limit, min_remaining, min_reset, granted, min_ttl}";
+
+    /**
+     * 本地租约，Key 为限流基础 Key
+     */
+    private final Map<String, SmartRedisLimiterQuotaLease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public String getAlgorithm() {
+        return SmartRedisLimiterStarterConstant.ALGORITHM_LEASE;
+    }
+
+    @Override
+    protected String getScriptText() {
+        return LIMITER_SCRIPT;
+    }
+
+    @Override
+    public SmartRedisLimiterResult tryAcquireWithResult(SmartRedisLimiterContext context,
+                                                        List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                                        String keyStrategy,
+                                                        String fallbackStrategy) {
+        long startTime = System.nanoTime();
+        String baseKey;
+        try {
+            baseKey = buildBaseKey(context, keyStrategy);
+        } catch (Exception e) {
+            // 交给基类统一处理 Key 构建失败与降级
+            return super.tryAcquireWithResult(context, limitRules, keyStrategy, fallbackStrategy);
+        }
+        SmartRedisLimiterResult localResult = tryLocalLease(context, baseKey, limitRules, startTime);
+        return localResult != null
+                ? localResult
+                : super.tryAcquireWithResult(context, limitRules, keyStrategy, fallbackStrategy);
+    }
+
+    @Override
+    public SmartRedisLimiterResult tryAcquireWithResult(SmartRedisLimiterContext context,
+                                                        SmartRedisLimiterExecutionPlan plan,
+                                                        String keyStrategy) {
+        SmartRedisLimiterResult localResult = tryLocalLease(
+                context, plan.getBaseKey(), plan.getLimits(), System.nanoTime());
+        return localResult != null ? localResult : super.tryAcquireWithResult(context, plan, keyStrategy);
+    }
+
+    /**
+     * 当前本地租约数量
+     */
+    public int getLeaseCount() {
+        return leases.size();
+    }
+
+    /**
+     * 清空全部本地租约，未用完的配额作废
+     */
+    public void clearLeases() {
+        leases.clear();
+    }
+
+    private SmartRedisLimiterResult tryLocalLease(SmartRedisLimiterContext context,
+                                                  String baseKey,
+                                                  List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                                  long startTime) {
+        SmartRedisLimiterQuotaLease lease = leases.get(baseKey);
+        if (lease == null) {
+            return null;
+        }
+        if (lease.isExpired(System.currentTimeMillis()) || !lease.matches(limitRules)) {
+            leases.remove(baseKey, lease);
+            return null;
+        }
+        long localRemaining = lease.tryTake();
+        if (localRemaining < 0) {
+            return null;
+        }
+        SmartRedisLimiterResult result = lease.toResult(localRemaining);
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_KEY, result.getRouteKey());
+        context.setAttribute(SmartRedisLimiterContextAttribute.DATASOURCE_KEY, result.getDatasourceKey());
+        context.setAttribute(SmartRedisLimiterContextAttribute.REDIS_MODE, result.getRedisMode());
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_REQUIRED, result.isRouteRequired());
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_RESOLVED, result.isRouteResolved());
+        context.setAttribute(SmartRedisLimiterContextAttribute.DURATION_NANOS, System.nanoTime() - startTime);
+        return result;
+    }
+
+    @Override
+    protected SmartRedisLimiterResult doExecuteWithResult(SmartRedisLimiterContext context,
+                                                          List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                                          String keyStrategy,
+                                                          String baseKey) {
+        SmartRedisLimiterProperties.LeaseConfig leaseConfig = getProperties().getLease();
+        boolean cacheable = hasLeaseCapacity(baseKey, leaseConfig.getMaxEntries());
+        List<String> keys = new ArrayList<>();
+        for (SmartRedisLimiterProperties.SmartLimitRule rule : limitRules) {
+            keys.add(buildScriptKey(baseKey, rule));
+        }
+        long currentTimeMillis = System.currentTimeMillis();
+        List<String> args = buildLeaseArgs(limitRules, cacheable, currentTimeMillis);
+
+        SmartRedisLimiterRedisExecutionResult<List<?>> executionResult = executeRedis(baseKey,
+                redisTemplate -> redisTemplate.execute(getScript(), keys, args.toArray(new Object[0])));
+        List<?> result = executionResult.getValue();
+
+        if (result == null || result.size() < SmartRedisLimiterStarterConstant.LUA_LEASE_RESULT_FIELD_COUNT) {
+            log.warn("SmartRedisLimiter 租约脚本返回异常，触发降级: key={}", baseKey);
+            throw scriptException(getScriptResultErrorCode(), getScriptResultErrorMessage(), executionResult);
+        }
+
+        boolean passed = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED_FIELD,
+                executionResult) == SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED;
+        long limit = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_LIMIT_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_LIMIT_FIELD,
+                executionResult);
+        long remaining = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_REMAINING_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_REMAINING_FIELD,
+                executionResult);
+        long resetAt = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_RESET_AT_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_RESULT_RESET_AT_FIELD,
+                executionResult);
+        long granted = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_LEASE_RESULT_GRANTED_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_LEASE_RESULT_GRANTED_FIELD,
+                executionResult);
+        long ttlSeconds = parseScriptLong(
+                result.get(SmartRedisLimiterStarterConstant.LUA_LEASE_RESULT_TTL_INDEX),
+                SmartRedisLimiterStarterConstant.LUA_LEASE_RESULT_TTL_FIELD,
+                executionResult);
+
+        if (!passed) {
+            log.warn("SmartRedisLimiter 限流触发: key={}, rules={}", baseKey, limitRules);
+        } else {
+            log.debug("SmartRedisLimiter 租约预取: key={}, granted={}", baseKey, granted);
+        }
+
+        long localQuota = passed ? granted - 1 : 0;
+        SmartRedisLimiterResult limiterResult = SmartRedisLimiterResult.builder()
+                .passed(passed)
+                .limit(limit)
+                .remaining(remaining + localQuota)
+                .resetAt(resetAt)
+                .leasedQuota(passed ? granted : 0)
+                .routeKey(executionResult.getRouteKey())
+                .datasourceKey(executionResult.getDatasourceKey())
+                .redisMode(executionResult.getRedisMode())
+                .routeRequired(executionResult.isRouteRequired())
+                .routeResolved(executionResult.isRouteResolved())
+                .build();
+
+        long leaseMillis = Math.min(leaseConfig.getMaxLeaseMillis(),
+                ttlSeconds * SmartRedisLimiterConstant.MILLIS_PER_SECOND);
+        if (cacheable && localQuota > 0 && leaseMillis > 0) {
+            installLease(baseKey, new SmartRedisLimiterQuotaLease(
+                    limitRules, localQuota, currentTimeMillis + leaseMillis, limiterResult), currentTimeMillis);
+        }
+        return limiterResult;
+    }
+
+    /**
+     * 租约依赖本地状态与 6 字段返回结构，批量限流时逐条执行
+     */
+    @Override
+    public boolean supportsBatch() {
+        return false;
+    }
+
+    @Override
+    protected String buildScriptKey(String baseKey, SmartRedisLimiterProperties.SmartLimitRule rule) {
+        return buildWindowKey(baseKey, rule.getWindowSeconds(), SmartRedisLimiterStarterConstant.SUFFIX_LEASE);
+    }
+
+    @Override
+    protected List<String> buildScriptArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        return buildLeaseArgs(limitRules, true, System.currentTimeMillis());
+    }
+
+    @Override
+    protected String getScriptResultErrorCode() {
+        return ErrorCode.LEASE_SCRIPT_RESULT_INVALID;
+    }
+
+    @Override
+    protected String getScriptResultErrorMessage() {
+        return ErrorMessage.LEASE_SCRIPT_RESULT_INVALID;
+    }
+
+    /**
+     * 构建租约脚本 ARGV；本地租约条目已满时每次只预取 1 个，退化为普通固定窗口
+     */
+    private List<String> buildLeaseArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                        boolean cacheable,
+                                        long currentTimeMillis) {
+        double ratio = getProperties().getLease().getRatio();
+        List<String> args = new ArrayList<>();
+        for (SmartRedisLimiterProperties.SmartLimitRule rule : limitRules) {
+            long chunk = cacheable
+                    ? Math.max((long) (rule.getCount() * ratio), SmartRedisLimiterStarterConstant.LEASE_MIN_CHUNK)
+                    : SmartRedisLimiterStarterConstant.LEASE_MIN_CHUNK;
+            args.add(String.valueOf(rule.getCount()));
+            args.add(String.valueOf(rule.getWindowSeconds()));
+            args.add(String.valueOf(chunk));
+        }
+        args.add(String.valueOf(currentTimeMillis / SmartRedisLimiterConstant.MILLIS_PER_SECOND));
+        return args;
+    }
+
+    /**
+     * 安装新租约；并发预取时合并同一窗口内旧租约未用完的配额，避免配额被覆盖丢失
+     */
+    private void installLease(String baseKey, SmartRedisLimiterQuotaLease lease, long nowMillis) {
+        SmartRedisLimiterQuotaLease previous = leases.put(baseKey, lease);
+        if (previous != null && !previous.isExpired(nowMillis)
+                && previous.getResetAt() == lease.getResetAt()
+                && Arrays.equals(previous.getCounts(), lease.getCounts())
+                && Arrays.equals(previous.getWindows(), lease.getWindows())) {
+            lease.add(previous.drain());
+        }
+    }
+
+    private boolean hasLeaseCapacity(String baseKey, int maxEntries) {
+        if (leases.size() < maxEntries || leases.containsKey(baseKey)) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        leases.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+        return leases.size() < maxEntries;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 并发许可
+ * <p>concurrency 算法放行时签发，表示占用了一个在途请求名额；业务执行完成后调用 {@link #release()} 归还。
+ * 未归还的许可（进程崩溃、异步请求等）在租约到期后由下一次获取时自动回收。</p>
+ *
+ * <p>release 幂等，可在多个完成回调中重复调用。</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+public final class SmartRedisLimiterPermit {
+
+    @Getter
+    private final String permitId;
+    @Getter
+    private final String baseKey;
+    @Getter
+    private final List<String> keys;
+    /**
+     * 获取许可时的在途请求数（含本次）
+     */
+    @Getter
+    private final long inFlight;
+    @Getter
+    private final long acquiredAtNanos;
+    private final SmartRedisLimiterConcurrencyAlgorithm algorithm;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    SmartRedisLimiterPermit(SmartRedisLimiterConcurrencyAlgorithm algorithm,
+                            String permitId,
+                            String baseKey,
+                            List<String> keys,
+                            long inFlight,
+                            long acquiredAtNanos) {
+        this.algorithm = algorithm;
+        this.permitId = permitId;
+        this.baseKey = baseKey;
+        this.keys = Collections.unmodifiableList(keys);
+        this.inFlight = inFlight;
+        this.acquiredAtNanos = acquiredAtNanos;
+    }
+
+    /**
+     * 归还许可，并把本次持有时长作为自适应并发的耗时样本
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            algorithm.release(this);
+        }
+    }
+
+    /**
+     * 是否已归还
+     */
+    public boolean isReleased() {
+        return released.get();
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 本地配额租约
+ * <p>保存一次从 Redis 预取、尚未消耗的配额，以及预取时的限额、路由快照；
+ * 租约绑定预取时的限额列表，限额变化（如远程策略刷新）后不再匹配。</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Getter
+final class SmartRedisLimiterQuotaLease {
+
+    private final long[] counts;
+    private final long[] windows;
+    private final long limit;
+    private final long redisRemaining;
+    private final long resetAt;
+    private final long expiresAtMillis;
+    private final String routeKey;
+    private final String datasourceKey;
+    private final String redisMode;
+    private final boolean routeRequired;
+    private final boolean routeResolved;
+    private final AtomicLong available;
+
+    SmartRedisLimiterQuotaLease(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
+                                long available,
+                                long expiresAtMillis,
+                                SmartRedisLimiterResult result) {
+        this.counts = new long[limitRules.size()];
+        this.windows = new long[limitRules.size()];
+        for (int i = 0; i < limitRules.size(); i++) {
+            counts[i] = limitRules.get(i).getCount();
+            windows[i] = limitRules.get(i).getWindowSeconds();
+        }
+        this.available = new AtomicLong(available);
+        this.expiresAtMillis = expiresAtMillis;
+        this.limit = result.getLimit();
+        this.redisRemaining = result.getRemaining() - available;
+        this.resetAt = result.getResetAt();
+        this.routeKey = result.getRouteKey();
+        this.datasourceKey = result.getDatasourceKey();
+        this.redisMode = result.getRedisMode();
+        this.routeRequired = result.isRouteRequired();
+        this.routeResolved = result.isRouteResolved();
+    }
+
+    /**
+     * 消耗一个本地配额
+     *
+     * @return 消耗后剩余的本地配额，配额已耗尽时返回 -1
+     */
+    long tryTake() {
+        long current = available.get();
+        while (current > 0) {
+            if (available.compareAndSet(current, current - 1)) {
+                return current - 1;
+            }
+            current = available.get();
+        }
+        return -1;
+    }
+
+    /**
+     * 取走全部剩余配额
+     */
+    long drain() {
+        return available.getAndSet(0);
+    }
+
+    /**
+     * 追加配额（合并同一窗口内并发预取到的租约）
+     */
+    void add(long quota) {
+        if (quota > 0) {
+            available.addAndGet(quota);
+        }
+    }
+
+    boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * 判断租约是否属于当前限额列表
+     */
+    boolean matches(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        if (limitRules.size() != counts.length) {
+            return false;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            SmartRedisLimiterProperties.SmartLimitRule rule = limitRules.get(i);
+            if (rule.getCount() != counts[i] || rule.getWindowSeconds() != windows[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 构建本地放行结果
+     *
+     * @param localRemaining 本地剩余配额
+     */
+    SmartRedisLimiterResult toResult(long localRemaining) {
+        return SmartRedisLimiterResult.builder()
+                .passed(true)
+                .limit(limit)
+                .remaining(redisRemaining + localRemaining)
+                .resetAt(resetAt)
+                .leaseHit(true)
+                .routeKey(routeKey)
+                .datasourceKey(datasourceKey)
+                .redisMode(redisMode)
+                .routeRequired(routeRequired)
+                .routeResolved(routeResolved)
+                .build();
+    }
+}
@@ -33,6 +33,21 @@ public class SmartRedisLimiterResult {
      */
     private final long resetAt;
 
+    /**
+     * 本次从 Redis 预取到本地的配额数（仅 lease 算法，含当前请求消耗的 1 个）
+     */
+    private final long leasedQuota;
+
+    /**
+     * 是否由本地租约直接放行（未访问 Redis）
+     */
+    private final boolean leaseHit;
+
+    /**
+     * 并发许可（仅 concurrency 算法放行时非空），业务执行完成后必须调用 {@link SmartRedisLimiterPermit#release()} 归还
+     */
+    private final SmartRedisLimiterPermit permit;
+
     /**
      * 是否为降级结果
      */
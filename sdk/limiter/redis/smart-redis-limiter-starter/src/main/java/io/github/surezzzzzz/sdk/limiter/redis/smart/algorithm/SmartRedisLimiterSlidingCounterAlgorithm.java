@@ -0,0 +1,126 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.annotation.SmartRedisLimiterComponent;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 滑动窗口计数限流算法实现
+ *
+ * <p>每条规则只保存一个 Hash：当前窗口起点、当前窗口计数、上一窗口计数，内存与阈值大小无关。
+ * 估算值 = 上一窗口计数 × 上一窗口在滑动窗口内的剩余占比 + 当前窗口计数，
+ * 在请求均匀分布的假设下近似滑动窗口日志，且不存在固定窗口的边界突刺。
+ * 多规则时先全部检查、再全部计数，任一规则拒绝不会消耗其它规则的配额。
+ *
+ * <p>Lua脚本返回值：[passed(1/0), limit, remaining, resetAt]
+ * <ul>
+ *   <li>passed: 1=通过, 0=拒绝</li>
+ *   <li>limit: 最严格规则的限流阈值</li>
+ *   <li>remaining: 最严格规则按估算值计算的剩余配额</li>
+ *   <li>resetAt: 通过时为当前窗口结束的 Unix 时间戳（秒），拒绝时为估算值回落到可通过的 Unix 时间戳（秒）</li>
+ * </ul>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@SmartRedisLimiterComponent
+@ConditionalOnProperty(prefix = SmartRedisLimiterConstant.CONFIG_PREFIX, name = "enable", havingValue = "true")
+@Slf4j
+public class SmartRedisLimiterSlidingCounterAlgorithm extends AbstractSmartRedisLimiterAlgorithm {
+
+    private static final String LIMITER_SCRIPT =
+            "local key_count = #KEYS\n" +
+                    "local current_time = tonumber(ARGV[key_count * 2 + 1])\n" +
+                    "local MILLIS_PER_SECOND = 1000\n" +
+                    "local states = {}\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local limit = tonumber(ARGV[i * 2 - 1])\n" +
+                    "    local window = tonumber(ARGV[i * 2])\n" +
+                    "    local window_start = current_time - (current_time % window)\n" +
+                    "    local values = redis.call('HMGET', KEYS[i], 'start', 'curr', 'prev')\n" +
+                    "    local start = tonumber(values[1] or '0')\n" +
+                    "    local curr = tonumber(values[2] or '0')\n" +
+                    "    local prev = tonumber(values[3] or '0')\n" +
+                    "    if start ~= window_start then\n" +
+                    "        if start == window_start - window then\n" +
+                    "            prev = curr\n" +
+                    "        else\n" +
+                    "            prev = 0\n" +
+                    "        end\n" +
+                    "        curr = 0\n" +
+                    "    end\n" +
+                    "    local elapsed = current_time - window_start\n" +
+                    "    local estimated = prev * (window - elapsed) / window + curr\n" +
+                    "    if estimated + 1 > limit then\n" +
+                    "        local retry_at = window_start + window\n" +
+                    "        if prev > 0 and curr + 1 <= limit then\n" +
+                    "            retry_at = window_start + math.ceil(window - window * (limit - 1 - curr) / prev)\n" +
+                    "        end\n" +
+                    "        return {0, limit, 0, math.ceil(retry_at / MILLIS_PER_SECOND)}\n" +
+                    "    end\n" +
+                    "    states[i] = {window_start, curr, prev, estimated}\n" +
+                    "end\n" +
+                    "local min_remaining = nil\n" +
+                    "local min_limit = nil\n" +
+                    "local min_reset = nil\n" +
+                    "for i = 1, key_count do\n" +
+                    "    local limit = tonumber(ARGV[i * 2 - 1])\n" +
+                    "    local window = tonumber(ARGV[i * 2])\n" +
+                    "    local state = states[i]\n" +
+                    "    redis.call('HMSET', KEYS[i], 'start', state[1], 'curr', state[2] + 1, 'prev', state[3])\n" +
+                    "    redis.call('PEXPIRE', KEYS[i], window * 2)\n" +
+                    "    local remaining = math.max(math.floor(limit - state[4] - 1), 0)\n" +
+                    "    if min_remaining == nil or remaining < min_remaining then\n" +
+                    "        min_remaining = remaining\n" +
+                    "        min_limit = limit\n" +
+                    "        min_reset = math.ceil((state[1] + window) / MILLIS_PER_SECOND)\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "return {1, min_limit, min_remaining, min_reset}";
+
+    @Override
+    public String getAlgorithm() {
+        return SmartRedisLimiterStarterConstant.ALGORITHM_SLIDING_COUNTER;
+    }
+
+    @Override
+    protected String getScriptText() {
+        return LIMITER_SCRIPT;
+    }
+
+    @Override
+    protected String buildScriptKey(String baseKey, SmartRedisLimiterProperties.SmartLimitRule rule) {
+        return buildWindowKey(baseKey, rule.getWindowSeconds(),
+                SmartRedisLimiterStarterConstant.SUFFIX_SLIDING_COUNTER);
+    }
+
+    @Override
+    protected List<String> buildScriptArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        List<String> args = new ArrayList<>();
+        for (SmartRedisLimiterProperties.SmartLimitRule rule : limitRules) {
+            args.add(String.valueOf(rule.getCount()));
+            args.add(String.valueOf(rule.getWindowSeconds() * SmartRedisLimiterConstant.MILLIS_PER_SECOND));
+        }
+
+        args.add(String.valueOf(System.currentTimeMillis()));
+        return args;
+    }
+
+    @Override
+    protected String getScriptResultErrorCode() {
+        return ErrorCode.SLIDING_COUNTER_SCRIPT_RESULT_INVALID;
+    }
+
+    @Override
+    protected String getScriptResultErrorMessage() {
+        return ErrorMessage.SLIDING_COUNTER_SCRIPT_RESULT_INVALID;
+    }
+}
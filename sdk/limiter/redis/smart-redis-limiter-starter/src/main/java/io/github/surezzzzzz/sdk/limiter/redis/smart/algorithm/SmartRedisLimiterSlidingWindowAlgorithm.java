@@ -7,7 +7,6 @@ import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterRe
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
-import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
@@ -82,16 +81,15 @@ public class SmartRedisLimiterSlidingWindowAlgorithm extends AbstractSmartRedisL
     }
 
     @Override
-    protected SmartRedisLimiterResult doExecuteWithResult(SmartRedisLimiterContext context,
-                                                          List<SmartRedisLimiterProperties.SmartLimitRule> limitRules,
-                                                          String keyStrategy,
-                                                          String baseKey) {
-        List<String> keys = new ArrayList<>();
-        List<String> args = new ArrayList<>();
+    protected String buildScriptKey(String baseKey, SmartRedisLimiterProperties.SmartLimitRule rule) {
+        return buildWindowKey(baseKey, rule.getWindowSeconds(),
+                SmartRedisLimiterRedisKeyConstant.SUFFIX_SLIDING_WINDOW);
+    }
 
+    @Override
+    protected List<String> buildScriptArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+        List<String> args = new ArrayList<>();
         for (SmartRedisLimiterProperties.SmartLimitRule rule : limitRules) {
-            keys.add(buildWindowKey(baseKey, rule.getWindowSeconds(),
-                    SmartRedisLimiterRedisKeyConstant.SUFFIX_SLIDING_WINDOW));
             args.add(String.valueOf(rule.getCount()));
             args.add(String.valueOf(rule.getWindowSeconds()
                     * SmartRedisLimiterStarterConstant.MICROSECONDS_PER_SECOND));
@@ -107,50 +105,16 @@ public class SmartRedisLimiterSlidingWindowAlgorithm extends AbstractSmartRedisL
         args.add(String.valueOf(currentTimeMillis
                 * SmartRedisLimiterStarterConstant.MICROSECONDS_PER_MILLISECOND));
         args.add(String.valueOf(currentTimeMillis / SmartRedisLimiterConstant.MILLIS_PER_SECOND));
+        return args;
+    }
 
-        SmartRedisLimiterRedisExecutionResult<List<?>> executionResult = executeRedis(baseKey,
-                redisTemplate -> redisTemplate.execute(getScript(), keys, args.toArray(new Object[0])));
-        List<?> result = executionResult.getValue();
-
-        if (result == null || result.size() < SmartRedisLimiterStarterConstant.LUA_RESULT_FIELD_COUNT) {
-            log.warn("SmartRedisLimiter 限流脚本返回异常，触发降级: key={}", baseKey);
-            throw scriptException(ErrorCode.SLIDING_WINDOW_SCRIPT_RESULT_INVALID,
-                    ErrorMessage.SLIDING_WINDOW_SCRIPT_RESULT_INVALID, executionResult);
-        }
-
-        boolean passed = parseScriptLong(
-                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED_INDEX),
-                SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED_FIELD,
-                executionResult) == SmartRedisLimiterStarterConstant.LUA_RESULT_PASSED;
-        long limit = parseScriptLong(
-                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_LIMIT_INDEX),
-                SmartRedisLimiterStarterConstant.LUA_RESULT_LIMIT_FIELD,
-                executionResult);
-        long remaining = parseScriptLong(
-                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_REMAINING_INDEX),
-                SmartRedisLimiterStarterConstant.LUA_RESULT_REMAINING_FIELD,
-                executionResult);
-        long resetAt = parseScriptLong(
-                result.get(SmartRedisLimiterStarterConstant.LUA_RESULT_RESET_AT_INDEX),
-                SmartRedisLimiterStarterConstant.LUA_RESULT_RESET_AT_FIELD,
-                executionResult);
-
-        if (!passed) {
-            log.warn("SmartRedisLimiter 限流触发: key={}, rules={}", baseKey, limitRules);
-        } else {
-            log.debug("SmartRedisLimiter 限流通过: key={}", baseKey);
-        }
+    @Override
+    protected String getScriptResultErrorCode() {
+        return ErrorCode.SLIDING_WINDOW_SCRIPT_RESULT_INVALID;
+    }
 
-        return SmartRedisLimiterResult.builder()
-                .passed(passed)
-                .limit(limit)
-                .remaining(remaining)
-                .resetAt(resetAt)
-                .routeKey(executionResult.getRouteKey())
-                .datasourceKey(executionResult.getDatasourceKey())
-                .redisMode(executionResult.getRedisMode())
-                .routeRequired(executionResult.isRouteRequired())
-                .routeResolved(executionResult.isRouteResolved())
-                .build();
+    @Override
+    protected String getScriptResultErrorMessage() {
+        return ErrorMessage.SLIDING_WINDOW_SCRIPT_RESULT_INVALID;
     }
 }
@@ -41,7 +41,7 @@ public @interface SmartRedisLimiter {
     /**
      * 获取限流算法
      *
-     * @return 限流算法
+     * @return 限流算法（fixed / sliding / gcra / sliding-counter / lease / concurrency）
      */
     String algorithm() default SmartRedisLimiterConstant.ALGORITHM_FIXED;
 
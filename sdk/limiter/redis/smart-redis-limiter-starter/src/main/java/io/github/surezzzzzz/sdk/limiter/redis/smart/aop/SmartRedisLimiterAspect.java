@@ -135,7 +135,15 @@ public class SmartRedisLimiterAspect {
                     result.getLimit(), result.getRemaining(), result.getResetAt());
         }
 
-        return joinPoint.proceed();
+        if (result.getPermit() == null) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // 并发许可在方法返回或抛出异常后归还；返回 Future 等异步结果的方法在返回时即归还，不覆盖异步执行期间
+            result.getPermit().release();
+        }
     }
 
     /**
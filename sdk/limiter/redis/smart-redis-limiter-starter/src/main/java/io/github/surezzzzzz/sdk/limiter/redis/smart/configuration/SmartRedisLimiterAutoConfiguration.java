@@ -8,6 +8,7 @@ import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterConfigurationException;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterBatchCoordinator;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionCoordinator;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.RouteSmartRedisLimiterRedisExecutor;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutor;
@@ -122,6 +123,32 @@ public class SmartRedisLimiterAutoConfiguration {
                 policyResolver);
     }
 
+    /**
+     * 创建批量限流协调器，多资源检查按 datasource 合并为一次 pipeline
+     *
+     * @param properties           限流器配置
+     * @param algorithmFactory     算法工厂
+     * @param executionCoordinator 请求执行协调器
+     * @param redisExecutor        Redis 执行器
+     * @param timeoutExecutor      超时保护执行器
+     * @return 批量限流协调器
+     */
+    @Bean
+    @ConditionalOnMissingBean(SmartRedisLimiterBatchCoordinator.class)
+    public SmartRedisLimiterBatchCoordinator smartRedisLimiterBatchCoordinator(
+            SmartRedisLimiterProperties properties,
+            SmartRedisLimiterAlgorithmFactory algorithmFactory,
+            SmartRedisLimiterExecutionCoordinator executionCoordinator,
+            SmartRedisLimiterRedisExecutor redisExecutor,
+            SmartRedisLimiterTimeoutExecutor timeoutExecutor) {
+        return new SmartRedisLimiterBatchCoordinator(
+                properties,
+                algorithmFactory,
+                executionCoordinator,
+                redisExecutor,
+                timeoutExecutor);
+    }
+
     private SmartRedisLimiterConfigurationException routeDependencyException(Throwable cause) {
         if (cause == null) {
             return new SmartRedisLimiterConfigurationException(
@@ -73,6 +73,16 @@ public class SmartRedisLimiterProperties {
      */
     private RemotePolicyConfig remotePolicy = new RemotePolicyConfig();
 
+    /**
+     * 本地配额租约配置（algorithm = lease 时生效）
+     */
+    private LeaseConfig lease = new LeaseConfig();
+
+    /**
+     * 并发限流配置（algorithm = concurrency 时生效）
+     */
+    private ConcurrencyConfig concurrency = new ConcurrencyConfig();
+
     /**
      * 限流通过时是否发布事件
      */
@@ -110,6 +120,8 @@ public class SmartRedisLimiterProperties {
         validateRedisConfig();
         validateFallbackConfig();
         validateRemotePolicyConfig();
+        validateLeaseConfig();
+        validateConcurrencyConfig();
     }
 
     private void validateBasicConfig() {
@@ -158,6 +170,7 @@ public class SmartRedisLimiterProperties {
         validateFallbackStrategy(interceptor.getDefaultFallback(),
                 SmartRedisLimiterStarterConstant.CONFIG_PATH_INTERCEPTOR_DEFAULT_FALLBACK);
         validateInterceptorRules(interceptor.getRules());
+        validateAllOrNothingRules(interceptor.getRules());
     }
 
     private void validateInterceptorRules(List<SmartInterceptorRule> rules) {
@@ -190,6 +203,32 @@ public class SmartRedisLimiterProperties {
         }
     }
 
+    /**
+     * 全有或全无要求同一请求匹配到的全部规则合并为一次脚本调用，
+     * 因此启动时要求所有规则的生效算法一致且支持批量（lease、concurrency 不支持），避免请求时才失败
+     */
+    private void validateAllOrNothingRules(List<SmartInterceptorRule> rules) {
+        if (!Boolean.TRUE.equals(interceptor.getMatchAllRules())
+                || !Boolean.TRUE.equals(interceptor.getAllOrNothing())
+                || rules == null || rules.isEmpty()) {
+            return;
+        }
+        Set<String> algorithms = new LinkedHashSet<>();
+        for (SmartInterceptorRule rule : rules) {
+            algorithms.add(hasText(rule.getAlgorithm())
+                    ? rule.getAlgorithm().toLowerCase(Locale.ROOT)
+                    : SmartRedisLimiterConstant.ALGORITHM_FIXED);
+        }
+        if (algorithms.size() > 1
+                || algorithms.contains(SmartRedisLimiterStarterConstant.ALGORITHM_LEASE)
+                || algorithms.contains(SmartRedisLimiterStarterConstant.ALGORITHM_CONCURRENCY)) {
+            throw new SmartRedisLimiterConfigurationException(
+                    ErrorCode.BATCH_ALL_OR_NOTHING_UNSUPPORTED,
+                    String.format(ErrorMessage.CONFIG_VALIDATION_FAILED,
+                            String.format(ErrorMessage.BATCH_ALL_OR_NOTHING_ALGORITHM_MIXED, algorithms)));
+        }
+    }
+
     private void validateLimitRules(List<SmartLimitRule> rules, String configPath) {
         if (rules == null || rules.isEmpty()) {
             return;
@@ -285,11 +324,14 @@ public class SmartRedisLimiterProperties {
 
     private void validateAlgorithm(String algorithm, String configPath) {
         if (!SmartRedisLimiterConstant.ALGORITHM_FIXED.equalsIgnoreCase(algorithm)
-                && !SmartRedisLimiterConstant.ALGORITHM_SLIDING.equalsIgnoreCase(algorithm)) {
+                && !SmartRedisLimiterConstant.ALGORITHM_SLIDING.equalsIgnoreCase(algorithm)
+                && !SmartRedisLimiterStarterConstant.ALGORITHM_GCRA.equalsIgnoreCase(algorithm)
+                && !SmartRedisLimiterStarterConstant.ALGORITHM_SLIDING_COUNTER.equalsIgnoreCase(algorithm)
+                && !SmartRedisLimiterStarterConstant.ALGORITHM_LEASE.equalsIgnoreCase(algorithm)
+                && !SmartRedisLimiterStarterConstant.ALGORITHM_CONCURRENCY.equalsIgnoreCase(algorithm)) {
             throw configException(String.format(ErrorMessage.CONFIG_ALGORITHM_INVALID,
                     configPath, algorithm,
-                    SmartRedisLimiterConstant.ALGORITHM_FIXED,
-                    SmartRedisLimiterConstant.ALGORITHM_SLIDING));
+                    SmartRedisLimiterStarterConstant.SUPPORTED_ALGORITHMS));
         }
     }
 
@@ -396,6 +438,42 @@ public class SmartRedisLimiterProperties {
                 SmartRedisLimiterStarterConstant.CONFIG_PATH_REMOTE_POLICY_MAX_RESPONSE_BYTES);
     }
 
+    private void validateLeaseConfig() {
+        requireConfig(lease, SmartRedisLimiterStarterConstant.CONFIG_PATH_LEASE_RATIO);
+        Double ratio = lease.getRatio();
+        requireConfig(ratio, SmartRedisLimiterStarterConstant.CONFIG_PATH_LEASE_RATIO);
+        if (!(ratio > 0D && ratio <= 1D)) {
+            throw configException(String.format(ErrorMessage.CONFIG_RATIO_INVALID,
+                    SmartRedisLimiterStarterConstant.CONFIG_PATH_LEASE_RATIO, ratio));
+        }
+        validatePositive(lease.getMaxLeaseMillis(),
+                SmartRedisLimiterStarterConstant.CONFIG_PATH_LEASE_MAX_LEASE_MILLIS);
+        validatePositive(lease.getMaxEntries(),
+                SmartRedisLimiterStarterConstant.CONFIG_PATH_LEASE_MAX_ENTRIES);
+    }
+
+    private void validateConcurrencyConfig() {
+        requireConfig(concurrency, SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_MIN_LIMIT);
+        validatePositive(concurrency.getMinLimit(),
+                SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_MIN_LIMIT);
+        Double tolerance = concurrency.getTolerance();
+        requireConfig(tolerance, SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_TOLERANCE);
+        if (!(tolerance >= 1D)) {
+            throw configException(String.format(ErrorMessage.CONFIG_MULTIPLIER_INVALID,
+                    SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_TOLERANCE, tolerance));
+        }
+        Double smoothing = concurrency.getSmoothing();
+        requireConfig(smoothing, SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_SMOOTHING);
+        if (!(smoothing > 0D && smoothing <= 1D)) {
+            throw configException(String.format(ErrorMessage.CONFIG_RATIO_INVALID,
+                    SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_SMOOTHING, smoothing));
+        }
+        validatePositive(concurrency.getLongWindow(),
+                SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_LONG_WINDOW);
+        validatePositive(concurrency.getMaxEntries(),
+                SmartRedisLimiterStarterConstant.CONFIG_PATH_CONCURRENCY_MAX_ENTRIES);
+    }
+
     private String validateSnapshotUrl(String snapshotUrl) {
         if (!hasText(snapshotUrl)) {
             throw configException(String.format(ErrorMessage.CONFIG_ITEM_REQUIRED,
@@ -479,8 +557,11 @@ public class SmartRedisLimiterProperties {
         log.info("  - 降级策略: {}",
                 SmartRedisLimiterFallbackStrategy.fromCode(fallback.getOnRedisError()).getDesc());
         log.info("  - 远程策略: {}", remotePolicy.getEnable());
+        log.info("  - 自适应并发: {}", concurrency.getAdaptive());
         if (SmartRedisLimiterMode.fromCode(mode).isInterceptorEnabled()) {
             log.info("  - 拦截器规则数: {}", interceptor.getRules().size());
+            log.info("  - 执行全部匹配规则: {}, 全有或全无: {}",
+                    interceptor.getMatchAllRules(), interceptor.getAllOrNothing());
         }
     }
 
@@ -532,6 +613,15 @@ public class SmartRedisLimiterProperties {
          * 默认降级策略，不设置时使用全局 fallback
          */
         private String defaultFallback;
+        /**
+         * 是否执行全部匹配规则：false 只执行优先级最高的一条；
+         * true 时多条匹配规则按 datasource 合并为一次 pipeline，任一规则拒绝即拒绝请求
+         */
+        private Boolean matchAllRules = SmartRedisLimiterStarterConstant.DEFAULT_INTERCEPTOR_MATCH_ALL_RULES;
+        /**
+         * 多规则批量限流是否全有或全无：true 时任一规则拒绝，其它规则也不扣减配额
+         */
+        private Boolean allOrNothing = SmartRedisLimiterStarterConstant.DEFAULT_INTERCEPTOR_ALL_OR_NOTHING;
     }
 
     /**
@@ -560,7 +650,7 @@ public class SmartRedisLimiterProperties {
          */
         private String keyProvider;
         /**
-         * 限流算法
+         * 限流算法（fixed / sliding / gcra / sliding-counter / lease / concurrency）
          */
         private String algorithm;
         /**
@@ -703,4 +793,55 @@ public class SmartRedisLimiterProperties {
          */
         private Long maxResponseBytes = SmartRedisLimiterStarterConstant.DEFAULT_REMOTE_POLICY_MAX_RESPONSE_BYTES;
     }
+
+    /**
+     * 本地配额租约配置
+     */
+    @Data
+    public static class LeaseConfig {
+        /**
+         * 每次从 Redis 预取的配额占阈值比例，越大 Redis 往返越少、实例间配额分布越不均
+         */
+        private Double ratio = SmartRedisLimiterStarterConstant.DEFAULT_LEASE_RATIO;
+        /**
+         * 租约最长有效期（毫秒），到期未用完的配额作废，同时受窗口剩余时间约束
+         */
+        private Long maxLeaseMillis = SmartRedisLimiterStarterConstant.DEFAULT_LEASE_MAX_LEASE_MILLIS;
+        /**
+         * 本地租约最大条目数，超出时不再缓存新租约，按单次配额访问 Redis
+         */
+        private Integer maxEntries = SmartRedisLimiterStarterConstant.DEFAULT_LEASE_MAX_ENTRIES;
+    }
+
+    /**
+     * 并发限流配置
+     * <p>concurrency 算法下 count 为最大在途请求数，window / unit 为单个许可的最长持有时间（租约）</p>
+     */
+    @Data
+    public static class ConcurrencyConfig {
+        /**
+         * 是否按观测到的请求耗时自适应调整许可数，上限为规则配置的 count
+         */
+        private Boolean adaptive = SmartRedisLimiterStarterConstant.DEFAULT_CONCURRENCY_ADAPTIVE;
+        /**
+         * 自适应调整的最小许可数
+         */
+        private Long minLimit = SmartRedisLimiterStarterConstant.DEFAULT_CONCURRENCY_MIN_LIMIT;
+        /**
+         * 延迟容忍倍数，近期耗时超过长期耗时该倍数后开始收缩许可数
+         */
+        private Double tolerance = SmartRedisLimiterStarterConstant.DEFAULT_CONCURRENCY_TOLERANCE;
+        /**
+         * 许可数调整平滑系数，越大调整越快
+         */
+        private Double smoothing = SmartRedisLimiterStarterConstant.DEFAULT_CONCURRENCY_SMOOTHING;
+        /**
+         * 长期耗时基线的样本窗口
+         */
+        private Integer longWindow = SmartRedisLimiterStarterConstant.DEFAULT_CONCURRENCY_LONG_WINDOW;
+        /**
+         * 本地自适应状态最大条目数，超出时新 Key 不做自适应，按 count 限流
+         */
+        private Integer maxEntries = SmartRedisLimiterStarterConstant.DEFAULT_CONCURRENCY_MAX_ENTRIES;
+    }
 }
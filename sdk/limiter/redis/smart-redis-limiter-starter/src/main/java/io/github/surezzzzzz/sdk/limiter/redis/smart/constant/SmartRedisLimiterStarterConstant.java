@@ -196,6 +196,46 @@ public final class SmartRedisLimiterStarterConstant {
      */
     public static final String CONFIG_PATH_REMOTE_POLICY_MAX_RESPONSE_BYTES =
             SmartRedisLimiterConstant.CONFIG_PREFIX + ".remote-policy.max-response-bytes";
+    /**
+     * 租约预取比例配置路径
+     */
+    public static final String CONFIG_PATH_LEASE_RATIO =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".lease.ratio";
+    /**
+     * 租约最长有效期配置路径
+     */
+    public static final String CONFIG_PATH_LEASE_MAX_LEASE_MILLIS =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".lease.max-lease-millis";
+    /**
+     * 本地租约最大条目数配置路径
+     */
+    public static final String CONFIG_PATH_LEASE_MAX_ENTRIES =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".lease.max-entries";
+    /**
+     * 自适应并发最小许可数配置路径
+     */
+    public static final String CONFIG_PATH_CONCURRENCY_MIN_LIMIT =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".concurrency.min-limit";
+    /**
+     * 自适应并发延迟容忍倍数配置路径
+     */
+    public static final String CONFIG_PATH_CONCURRENCY_TOLERANCE =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".concurrency.tolerance";
+    /**
+     * 自适应并发平滑系数配置路径
+     */
+    public static final String CONFIG_PATH_CONCURRENCY_SMOOTHING =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".concurrency.smoothing";
+    /**
+     * 自适应并发长期延迟样本窗口配置路径
+     */
+    public static final String CONFIG_PATH_CONCURRENCY_LONG_WINDOW =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".concurrency.long-window";
+    /**
+     * 自适应并发最大条目数配置路径
+     */
+    public static final String CONFIG_PATH_CONCURRENCY_MAX_ENTRIES =
+            SmartRedisLimiterConstant.CONFIG_PREFIX + ".concurrency.max-entries";
     /**
      * 默认关闭远程策略
      */
@@ -383,6 +423,165 @@ public final class SmartRedisLimiterStarterConstant {
      */
     public static final String TEMPLATE_SLIDING_WINDOW_MEMBER = "%s-%d";
 
+    // ==================== O(1) 内存算法 ====================
+    /**
+     * GCRA 算法标识
+     */
+    public static final String ALGORITHM_GCRA = "gcra";
+    /**
+     * 滑动窗口计数算法标识
+     */
+    public static final String ALGORITHM_SLIDING_COUNTER = "sliding-counter";
+    /**
+     * 本地配额租约算法标识
+     */
+    public static final String ALGORITHM_LEASE = "lease";
+    /**
+     * 并发（在途请求数）限流算法标识
+     */
+    public static final String ALGORITHM_CONCURRENCY = "concurrency";
+    /**
+     * 支持的算法列表（用于配置校验提示）
+     */
+    public static final String SUPPORTED_ALGORITHMS = SmartRedisLimiterConstant.ALGORITHM_FIXED + ", "
+            + SmartRedisLimiterConstant.ALGORITHM_SLIDING + ", " + ALGORITHM_GCRA + ", " + ALGORITHM_SLIDING_COUNTER
+            + ", " + ALGORITHM_LEASE + ", " + ALGORITHM_CONCURRENCY;
+    /**
+     * GCRA Key 后缀
+     */
+    public static final String SUFFIX_GCRA = "gcra";
+    /**
+     * 滑动窗口计数 Key 后缀
+     */
+    public static final String SUFFIX_SLIDING_COUNTER = "swc";
+    /**
+     * 最小发放间隔（微秒），避免阈值大于窗口微秒数时间隔为 0
+     */
+    public static final long GCRA_MIN_EMISSION_INTERVAL_MICROS = 1L;
+
+    // ==================== 本地配额租约 ====================
+    /**
+     * 默认每次预取的配额占阈值比例
+     */
+    public static final double DEFAULT_LEASE_RATIO = 0.05D;
+    /**
+     * 默认租约最长有效期（毫秒）
+     */
+    public static final long DEFAULT_LEASE_MAX_LEASE_MILLIS = 1_000L;
+    /**
+     * 默认本地租约最大条目数
+     */
+    public static final int DEFAULT_LEASE_MAX_ENTRIES = 10_000;
+    /**
+     * 每次最少预取的配额数
+     */
+    public static final long LEASE_MIN_CHUNK = 1L;
+    /**
+     * 租约 Key 后缀
+     */
+    public static final String SUFFIX_LEASE = "ls";
+    /**
+     * 租约 Lua 返回字段数量
+     */
+    public static final int LUA_LEASE_RESULT_FIELD_COUNT = 6;
+    /**
+     * 租约 Lua 发放配额字段索引
+     */
+    public static final int LUA_LEASE_RESULT_GRANTED_INDEX = 4;
+    /**
+     * 租约 Lua 窗口剩余秒数字段索引
+     */
+    public static final int LUA_LEASE_RESULT_TTL_INDEX = 5;
+    /**
+     * 租约 Lua 发放配额字段名称
+     */
+    public static final String LUA_LEASE_RESULT_GRANTED_FIELD = "granted";
+    /**
+     * 租约 Lua 窗口剩余秒数字段名称
+     */
+    public static final String LUA_LEASE_RESULT_TTL_FIELD = "ttl";
+    /**
+     * 本地租约签名中限额之间的分隔符
+     */
+    public static final String LEASE_SIGNATURE_SEPARATOR = ",";
+    /**
+     * 本地租约签名中阈值与窗口的分隔符
+     */
+    public static final String LEASE_SIGNATURE_RULE_SEPARATOR = "/";
+
+    // ==================== 批量限流 ====================
+    /**
+     * 拦截器默认只执行优先级最高的匹配规则
+     */
+    public static final boolean DEFAULT_INTERCEPTOR_MATCH_ALL_RULES = false;
+    /**
+     * 拦截器多规则批量限流默认不要求全有或全无
+     */
+    public static final boolean DEFAULT_INTERCEPTOR_ALL_OR_NOTHING = false;
+    /**
+     * 路由快照描述模板：datasourceKey/redisMode
+     */
+    public static final String TEMPLATE_BATCH_ROUTE_DESCRIPTION = "%s/%s";
+    /**
+     * 降级原因：全有或全无批次无法合并为一次脚本调用（远程策略改写算法或资源路由到不同数据源）
+     */
+    public static final String FALLBACK_REASON_BATCH_UNSUPPORTED = "batch_unsupported";
+
+    // ==================== 并发限流 ====================
+    /**
+     * 并发许可 Key 后缀
+     */
+    public static final String SUFFIX_CONCURRENCY = "cc";
+    /**
+     * 拦截器保存并发许可的请求属性名
+     */
+    public static final String REQUEST_ATTRIBUTE_CONCURRENCY_PERMITS =
+            "io.github.surezzzzzz.sdk.limiter.redis.smart.CONCURRENCY_PERMITS";
+    /**
+     * 默认关闭自适应并发
+     */
+    public static final boolean DEFAULT_CONCURRENCY_ADAPTIVE = false;
+    /**
+     * 自适应并发默认最小许可数
+     */
+    public static final long DEFAULT_CONCURRENCY_MIN_LIMIT = 1L;
+    /**
+     * 自适应并发默认延迟容忍倍数：短期延迟不超过长期延迟的该倍数时不收缩
+     */
+    public static final double DEFAULT_CONCURRENCY_TOLERANCE = 1.5D;
+    /**
+     * 自适应并发默认平滑系数
+     */
+    public static final double DEFAULT_CONCURRENCY_SMOOTHING = 0.2D;
+    /**
+     * 自适应并发默认长期延迟样本窗口
+     */
+    public static final int DEFAULT_CONCURRENCY_LONG_WINDOW = 600;
+    /**
+     * 自适应并发默认最大条目数
+     */
+    public static final int DEFAULT_CONCURRENCY_MAX_ENTRIES = 10_000;
+    /**
+     * 单次调整的最小梯度，限制每个样本最多收缩一半
+     */
+    public static final double CONCURRENCY_MIN_GRADIENT = 0.5D;
+    /**
+     * 单次调整的最大梯度
+     */
+    public static final double CONCURRENCY_MAX_GRADIENT = 1.0D;
+    /**
+     * 长期延迟超过短期延迟该倍数时视为长期基线漂移
+     */
+    public static final double CONCURRENCY_LONG_RTT_DRIFT_RATIO = 2.0D;
+    /**
+     * 长期延迟基线漂移时的衰减系数
+     */
+    public static final double CONCURRENCY_LONG_RTT_DECAY = 0.95D;
+    /**
+     * 在途请求数低于估算许可数的该比例时视为应用侧空闲，不调整许可数
+     */
+    public static final double CONCURRENCY_APP_LIMITED_RATIO = 0.5D;
+
     private SmartRedisLimiterStarterConstant() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -65,6 +65,32 @@ public final class ErrorCode {
      * 滑动窗口 Lua 返回结构非法
      */
     public static final String SLIDING_WINDOW_SCRIPT_RESULT_INVALID = "SCRIPT_004";
+    /**
+     * GCRA Lua 返回结构非法
+     */
+    public static final String GCRA_SCRIPT_RESULT_INVALID = "SCRIPT_005";
+    /**
+     * 滑动窗口计数 Lua 返回结构非法
+     */
+    public static final String SLIDING_COUNTER_SCRIPT_RESULT_INVALID = "SCRIPT_006";
+    /**
+     * 租约 Lua 返回结构非法
+     */
+    public static final String LEASE_SCRIPT_RESULT_INVALID = "SCRIPT_007";
+    /**
+     * 并发许可脚本返回结构非法
+     */
+    public static final String CONCURRENCY_SCRIPT_RESULT_INVALID = "SCRIPT_008";
+
+    // ==================== 批量限流错误 ====================
+    /**
+     * 算法不支持批量脚本调用
+     */
+    public static final String BATCH_ALGORITHM_UNSUPPORTED = "BATCH_001";
+    /**
+     * 全有或全无批量限流无法合并为单次脚本调用
+     */
+    public static final String BATCH_ALL_OR_NOTHING_UNSUPPORTED = "BATCH_002";
 
     private ErrorCode() {
         throw new UnsupportedOperationException("Utility class");
@@ -38,10 +38,18 @@ public final class ErrorMessage {
      * 配置项超过最大值
      */
     public static final String CONFIG_ITEM_MAX_EXCEEDED = "%s 不能超过%d，当前值：%d";
+    /**
+     * 比例型配置非法
+     */
+    public static final String CONFIG_RATIO_INVALID = "%s 必须大于0且不超过1，当前值：%s";
+    /**
+     * 倍数配置非法
+     */
+    public static final String CONFIG_MULTIPLIER_INVALID = "%s 必须不小于1，当前值：%s";
     /**
      * 限流算法非法
      */
-    public static final String CONFIG_ALGORITHM_INVALID = "%s 值非法：%s，有效值：%s, %s";
+    public static final String CONFIG_ALGORITHM_INVALID = "%s 值非法：%s，有效值：%s";
     /**
      * 枚举型配置非法
      */
@@ -201,6 +209,38 @@ public final class ErrorMessage {
      * 滑动窗口 Lua 返回结构非法
      */
     public static final String SLIDING_WINDOW_SCRIPT_RESULT_INVALID = "滑动窗口限流脚本返回异常";
+    /**
+     * GCRA Lua 返回结构非法
+     */
+    public static final String GCRA_SCRIPT_RESULT_INVALID = "GCRA 限流脚本返回异常";
+    /**
+     * 滑动窗口计数 Lua 返回结构非法
+     */
+    public static final String SLIDING_COUNTER_SCRIPT_RESULT_INVALID = "滑动窗口计数限流脚本返回异常";
+    /**
+     * 租约 Lua 返回结构非法
+     */
+    public static final String LEASE_SCRIPT_RESULT_INVALID = "配额租约脚本返回异常";
+    /**
+     * 并发许可脚本返回结构非法
+     */
+    public static final String CONCURRENCY_SCRIPT_RESULT_INVALID = "并发许可脚本返回异常";
+
+    // ==================== 批量限流错误 ====================
+    /**
+     * 算法不支持批量脚本调用
+     */
+    public static final String BATCH_ALGORITHM_UNSUPPORTED = "限流算法 %s 不支持批量脚本调用";
+    /**
+     * 全有或全无批量限流算法不一致
+     */
+    public static final String BATCH_ALL_OR_NOTHING_ALGORITHM_MIXED =
+            "全有或全无批量限流要求所有资源使用同一个支持批量的算法，当前算法：%s";
+    /**
+     * 全有或全无批量限流路由不一致
+     */
+    public static final String BATCH_ALL_OR_NOTHING_ROUTE_MIXED =
+            "全有或全无批量限流要求所有资源路由到同一个单机数据源（Cluster 仅支持同一资源），当前路由：%s";
 
     private ErrorMessage() {
         throw new UnsupportedOperationException("Utility class");
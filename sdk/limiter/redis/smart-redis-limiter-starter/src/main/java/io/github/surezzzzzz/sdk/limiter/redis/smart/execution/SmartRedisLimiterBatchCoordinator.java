@@ -0,0 +1,397 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.execution;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterAlgorithm;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterAlgorithmFactory;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterContext;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterRedisException;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterScriptException;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterScriptCall;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterTimeoutExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 批量限流协调器
+ * <p>一次请求需要同时检查多个资源（用户、租户、路由等）时，把各资源的脚本调用交给执行器，
+ * 同一单机 datasource 的脚本合并为一次 pipeline 往返，整个批次共用一次超时保护。</p>
+ *
+ * <p>默认各资源独立判定，放行的资源照常扣减；allOrNothing=true 时把所有资源的窗口合并到同一次脚本调用，
+ * 由脚本先检查全部窗口再统一扣减，任一资源拒绝则全部不扣减。合并要求所有资源使用同一个支持批量的算法，
+ * 且路由到同一个单机 datasource（Cluster 下仅支持同一资源）。拦截器规则的算法约束在启动时由配置校验保证；
+ * 请求时仍无法合并（远程策略改写了算法、资源路由到不同数据源）的批次不访问 Redis，
+ * 全部资源按降级策略处理，降级原因为 {@code batch_unsupported}。</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Slf4j
+public class SmartRedisLimiterBatchCoordinator {
+
+    private final SmartRedisLimiterProperties properties;
+    private final SmartRedisLimiterAlgorithmFactory algorithmFactory;
+    private final SmartRedisLimiterExecutionCoordinator executionCoordinator;
+    private final SmartRedisLimiterRedisExecutor redisExecutor;
+    private final SmartRedisLimiterTimeoutExecutor timeoutExecutor;
+
+    /**
+     * 构造批量限流协调器
+     *
+     * @param properties          限流器配置
+     * @param algorithmFactory    算法工厂
+     * @param executionCoordinator 执行协调器（复用执行计划与远程策略解析）
+     * @param redisExecutor       Redis 执行器
+     * @param timeoutExecutor     超时保护执行器
+     */
+    public SmartRedisLimiterBatchCoordinator(SmartRedisLimiterProperties properties,
+                                             SmartRedisLimiterAlgorithmFactory algorithmFactory,
+                                             SmartRedisLimiterExecutionCoordinator executionCoordinator,
+                                             SmartRedisLimiterRedisExecutor redisExecutor,
+                                             SmartRedisLimiterTimeoutExecutor timeoutExecutor) {
+        this.properties = properties;
+        this.algorithmFactory = algorithmFactory;
+        this.executionCoordinator = executionCoordinator;
+        this.redisExecutor = redisExecutor;
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    /**
+     * 批量获取多个资源的配额，各资源独立判定
+     *
+     * @param items 资源列表
+     * @return 批量限流结果
+     */
+    public SmartRedisLimiterBatchResult tryAcquireAll(List<SmartRedisLimiterBatchItem> items) {
+        return tryAcquireAll(items, false);
+    }
+
+    /**
+     * 批量获取多个资源的配额
+     *
+     * @param items        资源列表
+     * @param allOrNothing 是否全有或全无
+     * @return 批量限流结果
+     */
+    public SmartRedisLimiterBatchResult tryAcquireAll(List<SmartRedisLimiterBatchItem> items, boolean allOrNothing) {
+        List<SmartRedisLimiterBatchEntry> entries = new ArrayList<>(items.size());
+        for (SmartRedisLimiterBatchItem item : items) {
+            SmartRedisLimiterContext context = SmartRedisLimiterContext.builder()
+                    .attribute(SmartRedisLimiterContextAttribute.PRECOMPUTED_KEY_PART, item.getKeyPart())
+                    .build();
+            String algorithm = item.getAlgorithm() == null || item.getAlgorithm().isEmpty()
+                    ? SmartRedisLimiterConstant.ALGORITHM_FIXED
+                    : item.getAlgorithm();
+            SmartRedisLimiterExecutionPlan plan = executionCoordinator.plan(
+                    context, item.getLimits(), null, algorithm, item.getFallback(), item.getResourceCode());
+            entries.add(new SmartRedisLimiterBatchEntry(context, plan, null));
+        }
+        return execute(entries, allOrNothing);
+    }
+
+    /**
+     * 执行已构建计划的批量限流
+     *
+     * @param entries      执行条目
+     * @param allOrNothing 是否全有或全无
+     * @return 批量限流结果，results 顺序与 entries 一致
+     */
+    public SmartRedisLimiterBatchResult execute(List<SmartRedisLimiterBatchEntry> entries, boolean allOrNothing) {
+        long startTime = System.nanoTime();
+        int size = entries.size();
+        SmartRedisLimiterResult[] results = new SmartRedisLimiterResult[size];
+        SmartRedisLimiterAlgorithm[] algorithms = new SmartRedisLimiterAlgorithm[size];
+        String[] baseKeys = new String[size];
+        boolean keyFailed = false;
+
+        for (int i = 0; i < size; i++) {
+            SmartRedisLimiterBatchEntry entry = entries.get(i);
+            algorithms[i] = algorithmFactory.getAlgorithm(entry.getPlan().getAlgorithm());
+            try {
+                baseKeys[i] = entry.getPlan().getBaseKey() != null
+                        ? entry.getPlan().getBaseKey()
+                        : algorithms[i].buildBaseKey(entry.getContext(), entry.getKeyStrategy());
+                markRouteUnresolved(entry.getContext(), baseKeys[i]);
+            } catch (Exception e) {
+                log.error("SmartRedisLimiter 批量限流构建 Key 失败: index={}", i, e);
+                markRouteUnresolved(entry.getContext(), null);
+                results[i] = buildFallbackResult(entry, algorithms[i], startTime,
+                        SmartRedisLimiterConstant.FALLBACK_REASON_KEY_PROVIDER_ERROR);
+                keyFailed = true;
+            }
+        }
+
+        if (allOrNothing) {
+            if (keyFailed) {
+                // 任一资源无法构建 Key 时不访问 Redis，保证其它资源也不扣减
+                fillFallback(entries, algorithms, results, startTime,
+                        SmartRedisLimiterConstant.FALLBACK_REASON_KEY_PROVIDER_ERROR);
+            } else if (size > 0 && canMerge(algorithms, baseKeys)) {
+                executeMerged(entries, algorithms, baseKeys, results, startTime);
+            } else if (size > 0) {
+                fillFallback(entries, algorithms, results, startTime,
+                        SmartRedisLimiterStarterConstant.FALLBACK_REASON_BATCH_UNSUPPORTED);
+            }
+        } else {
+            executeIndependently(entries, algorithms, baseKeys, results, startTime);
+        }
+        return new SmartRedisLimiterBatchResult(Arrays.asList(results), allOrNothing);
+    }
+
+    private void executeIndependently(List<SmartRedisLimiterBatchEntry> entries,
+                                      SmartRedisLimiterAlgorithm[] algorithms,
+                                      String[] baseKeys,
+                                      SmartRedisLimiterResult[] results,
+                                      long startTime) {
+        List<Integer> indexes = new ArrayList<>();
+        List<SmartRedisLimiterScriptCall> calls = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            SmartRedisLimiterBatchEntry entry = entries.get(i);
+            SmartRedisLimiterExecutionPlan plan = entry.getPlan();
+            if (!algorithms[i].supportsBatch()) {
+                results[i] = algorithms[i].tryAcquireWithResult(entry.getContext(),
+                        withBaseKey(plan, baseKeys[i]), entry.getKeyStrategy());
+                continue;
+            }
+            indexes.add(i);
+            calls.add(algorithms[i].buildScriptCall(baseKeys[i],
+                    Collections.nCopies(plan.getLimits().size(), baseKeys[i]), plan.getLimits()));
+        }
+        if (calls.isEmpty()) {
+            return;
+        }
+
+        List<SmartRedisLimiterRedisExecutionResult<List<?>>> executionResults;
+        try {
+            executionResults = executeScripts(calls);
+        } catch (BatchFallbackException e) {
+            for (Integer index : indexes) {
+                results[index] = buildFallbackResult(entries.get(index), algorithms[index], startTime, e.fallbackReason);
+            }
+            return;
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = toResult(entries.get(index), algorithms[index], executionResults.get(i), startTime);
+        }
+    }
+
+    /**
+     * 所有资源的窗口合并为一次脚本调用：脚本先检查全部窗口再统一扣减，
+     * 返回值中的 limit / remaining 为所有资源中最严格的窗口
+     */
+    private void executeMerged(List<SmartRedisLimiterBatchEntry> entries,
+                               SmartRedisLimiterAlgorithm[] algorithms,
+                               String[] baseKeys,
+                               SmartRedisLimiterResult[] results,
+                               long startTime) {
+        List<String> mergedBaseKeys = new ArrayList<>();
+        List<SmartRedisLimiterProperties.SmartLimitRule> mergedLimits = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (SmartRedisLimiterProperties.SmartLimitRule rule : entries.get(i).getPlan().getLimits()) {
+                mergedBaseKeys.add(baseKeys[i]);
+                mergedLimits.add(rule);
+            }
+        }
+        SmartRedisLimiterScriptCall call = algorithms[0].buildScriptCall(baseKeys[0], mergedBaseKeys, mergedLimits);
+
+        SmartRedisLimiterRedisExecutionResult<List<?>> executionResult;
+        try {
+            executionResult = executeScripts(Collections.singletonList(call)).get(0);
+        } catch (BatchFallbackException e) {
+            fillFallback(entries, algorithms, results, startTime, e.fallbackReason);
+            return;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            results[i] = toResult(entries.get(i), algorithms[i], executionResult, startTime);
+        }
+    }
+
+    /**
+     * 判断全有或全无批次能否合并为一次脚本调用，不能合并时记录原因
+     */
+    private boolean canMerge(SmartRedisLimiterAlgorithm[] algorithms, String[] baseKeys) {
+        Set<String> algorithmNames = new LinkedHashSet<>();
+        boolean batchSupported = true;
+        for (SmartRedisLimiterAlgorithm algorithm : algorithms) {
+            algorithmNames.add(algorithm.getAlgorithm());
+            batchSupported = batchSupported && algorithm.supportsBatch();
+        }
+        if (!batchSupported || algorithmNames.size() > 1) {
+            log.error("SmartRedisLimiter 批量限流触发降级: {}",
+                    String.format(ErrorMessage.BATCH_ALL_OR_NOTHING_ALGORITHM_MIXED, algorithmNames));
+            return false;
+        }
+
+        Set<String> routes = new LinkedHashSet<>();
+        Set<String> distinctBaseKeys = new HashSet<>(Arrays.asList(baseKeys));
+        boolean cluster = false;
+        for (String baseKey : baseKeys) {
+            SmartRedisLimiterRedisExecutionResult<Void> route = redisExecutor.resolveRoute(baseKey);
+            routes.add(String.format(SmartRedisLimiterStarterConstant.TEMPLATE_BATCH_ROUTE_DESCRIPTION,
+                    route.getDatasourceKey(), route.getRedisMode()));
+            cluster = cluster || SmartRedisLimiterConstant.REDIS_MODE_CLUSTER.equals(route.getRedisMode());
+        }
+        if (routes.size() > 1 || (cluster && distinctBaseKeys.size() > 1)) {
+            log.error("SmartRedisLimiter 批量限流触发降级: {}",
+                    String.format(ErrorMessage.BATCH_ALL_OR_NOTHING_ROUTE_MIXED, routes));
+            return false;
+        }
+        return true;
+    }
+
+    private List<SmartRedisLimiterRedisExecutionResult<List<?>>> executeScripts(
+            List<SmartRedisLimiterScriptCall> calls) {
+        long timeout = properties.getRedis().getCommandTimeout();
+        FutureTask<List<SmartRedisLimiterRedisExecutionResult<List<?>>>> task =
+                new FutureTask<>(() -> redisExecutor.executeScripts(calls));
+        try {
+            timeoutExecutor.execute(task);
+            return task.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("SmartRedisLimiter 批量限流 Redis 操作超时({}ms)，触发降级策略, scripts={}", timeout, calls.size());
+            throw new BatchFallbackException(SmartRedisLimiterConstant.FALLBACK_REASON_TIMEOUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.error("SmartRedisLimiter 批量限流执行异常", cause != null ? cause : e);
+            throw new BatchFallbackException(cause instanceof SmartRedisLimiterRedisException
+                    ? ((SmartRedisLimiterRedisException) cause).getFallbackReason()
+                    : SmartRedisLimiterConstant.FALLBACK_REASON_UNKNOWN);
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            log.error("SmartRedisLimiter 批量限流执行被中断", e);
+            throw new BatchFallbackException(SmartRedisLimiterConstant.FALLBACK_REASON_INTERRUPTED);
+        } catch (RejectedExecutionException e) {
+            log.error("SmartRedisLimiter 超时保护线程池拒绝批量限流任务", e);
+            throw new BatchFallbackException(SmartRedisLimiterConstant.FALLBACK_REASON_TIMEOUT);
+        }
+    }
+
+    private SmartRedisLimiterResult toResult(SmartRedisLimiterBatchEntry entry,
+                                             SmartRedisLimiterAlgorithm algorithm,
+                                             SmartRedisLimiterRedisExecutionResult<List<?>> executionResult,
+                                             long startTime) {
+        SmartRedisLimiterContext context = entry.getContext();
+        SmartRedisLimiterRedisException error = executionResult.getError();
+        if (error != null) {
+            copyRouteContext(context, executionResult);
+            return buildFallbackResult(entry, algorithm, startTime, error.getFallbackReason());
+        }
+        SmartRedisLimiterResult result;
+        try {
+            result = algorithm.parseScriptResult(executionResult);
+        } catch (SmartRedisLimiterScriptException e) {
+            log.error("SmartRedisLimiter 批量限流脚本返回异常: routeKey={}", executionResult.getRouteKey(), e);
+            copyRouteContext(context, executionResult);
+            return buildFallbackResult(entry, algorithm, startTime, SmartRedisLimiterConstant.FALLBACK_REASON_SCRIPT_ERROR);
+        }
+        copyRouteContext(context, executionResult);
+        context.setAttribute(SmartRedisLimiterContextAttribute.DURATION_NANOS, System.nanoTime() - startTime);
+        if (!result.isPassed()) {
+            log.warn("SmartRedisLimiter 批量限流触发: key={}, rules={}",
+                    executionResult.getRouteKey(), entry.getPlan().getLimits());
+        }
+        return result;
+    }
+
+    private void fillFallback(List<SmartRedisLimiterBatchEntry> entries,
+                              SmartRedisLimiterAlgorithm[] algorithms,
+                              SmartRedisLimiterResult[] results,
+                              long startTime,
+                              String fallbackReason) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (results[i] == null) {
+                results[i] = buildFallbackResult(entries.get(i), algorithms[i], startTime, fallbackReason);
+            }
+        }
+    }
+
+    private SmartRedisLimiterResult buildFallbackResult(SmartRedisLimiterBatchEntry entry,
+                                                        SmartRedisLimiterAlgorithm algorithm,
+                                                        long startTime,
+                                                        String fallbackReason) {
+        SmartRedisLimiterContext context = entry.getContext();
+        String fallbackStrategy = entry.getPlan().getFallback();
+        List<SmartRedisLimiterProperties.SmartLimitRule> limitRules = entry.getPlan().getLimits();
+        boolean passed = algorithm.handleFallback(fallbackStrategy);
+        context.setAttribute(SmartRedisLimiterContextAttribute.DURATION_NANOS, System.nanoTime() - startTime);
+        context.setAttribute(SmartRedisLimiterContextAttribute.FALLBACK, true);
+        context.setAttribute(SmartRedisLimiterContextAttribute.FALLBACK_STRATEGY, fallbackStrategy);
+        context.setAttribute(SmartRedisLimiterContextAttribute.FALLBACK_REASON, fallbackReason);
+
+        long limit = limitRules.stream()
+                .mapToLong(SmartRedisLimiterProperties.SmartLimitRule::getCount)
+                .min()
+                .orElse(0);
+        long resetAt = System.currentTimeMillis() / SmartRedisLimiterConstant.MILLIS_PER_SECOND
+                + limitRules.stream()
+                .mapToLong(SmartRedisLimiterProperties.SmartLimitRule::getWindowSeconds)
+                .min()
+                .orElse(1);
+
+        return SmartRedisLimiterResult.builder()
+                .passed(passed)
+                .limit(limit)
+                .remaining(passed ? Math.max(limit - 1, 0) : 0)
+                .resetAt(resetAt)
+                .fallback(true)
+                .fallbackReason(fallbackReason)
+                .routeKey(context.getAttribute(SmartRedisLimiterContextAttribute.ROUTE_KEY))
+                .datasourceKey(context.getAttribute(SmartRedisLimiterContextAttribute.DATASOURCE_KEY))
+                .redisMode(context.getAttribute(SmartRedisLimiterContextAttribute.REDIS_MODE))
+                .routeRequired(Boolean.TRUE.equals(context.getAttribute(SmartRedisLimiterContextAttribute.ROUTE_REQUIRED)))
+                .routeResolved(Boolean.TRUE.equals(context.getAttribute(SmartRedisLimiterContextAttribute.ROUTE_RESOLVED)))
+                .build();
+    }
+
+    private void markRouteUnresolved(SmartRedisLimiterContext context, String routeKey) {
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_KEY, routeKey);
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_REQUIRED, true);
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_RESOLVED, false);
+        context.setAttribute(SmartRedisLimiterContextAttribute.REDIS_MODE, SmartRedisLimiterConstant.REDIS_MODE_UNKNOWN);
+    }
+
+    private void copyRouteContext(SmartRedisLimiterContext context,
+                                  SmartRedisLimiterRedisExecutionResult<?> executionResult) {
+        context.setAttribute(SmartRedisLimiterContextAttribute.DATASOURCE_KEY, executionResult.getDatasourceKey());
+        context.setAttribute(SmartRedisLimiterContextAttribute.REDIS_MODE, executionResult.getRedisMode());
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_REQUIRED, executionResult.isRouteRequired());
+        context.setAttribute(SmartRedisLimiterContextAttribute.ROUTE_RESOLVED, executionResult.isRouteResolved());
+    }
+
+    private SmartRedisLimiterExecutionPlan withBaseKey(SmartRedisLimiterExecutionPlan plan, String baseKey) {
+        if (baseKey.equals(plan.getBaseKey())) {
+            return plan;
+        }
+        return new SmartRedisLimiterExecutionPlan(plan.getLimits(), baseKey, baseKey, plan.getAlgorithm(),
+                plan.getFallback(), plan.getResourceCode(), plan.getPolicySource(), plan.getPolicyRevision());
+    }
+
+    /**
+     * 批次整体失败（超时、线程池拒绝等），携带降级原因
+     */
+    private static class BatchFallbackException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String fallbackReason;
+
+        private BatchFallbackException(String fallbackReason) {
+            super(fallbackReason, null, false, false);
+            this.fallbackReason = fallbackReason;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.execution;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterContext;
+import lombok.Getter;
+
+/**
+ * 批量限流执行条目：上下文、Key 策略与已解析的执行计划
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Getter
+public final class SmartRedisLimiterBatchEntry {
+
+    private final SmartRedisLimiterContext context;
+    private final SmartRedisLimiterExecutionPlan plan;
+    private final String keyStrategy;
+
+    /**
+     * 构造批量限流执行条目
+     *
+     * @param context     限流上下文，执行后写入路由与降级信息
+     * @param plan        执行计划
+     * @param keyStrategy Key 生成策略（plan 未预构建 baseKey 时使用）
+     */
+    public SmartRedisLimiterBatchEntry(SmartRedisLimiterContext context,
+                                       SmartRedisLimiterExecutionPlan plan,
+                                       String keyStrategy) {
+        this.context = context;
+        this.plan = plan;
+        this.keyStrategy = keyStrategy;
+    }
+}
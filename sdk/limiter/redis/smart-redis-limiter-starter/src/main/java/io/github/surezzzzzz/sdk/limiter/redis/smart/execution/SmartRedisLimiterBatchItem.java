@@ -0,0 +1,44 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.execution;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 批量限流中的单个资源
+ * <p>例如一次网关请求同时检查用户、租户、路由三个维度，每个维度对应一个 item。</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Getter
+@Builder
+public class SmartRedisLimiterBatchItem {
+
+    /**
+     * 限流维度值（如 user:1001、tenant:acme），与 me 拼接为基础 Key
+     */
+    private final String keyPart;
+
+    /**
+     * 限额列表
+     */
+    private final List<SmartRedisLimiterProperties.SmartLimitRule> limits;
+
+    /**
+     * 限流算法，为空时使用固定窗口
+     */
+    private final String algorithm;
+
+    /**
+     * 降级策略，为空时使用全局配置
+     */
+    private final String fallback;
+
+    /**
+     * 稳定资源编码，非空时参与远程策略解析
+     */
+    private final String resourceCode;
+}
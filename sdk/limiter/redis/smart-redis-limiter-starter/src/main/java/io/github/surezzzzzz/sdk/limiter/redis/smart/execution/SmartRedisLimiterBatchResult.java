@@ -0,0 +1,70 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.execution;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterResult;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量限流结果
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Getter
+public final class SmartRedisLimiterBatchResult {
+
+    /**
+     * 每个资源的结果，顺序与请求一致
+     */
+    private final List<SmartRedisLimiterResult> results;
+
+    /**
+     * 是否全部通过
+     */
+    private final boolean passed;
+
+    /**
+     * 是否按全有或全无执行
+     */
+    private final boolean allOrNothing;
+
+    /**
+     * 决定性结果下标：第一个拒绝的资源；全部通过时为剩余配额最少的资源
+     */
+    private final int decisiveIndex;
+
+    /**
+     * 构造批量限流结果
+     *
+     * @param results      每个资源的结果
+     * @param allOrNothing 是否全有或全无
+     */
+    public SmartRedisLimiterBatchResult(List<SmartRedisLimiterResult> results, boolean allOrNothing) {
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+        this.allOrNothing = allOrNothing;
+        int rejectedIndex = -1;
+        int strictestIndex = -1;
+        for (int i = 0; i < results.size(); i++) {
+            SmartRedisLimiterResult result = results.get(i);
+            if (!result.isPassed()) {
+                rejectedIndex = i;
+                break;
+            }
+            if (strictestIndex < 0 || result.getRemaining() < results.get(strictestIndex).getRemaining()) {
+                strictestIndex = i;
+            }
+        }
+        this.passed = rejectedIndex < 0;
+        this.decisiveIndex = passed ? strictestIndex : rejectedIndex;
+    }
+
+    /**
+     * 决定性结果，用于写入响应头与拒绝异常；无资源时返回 null
+     */
+    public SmartRedisLimiterResult getDecisiveResult() {
+        return decisiveIndex < 0 ? null : results.get(decisiveIndex);
+    }
+}
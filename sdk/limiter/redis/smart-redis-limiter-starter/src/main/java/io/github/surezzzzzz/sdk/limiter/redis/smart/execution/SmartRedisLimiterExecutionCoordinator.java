@@ -66,17 +66,49 @@ public class SmartRedisLimiterExecutionCoordinator {
             String fallback,
             String resourceCode) {
         SmartRedisLimiterAlgorithm algorithmInstance = algorithmFactory.getAlgorithm(algorithm);
-        if (resourceCode == null
-                || SmartRedisLimiterStarterConstant.DEFAULT_RESOURCE_CODE.equals(resourceCode)) {
+        SmartRedisLimiterExecutionPlan plan = plan(
+                context, localLimits, keyStrategy, algorithm, fallback, resourceCode);
+        if (plan.getBaseKey() == null) {
             SmartRedisLimiterResult result = algorithmInstance.tryAcquireWithResult(
                     context, localLimits, keyStrategy, fallback);
-            SmartRedisLimiterExecutionPlan plan = new SmartRedisLimiterExecutionPlan(
+            SmartRedisLimiterExecutionPlan localPlan = new SmartRedisLimiterExecutionPlan(
                     localLimits, null, result.getRouteKey(), algorithm, fallback,
+                    plan.getResourceCode(), plan.getPolicySource(), null);
+            return new SmartRedisLimiterExecutionOutcome(localPlan, result);
+        }
+        SmartRedisLimiterResult result = algorithmInstance.tryAcquireWithResult(
+                context, plan, keyStrategy);
+        return new SmartRedisLimiterExecutionOutcome(plan, result);
+    }
+
+    /**
+     * 只构建执行计划，不访问 Redis，供批量限流复用远程策略解析
+     * <p>本地策略资源的 baseKey 为 null，由算法在超时保护内按 keyStrategy 构建；
+     * 远程策略资源在此解析 subject 并得到最终限额与 baseKey。</p>
+     *
+     * @param context      限流上下文
+     * @param localLimits  本地完整限额列表
+     * @param keyStrategy  Key 生成策略
+     * @param algorithm    限流算法
+     * @param fallback     降级策略
+     * @param resourceCode 稳定资源编码
+     * @return 执行计划
+     */
+    public SmartRedisLimiterExecutionPlan plan(
+            SmartRedisLimiterContext context,
+            List<SmartRedisLimiterProperties.SmartLimitRule> localLimits,
+            String keyStrategy,
+            String algorithm,
+            String fallback,
+            String resourceCode) {
+        if (resourceCode == null
+                || SmartRedisLimiterStarterConstant.DEFAULT_RESOURCE_CODE.equals(resourceCode)) {
+            return new SmartRedisLimiterExecutionPlan(
+                    localLimits, null, null, algorithm, fallback,
                     SmartRedisLimiterStarterConstant.DEFAULT_RESOURCE_CODE,
                     io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant
                             .POLICY_SOURCE_LOCAL,
                     null);
-            return new SmartRedisLimiterExecutionOutcome(plan, result);
         }
 
         String policySubject = resolveSubjectOnce(context, keyStrategy);
@@ -97,12 +129,9 @@ public class SmartRedisLimiterExecutionCoordinator {
                 localLimits);
         String baseKey = SmartRedisLimiterKeyHelper.buildPolicyBaseKey(
                 properties.getMe(), resourceCode, policySubject);
-        SmartRedisLimiterExecutionPlan plan = new SmartRedisLimiterExecutionPlan(
+        return new SmartRedisLimiterExecutionPlan(
                 resolution.getLimits(), baseKey, baseKey, algorithm, fallback,
                 resourceCode, resolution.getPolicySource(), resolution.getPolicyRevision());
-        SmartRedisLimiterResult result = algorithmInstance.tryAcquireWithResult(
-                context, plan, keyStrategy);
-        return new SmartRedisLimiterExecutionOutcome(plan, result);
     }
 
     private String resolveSubjectOnce(SmartRedisLimiterContext context, String keyStrategy) {
@@ -9,14 +9,20 @@ import io.github.surezzzzzz.sdk.redis.route.exception.RouteException;
 import io.github.surezzzzzz.sdk.redis.route.model.RedisServerInfo;
 import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * 基于 Redis Route 的 Redis 执行器
+ * <p>批量执行脚本时按解析到的 datasource 分组，单机数据源的同组脚本在一次 pipeline 中发送；
+ * Cluster 与未解析路由的脚本跨 slot 无法可靠 pipeline，逐条执行。</p>
  *
  * @author surezzzzzz
  */
@@ -42,6 +48,46 @@ public class RouteSmartRedisLimiterRedisExecutor implements SmartRedisLimiterRed
                                                                 Function<StringRedisTemplate, T> callback) {
         RouteSnapshot routeSnapshot = buildRouteSnapshot(routeKey);
         warnIfClusterHashTagDisabled(routeSnapshot);
+        return doExecute(routeSnapshot, callback);
+    }
+
+    @Override
+    public List<SmartRedisLimiterRedisExecutionResult<List<?>>> executeScripts(
+            List<SmartRedisLimiterScriptCall> calls) {
+        List<SmartRedisLimiterRedisExecutionResult<List<?>>> results =
+                new ArrayList<>(Collections.nCopies(calls.size(), null));
+        RouteSnapshot[] routeSnapshots = new RouteSnapshot[calls.size()];
+        Map<String, List<Integer>> pipelineGroups = new LinkedHashMap<>();
+        for (int i = 0; i < calls.size(); i++) {
+            RouteSnapshot routeSnapshot = buildRouteSnapshot(calls.get(i).getRouteKey());
+            warnIfClusterHashTagDisabled(routeSnapshot);
+            routeSnapshots[i] = routeSnapshot;
+            if (routeSnapshot.routeResolved
+                    && SmartRedisLimiterConstant.REDIS_MODE_STANDALONE.equals(routeSnapshot.redisMode)) {
+                pipelineGroups.computeIfAbsent(routeSnapshot.datasourceKey, key -> new ArrayList<>()).add(i);
+            } else {
+                results.set(i, executeScript(calls.get(i), routeSnapshot));
+            }
+        }
+        for (List<Integer> indexes : pipelineGroups.values()) {
+            if (indexes.size() == 1) {
+                int index = indexes.get(0);
+                results.set(index, executeScript(calls.get(index), routeSnapshots[index]));
+            } else {
+                executePipelined(calls, indexes, routeSnapshots, results);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public SmartRedisLimiterRedisExecutionResult<Void> resolveRoute(String routeKey) {
+        return toExecutionResult(buildRouteSnapshot(routeKey), null, null);
+    }
+
+    private <T> SmartRedisLimiterRedisExecutionResult<T> doExecute(RouteSnapshot routeSnapshot,
+                                                                   Function<StringRedisTemplate, T> callback) {
+        String routeKey = routeSnapshot.routeKey;
         try {
             T value = redisRouteTemplate.execute(routeKey, redisTemplate -> {
                 try {
@@ -50,14 +96,7 @@ public class RouteSmartRedisLimiterRedisExecutor implements SmartRedisLimiterRed
                     throw new RedisExecutionExceptionWrapper(e);
                 }
             });
-            return SmartRedisLimiterRedisExecutionResult.<T>builder()
-                    .value(value)
-                    .routeKey(routeSnapshot.routeKey)
-                    .datasourceKey(routeSnapshot.datasourceKey)
-                    .redisMode(routeSnapshot.redisMode)
-                    .routeRequired(routeSnapshot.routeRequired)
-                    .routeResolved(routeSnapshot.routeResolved)
-                    .build();
+            return toExecutionResult(routeSnapshot, value, null);
         } catch (RedisExecutionExceptionWrapper e) {
             throw redisException(routeSnapshot, e.getCause(),
                     SmartRedisLimiterConstant.FALLBACK_REASON_REDIS_ERROR);
@@ -70,6 +109,99 @@ public class RouteSmartRedisLimiterRedisExecutor implements SmartRedisLimiterRed
         }
     }
 
+    private SmartRedisLimiterRedisExecutionResult<List<?>> executeScript(SmartRedisLimiterScriptCall call,
+                                                                          RouteSnapshot routeSnapshot) {
+        try {
+            return doExecute(routeSnapshot, redisTemplate -> redisTemplate.execute(
+                    call.getScript(), call.getKeys(), call.getArgs().toArray(new Object[0])));
+        } catch (SmartRedisLimiterRedisException e) {
+            return toExecutionResult(routeSnapshot, null, e);
+        }
+    }
+
+    /**
+     * 同一 datasource 的脚本在一次 pipeline 中执行；pipeline 整体失败时该组全部标记失败
+     */
+    private void executePipelined(List<SmartRedisLimiterScriptCall> calls,
+                                  List<Integer> indexes,
+                                  RouteSnapshot[] routeSnapshots,
+                                  List<SmartRedisLimiterRedisExecutionResult<List<?>>> results) {
+        String routeKey = calls.get(indexes.get(0)).getRouteKey();
+        List<Object> values;
+        try {
+            values = redisRouteTemplate.execute(routeKey, redisTemplate -> {
+                try {
+                    return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        for (Integer index : indexes) {
+                            evalScript(connection, calls.get(index));
+                        }
+                        return null;
+                    });
+                } catch (RuntimeException e) {
+                    throw new RedisExecutionExceptionWrapper(e);
+                }
+            });
+        } catch (RedisExecutionExceptionWrapper e) {
+            markGroupFailed(indexes, routeSnapshots, results, e.getCause(),
+                    SmartRedisLimiterConstant.FALLBACK_REASON_REDIS_ERROR);
+            return;
+        } catch (RouteException e) {
+            markGroupFailed(indexes, routeSnapshots, results, e,
+                    SmartRedisLimiterConstant.FALLBACK_REASON_ROUTE_ERROR);
+            return;
+        } catch (RuntimeException e) {
+            markGroupFailed(indexes, routeSnapshots, results, e,
+                    SmartRedisLimiterConstant.FALLBACK_REASON_REDIS_ERROR);
+            return;
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            Object value = values != null && i < values.size() ? values.get(i) : null;
+            int index = indexes.get(i);
+            results.set(index, toExecutionResult(routeSnapshots[index],
+                    value instanceof List ? (List<?>) value : null, null));
+        }
+        log.debug("SmartRedisLimiter pipeline 执行完成: datasourceKey={}, scripts={}",
+                routeSnapshots[indexes.get(0)].datasourceKey, indexes.size());
+    }
+
+    private void evalScript(RedisConnection connection, SmartRedisLimiterScriptCall call) {
+        byte[][] keysAndArgs = new byte[call.getKeys().size() + call.getArgs().size()][];
+        int position = 0;
+        for (String key : call.getKeys()) {
+            keysAndArgs[position++] = key.getBytes(StandardCharsets.UTF_8);
+        }
+        for (String arg : call.getArgs()) {
+            keysAndArgs[position++] = arg.getBytes(StandardCharsets.UTF_8);
+        }
+        connection.eval(call.getScript().getScriptAsString().getBytes(StandardCharsets.UTF_8),
+                ReturnType.MULTI, call.getKeys().size(), keysAndArgs);
+    }
+
+    private void markGroupFailed(List<Integer> indexes,
+                                 RouteSnapshot[] routeSnapshots,
+                                 List<SmartRedisLimiterRedisExecutionResult<List<?>>> results,
+                                 Throwable cause,
+                                 String fallbackReason) {
+        for (Integer index : indexes) {
+            results.set(index, toExecutionResult(routeSnapshots[index], null,
+                    redisException(routeSnapshots[index], cause, fallbackReason)));
+        }
+    }
+
+    private <T> SmartRedisLimiterRedisExecutionResult<T> toExecutionResult(RouteSnapshot routeSnapshot,
+                                                                           T value,
+                                                                           SmartRedisLimiterRedisException error) {
+        return SmartRedisLimiterRedisExecutionResult.<T>builder()
+                .value(value)
+                .routeKey(routeSnapshot.routeKey)
+                .datasourceKey(routeSnapshot.datasourceKey)
+                .redisMode(routeSnapshot.redisMode)
+                .routeRequired(routeSnapshot.routeRequired)
+                .routeResolved(routeSnapshot.routeResolved)
+                .error(error)
+                .build();
+    }
+
     private SmartRedisLimiterRedisException redisException(RouteSnapshot routeSnapshot,
                                                            Throwable cause,
                                                            String fallbackReason) {
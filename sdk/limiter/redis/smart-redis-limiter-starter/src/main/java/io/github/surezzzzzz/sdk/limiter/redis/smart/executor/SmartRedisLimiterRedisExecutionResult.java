@@ -1,5 +1,6 @@
 package io.github.surezzzzzz.sdk.limiter.redis.smart.executor;
 
+import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterRedisException;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -42,4 +43,9 @@ public class SmartRedisLimiterRedisExecutionResult<T> {
      * 是否成功解析到 datasource
      */
     private final boolean routeResolved;
+
+    /**
+     * 批量执行时该条调用的失败原因，执行成功或单条执行时为 null（单条执行失败直接抛出）
+     */
+    private final SmartRedisLimiterRedisException error;
 }
@@ -1,7 +1,11 @@
 package io.github.surezzzzzz.sdk.limiter.redis.smart.executor;
 
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterRedisException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -21,4 +25,49 @@ public interface SmartRedisLimiterRedisExecutor {
      */
     <T> SmartRedisLimiterRedisExecutionResult<T> execute(String routeKey,
                                                          Function<StringRedisTemplate, T> callback);
+
+    /**
+     * 批量执行 Lua 限流脚本，返回结果与 calls 顺序一致
+     * <p>默认实现逐条调用 {@link #execute}；单条失败写入结果的 error 字段，不影响其它调用。
+     * 基于 Redis Route 的实现会把同一 datasource 的脚本合并为一次 pipeline 往返。</p>
+     *
+     * @param calls 脚本调用列表
+     * @return 每条调用的执行结果
+     */
+    default List<SmartRedisLimiterRedisExecutionResult<List<?>>> executeScripts(
+            List<SmartRedisLimiterScriptCall> calls) {
+        List<SmartRedisLimiterRedisExecutionResult<List<?>>> results = new ArrayList<>(calls.size());
+        for (SmartRedisLimiterScriptCall call : calls) {
+            try {
+                results.add(execute(call.getRouteKey(), redisTemplate -> redisTemplate.execute(
+                        call.getScript(), call.getKeys(), call.getArgs().toArray(new Object[0]))));
+            } catch (SmartRedisLimiterRedisException e) {
+                results.add(SmartRedisLimiterRedisExecutionResult.<List<?>>builder()
+                        .routeKey(e.getRouteKey())
+                        .datasourceKey(e.getDatasourceKey())
+                        .redisMode(e.getRedisMode())
+                        .routeRequired(e.isRouteRequired())
+                        .routeResolved(e.isRouteResolved())
+                        .error(e)
+                        .build());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 解析 routeKey 对应的 datasource，不执行 Redis 命令
+     * <p>默认实现无法感知路由，返回未解析快照。</p>
+     *
+     * @param routeKey routeKey
+     * @return 仅包含路由快照的执行结果
+     */
+    default SmartRedisLimiterRedisExecutionResult<Void> resolveRoute(String routeKey) {
+        return SmartRedisLimiterRedisExecutionResult.<Void>builder()
+                .routeKey(routeKey)
+                .redisMode(SmartRedisLimiterConstant.REDIS_MODE_UNKNOWN)
+                .routeRequired(true)
+                .routeResolved(false)
+                .build();
+    }
 }
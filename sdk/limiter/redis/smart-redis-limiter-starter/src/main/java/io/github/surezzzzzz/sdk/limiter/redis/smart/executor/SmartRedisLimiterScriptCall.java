@@ -0,0 +1,39 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.executor;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 一次 Lua 限流脚本调用
+ * <p>批量限流时由算法构建 KEYS / ARGV，交给执行器按 datasource 分组后统一发送。</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Getter
+@Builder
+public class SmartRedisLimiterScriptCall {
+
+    /**
+     * 路由 Key，决定脚本在哪个 datasource 上执行
+     */
+    private final String routeKey;
+
+    /**
+     * Lua 脚本
+     */
+    private final RedisScript<List> script;
+
+    /**
+     * 脚本 KEYS
+     */
+    private final List<String> keys;
+
+    /**
+     * 脚本 ARGV
+     */
+    private final List<String> args;
+}
@@ -1,6 +1,7 @@
 package io.github.surezzzzzz.sdk.limiter.redis.smart.interceptor;
 
 import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterContext;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterPermit;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterResult;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.annotation.SmartRedisLimiterComponent;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
@@ -8,13 +9,18 @@ import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterCo
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterFallbackStrategy;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterMode;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.event.SmartRedisLimiterEvent;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimitExceededException;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterConfigurationException;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterBatchCoordinator;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterBatchEntry;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterBatchResult;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionCoordinator;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionOutcome;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionPlan;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.generator.SmartRedisLimiterKeyProvider;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.support.SmartRedisLimiterEventHelper;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.support.SmartRedisLimiterRuleMatchCacheHelper;
@@ -29,6 +35,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +62,11 @@ public class SmartRedisLimiterInterceptor implements HandlerInterceptor {
      */
     @Autowired
     private SmartRedisLimiterExecutionCoordinator executionCoordinator;
+    /**
+     * 多规则批量限流协调器
+     */
+    @Autowired
+    private SmartRedisLimiterBatchCoordinator batchCoordinator;
     /**
      * 限流器配置
      */
@@ -143,8 +155,18 @@ public class SmartRedisLimiterInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        SmartRedisLimiterProperties.SmartInterceptorRule matchedRule =
-                smartRedisLimiterRuleMatchCache.findMatchedRule(requestUri, requestMethod);
+        SmartRedisLimiterProperties.SmartInterceptorRule matchedRule;
+        if (Boolean.TRUE.equals(properties.getInterceptor().getMatchAllRules())) {
+            List<SmartRedisLimiterProperties.SmartInterceptorRule> matchedRules =
+                    smartRedisLimiterRuleMatchCache.findMatchedRules(requestUri, requestMethod);
+            if (matchedRules.size() > 1) {
+                return preHandleMatchedRules(request, response, requestUri, matchedRules);
+            }
+            // 全部匹配规则按优先级排列，首条即单规则匹配结果，无需再查一次
+            matchedRule = matchedRules.isEmpty() ? null : matchedRules.get(0);
+        } else {
+            matchedRule = smartRedisLimiterRuleMatchCache.findMatchedRule(requestUri, requestMethod);
+        }
 
         List<SmartRedisLimiterProperties.SmartLimitRule> limitRules;
         String fallbackStrategy;
@@ -222,6 +244,128 @@ public class SmartRedisLimiterInterceptor implements HandlerInterceptor {
                     result.getLimit(), result.getRemaining(), result.getResetAt());
         }
 
+        holdPermit(request, result);
+        return true;
+    }
+
+    /**
+     * 请求完成后（包括业务异常）归还本次请求持有的并发许可
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object permits = request.getAttribute(SmartRedisLimiterStarterConstant.REQUEST_ATTRIBUTE_CONCURRENCY_PERMITS);
+        if (permits == null) {
+            return;
+        }
+        request.removeAttribute(SmartRedisLimiterStarterConstant.REQUEST_ATTRIBUTE_CONCURRENCY_PERMITS);
+        releasePermits((List<SmartRedisLimiterPermit>) permits);
+    }
+
+    /**
+     * 保存放行结果携带的并发许可，由 afterCompletion 归还
+     */
+    @SuppressWarnings("unchecked")
+    private void holdPermit(HttpServletRequest request, SmartRedisLimiterResult result) {
+        if (result.getPermit() == null) {
+            return;
+        }
+        List<SmartRedisLimiterPermit> permits = (List<SmartRedisLimiterPermit>) request.getAttribute(
+                SmartRedisLimiterStarterConstant.REQUEST_ATTRIBUTE_CONCURRENCY_PERMITS);
+        if (permits == null) {
+            permits = new ArrayList<>();
+            request.setAttribute(SmartRedisLimiterStarterConstant.REQUEST_ATTRIBUTE_CONCURRENCY_PERMITS, permits);
+        }
+        permits.add(result.getPermit());
+    }
+
+    private void releasePermits(List<SmartRedisLimiterPermit> permits) {
+        for (SmartRedisLimiterPermit permit : permits) {
+            try {
+                permit.release();
+            } catch (Exception e) {
+                log.warn("SmartRedisLimiter 并发许可归还异常: key={}", permit.getBaseKey(), e);
+            }
+        }
+    }
+
+    /**
+     * 多条匹配规则批量限流：每条规则独立解析 Key 与执行计划，按 datasource 合并为一次 pipeline，
+     * 任一规则拒绝即拒绝请求；interceptor.all-or-nothing=true 时拒绝的请求不扣减任何规则的配额
+     */
+    private boolean preHandleMatchedRules(HttpServletRequest request,
+                                          HttpServletResponse response,
+                                          String requestUri,
+                                          List<SmartRedisLimiterProperties.SmartInterceptorRule> matchedRules) {
+        List<SmartRedisLimiterBatchEntry> entries = new ArrayList<>(matchedRules.size());
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : matchedRules) {
+            List<SmartRedisLimiterProperties.SmartLimitRule> limitRules = rule.getLimits().isEmpty()
+                    ? properties.getInterceptor().getDefaultLimits()
+                    : rule.getLimits();
+            if (limitRules == null || limitRules.isEmpty()) {
+                continue;
+            }
+            String fallbackStrategy = determineFallbackStrategy(rule);
+
+            // 每条规则独立上下文，避免 KeyProvider 预计算的 Key 片段互相覆盖
+            SmartRedisLimiterContext.SmartRedisLimiterContextBuilder builder = SmartRedisLimiterContext.builder();
+            SmartRedisLimiterWebContextHelper.fillWebContext(builder, request);
+            builder.attribute(SmartRedisLimiterContextAttribute.MATCHED_PATH_PATTERN, rule.getPathPattern());
+            SmartRedisLimiterContext context = builder.build();
+
+            String keyStrategy = resolveKeyStrategy(rule, request, response, context, fallbackStrategy, limitRules);
+            if (keyStrategy == null) {
+                // KeyProvider 异常 + fallback=allow：该规则已放行并发布事件，其余规则继续检查
+                continue;
+            }
+            SmartRedisLimiterExecutionPlan plan = executionCoordinator.plan(context, limitRules, keyStrategy,
+                    determineAlgorithmStrategy(rule), fallbackStrategy, rule.getResourceCode());
+            entries.add(new SmartRedisLimiterBatchEntry(context, plan, keyStrategy));
+        }
+        if (entries.isEmpty()) {
+            log.debug("无限流规则，放行请求: {}", requestUri);
+            return true;
+        }
+
+        SmartRedisLimiterBatchResult batchResult = batchCoordinator.execute(entries,
+                Boolean.TRUE.equals(properties.getInterceptor().getAllOrNothing()));
+        SmartRedisLimiterResult decisiveResult = batchResult.getDecisiveResult();
+        writeRateLimitHeaders(response, decisiveResult);
+
+        for (int i = 0; i < entries.size(); i++) {
+            SmartRedisLimiterBatchEntry entry = entries.get(i);
+            SmartRedisLimiterResult result = batchResult.getResults().get(i);
+            if (!result.isPassed() || result.isFallback() || Boolean.TRUE.equals(properties.getLogOnPass())) {
+                SmartRedisLimiterExecutionPlan plan = entry.getPlan();
+                publishLimitEvent(entry.getContext(), plan.getLimits(), entry.getKeyStrategy(), plan.getAlgorithm(),
+                        result, plan.getResourceCode(), plan.getPolicySource(), plan.getPolicyRevision());
+            }
+        }
+
+        if (!batchResult.isPassed()) {
+            // 请求被拒绝，已获取的并发许可立即归还
+            List<SmartRedisLimiterPermit> acquired = new ArrayList<>();
+            for (SmartRedisLimiterResult result : batchResult.getResults()) {
+                if (result.getPermit() != null) {
+                    acquired.add(result.getPermit());
+                }
+            }
+            releasePermits(acquired);
+            List<SmartRedisLimiterProperties.SmartLimitRule> limitRules =
+                    entries.get(batchResult.getDecisiveIndex()).getPlan().getLimits();
+            long retryAfter = limitRules.stream()
+                    .mapToLong(SmartRedisLimiterProperties.SmartLimitRule::getWindowSeconds)
+                    .min()
+                    .orElse(1L);
+            log.warn("拦截器多规则限流触发: {} {}, rules={}, retryAfter={}s",
+                    request.getMethod(), requestUri, limitRules, retryAfter);
+            throw new SmartRedisLimitExceededException(requestUri, retryAfter,
+                    decisiveResult.getLimit(), decisiveResult.getRemaining(), decisiveResult.getResetAt());
+        }
+        for (SmartRedisLimiterResult result : batchResult.getResults()) {
+            holdPermit(request, result);
+        }
         return true;
     }
 
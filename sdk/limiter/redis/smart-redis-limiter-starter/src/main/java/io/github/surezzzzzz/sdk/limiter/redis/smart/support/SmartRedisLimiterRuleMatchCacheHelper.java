@@ -3,18 +3,17 @@ package io.github.surezzzzzz.sdk.limiter.redis.smart.support;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.annotation.SmartRedisLimiterComponent;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
-import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterHttpMethod;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.util.AntPathMatcher;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 规则匹配缓存管理器
- * 使用简单的 ConcurrentHashMap 缓存路径匹配结果，避免重复的 AntPathMatcher 计算
+ * 首次匹配时把拦截器规则编译为 {@link SmartRedisLimiterRulePathTrie}，之后按路径段逐级查找；
+ * 缓存的是编译结果而非每个 URI 的匹配结果，带路径变量的请求（/user/123、/user/124...）不会让缓存增长
  *
  * @author Sure
  * @since 1.0.2
@@ -25,19 +24,15 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SmartRedisLimiterRuleMatchCacheHelper {
 
     /**
-     * 未匹配到规则的标记对象（避免缓存穿透）
+     * 已编译的规则路径树，null 表示尚未编译或已清空
      */
-    private static final SmartRedisLimiterProperties.SmartInterceptorRule MISS_MARKER =
-            new SmartRedisLimiterProperties.SmartInterceptorRule();
-    private final ConcurrentHashMap<String, SmartRedisLimiterProperties.SmartInterceptorRule> cache =
-            new ConcurrentHashMap<>();
+    private volatile SmartRedisLimiterRulePathTrie pathTrie;
 
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
     @Autowired
     private SmartRedisLimiterProperties properties;
 
     /**
-     * 查找匹配的规则（带缓存）
+     * 查找匹配的规则
      *
      * @param requestUri    请求URI
      * @param requestMethod 请求方法
@@ -46,98 +41,60 @@ public class SmartRedisLimiterRuleMatchCacheHelper {
     public SmartRedisLimiterProperties.SmartInterceptorRule findMatchedRule(
             String requestUri,
             String requestMethod) {
-
-        // 构建缓存Key: "GET:/api/user/123"
-        String cacheKey = buildCacheKey(requestMethod, requestUri);
-
-        // 从缓存获取
-        SmartRedisLimiterProperties.SmartInterceptorRule cachedRule = cache.get(cacheKey);
-
-        if (cachedRule != null) {
-            log.trace("规则缓存命中: {}", cacheKey);
-            return cachedRule == MISS_MARKER ? null : cachedRule;
-        }
-
-        // 缓存未命中，执行匹配
-        log.trace("规则缓存未命中，执行匹配: {}", cacheKey);
         SmartRedisLimiterProperties.SmartInterceptorRule matchedRule =
-                doFindMatchedRule(requestUri, requestMethod);
-
-        // 放入缓存（包括未匹配的情况，使用MISS_MARKER避免缓存穿透）
-        cache.put(cacheKey, matchedRule != null ? matchedRule : MISS_MARKER);
-
+                getPathTrie().findFirst(requestUri, requestMethod);
+        if (matchedRule != null) {
+            log.debug("匹配到规则: {}", matchedRule);
+        } else {
+            log.debug("未匹配到任何规则: {} {}", requestMethod, requestUri);
+        }
         return matchedRule;
     }
 
     /**
-     * 实际执行规则匹配
+     * 查找全部匹配的规则，顺序与单规则匹配的优先级一致
+     *
+     * @param requestUri    请求URI
+     * @param requestMethod 请求方法
+     * @return 匹配的规则列表，无匹配时为空列表
      */
-    private SmartRedisLimiterProperties.SmartInterceptorRule doFindMatchedRule(
+    public List<SmartRedisLimiterProperties.SmartInterceptorRule> findMatchedRules(
             String requestUri,
             String requestMethod) {
+        List<SmartRedisLimiterProperties.SmartInterceptorRule> matchedRules =
+                getPathTrie().findAll(requestUri, requestMethod);
+        log.debug("匹配到 {} 条规则: {} {}", matchedRules.size(), requestMethod, requestUri);
+        return Collections.unmodifiableList(matchedRules);
+    }
 
-        List<SmartRedisLimiterProperties.SmartInterceptorRule> rules =
-                properties.getInterceptor().getRules();
-
-        // 优先级1: 精确路径 + 精确方法
-        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
-            if (rule.getPathPattern().equals(requestUri) && matchMethod(rule, requestMethod)) {
-                log.debug("匹配到精确规则: {}", rule);
-                return rule;
-            }
-        }
-
-        // 优先级2: 模式路径 + 精确方法（非空方法，精确方法优先于通配）
-        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
-            if (rule.getMethod() != null && !rule.getMethod().isEmpty()
-                    && pathMatcher.match(rule.getPathPattern(), requestUri)
-                    && matchMethod(rule, requestMethod)) {
-                log.debug("匹配到模式规则（精确方法）: {}", rule);
-                return rule;
-            }
-        }
-
-        // 优先级3: 模式路径 + 任意方法（method 为空，通配所有方法）
-        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
-            if ((rule.getMethod() == null || rule.getMethod().isEmpty())
-                    && pathMatcher.match(rule.getPathPattern(), requestUri)) {
-                log.debug("匹配到模式规则（通配方法）: {}", rule);
-                return rule;
+    private SmartRedisLimiterRulePathTrie getPathTrie() {
+        SmartRedisLimiterRulePathTrie current = pathTrie;
+        if (current == null) {
+            synchronized (this) {
+                current = pathTrie;
+                if (current == null) {
+                    current = new SmartRedisLimiterRulePathTrie(properties.getInterceptor().getRules());
+                    pathTrie = current;
+                    log.info("SmartRedisLimiter 规则路径树编译完成, 规则数: {}", current.size());
+                }
             }
         }
-
-        log.debug("未匹配到任何规则: {} {}", requestMethod, requestUri);
-        return null;
-    }
-
-    /**
-     * 构建缓存Key
-     */
-    private String buildCacheKey(String method, String uri) {
-        return method + SmartRedisLimiterConstant.CACHE_KEY_SEPARATOR + uri;
-    }
-
-    /**
-     * 匹配HTTP方法
-     */
-    private boolean matchMethod(SmartRedisLimiterProperties.SmartInterceptorRule rule, String requestMethod) {
-        String ruleMethod = rule.getMethod();
-        SmartRedisLimiterHttpMethod httpMethod = SmartRedisLimiterHttpMethod.fromCode(ruleMethod);
-        return httpMethod.matches(requestMethod);
+        return current;
     }
 
     /**
-     * 清空缓存（配置变更时调用）
+     * 清空缓存（配置变更时调用），下次匹配时按当前规则重新编译
      */
     public void clearCache() {
-        cache.clear();
+        pathTrie = null;
         log.info("SmartRedisLimiter 规则缓存已清空");
     }
 
     /**
-     * 获取缓存大小
+     * 获取缓存大小，即已编译的规则数；未编译时为 0
      */
     public int getCacheSize() {
-        return cache.size();
+        SmartRedisLimiterRulePathTrie current = pathTrie;
+        return current == null ? 0 : current.size();
     }
 }
@@ -0,0 +1,303 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.support;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterHttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.*;
+
+/**
+ * 拦截器规则路径树
+ * <p>构建时把全部规则的 pathPattern 按 "/" 切分编译为分段树：字面量、"*" / "{var}"、"**" 与段内通配各自成为节点；
+ * 匹配时沿请求路径逐段下降，耗时只与路径段数相关，与规则数量无关，因此不再需要按 URI 缓存匹配结果。</p>
+ *
+ * <p>匹配语义与 AntPathMatcher 一致（包括前导 / 结尾斜杠的处理），优先级与原实现相同：
+ * 精确路径 + 精确方法 &gt; 模式路径 + 精确方法 &gt; 模式路径 + 通配方法，同一优先级按配置顺序。</p>
+ *
+ * <p>实例构建后只读，可在多线程间共享。</p>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+public class SmartRedisLimiterRulePathTrie {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final List<SmartRedisLimiterProperties.SmartInterceptorRule> rules;
+    /**
+     * pathPattern 原文 → 规则下标（优先级1：精确路径）
+     */
+    private final Map<String, List<Integer>> exactRules = new HashMap<>();
+    private final Node root = new Node();
+    /**
+     * 仅用于段内通配（如 "*.json"、"{id:\\d+}"）的单段匹配
+     */
+    private final AntPathMatcher segmentMatcher = new AntPathMatcher();
+
+    /**
+     * 编译规则
+     *
+     * @param rules 拦截器规则，顺序即同优先级下的匹配顺序
+     */
+    public SmartRedisLimiterRulePathTrie(List<SmartRedisLimiterProperties.SmartInterceptorRule> rules) {
+        this.rules = rules == null ? Collections.emptyList() : new ArrayList<>(rules);
+        for (int i = 0; i < this.rules.size(); i++) {
+            compile(i, this.rules.get(i).getPathPattern());
+        }
+    }
+
+    /**
+     * 查找优先级最高的规则
+     *
+     * @param requestUri    请求URI
+     * @param requestMethod 请求方法
+     * @return 匹配的规则，null 表示无匹配
+     */
+    public SmartRedisLimiterProperties.SmartInterceptorRule findFirst(String requestUri, String requestMethod) {
+        List<Integer> exact = exactRules.get(requestUri);
+        if (exact != null) {
+            for (Integer index : exact) {
+                if (matchMethod(rules.get(index), requestMethod)) {
+                    return rules.get(index);
+                }
+            }
+        }
+
+        BitSet matched = matchPattern(requestUri);
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            SmartRedisLimiterProperties.SmartInterceptorRule rule = rules.get(i);
+            if (hasMethod(rule) && matchMethod(rule, requestMethod)) {
+                return rule;
+            }
+        }
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            SmartRedisLimiterProperties.SmartInterceptorRule rule = rules.get(i);
+            if (!hasMethod(rule)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 查找全部匹配的规则，顺序与 {@link #findFirst} 的优先级一致，同一规则只返回一次
+     *
+     * @param requestUri    请求URI
+     * @param requestMethod 请求方法
+     * @return 匹配的规则列表，无匹配时为空列表
+     */
+    public List<SmartRedisLimiterProperties.SmartInterceptorRule> findAll(String requestUri, String requestMethod) {
+        List<SmartRedisLimiterProperties.SmartInterceptorRule> matchedRules = new ArrayList<>();
+        BitSet added = new BitSet(rules.size());
+
+        List<Integer> exact = exactRules.get(requestUri);
+        if (exact != null) {
+            for (Integer index : exact) {
+                if (matchMethod(rules.get(index), requestMethod)) {
+                    matchedRules.add(rules.get(index));
+                    added.set(index);
+                }
+            }
+        }
+
+        BitSet matched = matchPattern(requestUri);
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            SmartRedisLimiterProperties.SmartInterceptorRule rule = rules.get(i);
+            if (!added.get(i) && hasMethod(rule) && matchMethod(rule, requestMethod)) {
+                matchedRules.add(rule);
+                added.set(i);
+            }
+        }
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            SmartRedisLimiterProperties.SmartInterceptorRule rule = rules.get(i);
+            if (!added.get(i) && !hasMethod(rule)) {
+                matchedRules.add(rule);
+                added.set(i);
+            }
+        }
+        return matchedRules;
+    }
+
+    /**
+     * 已编译的规则数
+     */
+    public int size() {
+        return rules.size();
+    }
+
+    private void compile(int index, String pathPattern) {
+        exactRules.computeIfAbsent(pathPattern, key -> new ArrayList<>()).add(index);
+
+        String[] tokens = tokenize(pathPattern);
+        boolean hasMultiWildcard = false;
+        Node node = root;
+        for (String token : tokens) {
+            if (MULTI_WILDCARD.equals(token)) {
+                hasMultiWildcard = true;
+                if (node.multi == null) {
+                    node.multi = new Node();
+                }
+                node = node.multi;
+            } else if (SINGLE_WILDCARD.equals(token) || isVariable(token)) {
+                if (node.single == null) {
+                    node.single = new Node();
+                }
+                node = node.single;
+            } else if (isSegmentPattern(token)) {
+                node = node.patternChild(token);
+            } else {
+                node = node.literals.computeIfAbsent(token, key -> new Node());
+            }
+        }
+        node.terminals.add(new Terminal(
+                index,
+                pathPattern.startsWith(PATH_SEPARATOR),
+                pathPattern.endsWith(PATH_SEPARATOR),
+                hasMultiWildcard,
+                tokens.length > 0 && SINGLE_WILDCARD.equals(tokens[tokens.length - 1])));
+    }
+
+    private BitSet matchPattern(String requestUri) {
+        BitSet matched = new BitSet(rules.size());
+        if (requestUri == null || rules.isEmpty()) {
+            return matched;
+        }
+        match(root, tokenize(requestUri), 0,
+                requestUri.startsWith(PATH_SEPARATOR), requestUri.endsWith(PATH_SEPARATOR), matched);
+        return matched;
+    }
+
+    private void match(Node node, String[] tokens, int index,
+                       boolean leadingSeparator, boolean trailingSeparator, BitSet matched) {
+        if (index == tokens.length) {
+            for (Terminal terminal : node.terminals) {
+                // 不含 "**" 的模式与 AntPathMatcher 一样要求结尾斜杠一致
+                if (terminal.leadingSeparator == leadingSeparator
+                        && (terminal.multiWildcard || terminal.trailingSeparator == trailingSeparator)) {
+                    matched.set(terminal.ruleIndex);
+                }
+            }
+            // AntPathMatcher 中 "/a/*" 可匹配 "/a/"
+            if (trailingSeparator && node.single != null) {
+                for (Terminal terminal : node.single.terminals) {
+                    if (terminal.endsWithSingleWildcard && !terminal.multiWildcard
+                            && terminal.leadingSeparator == leadingSeparator) {
+                        matched.set(terminal.ruleIndex);
+                    }
+                }
+            }
+            if (node.multi != null) {
+                match(node.multi, tokens, index, leadingSeparator, trailingSeparator, matched);
+            }
+            return;
+        }
+
+        String token = tokens[index];
+        Node literal = node.literals.get(token);
+        if (literal != null) {
+            match(literal, tokens, index + 1, leadingSeparator, trailingSeparator, matched);
+        }
+        if (node.single != null) {
+            match(node.single, tokens, index + 1, leadingSeparator, trailingSeparator, matched);
+        }
+        for (PatternChild child : node.patterns) {
+            if (segmentMatcher.match(child.segment, token)) {
+                match(child.node, tokens, index + 1, leadingSeparator, trailingSeparator, matched);
+            }
+        }
+        if (node.multi != null) {
+            // "**" 可匹配 0 到多个路径段
+            for (int next = index; next <= tokens.length; next++) {
+                match(node.multi, tokens, next, leadingSeparator, trailingSeparator, matched);
+            }
+        }
+    }
+
+    private static String[] tokenize(String path) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        int length = path.length();
+        while (start <= length) {
+            int end = path.indexOf(PATH_SEPARATOR, start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                tokens.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    private static boolean isVariable(String token) {
+        return token.length() > 2
+                && token.charAt(0) == '{'
+                && token.charAt(token.length() - 1) == '}'
+                && token.indexOf('{', 1) < 0
+                && token.indexOf('}') == token.length() - 1
+                && token.indexOf(':') < 0;
+    }
+
+    private static boolean isSegmentPattern(String token) {
+        return token.indexOf('*') >= 0 || token.indexOf('?') >= 0 || token.indexOf('{') >= 0;
+    }
+
+    private static boolean hasMethod(SmartRedisLimiterProperties.SmartInterceptorRule rule) {
+        return rule.getMethod() != null && !rule.getMethod().isEmpty();
+    }
+
+    private static boolean matchMethod(SmartRedisLimiterProperties.SmartInterceptorRule rule, String requestMethod) {
+        return SmartRedisLimiterHttpMethod.fromCode(rule.getMethod()).matches(requestMethod);
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<PatternChild> patterns = new ArrayList<>();
+        private final List<Terminal> terminals = new ArrayList<>();
+        private Node single;
+        private Node multi;
+
+        private Node patternChild(String segment) {
+            for (PatternChild child : patterns) {
+                if (child.segment.equals(segment)) {
+                    return child.node;
+                }
+            }
+            PatternChild child = new PatternChild(segment);
+            patterns.add(child);
+            return child.node;
+        }
+    }
+
+    private static final class PatternChild {
+
+        private final String segment;
+        private final Node node = new Node();
+
+        private PatternChild(String segment) {
+            this.segment = segment;
+        }
+    }
+
+    private static final class Terminal {
+
+        private final int ruleIndex;
+        private final boolean leadingSeparator;
+        private final boolean trailingSeparator;
+        private final boolean multiWildcard;
+        private final boolean endsWithSingleWildcard;
+
+        private Terminal(int ruleIndex, boolean leadingSeparator, boolean trailingSeparator,
+                         boolean multiWildcard, boolean endsWithSingleWildcard) {
+            this.ruleIndex = ruleIndex;
+            this.leadingSeparator = leadingSeparator;
+            this.trailingSeparator = trailingSeparator;
+            this.multiWildcard = multiWildcard;
+            this.endsWithSingleWildcard = endsWithSingleWildcard;
+        }
+    }
+}
@@ -471,6 +471,45 @@ public class ConfigValidationTest {
                 "错误信息应包含 resource-code 完整配置路径");
     }
 
+    /**
+     * 测试全有或全无的拦截器规则算法在启动时校验
+     */
+    @Test
+    public void testAllOrNothingRuleAlgorithmsValidatedAtStartup() {
+        SmartRedisLimiterProperties properties = createValidProperties();
+        properties.setMode("interceptor");
+        properties.getInterceptor().setMatchAllRules(true);
+        properties.getInterceptor().setAllOrNothing(true);
+        properties.getInterceptor().getRules().add(interceptorRule("/api/**", null));
+        properties.getInterceptor().getRules().add(interceptorRule("/api/orders/**",
+                SmartRedisLimiterConstant.ALGORITHM_FIXED));
+        assertDoesNotThrow(properties::init, "未配置算法的规则按 fixed 处理，与显式 fixed 一致");
+
+        properties.getInterceptor().getRules().add(interceptorRule("/api/orders/export",
+                SmartRedisLimiterConstant.ALGORITHM_SLIDING));
+        SmartRedisLimiterConfigurationException mixed =
+                assertThrows(SmartRedisLimiterConfigurationException.class, properties::init);
+        assertEquals(ErrorCode.BATCH_ALL_OR_NOTHING_UNSUPPORTED, mixed.getErrorCode());
+        log.info("混合算法异常: {}", mixed.getMessage());
+
+        properties.getInterceptor().getRules().clear();
+        properties.getInterceptor().getRules().add(interceptorRule("/api/**",
+                SmartRedisLimiterStarterConstant.ALGORITHM_LEASE));
+        SmartRedisLimiterConfigurationException lease =
+                assertThrows(SmartRedisLimiterConfigurationException.class, properties::init);
+        assertEquals(ErrorCode.BATCH_ALL_OR_NOTHING_UNSUPPORTED, lease.getErrorCode());
+
+        properties.getInterceptor().setAllOrNothing(false);
+        assertDoesNotThrow(properties::init, "各规则独立判定时不限制算法");
+    }
+
+    private SmartRedisLimiterProperties.SmartInterceptorRule interceptorRule(String pathPattern, String algorithm) {
+        SmartRedisLimiterProperties.SmartInterceptorRule rule = new SmartRedisLimiterProperties.SmartInterceptorRule();
+        rule.setPathPattern(pathPattern);
+        rule.setAlgorithm(algorithm);
+        return rule;
+    }
+
     /**
      * 创建一个合法的配置对象
      */
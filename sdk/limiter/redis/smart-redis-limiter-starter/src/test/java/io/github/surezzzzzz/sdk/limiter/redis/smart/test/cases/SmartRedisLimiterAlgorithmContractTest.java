@@ -7,12 +7,13 @@ import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimi
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
-import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterTimeUnit;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorCode;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.starter.ErrorMessage;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterScriptException;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutor;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterTimeoutExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.test.support.TestLimitRules;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -52,7 +53,7 @@ public class SmartRedisLimiterAlgorithmContractTest {
         SmartRedisLimiterContext context = SmartRedisLimiterContext.builder().build();
 
         SmartRedisLimiterResult result = algorithm.tryAcquireWithResult(
-                context, Collections.singletonList(rule()), null, "deny");
+                context, Collections.singletonList(TestLimitRules.seconds(10L, 1L)), null, "deny");
 
         log.info("Lua 字段非法降级结果: passed={}, fallbackReason={}",
                 result.isPassed(), result.getFallbackReason());
@@ -69,7 +70,7 @@ public class SmartRedisLimiterAlgorithmContractTest {
         SmartRedisLimiterContext context = SmartRedisLimiterContext.builder().build();
 
         SmartRedisLimiterResult result = algorithm.tryAcquireWithResult(
-                context, Collections.singletonList(rule()), null, "allow");
+                context, Collections.singletonList(TestLimitRules.seconds(10L, 1L)), null, "allow");
 
         assertTrue(result.isFallback(), "Lua 返回长度不足必须进入 fallback");
         assertEquals(SmartRedisLimiterConstant.FALLBACK_REASON_SCRIPT_ERROR,
@@ -82,7 +83,7 @@ public class SmartRedisLimiterAlgorithmContractTest {
         SmartRedisLimiterContext context = SmartRedisLimiterContext.builder().build();
 
         SmartRedisLimiterResult result = algorithm.tryAcquireWithResult(
-                context, Collections.singletonList(rule()), null, "deny");
+                context, Collections.singletonList(TestLimitRules.seconds(10L, 1L)), null, "deny");
 
         log.info("正常执行 route 快照: routeKey={}, datasource={}, durationNanos={}",
                 result.getRouteKey(), result.getDatasourceKey(),
@@ -118,7 +119,7 @@ public class SmartRedisLimiterAlgorithmContractTest {
         SmartRedisLimiterContext context = SmartRedisLimiterContext.builder().build();
 
         SmartRedisLimiterResult result = algorithm.tryAcquireWithResult(
-                context, Collections.singletonList(rule()), null, "allow");
+                context, Collections.singletonList(TestLimitRules.seconds(10L, 1L)), null, "allow");
 
         log.info("超时降级结果: passed={}, fallbackReason={}",
                 result.isPassed(), result.getFallbackReason());
@@ -172,14 +173,6 @@ public class SmartRedisLimiterAlgorithmContractTest {
                 .build();
     }
 
-    private SmartRedisLimiterProperties.SmartLimitRule rule() {
-        SmartRedisLimiterProperties.SmartLimitRule rule = new SmartRedisLimiterProperties.SmartLimitRule();
-        rule.setCount(10L);
-        rule.setWindow(1L);
-        rule.setUnit(SmartRedisLimiterTimeUnit.SECONDS);
-        return rule;
-    }
-
     private static class FakeRedisExecutor implements SmartRedisLimiterRedisExecutor {
 
         private final List<?> luaResult;
@@ -221,6 +214,26 @@ public class SmartRedisLimiterAlgorithmContractTest {
             return "";
         }
 
+        @Override
+        protected String buildScriptKey(String baseKey, SmartRedisLimiterProperties.SmartLimitRule rule) {
+            return baseKey;
+        }
+
+        @Override
+        protected List<String> buildScriptArgs(List<SmartRedisLimiterProperties.SmartLimitRule> limitRules) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected String getScriptResultErrorCode() {
+            return ErrorCode.FIXED_WINDOW_SCRIPT_RESULT_INVALID;
+        }
+
+        @Override
+        protected String getScriptResultErrorMessage() {
+            return ErrorMessage.FIXED_WINDOW_SCRIPT_RESULT_INVALID;
+        }
+
         @Override
         protected SmartRedisLimiterResult doExecuteWithResult(
                 SmartRedisLimiterContext context,
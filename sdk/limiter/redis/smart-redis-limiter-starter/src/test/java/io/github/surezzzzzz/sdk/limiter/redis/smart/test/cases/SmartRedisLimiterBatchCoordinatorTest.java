@@ -0,0 +1,228 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.test.cases;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.AbstractSmartRedisLimiterAlgorithm;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterAlgorithm;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterFixedWindowAlgorithm;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterSlidingWindowAlgorithm;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterFallbackStrategy;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimiterRedisException;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterBatchCoordinator;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterBatchItem;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterBatchResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.execution.SmartRedisLimiterExecutionCoordinator;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterScriptCall;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterTimeoutExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.test.support.TestLimitRules;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 批量限流协调器测试
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Slf4j
+public class SmartRedisLimiterBatchCoordinatorTest {
+
+    private SmartRedisLimiterTimeoutExecutor timeoutExecutor;
+    private RecordingRedisExecutor redisExecutor;
+    private SmartRedisLimiterBatchCoordinator batchCoordinator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        SmartRedisLimiterProperties properties = new SmartRedisLimiterProperties();
+        properties.setMe("test");
+        properties.getRedis().setCommandTimeout(1000L);
+        timeoutExecutor = new SmartRedisLimiterTimeoutExecutor(properties);
+        redisExecutor = new RecordingRedisExecutor();
+
+        Map<String, SmartRedisLimiterAlgorithm> algorithms = new HashMap<>();
+        algorithms.put(SmartRedisLimiterConstant.ALGORITHM_FIXED,
+                createAlgorithm(new SmartRedisLimiterFixedWindowAlgorithm(), properties));
+        algorithms.put(SmartRedisLimiterConstant.ALGORITHM_SLIDING,
+                createAlgorithm(new SmartRedisLimiterSlidingWindowAlgorithm(), properties));
+        SmartRedisLimiterExecutionCoordinator executionCoordinator = new SmartRedisLimiterExecutionCoordinator(
+                properties, algorithms::get, mock(ObjectProvider.class), mock(ObjectProvider.class));
+        batchCoordinator = new SmartRedisLimiterBatchCoordinator(
+                properties, algorithms::get, executionCoordinator, redisExecutor, timeoutExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (timeoutExecutor != null) {
+            timeoutExecutor.destroy();
+            timeoutExecutor = null;
+        }
+    }
+
+    @Test
+    @DisplayName("独立判定时多个资源只提交一次批量脚本，结果按资源顺序返回")
+    public void testIndependentBatchSubmittedOnce() {
+        redisExecutor.results.add(Arrays.asList(1L, 10L, 9L, 1000L));
+        redisExecutor.results.add(Arrays.asList(0L, 5L, 0L, 1000L));
+        redisExecutor.results.add(Arrays.asList(1L, 20L, 19L, 1000L));
+
+        SmartRedisLimiterBatchResult result = batchCoordinator.tryAcquireAll(Arrays.asList(
+                item("user-1", 10L), item("tenant-1", 5L), item("route-1", 20L)));
+
+        assertEquals(1, redisExecutor.batches.size(), "所有资源应在一次批量调用中提交");
+        assertEquals(3, redisExecutor.batches.get(0).size());
+        assertEquals(0, redisExecutor.singleCalls.get(), "批量路径不应逐条调用 execute");
+        assertTrue(result.getResults().get(0).isPassed());
+        assertFalse(result.getResults().get(1).isPassed());
+        assertTrue(result.getResults().get(2).isPassed(), "独立判定时其它资源不受拒绝影响");
+        assertFalse(result.isPassed());
+        assertEquals(1, result.getDecisiveIndex(), "决定性结果应为第一个被拒绝的资源");
+    }
+
+    @Test
+    @DisplayName("全有或全无时所有资源的窗口合并为一次脚本调用")
+    public void testAllOrNothingMergedIntoSingleScript() {
+        redisExecutor.results.add(Arrays.asList(0L, 5L, 0L, 1000L));
+
+        SmartRedisLimiterBatchResult result = batchCoordinator.tryAcquireAll(Arrays.asList(
+                item("user-1", 10L, 100L), item("tenant-1", 5L)), true);
+
+        assertEquals(1, redisExecutor.batches.size());
+        List<SmartRedisLimiterScriptCall> calls = redisExecutor.batches.get(0);
+        assertEquals(1, calls.size(), "全有或全无应只生成一条脚本调用");
+        assertEquals(3, calls.get(0).getKeys().size(), "合并后的 KEYS 数量应为所有资源规则数之和");
+        log.info("合并后的 KEYS: {}", calls.get(0).getKeys());
+        assertTrue(result.isAllOrNothing());
+        assertFalse(result.isPassed());
+        result.getResults().forEach(r -> assertFalse(r.isPassed(), "全有或全无时所有资源结果一致"));
+    }
+
+    @Test
+    @DisplayName("全有或全无遇到混合算法时不访问 Redis，全部资源按降级策略处理")
+    public void testAllOrNothingMixedAlgorithmsFallBack() {
+        SmartRedisLimiterBatchItem fixed = item("user-1", 10L);
+        SmartRedisLimiterBatchItem sliding = SmartRedisLimiterBatchItem.builder()
+                .keyPart("tenant-1")
+                .limits(Collections.singletonList(TestLimitRules.seconds(5L, 60L)))
+                .algorithm(SmartRedisLimiterConstant.ALGORITHM_SLIDING)
+                .fallback(SmartRedisLimiterFallbackStrategy.DENY_CODE)
+                .build();
+
+        SmartRedisLimiterBatchResult result = batchCoordinator.tryAcquireAll(Arrays.asList(fixed, sliding), true);
+
+        assertTrue(redisExecutor.batches.isEmpty());
+        assertFalse(result.isPassed());
+        for (SmartRedisLimiterResult itemResult : result.getResults()) {
+            assertTrue(itemResult.isFallback());
+            assertEquals(SmartRedisLimiterStarterConstant.FALLBACK_REASON_BATCH_UNSUPPORTED,
+                    itemResult.getFallbackReason());
+        }
+    }
+
+    @Test
+    @DisplayName("单条脚本失败只让对应资源降级，其它资源正常返回")
+    public void testSingleScriptErrorFallsBackPerItem() {
+        redisExecutor.results.add(Arrays.asList(1L, 10L, 9L, 1000L));
+        redisExecutor.results.add(new SmartRedisLimiterRedisException(
+                "REDIS_001", "mock redis error", null, "tenant-1", "limiter",
+                SmartRedisLimiterConstant.REDIS_MODE_STANDALONE, true, true,
+                SmartRedisLimiterConstant.FALLBACK_REASON_REDIS_ERROR));
+
+        SmartRedisLimiterBatchResult result = batchCoordinator.tryAcquireAll(Arrays.asList(
+                item("user-1", 10L), item("tenant-1", 5L)));
+
+        assertTrue(result.getResults().get(0).isPassed());
+        assertFalse(result.getResults().get(0).isFallback());
+        assertTrue(result.getResults().get(1).isFallback());
+        assertEquals(SmartRedisLimiterConstant.FALLBACK_REASON_REDIS_ERROR,
+                result.getResults().get(1).getFallbackReason());
+        assertFalse(result.getResults().get(1).isPassed(), "deny 策略降级应拒绝");
+    }
+
+    private SmartRedisLimiterAlgorithm createAlgorithm(AbstractSmartRedisLimiterAlgorithm algorithm,
+                                                       SmartRedisLimiterProperties properties) {
+        ReflectionTestUtils.setField(algorithm, "properties", properties);
+        ReflectionTestUtils.setField(algorithm, "timeoutExecutor", timeoutExecutor);
+        ReflectionTestUtils.setField(algorithm, "redisExecutor", redisExecutor);
+        algorithm.init();
+        return algorithm;
+    }
+
+    private SmartRedisLimiterBatchItem item(String keyPart, Long... counts) {
+        List<SmartRedisLimiterProperties.SmartLimitRule> rules = new ArrayList<>();
+        for (Long count : counts) {
+            rules.add(TestLimitRules.seconds(count, 60L));
+        }
+        return SmartRedisLimiterBatchItem.builder()
+                .keyPart(keyPart)
+                .limits(rules)
+                .fallback(SmartRedisLimiterFallbackStrategy.DENY_CODE)
+                .build();
+    }
+
+    private static class RecordingRedisExecutor implements SmartRedisLimiterRedisExecutor {
+
+        private final List<List<SmartRedisLimiterScriptCall>> batches = new ArrayList<>();
+        private final Deque<Object> results = new ArrayDeque<>();
+        private final AtomicInteger singleCalls = new AtomicInteger();
+
+        @Override
+        public <T> SmartRedisLimiterRedisExecutionResult<T> execute(
+                String routeKey, Function<StringRedisTemplate, T> callback) {
+            singleCalls.incrementAndGet();
+            throw new UnsupportedOperationException("single execute not expected");
+        }
+
+        @Override
+        public List<SmartRedisLimiterRedisExecutionResult<List<?>>> executeScripts(
+                List<SmartRedisLimiterScriptCall> calls) {
+            batches.add(new ArrayList<>(calls));
+            List<SmartRedisLimiterRedisExecutionResult<List<?>>> executionResults = new ArrayList<>();
+            for (SmartRedisLimiterScriptCall call : calls) {
+                Object next = results.poll();
+                SmartRedisLimiterRedisExecutionResult.SmartRedisLimiterRedisExecutionResultBuilder<List<?>> builder =
+                        SmartRedisLimiterRedisExecutionResult.<List<?>>builder()
+                                .routeKey(call.getRouteKey())
+                                .datasourceKey("limiter")
+                                .redisMode(SmartRedisLimiterConstant.REDIS_MODE_STANDALONE)
+                                .routeRequired(true)
+                                .routeResolved(true);
+                if (next instanceof SmartRedisLimiterRedisException) {
+                    builder.error((SmartRedisLimiterRedisException) next);
+                } else {
+                    builder.value((List<?>) next);
+                }
+                executionResults.add(builder.build());
+            }
+            return executionResults;
+        }
+
+        @Override
+        public SmartRedisLimiterRedisExecutionResult<Void> resolveRoute(String routeKey) {
+            return SmartRedisLimiterRedisExecutionResult.<Void>builder()
+                    .routeKey(routeKey)
+                    .datasourceKey("limiter")
+                    .redisMode(SmartRedisLimiterConstant.REDIS_MODE_STANDALONE)
+                    .routeRequired(true)
+                    .routeResolved(true)
+                    .build();
+        }
+    }
+}
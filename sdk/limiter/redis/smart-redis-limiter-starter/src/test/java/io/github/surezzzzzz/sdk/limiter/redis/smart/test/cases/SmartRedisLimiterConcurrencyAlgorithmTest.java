@@ -0,0 +1,178 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.test.cases;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterConcurrencyAlgorithm;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterContext;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterPermit;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterTimeoutExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.test.support.TestLimitRules;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 并发限流算法测试
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Slf4j
+public class SmartRedisLimiterConcurrencyAlgorithmTest {
+
+    private SmartRedisLimiterTimeoutExecutor timeoutExecutor;
+
+    @AfterEach
+    public void tearDown() {
+        if (timeoutExecutor != null) {
+            timeoutExecutor.destroy();
+            timeoutExecutor = null;
+        }
+    }
+
+    @Test
+    @DisplayName("放行结果携带许可，release 访问一次 Redis 且幂等")
+    public void testPermitAcquireAndRelease() {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Arrays.asList(1L, 10L, 7L, 2000L));
+        SmartRedisLimiterConcurrencyAlgorithm algorithm =
+                createAlgorithm(redisExecutor, new SmartRedisLimiterProperties());
+        List<SmartRedisLimiterProperties.SmartLimitRule> rules =
+                Collections.singletonList(TestLimitRules.seconds(10L, 30L));
+
+        SmartRedisLimiterResult result = algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny");
+        assertTrue(result.isPassed());
+        SmartRedisLimiterPermit permit = result.getPermit();
+        assertNotNull(permit, "放行结果应携带并发许可");
+        assertEquals(3L, permit.getInFlight(), "在途数应为 limit - remaining");
+        assertEquals(1, permit.getKeys().size());
+        assertTrue(permit.getKeys().get(0).endsWith(":30cc"), "许可 Key 应使用租约秒数与并发后缀: " + permit.getKeys());
+        assertEquals(1, redisExecutor.calls.get());
+
+        permit.release();
+        assertTrue(permit.isReleased());
+        assertEquals(2, redisExecutor.calls.get(), "归还许可应访问一次 Redis");
+        permit.release();
+        assertEquals(2, redisExecutor.calls.get(), "重复归还不应再次访问 Redis");
+    }
+
+    @Test
+    @DisplayName("在途数达到上限时拒绝且不签发许可")
+    public void testRejectWithoutPermit() {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Arrays.asList(0L, 10L, 0L, 2000L));
+        SmartRedisLimiterConcurrencyAlgorithm algorithm =
+                createAlgorithm(redisExecutor, new SmartRedisLimiterProperties());
+
+        SmartRedisLimiterResult result = algorithm.tryAcquireWithResult(
+                context("user-1"), Collections.singletonList(TestLimitRules.seconds(10L, 30L)), null, "allow");
+        assertFalse(result.isPassed());
+        assertFalse(result.isFallback());
+        assertNull(result.getPermit());
+    }
+
+    @Test
+    @DisplayName("Redis 异常降级放行时不签发许可")
+    public void testFallbackWithoutPermit() {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Collections.singletonList(1L));
+        SmartRedisLimiterConcurrencyAlgorithm algorithm =
+                createAlgorithm(redisExecutor, new SmartRedisLimiterProperties());
+
+        SmartRedisLimiterResult result = algorithm.tryAcquireWithResult(
+                context("user-1"), Collections.singletonList(TestLimitRules.seconds(10L, 30L)), null, "allow");
+        assertTrue(result.isPassed());
+        assertTrue(result.isFallback(), "脚本返回结构非法时应降级");
+        assertNull(result.getPermit());
+    }
+
+    @Test
+    @DisplayName("自适应模式下耗时上升时许可数收缩，且不超过规则 count")
+    public void testAdaptiveLimitShrinksOnLatency() throws Exception {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Arrays.asList(1L, 10L, 0L, 2000L));
+        SmartRedisLimiterProperties properties = new SmartRedisLimiterProperties();
+        properties.getConcurrency().setAdaptive(true);
+        SmartRedisLimiterConcurrencyAlgorithm algorithm = createAlgorithm(redisExecutor, properties);
+        List<SmartRedisLimiterProperties.SmartLimitRule> rules =
+                Collections.singletonList(TestLimitRules.seconds(10L, 30L));
+
+        SmartRedisLimiterResult first = algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny");
+        String baseKey = first.getPermit().getBaseKey();
+        assertEquals(10L, algorithm.getAdaptiveLimit(baseKey), "初始许可数应为规则 count");
+        first.getPermit().release();
+
+        for (int i = 0; i < 20; i++) {
+            algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny").getPermit().release();
+        }
+        assertTrue(algorithm.getAdaptiveLimit(baseKey) <= 10L, "许可数不应超过规则 count");
+
+        for (int i = 0; i < 5; i++) {
+            SmartRedisLimiterPermit permit =
+                    algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny").getPermit();
+            Thread.sleep(20L);
+            permit.release();
+        }
+        long shrunk = algorithm.getAdaptiveLimit(baseKey);
+        log.info("耗时上升后的自适应许可数: {}", shrunk);
+        assertTrue(shrunk < 10L && shrunk >= 1L, "耗时上升后许可数应收缩: " + shrunk);
+
+        algorithm.clearAdaptiveLimits();
+        assertEquals(-1L, algorithm.getAdaptiveLimit(baseKey));
+    }
+
+    private SmartRedisLimiterConcurrencyAlgorithm createAlgorithm(SmartRedisLimiterRedisExecutor redisExecutor,
+                                                                  SmartRedisLimiterProperties properties) {
+        properties.setMe("test");
+        properties.getRedis().setCommandTimeout(1000L);
+        timeoutExecutor = new SmartRedisLimiterTimeoutExecutor(properties);
+        SmartRedisLimiterConcurrencyAlgorithm algorithm = new SmartRedisLimiterConcurrencyAlgorithm();
+        ReflectionTestUtils.setField(algorithm, "properties", properties);
+        ReflectionTestUtils.setField(algorithm, "timeoutExecutor", timeoutExecutor);
+        ReflectionTestUtils.setField(algorithm, "redisExecutor", redisExecutor);
+        return algorithm;
+    }
+
+    private SmartRedisLimiterContext context(String keyPart) {
+        return SmartRedisLimiterContext.builder()
+                .attribute(SmartRedisLimiterContextAttribute.PRECOMPUTED_KEY_PART, keyPart)
+                .build();
+    }
+
+    private static class CountingRedisExecutor implements SmartRedisLimiterRedisExecutor {
+
+        private final List<?> luaResult;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingRedisExecutor(List<?> luaResult) {
+            this.luaResult = luaResult;
+        }
+
+        @Override
+        public <T> SmartRedisLimiterRedisExecutionResult<T> execute(
+                String routeKey, Function<StringRedisTemplate, T> callback) {
+            calls.incrementAndGet();
+            @SuppressWarnings("unchecked")
+            T value = (T) luaResult;
+            return SmartRedisLimiterRedisExecutionResult.<T>builder()
+                    .value(value)
+                    .routeKey(routeKey)
+                    .datasourceKey("limiter")
+                    .redisMode(SmartRedisLimiterConstant.REDIS_MODE_STANDALONE)
+                    .routeRequired(true)
+                    .routeResolved(true)
+                    .build();
+        }
+    }
+}
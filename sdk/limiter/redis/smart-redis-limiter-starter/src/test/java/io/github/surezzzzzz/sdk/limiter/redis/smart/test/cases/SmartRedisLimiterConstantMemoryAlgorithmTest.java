@@ -0,0 +1,174 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.test.cases;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterRedisKeyConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterStarterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.exception.SmartRedisLimitExceededException;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.test.SmartRedisLimiterTestApplication;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.test.service.TestService;
+import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DataType;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GCRA 与滑动窗口计数算法测试
+ *
+ * <p>测试场景：
+ * <ul>
+ *   <li>基本限流：5次/秒，第6次触发限流</li>
+ *   <li>GCRA 匀速恢复：配额耗尽后每隔一个发放间隔恢复一次</li>
+ *   <li>并发限流：20并发，精确限制5次</li>
+ *   <li>Key结构：每条规则只有一个 Key，且请求量增加不会增加 Redis 条目</li>
+ * </ul>
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+@Slf4j
+@SpringBootTest(classes = SmartRedisLimiterTestApplication.class)
+public class SmartRedisLimiterConstantMemoryAlgorithmTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private RedisRouteTemplate redisRouteTemplate;
+
+    @BeforeEach
+    public void setup() {
+        cleanKeys();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        cleanKeys();
+    }
+
+    @Test
+    @DisplayName("GCRA 基本限流：5次/秒，第6次被拒绝")
+    public void testGcraBasic() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("gcra_success", testService.gcraMethod("test-" + i));
+        }
+        assertThrows(SmartRedisLimitExceededException.class, () -> testService.gcraMethod("exceed"));
+    }
+
+    @Test
+    @DisplayName("GCRA 配额耗尽后按发放间隔匀速恢复")
+    public void testGcraSteadyRecovery() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            testService.gcraMethod("burst-" + i);
+        }
+        assertThrows(SmartRedisLimitExceededException.class, () -> testService.gcraMethod("burst-exceed"));
+
+        // 发放间隔 200ms，250ms 后恰好恢复一次配额
+        Thread.sleep(250);
+        assertEquals("gcra_success", testService.gcraMethod("after-interval"));
+        assertThrows(SmartRedisLimitExceededException.class, () -> testService.gcraMethod("after-interval-exceed"),
+                "一个发放间隔内只应恢复一次配额");
+    }
+
+    @Test
+    @DisplayName("GCRA 并发限流：20并发只放行5次")
+    public void testGcraConcurrent() throws Exception {
+        int concurrentRequests = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrentRequests);
+        CountDownLatch latch = new CountDownLatch(concurrentRequests);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            int taskId = i;
+            executorService.submit(() -> {
+                try {
+                    testService.gcraMethod("concurrent-" + taskId);
+                    successCount.incrementAndGet();
+                } catch (SmartRedisLimitExceededException e) {
+                    failCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("任务 {} 发生异常", taskId, e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS), "所有任务应该在10秒内完成");
+        executorService.shutdown();
+        log.info("GCRA 并发 成功次数: {}, 失败次数: {}", successCount.get(), failCount.get());
+        assertEquals(5, successCount.get());
+        assertEquals(concurrentRequests - 5, failCount.get());
+    }
+
+    @Test
+    @DisplayName("滑动窗口计数基本限流：5次/秒，第6次被拒绝，窗口滑过后恢复")
+    public void testSlidingCounterBasic() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("sliding_counter_success", testService.slidingCounterMethod("test-" + i));
+        }
+        assertThrows(SmartRedisLimitExceededException.class, () -> testService.slidingCounterMethod("exceed"));
+
+        // 两个窗口后上一窗口计数完全失效
+        Thread.sleep(2100);
+        assertEquals("sliding_counter_success", testService.slidingCounterMethod("after-window"));
+    }
+
+    @Test
+    @DisplayName("每条规则只占用一个 Key，请求量增加不增加 Redis 条目")
+    public void testConstantMemoryKeyStructure() {
+        for (int i = 0; i < 50; i++) {
+            try {
+                testService.gcraMethod("gcra-" + i);
+            } catch (SmartRedisLimitExceededException ignored) {
+                // 超出阈值的请求同样不能写入新条目
+            }
+            try {
+                testService.slidingCounterMethod("counter-" + i);
+            } catch (SmartRedisLimitExceededException ignored) {
+                // 超出阈值的请求同样不能写入新条目
+            }
+        }
+
+        Set<String> keys = redisRouteTemplate.stringTemplate().keys(SmartRedisLimiterRedisKeyConstant.KEY_PREFIX + "*");
+        log.info("GCRA / 滑动窗口计数限流后的keys: {}", keys);
+        assertNotNull(keys);
+        Set<String> gcraKeys = keys.stream()
+                .filter(key -> key.endsWith(SmartRedisLimiterStarterConstant.SUFFIX_GCRA))
+                .collect(Collectors.toSet());
+        Set<String> counterKeys = keys.stream()
+                .filter(key -> key.endsWith(SmartRedisLimiterStarterConstant.SUFFIX_SLIDING_COUNTER))
+                .collect(Collectors.toSet());
+        assertEquals(1, gcraKeys.size(), "GCRA 每条规则只应有一个 Key");
+        assertEquals(1, counterKeys.size(), "滑动窗口计数每条规则只应有一个 Key");
+
+        String gcraKey = gcraKeys.iterator().next();
+        String counterKey = counterKeys.iterator().next();
+        assertEquals(DataType.STRING, redisRouteTemplate.stringTemplate().type(gcraKey));
+        assertEquals(DataType.HASH, redisRouteTemplate.stringTemplate().type(counterKey));
+        assertEquals(3L, redisRouteTemplate.stringTemplate().opsForHash().size(counterKey),
+                "滑动窗口计数只保存窗口起点、当前计数、上一窗口计数");
+    }
+
+    private void cleanKeys() {
+        Set<String> keys = redisRouteTemplate.stringTemplate().keys(SmartRedisLimiterRedisKeyConstant.KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisRouteTemplate.stringTemplate().delete(keys);
+            log.info("清理了 {} 个限流key", keys.size());
+        }
+    }
+}
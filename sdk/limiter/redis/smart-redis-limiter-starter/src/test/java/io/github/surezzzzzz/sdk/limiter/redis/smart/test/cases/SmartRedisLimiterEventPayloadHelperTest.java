@@ -2,12 +2,11 @@ package io.github.surezzzzzz.sdk.limiter.redis.smart.test.cases;
 
 import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterContext;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterResult;
-import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
-import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterTimeUnit;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.model.SmartRedisLimiterEventPayload;
 import io.github.surezzzzzz.sdk.limiter.redis.smart.support.SmartRedisLimiterEventHelper;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.test.support.TestLimitRules;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
@@ -45,7 +44,7 @@ public class SmartRedisLimiterEventPayloadHelperTest {
 
         SmartRedisLimiterEventPayload payload = SmartRedisLimiterEventHelper.buildEventPayload(
                 context,
-                Collections.singletonList(rule()),
+                Collections.singletonList(TestLimitRules.seconds(10L, 1L)),
                 "path",
                 SmartRedisLimiterConstant.ALGORITHM_FIXED,
                 result,
@@ -83,7 +82,7 @@ public class SmartRedisLimiterEventPayloadHelperTest {
 
         SmartRedisLimiterEventPayload payload = SmartRedisLimiterEventHelper.buildEventPayload(
                 context,
-                Collections.singletonList(rule()),
+                Collections.singletonList(TestLimitRules.seconds(10L, 1L)),
                 "path",
                 SmartRedisLimiterConstant.ALGORITHM_FIXED,
                 result,
@@ -95,13 +94,4 @@ public class SmartRedisLimiterEventPayloadHelperTest {
                 "降级原因应完整透传");
         assertTrue(payload.isRouteRequired(), "降级事件仍应标记 routeRequired=true");
         assertFalse(payload.isRouteResolved(), "超时前未拿到快照时 routeResolved 应为 false");
-    }
-
-    private SmartRedisLimiterProperties.SmartLimitRule rule() {
-        SmartRedisLimiterProperties.SmartLimitRule rule = new SmartRedisLimiterProperties.SmartLimitRule();
-        rule.setCount(10L);
-        rule.setWindow(1L);
-        rule.setUnit(SmartRedisLimiterTimeUnit.SECONDS);
-        return rule;
-    }
-}
+    }}
@@ -0,0 +1,176 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.test.cases;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterContext;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterLeaseAlgorithm;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.algorithm.SmartRedisLimiterResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterConstant;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterContextAttribute;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutionResult;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterRedisExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.executor.SmartRedisLimiterTimeoutExecutor;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.test.support.TestLimitRules;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 本地配额租约算法测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+public class SmartRedisLimiterLeaseAlgorithmTest {
+
+    private SmartRedisLimiterTimeoutExecutor timeoutExecutor;
+
+    @AfterEach
+    public void tearDown() {
+        if (timeoutExecutor != null) {
+            timeoutExecutor.destroy();
+            timeoutExecutor = null;
+        }
+    }
+
+    @Test
+    @DisplayName("一次预取 5 个配额后，后续 4 次请求由本地租约放行，不访问 Redis")
+    public void testLocalLeaseServesPrefetchedQuota() {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Arrays.asList(1L, 100L, 80L, 2000L, 5L, 30L));
+        SmartRedisLimiterLeaseAlgorithm algorithm = createAlgorithm(redisExecutor, new SmartRedisLimiterProperties());
+        List<SmartRedisLimiterProperties.SmartLimitRule> rules =
+                Collections.singletonList(TestLimitRules.seconds(100L, 60L));
+
+        SmartRedisLimiterResult first = algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny");
+        assertTrue(first.isPassed());
+        assertFalse(first.isLeaseHit(), "首次请求应访问 Redis 预取配额");
+        assertEquals(5L, first.getLeasedQuota());
+        assertEquals(84L, first.getRemaining(), "剩余配额应包含本地未使用的 4 个");
+
+        for (int i = 0; i < 4; i++) {
+            SmartRedisLimiterContext context = context("user-1");
+            SmartRedisLimiterResult local = algorithm.tryAcquireWithResult(context, rules, null, "deny");
+            assertTrue(local.isPassed());
+            assertTrue(local.isLeaseHit(), "本地配额未耗尽时应直接放行");
+            assertEquals(83L - i, local.getRemaining());
+            assertEquals("limiter", context.getAttribute(SmartRedisLimiterContextAttribute.DATASOURCE_KEY),
+                    "本地放行也应写回预取时的 route 快照");
+        }
+        assertEquals(1, redisExecutor.calls.get(), "本地租约期间不应访问 Redis");
+
+        SmartRedisLimiterResult refill = algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny");
+        log.info("租约耗尽后重新预取: leasedQuota={}, remaining={}", refill.getLeasedQuota(), refill.getRemaining());
+        assertFalse(refill.isLeaseHit());
+        assertEquals(2, redisExecutor.calls.get(), "本地配额耗尽后应再次预取");
+    }
+
+    @Test
+    @DisplayName("限额变化或租约到期后不再使用旧租约")
+    public void testLeaseInvalidatedOnLimitChangeAndExpiry() throws Exception {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Arrays.asList(1L, 100L, 80L, 2000L, 5L, 30L));
+        SmartRedisLimiterProperties properties = new SmartRedisLimiterProperties();
+        properties.getLease().setMaxLeaseMillis(50L);
+        SmartRedisLimiterLeaseAlgorithm algorithm = createAlgorithm(redisExecutor, properties);
+
+        algorithm.tryAcquireWithResult(
+                context("user-1"), Collections.singletonList(TestLimitRules.seconds(100L, 60L)), null, "deny");
+        SmartRedisLimiterResult changed = algorithm.tryAcquireWithResult(
+                context("user-1"), Collections.singletonList(TestLimitRules.seconds(200L, 60L)), null, "deny");
+        assertFalse(changed.isLeaseHit(), "限额变化后旧租约不应继续使用");
+        assertEquals(2, redisExecutor.calls.get());
+
+        Thread.sleep(80L);
+        SmartRedisLimiterResult expired = algorithm.tryAcquireWithResult(
+                context("user-1"), Collections.singletonList(TestLimitRules.seconds(200L, 60L)), null, "deny");
+        assertFalse(expired.isLeaseHit(), "租约到期后应重新访问 Redis");
+        assertEquals(3, redisExecutor.calls.get());
+    }
+
+    @Test
+    @DisplayName("Redis 拒绝时不安装租约，后续请求继续访问 Redis")
+    public void testRejectedLeaseNotInstalled() {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Arrays.asList(0L, 100L, 0L, 2000L, 0L, 0L));
+        SmartRedisLimiterLeaseAlgorithm algorithm = createAlgorithm(redisExecutor, new SmartRedisLimiterProperties());
+        List<SmartRedisLimiterProperties.SmartLimitRule> rules =
+                Collections.singletonList(TestLimitRules.seconds(100L, 60L));
+
+        assertFalse(algorithm.tryAcquireWithResult(context("user-1"), rules, null, "allow").isPassed());
+        assertFalse(algorithm.tryAcquireWithResult(context("user-1"), rules, null, "allow").isPassed());
+        assertEquals(2, redisExecutor.calls.get());
+        assertEquals(0, algorithm.getLeaseCount());
+    }
+
+    @Test
+    @DisplayName("本地租约条目数达到上限时不再缓存新 Key 的租约")
+    public void testLeaseEntriesBounded() {
+        CountingRedisExecutor redisExecutor = new CountingRedisExecutor(Arrays.asList(1L, 100L, 80L, 2000L, 5L, 30L));
+        SmartRedisLimiterProperties properties = new SmartRedisLimiterProperties();
+        properties.getLease().setMaxEntries(1);
+        SmartRedisLimiterLeaseAlgorithm algorithm = createAlgorithm(redisExecutor, properties);
+        List<SmartRedisLimiterProperties.SmartLimitRule> rules =
+                Collections.singletonList(TestLimitRules.seconds(100L, 60L));
+
+        algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny");
+        algorithm.tryAcquireWithResult(context("user-2"), rules, null, "deny");
+        SmartRedisLimiterResult second = algorithm.tryAcquireWithResult(context("user-2"), rules, null, "deny");
+
+        assertEquals(1, algorithm.getLeaseCount(), "租约条目数不应超过上限");
+        assertFalse(second.isLeaseHit(), "超出上限的 Key 每次都应访问 Redis");
+        assertTrue(algorithm.tryAcquireWithResult(context("user-1"), rules, null, "deny").isLeaseHit(),
+                "已缓存的 Key 不受影响");
+    }
+
+    private SmartRedisLimiterLeaseAlgorithm createAlgorithm(SmartRedisLimiterRedisExecutor redisExecutor,
+                                                           SmartRedisLimiterProperties properties) {
+        properties.setMe("test");
+        properties.getRedis().setCommandTimeout(1000L);
+        timeoutExecutor = new SmartRedisLimiterTimeoutExecutor(properties);
+        SmartRedisLimiterLeaseAlgorithm algorithm = new SmartRedisLimiterLeaseAlgorithm();
+        ReflectionTestUtils.setField(algorithm, "properties", properties);
+        ReflectionTestUtils.setField(algorithm, "timeoutExecutor", timeoutExecutor);
+        ReflectionTestUtils.setField(algorithm, "redisExecutor", redisExecutor);
+        return algorithm;
+    }
+
+    private SmartRedisLimiterContext context(String keyPart) {
+        return SmartRedisLimiterContext.builder()
+                .attribute(SmartRedisLimiterContextAttribute.PRECOMPUTED_KEY_PART, keyPart)
+                .build();
+    }
+
+    private static class CountingRedisExecutor implements SmartRedisLimiterRedisExecutor {
+
+        private final List<?> luaResult;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingRedisExecutor(List<?> luaResult) {
+            this.luaResult = luaResult;
+        }
+
+        @Override
+        public <T> SmartRedisLimiterRedisExecutionResult<T> execute(
+                String routeKey, Function<StringRedisTemplate, T> callback) {
+            calls.incrementAndGet();
+            @SuppressWarnings("unchecked")
+            T value = (T) luaResult;
+            return SmartRedisLimiterRedisExecutionResult.<T>builder()
+                    .value(value)
+                    .routeKey(routeKey)
+                    .datasourceKey("limiter")
+                    .redisMode(SmartRedisLimiterConstant.REDIS_MODE_STANDALONE)
+                    .routeRequired(true)
+                    .routeResolved(true)
+                    .build();
+        }
+    }
+}
@@ -109,30 +109,32 @@ public class SmartRedisLimiterRuleMatchCacheTest {
     }
 
     /**
-     * 测试2：不同路径分别缓存
+     * 测试2：不同路径不会让缓存增长
+     * 缓存的是编译后的规则路径树，带路径变量的请求不应产生新的缓存条目
      */
     @Test
     public void testMultiplePathsCache() throws Exception {
         log.info("=== 测试多路径缓存 ===");
 
-        // 请求不同路径
         mockMvc.perform(get("/api/public/test")).andExpect(status().isOk());
+        int sizeAfterFirst = smartRedisLimiterRuleMatchCache.getCacheSize();
+        assertTrue(sizeAfterFirst > 0, "第一次请求后应编译规则");
+
+        // 请求不同路径
         mockMvc.perform(get("/api/user/123")).andExpect(status().isOk());
         mockMvc.perform(get("/api/user/456")).andExpect(status().isOk());
         mockMvc.perform(post("/api/user/789")).andExpect(status().isOk());
 
-        // 验证缓存了多条不同的路径
-        // GET:/api/public/test, GET:/api/user/123, GET:/api/user/456, POST:/api/user/789
         int cacheSize = smartRedisLimiterRuleMatchCache.getCacheSize();
-        log.info("缓存了 {} 条路径规则", cacheSize);
-        assertTrue(cacheSize >= 4, "应该缓存至少4条不同的路径，实际: " + cacheSize);
+        log.info("请求 4 条不同路径后缓存大小: {}", cacheSize);
+        assertEquals(sizeAfterFirst, cacheSize, "不同路径不应让缓存增长");
 
-        // 再次请求已缓存的路径，缓存大小不应增长
-        int sizeBefore = smartRedisLimiterRuleMatchCache.getCacheSize();
-        mockMvc.perform(get("/api/public/test")).andExpect(status().isOk());
-        mockMvc.perform(get("/api/user/123")).andExpect(status().isOk());
-        assertEquals(sizeBefore, smartRedisLimiterRuleMatchCache.getCacheSize(),
-                "重复请求已缓存路径，缓存大小不应增长");
+        // 大量不同的路径变量，缓存大小仍不变
+        for (int i = 0; i < 100; i++) {
+            smartRedisLimiterRuleMatchCache.findMatchedRule("/api/user/" + i, "GET");
+        }
+        assertEquals(sizeAfterFirst, smartRedisLimiterRuleMatchCache.getCacheSize(),
+                "路径变量不同的请求不应让缓存增长");
 
         log.info("=== 多路径缓存测试通过，最终缓存大小: {} ===", cacheSize);
     }
@@ -170,13 +172,13 @@ public class SmartRedisLimiterRuleMatchCacheTest {
     }
 
     /**
-     * 测试4：HTTP方法区分缓存
+     * 测试4：HTTP方法区分规则
      */
     @Test
     public void testHttpMethodCache() throws Exception {
-        log.info("=== 测试HTTP方法区分缓存 ===");
+        log.info("=== 测试HTTP方法区分规则 ===");
 
-        // 同一个路径，不同HTTP方法应该分别缓存
+        // 同一个路径，不同HTTP方法应该匹配到不同规则
         mockMvc.perform(get("/api/user/123")).andExpect(status().isOk());
         int sizeAfterGet = smartRedisLimiterRuleMatchCache.getCacheSize();
 
@@ -184,21 +186,17 @@ public class SmartRedisLimiterRuleMatchCacheTest {
         int sizeAfterPost = smartRedisLimiterRuleMatchCache.getCacheSize();
 
         log.info("GET请求后缓存大小: {}, POST请求后缓存大小: {}", sizeAfterGet, sizeAfterPost);
+        assertEquals(sizeAfterGet, sizeAfterPost, "不同方法不应让缓存增长");
 
-        // POST后缓存应该比GET后多（因为是不同的缓存Key）
-        assertTrue(sizeAfterPost > sizeAfterGet,
-                "相同路径不同方法应该分别缓存，POST后应该比GET后多");
-
-        // 再次请求相同的方法，缓存大小不应增长
-        mockMvc.perform(get("/api/user/123")).andExpect(status().isOk());
-        assertEquals(sizeAfterPost, smartRedisLimiterRuleMatchCache.getCacheSize(),
-                "重复请求GET，缓存大小不应增长");
-
-        mockMvc.perform(post("/api/user/123")).andExpect(status().isOk());
-        assertEquals(sizeAfterPost, smartRedisLimiterRuleMatchCache.getCacheSize(),
-                "重复请求POST，缓存大小不应增长");
+        // 精确路径 + 精确方法优先于模式路径
+        assertEquals("/api/user/123",
+                smartRedisLimiterRuleMatchCache.findMatchedRule("/api/user/123", "GET").getPathPattern());
+        assertEquals("POST",
+                smartRedisLimiterRuleMatchCache.findMatchedRule("/api/user/123", "POST").getMethod());
+        assertEquals("/api/user/**",
+                smartRedisLimiterRuleMatchCache.findMatchedRule("/api/user/456", "GET").getPathPattern());
 
-        log.info("=== HTTP方法区分缓存测试通过，最终缓存大小: {} ===", smartRedisLimiterRuleMatchCache.getCacheSize());
+        log.info("=== HTTP方法区分规则测试通过，最终缓存大小: {} ===", smartRedisLimiterRuleMatchCache.getCacheSize());
     }
 
     /**
@@ -238,7 +236,7 @@ public class SmartRedisLimiterRuleMatchCacheTest {
     }
 
     /**
-     * 测试6：缓存未匹配路径（MISS_MARKER防止缓存穿透）
+     * 测试6：未匹配路径不会让缓存增长
      */
     @Test
     public void testMissMarkerCache() throws Exception {
@@ -251,7 +249,7 @@ public class SmartRedisLimiterRuleMatchCacheTest {
 
         int sizeAfterFirst = smartRedisLimiterRuleMatchCache.getCacheSize();
         log.info("第一次请求未匹配规则的路径后，缓存大小: {}", sizeAfterFirst);
-        assertTrue(sizeAfterFirst > 0, "未匹配的路径也应该被缓存以避免缓存穿透");
+        assertTrue(sizeAfterFirst > 0, "未匹配的路径同样使用已编译的规则");
 
         // 多次请求同一路径，缓存大小不应增长（只请求2次，避免触发注解层5次/1秒的限流）
         for (int i = 0; i < 2; i++) {
@@ -0,0 +1,179 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.test.cases;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterHttpMethod;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.support.SmartRedisLimiterRulePathTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 规则路径树测试
+ * 以原 AntPathMatcher 三轮遍历实现为基准，验证 10 / 100 / 1000 条规则下匹配结果一致
+ *
+ * @author Sure.
+ * @Date: 2026-10-17
+ */
+public class SmartRedisLimiterRulePathTrieTest {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE"};
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Test
+    @DisplayName("三级优先级：精确路径 > 模式路径 + 精确方法 > 模式路径 + 通配方法")
+    public void testPrecedence() {
+        SmartRedisLimiterProperties.SmartInterceptorRule anyMethod = rule("/api/user/**", null);
+        SmartRedisLimiterProperties.SmartInterceptorRule get = rule("/api/user/{id}", "GET");
+        SmartRedisLimiterProperties.SmartInterceptorRule exact = rule("/api/user/123", "GET");
+        SmartRedisLimiterRulePathTrie trie = new SmartRedisLimiterRulePathTrie(Arrays.asList(anyMethod, get, exact));
+
+        assertSame(exact, trie.findFirst("/api/user/123", "GET"));
+        assertSame(get, trie.findFirst("/api/user/456", "GET"));
+        assertSame(anyMethod, trie.findFirst("/api/user/456", "POST"));
+        assertSame(anyMethod, trie.findFirst("/api/user/456/orders", "GET"));
+        assertNull(trie.findFirst("/api/order/1", "GET"));
+        assertEquals(Arrays.asList(exact, get, anyMethod), trie.findAll("/api/user/123", "GET"));
+    }
+
+    @Test
+    @DisplayName("与 AntPathMatcher 的边界语义一致")
+    public void testAntPathMatcherEdgeCases() {
+        List<String> patterns = Arrays.asList(
+                "/a/*", "/a/**", "/a/**/b", "/a/*/c/", "/a/{id}", "/a/{id:\\d+}", "/a/*.json",
+                "/a/b?", "a/**", "/**", "/", "/a/**/b/**/c", "/a/*/**");
+        List<String> paths = Arrays.asList(
+                "/a", "/a/", "/a/b", "/a/b/", "/a/b/c", "/a/b/c/", "/a/x/b", "/a/x/y/b", "/a/12", "/a/1x",
+                "/a/x.json", "/a/bc", "a/b", "/", "", "/a//b", "/a/b/x/c", "/a/b/x/b/y/c", "/b");
+        List<SmartRedisLimiterProperties.SmartInterceptorRule> rules = new ArrayList<>();
+        for (String pattern : patterns) {
+            rules.add(rule(pattern, null));
+        }
+        SmartRedisLimiterRulePathTrie trie = new SmartRedisLimiterRulePathTrie(rules);
+        for (String path : paths) {
+            assertEquals(referenceFindAll(rules, path, "GET"), trie.findAll(path, "GET"), "path=" + path);
+        }
+    }
+
+    @Test
+    @DisplayName("随机规则与路径下匹配结果与原实现一致")
+    public void testRandomParity() {
+        Random random = new Random(20261017L);
+        for (int size : new int[]{10, 100, 1000}) {
+            List<SmartRedisLimiterProperties.SmartInterceptorRule> rules = randomRules(random, size);
+            SmartRedisLimiterRulePathTrie trie = new SmartRedisLimiterRulePathTrie(rules);
+            for (String path : randomPaths(random, 500)) {
+                String method = METHODS[random.nextInt(METHODS.length)];
+                assertSame(referenceFindFirst(rules, path, method), trie.findFirst(path, method),
+                        "size=" + size + ", " + method + " " + path);
+                assertEquals(referenceFindAll(rules, path, method), trie.findAll(path, method),
+                        "size=" + size + ", " + method + " " + path);
+            }
+        }
+    }
+
+    /**
+     * 原 SmartRedisLimiterRuleMatchCacheHelper#doFindMatchedRule 的三轮遍历实现
+     */
+    private SmartRedisLimiterProperties.SmartInterceptorRule referenceFindFirst(
+            List<SmartRedisLimiterProperties.SmartInterceptorRule> rules, String uri, String method) {
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if (rule.getPathPattern().equals(uri) && matchMethod(rule, method)) {
+                return rule;
+            }
+        }
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if (rule.getMethod() != null && !rule.getMethod().isEmpty()
+                    && pathMatcher.match(rule.getPathPattern(), uri)
+                    && matchMethod(rule, method)) {
+                return rule;
+            }
+        }
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if ((rule.getMethod() == null || rule.getMethod().isEmpty())
+                    && pathMatcher.match(rule.getPathPattern(), uri)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 原 SmartRedisLimiterRuleMatchCacheHelper#doFindMatchedRules 的实现
+     */
+    private List<SmartRedisLimiterProperties.SmartInterceptorRule> referenceFindAll(
+            List<SmartRedisLimiterProperties.SmartInterceptorRule> rules, String uri, String method) {
+        List<SmartRedisLimiterProperties.SmartInterceptorRule> matched = new ArrayList<>();
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if (rule.getPathPattern().equals(uri) && matchMethod(rule, method)) {
+                matched.add(rule);
+            }
+        }
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if (rule.getMethod() != null && !rule.getMethod().isEmpty()
+                    && !containsRule(matched, rule)
+                    && pathMatcher.match(rule.getPathPattern(), uri)
+                    && matchMethod(rule, method)) {
+                matched.add(rule);
+            }
+        }
+        for (SmartRedisLimiterProperties.SmartInterceptorRule rule : rules) {
+            if ((rule.getMethod() == null || rule.getMethod().isEmpty())
+                    && !containsRule(matched, rule)
+                    && pathMatcher.match(rule.getPathPattern(), uri)) {
+                matched.add(rule);
+            }
+        }
+        return matched;
+    }
+
+    private boolean containsRule(List<SmartRedisLimiterProperties.SmartInterceptorRule> rules,
+                                 SmartRedisLimiterProperties.SmartInterceptorRule rule) {
+        for (SmartRedisLimiterProperties.SmartInterceptorRule candidate : rules) {
+            if (candidate == rule) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchMethod(SmartRedisLimiterProperties.SmartInterceptorRule rule, String method) {
+        return SmartRedisLimiterHttpMethod.fromCode(rule.getMethod()).matches(method);
+    }
+
+    private List<SmartRedisLimiterProperties.SmartInterceptorRule> randomRules(Random random, int size) {
+        String[] tails = {"", "/*", "/**", "/{id}", "/{id}/detail", "/*.json", "/**/export", "/list"};
+        List<SmartRedisLimiterProperties.SmartInterceptorRule> rules = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String pattern = "/api/m" + random.nextInt(Math.max(size / 4, 1))
+                    + "/r" + random.nextInt(8)
+                    + tails[random.nextInt(tails.length)];
+            String method = random.nextInt(3) == 0 ? null : METHODS[random.nextInt(METHODS.length)];
+            rules.add(rule(pattern, method));
+        }
+        return rules;
+    }
+
+    private List<String> randomPaths(Random random, int size) {
+        String[] tails = {"", "/1", "/2/detail", "/a.json", "/list", "/x/y/export", "/x/y/z", "/"};
+        List<String> paths = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            paths.add("/api/m" + random.nextInt(64) + "/r" + random.nextInt(8) + tails[random.nextInt(tails.length)]);
+        }
+        return paths;
+    }
+
+    private SmartRedisLimiterProperties.SmartInterceptorRule rule(String pathPattern, String method) {
+        SmartRedisLimiterProperties.SmartInterceptorRule rule = new SmartRedisLimiterProperties.SmartInterceptorRule();
+        rule.setPathPattern(pathPattern);
+        rule.setMethod(method);
+        return rule;
+    }
+}
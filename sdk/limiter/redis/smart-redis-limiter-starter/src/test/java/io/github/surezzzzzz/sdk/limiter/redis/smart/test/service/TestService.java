@@ -126,4 +126,32 @@ public class TestService {
         log.debug("执行滑动窗口限流方法，参数: {}", param);
         return "sliding_success";
     }
+
+    /**
+     * GCRA 限流（5次/1秒）
+     */
+    @SmartRedisLimiter(
+            rules = {
+                    @SmartRedisLimitRule(count = 5, window = 1, unit = SmartRedisLimiterTimeUnit.SECONDS)
+            },
+            algorithm = "gcra"
+    )
+    public String gcraMethod(String param) {
+        log.debug("执行 GCRA 限流方法，参数: {}", param);
+        return "gcra_success";
+    }
+
+    /**
+     * 滑动窗口计数限流（5次/1秒）
+     */
+    @SmartRedisLimiter(
+            rules = {
+                    @SmartRedisLimitRule(count = 5, window = 1, unit = SmartRedisLimiterTimeUnit.SECONDS)
+            },
+            algorithm = "sliding-counter"
+    )
+    public String slidingCounterMethod(String param) {
+        log.debug("执行滑动窗口计数限流方法，参数: {}", param);
+        return "sliding_counter_success";
+    }
 }
@@ -0,0 +1,28 @@
+package io.github.surezzzzzz.sdk.limiter.redis.smart.test.support;
+
+import io.github.surezzzzzz.sdk.limiter.redis.smart.configuration.SmartRedisLimiterProperties;
+import io.github.surezzzzzz.sdk.limiter.redis.smart.constant.SmartRedisLimiterTimeUnit;
+
+/**
+ * 测试用限流规则工厂：供各算法单测共享，避免重复构造 SmartLimitRule
+ */
+public final class TestLimitRules {
+
+    private TestLimitRules() {
+    }
+
+    /**
+     * 构造以秒为窗口单位的规则
+     *
+     * @param count  窗口内允许次数
+     * @param window 窗口长度（秒）
+     * @return 限流规则
+     */
+    public static SmartRedisLimiterProperties.SmartLimitRule seconds(long count, long window) {
+        SmartRedisLimiterProperties.SmartLimitRule rule = new SmartRedisLimiterProperties.SmartLimitRule();
+        rule.setCount(count);
+        rule.setWindow(window);
+        rule.setUnit(SmartRedisLimiterTimeUnit.SECONDS);
+        return rule;
+    }
+}
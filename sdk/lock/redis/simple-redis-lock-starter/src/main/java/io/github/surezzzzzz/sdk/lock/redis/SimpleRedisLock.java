@@ -1,31 +1,81 @@
 package io.github.surezzzzzz.sdk.lock.redis;
 
 import io.github.surezzzzzz.sdk.lock.redis.annotation.SimpleRedisLockComponent;
+import io.github.surezzzzzz.sdk.lock.redis.configuration.SimpleRedisLockProperties;
 import io.github.surezzzzzz.sdk.lock.redis.constant.ErrorCode;
 import io.github.surezzzzzz.sdk.lock.redis.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.lock.redis.constant.ReadWriteLockMode;
 import io.github.surezzzzzz.sdk.lock.redis.constant.SimpleRedisLockConstant;
+import io.github.surezzzzzz.sdk.lock.redis.exception.ConfigurationException;
 import io.github.surezzzzzz.sdk.lock.redis.exception.ValidationException;
 import io.github.surezzzzzz.sdk.lock.redis.executor.RedisLockExecutor;
 import io.github.surezzzzzz.sdk.lock.redis.model.RedisLockLease;
-import lombok.RequiredArgsConstructor;
+import io.github.surezzzzzz.sdk.lock.redis.support.RedisLockUnlockSubscriber;
+import io.github.surezzzzzz.sdk.lock.redis.support.RedisLockWatchdog;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * Redis 分布式锁，支持单 Redis 与 route 两种执行模式。
+ * <p>除非阻塞的 {@code tryLock} / {@code tryLockWithLease} 外，还提供可重入、watchdog 自动续租、
+ * 通过解锁通知唤醒等待者的阻塞 {@code lock}，多 key 原子加锁 {@code tryLockAll}，以及读写锁
+ * {@code tryReadLock} / {@code tryWriteLock}；watchdog 线程与通知订阅仅在首次使用阻塞 API 时创建。</p>
  *
  * @author surezzzzzz
  */
 @Slf4j
 @SimpleRedisLockComponent
-@RequiredArgsConstructor
-public class SimpleRedisLock {
+public class SimpleRedisLock implements DisposableBean {
 
     private final RedisLockExecutor redisLockExecutor;
+    private final long watchdogTimeoutMillis;
+    private final long fallbackPollNanos;
+    private final String unlockChannelPrefix;
+    private final RedisLockUnlockSubscriber unlockSubscriber;
+    private final RedisLockWatchdog watchdog = new RedisLockWatchdog();
+    private final ConcurrentMap<String, ReentrantHold> holds = new ConcurrentHashMap<>();
+
+    /**
+     * 使用默认阻塞锁配置创建。
+     *
+     * @param redisLockExecutor 锁执行器
+     */
+    public SimpleRedisLock(RedisLockExecutor redisLockExecutor) {
+        this(redisLockExecutor, new SimpleRedisLockProperties());
+    }
+
+    /**
+     * 使用指定配置创建。
+     *
+     * @param redisLockExecutor 锁执行器
+     * @param properties        锁配置
+     * @throws ConfigurationException 阻塞锁配置不合法
+     */
+    @Autowired
+    public SimpleRedisLock(RedisLockExecutor redisLockExecutor, SimpleRedisLockProperties properties) {
+        SimpleRedisLockProperties.Blocking blocking = properties.getBlocking();
+        validateBlocking(blocking);
+        this.redisLockExecutor = redisLockExecutor;
+        this.watchdogTimeoutMillis = blocking.getWatchdogTimeoutMillis();
+        this.fallbackPollNanos = TimeUnit.MILLISECONDS.toNanos(blocking.getFallbackPollMillis());
+        this.unlockChannelPrefix = blocking.getUnlockChannelPrefix();
+        this.unlockSubscriber = new RedisLockUnlockSubscriber(unlockChannelPrefix);
+    }
 
     /**
      * 尝试加锁。
@@ -65,7 +115,93 @@ public class SimpleRedisLock {
             return Optional.empty();
         }
         log.info("获取锁租约成功，lockKey={}, leaseTime={}{}", lockKey, leaseTime, timeUnit);
-        return Optional.of(new Lease(lockKey, lockValue, redisLockExecutor));
+        return Optional.of(new Lease(lockKey, lockValue, unlockChannel(lockKey), redisLockExecutor));
+    }
+
+    /**
+     * 阻塞加锁，最多等待 waitTime。
+     * <ul>
+     *     <li>可重入：当前线程已通过本方法持有同一 lockKey 时直接返回新句柄，持有计数加一，全部句柄释放后才真正解锁；</li>
+     *     <li>watchdog：以 watchdog 租约时长加锁，持有期间每隔 1/3 租约时长自动续租，续租返回 false 后停止；</li>
+     *     <li>等待：订阅 lockKey 的解锁通知，持有者释放时立即唤醒重新抢锁；锁自然过期或通知丢失时按兜底间隔重试。</li>
+     * </ul>
+     *
+     * @param lockKey  锁 key
+     * @param waitTime 最长等待时长，0 表示只尝试一次
+     * @param timeUnit 等待时间单位
+     * @return 获取成功时返回租约句柄，等待超时返回空
+     * @throws ValidationException  等待时长为负数或时间单位为空
+     * @throws InterruptedException 等待期间线程被中断
+     */
+    public Optional<RedisLockLease> lock(String lockKey, long waitTime, TimeUnit timeUnit) throws InterruptedException {
+        validateWaitTime(waitTime, timeUnit);
+        Thread currentThread = Thread.currentThread();
+        ReentrantHold current = holds.get(lockKey);
+        if (current != null && current.owner == currentThread && current.reenter()) {
+            log.debug("重入加锁成功，lockKey={}", lockKey);
+            return Optional.of(new ReentrantLease(current));
+        }
+
+        String lockValue = UUID.randomUUID().toString();
+        return awaitAcquire(lockKey, waitTime, timeUnit, () -> tryAcquire(lockKey, lockValue, currentThread));
+    }
+
+    /**
+     * 在一次原子操作内同时锁定多个 key（全部成功或全部失败）。
+     * key 会先去重并排序，同一批 key 无论调用方传入顺序如何都以相同顺序加锁；Redis 侧由单个 Lua 脚本完成，不存在部分持有。
+     * 与 {@code tryLock} 使用相同的 key 结构，可与单 key 锁在同一 key 上互斥。
+     *
+     * @param lockKeys  锁 key 集合，Cluster 下需位于同一 slot（使用 hash tag），route 模式下需路由到同一 datasource
+     * @param leaseTime 租约时长
+     * @param timeUnit  租约时间单位
+     * @return 全部加锁成功时返回租约句柄，任一 key 已被持有时返回空
+     * @throws ValidationException key 集合为空或含空 key，租约时长不足 1 毫秒或时间单位为空
+     */
+    public Optional<RedisLockLease> tryLockAll(Collection<String> lockKeys, long leaseTime, TimeUnit timeUnit) {
+        List<String> sortedKeys = sortLockKeys(lockKeys);
+        validateLeaseTime(leaseTime, timeUnit);
+        String lockValue = UUID.randomUUID().toString();
+        log.debug("尝试多 key 加锁，lockKeys={}", sortedKeys);
+        if (!redisLockExecutor.tryLockAll(sortedKeys, lockValue, leaseTime, timeUnit)) {
+            log.info("多 key 加锁失败，lockKeys={} 中存在已被持有的 key", sortedKeys);
+            return Optional.empty();
+        }
+        log.info("多 key 加锁成功，lockKeys={}, leaseTime={}{}", sortedKeys, leaseTime, timeUnit);
+        return Optional.of(new MultiLease(sortedKeys, lockValue, unlockChannelPrefix, redisLockExecutor));
+    }
+
+    /**
+     * 获取读锁，多个读锁可同时持有，与写锁互斥。
+     * 读写锁以 Hash 存储在 lockKey 上，每个持有者按各自租约独立过期，不能与 {@code tryLock} 等互斥锁共用同一 key。
+     *
+     * @param lockKey   读写锁 key
+     * @param waitTime  最长等待时长，0 表示只尝试一次
+     * @param leaseTime 租约时长，到期前需调用 {@link RedisLockLease#renew} 续租
+     * @param timeUnit  时间单位
+     * @return 获取成功时返回租约句柄，等待超时返回空
+     * @throws ValidationException  等待时长为负数、租约时长不足 1 毫秒或时间单位为空
+     * @throws InterruptedException 等待期间线程被中断
+     */
+    public Optional<RedisLockLease> tryReadLock(String lockKey, long waitTime, long leaseTime, TimeUnit timeUnit)
+            throws InterruptedException {
+        return tryReadWriteLock(lockKey, ReadWriteLockMode.READ, waitTime, leaseTime, timeUnit);
+    }
+
+    /**
+     * 获取写锁，与全部读锁、写锁互斥。
+     * 存活的读锁全部释放或过期后才能获取；持续有新读者进入时写锁可能等待超时。
+     *
+     * @param lockKey   读写锁 key
+     * @param waitTime  最长等待时长，0 表示只尝试一次
+     * @param leaseTime 租约时长，到期前需调用 {@link RedisLockLease#renew} 续租
+     * @param timeUnit  时间单位
+     * @return 获取成功时返回租约句柄，等待超时返回空
+     * @throws ValidationException  等待时长为负数、租约时长不足 1 毫秒或时间单位为空
+     * @throws InterruptedException 等待期间线程被中断
+     */
+    public Optional<RedisLockLease> tryWriteLock(String lockKey, long waitTime, long leaseTime, TimeUnit timeUnit)
+            throws InterruptedException {
+        return tryReadWriteLock(lockKey, ReadWriteLockMode.WRITE, waitTime, leaseTime, timeUnit);
     }
 
     /**
@@ -78,7 +214,7 @@ public class SimpleRedisLock {
      */
     public boolean unlock(String lockKey, String lockValue) {
         log.debug("尝试解锁，lockKey={}", lockKey);
-        boolean released = redisLockExecutor.unlock(lockKey, lockValue);
+        boolean released = redisLockExecutor.unlock(lockKey, lockValue, unlockChannel(lockKey));
         if (released) {
             log.info("解锁成功，lockKey={}", lockKey);
         } else {
@@ -87,6 +223,127 @@ public class SimpleRedisLock {
         return released;
     }
 
+    @Override
+    public void destroy() {
+        watchdog.shutdown();
+        unlockSubscriber.destroy();
+    }
+
+    private Optional<RedisLockLease> tryReadWriteLock(String lockKey, ReadWriteLockMode mode,
+                                                      long waitTime, long leaseTime, TimeUnit timeUnit)
+            throws InterruptedException {
+        validateWaitTime(waitTime, timeUnit);
+        validateLeaseTime(leaseTime, timeUnit);
+        String lockValue = UUID.randomUUID().toString();
+        return awaitAcquire(lockKey, waitTime, timeUnit, () -> {
+            if (!redisLockExecutor.tryReadWriteLock(lockKey, mode, lockValue, leaseTime, timeUnit)) {
+                log.debug("读写锁加锁尝试失败，lockKey={}, mode={}", lockKey, mode);
+                return Optional.empty();
+            }
+            log.info("读写锁加锁成功，lockKey={}, mode={}, leaseTime={}{}", lockKey, mode, leaseTime, timeUnit);
+            return Optional.of(new ReadWriteLease(
+                    lockKey, mode, lockValue, unlockChannel(lockKey), redisLockExecutor));
+        });
+    }
+
+    /**
+     * 反复尝试加锁直到成功或超时。先登记再抢锁，抢锁失败到开始等待之间发布的解锁通知不会丢失。
+     */
+    private Optional<RedisLockLease> awaitAcquire(String lockKey, long waitTime, TimeUnit timeUnit,
+                                                  Supplier<Optional<RedisLockLease>> attempt)
+            throws InterruptedException {
+        if (waitTime == 0) {
+            return attempt.get();
+        }
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        String channel = unlockChannel(lockKey);
+        RedisLockUnlockSubscriber.Waiter waiter = unlockSubscriber.register(
+                channel, redisLockExecutor.getNotifyConnectionFactory(lockKey));
+        try {
+            while (true) {
+                waiter.reset();
+                Optional<RedisLockLease> lease = attempt.get();
+                if (lease.isPresent()) {
+                    return lease;
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    log.info("等待加锁超时，lockKey={}, waitTime={}{}", lockKey, waitTime, timeUnit);
+                    return Optional.empty();
+                }
+                waiter.await(Math.min(remainingNanos, fallbackPollNanos));
+            }
+        } finally {
+            unlockSubscriber.unregister(channel, waiter);
+        }
+    }
+
+    private Optional<RedisLockLease> tryAcquire(String lockKey, String lockValue, Thread owner) {
+        if (!redisLockExecutor.tryLock(lockKey, lockValue, watchdogTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            log.debug("阻塞加锁尝试失败，lockKey={} 已被持有", lockKey);
+            return Optional.empty();
+        }
+        ReentrantHold hold = new ReentrantHold(lockKey, lockValue, owner);
+        holds.put(lockKey, hold);
+        hold.startWatchdog();
+        log.info("阻塞加锁成功，lockKey={}, watchdogTimeout={}ms", lockKey, watchdogTimeoutMillis);
+        return Optional.of(new ReentrantLease(hold));
+    }
+
+    private String unlockChannel(String lockKey) {
+        return unlockChannelPrefix + lockKey;
+    }
+
+    private static void validateBlocking(SimpleRedisLockProperties.Blocking blocking) {
+        if (blocking.getWatchdogTimeoutMillis() < SimpleRedisLockConstant.MIN_WATCHDOG_TIMEOUT_MILLIS) {
+            throw new ConfigurationException(
+                    ErrorCode.CONFIG_INVALID_WATCHDOG_TIMEOUT,
+                    ErrorMessage.CONFIG_INVALID_WATCHDOG_TIMEOUT
+            );
+        }
+        if (blocking.getFallbackPollMillis() < SimpleRedisLockConstant.MIN_FALLBACK_POLL_MILLIS) {
+            throw new ConfigurationException(
+                    ErrorCode.CONFIG_INVALID_FALLBACK_POLL,
+                    ErrorMessage.CONFIG_INVALID_FALLBACK_POLL
+            );
+        }
+        if (blocking.getUnlockChannelPrefix() == null || blocking.getUnlockChannelPrefix().isEmpty()) {
+            throw new ConfigurationException(
+                    ErrorCode.CONFIG_INVALID_UNLOCK_CHANNEL_PREFIX,
+                    ErrorMessage.CONFIG_INVALID_UNLOCK_CHANNEL_PREFIX
+            );
+        }
+    }
+
+    private static void validateWaitTime(long waitTime, TimeUnit timeUnit) {
+        if (timeUnit == null) {
+            throw new ValidationException(
+                    ErrorCode.VALIDATION_WAIT_TIME_UNIT_REQUIRED,
+                    ErrorMessage.WAIT_TIME_UNIT_REQUIRED
+            );
+        }
+        if (waitTime < 0) {
+            throw new ValidationException(
+                    ErrorCode.VALIDATION_WAIT_TIME_MUST_NOT_BE_NEGATIVE,
+                    ErrorMessage.WAIT_TIME_MUST_NOT_BE_NEGATIVE
+            );
+        }
+    }
+
+    private static List<String> sortLockKeys(Collection<String> lockKeys) {
+        if (lockKeys == null || lockKeys.isEmpty()) {
+            throw new ValidationException(ErrorCode.VALIDATION_LOCK_KEYS_REQUIRED, ErrorMessage.LOCK_KEYS_REQUIRED);
+        }
+        TreeSet<String> sortedKeys = new TreeSet<>();
+        for (String lockKey : lockKeys) {
+            if (lockKey == null || lockKey.isEmpty()) {
+                throw new ValidationException(ErrorCode.VALIDATION_LOCK_KEYS_REQUIRED, ErrorMessage.LOCK_KEYS_REQUIRED);
+            }
+            sortedKeys.add(lockKey);
+        }
+        return new ArrayList<>(sortedKeys);
+    }
+
     private static void validateLeaseTime(long leaseTime, TimeUnit timeUnit) {
         if (timeUnit == null) {
             throw new ValidationException(
@@ -102,26 +359,20 @@ public class SimpleRedisLock {
         }
     }
 
-    private static final class Lease implements RedisLockLease {
+    /**
+     * 显式续租句柄的公共实现：释放只执行一次，续租与释放串行化。
+     */
+    private abstract static class AbstractLease implements RedisLockLease {
 
-        private final String lockKey;
-        private final String lockValue;
-        private final RedisLockExecutor redisLockExecutor;
         private final AtomicBoolean released = new AtomicBoolean(false);
 
-        private Lease(String lockKey, String lockValue, RedisLockExecutor redisLockExecutor) {
-            this.lockKey = lockKey;
-            this.lockValue = lockValue;
-            this.redisLockExecutor = redisLockExecutor;
-        }
-
         @Override
         public synchronized boolean renew(long leaseTime, TimeUnit timeUnit) {
             if (released.get()) {
                 return false;
             }
             validateLeaseTime(leaseTime, timeUnit);
-            return redisLockExecutor.renew(lockKey, lockValue, leaseTime, timeUnit);
+            return doRenew(leaseTime, timeUnit);
         }
 
         @Override
@@ -129,12 +380,203 @@ public class SimpleRedisLock {
             if (!released.compareAndSet(false, true)) {
                 return false;
             }
-            return redisLockExecutor.unlock(lockKey, lockValue);
+            return doRelease();
         }
 
         @Override
         public void close() {
             release();
         }
+
+        protected abstract boolean doRenew(long leaseTime, TimeUnit timeUnit);
+
+        protected abstract boolean doRelease();
+    }
+
+    private static final class Lease extends AbstractLease {
+
+        private final String lockKey;
+        private final String lockValue;
+        private final String unlockChannel;
+        private final RedisLockExecutor redisLockExecutor;
+
+        private Lease(String lockKey, String lockValue, String unlockChannel, RedisLockExecutor redisLockExecutor) {
+            this.lockKey = lockKey;
+            this.lockValue = lockValue;
+            this.unlockChannel = unlockChannel;
+            this.redisLockExecutor = redisLockExecutor;
+        }
+
+        @Override
+        protected boolean doRenew(long leaseTime, TimeUnit timeUnit) {
+            return redisLockExecutor.renew(lockKey, lockValue, leaseTime, timeUnit);
+        }
+
+        @Override
+        protected boolean doRelease() {
+            return redisLockExecutor.unlock(lockKey, lockValue, unlockChannel);
+        }
+    }
+
+    private static final class MultiLease extends AbstractLease {
+
+        private final List<String> lockKeys;
+        private final String lockValue;
+        private final String unlockChannelPrefix;
+        private final RedisLockExecutor redisLockExecutor;
+
+        private MultiLease(List<String> lockKeys, String lockValue, String unlockChannelPrefix,
+                           RedisLockExecutor redisLockExecutor) {
+            this.lockKeys = Collections.unmodifiableList(lockKeys);
+            this.lockValue = lockValue;
+            this.unlockChannelPrefix = unlockChannelPrefix;
+            this.redisLockExecutor = redisLockExecutor;
+        }
+
+        @Override
+        protected boolean doRenew(long leaseTime, TimeUnit timeUnit) {
+            return redisLockExecutor.renewAll(lockKeys, lockValue, leaseTime, timeUnit);
+        }
+
+        @Override
+        protected boolean doRelease() {
+            return redisLockExecutor.unlockAll(lockKeys, lockValue, unlockChannelPrefix);
+        }
+    }
+
+    private static final class ReadWriteLease extends AbstractLease {
+
+        private final String lockKey;
+        private final ReadWriteLockMode mode;
+        private final String lockValue;
+        private final String unlockChannel;
+        private final RedisLockExecutor redisLockExecutor;
+
+        private ReadWriteLease(String lockKey, ReadWriteLockMode mode, String lockValue, String unlockChannel,
+                               RedisLockExecutor redisLockExecutor) {
+            this.lockKey = lockKey;
+            this.mode = mode;
+            this.lockValue = lockValue;
+            this.unlockChannel = unlockChannel;
+            this.redisLockExecutor = redisLockExecutor;
+        }
+
+        @Override
+        protected boolean doRenew(long leaseTime, TimeUnit timeUnit) {
+            return redisLockExecutor.renewReadWriteLock(lockKey, mode, lockValue, leaseTime, timeUnit);
+        }
+
+        @Override
+        protected boolean doRelease() {
+            return redisLockExecutor.unlockReadWriteLock(lockKey, mode, lockValue, unlockChannel);
+        }
+    }
+
+    /**
+     * 阻塞锁在本进程内的持有状态，同一次 Redis 加锁的全部重入句柄共享。
+     */
+    private final class ReentrantHold {
+
+        private final String lockKey;
+        private final String lockValue;
+        private final Thread owner;
+        private int holdCount = 1;
+        private boolean released;
+        private volatile boolean lost;
+        private ScheduledFuture<?> watchdogFuture;
+
+        private ReentrantHold(String lockKey, String lockValue, Thread owner) {
+            this.lockKey = lockKey;
+            this.lockValue = lockValue;
+            this.owner = owner;
+        }
+
+        private synchronized void startWatchdog() {
+            watchdogFuture = watchdog.schedule(this::renewByWatchdog,
+                    watchdogTimeoutMillis / SimpleRedisLockConstant.WATCHDOG_RENEW_DIVISOR);
+        }
+
+        private synchronized boolean reenter() {
+            if (released || lost) {
+                return false;
+            }
+            holdCount++;
+            return true;
+        }
+
+        private synchronized boolean renew(long leaseTime, TimeUnit timeUnit) {
+            if (released) {
+                return false;
+            }
+            return redisLockExecutor.renew(lockKey, lockValue, leaseTime, timeUnit);
+        }
+
+        private synchronized boolean exit() {
+            if (released) {
+                return false;
+            }
+            if (--holdCount > 0) {
+                log.debug("重入解锁，lockKey={}, holdCount={}", lockKey, holdCount);
+                return true;
+            }
+            released = true;
+            stopWatchdog();
+            holds.remove(lockKey, this);
+            boolean unlocked = redisLockExecutor.unlock(lockKey, lockValue, unlockChannel(lockKey));
+            if (unlocked) {
+                log.info("阻塞锁解锁成功，lockKey={}", lockKey);
+            } else {
+                log.info("阻塞锁解锁未生效，lockKey={} 锁已过期或 owner 已变更", lockKey);
+            }
+            return unlocked;
+        }
+
+        private synchronized void renewByWatchdog() {
+            if (released || lost) {
+                return;
+            }
+            try {
+                if (!redisLockExecutor.renew(lockKey, lockValue, watchdogTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    lost = true;
+                    stopWatchdog();
+                    log.warn("watchdog 续租失败，lockKey={} 锁已过期或 owner 已变更", lockKey);
+                }
+            } catch (UnsupportedOperationException e) {
+                lost = true;
+                stopWatchdog();
+                log.warn("watchdog 停止续租，lockKey={}：{}", lockKey, e.getMessage());
+            } catch (RuntimeException e) {
+                // Redis 短暂故障时保留调度，下个周期仍在租约内可继续续租
+                log.warn("watchdog 续租异常，lockKey={}，下个周期重试", lockKey, e);
+            }
+        }
+
+        private void stopWatchdog() {
+            if (watchdogFuture != null) {
+                watchdogFuture.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 阻塞锁句柄，每次 lock 成功（含重入）返回一个，各自只释放一次。
+     */
+    private static final class ReentrantLease extends AbstractLease {
+
+        private final ReentrantHold hold;
+
+        private ReentrantLease(ReentrantHold hold) {
+            this.hold = hold;
+        }
+
+        @Override
+        protected boolean doRenew(long leaseTime, TimeUnit timeUnit) {
+            return hold.renew(leaseTime, timeUnit);
+        }
+
+        @Override
+        protected boolean doRelease() {
+            return hold.exit();
+        }
     }
 }
@@ -15,6 +15,8 @@ public class SimpleRedisLockProperties {
 
     private Route route = new Route();
 
+    private Blocking blocking = new Blocking();
+
     @Data
     public static class Route {
         /**
@@ -23,4 +25,24 @@ public class SimpleRedisLockProperties {
          */
         private boolean enable = SimpleRedisLockConstant.DEFAULT_ROUTE_ENABLE;
     }
+
+    @Data
+    public static class Blocking {
+        /**
+         * 阻塞锁 watchdog 租约时长（毫秒）。加锁时以此作为初始 TTL，
+         * 持有期间每隔 1/3 租约时长自动续租一次，释放后停止。
+         */
+        private long watchdogTimeoutMillis = SimpleRedisLockConstant.DEFAULT_WATCHDOG_TIMEOUT_MILLIS;
+
+        /**
+         * 等待期间未收到解锁通知时的兜底重试间隔（毫秒），
+         * 覆盖锁自然过期、通知丢失或订阅尚未就绪等不会发布解锁消息的场景。
+         */
+        private long fallbackPollMillis = SimpleRedisLockConstant.DEFAULT_FALLBACK_POLL_MILLIS;
+
+        /**
+         * 解锁通知 channel 前缀，实际 channel 为前缀 + lockKey。
+         */
+        private String unlockChannelPrefix = SimpleRedisLockConstant.DEFAULT_UNLOCK_CHANNEL_PREFIX;
+    }
 }
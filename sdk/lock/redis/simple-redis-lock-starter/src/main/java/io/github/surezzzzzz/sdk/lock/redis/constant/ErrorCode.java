@@ -14,9 +14,15 @@ public final class ErrorCode {
     // ==================== 配置错误 ====================
 
     public static final String CONFIG_MISSING_REDIS_ROUTE_TEMPLATE = "CONFIG_001";
+    public static final String CONFIG_INVALID_WATCHDOG_TIMEOUT = "CONFIG_002";
+    public static final String CONFIG_INVALID_FALLBACK_POLL = "CONFIG_003";
+    public static final String CONFIG_INVALID_UNLOCK_CHANNEL_PREFIX = "CONFIG_004";
 
     // ==================== 参数校验错误 ====================
 
     public static final String VALIDATION_LEASE_TIME_UNIT_REQUIRED = "VALIDATION_001";
     public static final String VALIDATION_LEASE_TIME_MUST_BE_AT_LEAST_ONE_MILLISECOND = "VALIDATION_002";
+    public static final String VALIDATION_WAIT_TIME_UNIT_REQUIRED = "VALIDATION_003";
+    public static final String VALIDATION_WAIT_TIME_MUST_NOT_BE_NEGATIVE = "VALIDATION_004";
+    public static final String VALIDATION_LOCK_KEYS_REQUIRED = "VALIDATION_005";
 }
@@ -15,13 +15,24 @@ public final class ErrorMessage {
 
     public static final String CONFIG_MISSING_REDIS_ROUTE_TEMPLATE =
             "已开启 lock route（io.github.surezzzzzz.sdk.lock.redis.route.enable=true），但未找到 RedisRouteTemplate Bean。请确认已引入并启用 simple-redis-route-starter。";
+    public static final String CONFIG_INVALID_WATCHDOG_TIMEOUT =
+            "io.github.surezzzzzz.sdk.lock.redis.blocking.watchdog-timeout-millis 必须至少为 3 毫秒";
+    public static final String CONFIG_INVALID_FALLBACK_POLL =
+            "io.github.surezzzzzz.sdk.lock.redis.blocking.fallback-poll-millis 必须至少为 1 毫秒";
+    public static final String CONFIG_INVALID_UNLOCK_CHANNEL_PREFIX =
+            "io.github.surezzzzzz.sdk.lock.redis.blocking.unlock-channel-prefix 不能为空";
 
     // ==================== 执行器错误 ====================
 
     public static final String EXECUTOR_UNSUPPORTED_LEASE_RENEW = "当前 RedisLockExecutor 不支持租约续租";
+    public static final String EXECUTOR_UNSUPPORTED_MULTI_LOCK = "当前 RedisLockExecutor 不支持多 key 原子加锁";
+    public static final String EXECUTOR_UNSUPPORTED_READ_WRITE_LOCK = "当前 RedisLockExecutor 不支持读写锁";
 
     // ==================== 参数校验错误 ====================
 
     public static final String LEASE_TIME_UNIT_REQUIRED = "租约时间单位不能为空";
     public static final String LEASE_TIME_MUST_BE_AT_LEAST_ONE_MILLISECOND = "租约时长必须至少为 1 毫秒";
+    public static final String WAIT_TIME_UNIT_REQUIRED = "等待时间单位不能为空";
+    public static final String WAIT_TIME_MUST_NOT_BE_NEGATIVE = "等待时长不能为负数";
+    public static final String LOCK_KEYS_REQUIRED = "锁 key 集合不能为空，且不能包含空 key";
 }
@@ -0,0 +1,44 @@
+package io.github.surezzzzzz.sdk.lock.redis.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 读写锁模式
+ *
+ * @author surezzzzzz
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReadWriteLockMode {
+
+    /**
+     * 读锁：与其他读锁共享，与写锁互斥
+     */
+    READ(SimpleRedisLockConstant.READ_LOCK_FIELD_PREFIX, false),
+
+    /**
+     * 写锁：与全部读锁、写锁互斥
+     */
+    WRITE(SimpleRedisLockConstant.WRITE_LOCK_FIELD_PREFIX, true);
+
+    /**
+     * 持有者在读写锁 Hash 中的 field 前缀
+     */
+    private final String fieldPrefix;
+
+    /**
+     * 是否独占
+     */
+    private final boolean exclusive;
+
+    /**
+     * 生成持有者 field
+     *
+     * @param lockValue 持有者标识
+     * @return Hash field
+     */
+    public String field(String lockValue) {
+        return fieldPrefix + lockValue;
+    }
+}
@@ -24,6 +24,25 @@ public final class SimpleRedisLockConstant {
 
     public static final boolean DEFAULT_ROUTE_ENABLE = false;
 
+    // ==================== 阻塞锁相关常量 ====================
+
+    public static final String DEFAULT_UNLOCK_CHANNEL_PREFIX = "simple-redis-lock:unlock:";
+    public static final String UNLOCK_CHANNEL_PATTERN_SUFFIX = "*";
+    public static final String UNLOCK_MESSAGE = "1";
+    public static final long DEFAULT_WATCHDOG_TIMEOUT_MILLIS = 30000L;
+    public static final long MIN_WATCHDOG_TIMEOUT_MILLIS = 3L;
+    public static final long WATCHDOG_RENEW_DIVISOR = 3L;
+    public static final long DEFAULT_FALLBACK_POLL_MILLIS = 1000L;
+    public static final long MIN_FALLBACK_POLL_MILLIS = 1L;
+    public static final String WATCHDOG_THREAD_NAME = "simple-redis-lock-watchdog";
+
+    // ==================== 读写锁与多 key 锁相关常量 ====================
+
+    public static final String READ_LOCK_FIELD_PREFIX = "r:";
+    public static final String WRITE_LOCK_FIELD_PREFIX = "w:";
+    public static final String SCRIPT_FLAG_TRUE = "1";
+    public static final String SCRIPT_FLAG_FALSE = "0";
+
     // ==================== Redis 脚本常量 ====================
 
     public static final Long REDIS_SCRIPT_SUCCESS_RESULT = 1L;
@@ -37,6 +56,96 @@ public final class SimpleRedisLockConstant {
             + "else "
             + "return 0 "
             + "end";
+    public static final String REDIS_UNLOCK_AND_NOTIFY_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "redis.call('del', KEYS[1]) "
+            + "redis.call('publish', ARGV[2], ARGV[3]) "
+            + "return 1 "
+            + "else "
+            + "return 0 "
+            + "end";
+
+    /**
+     * 多 key 全部加锁：KEYS 已排序去重，任一 key 已存在则整体失败，不写入任何 key
+     */
+    public static final String REDIS_LOCK_ALL_SCRIPT = "for i = 1, #KEYS do "
+            + "if redis.call('exists', KEYS[i]) == 1 then return 0 end "
+            + "end "
+            + "for i = 1, #KEYS do "
+            + "redis.call('set', KEYS[i], ARGV[1], 'PX', ARGV[2]) "
+            + "end "
+            + "return 1";
+    /**
+     * 多 key 续租：全部 key 仍由同一 owner 持有时才续租，否则不修改任何 TTL
+     */
+    public static final String REDIS_RENEW_ALL_SCRIPT = "for i = 1, #KEYS do "
+            + "if redis.call('get', KEYS[i]) ~= ARGV[1] then return 0 end "
+            + "end "
+            + "for i = 1, #KEYS do "
+            + "redis.call('pexpire', KEYS[i], ARGV[2]) "
+            + "end "
+            + "return 1";
+    /**
+     * 多 key 释放：逐个 owner-CAS 删除并发布解锁通知，返回实际释放的 key 数
+     */
+    public static final String REDIS_UNLOCK_ALL_SCRIPT = "local released = 0 "
+            + "for i = 1, #KEYS do "
+            + "if redis.call('get', KEYS[i]) == ARGV[1] then "
+            + "redis.call('del', KEYS[i]) "
+            + "redis.call('publish', ARGV[2] .. KEYS[i], ARGV[3]) "
+            + "released = released + 1 "
+            + "end "
+            + "end "
+            + "return released";
+
+    /**
+     * 读写锁公共前缀：ARGV[1]=持有者 field，ARGV[2]=写锁 field 前缀；
+     * 以 Redis 服务端时间清理已过期的持有者，统计存活持有者数与是否存在写锁
+     */
+    private static final String REDIS_READ_WRITE_PRUNE_SCRIPT = "redis.replicate_commands() "
+            + "local time = redis.call('time') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "local fields = redis.call('hgetall', KEYS[1]) "
+            + "local holders = 0 "
+            + "local writer = false "
+            + "for i = 1, #fields, 2 do "
+            + "if tonumber(fields[i + 1]) <= now then "
+            + "redis.call('hdel', KEYS[1], fields[i]) "
+            + "else "
+            + "holders = holders + 1 "
+            + "if string.sub(fields[i], 1, string.len(ARGV[2])) == ARGV[2] then writer = true end "
+            + "end "
+            + "end ";
+    /**
+     * 读写锁加锁：ARGV[3]=租约毫秒，ARGV[4]=是否独占（写锁）
+     */
+    public static final String REDIS_READ_WRITE_LOCK_SCRIPT = REDIS_READ_WRITE_PRUNE_SCRIPT
+            + "if writer or (ARGV[4] == '1' and holders > 0) then return 0 end "
+            + "redis.call('hset', KEYS[1], ARGV[1], now + tonumber(ARGV[3])) "
+            + "if redis.call('pttl', KEYS[1]) < tonumber(ARGV[3]) then "
+            + "redis.call('pexpire', KEYS[1], ARGV[3]) "
+            + "end "
+            + "return 1";
+    /**
+     * 读写锁续租：ARGV[3]=租约毫秒，持有者已过期或已释放时返回 0
+     */
+    public static final String REDIS_READ_WRITE_RENEW_SCRIPT = REDIS_READ_WRITE_PRUNE_SCRIPT
+            + "if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then return 0 end "
+            + "redis.call('hset', KEYS[1], ARGV[1], now + tonumber(ARGV[3])) "
+            + "if redis.call('pttl', KEYS[1]) < tonumber(ARGV[3]) then "
+            + "redis.call('pexpire', KEYS[1], ARGV[3]) "
+            + "end "
+            + "return 1";
+    /**
+     * 读写锁释放：ARGV[3]=解锁通知 channel，ARGV[4]=通知内容；
+     * 释放后不再有存活持有者时删除 key 并发布解锁通知
+     */
+    public static final String REDIS_READ_WRITE_UNLOCK_SCRIPT = REDIS_READ_WRITE_PRUNE_SCRIPT
+            + "if redis.call('hdel', KEYS[1], ARGV[1]) == 0 then return 0 end "
+            + "if holders <= 1 then "
+            + "redis.call('del', KEYS[1]) "
+            + "redis.call('publish', ARGV[3], ARGV[4]) "
+            + "end "
+            + "return 1";
 
     // ==================== Bean 名称常量 ====================
 
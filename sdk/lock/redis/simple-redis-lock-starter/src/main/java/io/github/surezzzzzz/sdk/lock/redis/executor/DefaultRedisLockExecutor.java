@@ -1,12 +1,15 @@
 package io.github.surezzzzzz.sdk.lock.redis.executor;
 
+import io.github.surezzzzzz.sdk.lock.redis.constant.ReadWriteLockMode;
 import io.github.surezzzzzz.sdk.lock.redis.constant.SimpleRedisLockConstant;
 import io.github.surezzzzzz.sdk.lock.redis.support.RedisLockScriptHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -46,4 +49,96 @@ public class DefaultRedisLockExecutor implements RedisLockExecutor {
         );
         return SimpleRedisLockConstant.REDIS_SCRIPT_SUCCESS_RESULT.equals(result);
     }
+
+    @Override
+    public boolean unlock(String lockKey, String lockValue, String notifyChannel) {
+        Long result = redisTemplate.execute(
+                RedisLockScriptHelper.UNLOCK_AND_NOTIFY_SCRIPT,
+                Collections.singletonList(lockKey),
+                lockValue,
+                notifyChannel,
+                SimpleRedisLockConstant.UNLOCK_MESSAGE
+        );
+        return SimpleRedisLockConstant.REDIS_SCRIPT_SUCCESS_RESULT.equals(result);
+    }
+
+    @Override
+    public RedisConnectionFactory getNotifyConnectionFactory(String lockKey) {
+        return redisTemplate.getConnectionFactory();
+    }
+
+    @Override
+    public boolean tryLockAll(List<String> lockKeys, String lockValue, long expireTime, TimeUnit timeUnit) {
+        Long result = redisTemplate.execute(
+                RedisLockScriptHelper.LOCK_ALL_SCRIPT,
+                lockKeys,
+                lockValue,
+                String.valueOf(timeUnit.toMillis(expireTime))
+        );
+        return SimpleRedisLockConstant.REDIS_SCRIPT_SUCCESS_RESULT.equals(result);
+    }
+
+    @Override
+    public boolean renewAll(List<String> lockKeys, String lockValue, long leaseTime, TimeUnit timeUnit) {
+        Long result = redisTemplate.execute(
+                RedisLockScriptHelper.RENEW_ALL_SCRIPT,
+                lockKeys,
+                lockValue,
+                String.valueOf(timeUnit.toMillis(leaseTime))
+        );
+        return SimpleRedisLockConstant.REDIS_SCRIPT_SUCCESS_RESULT.equals(result);
+    }
+
+    @Override
+    public boolean unlockAll(List<String> lockKeys, String lockValue, String notifyChannelPrefix) {
+        Long released = redisTemplate.execute(
+                RedisLockScriptHelper.UNLOCK_ALL_SCRIPT,
+                lockKeys,
+                lockValue,
+                notifyChannelPrefix,
+                SimpleRedisLockConstant.UNLOCK_MESSAGE
+        );
+        return released != null && released == lockKeys.size();
+    }
+
+    @Override
+    public boolean tryReadWriteLock(String lockKey, ReadWriteLockMode mode, String lockValue,
+                                    long leaseTime, TimeUnit timeUnit) {
+        Long result = redisTemplate.execute(
+                RedisLockScriptHelper.READ_WRITE_LOCK_SCRIPT,
+                Collections.singletonList(lockKey),
+                mode.field(lockValue),
+                SimpleRedisLockConstant.WRITE_LOCK_FIELD_PREFIX,
+                String.valueOf(timeUnit.toMillis(leaseTime)),
+                mode.isExclusive() ? SimpleRedisLockConstant.SCRIPT_FLAG_TRUE : SimpleRedisLockConstant.SCRIPT_FLAG_FALSE
+        );
+        return SimpleRedisLockConstant.REDIS_SCRIPT_SUCCESS_RESULT.equals(result);
+    }
+
+    @Override
+    public boolean renewReadWriteLock(String lockKey, ReadWriteLockMode mode, String lockValue,
+                                      long leaseTime, TimeUnit timeUnit) {
+        Long result = redisTemplate.execute(
+                RedisLockScriptHelper.READ_WRITE_RENEW_SCRIPT,
+                Collections.singletonList(lockKey),
+                mode.field(lockValue),
+                SimpleRedisLockConstant.WRITE_LOCK_FIELD_PREFIX,
+                String.valueOf(timeUnit.toMillis(leaseTime))
+        );
+        return SimpleRedisLockConstant.REDIS_SCRIPT_SUCCESS_RESULT.equals(result);
+    }
+
+    @Override
+    public boolean unlockReadWriteLock(String lockKey, ReadWriteLockMode mode, String lockValue,
+                                       String notifyChannel) {
+        Long result = redisTemplate.execute(
+                RedisLockScriptHelper.READ_WRITE_UNLOCK_SCRIPT,
+                Collections.singletonList(lockKey),
+                mode.field(lockValue),
+                SimpleRedisLockConstant.WRITE_LOCK_FIELD_PREFIX,
+                notifyChannel,
+                SimpleRedisLockConstant.UNLOCK_MESSAGE
+        );
+        return SimpleRedisLockConstant.REDIS_SCRIPT_SUCCESS_RESULT.equals(result);
+    }
 }
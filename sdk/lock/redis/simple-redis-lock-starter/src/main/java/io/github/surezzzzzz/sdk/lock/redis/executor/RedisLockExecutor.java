@@ -1,7 +1,10 @@
 package io.github.surezzzzzz.sdk.lock.redis.executor;
 
 import io.github.surezzzzzz.sdk.lock.redis.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.lock.redis.constant.ReadWriteLockMode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -43,4 +46,111 @@ public interface RedisLockExecutor {
     default boolean renew(String lockKey, String lockValue, long leaseTime, TimeUnit timeUnit) {
         throw new UnsupportedOperationException(ErrorMessage.EXECUTOR_UNSUPPORTED_LEASE_RENEW);
     }
+
+    /**
+     * 释放锁并在释放成功时向 notifyChannel 发布解锁通知，唤醒阻塞等待者。
+     * 自定义执行器未覆写时仅释放锁、不发布通知，等待者退化为按兜底间隔重试。
+     *
+     * @param lockKey       锁 key
+     * @param lockValue     锁 value（持有者标识）
+     * @param notifyChannel 解锁通知 channel
+     * @return true 表示成功释放，false 表示 value 不匹配或锁已过期
+     */
+    default boolean unlock(String lockKey, String lockValue, String notifyChannel) {
+        return unlock(lockKey, lockValue);
+    }
+
+    /**
+     * 返回 lockKey 所在 Redis 的连接工厂，用于订阅解锁通知。
+     * 必须与 {@link #unlock(String, String, String)} 发布通知的 Redis 一致；返回 null 表示不支持订阅。
+     *
+     * @param lockKey 锁 key
+     * @return 连接工厂，null 表示不支持订阅
+     */
+    default RedisConnectionFactory getNotifyConnectionFactory(String lockKey) {
+        return null;
+    }
+
+    /**
+     * 在一次原子操作内对多个 key 加锁，任一 key 已被持有时全部不加锁。
+     * 多个 key 必须位于同一 Redis（Cluster 下同一 slot，route 模式下同一 datasource）。
+     *
+     * @param lockKeys   已排序去重的锁 key
+     * @param lockValue  锁 value（持有者标识）
+     * @param expireTime 过期时间
+     * @param timeUnit   过期时间单位
+     * @return true 表示全部加锁成功
+     */
+    default boolean tryLockAll(List<String> lockKeys, String lockValue, long expireTime, TimeUnit timeUnit) {
+        throw new UnsupportedOperationException(ErrorMessage.EXECUTOR_UNSUPPORTED_MULTI_LOCK);
+    }
+
+    /**
+     * 多 key 续租，仅当全部 key 仍由 lockValue 持有时才续租。
+     *
+     * @param lockKeys  已排序去重的锁 key
+     * @param lockValue 锁 value（持有者标识）
+     * @param leaseTime 新租约时长
+     * @param timeUnit  租约时间单位
+     * @return true 表示全部续租成功，false 表示任一 key 已过期或 owner 已变更
+     */
+    default boolean renewAll(List<String> lockKeys, String lockValue, long leaseTime, TimeUnit timeUnit) {
+        throw new UnsupportedOperationException(ErrorMessage.EXECUTOR_UNSUPPORTED_MULTI_LOCK);
+    }
+
+    /**
+     * 释放仍由 lockValue 持有的全部 key，并逐个发布解锁通知。
+     *
+     * @param lockKeys            已排序去重的锁 key
+     * @param lockValue           锁 value（持有者标识）
+     * @param notifyChannelPrefix 解锁通知 channel 前缀，实际 channel 为前缀 + lockKey
+     * @return true 表示全部 key 均被释放，false 表示至少一个 key 已过期或 owner 已变更
+     */
+    default boolean unlockAll(List<String> lockKeys, String lockValue, String notifyChannelPrefix) {
+        throw new UnsupportedOperationException(ErrorMessage.EXECUTOR_UNSUPPORTED_MULTI_LOCK);
+    }
+
+    /**
+     * 读写锁加锁。读锁与其他读锁共享，写锁与全部持有者互斥；每个持有者独立过期。
+     *
+     * @param lockKey   读写锁 key
+     * @param mode      读写锁模式
+     * @param lockValue 锁 value（持有者标识）
+     * @param leaseTime 租约时长
+     * @param timeUnit  租约时间单位
+     * @return true 表示加锁成功
+     */
+    default boolean tryReadWriteLock(String lockKey, ReadWriteLockMode mode, String lockValue,
+                                     long leaseTime, TimeUnit timeUnit) {
+        throw new UnsupportedOperationException(ErrorMessage.EXECUTOR_UNSUPPORTED_READ_WRITE_LOCK);
+    }
+
+    /**
+     * 读写锁续租。
+     *
+     * @param lockKey   读写锁 key
+     * @param mode      读写锁模式
+     * @param lockValue 锁 value（持有者标识）
+     * @param leaseTime 新租约时长
+     * @param timeUnit  租约时间单位
+     * @return true 表示续租成功，false 表示租约已过期或已释放
+     */
+    default boolean renewReadWriteLock(String lockKey, ReadWriteLockMode mode, String lockValue,
+                                       long leaseTime, TimeUnit timeUnit) {
+        throw new UnsupportedOperationException(ErrorMessage.EXECUTOR_UNSUPPORTED_READ_WRITE_LOCK);
+    }
+
+    /**
+     * 读写锁释放，释放后不再有存活持有者时发布解锁通知。
+     *
+     * @param lockKey       读写锁 key
+     * @param mode          读写锁模式
+     * @param lockValue     锁 value（持有者标识）
+     * @param notifyChannel 解锁通知 channel
+     * @return true 表示成功释放，false 表示租约已过期或已释放
+     */
+    default boolean unlockReadWriteLock(String lockKey, ReadWriteLockMode mode, String lockValue,
+                                        String notifyChannel) {
+        throw new UnsupportedOperationException(ErrorMessage.EXECUTOR_UNSUPPORTED_READ_WRITE_LOCK);
+    }
 }
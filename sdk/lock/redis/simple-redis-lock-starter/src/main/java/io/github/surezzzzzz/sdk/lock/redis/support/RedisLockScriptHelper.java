@@ -20,6 +20,41 @@ public final class RedisLockScriptHelper {
             Long.class
     );
 
+    public static final DefaultRedisScript<Long> UNLOCK_AND_NOTIFY_SCRIPT = new DefaultRedisScript<>(
+            SimpleRedisLockConstant.REDIS_UNLOCK_AND_NOTIFY_SCRIPT,
+            Long.class
+    );
+
+    public static final DefaultRedisScript<Long> LOCK_ALL_SCRIPT = new DefaultRedisScript<>(
+            SimpleRedisLockConstant.REDIS_LOCK_ALL_SCRIPT,
+            Long.class
+    );
+
+    public static final DefaultRedisScript<Long> RENEW_ALL_SCRIPT = new DefaultRedisScript<>(
+            SimpleRedisLockConstant.REDIS_RENEW_ALL_SCRIPT,
+            Long.class
+    );
+
+    public static final DefaultRedisScript<Long> UNLOCK_ALL_SCRIPT = new DefaultRedisScript<>(
+            SimpleRedisLockConstant.REDIS_UNLOCK_ALL_SCRIPT,
+            Long.class
+    );
+
+    public static final DefaultRedisScript<Long> READ_WRITE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            SimpleRedisLockConstant.REDIS_READ_WRITE_LOCK_SCRIPT,
+            Long.class
+    );
+
+    public static final DefaultRedisScript<Long> READ_WRITE_RENEW_SCRIPT = new DefaultRedisScript<>(
+            SimpleRedisLockConstant.REDIS_READ_WRITE_RENEW_SCRIPT,
+            Long.class
+    );
+
+    public static final DefaultRedisScript<Long> READ_WRITE_UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            SimpleRedisLockConstant.REDIS_READ_WRITE_UNLOCK_SCRIPT,
+            Long.class
+    );
+
     private RedisLockScriptHelper() {
         throw new UnsupportedOperationException(SimpleRedisLockConstant.UTILITY_CLASS_ERROR_MESSAGE);
     }
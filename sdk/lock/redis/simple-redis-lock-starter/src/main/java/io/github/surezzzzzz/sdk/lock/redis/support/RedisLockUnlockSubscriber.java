@@ -0,0 +1,154 @@
+package io.github.surezzzzzz.sdk.lock.redis.support;
+
+import io.github.surezzzzzz.sdk.lock.redis.constant.SimpleRedisLockConstant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 解锁通知订阅器。
+ * <p>每个 Redis 连接工厂懒加载一个监听容器，按 channel 前缀做模式订阅；收到解锁消息后唤醒本进程内等待同一 channel 的全部等待者。
+ * 订阅只用于缩短等待，不参与互斥判断：等待者被唤醒后仍需重新抢锁，消息丢失时由调用方的兜底重试间隔覆盖。</p>
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+public class RedisLockUnlockSubscriber {
+
+    private final String channelPrefix;
+    private final Map<RedisConnectionFactory, RedisMessageListenerContainer> containers = new ConcurrentHashMap<>();
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final MessageListener listener = (message, pattern) ->
+            signal(new String(message.getChannel(), StandardCharsets.UTF_8));
+
+    public RedisLockUnlockSubscriber(String channelPrefix) {
+        this.channelPrefix = channelPrefix;
+    }
+
+    /**
+     * 登记等待者。必须在抢锁前登记，避免抢锁失败与登记之间发布的解锁消息丢失。
+     *
+     * @param channel           解锁通知 channel
+     * @param connectionFactory 发布解锁通知的 Redis 连接工厂，null 表示不订阅、仅依赖兜底重试
+     * @return 等待者
+     */
+    public Waiter register(String channel, RedisConnectionFactory connectionFactory) {
+        if (connectionFactory != null) {
+            subscribe(connectionFactory);
+        }
+        Waiter waiter = new Waiter();
+        waiters.compute(channel, (key, channelWaiters) -> {
+            Set<Waiter> result = channelWaiters == null ? ConcurrentHashMap.newKeySet() : channelWaiters;
+            result.add(waiter);
+            return result;
+        });
+        return waiter;
+    }
+
+    /**
+     * 注销等待者。
+     *
+     * @param channel 解锁通知 channel
+     * @param waiter  等待者
+     */
+    public void unregister(String channel, Waiter waiter) {
+        waiters.computeIfPresent(channel, (key, channelWaiters) -> {
+            channelWaiters.remove(waiter);
+            return channelWaiters.isEmpty() ? null : channelWaiters;
+        });
+    }
+
+    /**
+     * 唤醒等待指定 channel 的全部等待者。
+     *
+     * @param channel 解锁通知 channel
+     */
+    public void signal(String channel) {
+        Set<Waiter> channelWaiters = waiters.get(channel);
+        if (channelWaiters == null) {
+            return;
+        }
+        for (Waiter waiter : channelWaiters) {
+            waiter.signal();
+        }
+    }
+
+    /**
+     * 停止全部监听容器。
+     */
+    public void destroy() {
+        for (RedisMessageListenerContainer container : containers.values()) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                log.warn("关闭解锁通知监听容器失败", e);
+            }
+        }
+        containers.clear();
+    }
+
+    private void subscribe(RedisConnectionFactory connectionFactory) {
+        if (containers.containsKey(connectionFactory)) {
+            return;
+        }
+        try {
+            containers.computeIfAbsent(connectionFactory, this::createContainer);
+        } catch (RuntimeException e) {
+            // 订阅失败不影响加锁，等待者按兜底间隔重试，下次登记时再尝试订阅
+            log.warn("订阅解锁通知失败，等待者将按兜底间隔重试，channelPrefix={}", channelPrefix, e);
+        }
+    }
+
+    private RedisMessageListenerContainer createContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener,
+                new PatternTopic(channelPrefix + SimpleRedisLockConstant.UNLOCK_CHANNEL_PATTERN_SUFFIX));
+        container.afterPropertiesSet();
+        container.start();
+        log.info("已订阅解锁通知，channelPrefix={}", channelPrefix);
+        return container;
+    }
+
+    /**
+     * 单个等待者的唤醒信号。
+     */
+    public static final class Waiter {
+
+        private final Semaphore signals = new Semaphore(0);
+
+        private Waiter() {
+        }
+
+        /**
+         * 清除已收到的信号，应在每次抢锁前调用。
+         */
+        public void reset() {
+            signals.drainPermits();
+        }
+
+        /**
+         * 等待解锁信号。
+         *
+         * @param timeoutNanos 最长等待时长（纳秒）
+         * @return true 表示收到信号，false 表示超时
+         * @throws InterruptedException 等待期间线程被中断
+         */
+        public boolean await(long timeoutNanos) throws InterruptedException {
+            return signals.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void signal() {
+            signals.release();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.surezzzzzz.sdk.lock.redis.support;
+
+import io.github.surezzzzzz.sdk.lock.redis.constant.SimpleRedisLockConstant;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁租约 watchdog 调度器。
+ * <p>首次调度时才创建单个守护线程，只使用非阻塞 API 的应用不会产生额外线程；续租逻辑由调度任务自身实现。</p>
+ *
+ * @author surezzzzzz
+ */
+public class RedisLockWatchdog {
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * 按固定间隔调度续租任务。任务内部异常需自行处理，否则后续调度会被取消。
+     *
+     * @param renewTask      续租任务
+     * @param intervalMillis 续租间隔（毫秒）
+     * @return 调度句柄，释放锁或续租失败时取消
+     */
+    public ScheduledFuture<?> schedule(Runnable renewTask, long intervalMillis) {
+        return getScheduler().scheduleWithFixedDelay(renewTask, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止调度线程。
+     */
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private synchronized ScheduledThreadPoolExecutor getScheduler() {
+        if (scheduler == null) {
+            scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, SimpleRedisLockConstant.WATCHDOG_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+        }
+        return scheduler;
+    }
+}
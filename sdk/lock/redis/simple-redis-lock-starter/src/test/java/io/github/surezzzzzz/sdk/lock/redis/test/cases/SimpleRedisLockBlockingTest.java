@@ -0,0 +1,248 @@
+package io.github.surezzzzzz.sdk.lock.redis.test.cases;
+
+import io.github.surezzzzzz.sdk.lock.redis.SimpleRedisLock;
+import io.github.surezzzzzz.sdk.lock.redis.configuration.SimpleRedisLockProperties;
+import io.github.surezzzzzz.sdk.lock.redis.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.lock.redis.exception.ConfigurationException;
+import io.github.surezzzzzz.sdk.lock.redis.exception.ValidationException;
+import io.github.surezzzzzz.sdk.lock.redis.executor.RedisLockExecutor;
+import io.github.surezzzzzz.sdk.lock.redis.model.RedisLockLease;
+import io.github.surezzzzzz.sdk.lock.redis.test.SimpleRedisLockTestApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 阻塞锁（可重入、watchdog 自动续租、解锁通知唤醒）默认单 Redis 模式端到端测试。
+ * <p>兜底重试间隔调大到 10 秒，等待者若在远小于该间隔内获得锁，说明由解锁通知唤醒。</p>
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(
+        classes = SimpleRedisLockTestApplication.class,
+        properties = {
+                "io.github.surezzzzzz.sdk.lock.redis.blocking.watchdog-timeout-millis=600",
+                "io.github.surezzzzzz.sdk.lock.redis.blocking.fallback-poll-millis=10000"
+        }
+)
+public class SimpleRedisLockBlockingTest {
+
+    private static final String WAKE_KEY = "test:lock:blocking:wake";
+    private static final String REENTRANT_KEY = "test:lock:blocking:reentrant";
+    private static final String WATCHDOG_KEY = "test:lock:blocking:watchdog";
+    private static final String TIMEOUT_KEY = "test:lock:blocking:timeout";
+    private static final String MUTEX_KEY = "test:lock:blocking:mutex";
+    private static final String LEGACY_KEY = "test:lock:blocking:legacy";
+    private static final List<String> TEST_KEYS = Arrays.asList(
+            WAKE_KEY, REENTRANT_KEY, WATCHDOG_KEY, TIMEOUT_KEY, MUTEX_KEY, LEGACY_KEY);
+
+    @Autowired
+    private SimpleRedisLock simpleRedisLock;
+
+    @Autowired
+    private StringRedisTemplate simpleRedisLockRedisTemplate;
+
+    @AfterEach
+    public void cleanUp() {
+        simpleRedisLockRedisTemplate.delete(TEST_KEYS);
+    }
+
+    @Test
+    public void testWaiterWokenByUnlockNotification() throws Exception {
+        log.info("验证等待者在持有者释放后由解锁通知立即唤醒，lockKey={}", WAKE_KEY);
+        RedisLockLease holder = simpleRedisLock.lock(WAKE_KEY, 0, TimeUnit.SECONDS)
+                .orElseThrow(() -> new IllegalStateException("首次加锁应成功"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch waiting = new CountDownLatch(1);
+            Future<Long> waited = executor.submit(() -> {
+                waiting.countDown();
+                long start = System.nanoTime();
+                Optional<RedisLockLease> lease = simpleRedisLock.lock(WAKE_KEY, 5, TimeUnit.SECONDS);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                lease.ifPresent(RedisLockLease::close);
+                return lease.isPresent() ? elapsedMillis : -1L;
+            });
+            assertTrue(waiting.await(1, TimeUnit.SECONDS), "等待线程应已启动");
+            // 确保等待者已订阅并进入等待
+            Thread.sleep(500L);
+            long releasedAt = System.nanoTime();
+            assertTrue(holder.release(), "持有者应能释放锁");
+            long elapsedMillis = waited.get(5, TimeUnit.SECONDS);
+            long wakeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt);
+            log.info("等待者总等待={}ms，释放后获得锁耗时<={}ms", elapsedMillis, wakeMillis);
+            assertTrue(elapsedMillis > 0, "等待者应在等待时长内获得锁");
+            assertTrue(wakeMillis < 2000L, "等待者应由解锁通知唤醒，而非等待兜底重试间隔");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReentrantLockReleasesAfterLastHandle() throws Exception {
+        log.info("验证同一线程可重入，最后一个句柄释放后才真正解锁，lockKey={}", REENTRANT_KEY);
+        RedisLockLease outer = simpleRedisLock.lock(REENTRANT_KEY, 0, TimeUnit.SECONDS)
+                .orElseThrow(() -> new IllegalStateException("首次加锁应成功"));
+        Optional<RedisLockLease> inner = simpleRedisLock.lock(REENTRANT_KEY, 0, TimeUnit.SECONDS);
+        assertTrue(inner.isPresent(), "同一线程重入应成功");
+        String ownerValue = simpleRedisLockRedisTemplate.opsForValue().get(REENTRANT_KEY);
+
+        assertTrue(inner.get().release(), "内层释放应成功");
+        assertFalse(inner.get().release(), "同一句柄重复释放应返回 false");
+        assertEquals(ownerValue, simpleRedisLockRedisTemplate.opsForValue().get(REENTRANT_KEY),
+                "内层释放后锁仍由同一 owner 持有");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Optional<RedisLockLease> otherThread = executor.submit(
+                    () -> simpleRedisLock.lock(REENTRANT_KEY, 0, TimeUnit.SECONDS)).get();
+            assertFalse(otherThread.isPresent(), "其他线程不能重入");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(outer.release(), "外层释放应真正解锁");
+        assertNull(simpleRedisLockRedisTemplate.opsForValue().get(REENTRANT_KEY), "全部句柄释放后锁 key 应被删除");
+    }
+
+    @Test
+    public void testWatchdogKeepsLockBeyondTimeout() throws Exception {
+        log.info("验证 watchdog 在持有期间自动续租，lockKey={}", WATCHDOG_KEY);
+        RedisLockLease lease = simpleRedisLock.lock(WATCHDOG_KEY, 0, TimeUnit.SECONDS)
+                .orElseThrow(() -> new IllegalStateException("首次加锁应成功"));
+        Thread.sleep(1500L);
+        Long pttl = simpleRedisLockRedisTemplate.getExpire(WATCHDOG_KEY, TimeUnit.MILLISECONDS);
+        log.info("超过 watchdog 租约时长后 PTTL={} 毫秒", pttl);
+        assertNotNull(pttl, "PTTL 不应为 null");
+        assertTrue(pttl > 0L, "watchdog 应持续续租，锁不应过期");
+        assertFalse(simpleRedisLock.tryLockWithLease(WATCHDOG_KEY, 1, TimeUnit.SECONDS).isPresent(),
+                "续租期间竞争者不应取得锁");
+
+        assertTrue(lease.release(), "持有者应能释放锁");
+        Thread.sleep(500L);
+        assertNull(simpleRedisLockRedisTemplate.opsForValue().get(WATCHDOG_KEY), "释放后 watchdog 不应再写回锁");
+    }
+
+    @Test
+    public void testLockTimesOutWhenHeld() throws Exception {
+        log.info("验证锁被持有时等待超时返回空，lockKey={}", TIMEOUT_KEY);
+        assertTrue(simpleRedisLock.tryLock(TIMEOUT_KEY, "other-owner", 10, TimeUnit.SECONDS), "预占锁应成功");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            long start = System.nanoTime();
+            Optional<RedisLockLease> lease = executor.submit(
+                    () -> simpleRedisLock.lock(TIMEOUT_KEY, 300, TimeUnit.MILLISECONDS)).get();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("等待超时结果={}，耗时={}ms", lease.isPresent(), elapsedMillis);
+            assertFalse(lease.isPresent(), "锁被持有时应等待超时");
+            assertTrue(elapsedMillis >= 300L, "应等待到超时时间");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLegacyUnlockWakesBlockingWaiter() throws Exception {
+        log.info("验证非阻塞 API 持有者释放时同样唤醒阻塞等待者，lockKey={}", LEGACY_KEY);
+        assertTrue(simpleRedisLock.tryLock(LEGACY_KEY, "legacy-owner", 10, TimeUnit.SECONDS), "预占锁应成功");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<RedisLockLease>> waited = executor.submit(() -> {
+                Optional<RedisLockLease> lease = simpleRedisLock.lock(LEGACY_KEY, 5, TimeUnit.SECONDS);
+                lease.ifPresent(RedisLockLease::close);
+                return lease;
+            });
+            Thread.sleep(500L);
+            long releasedAt = System.nanoTime();
+            assertTrue(simpleRedisLock.unlock(LEGACY_KEY, "legacy-owner"), "旧 API 解锁应成功");
+            assertTrue(waited.get(5, TimeUnit.SECONDS).isPresent(), "等待者应获得锁");
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt) < 2000L,
+                    "旧 API 解锁应发布解锁通知");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentBlockingLockIsMutuallyExclusive() throws Exception {
+        log.info("验证多线程阻塞加锁依次获得锁且互斥，lockKey={}", MUTEX_KEY);
+        int threadCount = 5;
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    Optional<RedisLockLease> lease = simpleRedisLock.lock(MUTEX_KEY, 5, TimeUnit.SECONDS);
+                    if (lease.isPresent()) {
+                        try (RedisLockLease ignored = lease.get()) {
+                            acquired.incrementAndGet();
+                            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                            Thread.sleep(50L);
+                            inside.decrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+                return null;
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS), "全部线程应在 10 秒内完成");
+        executor.shutdownNow();
+        log.info("获得锁次数={}，最大同时持有数={}", acquired.get(), maxInside.get());
+        assertEquals(threadCount, acquired.get(), "每个等待者都应在等待时长内获得锁");
+        assertEquals(1, maxInside.get(), "同一时刻只能有一个持有者");
+    }
+
+    @Test
+    public void testLockRejectsInvalidWaitTime() {
+        ValidationException nullUnit = assertThrows(ValidationException.class,
+                () -> simpleRedisLock.lock(TIMEOUT_KEY, 1, null));
+        assertEquals(ErrorCode.VALIDATION_WAIT_TIME_UNIT_REQUIRED, nullUnit.getErrorCode());
+        ValidationException negative = assertThrows(ValidationException.class,
+                () -> simpleRedisLock.lock(TIMEOUT_KEY, -1, TimeUnit.SECONDS));
+        assertEquals(ErrorCode.VALIDATION_WAIT_TIME_MUST_NOT_BE_NEGATIVE, negative.getErrorCode());
+        assertNull(simpleRedisLockRedisTemplate.opsForValue().get(TIMEOUT_KEY), "校验失败不应写入 Redis");
+    }
+
+    @Test
+    public void testInvalidBlockingConfigurationRejected() {
+        RedisLockExecutor executor = new RedisLockExecutor() {
+            @Override
+            public boolean tryLock(String lockKey, String lockValue, long expireTime, TimeUnit timeUnit) {
+                return false;
+            }
+
+            @Override
+            public boolean unlock(String lockKey, String lockValue) {
+                return false;
+            }
+        };
+        SimpleRedisLockProperties properties = new SimpleRedisLockProperties();
+        properties.getBlocking().setWatchdogTimeoutMillis(1L);
+        ConfigurationException exception = assertThrows(ConfigurationException.class,
+                () -> new SimpleRedisLock(executor, properties));
+        assertEquals(ErrorCode.CONFIG_INVALID_WATCHDOG_TIMEOUT, exception.getErrorCode());
+    }
+}
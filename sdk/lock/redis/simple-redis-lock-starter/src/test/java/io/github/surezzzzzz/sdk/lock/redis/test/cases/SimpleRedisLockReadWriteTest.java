@@ -0,0 +1,190 @@
+package io.github.surezzzzzz.sdk.lock.redis.test.cases;
+
+import io.github.surezzzzzz.sdk.lock.redis.SimpleRedisLock;
+import io.github.surezzzzzz.sdk.lock.redis.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.lock.redis.exception.ValidationException;
+import io.github.surezzzzzz.sdk.lock.redis.model.RedisLockLease;
+import io.github.surezzzzzz.sdk.lock.redis.test.SimpleRedisLockTestApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 读写锁与多 key 原子加锁默认单 Redis 模式端到端测试。
+ * <p>兜底重试间隔调大到 10 秒，等待者若在远小于该间隔内获得锁，说明由解锁通知唤醒。</p>
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(
+        classes = SimpleRedisLockTestApplication.class,
+        properties = "io.github.surezzzzzz.sdk.lock.redis.blocking.fallback-poll-millis=10000"
+)
+public class SimpleRedisLockReadWriteTest {
+
+    private static final String RW_SHARED_KEY = "test:lock:rw:shared";
+    private static final String RW_WAKE_KEY = "test:lock:rw:wake";
+    private static final String RW_EXPIRE_KEY = "test:lock:rw:expire";
+    private static final String RW_RENEW_KEY = "test:lock:rw:renew";
+    private static final String MULTI_KEY_A = "test:lock:multi:a";
+    private static final String MULTI_KEY_B = "test:lock:multi:b";
+    private static final String MULTI_KEY_C = "test:lock:multi:c";
+    private static final List<String> TEST_KEYS = Arrays.asList(
+            RW_SHARED_KEY, RW_WAKE_KEY, RW_EXPIRE_KEY, RW_RENEW_KEY, MULTI_KEY_A, MULTI_KEY_B, MULTI_KEY_C);
+
+    @Autowired
+    private SimpleRedisLock simpleRedisLock;
+
+    @Autowired
+    private StringRedisTemplate simpleRedisLockRedisTemplate;
+
+    @AfterEach
+    public void cleanUp() {
+        simpleRedisLockRedisTemplate.delete(TEST_KEYS);
+    }
+
+    @Test
+    public void testReadersShareAndExcludeWriter() throws Exception {
+        log.info("验证多个读锁可同时持有且与写锁互斥，lockKey={}", RW_SHARED_KEY);
+        Optional<RedisLockLease> firstReader = simpleRedisLock.tryReadLock(RW_SHARED_KEY, 0, 10, TimeUnit.SECONDS);
+        Optional<RedisLockLease> secondReader = simpleRedisLock.tryReadLock(RW_SHARED_KEY, 0, 10, TimeUnit.SECONDS);
+        assertTrue(firstReader.isPresent(), "第一个读锁应成功");
+        assertTrue(secondReader.isPresent(), "读锁之间应共享");
+        assertFalse(simpleRedisLock.tryWriteLock(RW_SHARED_KEY, 0, 10, TimeUnit.SECONDS).isPresent(),
+                "存在读锁时写锁应失败");
+
+        assertTrue(firstReader.get().release(), "读锁应能释放");
+        assertFalse(simpleRedisLock.tryWriteLock(RW_SHARED_KEY, 0, 10, TimeUnit.SECONDS).isPresent(),
+                "仍有读锁时写锁应失败");
+        assertTrue(secondReader.get().release(), "最后一个读锁应能释放");
+        assertFalse(simpleRedisLockRedisTemplate.hasKey(RW_SHARED_KEY), "全部持有者释放后 key 应被删除");
+
+        Optional<RedisLockLease> writer = simpleRedisLock.tryWriteLock(RW_SHARED_KEY, 0, 10, TimeUnit.SECONDS);
+        assertTrue(writer.isPresent(), "读锁全部释放后写锁应成功");
+        assertFalse(simpleRedisLock.tryReadLock(RW_SHARED_KEY, 0, 10, TimeUnit.SECONDS).isPresent(),
+                "存在写锁时读锁应失败");
+        assertFalse(simpleRedisLock.tryWriteLock(RW_SHARED_KEY, 0, 10, TimeUnit.SECONDS).isPresent(),
+                "写锁之间应互斥");
+        writer.get().close();
+        assertFalse(writer.get().release(), "重复释放应返回 false");
+    }
+
+    @Test
+    public void testWriterWokenWhenLastReaderReleases() throws Exception {
+        log.info("验证等待中的写锁在最后一个读锁释放时被唤醒，lockKey={}", RW_WAKE_KEY);
+        RedisLockLease reader = simpleRedisLock.tryReadLock(RW_WAKE_KEY, 0, 10, TimeUnit.SECONDS)
+                .orElseThrow(() -> new IllegalStateException("读锁应成功"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<RedisLockLease>> writer = executor.submit(
+                    () -> simpleRedisLock.tryWriteLock(RW_WAKE_KEY, 5, 10, TimeUnit.SECONDS));
+            Thread.sleep(500L);
+            long releasedAt = System.nanoTime();
+            assertTrue(reader.release(), "读锁应能释放");
+            Optional<RedisLockLease> writerLease = writer.get(5, TimeUnit.SECONDS);
+            long wakeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt);
+            log.info("写锁获取结果={}，释放后获得写锁耗时<={}ms", writerLease.isPresent(), wakeMillis);
+            assertTrue(writerLease.isPresent(), "读锁释放后等待的写锁应成功");
+            assertTrue(wakeMillis < 2000L, "写锁应由解锁通知唤醒");
+            writerLease.get().close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExpiredReaderDoesNotBlockWriter() throws Exception {
+        log.info("验证读锁按各自租约过期，不会永久阻塞写锁，lockKey={}", RW_EXPIRE_KEY);
+        Optional<RedisLockLease> shortReader = simpleRedisLock.tryReadLock(
+                RW_EXPIRE_KEY, 0, 200, TimeUnit.MILLISECONDS);
+        Optional<RedisLockLease> longReader = simpleRedisLock.tryReadLock(RW_EXPIRE_KEY, 0, 10, TimeUnit.SECONDS);
+        assertTrue(shortReader.isPresent() && longReader.isPresent(), "读锁应成功");
+        assertTrue(longReader.get().release(), "长租约读锁应能释放");
+        Thread.sleep(400L);
+        Optional<RedisLockLease> writer = simpleRedisLock.tryWriteLock(RW_EXPIRE_KEY, 0, 10, TimeUnit.SECONDS);
+        assertTrue(writer.isPresent(), "过期读锁不应阻塞写锁");
+        assertFalse(shortReader.get().renew(1, TimeUnit.SECONDS), "过期读锁不能续租");
+        assertFalse(shortReader.get().release(), "过期读锁释放应返回 false");
+        writer.get().close();
+    }
+
+    @Test
+    public void testReadWriteLeaseRenew() throws Exception {
+        log.info("验证读写锁租约显式续租，lockKey={}", RW_RENEW_KEY);
+        RedisLockLease writer = simpleRedisLock.tryWriteLock(RW_RENEW_KEY, 0, 300, TimeUnit.MILLISECONDS)
+                .orElseThrow(() -> new IllegalStateException("写锁应成功"));
+        Thread.sleep(150L);
+        assertTrue(writer.renew(1, TimeUnit.SECONDS), "写锁应能续租");
+        Thread.sleep(300L);
+        assertFalse(simpleRedisLock.tryReadLock(RW_RENEW_KEY, 0, 1, TimeUnit.SECONDS).isPresent(),
+                "续租后原始租约截止点读锁仍应失败");
+        assertTrue(writer.release(), "写锁应能释放");
+    }
+
+    @Test
+    public void testTryLockAllIsAllOrNothing() {
+        log.info("验证多 key 加锁全部成功或全部失败");
+        assertTrue(simpleRedisLock.tryLock(MULTI_KEY_C, "other-owner", 10, TimeUnit.SECONDS), "预占 key 应成功");
+        Optional<RedisLockLease> failed = simpleRedisLock.tryLockAll(
+                Arrays.asList(MULTI_KEY_C, MULTI_KEY_A, MULTI_KEY_B), 10, TimeUnit.SECONDS);
+        assertFalse(failed.isPresent(), "任一 key 已被持有时应整体失败");
+        assertFalse(simpleRedisLockRedisTemplate.hasKey(MULTI_KEY_A), "失败时不应写入其他 key");
+        assertFalse(simpleRedisLockRedisTemplate.hasKey(MULTI_KEY_B), "失败时不应写入其他 key");
+        assertTrue(simpleRedisLock.unlock(MULTI_KEY_C, "other-owner"), "预占 key 应能释放");
+
+        RedisLockLease lease = simpleRedisLock.tryLockAll(
+                        Arrays.asList(MULTI_KEY_B, MULTI_KEY_A, MULTI_KEY_B), 10, TimeUnit.SECONDS)
+                .orElseThrow(() -> new IllegalStateException("多 key 加锁应成功"));
+        assertEquals(simpleRedisLockRedisTemplate.opsForValue().get(MULTI_KEY_A),
+                simpleRedisLockRedisTemplate.opsForValue().get(MULTI_KEY_B), "全部 key 应由同一 owner 持有");
+        assertFalse(simpleRedisLock.tryLock(MULTI_KEY_A, "other-owner", 10, TimeUnit.SECONDS),
+                "多 key 锁与单 key 锁应在同一 key 上互斥");
+        assertTrue(lease.renew(20, TimeUnit.SECONDS), "全部 key 仍持有时应能续租");
+        Long pttl = simpleRedisLockRedisTemplate.getExpire(MULTI_KEY_B, TimeUnit.MILLISECONDS);
+        assertNotNull(pttl, "续租后 PTTL 不应为 null");
+        assertTrue(pttl > 10000L, "续租应作用于全部 key");
+        assertTrue(lease.release(), "全部 key 应被释放");
+        assertFalse(simpleRedisLockRedisTemplate.hasKey(MULTI_KEY_A), "释放后 key 应被删除");
+        assertFalse(simpleRedisLockRedisTemplate.hasKey(MULTI_KEY_B), "释放后 key 应被删除");
+    }
+
+    @Test
+    public void testTryLockAllRenewFailsWhenAnyKeyLost() {
+        log.info("验证任一 key 失去持有时多 key 续租整体失败");
+        RedisLockLease lease = simpleRedisLock.tryLockAll(
+                        Arrays.asList(MULTI_KEY_A, MULTI_KEY_B), 10, TimeUnit.SECONDS)
+                .orElseThrow(() -> new IllegalStateException("多 key 加锁应成功"));
+        simpleRedisLockRedisTemplate.delete(MULTI_KEY_B);
+        assertFalse(lease.renew(20, TimeUnit.SECONDS), "任一 key 已失效时续租应失败");
+        Long pttl = simpleRedisLockRedisTemplate.getExpire(MULTI_KEY_A, TimeUnit.MILLISECONDS);
+        assertNotNull(pttl, "PTTL 不应为 null");
+        assertTrue(pttl <= 10000L, "续租失败时不应修改其他 key 的 TTL");
+        assertFalse(lease.release(), "部分 key 已失效时 release 应返回 false");
+        assertFalse(simpleRedisLockRedisTemplate.hasKey(MULTI_KEY_A), "仍持有的 key 应被释放");
+    }
+
+    @Test
+    public void testTryLockAllRejectsInvalidKeys() {
+        ValidationException empty = assertThrows(ValidationException.class,
+                () -> simpleRedisLock.tryLockAll(Collections.emptyList(), 10, TimeUnit.SECONDS));
+        assertEquals(ErrorCode.VALIDATION_LOCK_KEYS_REQUIRED, empty.getErrorCode());
+        ValidationException nullKey = assertThrows(ValidationException.class,
+                () -> simpleRedisLock.tryLockAll(Arrays.asList(MULTI_KEY_A, null), 10, TimeUnit.SECONDS));
+        assertEquals(ErrorCode.VALIDATION_LOCK_KEYS_REQUIRED, nullKey.getErrorCode());
+        assertFalse(simpleRedisLockRedisTemplate.hasKey(MULTI_KEY_A), "校验失败不应写入 Redis");
+    }
+}
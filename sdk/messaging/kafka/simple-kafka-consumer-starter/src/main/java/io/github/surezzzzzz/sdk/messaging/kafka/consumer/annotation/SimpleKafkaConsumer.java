@@ -43,4 +43,12 @@ public @interface SimpleKafkaConsumer {
      * 注册项标识，用于日志与事件关联，默认用方法全名
      */
     String id() default "";
+
+    /**
+     * 是否以批量模式消费；为 true 时方法参数必须为 {@code List<KafkaConsumerRecord<String, String>>}，
+     * 每次 poll 的记录整批交付，offset 在整批终态处理完成后按容器合并策略提交。
+     * <p>方法抛出异常时，本批全部记录会以单元素列表逐条重新调用该方法，包括异常前已处理完成的记录；
+     * 框架无法区分批内哪些记录已产生副作用，因此批量方法按至少一次语义对每条记录保持幂等。</p>
+     */
+    boolean batch() default false;
 }
@@ -149,5 +149,15 @@ public class SimpleKafkaConsumerProperties {
          * 停机等待 in-flight handler 完成时长（毫秒）
          */
         private long shutdownAwaitMs = SimpleKafkaConsumerConstant.DEFAULT_SHUTDOWN_AWAIT_MS;
+
+        /**
+         * 批量模式累计确认记录数达到该值后提交 offset，0 表示不按记录数合并
+         */
+        private int batchCommitCount = SimpleKafkaConsumerConstant.DEFAULT_BATCH_COMMIT_COUNT;
+
+        /**
+         * 批量模式距上次提交超过该时长（毫秒）后提交 offset，0 表示不按时间合并
+         */
+        private long batchCommitIntervalMs = SimpleKafkaConsumerConstant.DEFAULT_BATCH_COMMIT_INTERVAL_MS;
     }
 }
@@ -209,6 +209,14 @@ public final class SimpleKafkaConsumerConstant {
      * 并发数下限
      */
     public static final int CONCURRENCY_MIN = 1;
+    /**
+     * 默认批量模式按记录数合并提交阈值，0 表示不按记录数合并
+     */
+    public static final int DEFAULT_BATCH_COMMIT_COUNT = 0;
+    /**
+     * 默认批量模式按时间合并提交间隔（毫秒），0 表示不按时间合并
+     */
+    public static final long DEFAULT_BATCH_COMMIT_INTERVAL_MS = 0L;
     /**
      * 消息 id header 名（与 publisher / outbox 对齐）
      */
@@ -296,6 +304,14 @@ public final class SimpleKafkaConsumerConstant {
      * 失败原因：幂等租约时长非法
      */
     public static final String REASON_IDEMPOTENCY_LEASE_INVALID = "idempotency-lease-invalid";
+    /**
+     * 失败原因：批量合并提交配置非法
+     */
+    public static final String REASON_BATCH_COMMIT_INVALID = "batch-commit-invalid";
+    /**
+     * 失败原因：同一消费容器内批量与单条模式混用
+     */
+    public static final String REASON_BATCH_MODE_CONFLICT = "batch-mode-conflict";
 
     private SimpleKafkaConsumerConstant() {
         throw new UnsupportedOperationException(UTILITY_CLASS_MESSAGE);
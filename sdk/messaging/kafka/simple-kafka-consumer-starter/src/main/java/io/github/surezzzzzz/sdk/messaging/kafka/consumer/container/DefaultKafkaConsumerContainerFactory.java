@@ -1,5 +1,6 @@
 package io.github.surezzzzzz.sdk.messaging.kafka.consumer.container;
 
+import io.github.surezzzzzz.sdk.messaging.kafka.consumer.constant.SimpleKafkaConsumerConstant;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.model.KafkaConsumerContainerContext;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.listener.*;
@@ -16,20 +17,54 @@ public class DefaultKafkaConsumerContainerFactory implements KafkaConsumerContai
         ContainerProperties containerProperties = new ContainerProperties(
                 context.getTopics().toArray(new String[0]));
         containerProperties.setGroupId(context.getGroupId());
-        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
-        containerProperties.setMessageListener((AcknowledgingMessageListener<String, String>)
-                context.getListener()::onManualCommitMessage);
+        if (context.isBatch()) {
+            configureBatchCommit(containerProperties, context);
+            containerProperties.setMessageListener((BatchMessageListener<String, String>)
+                    context.getListener()::onBatchMessage);
+        } else {
+            containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+            containerProperties.setMessageListener((AcknowledgingMessageListener<String, String>)
+                    context.getListener()::onManualCommitMessage);
+        }
         containerProperties.setShutdownTimeout(context.getShutdownAwaitMs());
 
         ConsumerFactory<Object, Object> consumerFactory = context.getConsumerFactory();
         ConcurrentMessageListenerContainer<Object, Object> container =
                 new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
         container.setConcurrency(context.getConcurrency());
-        container.setErrorHandler(new NoAckContainerStoppingErrorHandler());
+        if (context.isBatch()) {
+            container.setBatchErrorHandler(new NoAckContainerStoppingBatchErrorHandler());
+        } else {
+            container.setErrorHandler(new NoAckContainerStoppingErrorHandler());
+        }
         container.setAutoStartup(false);
         return container;
     }
 
+    /**
+     * 批量监听器返回即代表整批已到达终态，由容器在监听器返回后提交 offset：
+     * 未配置合并阈值时每批提交一次，配置记录数或时间阈值时合并多批后再提交。
+     */
+    private void configureBatchCommit(ContainerProperties containerProperties, KafkaConsumerContainerContext context) {
+        boolean byCount = context.getBatchCommitCount() > SimpleKafkaConsumerConstant.ZERO;
+        boolean byTime = context.getBatchCommitIntervalMs() > SimpleKafkaConsumerConstant.ZERO;
+        if (byCount) {
+            containerProperties.setAckCount(context.getBatchCommitCount());
+        }
+        if (byTime) {
+            containerProperties.setAckTime(context.getBatchCommitIntervalMs());
+        }
+        if (byCount && byTime) {
+            containerProperties.setAckMode(ContainerProperties.AckMode.COUNT_TIME);
+        } else if (byCount) {
+            containerProperties.setAckMode(ContainerProperties.AckMode.COUNT);
+        } else if (byTime) {
+            containerProperties.setAckMode(ContainerProperties.AckMode.TIME);
+        } else {
+            containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        }
+    }
+
     private static final class NoAckContainerStoppingErrorHandler extends ContainerStoppingErrorHandler {
 
         @Override
@@ -37,4 +72,12 @@ public class DefaultKafkaConsumerContainerFactory implements KafkaConsumerContai
             return false;
         }
     }
+
+    private static final class NoAckContainerStoppingBatchErrorHandler extends ContainerStoppingBatchErrorHandler {
+
+        @Override
+        public boolean isAckAfterHandle() {
+            return false;
+        }
+    }
 }
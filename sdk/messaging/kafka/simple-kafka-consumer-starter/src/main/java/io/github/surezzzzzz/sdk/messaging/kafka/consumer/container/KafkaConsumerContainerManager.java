@@ -168,6 +168,9 @@ public class KafkaConsumerContainerManager implements SmartLifecycle {
                             .maxPollRecords(group.configuration.getMaxPollRecords())
                             .concurrency(group.configuration.getConcurrency())
                             .shutdownAwaitMs(group.configuration.getShutdownAwaitMs())
+                            .batch(group.configuration.isBatch())
+                            .batchCommitCount(group.configuration.getBatchCommitCount())
+                            .batchCommitIntervalMs(group.configuration.getBatchCommitIntervalMs())
                             .listener(adapter)
                             .consumerFactory(consumerFactory)
                             .build();
@@ -208,6 +211,8 @@ public class KafkaConsumerContainerManager implements SmartLifecycle {
             if (group == null) {
                 group = new GroupDefinition(configuration);
                 groups.put(key, group);
+            } else if (group.configuration.isBatch() != configuration.isBatch()) {
+                throw configInvalid(SimpleKafkaConsumerConstant.REASON_BATCH_MODE_CONFLICT);
             }
             group.handlers.put(registration.getTopic(), castHandler(registration.getHandler()));
             group.registrationIds.put(registration.getTopic(), registration.getId());
@@ -226,6 +231,9 @@ public class KafkaConsumerContainerManager implements SmartLifecycle {
                 .maxPollRecords(resolveMaxPollRecords(routeConsumer))
                 .concurrency(properties.getContainer().getConcurrency())
                 .shutdownAwaitMs(properties.getContainer().getShutdownAwaitMs())
+                .batch(registration.isBatch())
+                .batchCommitCount(properties.getContainer().getBatchCommitCount())
+                .batchCommitIntervalMs(properties.getContainer().getBatchCommitIntervalMs())
                 .build();
     }
 
@@ -2,6 +2,8 @@ package io.github.surezzzzzz.sdk.messaging.kafka.consumer.handler;
 
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.model.KafkaConsumerRecord;
 
+import java.util.List;
+
 /**
  * 消费处理器 SPI，业务方实现消息处理逻辑
  *
@@ -19,6 +21,20 @@ public interface KafkaConsumerHandler<K, V> {
      */
     void handle(KafkaConsumerRecord<K, V> record) throws Exception;
 
+    /**
+     * 处理一批消息，默认逐条调用 {@link #handle(KafkaConsumerRecord)}。
+     * 抛出异常时整批回退为逐条处理，由 {@code KafkaConsumerErrorHandler} 逐条决定重试或死信；
+     * 回退会重放本批全部记录，异常前已处理的记录也会再次交付
+     *
+     * @param records 同一次 poll 的消费记录，保持分区内 offset 顺序
+     * @throws Exception 处理异常
+     */
+    default void handleBatch(List<KafkaConsumerRecord<K, V>> records) throws Exception {
+        for (KafkaConsumerRecord<K, V> record : records) {
+            handle(record);
+        }
+    }
+
     /**
      * 解析当前 topic 对应的消费注册项标识。
      *
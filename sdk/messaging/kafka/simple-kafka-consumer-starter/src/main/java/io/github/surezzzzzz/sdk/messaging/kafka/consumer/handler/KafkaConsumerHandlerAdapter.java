@@ -23,6 +23,8 @@ import org.apache.kafka.common.header.Headers;
 import org.springframework.kafka.support.Acknowledgment;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 消费处理器适配器。
@@ -75,6 +77,83 @@ public class KafkaConsumerHandlerAdapter {
         consume(data, acknowledgment);
     }
 
+    /**
+     * 批量模式的消费入口。
+     * <p>逐条领取幂等租约后整批调用处理器；整批成功则逐条完成租约，批处理失败则回退为逐条处理，
+     * 由错误处理器逐条决定重试或死信。方法正常返回即代表整批已到达终态，offset 由容器按合并策略提交；
+     * 抛出异常时容器停止且不提交本批 offset。</p>
+     *
+     * @param data 同一次 poll 的原始消息
+     */
+    public void onBatchMessage(List<ConsumerRecord<String, String>> data) {
+        List<KafkaConsumerRecord<String, String>> records = new ArrayList<>(data.size());
+        List<KafkaConsumerIdempotencyLease> leases = new ArrayList<>(data.size());
+        for (ConsumerRecord<String, String> item : data) {
+            KafkaConsumerRecord<String, String> record = KafkaConsumerRecord.of(item, resolveMessageId(item),
+                    datasourceKey, handler.resolveRegistrationId(item.topic()), null);
+            KafkaConsumerIdempotencyAcquireResult acquireResult = acquireSafe(record);
+            if (acquireResult.getStatus() == KafkaConsumerIdempotencyAcquireStatus.COMPLETED) {
+                fire(record, ConsumerEventType.IDEMPOTENT_REJECT, SimpleKafkaConsumerConstant.FIRST_ATTEMPT, null, null);
+                continue;
+            }
+            if (acquireResult.getStatus() == KafkaConsumerIdempotencyAcquireStatus.IN_PROGRESS) {
+                releaseFrom(records, leases, SimpleKafkaConsumerConstant.ZERO);
+                throw idempotencyInProgress(record);
+            }
+            records.add(record);
+            leases.add(acquireResult.getLease());
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            handler.handleBatch(records);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                for (int index = SimpleKafkaConsumerConstant.ZERO; index < records.size(); index++) {
+                    releaseSafe(leases.get(index), records.get(index));
+                    fire(records.get(index), ConsumerEventType.ERROR, SimpleKafkaConsumerConstant.FIRST_ATTEMPT,
+                            ErrorCode.CONSUME_RETRYABLE, summary(e));
+                }
+                throw retryInterrupted(records.get(SimpleKafkaConsumerConstant.ZERO), e,
+                        SimpleKafkaConsumerConstant.FIRST_ATTEMPT);
+            }
+            log.warn("批量消费失败，回退为逐条重放整批记录：topic=[{}]，size=[{}]",
+                    records.get(SimpleKafkaConsumerConstant.ZERO).getTopic(), records.size(), e);
+            consumeEach(records, leases);
+            return;
+        }
+        for (int index = SimpleKafkaConsumerConstant.ZERO; index < records.size(); index++) {
+            try {
+                completeAndAcknowledge(records.get(index), leases.get(index), ConsumerEventType.CONSUMED,
+                        SimpleKafkaConsumerConstant.FIRST_ATTEMPT, null, null);
+            } catch (RuntimeException e) {
+                releaseFrom(records, leases, index + SimpleKafkaConsumerConstant.FIRST_ATTEMPT);
+                throw e;
+            }
+        }
+    }
+
+    private void consumeEach(List<KafkaConsumerRecord<String, String>> records,
+                             List<KafkaConsumerIdempotencyLease> leases) {
+        for (int index = SimpleKafkaConsumerConstant.ZERO; index < records.size(); index++) {
+            try {
+                consumeAcquired(records.get(index), leases.get(index));
+            } catch (RuntimeException e) {
+                releaseFrom(records, leases, index + SimpleKafkaConsumerConstant.FIRST_ATTEMPT);
+                throw e;
+            }
+        }
+    }
+
+    private void releaseFrom(List<KafkaConsumerRecord<String, String>> records,
+                             List<KafkaConsumerIdempotencyLease> leases, int fromIndex) {
+        for (int index = fromIndex; index < records.size(); index++) {
+            releaseSafe(leases.get(index), records.get(index));
+        }
+    }
+
     private void consume(ConsumerRecord<String, String> data, Acknowledgment acknowledgment) {
         String messageId = resolveMessageId(data);
         KafkaConsumerRecord<String, String> record = KafkaConsumerRecord.of(data, messageId, datasourceKey,
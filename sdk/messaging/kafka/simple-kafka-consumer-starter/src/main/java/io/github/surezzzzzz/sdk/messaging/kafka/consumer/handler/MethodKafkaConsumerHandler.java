@@ -5,6 +5,8 @@ import io.github.surezzzzzz.sdk.messaging.kafka.consumer.model.KafkaConsumerReco
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * 注解方法消费处理器
@@ -15,6 +17,7 @@ public class MethodKafkaConsumerHandler implements KafkaConsumerHandler<String,
 
     private final Object bean;
     private final Method method;
+    private final boolean batch;
 
     /**
      * 构造注解方法消费处理器
@@ -23,14 +26,42 @@ public class MethodKafkaConsumerHandler implements KafkaConsumerHandler<String,
      * @param method 可调用方法
      */
     public MethodKafkaConsumerHandler(Object bean, Method method) {
+        this(bean, method, false);
+    }
+
+    /**
+     * 构造注解方法消费处理器
+     *
+     * @param bean   Spring bean 代理对象
+     * @param method 可调用方法
+     * @param batch  方法是否接收 {@code List<KafkaConsumerRecord>}
+     */
+    public MethodKafkaConsumerHandler(Object bean, Method method, boolean batch) {
         this.bean = bean;
         this.method = method;
+        this.batch = batch;
     }
 
     @Override
     public void handle(KafkaConsumerRecord<String, String> record) throws Exception {
+        invoke(batch ? Collections.singletonList(record) : record);
+    }
+
+    /**
+     * 批量方法整批一次反射调用；单条方法逐条调用。
+     */
+    @Override
+    public void handleBatch(List<KafkaConsumerRecord<String, String>> records) throws Exception {
+        if (!batch) {
+            KafkaConsumerHandler.super.handleBatch(records);
+            return;
+        }
+        invoke(records);
+    }
+
+    private void invoke(Object argument) throws Exception {
         try {
-            method.invoke(bean, record);
+            method.invoke(bean, argument);
         } catch (IllegalAccessException e) {
             throw new IllegalStateException(ErrorMessage.ANNOTATED_HANDLER_INACCESSIBLE, e);
         } catch (InvocationTargetException e) {
@@ -3,8 +3,10 @@ package io.github.surezzzzzz.sdk.messaging.kafka.consumer.handler;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.model.KafkaConsumerRecord;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -38,6 +40,24 @@ public class TopicDispatchingKafkaConsumerHandler implements KafkaConsumerHandle
         handler.handle(record);
     }
 
+    /**
+     * 按 topic 拆分后整组交给对应处理器，组内保持 poll 顺序。
+     */
+    @Override
+    public void handleBatch(List<KafkaConsumerRecord<String, String>> records) throws Exception {
+        Map<String, List<KafkaConsumerRecord<String, String>>> groups = new LinkedHashMap<>();
+        for (KafkaConsumerRecord<String, String> record : records) {
+            groups.computeIfAbsent(record.getTopic(), topic -> new ArrayList<>()).add(record);
+        }
+        for (Map.Entry<String, List<KafkaConsumerRecord<String, String>>> entry : groups.entrySet()) {
+            KafkaConsumerHandler<String, String> handler = handlers.get(entry.getKey());
+            if (handler == null) {
+                throw new IllegalStateException(String.format(ErrorMessage.HANDLER_NOT_FOUND, entry.getKey()));
+            }
+            handler.handleBatch(entry.getValue());
+        }
+    }
+
     @Override
     public String resolveRegistrationId(String topic) {
         return registrationIds.get(topic);
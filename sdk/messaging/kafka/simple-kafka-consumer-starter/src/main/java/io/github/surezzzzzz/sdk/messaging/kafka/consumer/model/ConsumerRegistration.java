@@ -38,6 +38,11 @@ public class ConsumerRegistration {
      */
     private final String id;
 
+    /**
+     * 是否批量消费
+     */
+    private final boolean batch;
+
     /**
      * 处理器
      */
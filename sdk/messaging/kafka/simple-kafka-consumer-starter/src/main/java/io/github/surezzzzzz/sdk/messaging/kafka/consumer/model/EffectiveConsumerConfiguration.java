@@ -19,4 +19,7 @@ public class EffectiveConsumerConfiguration {
     private final int maxPollRecords;
     private final int concurrency;
     private final long shutdownAwaitMs;
+    private final boolean batch;
+    private final int batchCommitCount;
+    private final long batchCommitIntervalMs;
 }
@@ -56,6 +56,21 @@ public class KafkaConsumerContainerContext {
      */
     private final long shutdownAwaitMs;
 
+    /**
+     * 是否批量消费
+     */
+    private final boolean batch;
+
+    /**
+     * 批量模式按记录数合并提交阈值，0 表示不按记录数合并
+     */
+    private final int batchCommitCount;
+
+    /**
+     * 批量模式按时间合并提交间隔（毫秒），0 表示不按时间合并
+     */
+    private final long batchCommitIntervalMs;
+
     /**
      * 消息监听器
      */
@@ -19,7 +19,10 @@ import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -61,14 +64,14 @@ public class SimpleKafkaConsumerAnnotationHandler implements SmartInitializingSi
     }
 
     private void registerOne(String beanName, Object bean, SimpleKafkaConsumer annotation, Method targetMethod) {
-        validateMethod(targetMethod);
+        validateMethod(targetMethod, annotation.batch());
         Method invokeMethod = resolveInvokeMethod(bean, targetMethod);
         Set<String> topics = collectTopics(annotation);
         String datasource = KafkaConsumerStringHelper.trimToNull(annotation.datasource());
         String groupId = KafkaConsumerStringHelper.trimToNull(annotation.groupId());
         String autoOffsetReset = KafkaConsumerStringHelper.trimToNull(annotation.autoOffsetReset());
         String id = resolveId(annotation, beanName, targetMethod);
-        MethodKafkaConsumerHandler handler = new MethodKafkaConsumerHandler(bean, invokeMethod);
+        MethodKafkaConsumerHandler handler = new MethodKafkaConsumerHandler(bean, invokeMethod, annotation.batch());
         for (String topic : topics) {
             registrar.register(ConsumerRegistration.builder()
                     .topic(topic)
@@ -76,19 +79,35 @@ public class SimpleKafkaConsumerAnnotationHandler implements SmartInitializingSi
                     .groupId(groupId)
                     .autoOffsetReset(autoOffsetReset)
                     .id(id)
+                    .batch(annotation.batch())
                     .handler(handler)
                     .build());
         }
     }
 
-    private void validateMethod(Method method) {
+    private void validateMethod(Method method, boolean batch) {
         if (Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())
                 || method.getReturnType() != Void.TYPE || method.getParameterTypes().length != 1
-                || method.getParameterTypes()[0] != KafkaConsumerRecord.class) {
+                || !(batch ? isBatchParameter(method) : method.getParameterTypes()[0] == KafkaConsumerRecord.class)) {
             throw configInvalid(String.format(ErrorMessage.CONFIG_INVALID_HANDLER_METHOD, method.toGenericString()));
         }
     }
 
+    private boolean isBatchParameter(Method method) {
+        if (method.getParameterTypes()[0] != List.class) {
+            return false;
+        }
+        Type parameterType = method.getGenericParameterTypes()[0];
+        if (!(parameterType instanceof ParameterizedType)) {
+            return false;
+        }
+        Type elementType = ((ParameterizedType) parameterType).getActualTypeArguments()[0];
+        if (elementType instanceof ParameterizedType) {
+            elementType = ((ParameterizedType) elementType).getRawType();
+        }
+        return elementType == KafkaConsumerRecord.class;
+    }
+
     private Method resolveInvokeMethod(Object bean, Method targetMethod) {
         try {
             return bean.getClass().getMethod(targetMethod.getName(), targetMethod.getParameterTypes());
@@ -74,6 +74,10 @@ public class DefaultKafkaConsumerPropertiesValidator implements KafkaConsumerPro
                 && !isValidAutoOffsetReset(autoOffsetReset)) {
             throw configInvalid(SimpleKafkaConsumerConstant.REASON_AUTO_OFFSET_RESET_INVALID);
         }
+        if (container.getBatchCommitCount() < SimpleKafkaConsumerConstant.ZERO
+                || container.getBatchCommitIntervalMs() < SimpleKafkaConsumerConstant.ZERO) {
+            throw configInvalid(SimpleKafkaConsumerConstant.REASON_BATCH_COMMIT_INVALID);
+        }
     }
 
     private boolean isValidAutoOffsetReset(String value) {
@@ -8,11 +8,14 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.BatchMessageListener;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.Acknowledgment;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -54,6 +57,65 @@ public class DefaultKafkaConsumerContainerFactoryTest {
         verify(adapter).onManualCommitMessage(record, acknowledgment);
     }
 
+    @Test
+    public void testBatchContainerBindsBatchListenerAndCoalescesCommits() {
+        KafkaConsumerHandlerAdapter adapter = mock(KafkaConsumerHandlerAdapter.class);
+        ConsumerFactory<Object, Object> consumerFactory = mock(ConsumerFactory.class);
+        KafkaConsumerContainerContext context = batchContext(adapter, consumerFactory, 200, 5000L);
+
+        ConcurrentMessageListenerContainer<Object, Object> container = (ConcurrentMessageListenerContainer<Object, Object>)
+                new DefaultKafkaConsumerContainerFactory().createContainer(context);
+        ContainerProperties properties = container.getContainerProperties();
+        List<ConsumerRecord<String, String>> records = Collections.singletonList(
+                new ConsumerRecord<>("mock-topic-a", 1, 9L, "mock-key", "mock-value"));
+        ((BatchMessageListener<String, String>) properties.getMessageListener()).onMessage(records);
+        log.info("批量容器：ackMode={}，ackCount={}，ackTime={}", properties.getAckMode(), properties.getAckCount(),
+                properties.getAckTime());
+
+        assertEquals(ContainerProperties.AckMode.COUNT_TIME, properties.getAckMode(), "同时配置记录数与时间阈值时合并提交");
+        assertEquals(200, properties.getAckCount());
+        assertEquals(5000L, properties.getAckTime());
+        assertFalse(container.getGenericErrorHandler().isAckAfterHandle(),
+                "批量消费异常停止容器时不得由 Spring Kafka 自动确认本批 offset");
+        verify(adapter).onBatchMessage(records);
+    }
+
+    @Test
+    public void testBatchContainerWithoutThresholdsCommitsEveryBatch() {
+        KafkaConsumerContainerContext countOnly = batchContext(mock(KafkaConsumerHandlerAdapter.class),
+                mock(ConsumerFactory.class), 100, 0L);
+        KafkaConsumerContainerContext perBatch = batchContext(mock(KafkaConsumerHandlerAdapter.class),
+                mock(ConsumerFactory.class), 0, 0L);
+
+        ContainerProperties countProperties = ((ConcurrentMessageListenerContainer<Object, Object>)
+                new DefaultKafkaConsumerContainerFactory().createContainer(countOnly)).getContainerProperties();
+        ContainerProperties batchProperties = ((ConcurrentMessageListenerContainer<Object, Object>)
+                new DefaultKafkaConsumerContainerFactory().createContainer(perBatch)).getContainerProperties();
+        log.info("批量提交模式：countOnly={}，perBatch={}", countProperties.getAckMode(), batchProperties.getAckMode());
+
+        assertEquals(ContainerProperties.AckMode.COUNT, countProperties.getAckMode());
+        assertEquals(ContainerProperties.AckMode.BATCH, batchProperties.getAckMode(), "未配置阈值时每批提交一次");
+    }
+
+    private KafkaConsumerContainerContext batchContext(KafkaConsumerHandlerAdapter adapter,
+                                                       ConsumerFactory<Object, Object> consumerFactory,
+                                                       int batchCommitCount, long batchCommitIntervalMs) {
+        return KafkaConsumerContainerContext.builder()
+                .datasourceKey("mock-datasource")
+                .groupId("mock-group")
+                .topics(Arrays.asList("mock-topic-a", "mock-topic-b"))
+                .autoOffsetReset("earliest")
+                .maxPollRecords(100)
+                .concurrency(1)
+                .shutdownAwaitMs(1234L)
+                .batch(true)
+                .batchCommitCount(batchCommitCount)
+                .batchCommitIntervalMs(batchCommitIntervalMs)
+                .listener(adapter)
+                .consumerFactory(consumerFactory)
+                .build();
+    }
+
     private KafkaConsumerContainerContext context(KafkaConsumerHandlerAdapter adapter,
                                                   ConsumerFactory<Object, Object> consumerFactory,
                                                   boolean enableAutoCommit) {
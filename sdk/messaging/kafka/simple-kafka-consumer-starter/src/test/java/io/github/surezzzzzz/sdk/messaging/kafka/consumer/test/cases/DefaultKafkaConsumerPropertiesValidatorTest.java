@@ -98,6 +98,22 @@ public class DefaultKafkaConsumerPropertiesValidatorTest {
         assertEquals(ErrorCode.CONFIG_INVALID, exception.getErrorCode());
     }
 
+    @Test
+    public void testRejectsNegativeBatchCommitThresholds() {
+        SimpleKafkaConsumerProperties countProperties = new SimpleKafkaConsumerProperties();
+        countProperties.getContainer().setBatchCommitCount(-1);
+        SimpleKafkaConsumerProperties intervalProperties = new SimpleKafkaConsumerProperties();
+        intervalProperties.getContainer().setBatchCommitIntervalMs(-1L);
+
+        KafkaConsumerConfigurationException countException = assertThrows(KafkaConsumerConfigurationException.class,
+                () -> validator.validate(countProperties));
+        KafkaConsumerConfigurationException intervalException = assertThrows(KafkaConsumerConfigurationException.class,
+                () -> validator.validate(intervalProperties));
+        log.info("非法批量合并提交配置：count={}，interval={}", countException.getMessage(), intervalException.getMessage());
+        assertEquals("消费配置或注册非法：batch-commit-invalid", countException.getMessage());
+        assertEquals("消费配置或注册非法：batch-commit-invalid", intervalException.getMessage());
+    }
+
     private void assertBackoffInvalid(double multiplier, double jitterFactor) {
         SimpleKafkaConsumerProperties properties = new SimpleKafkaConsumerProperties();
         properties.getError().setMultiplier(multiplier);
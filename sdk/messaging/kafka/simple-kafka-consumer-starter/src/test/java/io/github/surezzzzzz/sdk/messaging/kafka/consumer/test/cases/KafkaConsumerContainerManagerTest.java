@@ -245,6 +245,42 @@ public class KafkaConsumerContainerManagerTest {
         verify(registry, org.mockito.Mockito.never()).createConsumerFactory(any(String.class), any(KafkaConsumerFactoryOverride.class));
     }
 
+    @Test
+    public void testBatchRegistrationReachesContainerContextWithCommitSettings() {
+        KafkaConsumerRegistrar registrar = registrar(batchRegistration("topic-a", "group-a"));
+        SimpleKafkaRouteRegistry registry = registry();
+        when(registry.createConsumerFactory(eq("source-a"), any(KafkaConsumerFactoryOverride.class)))
+                .thenReturn(derivedFactory());
+        List<KafkaConsumerContainerContext> contexts = new ArrayList<>();
+        KafkaConsumerContainerManager manager = manager(registrar, registry, context -> {
+            contexts.add(context);
+            return mock(MessageListenerContainer.class);
+        }, routeProperties("route-group"));
+
+        manager.start();
+        KafkaConsumerContainerContext context = contexts.get(0);
+        log.info("批量容器上下文：batch={}，commitCount={}，commitIntervalMs={}", context.isBatch(),
+                context.getBatchCommitCount(), context.getBatchCommitIntervalMs());
+
+        assertTrue(context.isBatch(), "批量注册必须创建批量消费容器");
+        assertEquals(0, context.getBatchCommitCount());
+        assertEquals(0L, context.getBatchCommitIntervalMs());
+    }
+
+    @Test
+    public void testBatchAndRecordRegistrationsInSameGroupFailBeforeResourcesCreated() {
+        KafkaConsumerRegistrar registrar = registrar(registration("topic-a", "group-a"),
+                batchRegistration("topic-b", "group-a"));
+        SimpleKafkaRouteRegistry registry = registry();
+        KafkaConsumerContainerManager manager = manager(registrar, registry, context -> mock(MessageListenerContainer.class),
+                routeProperties("route-group"));
+
+        KafkaConsumerConfigurationException exception = assertThrows(KafkaConsumerConfigurationException.class, manager::start);
+        log.info("批量与单条模式混用错误：{}", exception.getMessage());
+        assertEquals("消费配置或注册非法：batch-mode-conflict", exception.getMessage());
+        verify(registry, org.mockito.Mockito.never()).createConsumerFactory(any(String.class), any(KafkaConsumerFactoryOverride.class));
+    }
+
     @Test
     public void testRepeatedStartDoesNotCreateOrStartReplacementResources() throws Exception {
         KafkaConsumerRegistrar registrar = registrar(registration("topic-a", "group-a"));
@@ -605,6 +641,13 @@ public class KafkaConsumerContainerManagerTest {
                 .autoOffsetReset(autoOffsetReset).id(topic + "#handler").handler(handler).build();
     }
 
+    private ConsumerRegistration batchRegistration(String topic, String groupId) {
+        KafkaConsumerHandler<String, String> handler = record -> {
+        };
+        return ConsumerRegistration.builder().topic(topic).datasource("source-a").groupId(groupId)
+                .id(topic + "#batchHandler").batch(true).handler(handler).build();
+    }
+
     @SuppressWarnings("unchecked")
     private ConsumerFactory<Object, Object> derivedFactory() {
         return mock(ConsumerFactory.class, org.mockito.Mockito.withSettings().extraInterfaces(DisposableBean.class));
@@ -10,6 +10,7 @@ import io.github.surezzzzzz.sdk.messaging.kafka.consumer.error.KafkaConsumerErro
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.exception.KafkaConsumerException;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.handler.KafkaConsumerHandler;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.handler.KafkaConsumerHandlerAdapter;
+import io.github.surezzzzzz.sdk.messaging.kafka.consumer.handler.MethodKafkaConsumerHandler;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.idempotency.KafkaConsumerIdempotencyAcquireResult;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.idempotency.KafkaConsumerIdempotencyChecker;
 import io.github.surezzzzzz.sdk.messaging.kafka.consumer.idempotency.KafkaConsumerIdempotencyLease;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.kafka.support.Acknowledgment;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -353,6 +355,142 @@ public class KafkaConsumerHandlerAdapterTest {
         assertEquals("mock-topic:2:7", acquiredMessageIds.get(1), "缺失 messageId 时必须回退到 topic:partition:offset");
     }
 
+    @Test
+    public void testBatchSuccessInvokesHandlerOnceAndCompletesEveryLease() throws Exception {
+        KafkaConsumerIdempotencyLease lease = mock(KafkaConsumerIdempotencyLease.class);
+        when(lease.complete()).thenReturn(true);
+        List<Integer> batchSizes = new ArrayList<>();
+        List<KafkaConsumerEventContext> events = new ArrayList<>();
+        KafkaConsumerHandler<String, String> handler = new KafkaConsumerHandler<String, String>() {
+            @Override
+            public void handle(KafkaConsumerRecord<String, String> record) {
+                fail("整批成功时不得逐条调用 handler");
+            }
+
+            @Override
+            public void handleBatch(List<KafkaConsumerRecord<String, String>> records) {
+                batchSizes.add(records.size());
+            }
+        };
+
+        adapter(handler, acquiredChecker(lease), mock(KafkaConsumerErrorHandler.class), mock(DeadLetterPublisher.class),
+                events::add).onBatchMessage(batch(3));
+        log.info("批量消费结果：batchSizes={}，eventCount={}", batchSizes, events.size());
+
+        assertEquals(java.util.Collections.singletonList(3), batchSizes, "整批记录必须一次交付 handler");
+        verify(lease, times(3)).complete();
+        verify(lease, never()).release();
+        assertEquals(3, events.size(), "每条记录都必须产生消费完成事件");
+        assertEquals(ConsumerEventType.CONSUMED, events.get(2).getEventType());
+    }
+
+    @Test
+    public void testBatchFailureFallsBackToPerRecordDecisions() throws Exception {
+        KafkaConsumerIdempotencyLease lease = mock(KafkaConsumerIdempotencyLease.class);
+        when(lease.complete()).thenReturn(true);
+        DeadLetterPublisher publisher = mock(DeadLetterPublisher.class);
+        when(publisher.publish(any(KafkaConsumerRecord.class), any(Exception.class), anyInt(), anyString())).thenReturn(true);
+        List<KafkaConsumerEventContext> events = new ArrayList<>();
+        KafkaConsumerHandler<String, String> handler = new KafkaConsumerHandler<String, String>() {
+            @Override
+            public void handle(KafkaConsumerRecord<String, String> record) {
+                if (record.getOffset() == 1L) {
+                    throw new IllegalArgumentException("mock poison");
+                }
+            }
+
+            @Override
+            public void handleBatch(List<KafkaConsumerRecord<String, String>> records) {
+                throw new IllegalArgumentException("mock batch failure");
+            }
+        };
+
+        adapter(handler, acquiredChecker(lease), deadLetterErrorHandler(), publisher, events::add)
+                .onBatchMessage(batch(3));
+        log.info("批量回退结果：events={}", events.size());
+
+        verify(publisher).publish(argThat(record -> record.getOffset() == 1L), any(Exception.class), eq(1),
+                eq(ErrorCode.CONSUME_FATAL));
+        verify(lease, times(3)).complete();
+        assertEquals(ConsumerEventType.CONSUMED, events.get(0).getEventType());
+        assertEquals(ConsumerEventType.DEAD_LETTER, events.get(1).getEventType(), "只有失败记录进入死信");
+        assertEquals(ConsumerEventType.CONSUMED, events.get(2).getEventType());
+    }
+
+    @Test
+    public void testBatchFallbackReplaysRecordsProcessedBeforeFailure() throws Exception {
+        KafkaConsumerIdempotencyLease lease = mock(KafkaConsumerIdempotencyLease.class);
+        when(lease.complete()).thenReturn(true);
+        List<KafkaConsumerEventContext> events = new ArrayList<>();
+        MockBatchConsumer consumer = new MockBatchConsumer();
+        KafkaConsumerHandler<String, String> handler = new MethodKafkaConsumerHandler(consumer,
+                MockBatchConsumer.class.getMethod("consumeBatch", List.class), true);
+
+        adapter(handler, acquiredChecker(lease), mock(KafkaConsumerErrorHandler.class), mock(DeadLetterPublisher.class),
+                events::add).onBatchMessage(batch(3));
+        log.info("批量回退重放：invocations={}，processedOffsets={}", consumer.invocations, consumer.processedOffsets);
+
+        assertEquals(Arrays.asList(Arrays.asList(0L, 1L, 2L), Arrays.asList(0L), Arrays.asList(1L),
+                Arrays.asList(2L)), consumer.invocations, "回退必须以单元素列表逐条重放整批记录");
+        assertEquals(Arrays.asList(0L, 0L, 1L, 2L), consumer.processedOffsets,
+                "异常前已处理的 offset 0 在回退时会被再次交付");
+        verify(lease, times(3)).complete();
+        assertEquals(3, events.size());
+        events.forEach(event -> assertEquals(ConsumerEventType.CONSUMED, event.getEventType()));
+    }
+
+    @Test
+    public void testBatchInProgressReleasesAcquiredLeasesWithoutInvokingHandler() throws Exception {
+        KafkaConsumerHandler<String, String> handler = mock(KafkaConsumerHandler.class);
+        KafkaConsumerIdempotencyLease lease = mock(KafkaConsumerIdempotencyLease.class);
+        when(lease.release()).thenReturn(true);
+        AtomicInteger acquireCalls = new AtomicInteger();
+        KafkaConsumerIdempotencyChecker checker = (messageId, datasourceKey, groupId) ->
+                acquireCalls.incrementAndGet() < 3 ? KafkaConsumerIdempotencyAcquireResult.acquired(lease)
+                        : KafkaConsumerIdempotencyAcquireResult.inProgress();
+
+        KafkaConsumerException exception = assertThrows(KafkaConsumerException.class,
+                () -> adapter(handler, checker, mock(KafkaConsumerErrorHandler.class), mock(DeadLetterPublisher.class),
+                        null).onBatchMessage(batch(3)));
+        log.info("批量处理中租约结果：errorCode={}", exception.getErrorCode());
+
+        assertEquals(ErrorCode.IDEMPOTENCY_IN_PROGRESS, exception.getErrorCode());
+        verify(lease, times(2)).release();
+        verify(lease, never()).complete();
+        verify(handler, never()).handleBatch(anyList());
+    }
+
+    /**
+     * 整批调用时处理到 offset 1 抛异常的批量消费者，记录每次调用的 offset 与已产生副作用的 offset
+     */
+    public static class MockBatchConsumer {
+
+        private final List<List<Long>> invocations = new ArrayList<>();
+        private final List<Long> processedOffsets = new ArrayList<>();
+
+        public void consumeBatch(List<KafkaConsumerRecord<String, String>> records) {
+            List<Long> offsets = new ArrayList<>();
+            for (KafkaConsumerRecord<String, String> record : records) {
+                offsets.add(record.getOffset());
+            }
+            invocations.add(offsets);
+            for (KafkaConsumerRecord<String, String> record : records) {
+                if (records.size() > 1 && record.getOffset() == 1L) {
+                    throw new IllegalArgumentException("mock batch failure");
+                }
+                processedOffsets.add(record.getOffset());
+            }
+        }
+    }
+
+    private List<ConsumerRecord<String, String>> batch(int size) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int offset = 0; offset < size; offset++) {
+            records.add(new ConsumerRecord<>(TOPIC, 0, offset, "mock-key", "mock-value-" + offset));
+        }
+        return records;
+    }
+
     private KafkaConsumerHandler<String, String> failingHandler() {
         return record -> {
             throw new IllegalArgumentException("mock failure");
@@ -15,6 +15,7 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -131,6 +132,31 @@ public class SimpleKafkaConsumerAnnotationHandlerTest {
         assertInvalid(new InvalidSignatureConsumer());
     }
 
+    @Test
+    public void testBatchMethodRegistersBatchHandlerInvokedOncePerBatch() throws Exception {
+        BatchConsumer consumer = new BatchConsumer();
+        KafkaConsumerRegistrar registrar = new KafkaConsumerRegistrar();
+
+        new SimpleKafkaConsumerAnnotationHandler(markedBeanFactory(consumer), registrar).afterSingletonsInstantiated();
+        ConsumerRegistration registration = registrar.getRegistrations().get(0);
+        List<KafkaConsumerRecord<String, String>> records = Arrays.asList(
+                KafkaConsumerRecord.of(new ConsumerRecord<>("batch.topic", 0, 0L, "k", "v0"), "m0", "ds", null),
+                KafkaConsumerRecord.of(new ConsumerRecord<>("batch.topic", 0, 1L, "k", "v1"), "m1", "ds", null));
+        ((io.github.surezzzzzz.sdk.messaging.kafka.consumer.handler.KafkaConsumerHandler<String, String>)
+                registration.getHandler()).handleBatch(records);
+        invoke(registration, records.get(0));
+        log.info("批量方法注册：batch={}，batchSizes={}", registration.isBatch(), consumer.batchSizes);
+
+        assertTrue(registration.isBatch());
+        assertEquals(Arrays.asList(2, 1), consumer.batchSizes, "整批一次调用，逐条回退时按单元素批次调用");
+    }
+
+    @Test
+    public void testBatchFlagRequiresListOfRecordsParameter() {
+        assertInvalid(new InvalidBatchSignatureConsumer());
+        assertInvalid(new RecordParameterBatchConsumer());
+    }
+
     private void assertInvalid(Object consumer) {
         ConfigurableListableBeanFactory beanFactory = markedBeanFactory(consumer);
         KafkaConsumerRegistrar registrar = new KafkaConsumerRegistrar();
@@ -197,6 +223,30 @@ public class SimpleKafkaConsumerAnnotationHandlerTest {
         }
     }
 
+    public static class BatchConsumer {
+
+        private final List<Integer> batchSizes = new java.util.ArrayList<>();
+
+        @SimpleKafkaConsumer(topic = "batch.topic", batch = true)
+        public void handle(List<KafkaConsumerRecord<String, String>> records) {
+            batchSizes.add(records.size());
+        }
+    }
+
+    public static class InvalidBatchSignatureConsumer {
+
+        @SimpleKafkaConsumer(topic = "batch.topic", batch = true)
+        public void handle(List<String> values) {
+        }
+    }
+
+    public static class RecordParameterBatchConsumer {
+
+        @SimpleKafkaConsumer(topic = "batch.topic", batch = true)
+        public void handle(KafkaConsumerRecord<String, String> record) {
+        }
+    }
+
     public static class ExposedInterfaceConsumer implements ConsumerContract {
 
         @Override
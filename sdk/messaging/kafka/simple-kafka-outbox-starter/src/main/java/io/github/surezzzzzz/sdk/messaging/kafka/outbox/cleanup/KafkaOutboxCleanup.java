@@ -60,28 +60,57 @@ public class KafkaOutboxCleanup {
     }
 
     /**
-     * 执行一次完整 keyset 分批清理。
+     * 对每个物理分片执行一次清理：启用按天分区时先补齐未来分区并整体删除过期分区，
+     * 再以 keyset 分批清理剩余的过期 SENT 记录。
      */
     public void cleanupOnce() {
-        try {
-            Timestamp expireBefore = repository.resolveExpireBefore(properties.getCleanup().getRetentionDays());
-            Timestamp lastSentAt = null;
-            Long lastId = null;
-            while (true) {
-                OutboxCleanupBatchResult result = repository.cleanupBatch(expireBefore, lastSentAt, lastId,
-                        properties.getCleanup().getBatchSize());
-                if (result.getCandidateCount() == 0) {
-                    return;
-                }
-                notifyCleanup(new OutboxCleanupContext(result.getDeletedCount(), expireBefore));
-                lastSentAt = result.getLastSentAt();
-                lastId = result.getLastId();
-                if (result.getCandidateCount() < properties.getCleanup().getBatchSize()) {
-                    return;
+        for (KafkaOutboxRepository shard : repository.getShards()) {
+            try {
+                Timestamp expireBefore = shard.resolveExpireBefore(properties.getCleanup().getRetentionDays());
+                if (properties.getPartition().isEnable()) {
+                    maintainPartitions(shard, expireBefore);
                 }
+                cleanupRows(shard, expireBefore);
+            } catch (RuntimeException e) {
+                log.warn("Kafka Outbox 清理失败，errorCode={}", ErrorCode.KAFKA_OUTBOX_006);
+            }
+        }
+    }
+
+    /**
+     * 补齐未来天分区并删除过期天分区，失败仅告警，不影响随后的逐行清理。
+     */
+    private void maintainPartitions(KafkaOutboxRepository shard, Timestamp expireBefore) {
+        try {
+            shard.ensureDailyPartitions(properties.getPartition().getPrecreateDays());
+            long droppedCount = shard.dropExpiredPartitions(expireBefore);
+            if (droppedCount > 0) {
+                notifyCleanup(new OutboxCleanupContext((int) Math.min(droppedCount, Integer.MAX_VALUE),
+                        expireBefore));
             }
         } catch (RuntimeException e) {
-            log.warn("Kafka Outbox 清理失败，errorCode={}", ErrorCode.KAFKA_OUTBOX_006);
+            log.warn("Kafka Outbox 分区维护失败，errorCode={}", ErrorCode.KAFKA_OUTBOX_006);
+        }
+    }
+
+    /**
+     * 在单个分片内执行完整 keyset 分批清理。
+     */
+    private void cleanupRows(KafkaOutboxRepository shard, Timestamp expireBefore) {
+        Timestamp lastSentAt = null;
+        Long lastId = null;
+        while (true) {
+            OutboxCleanupBatchResult result = shard.cleanupBatch(expireBefore, lastSentAt, lastId,
+                    properties.getCleanup().getBatchSize());
+            if (result.getCandidateCount() == 0) {
+                return;
+            }
+            notifyCleanup(new OutboxCleanupContext(result.getDeletedCount(), expireBefore));
+            lastSentAt = result.getLastSentAt();
+            lastId = result.getLastId();
+            if (result.getCandidateCount() < properties.getCleanup().getBatchSize()) {
+                return;
+            }
         }
     }
 
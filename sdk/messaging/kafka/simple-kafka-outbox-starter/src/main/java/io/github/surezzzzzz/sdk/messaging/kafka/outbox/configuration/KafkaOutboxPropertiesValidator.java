@@ -3,8 +3,10 @@ package io.github.surezzzzzz.sdk.messaging.kafka.outbox.configuration;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.annotation.SimpleKafkaOutboxComponent;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorCode;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.OutboxClaimMode;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.SimpleKafkaOutboxConstant;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxConfigurationException;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.ShardedKafkaOutboxRepository;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.support.KafkaOutboxStringHelper;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 
@@ -38,6 +40,12 @@ public class KafkaOutboxPropertiesValidator {
                 || worker.getLeaseMs() <= SimpleKafkaOutboxConstant.ZERO_LONG) {
             fail(SimpleKafkaOutboxConstant.REASON_WORKER_CONFIG_INVALID);
         }
+        if (!OutboxClaimMode.isValid(worker.getClaimMode())) {
+            fail(SimpleKafkaOutboxConstant.REASON_CLAIM_MODE_INVALID);
+        }
+        if (worker.getWakeupDebounceMs() < SimpleKafkaOutboxConstant.ZERO_LONG) {
+            fail(SimpleKafkaOutboxConstant.REASON_WAKEUP_DEBOUNCE_INVALID);
+        }
         if (worker.getLeaseMs() > Long.MAX_VALUE / SimpleKafkaOutboxConstant.MILLIS_TO_MICROS) {
             fail(SimpleKafkaOutboxConstant.REASON_LEASE_OVERFLOW);
         }
@@ -49,6 +57,10 @@ public class KafkaOutboxPropertiesValidator {
                 || worker.getShutdownAwaitMs() > worker.getLeaseMs()) {
             fail(SimpleKafkaOutboxConstant.REASON_SHUTDOWN_TIMEOUT_INVALID);
         }
+        if (properties.getPipeline() == null
+                || properties.getPipeline().getMaxInFlight() <= SimpleKafkaOutboxConstant.ZERO) {
+            fail(SimpleKafkaOutboxConstant.REASON_PIPELINE_CONFIG_INVALID);
+        }
         SimpleKafkaOutboxProperties.RetryConfig retry = properties.getRetry();
         if (retry == null || retry.getMaxAttempts() <= SimpleKafkaOutboxConstant.ZERO
                 || retry.getInitialIntervalMs() <= SimpleKafkaOutboxConstant.ZERO_LONG
@@ -68,6 +80,20 @@ public class KafkaOutboxPropertiesValidator {
                 || cleanup.getRetentionDays() > Long.MAX_VALUE / SimpleKafkaOutboxConstant.DAY_TO_MILLIS) {
             fail(SimpleKafkaOutboxConstant.REASON_CLEANUP_CONFIG_INVALID);
         }
+        if (properties.getPartition() == null
+                || properties.getPartition().getPrecreateDays() <= SimpleKafkaOutboxConstant.ZERO) {
+            fail(SimpleKafkaOutboxConstant.REASON_PARTITION_CONFIG_INVALID);
+        }
+        SimpleKafkaOutboxProperties.ShardConfig shard = properties.getShard();
+        if (shard == null || shard.getCount() <= SimpleKafkaOutboxConstant.ZERO) {
+            fail(SimpleKafkaOutboxConstant.REASON_SHARD_CONFIG_INVALID);
+        }
+        String lastShardTableName = ShardedKafkaOutboxRepository.shardTableName(tableName,
+                shard.getCount() - SimpleKafkaOutboxConstant.ONE);
+        if (shard.getCount() > SimpleKafkaOutboxConstant.ONE
+                && lastShardTableName.length() > SimpleKafkaOutboxConstant.MAX_TABLE_NAME_LENGTH) {
+            fail(SimpleKafkaOutboxConstant.REASON_SHARD_CONFIG_INVALID);
+        }
     }
 
     /**
@@ -5,6 +5,7 @@ import io.github.surezzzzzz.sdk.messaging.kafka.outbox.annotation.SimpleKafkaOut
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.cleanup.KafkaOutboxCleanup;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorCode;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.OutboxClaimMode;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.SimpleKafkaOutboxConstant;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.engine.DefaultKafkaOutboxEngine;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.engine.KafkaOutboxEngine;
@@ -12,6 +13,7 @@ import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxConf
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.listener.KafkaOutboxEventListener;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.JdbcKafkaOutboxRepository;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.KafkaOutboxRepository;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.ShardedKafkaOutboxRepository;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.retry.DefaultKafkaOutboxRetryPolicy;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.retry.KafkaOutboxJitterGenerator;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.retry.KafkaOutboxRetryPolicy;
@@ -25,6 +27,7 @@ import io.github.surezzzzzz.sdk.messaging.kafka.publisher.configuration.SimpleKa
 import io.github.surezzzzzz.sdk.messaging.kafka.publisher.engine.KafkaPublisher;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -41,6 +44,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -171,7 +176,7 @@ public class SimpleKafkaOutboxConfiguration {
         }
 
         /**
-         * 创建默认 Repository。
+         * 创建默认 Repository，shard.count 大于 1 时按分片表组装分表 Repository，并抽样校验分片数未被改动。
          */
         @Bean
         @ConditionalOnMissingBean(KafkaOutboxRepository.class)
@@ -181,8 +186,25 @@ public class SimpleKafkaOutboxConfiguration {
                 @Qualifier(SimpleKafkaOutboxConstant.BEAN_TRANSACTION_TEMPLATE)
                 TransactionTemplate simpleKafkaOutboxTransactionTemplate,
                 SimpleKafkaOutboxProperties properties) {
-            return new JdbcKafkaOutboxRepository(simpleKafkaOutboxNamedParameterJdbcTemplate,
-                    simpleKafkaOutboxTransactionTemplate, properties.getTableName());
+            OutboxClaimMode claimMode = OutboxClaimMode.fromCode(properties.getWorker().getClaimMode());
+            int shardCount = properties.getShard().getCount();
+            if (shardCount <= SimpleKafkaOutboxConstant.ONE) {
+                return new JdbcKafkaOutboxRepository(simpleKafkaOutboxNamedParameterJdbcTemplate,
+                        simpleKafkaOutboxTransactionTemplate, properties.getTableName(), claimMode);
+            }
+            List<KafkaOutboxRepository> shards = new ArrayList<>();
+            for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+                shards.add(new JdbcKafkaOutboxRepository(simpleKafkaOutboxNamedParameterJdbcTemplate,
+                        simpleKafkaOutboxTransactionTemplate,
+                        ShardedKafkaOutboxRepository.shardTableName(properties.getTableName(), shardIndex),
+                        claimMode));
+            }
+            ShardedKafkaOutboxRepository repository = new ShardedKafkaOutboxRepository(shards);
+            repository.verifyRouting(new JdbcKafkaOutboxRepository(simpleKafkaOutboxNamedParameterJdbcTemplate,
+                    simpleKafkaOutboxTransactionTemplate,
+                    ShardedKafkaOutboxRepository.shardTableName(properties.getTableName(), shardCount),
+                    claimMode), SimpleKafkaOutboxConstant.SHARD_ROUTING_SAMPLE_LIMIT);
+            return repository;
         }
 
         /**
@@ -203,9 +225,10 @@ public class SimpleKafkaOutboxConfiguration {
                                                    KafkaOutboxRepository repository,
                                                    KafkaOutboxMessageSerializer serializer,
                                                    KafkaOutboxTraceSnapshotResolver traceSnapshotResolver,
-                                                   KafkaOutboxEventListener listener) {
+                                                   KafkaOutboxEventListener listener,
+                                                   ObjectProvider<KafkaOutboxWorker> workerProvider) {
             return new DefaultKafkaOutboxEngine(resource.getDataSource(), repository, serializer,
-                    traceSnapshotResolver, listener);
+                    traceSnapshotResolver, listener, workerProvider);
         }
 
         /**
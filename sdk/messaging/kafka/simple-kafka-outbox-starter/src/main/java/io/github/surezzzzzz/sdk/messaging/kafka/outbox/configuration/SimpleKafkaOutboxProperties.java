@@ -37,6 +37,10 @@ public class SimpleKafkaOutboxProperties {
      * 发送配置
      */
     private SendConfig send = new SendConfig();
+    /**
+     * 流水线发送配置
+     */
+    private PipelineConfig pipeline = new PipelineConfig();
     /**
      * 重试配置
      */
@@ -45,6 +49,14 @@ public class SimpleKafkaOutboxProperties {
      * 清理配置
      */
     private CleanupConfig cleanup = new CleanupConfig();
+    /**
+     * 按天分区配置
+     */
+    private PartitionConfig partition = new PartitionConfig();
+    /**
+     * 分表配置
+     */
+    private ShardConfig shard = new ShardConfig();
 
     /**
      * Worker 配置
@@ -64,11 +76,11 @@ public class SimpleKafkaOutboxProperties {
          */
         private int batchSize = SimpleKafkaOutboxConstant.DEFAULT_WORKER_BATCH_SIZE;
         /**
-         * 扫描间隔
+         * 有候选时的扫描间隔，也是自适应轮询的下限
          */
         private long scanIntervalMs = SimpleKafkaOutboxConstant.DEFAULT_SCAN_INTERVAL_MS;
         /**
-         * 空闲间隔
+         * 空闲间隔，连续空轮时自适应轮询逐轮翻倍的上限
          */
         private long idleIntervalMs = SimpleKafkaOutboxConstant.DEFAULT_IDLE_INTERVAL_MS;
         /**
@@ -79,6 +91,18 @@ public class SimpleKafkaOutboxProperties {
          * 停机等待时长
          */
         private long shutdownAwaitMs = SimpleKafkaOutboxConstant.DEFAULT_SHUTDOWN_AWAIT_MS;
+        /**
+         * 领取模式：row-cas 或 skip-locked（MySQL 8.0+）
+         */
+        private String claimMode = SimpleKafkaOutboxConstant.DEFAULT_CLAIM_MODE;
+        /**
+         * 是否在本地事务提交后唤醒 Worker 立即扫描
+         */
+        private boolean wakeupEnable = SimpleKafkaOutboxConstant.DEFAULT_WAKEUP_ENABLE;
+        /**
+         * 唤醒防抖时长，窗口内的多次提交合并为一次扫描
+         */
+        private long wakeupDebounceMs = SimpleKafkaOutboxConstant.DEFAULT_WAKEUP_DEBOUNCE_MS;
     }
 
     /**
@@ -92,6 +116,21 @@ public class SimpleKafkaOutboxProperties {
         private long timeoutMs = SimpleKafkaOutboxConstant.DEFAULT_SEND_TIMEOUT_MS;
     }
 
+    /**
+     * 流水线发送配置
+     */
+    @Data
+    public static class PipelineConfig {
+        /**
+         * 是否启用流水线发送
+         */
+        private boolean enable = SimpleKafkaOutboxConstant.DEFAULT_PIPELINE_ENABLE;
+        /**
+         * 单个窗口内同时等待 ACK 的最大发送数
+         */
+        private int maxInFlight = SimpleKafkaOutboxConstant.DEFAULT_PIPELINE_MAX_IN_FLIGHT;
+    }
+
     /**
      * 重试配置
      */
@@ -141,4 +180,30 @@ public class SimpleKafkaOutboxProperties {
          */
         private long intervalMs = SimpleKafkaOutboxConstant.DEFAULT_CLEANUP_INTERVAL_MS;
     }
+
+    /**
+     * 按天分区配置
+     */
+    @Data
+    public static class PartitionConfig {
+        /**
+         * 是否启用按天分区维护，表必须按 02_partitioned_schema.sql 创建
+         */
+        private boolean enable = SimpleKafkaOutboxConstant.DEFAULT_PARTITION_ENABLE;
+        /**
+         * 提前创建的未来天数分区数量
+         */
+        private int precreateDays = SimpleKafkaOutboxConstant.DEFAULT_PARTITION_PRECREATE_DAYS;
+    }
+
+    /**
+     * 分表配置
+     */
+    @Data
+    public static class ShardConfig {
+        /**
+         * 分表数量，大于 1 时按 record key 哈希写入 table-name_0 至 table-name_(count-1)
+         */
+        private int count = SimpleKafkaOutboxConstant.DEFAULT_SHARD_COUNT;
+    }
 }
@@ -0,0 +1,61 @@
+package io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant;
+
+import lombok.Getter;
+
+/**
+ * Outbox 领取模式。
+ *
+ * @author surezzzzzz
+ */
+@Getter
+public enum OutboxClaimMode {
+    /**
+     * 无锁扫描候选后逐条 owner+version CAS 领取，兼容 MySQL 5.7。
+     */
+    ROW_CAS("row-cas", "逐条 CAS 领取"),
+    /**
+     * FOR UPDATE SKIP LOCKED 锁定一页候选后单条 UPDATE 批量领取，要求 MySQL 8.0+。
+     */
+    SKIP_LOCKED("skip-locked", "SKIP LOCKED 批量领取");
+
+    private final String code;
+    private final String description;
+
+    OutboxClaimMode(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    /**
+     * 根据模式代码获取领取模式。
+     *
+     * @param code 模式代码
+     * @return 领取模式；不存在时返回 null
+     */
+    public static OutboxClaimMode fromCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        for (OutboxClaimMode mode : values()) {
+            if (mode.code.equalsIgnoreCase(code.trim())) {
+                return mode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断模式代码是否有效。
+     *
+     * @param code 模式代码
+     * @return 是否有效
+     */
+    public static boolean isValid(String code) {
+        return fromCode(code) != null;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
@@ -24,6 +24,12 @@ public final class SimpleKafkaOutboxConstant {
     public static final long DEFAULT_IDLE_INTERVAL_MS = 2000L;
     public static final long DEFAULT_LEASE_MS = 30000L;
     public static final long DEFAULT_SHUTDOWN_AWAIT_MS = 20000L;
+    public static final String DEFAULT_CLAIM_MODE = "row-cas";
+    public static final boolean DEFAULT_WAKEUP_ENABLE = true;
+    public static final long DEFAULT_WAKEUP_DEBOUNCE_MS = 2L;
+    public static final int INTERVAL_GROWTH_FACTOR = 2;
+    public static final boolean DEFAULT_PIPELINE_ENABLE = false;
+    public static final int DEFAULT_PIPELINE_MAX_IN_FLIGHT = 100;
     public static final long DEFAULT_SEND_TIMEOUT_MS = 25000L;
     public static final int DEFAULT_MAX_ATTEMPTS = 10;
     public static final long DEFAULT_RETRY_INITIAL_INTERVAL_MS = 1000L;
@@ -34,6 +40,10 @@ public final class SimpleKafkaOutboxConstant {
     public static final int DEFAULT_CLEANUP_RETENTION_DAYS = 7;
     public static final int DEFAULT_CLEANUP_BATCH_SIZE = 500;
     public static final long DEFAULT_CLEANUP_INTERVAL_MS = 3600000L;
+    public static final boolean DEFAULT_PARTITION_ENABLE = false;
+    public static final int DEFAULT_PARTITION_PRECREATE_DAYS = 3;
+    public static final int DEFAULT_SHARD_COUNT = 1;
+    public static final int SHARD_ROUTING_SAMPLE_LIMIT = 1000;
     public static final int SCHEMA_VERSION = 1;
 
     // ==================== 协议和边界常量 ====================
@@ -42,6 +52,10 @@ public final class SimpleKafkaOutboxConstant {
     public static final int MAX_ERROR_SUMMARY_LENGTH = 512;
     public static final int MAX_SAFE_DISPLAY_LENGTH = 256;
     public static final String TABLE_NAME_PATTERN = "[a-zA-Z0-9_]+";
+    public static final String SHARD_TABLE_SEPARATOR = "_";
+    public static final String PARTITION_MAX_NAME = "p_max";
+    public static final String PARTITION_DAY_PREFIX = "p";
+    public static final String PARTITION_DAY_NAME_PATTERN = "p\\d{8}";
     public static final String SAFE_VALUE_UNAVAILABLE = "<unsafe>";
     public static final String EMPTY_VALUE = "";
     public static final String UTILITY_CLASS_MESSAGE = "Utility class";
@@ -110,12 +124,18 @@ public final class SimpleKafkaOutboxConstant {
     public static final String PARAM_LAST_ID = "lastId";
     public static final String PARAM_BATCH_SIZE = "batchSize";
     public static final String PARAM_CANDIDATE_IDS = "candidateIds";
+    public static final String PARAM_TABLE_NAME = "tableName";
+    public static final String PARAM_SAMPLE_LIMIT = "sampleLimit";
     public static final String SQL_INSERT_TEMPLATE = "INSERT INTO %s (message_id, topic, record_key, route_key, datasource_key, `partition`, message_timestamp, message_type, payload_kind, payload_json, headers_json, attributes_json, envelope_enabled, trace_id, schema_version, status, attempt, available_at, version) VALUES (:messageId, :topic, :recordKey, :routeKey, :datasourceKey, :partition, :messageTimestamp, :messageType, :payloadKind, :payloadJson, :headersJson, :attributesJson, :envelopeEnabled, :traceId, :schemaVersion, :status, 0, CURRENT_TIMESTAMP(3), 0)";
 
     // ==================== SQL 模板 ====================
     public static final String SQL_SELECT_READY_CANDIDATE_TEMPLATE = "SELECT id, version, available_at AS eligible_at FROM %s WHERE status IN (:pendingStatus, :retryWaitStatus) AND available_at <= CURRENT_TIMESTAMP(3) ORDER BY available_at, id LIMIT :candidateLimit";
     public static final String SQL_SELECT_EXPIRED_CANDIDATE_TEMPLATE = "SELECT id, version, lease_until AS eligible_at FROM %s WHERE status = :processingStatus AND lease_until < CURRENT_TIMESTAMP(3) ORDER BY lease_until, id LIMIT :candidateLimit";
     public static final String SQL_CLAIM_TEMPLATE = "UPDATE %s SET status = :processingStatus, owner_token = :ownerToken, lease_until = TIMESTAMPADD(MICROSECOND, :leaseMicros, CURRENT_TIMESTAMP(3)), attempt = attempt + 1, version = version + 1, updated_at = CURRENT_TIMESTAMP(3) WHERE id = :id AND ((status IN (:pendingStatus, :retryWaitStatus) AND available_at <= CURRENT_TIMESTAMP(3)) OR (status = :processingStatus AND lease_until < CURRENT_TIMESTAMP(3))) AND version = :version";
+    public static final String SQL_LOCK_READY_CANDIDATE_TEMPLATE = "SELECT id, version, available_at AS eligible_at FROM %s WHERE status IN (:pendingStatus, :retryWaitStatus) AND available_at <= CURRENT_TIMESTAMP(3) ORDER BY available_at, id LIMIT :candidateLimit FOR UPDATE SKIP LOCKED";
+    public static final String SQL_LOCK_EXPIRED_CANDIDATE_TEMPLATE = "SELECT id, version, lease_until AS eligible_at FROM %s WHERE status = :processingStatus AND lease_until < CURRENT_TIMESTAMP(3) ORDER BY lease_until, id LIMIT :candidateLimit FOR UPDATE SKIP LOCKED";
+    public static final String SQL_BATCH_CLAIM_TEMPLATE = "UPDATE %s SET status = :processingStatus, owner_token = :ownerToken, lease_until = TIMESTAMPADD(MICROSECOND, :leaseMicros, CURRENT_TIMESTAMP(3)), attempt = attempt + 1, version = version + 1, updated_at = CURRENT_TIMESTAMP(3) WHERE id IN (:candidateIds) AND ((status IN (:pendingStatus, :retryWaitStatus) AND available_at <= CURRENT_TIMESTAMP(3)) OR (status = :processingStatus AND lease_until < CURRENT_TIMESTAMP(3)))";
+    public static final String SQL_SELECT_BY_BATCH_OWNER_TEMPLATE = "SELECT * FROM %s WHERE id IN (:candidateIds) AND status = :processingStatus AND owner_token = :ownerToken";
     public static final String SQL_SELECT_BY_OWNER_TEMPLATE = "SELECT * FROM %s WHERE id = :id AND status = :processingStatus AND owner_token = :ownerToken AND version = :version";
     public static final String SQL_MARK_SENT_TEMPLATE = "UPDATE %s SET status = :sentStatus, owner_token = NULL, lease_until = NULL, last_error_code = NULL, last_error_summary = NULL, broker_topic = :brokerTopic, broker_partition = :brokerPartition, broker_offset = :brokerOffset, broker_timestamp = :brokerTimestamp, sent_at = CURRENT_TIMESTAMP(3), version = version + 1, updated_at = CURRENT_TIMESTAMP(3) WHERE id = :id AND status = :processingStatus AND owner_token = :ownerToken AND version = :version";
     public static final String SQL_MARK_RETRY_TEMPLATE = "UPDATE %s SET status = :retryWaitStatus, owner_token = NULL, lease_until = NULL, available_at = TIMESTAMPADD(MICROSECOND, :delayMicros, CURRENT_TIMESTAMP(3)), last_error_code = :errorCode, last_error_summary = :errorSummary, version = version + 1, updated_at = CURRENT_TIMESTAMP(3) WHERE id = :id AND status = :processingStatus AND owner_token = :ownerToken AND version = :version";
@@ -125,6 +145,15 @@ public final class SimpleKafkaOutboxConstant {
     public static final String SQL_SELECT_CLEANUP_FIRST_CANDIDATE_TEMPLATE = "SELECT id, sent_at FROM %s WHERE status = :sentStatus AND sent_at < :expireBefore ORDER BY sent_at, id LIMIT :batchSize";
     public static final String SQL_SELECT_CLEANUP_NEXT_CANDIDATE_TEMPLATE = "SELECT id, sent_at FROM %s WHERE status = :sentStatus AND sent_at < :expireBefore AND (sent_at > :lastSentAt OR (sent_at = :lastSentAt AND id > :lastId)) ORDER BY sent_at, id LIMIT :batchSize";
     public static final String SQL_DELETE_CLEANUP_TEMPLATE = "DELETE FROM %s WHERE status = :sentStatus AND sent_at < :expireBefore AND id IN (:candidateIds)";
+    public static final String SQL_SELECT_PARTITION_NAMES = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tableName AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION";
+    public static final String SQL_SELECT_CURRENT_DATE = "SELECT CURRENT_DATE()";
+    public static final String SQL_COUNT_TABLE = "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tableName";
+    public static final String SQL_SELECT_UNSENT_SAMPLE_TEMPLATE = "SELECT message_id, record_key FROM %s WHERE status IN (:pendingStatus, :retryWaitStatus, :processingStatus) LIMIT :sampleLimit";
+    public static final String SQL_REORGANIZE_MAX_PARTITION_TEMPLATE = "ALTER TABLE %s REORGANIZE PARTITION p_max INTO (%s, PARTITION p_max VALUES LESS THAN (MAXVALUE))";
+    public static final String SQL_DAY_PARTITION_TEMPLATE = "PARTITION %s VALUES LESS THAN ('%s 00:00:00')";
+    public static final String SQL_SELECT_PARTITION_BLOCKER_TEMPLATE = "SELECT id FROM %s PARTITION (%s) WHERE status <> :sentStatus OR sent_at IS NULL OR sent_at >= :expireBefore LIMIT 1";
+    public static final String SQL_COUNT_PARTITION_TEMPLATE = "SELECT COUNT(*) FROM %s PARTITION (%s)";
+    public static final String SQL_DROP_PARTITION_TEMPLATE = "ALTER TABLE %s DROP PARTITION %s";
     public static final String REASON_PROPERTIES_EMPTY = "properties 不能为空";
 
     // ==================== 校验和错误摘要常量 ====================
@@ -134,11 +163,17 @@ public final class SimpleKafkaOutboxConstant {
     public static final String REASON_TX_MANAGER_MISSING = "指定的事务管理器不存在或类型不匹配";
     public static final String REASON_TX_DATASOURCE_MISMATCH = "事务管理器管理的 DataSource 不是选中的实例";
     public static final String REASON_TABLE_NAME_INVALID = "table-name 仅允许长度不超过 64 的字母、数字和下划线";
+    public static final String REASON_CLAIM_MODE_INVALID = "worker.claim-mode 仅支持 row-cas 或 skip-locked";
     public static final String REASON_WORKER_CONFIG_INVALID = "worker concurrency、batch-size 和时间配置必须为正数";
+    public static final String REASON_WAKEUP_DEBOUNCE_INVALID = "worker.wakeup-debounce-ms 不能为负数";
+    public static final String REASON_PIPELINE_CONFIG_INVALID = "pipeline.max-in-flight 必须为正数";
     public static final String REASON_SEND_TIMEOUT_INVALID = "send.timeout-ms 必须大于 0 且小于 worker.lease-ms";
     public static final String REASON_SHUTDOWN_TIMEOUT_INVALID = "worker.shutdown-await-ms 必须为正数且不大于 worker.lease-ms";
     public static final String REASON_RETRY_CONFIG_INVALID = "retry 配置超出有效范围";
     public static final String REASON_CLEANUP_CONFIG_INVALID = "cleanup 配置必须为正数且不能发生时间乘法溢出";
+    public static final String REASON_PARTITION_CONFIG_INVALID = "partition.precreate-days 必须为正数";
+    public static final String REASON_SHARD_CONFIG_INVALID = "shard.count 必须为正数且分片表名长度不能超过 64";
+    public static final String REASON_SHARD_COUNT_CHANGED = "分片 %d 中存在按当前 shard.count=%d 不属于该分片的未发送记录，shard.count 只能在全部记录发送完成后修改";
     public static final String REASON_LEASE_OVERFLOW = "worker.lease-ms 转换为微秒后溢出";
     public static final String REASON_TRANSACTION_INACTIVE = "当前没有活跃的 Spring 本地事务";
     public static final String REASON_TRANSACTION_RESOURCE_MISSING = "当前事务未绑定选中的 DataSource";
@@ -156,11 +191,14 @@ public final class SimpleKafkaOutboxConstant {
     public static final String REASON_PAYLOAD_KIND_UNSUPPORTED = "payloadKind 不受支持";
     public static final String ERROR_CODE_SEND_UNKNOWN = "KAFKA_OUTBOX_SEND_UNKNOWN";
     public static final String ERROR_CODE_SHUTDOWN_RELEASE = "KAFKA_OUTBOX_SHUTDOWN_RELEASE";
+    public static final String ERROR_CODE_ORDER_BLOCKED = "KAFKA_OUTBOX_ORDER_BLOCKED";
     public static final String ERROR_SUMMARY_TIMEOUT = "发送等待超时，结果未知";
     public static final String ERROR_SUMMARY_INTERRUPTED = "发送等待被中断，结果未知";
     public static final String ERROR_SUMMARY_CANCELLED = "发送 Future 被取消，结果未知";
     public static final String ERROR_SUMMARY_INVALID_RESULT = "publisher 返回非法结果";
     public static final String ERROR_SUMMARY_SHUTDOWN_RELEASE = "应用停机，发送前释放租约";
+    public static final String ERROR_SUMMARY_ORDER_BLOCKED = "同 key 前序消息本批未发送成功，发送前释放租约";
+    public static final String ORDERING_KEY_SEPARATOR = "\u0000";
     public static final String ERROR_SUMMARY_PUBLISHER_FAILURE = "Kafka Publisher 发送失败";
     public static final String ERROR_SUMMARY_SNAPSHOT_FAILURE = "消息快照重建失败";
     private SimpleKafkaOutboxConstant() {
@@ -10,8 +10,10 @@ import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.KafkaOutboxRep
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.serializer.KafkaOutboxMessageSerializer;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.support.KafkaOutboxStringHelper;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.trace.KafkaOutboxTraceSnapshotResolver;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.worker.KafkaOutboxWorker;
 import io.github.surezzzzzz.sdk.messaging.kafka.publisher.model.KafkaPublishMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -47,9 +49,13 @@ public class DefaultKafkaOutboxEngine implements KafkaOutboxEngine {
      * 事件 Listener
      */
     private final KafkaOutboxEventListener listener;
+    /**
+     * 本地 Worker 延迟查找，提交后唤醒；Worker 未注册时为空
+     */
+    private final ObjectProvider<KafkaOutboxWorker> workerProvider;
 
     /**
-     * 创建默认 Engine
+     * 创建默认 Engine，不唤醒本地 Worker
      *
      * @param dataSource            选中的业务 DataSource
      * @param repository            Repository
@@ -61,11 +67,30 @@ public class DefaultKafkaOutboxEngine implements KafkaOutboxEngine {
                                     KafkaOutboxMessageSerializer serializer,
                                     KafkaOutboxTraceSnapshotResolver traceSnapshotResolver,
                                     KafkaOutboxEventListener listener) {
+        this(dataSource, repository, serializer, traceSnapshotResolver, listener, null);
+    }
+
+    /**
+     * 创建默认 Engine
+     *
+     * @param dataSource            选中的业务 DataSource
+     * @param repository            Repository
+     * @param serializer            快照序列化器
+     * @param traceSnapshotResolver traceId 解析器
+     * @param listener              事件 Listener
+     * @param workerProvider        本地 Worker 延迟查找，可为 null
+     */
+    public DefaultKafkaOutboxEngine(DataSource dataSource, KafkaOutboxRepository repository,
+                                    KafkaOutboxMessageSerializer serializer,
+                                    KafkaOutboxTraceSnapshotResolver traceSnapshotResolver,
+                                    KafkaOutboxEventListener listener,
+                                    ObjectProvider<KafkaOutboxWorker> workerProvider) {
         this.dataSource = dataSource;
         this.repository = repository;
         this.serializer = serializer;
         this.traceSnapshotResolver = traceSnapshotResolver;
         this.listener = listener;
+        this.workerProvider = workerProvider;
     }
 
     /**
@@ -120,6 +145,7 @@ public class DefaultKafkaOutboxEngine implements KafkaOutboxEngine {
             @Override
             public void afterCommit() {
                 notifySaved(savedContext);
+                wakeupWorker();
             }
         });
         return new OutboxSaveResult(recordId, messageId);
@@ -206,6 +232,23 @@ public class DefaultKafkaOutboxEngine implements KafkaOutboxEngine {
                 .build();
     }
 
+    /**
+     * 事务提交后唤醒本地 Worker 立即扫描，唤醒失败仅告警，由轮询兜底。
+     */
+    private void wakeupWorker() {
+        if (workerProvider == null) {
+            return;
+        }
+        try {
+            KafkaOutboxWorker worker = workerProvider.getIfAvailable();
+            if (worker != null) {
+                worker.wakeup();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Kafka Outbox Worker 唤醒失败，等待轮询兜底");
+        }
+    }
+
     /**
      * 事务提交后通知 onSaved，Listener 异常不影响提交结果。
      */
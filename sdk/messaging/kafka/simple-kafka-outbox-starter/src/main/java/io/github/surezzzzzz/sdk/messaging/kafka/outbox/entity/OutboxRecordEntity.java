@@ -140,4 +140,8 @@ public class OutboxRecordEntity {
      * 乐观锁版本号
      */
     private Long version;
+    /**
+     * 领取时所在的分片序号，仅由分表 Repository 填充，不落库；状态回写按该分片路由
+     */
+    private Integer shardIndex;
 }
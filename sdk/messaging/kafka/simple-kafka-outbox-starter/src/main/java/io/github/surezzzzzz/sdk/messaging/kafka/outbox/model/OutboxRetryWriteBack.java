@@ -0,0 +1,31 @@
+package io.github.surezzzzzz.sdk.messaging.kafka.outbox.model;
+
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.entity.OutboxRecordEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outbox 内部批量 RETRY_WAIT 回写项
+ *
+ * @author surezzzzzz
+ */
+@Getter
+@AllArgsConstructor
+public final class OutboxRetryWriteBack {
+    /**
+     * 当前持有租约的记录
+     */
+    private final OutboxRecordEntity record;
+    /**
+     * 重试延迟微秒数
+     */
+    private final long delayMicros;
+    /**
+     * 错误码
+     */
+    private final String errorCode;
+    /**
+     * 已截断的脱敏摘要
+     */
+    private final String errorSummary;
+}
@@ -2,6 +2,7 @@ package io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository;
 
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorCode;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.OutboxClaimMode;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.OutboxStatus;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.SimpleKafkaOutboxConstant;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.entity.OutboxRecordEntity;
@@ -9,6 +10,7 @@ import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxExce
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxCandidate;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxCleanupBatchResult;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxCleanupCandidate;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryWriteBack;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.RowMapper;
@@ -20,7 +22,11 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
@@ -32,6 +38,8 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final TransactionTemplate transactionTemplate;
+    private final OutboxClaimMode claimMode;
+    private final String tableName;
     /**
      * 预编译的各状态迁移 SQL，表名已在构造时格式化注入
      */
@@ -40,6 +48,10 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
     private final String expiredCandidateSql;
     private final String claimSql;
     private final String selectByOwnerSql;
+    private final String lockReadyCandidateSql;
+    private final String lockExpiredCandidateSql;
+    private final String batchClaimSql;
+    private final String selectByBatchOwnerSql;
     private final String markSentSql;
     private final String markRetrySql;
     private final String markPoisonSql;
@@ -58,13 +70,34 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
     public JdbcKafkaOutboxRepository(NamedParameterJdbcTemplate jdbcTemplate,
                                      TransactionTemplate transactionTemplate,
                                      String tableName) {
+        this(jdbcTemplate, transactionTemplate, tableName, OutboxClaimMode.ROW_CAS);
+    }
+
+    /**
+     * 创建指定领取模式的 JDBC Repository
+     *
+     * @param jdbcTemplate        模块专用 NamedParameterJdbcTemplate
+     * @param transactionTemplate 模块专用事务模板
+     * @param tableName           已校验表名
+     * @param claimMode           领取模式，null 时按 row-cas 处理
+     */
+    public JdbcKafkaOutboxRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     String tableName,
+                                     OutboxClaimMode claimMode) {
         this.jdbcTemplate = jdbcTemplate;
         this.transactionTemplate = transactionTemplate;
+        this.claimMode = claimMode == null ? OutboxClaimMode.ROW_CAS : claimMode;
+        this.tableName = tableName;
         this.insertSql = format(SimpleKafkaOutboxConstant.SQL_INSERT_TEMPLATE, tableName);
         this.readyCandidateSql = format(SimpleKafkaOutboxConstant.SQL_SELECT_READY_CANDIDATE_TEMPLATE, tableName);
         this.expiredCandidateSql = format(SimpleKafkaOutboxConstant.SQL_SELECT_EXPIRED_CANDIDATE_TEMPLATE, tableName);
         this.claimSql = format(SimpleKafkaOutboxConstant.SQL_CLAIM_TEMPLATE, tableName);
         this.selectByOwnerSql = format(SimpleKafkaOutboxConstant.SQL_SELECT_BY_OWNER_TEMPLATE, tableName);
+        this.lockReadyCandidateSql = format(SimpleKafkaOutboxConstant.SQL_LOCK_READY_CANDIDATE_TEMPLATE, tableName);
+        this.lockExpiredCandidateSql = format(SimpleKafkaOutboxConstant.SQL_LOCK_EXPIRED_CANDIDATE_TEMPLATE, tableName);
+        this.batchClaimSql = format(SimpleKafkaOutboxConstant.SQL_BATCH_CLAIM_TEMPLATE, tableName);
+        this.selectByBatchOwnerSql = format(SimpleKafkaOutboxConstant.SQL_SELECT_BY_BATCH_OWNER_TEMPLATE, tableName);
         this.markSentSql = format(SimpleKafkaOutboxConstant.SQL_MARK_SENT_TEMPLATE, tableName);
         this.markRetrySql = format(SimpleKafkaOutboxConstant.SQL_MARK_RETRY_TEMPLATE, tableName);
         this.markPoisonSql = format(SimpleKafkaOutboxConstant.SQL_MARK_POISON_TEMPLATE, tableName);
@@ -130,6 +163,9 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
     @Override
     public List<OutboxRecordEntity> claim(final int candidateLimit, final long leaseMicros) {
         try {
+            if (claimMode == OutboxClaimMode.SKIP_LOCKED) {
+                return transactionTemplate.execute(status -> doBatchClaim(candidateLimit, leaseMicros));
+            }
             return transactionTemplate.execute(status -> doClaim(candidateLimit, leaseMicros));
         } catch (KafkaOutboxException e) {
             throw e;
@@ -142,19 +178,7 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
      * 在短事务中合并待投递/重试候选与租约到期候选，按时间+主键排序后逐条 CAS 领取。
      */
     private List<OutboxRecordEntity> doClaim(int candidateLimit, long leaseMicros) {
-        MapSqlParameterSource queryParameters = new MapSqlParameterSource()
-                .addValue(SimpleKafkaOutboxConstant.PARAM_CANDIDATE_LIMIT, candidateLimit)
-                .addValue(SimpleKafkaOutboxConstant.PARAM_PENDING_STATUS, OutboxStatus.PENDING.getCode())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_RETRY_WAIT_STATUS, OutboxStatus.RETRY_WAIT.getCode())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode());
-        List<OutboxCandidate> merged = new ArrayList<>();
-        merged.addAll(jdbcTemplate.query(readyCandidateSql, queryParameters, candidateRowMapper()));
-        merged.addAll(jdbcTemplate.query(expiredCandidateSql, queryParameters, candidateRowMapper()));
-        Collections.sort(merged, (left, right) -> {
-            int timeCompare = left.getEligibleAt().compareTo(right.getEligibleAt());
-            return timeCompare != SimpleKafkaOutboxConstant.ZERO
-                    ? timeCompare : left.getRecordId().compareTo(right.getRecordId());
-        });
+        List<OutboxCandidate> merged = queryCandidates(readyCandidateSql, expiredCandidateSql, candidateLimit);
         Set<Long> seen = new HashSet<>();
         List<OutboxRecordEntity> claimed = new ArrayList<>();
         for (OutboxCandidate candidate : merged) {
@@ -183,19 +207,83 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
         return claimed;
     }
 
+    /**
+     * 在短事务中以 FOR UPDATE SKIP LOCKED 锁定一页候选，单条 UPDATE 以同一 owner token 批量领取，
+     * 再一次查回完整记录；语句数与候选数量无关，并发 worker 跳过彼此已锁定的行而不是 CAS 失败。
+     */
+    private List<OutboxRecordEntity> doBatchClaim(int candidateLimit, long leaseMicros) {
+        List<OutboxCandidate> merged = queryCandidates(lockReadyCandidateSql, lockExpiredCandidateSql,
+                candidateLimit);
+        Map<Long, Integer> candidateOrder = new HashMap<>();
+        List<Long> candidateIds = new ArrayList<>();
+        for (OutboxCandidate candidate : merged) {
+            if (candidateIds.size() >= candidateLimit) {
+                break;
+            }
+            if (candidateOrder.putIfAbsent(candidate.getRecordId(), candidateIds.size()) == null) {
+                candidateIds.add(candidate.getRecordId());
+            }
+        }
+        if (candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String ownerToken = UUID.randomUUID().toString();
+        MapSqlParameterSource claimParameters = new MapSqlParameterSource()
+                .addValue(SimpleKafkaOutboxConstant.PARAM_CANDIDATE_IDS, candidateIds)
+                .addValue(SimpleKafkaOutboxConstant.PARAM_OWNER_TOKEN, ownerToken)
+                .addValue(SimpleKafkaOutboxConstant.PARAM_LEASE_MICROS, leaseMicros)
+                .addValue(SimpleKafkaOutboxConstant.PARAM_PENDING_STATUS, OutboxStatus.PENDING.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_RETRY_WAIT_STATUS, OutboxStatus.RETRY_WAIT.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode());
+        if (jdbcTemplate.update(batchClaimSql, claimParameters) == SimpleKafkaOutboxConstant.ZERO) {
+            return new ArrayList<>();
+        }
+        List<OutboxRecordEntity> claimed = jdbcTemplate.query(selectByBatchOwnerSql, claimParameters,
+                recordRowMapper());
+        // IN 查询不保证顺序，按候选的 eligible_at、id 顺序还原
+        Collections.sort(claimed, (left, right) ->
+                candidateOrder.get(left.getId()).compareTo(candidateOrder.get(right.getId())));
+        return claimed;
+    }
+
+    /**
+     * 合并待投递/重试候选与租约到期候选，按时间+主键排序。
+     */
+    private List<OutboxCandidate> queryCandidates(String readySql, String expiredSql, int candidateLimit) {
+        MapSqlParameterSource queryParameters = new MapSqlParameterSource()
+                .addValue(SimpleKafkaOutboxConstant.PARAM_CANDIDATE_LIMIT, candidateLimit)
+                .addValue(SimpleKafkaOutboxConstant.PARAM_PENDING_STATUS, OutboxStatus.PENDING.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_RETRY_WAIT_STATUS, OutboxStatus.RETRY_WAIT.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode());
+        List<OutboxCandidate> merged = new ArrayList<>();
+        merged.addAll(jdbcTemplate.query(readySql, queryParameters, candidateRowMapper()));
+        merged.addAll(jdbcTemplate.query(expiredSql, queryParameters, candidateRowMapper()));
+        Collections.sort(merged, (left, right) -> {
+            int timeCompare = left.getEligibleAt().compareTo(right.getEligibleAt());
+            return timeCompare != SimpleKafkaOutboxConstant.ZERO
+                    ? timeCompare : left.getRecordId().compareTo(right.getRecordId());
+        });
+        return merged;
+    }
+
     /**
      * 条件标记发送成功。
      */
     @Override
     public boolean markSent(OutboxRecordEntity record) {
-        MapSqlParameterSource parameters = ownerParameters(record)
-                .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_SENT_STATUS, OutboxStatus.SENT.getCode())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_TOPIC, record.getBrokerTopic())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_PARTITION, record.getBrokerPartition())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_OFFSET, record.getBrokerOffset())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_TIMESTAMP, record.getBrokerTimestamp());
-        return updateState(markSentSql, parameters);
+        return updateState(markSentSql, sentParameters(record));
+    }
+
+    /**
+     * 以单次 JDBC 批量语句条件标记发送成功。
+     */
+    @Override
+    public boolean[] markSentBatch(List<OutboxRecordEntity> records) {
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[records.size()];
+        for (int index = 0; index < records.size(); index++) {
+            batch[index] = sentParameters(records.get(index));
+        }
+        return batchUpdateState(markSentSql, batch);
     }
 
     /**
@@ -203,11 +291,21 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
      */
     @Override
     public boolean markRetry(OutboxRecordEntity record, long delayMicros, String errorCode, String errorSummary) {
-        MapSqlParameterSource parameters = failureParameters(record, errorCode, errorSummary)
-                .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_RETRY_WAIT_STATUS, OutboxStatus.RETRY_WAIT.getCode())
-                .addValue(SimpleKafkaOutboxConstant.PARAM_DELAY_MICROS, delayMicros);
-        return updateState(markRetrySql, parameters);
+        return updateState(markRetrySql, retryParameters(record, delayMicros, errorCode, errorSummary));
+    }
+
+    /**
+     * 以单次 JDBC 批量语句条件标记等待重试。
+     */
+    @Override
+    public boolean[] markRetryBatch(List<OutboxRetryWriteBack> writeBacks) {
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[writeBacks.size()];
+        for (int index = 0; index < writeBacks.size(); index++) {
+            OutboxRetryWriteBack writeBack = writeBacks.get(index);
+            batch[index] = retryParameters(writeBack.getRecord(), writeBack.getDelayMicros(),
+                    writeBack.getErrorCode(), writeBack.getErrorSummary());
+        }
+        return batchUpdateState(markRetrySql, batch);
     }
 
     /**
@@ -294,6 +392,127 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
                 candidates.size());
     }
 
+    /**
+     * 在 p_max 之前补齐今天至未来 precreateDays 天的天分区；表未按天分区时返回 0。
+     * ALTER TABLE 会隐式提交，因此不放入事务模板；多实例并发补齐时后到者因分区已存在而失败，由调用方告警后下轮重试。
+     */
+    @Override
+    public int ensureDailyPartitions(int precreateDays) {
+        try {
+            List<String> partitionNames = queryPartitionNames();
+            if (!partitionNames.contains(SimpleKafkaOutboxConstant.PARTITION_MAX_NAME)) {
+                return SimpleKafkaOutboxConstant.ZERO;
+            }
+            LocalDate today = jdbcTemplate.queryForObject(SimpleKafkaOutboxConstant.SQL_SELECT_CURRENT_DATE,
+                    new MapSqlParameterSource(), java.sql.Date.class).toLocalDate();
+            LocalDate from = today;
+            for (String partitionName : partitionNames) {
+                LocalDate day = parsePartitionDay(partitionName);
+                if (day != null && !day.isBefore(from)) {
+                    from = day.plusDays(SimpleKafkaOutboxConstant.ONE);
+                }
+            }
+            LocalDate until = today.plusDays(precreateDays);
+            List<String> definitions = new ArrayList<>();
+            for (LocalDate day = from; !day.isAfter(until); day = day.plusDays(SimpleKafkaOutboxConstant.ONE)) {
+                definitions.add(String.format(SimpleKafkaOutboxConstant.SQL_DAY_PARTITION_TEMPLATE,
+                        SimpleKafkaOutboxConstant.PARTITION_DAY_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE),
+                        day.plusDays(SimpleKafkaOutboxConstant.ONE).format(DateTimeFormatter.ISO_LOCAL_DATE)));
+            }
+            if (definitions.isEmpty()) {
+                return SimpleKafkaOutboxConstant.ZERO;
+            }
+            jdbcTemplate.getJdbcOperations().execute(String.format(
+                    SimpleKafkaOutboxConstant.SQL_REORGANIZE_MAX_PARTITION_TEMPLATE, tableName,
+                    String.join(", ", definitions)));
+            return definitions.size();
+        } catch (RuntimeException e) {
+            throw persistenceFailed(e);
+        }
+    }
+
+    /**
+     * 逐个检查上界不晚于过期边界的天分区，仅当分区内全部记录均为 sent_at 早于边界的 SENT 时整体 DROP；
+     * 分区内残留 PENDING/RETRY_WAIT/PROCESSING/POISON 记录时保留该分区，交由逐行清理处理其中的 SENT 记录。
+     */
+    @Override
+    public long dropExpiredPartitions(Timestamp expireBefore) {
+        try {
+            LocalDateTime boundary = expireBefore.toLocalDateTime();
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue(SimpleKafkaOutboxConstant.PARAM_SENT_STATUS, OutboxStatus.SENT.getCode())
+                    .addValue(SimpleKafkaOutboxConstant.PARAM_EXPIRE_BEFORE, expireBefore);
+            long droppedCount = SimpleKafkaOutboxConstant.ZERO_LONG;
+            for (String partitionName : queryPartitionNames()) {
+                LocalDate day = parsePartitionDay(partitionName);
+                if (day == null || day.plusDays(SimpleKafkaOutboxConstant.ONE).atStartOfDay().isAfter(boundary)) {
+                    continue;
+                }
+                List<Long> blockers = jdbcTemplate.queryForList(String.format(
+                        SimpleKafkaOutboxConstant.SQL_SELECT_PARTITION_BLOCKER_TEMPLATE, tableName, partitionName),
+                        parameters, Long.class);
+                if (!blockers.isEmpty()) {
+                    continue;
+                }
+                Long rowCount = jdbcTemplate.queryForObject(String.format(
+                        SimpleKafkaOutboxConstant.SQL_COUNT_PARTITION_TEMPLATE, tableName, partitionName),
+                        new MapSqlParameterSource(), Long.class);
+                jdbcTemplate.getJdbcOperations().execute(String.format(
+                        SimpleKafkaOutboxConstant.SQL_DROP_PARTITION_TEMPLATE, tableName, partitionName));
+                droppedCount += rowCount == null ? SimpleKafkaOutboxConstant.ZERO_LONG : rowCount;
+            }
+            return droppedCount;
+        } catch (RuntimeException e) {
+            throw persistenceFailed(e);
+        }
+    }
+
+    /**
+     * 表存在时抽样查询未发送完成的记录。
+     */
+    @Override
+    public List<OutboxRecordEntity> sampleUnsent(int sampleLimit) {
+        try {
+            Long tableCount = jdbcTemplate.queryForObject(SimpleKafkaOutboxConstant.SQL_COUNT_TABLE,
+                    new MapSqlParameterSource(SimpleKafkaOutboxConstant.PARAM_TABLE_NAME, tableName), Long.class);
+            if (tableCount == null || tableCount == SimpleKafkaOutboxConstant.ZERO_LONG) {
+                return Collections.emptyList();
+            }
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue(SimpleKafkaOutboxConstant.PARAM_PENDING_STATUS, OutboxStatus.PENDING.getCode())
+                    .addValue(SimpleKafkaOutboxConstant.PARAM_RETRY_WAIT_STATUS, OutboxStatus.RETRY_WAIT.getCode())
+                    .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode())
+                    .addValue(SimpleKafkaOutboxConstant.PARAM_SAMPLE_LIMIT, sampleLimit);
+            return jdbcTemplate.query(
+                    String.format(SimpleKafkaOutboxConstant.SQL_SELECT_UNSENT_SAMPLE_TEMPLATE, tableName), parameters,
+                    (resultSet, rowNum) -> OutboxRecordEntity.builder()
+                            .messageId(resultSet.getString("message_id"))
+                            .recordKey(resultSet.getString("record_key"))
+                            .build());
+        } catch (RuntimeException e) {
+            throw persistenceFailed(e);
+        }
+    }
+
+    /**
+     * 按定义顺序查询当前表的分区名，未分区表返回空列表。
+     */
+    private List<String> queryPartitionNames() {
+        return jdbcTemplate.queryForList(SimpleKafkaOutboxConstant.SQL_SELECT_PARTITION_NAMES,
+                new MapSqlParameterSource(SimpleKafkaOutboxConstant.PARAM_TABLE_NAME, tableName), String.class);
+    }
+
+    /**
+     * 解析 pYYYYMMDD 形式的天分区名，非天分区（如 p_max）返回 null。
+     */
+    private LocalDate parsePartitionDay(String partitionName) {
+        if (partitionName == null || !partitionName.matches(SimpleKafkaOutboxConstant.PARTITION_DAY_NAME_PATTERN)) {
+            return null;
+        }
+        return LocalDate.parse(partitionName.substring(SimpleKafkaOutboxConstant.PARTITION_DAY_PREFIX.length()),
+                DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
     /**
      * 执行状态迁移 SQL，仅当影响行数为 1 时视为 CAS 成功。
      */
@@ -305,6 +524,53 @@ public class JdbcKafkaOutboxRepository implements KafkaOutboxRepository {
         }
     }
 
+    /**
+     * 批量执行状态迁移 SQL，逐条按影响行数判定 CAS 是否成功。
+     * 驱动重写批量语句后返回 SUCCESS_NO_INFO 时无法区分单行结果，按成功处理；
+     * 此时状态仍由 owner+version 条件保证，只影响 Listener 事件类型。
+     */
+    private boolean[] batchUpdateState(String sql, MapSqlParameterSource[] batch) {
+        if (batch.length == SimpleKafkaOutboxConstant.ZERO) {
+            return new boolean[SimpleKafkaOutboxConstant.ZERO];
+        }
+        int[] counts;
+        try {
+            counts = jdbcTemplate.batchUpdate(sql, batch);
+        } catch (RuntimeException e) {
+            throw persistenceFailed(e);
+        }
+        boolean[] results = new boolean[batch.length];
+        for (int index = 0; index < results.length && index < counts.length; index++) {
+            results[index] = counts[index] == SimpleKafkaOutboxConstant.ONE
+                    || counts[index] == Statement.SUCCESS_NO_INFO;
+        }
+        return results;
+    }
+
+    /**
+     * 构造 SENT 回写参数：owner+version CAS 基础上加 broker metadata。
+     */
+    private MapSqlParameterSource sentParameters(OutboxRecordEntity record) {
+        return ownerParameters(record)
+                .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_SENT_STATUS, OutboxStatus.SENT.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_TOPIC, record.getBrokerTopic())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_PARTITION, record.getBrokerPartition())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_OFFSET, record.getBrokerOffset())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_BROKER_TIMESTAMP, record.getBrokerTimestamp());
+    }
+
+    /**
+     * 构造 RETRY_WAIT 回写参数。
+     */
+    private MapSqlParameterSource retryParameters(OutboxRecordEntity record, long delayMicros, String errorCode,
+                                                  String errorSummary) {
+        return failureParameters(record, errorCode, errorSummary)
+                .addValue(SimpleKafkaOutboxConstant.PARAM_PROCESSING_STATUS, OutboxStatus.PROCESSING.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_RETRY_WAIT_STATUS, OutboxStatus.RETRY_WAIT.getCode())
+                .addValue(SimpleKafkaOutboxConstant.PARAM_DELAY_MICROS, delayMicros);
+    }
+
     /**
      * 构造记录级 owner+version CAS 参数。
      */
@@ -2,8 +2,10 @@ package io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository;
 
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.entity.OutboxRecordEntity;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxCleanupBatchResult;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryWriteBack;
 
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -38,6 +40,20 @@ public interface KafkaOutboxRepository {
      */
     boolean markSent(OutboxRecordEntity record);
 
+    /**
+     * 批量条件标记发送成功，默认逐条回写，JDBC 实现以单次批量语句执行
+     *
+     * @param records 当前记录
+     * @return 与入参顺序一致的逐条回写结果
+     */
+    default boolean[] markSentBatch(List<OutboxRecordEntity> records) {
+        boolean[] results = new boolean[records.size()];
+        for (int index = 0; index < records.size(); index++) {
+            results[index] = markSent(records.get(index));
+        }
+        return results;
+    }
+
     /**
      * 条件标记等待重试
      *
@@ -49,6 +65,22 @@ public interface KafkaOutboxRepository {
      */
     boolean markRetry(OutboxRecordEntity record, long delayMicros, String errorCode, String errorSummary);
 
+    /**
+     * 批量条件标记等待重试，默认逐条回写，JDBC 实现以单次批量语句执行
+     *
+     * @param writeBacks 回写项
+     * @return 与入参顺序一致的逐条回写结果
+     */
+    default boolean[] markRetryBatch(List<OutboxRetryWriteBack> writeBacks) {
+        boolean[] results = new boolean[writeBacks.size()];
+        for (int index = 0; index < writeBacks.size(); index++) {
+            OutboxRetryWriteBack writeBack = writeBacks.get(index);
+            results[index] = markRetry(writeBack.getRecord(), writeBack.getDelayMicros(),
+                    writeBack.getErrorCode(), writeBack.getErrorSummary());
+        }
+        return results;
+    }
+
     /**
      * 条件标记毒消息
      *
@@ -88,4 +120,44 @@ public interface KafkaOutboxRepository {
      */
     OutboxCleanupBatchResult cleanupBatch(Timestamp expireBefore, Timestamp lastSentAt,
                                           Long lastId, int batchSize);
+
+    /**
+     * 为按天分区表补齐今天及未来若干天的分区，默认实现不支持分区表，返回 0
+     *
+     * @param precreateDays 提前创建的未来天数
+     * @return 新增分区数量
+     */
+    default int ensureDailyPartitions(int precreateDays) {
+        return 0;
+    }
+
+    /**
+     * 整体删除全部记录均为过期 SENT 的天分区，默认实现不支持分区表，返回 0
+     *
+     * @param expireBefore 固定过期边界
+     * @return 随分区删除的记录数
+     */
+    default long dropExpiredPartitions(Timestamp expireBefore) {
+        return 0L;
+    }
+
+    /**
+     * 抽样查询未发送完成（PENDING / RETRY_WAIT / PROCESSING）的记录，仅填充 messageId 与 recordKey，
+     * 供分表 Repository 启动时校验路由；表不存在时返回空列表，默认实现返回空列表
+     *
+     * @param sampleLimit 抽样上限
+     * @return 未发送记录样本
+     */
+    default List<OutboxRecordEntity> sampleUnsent(int sampleLimit) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * 返回参与清理的物理分片，未分表时即自身
+     *
+     * @return 分片 Repository 列表
+     */
+    default List<KafkaOutboxRepository> getShards() {
+        return Collections.singletonList(this);
+    }
 }
@@ -0,0 +1,313 @@
+package io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository;
+
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.SimpleKafkaOutboxConstant;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.entity.OutboxRecordEntity;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxConfigurationException;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxCleanupBatchResult;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryWriteBack;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 按 record key 哈希分表的 Kafka Outbox 持久化实现
+ * <p>写入与状态回写按 record key（为 null 时按 messageId）哈希路由到固定分片，
+ * 同 key 记录始终落在同一张表，单分片内的领取顺序即同 key 的投递顺序。
+ * 领取从轮转起点依次遍历分片直到填满候选上限，不同 worker 起点错开，避免在同一索引区间上竞争。</p>
+ *
+ * <p>路由依赖分片数取模，修改 shard.count 会让未发送记录的归属分片变化，破坏同 key 顺序。
+ * 领取的记录带上来源分片序号，状态回写始终回到来源表；启动时由 {@link #verifyRouting} 抽样校验
+ * 各分片及多出的分片表中没有归属不一致的未发送记录，校验失败拒绝启动。</p>
+ *
+ * <p>各分片主键独立自增，记录 ID 仅在分片内唯一。内置清理任务对 {@link #getShards()} 逐个执行；
+ * 直接调用 {@link #cleanupBatch} 时以同一游标清理全部分片并汇总结果。</p>
+ *
+ * @author surezzzzzz
+ */
+public class ShardedKafkaOutboxRepository implements KafkaOutboxRepository {
+
+    private final List<KafkaOutboxRepository> shards;
+    private final AtomicInteger claimCursor;
+
+    /**
+     * 创建分表 Repository
+     *
+     * @param shards 按分片序号排列的物理分片，不能为空
+     */
+    public ShardedKafkaOutboxRepository(List<KafkaOutboxRepository> shards) {
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+        this.claimCursor = new AtomicInteger(ThreadLocalRandom.current().nextInt(this.shards.size()));
+    }
+
+    /**
+     * 计算分片物理表名
+     *
+     * @param tableName  逻辑表名
+     * @param shardIndex 分片序号
+     * @return 分片表名 tableName_shardIndex
+     */
+    public static String shardTableName(String tableName, int shardIndex) {
+        return tableName + SimpleKafkaOutboxConstant.SHARD_TABLE_SEPARATOR + shardIndex;
+    }
+
+    /**
+     * 写入记录所属分片。
+     */
+    @Override
+    public Long save(OutboxRecordEntity record) {
+        return shardOf(record).save(record);
+    }
+
+    /**
+     * 从轮转起点依次领取各分片，直到填满候选上限。
+     */
+    @Override
+    public List<OutboxRecordEntity> claim(int candidateLimit, long leaseMicros) {
+        int start = Math.floorMod(claimCursor.getAndIncrement(), shards.size());
+        List<OutboxRecordEntity> claimed = new ArrayList<>();
+        for (int offset = 0; offset < shards.size() && claimed.size() < candidateLimit; offset++) {
+            int shardIndex = (start + offset) % shards.size();
+            List<OutboxRecordEntity> shardClaimed = shards.get(shardIndex).claim(candidateLimit - claimed.size(),
+                    leaseMicros);
+            for (OutboxRecordEntity record : shardClaimed) {
+                record.setShardIndex(shardIndex);
+                claimed.add(record);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 在记录所属分片条件标记发送成功。
+     */
+    @Override
+    public boolean markSent(OutboxRecordEntity record) {
+        return shardOf(record).markSent(record);
+    }
+
+    /**
+     * 按分片分组批量标记发送成功，结果按入参顺序还原。
+     */
+    @Override
+    public boolean[] markSentBatch(List<OutboxRecordEntity> records) {
+        Map<Integer, List<Integer>> positions = groupByShard(records.size(), records::get);
+        boolean[] results = new boolean[records.size()];
+        for (Map.Entry<Integer, List<Integer>> entry : positions.entrySet()) {
+            List<OutboxRecordEntity> group = new ArrayList<>();
+            for (Integer position : entry.getValue()) {
+                group.add(records.get(position));
+            }
+            scatter(shards.get(entry.getKey()).markSentBatch(group), entry.getValue(), results);
+        }
+        return results;
+    }
+
+    /**
+     * 在记录所属分片条件标记等待重试。
+     */
+    @Override
+    public boolean markRetry(OutboxRecordEntity record, long delayMicros, String errorCode, String errorSummary) {
+        return shardOf(record).markRetry(record, delayMicros, errorCode, errorSummary);
+    }
+
+    /**
+     * 按分片分组批量标记等待重试，结果按入参顺序还原。
+     */
+    @Override
+    public boolean[] markRetryBatch(List<OutboxRetryWriteBack> writeBacks) {
+        Map<Integer, List<Integer>> positions = groupByShard(writeBacks.size(),
+                index -> writeBacks.get(index).getRecord());
+        boolean[] results = new boolean[writeBacks.size()];
+        for (Map.Entry<Integer, List<Integer>> entry : positions.entrySet()) {
+            List<OutboxRetryWriteBack> group = new ArrayList<>();
+            for (Integer position : entry.getValue()) {
+                group.add(writeBacks.get(position));
+            }
+            scatter(shards.get(entry.getKey()).markRetryBatch(group), entry.getValue(), results);
+        }
+        return results;
+    }
+
+    /**
+     * 在记录所属分片条件标记毒消息。
+     */
+    @Override
+    public boolean markPoison(OutboxRecordEntity record, String errorCode, String errorSummary) {
+        return shardOf(record).markPoison(record, errorCode, errorSummary);
+    }
+
+    /**
+     * 在记录所属分片发送前条件释放租约。
+     */
+    @Override
+    public boolean releaseBeforeSend(OutboxRecordEntity record, String errorCode, String errorSummary) {
+        return shardOf(record).releaseBeforeSend(record, errorCode, errorSummary);
+    }
+
+    /**
+     * 各分片共享同一数据库时钟，由首个分片计算过期边界。
+     */
+    @Override
+    public Timestamp resolveExpireBefore(int retentionDays) {
+        return shards.get(SimpleKafkaOutboxConstant.ZERO).resolveExpireBefore(retentionDays);
+    }
+
+    /**
+     * 以同一游标对全部分片各清理一批并汇总删除数与候选数。
+     * <p>返回游标取候选填满批次的分片中最小的末条游标：这些分片在该游标之后可能还有记录，
+     * 未填满批次的分片在入参游标之后已全部扫描，因此下一批不会跳过任何分片的记录，且游标严格前进。
+     * 全部分片均未填满批次时返回最大的末条游标。</p>
+     */
+    @Override
+    public OutboxCleanupBatchResult cleanupBatch(Timestamp expireBefore, Timestamp lastSentAt,
+                                                 Long lastId, int batchSize) {
+        int deletedCount = SimpleKafkaOutboxConstant.ZERO;
+        int candidateCount = SimpleKafkaOutboxConstant.ZERO;
+        OutboxCleanupBatchResult minFullCursor = null;
+        OutboxCleanupBatchResult maxCursor = null;
+        for (KafkaOutboxRepository shard : shards) {
+            OutboxCleanupBatchResult result = shard.cleanupBatch(expireBefore, lastSentAt, lastId, batchSize);
+            deletedCount += result.getDeletedCount();
+            candidateCount += result.getCandidateCount();
+            if (result.getCandidateCount() == SimpleKafkaOutboxConstant.ZERO) {
+                continue;
+            }
+            if (maxCursor == null || compareCursor(result, maxCursor) > SimpleKafkaOutboxConstant.ZERO) {
+                maxCursor = result;
+            }
+            boolean full = result.getCandidateCount() >= batchSize;
+            boolean slower = minFullCursor == null
+                    || compareCursor(result, minFullCursor) < SimpleKafkaOutboxConstant.ZERO;
+            if (full && slower) {
+                minFullCursor = result;
+            }
+        }
+        OutboxCleanupBatchResult cursor = minFullCursor != null ? minFullCursor : maxCursor;
+        if (cursor == null) {
+            return new OutboxCleanupBatchResult(deletedCount, lastSentAt, lastId, candidateCount);
+        }
+        return new OutboxCleanupBatchResult(deletedCount, cursor.getLastSentAt(), cursor.getLastId(), candidateCount);
+    }
+
+    /**
+     * 为全部分片补齐天分区。
+     */
+    @Override
+    public int ensureDailyPartitions(int precreateDays) {
+        int createdCount = SimpleKafkaOutboxConstant.ZERO;
+        for (KafkaOutboxRepository shard : shards) {
+            createdCount += shard.ensureDailyPartitions(precreateDays);
+        }
+        return createdCount;
+    }
+
+    /**
+     * 删除全部分片的过期天分区。
+     */
+    @Override
+    public long dropExpiredPartitions(Timestamp expireBefore) {
+        long droppedCount = SimpleKafkaOutboxConstant.ZERO_LONG;
+        for (KafkaOutboxRepository shard : shards) {
+            droppedCount += shard.dropExpiredPartitions(expireBefore);
+        }
+        return droppedCount;
+    }
+
+    /**
+     * 抽样校验未发送记录的分片归属与当前分片数一致
+     * <p>各分片的未发送记录必须按当前分片数路由回本分片；分片数缩小时，原先多出的分片表
+     * （序号等于当前分片数）中不能还有未发送记录。只做抽样，不能替代停写排空后再修改分片数。</p>
+     *
+     * @param overflowShard 序号等于当前分片数的分片表，为 null 时跳过
+     * @param sampleLimit   每个分片的抽样上限
+     * @throws KafkaOutboxConfigurationException 存在归属不一致的未发送记录
+     */
+    public void verifyRouting(KafkaOutboxRepository overflowShard, int sampleLimit) {
+        for (int index = 0; index < shards.size(); index++) {
+            for (OutboxRecordEntity record : shards.get(index).sampleUnsent(sampleLimit)) {
+                if (hashIndex(record) != index) {
+                    throw shardCountChanged(index);
+                }
+            }
+        }
+        if (overflowShard != null && !overflowShard.sampleUnsent(sampleLimit).isEmpty()) {
+            throw shardCountChanged(shards.size());
+        }
+    }
+
+    /**
+     * 返回全部物理分片。
+     */
+    @Override
+    public List<KafkaOutboxRepository> getShards() {
+        return shards;
+    }
+
+    /**
+     * 按 (sent_at, id) 比较两个清理游标。
+     */
+    private int compareCursor(OutboxCleanupBatchResult left, OutboxCleanupBatchResult right) {
+        int compared = left.getLastSentAt().compareTo(right.getLastSentAt());
+        return compared != SimpleKafkaOutboxConstant.ZERO ? compared : left.getLastId().compareTo(right.getLastId());
+    }
+
+    /**
+     * 选择记录所属分片。
+     */
+    private KafkaOutboxRepository shardOf(OutboxRecordEntity record) {
+        return shards.get(shardIndex(record));
+    }
+
+    /**
+     * 计算记录所属分片序号，领取时记录的来源分片优先，否则按哈希计算。
+     */
+    private int shardIndex(OutboxRecordEntity record) {
+        Integer claimedShard = record.getShardIndex();
+        if (claimedShard != null && claimedShard >= SimpleKafkaOutboxConstant.ZERO && claimedShard < shards.size()) {
+            return claimedShard;
+        }
+        return hashIndex(record);
+    }
+
+    /**
+     * 按 record key 哈希计算分片序号，record key 为 null 时按 messageId 哈希。
+     */
+    private int hashIndex(OutboxRecordEntity record) {
+        String routingKey = record.getRecordKey() != null ? record.getRecordKey() : record.getMessageId();
+        return Math.floorMod(routingKey.hashCode(), shards.size());
+    }
+
+    /**
+     * 按分片序号分组入参位置，组内保持入参顺序。
+     */
+    private Map<Integer, List<Integer>> groupByShard(int size, IntFunction<OutboxRecordEntity> recordAt) {
+        Map<Integer, List<Integer>> positions = new LinkedHashMap<>();
+        for (int index = 0; index < size; index++) {
+            positions.computeIfAbsent(shardIndex(recordAt.apply(index)), key -> new ArrayList<>()).add(index);
+        }
+        return positions;
+    }
+
+    /**
+     * 构造分片数变更异常。
+     */
+    private KafkaOutboxConfigurationException shardCountChanged(int shardIndex) {
+        return new KafkaOutboxConfigurationException(ErrorCode.KAFKA_OUTBOX_001,
+                String.format(ErrorMessage.KAFKA_OUTBOX_001,
+                        String.format(SimpleKafkaOutboxConstant.REASON_SHARD_COUNT_CHANGED, shardIndex, shards.size())));
+    }
+
+    /**
+     * 将分片回写结果写回入参位置。
+     */
+    private void scatter(boolean[] groupResults, List<Integer> positions, boolean[] results) {
+        for (int index = 0; index < positions.size() && index < groupResults.length; index++) {
+            results[positions.get(index)] = groupResults[index];
+        }
+    }
+}
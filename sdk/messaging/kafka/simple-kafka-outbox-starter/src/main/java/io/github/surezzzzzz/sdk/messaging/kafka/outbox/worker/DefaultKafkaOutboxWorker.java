@@ -9,6 +9,7 @@ import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxExce
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.listener.KafkaOutboxEventListener;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxEventContext;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryContext;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryWriteBack;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.KafkaOutboxRepository;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.retry.KafkaOutboxRetryPolicy;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.serializer.KafkaOutboxMessageSerializer;
@@ -24,14 +25,18 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.concurrent.ListenableFuture;
 
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 默认 Kafka Outbox Worker
+ * <p>默认逐条模式：每条记录占用一个并发槽位，同步等待 ACK 后单条回写。
+ * 开启 pipeline 后：一批记录占用一个槽位，按窗口批量发送、统一收集 ACK，
+ * SENT/RETRY_WAIT 按结果分组批量回写；同 key 记录拆到先后窗口，前序未成功时后序发送前释放。</p>
+ * <p>调度：本地事务提交后经 {@link #wakeup()} 防抖唤醒立即扫描；其他实例写入的记录由自适应轮询兜底，
+ * 有候选时回到 scan-interval-ms，连续空轮逐轮翻倍直至 idle-interval-ms。</p>
  *
  * @author surezzzzzz
  */
@@ -67,6 +72,30 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
      * 当前自调度扫描任务句柄，stop 时取消，每轮调度后持续更新
      */
     private volatile ScheduledFuture<?> scanFuture;
+    /**
+     * 调度锁：串行化自调度链的重排与提交唤醒的提前调度
+     */
+    private final Object scheduleLock = new Object();
+    /**
+     * 调度票据，只有票据匹配的扫描任务执行，唤醒提前调度后旧任务自动失效
+     */
+    private long scheduleTicket;
+    /**
+     * 是否正在扫描，扫描中的唤醒只打标记，扫描结束后按防抖时长重排
+     */
+    private boolean scanning;
+    /**
+     * 扫描中收到唤醒
+     */
+    private boolean wakeupRequested;
+    /**
+     * 已排入尚未执行的唤醒扫描，防抖窗口内的后续唤醒直接合并
+     */
+    private boolean wakeupScheduled;
+    /**
+     * 当前自适应轮询间隔
+     */
+    private long currentIntervalMs;
 
     /**
      * 创建默认 Worker
@@ -119,7 +148,11 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
             // 停止中，scheduledScan 后续会检查 running 不再调度，返回值无实际影响
             return true;
         }
-        int candidateLimit = Math.min(properties.getWorker().getBatchSize(), slots.availablePermits());
+        boolean pipelined = properties.getPipeline().isEnable();
+        int candidateLimit = pipelined
+                ? (slots.availablePermits() > SimpleKafkaOutboxConstant.ZERO ? properties.getWorker().getBatchSize()
+                : SimpleKafkaOutboxConstant.ZERO)
+                : Math.min(properties.getWorker().getBatchSize(), slots.availablePermits());
         if (candidateLimit <= SimpleKafkaOutboxConstant.ZERO) {
             // 槽位满，Worker 正在忙，短间隔轮询等待槽位释放
             return true;
@@ -137,6 +170,10 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
         if (claimed == null || claimed.isEmpty()) {
             return false;
         }
+        if (pipelined) {
+            dispatchBatch(claimed, generation);
+            return true;
+        }
         for (OutboxRecordEntity record : claimed) {
             if (!slots.tryAcquire()) {
                 releaseBeforeSend(record);
@@ -153,6 +190,25 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
         return true;
     }
 
+    /**
+     * 流水线模式派发：整批占用一个槽位交给执行器，槽位或执行器不可用时整批发送前释放。
+     */
+    private void dispatchBatch(List<OutboxRecordEntity> claimed, long generation) {
+        if (!slots.tryAcquire()) {
+            claimed.forEach(this::releaseBeforeSend);
+            return;
+        }
+        for (OutboxRecordEntity record : claimed) {
+            notifyListener(EventType.CLAIMED, toEvent(record, OutboxStatus.PROCESSING, null));
+        }
+        try {
+            executor.execute(() -> processBatch(claimed, generation));
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            claimed.forEach(this::releaseBeforeSend);
+        }
+    }
+
     /**
      * 启动 Worker。
      */
@@ -161,7 +217,13 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
         if (running.compareAndSet(false, true)) {
             long gen = lifecycleGeneration.incrementAndGet();
             try {
-                scanFuture = scheduler.schedule(() -> scheduledScan(gen), new Date());
+                synchronized (scheduleLock) {
+                    scanning = false;
+                    wakeupRequested = false;
+                    wakeupScheduled = false;
+                    currentIntervalMs = properties.getWorker().getScanIntervalMs();
+                    scheduleScan(gen, SimpleKafkaOutboxConstant.ZERO_LONG);
+                }
             } catch (RuntimeException e) {
                 running.set(false);
                 throw e;
@@ -170,21 +232,88 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
     }
 
     /**
-     * 自调度扫描：有候选用 scan-interval-ms，空轮用 idle-interval-ms，停止后不再重调度。
+     * 本地事务提交后唤醒：空闲等待中则取消当前等待、按防抖时长提前扫描；扫描中则在本轮结束后立即重排。
      */
-    private void scheduledScan(long generation) {
-        if (!running.get() || lifecycleGeneration.get() != generation) {
+    @Override
+    public void wakeup() {
+        if (!running.get() || !properties.getWorker().isWakeupEnable()) {
             return;
         }
+        synchronized (scheduleLock) {
+            if (!running.get()) {
+                return;
+            }
+            if (scanning) {
+                wakeupRequested = true;
+                return;
+            }
+            if (wakeupScheduled) {
+                return;
+            }
+            ScheduledFuture<?> waiting = scanFuture;
+            scheduleScan(lifecycleGeneration.get(), properties.getWorker().getWakeupDebounceMs());
+            wakeupScheduled = true;
+            if (waiting != null) {
+                waiting.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 自调度扫描：票据或代次失效时退出；本轮结束后按唤醒标记或自适应间隔重排，停止后不再重调度。
+     */
+    private void scheduledScan(long generation, long ticket) {
+        synchronized (scheduleLock) {
+            if (!isActive(generation) || ticket != scheduleTicket) {
+                return;
+            }
+            scanning = true;
+            wakeupScheduled = false;
+        }
         boolean hadCandidates = doScanOnce();
-        if (!running.get() || lifecycleGeneration.get() != generation) {
-            return;
+        synchronized (scheduleLock) {
+            scanning = false;
+            if (!isActive(generation) || ticket != scheduleTicket) {
+                return;
+            }
+            long delay;
+            if (wakeupRequested) {
+                wakeupRequested = false;
+                wakeupScheduled = true;
+                currentIntervalMs = properties.getWorker().getScanIntervalMs();
+                delay = properties.getWorker().getWakeupDebounceMs();
+            } else {
+                delay = nextIntervalMs(hadCandidates);
+            }
+            scheduleScan(generation, delay);
+        }
+    }
+
+    /**
+     * 自适应轮询间隔：有候选回到 scan-interval-ms，空轮逐轮翻倍，不超过 idle-interval-ms。
+     */
+    private long nextIntervalMs(boolean hadCandidates) {
+        long scanInterval = properties.getWorker().getScanIntervalMs();
+        long idleInterval = Math.max(scanInterval, properties.getWorker().getIdleIntervalMs());
+        if (hadCandidates) {
+            currentIntervalMs = scanInterval;
+        } else if (currentIntervalMs >= idleInterval / SimpleKafkaOutboxConstant.INTERVAL_GROWTH_FACTOR) {
+            currentIntervalMs = idleInterval;
+        } else {
+            currentIntervalMs = Math.max(scanInterval,
+                    currentIntervalMs * SimpleKafkaOutboxConstant.INTERVAL_GROWTH_FACTOR);
         }
-        long delay = hadCandidates
-                ? properties.getWorker().getScanIntervalMs()
-                : properties.getWorker().getIdleIntervalMs();
-        scanFuture = scheduler.schedule(() -> scheduledScan(generation),
-                new Date(System.currentTimeMillis() + delay));
+        return currentIntervalMs;
+    }
+
+    /**
+     * 调度下一轮扫描，调用方持有 scheduleLock；调度成功后才推进票据，失败时原调度链保持有效。
+     */
+    private void scheduleScan(long generation, long delayMs) {
+        long ticket = scheduleTicket + SimpleKafkaOutboxConstant.ONE;
+        scanFuture = scheduler.schedule(() -> scheduledScan(generation, ticket),
+                new Date(System.currentTimeMillis() + delayMs));
+        scheduleTicket = ticket;
     }
 
     /**
@@ -250,47 +379,273 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
      */
     private void process(OutboxRecordEntity record, long generation) {
         try {
-            if (!isActive(generation)) {
-                releaseBeforeSend(record);
-                return;
+            ListenableFuture<KafkaPublishResult> future = startPublish(record, generation);
+            if (future != null) {
+                awaitFuture(record, generation, future);
             }
-            KafkaPublishMessage<Object> message;
-            try {
-                message = serializer.deserialize(record);
-            } catch (RuntimeException e) {
-                completeSnapshotFailureBeforePublisher(record, generation, e);
-                return;
-            }
-            KafkaOutboxTraceScope.Scope scope;
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * 发起单条发送：反序列化、开 trace、发布。返回 null 表示记录已在发送前或发布入口处完成回写/释放。
+     */
+    private ListenableFuture<KafkaPublishResult> startPublish(OutboxRecordEntity record, long generation) {
+        if (!isActive(generation)) {
+            releaseBeforeSend(record);
+            return null;
+        }
+        KafkaPublishMessage<Object> message;
+        try {
+            message = serializer.deserialize(record);
+        } catch (RuntimeException e) {
+            completeSnapshotFailureBeforePublisher(record, generation, e);
+            return null;
+        }
+        KafkaOutboxTraceScope.Scope scope;
+        try {
+            scope = traceScope.open(record.getTraceId());
+        } catch (RuntimeException e) {
+            completeTraceOpenFailureBeforePublisher(record, generation, e);
+            return null;
+        }
+        PublisherInvocation invocation;
+        try {
             try {
-                scope = traceScope.open(record.getTraceId());
-            } catch (RuntimeException e) {
-                completeTraceOpenFailureBeforePublisher(record, generation, e);
-                return;
+                invocation = publishIfActive(message, generation);
+            } finally {
+                closeTraceScope(scope, record);
             }
-            PublisherInvocation invocation;
-            try {
-                try {
-                    invocation = publishIfActive(message, generation);
-                } finally {
-                    closeTraceScope(scope, record);
+        } catch (RuntimeException e) {
+            completePublisherFailureAfterPublisher(record, generation, e);
+            return null;
+        }
+        if (!invocation.isInvoked()) {
+            releaseBeforeSend(record);
+            return null;
+        }
+        if (invocation.getFuture() == null) {
+            completeInvalidResultAfterPublisher(record, generation,
+                    new IllegalStateException(SimpleKafkaOutboxConstant.REASON_FUTURE_EMPTY));
+            return null;
+        }
+        return invocation.getFuture();
+    }
+
+    /**
+     * 流水线处理一批已领取记录：按 key 拆分先后窗口，窗口内批量发送、统一收集 ACK 并分组批量回写。
+     */
+    private void processBatch(List<OutboxRecordEntity> records, long generation) {
+        try {
+            Set<String> blockedKeys = new HashSet<>();
+            int maxInFlight = properties.getPipeline().getMaxInFlight();
+            for (List<OutboxRecordEntity> wave : splitWaves(records)) {
+                for (int from = SimpleKafkaOutboxConstant.ZERO; from < wave.size(); from += maxInFlight) {
+                    publishWindow(wave.subList(from, Math.min(wave.size(), from + maxInFlight)), generation,
+                            blockedKeys);
                 }
-            } catch (RuntimeException e) {
-                completePublisherFailureAfterPublisher(record, generation, e);
-                return;
             }
-            if (!invocation.isInvoked()) {
-                releaseBeforeSend(record);
-                return;
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * 按顺序 key 拆分窗口：同 key 的第 n 条进入第 n 个窗口，保证同 key 前序 ACK 后才发送后序。
+     * 无 recordKey 的记录无顺序约束，全部进入第一个窗口。
+     */
+    private List<List<OutboxRecordEntity>> splitWaves(List<OutboxRecordEntity> records) {
+        List<List<OutboxRecordEntity>> waves = new ArrayList<>();
+        Map<String, Integer> seen = new HashMap<>();
+        for (OutboxRecordEntity record : records) {
+            String key = orderingKey(record);
+            int index = SimpleKafkaOutboxConstant.ZERO;
+            if (key != null) {
+                Integer previous = seen.get(key);
+                index = previous == null ? SimpleKafkaOutboxConstant.ZERO : previous + SimpleKafkaOutboxConstant.ONE;
+                seen.put(key, index);
             }
-            if (invocation.getFuture() == null) {
+            while (waves.size() <= index) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(index).add(record);
+        }
+        return waves;
+    }
+
+    /**
+     * 发送一个窗口并收集结果：共享 send.timeout-ms 截止时间，SENT 与 RETRY_WAIT 分组批量回写，
+     * POISON 与非法结果逐条回写。未成功的 key 进入 blockedKeys，后续窗口同 key 记录发送前释放。
+     */
+    private void publishWindow(List<OutboxRecordEntity> window, long generation, Set<String> blockedKeys) {
+        List<OutboxRecordEntity> inFlight = new ArrayList<>(window.size());
+        List<ListenableFuture<KafkaPublishResult>> futures = new ArrayList<>(window.size());
+        for (OutboxRecordEntity record : window) {
+            String key = orderingKey(record);
+            if (key != null && blockedKeys.contains(key)) {
+                releaseBeforeSend(record, SimpleKafkaOutboxConstant.ERROR_CODE_ORDER_BLOCKED,
+                        SimpleKafkaOutboxConstant.ERROR_SUMMARY_ORDER_BLOCKED);
+                continue;
+            }
+            ListenableFuture<KafkaPublishResult> future = startPublish(record, generation);
+            if (future == null) {
+                block(blockedKeys, key);
+                continue;
+            }
+            inFlight.add(record);
+            futures.add(future);
+        }
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(properties.getSend().getTimeoutMs());
+        List<OutboxRecordEntity> sent = new ArrayList<>(inFlight.size());
+        List<OutboxRetryWriteBack> retries = new ArrayList<>();
+        for (int index = SimpleKafkaOutboxConstant.ZERO; index < inFlight.size(); index++) {
+            OutboxRecordEntity record = inFlight.get(index);
+            if (collectResult(record, generation, futures.get(index), deadline, retries)) {
+                sent.add(record);
+            } else {
+                block(blockedKeys, orderingKey(record));
+            }
+        }
+        flushSent(sent);
+        flushRetries(retries);
+    }
+
+    /**
+     * 在共享截止时间内收集单条 ACK：成功写入 broker metadata 并返回 true；
+     * 可重试失败追加到 retries 等待批量回写，其余失败逐条回写。
+     */
+    private boolean collectResult(OutboxRecordEntity record, long generation,
+                                  ListenableFuture<KafkaPublishResult> future, long deadline,
+                                  List<OutboxRetryWriteBack> retries) {
+        try {
+            long remaining = Math.max(SimpleKafkaOutboxConstant.ZERO_LONG, deadline - System.nanoTime());
+            KafkaPublishResult result = future.get(remaining, TimeUnit.NANOSECONDS);
+            if (!validResult(record, result)) {
                 completeInvalidResultAfterPublisher(record, generation,
-                        new IllegalStateException(SimpleKafkaOutboxConstant.REASON_FUTURE_EMPTY));
-                return;
+                        new IllegalStateException(SimpleKafkaOutboxConstant.REASON_RESULT_METADATA_INVALID));
+                return false;
+            }
+            record.setBrokerTopic(result.getTopic());
+            record.setBrokerPartition(result.getPartition());
+            record.setBrokerOffset(result.getOffset());
+            record.setBrokerTimestamp(result.getTimestamp());
+            return true;
+        } catch (TimeoutException e) {
+            if (isActive(generation)) {
+                deferFailure(record, e, true, SimpleKafkaOutboxConstant.ERROR_CODE_SEND_UNKNOWN,
+                        SimpleKafkaOutboxConstant.ERROR_SUMMARY_TIMEOUT, retries);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (isActive(generation)) {
+                deferFailure(record, e, true, SimpleKafkaOutboxConstant.ERROR_CODE_SEND_UNKNOWN,
+                        SimpleKafkaOutboxConstant.ERROR_SUMMARY_INTERRUPTED, retries);
+            }
+        } catch (CancellationException e) {
+            if (isActive(generation)) {
+                deferFailure(record, e, true, SimpleKafkaOutboxConstant.ERROR_CODE_SEND_UNKNOWN,
+                        SimpleKafkaOutboxConstant.ERROR_SUMMARY_CANCELLED, retries);
+            }
+        } catch (ExecutionException e) {
+            if (isActive(generation)) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                String code = errorCode(cause);
+                deferFailure(record, cause, retryPolicy.isRetryable(toRetryContext(record, code), cause),
+                        code, SimpleKafkaOutboxConstant.ERROR_SUMMARY_PUBLISHER_FAILURE, retries);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 流水线失败分流：需进 POISON 的逐条回写，其余计算退避延迟后追加到批量 RETRY_WAIT 回写。
+     */
+    private void deferFailure(OutboxRecordEntity record, Throwable cause, boolean retryable, String errorCode,
+                              String errorSummary, List<OutboxRetryWriteBack> retries) {
+        int attempt = record.getAttempt() == null ? SimpleKafkaOutboxConstant.ZERO : record.getAttempt();
+        if (attempt >= properties.getRetry().getMaxAttempts() || !retryable) {
+            completeFailure(record, cause, retryable, errorCode, errorSummary);
+            return;
+        }
+        try {
+            long delayMs = retryPolicy.nextDelayMs(toRetryContext(record, errorCode));
+            retries.add(new OutboxRetryWriteBack(record, safeMicros(delayMs), errorCode,
+                    KafkaOutboxStringHelper.truncateErrorSummary(errorSummary)));
+        } catch (RuntimeException e) {
+            log.warn("Kafka Outbox 失败状态回写失败，recordId={}, messageId={}, errorCode={}",
+                    record.getId(), record.getMessageId(), ErrorCode.KAFKA_OUTBOX_006);
+        }
+    }
+
+    /**
+     * 批量回写 SENT，逐条按 CAS 结果派发 SENT 或 leaseLost。
+     */
+    private void flushSent(List<OutboxRecordEntity> sent) {
+        if (sent.isEmpty()) {
+            return;
+        }
+        boolean[] updated;
+        try {
+            updated = repository.markSentBatch(sent);
+        } catch (RuntimeException e) {
+            log.warn("Kafka Outbox SENT 批量回写失败，size={}, errorCode={}", sent.size(), ErrorCode.KAFKA_OUTBOX_006);
+            return;
+        }
+        for (int index = SimpleKafkaOutboxConstant.ZERO; index < sent.size(); index++) {
+            OutboxRecordEntity record = sent.get(index);
+            if (index < updated.length && updated[index]) {
+                notifyListener(EventType.SENT, toEvent(record, OutboxStatus.SENT, null));
+            } else {
+                leaseLost(record);
+            }
+        }
+    }
+
+    /**
+     * 批量回写 RETRY_WAIT，逐条按 CAS 结果派发 RETRY 或 leaseLost。
+     */
+    private void flushRetries(List<OutboxRetryWriteBack> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        boolean[] updated;
+        try {
+            updated = repository.markRetryBatch(retries);
+        } catch (RuntimeException e) {
+            log.warn("Kafka Outbox RETRY_WAIT 批量回写失败，size={}, errorCode={}", retries.size(),
+                    ErrorCode.KAFKA_OUTBOX_006);
+            return;
+        }
+        for (int index = SimpleKafkaOutboxConstant.ZERO; index < retries.size(); index++) {
+            OutboxRetryWriteBack writeBack = retries.get(index);
+            if (index < updated.length && updated[index]) {
+                notifyListener(EventType.RETRY,
+                        toEvent(writeBack.getRecord(), OutboxStatus.RETRY_WAIT, writeBack.getErrorCode()));
+            } else {
+                leaseLost(writeBack.getRecord());
             }
-            awaitFuture(record, generation, invocation.getFuture());
-        } finally {
-            slots.release();
+        }
+    }
+
+    /**
+     * 顺序 key：datasourceKey + topic + recordKey，recordKey 为空时返回 null 表示无顺序约束。
+     */
+    private String orderingKey(OutboxRecordEntity record) {
+        if (record.getRecordKey() == null) {
+            return null;
+        }
+        return record.getDatasourceKey() + SimpleKafkaOutboxConstant.ORDERING_KEY_SEPARATOR + record.getTopic()
+                + SimpleKafkaOutboxConstant.ORDERING_KEY_SEPARATOR + record.getRecordKey();
+    }
+
+    /**
+     * 标记顺序 key 阻塞，无顺序约束的记录忽略。
+     */
+    private void block(Set<String> blockedKeys, String key) {
+        if (key != null) {
+            blockedKeys.add(key);
         }
     }
 
@@ -449,13 +804,20 @@ public class DefaultKafkaOutboxWorker implements KafkaOutboxWorker, SmartLifecyc
      * 停机发送前条件释放租约：把记录退回 RETRY_WAIT 等待恢复，CAS 失败转 leaseLost。
      */
     private void releaseBeforeSend(OutboxRecordEntity record) {
+        releaseBeforeSend(record, SimpleKafkaOutboxConstant.ERROR_CODE_SHUTDOWN_RELEASE,
+                SimpleKafkaOutboxConstant.ERROR_SUMMARY_SHUTDOWN_RELEASE);
+    }
+
+    /**
+     * 发送前条件释放租约，携带指定错误码与摘要。
+     */
+    private void releaseBeforeSend(OutboxRecordEntity record, String errorCode, String errorSummary) {
         try {
-            if (!repository.releaseBeforeSend(record, SimpleKafkaOutboxConstant.ERROR_CODE_SHUTDOWN_RELEASE,
-                    SimpleKafkaOutboxConstant.ERROR_SUMMARY_SHUTDOWN_RELEASE)) {
+            if (!repository.releaseBeforeSend(record, errorCode, errorSummary)) {
                 leaseLost(record);
             }
         } catch (RuntimeException e) {
-            log.warn("Kafka Outbox 停机释放失败，recordId={}, messageId={}, errorCode={}",
+            log.warn("Kafka Outbox 发送前释放失败，recordId={}, messageId={}, errorCode={}",
                     record.getId(), record.getMessageId(), ErrorCode.KAFKA_OUTBOX_006);
         }
     }
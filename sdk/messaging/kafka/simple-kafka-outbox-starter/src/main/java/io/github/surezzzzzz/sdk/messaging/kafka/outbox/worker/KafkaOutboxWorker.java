@@ -11,4 +11,10 @@ public interface KafkaOutboxWorker {
      * 触发一次领取扫描
      */
     void scanOnce();
+
+    /**
+     * 通知 Worker 本地事务已提交新记录，默认忽略，由轮询兜底
+     */
+    default void wakeup() {
+    }
 }
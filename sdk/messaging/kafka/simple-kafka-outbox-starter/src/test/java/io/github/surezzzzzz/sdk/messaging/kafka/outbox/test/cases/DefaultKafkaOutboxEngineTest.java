@@ -11,12 +11,15 @@ import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxSaveResult;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.KafkaOutboxRepository;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.serializer.KafkaOutboxMessageSerializer;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.trace.KafkaOutboxTraceSnapshotResolver;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.worker.KafkaOutboxWorker;
 import io.github.surezzzzzz.sdk.messaging.kafka.publisher.model.KafkaPublishMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.jdbc.datasource.ConnectionHolder;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -404,6 +407,42 @@ public class DefaultKafkaOutboxEngineTest {
                 "Listener 上下文应包含 datasourceKey");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSaveWakesUpWorkerOnlyAfterCommit() {
+        KafkaOutboxWorker worker = mock(KafkaOutboxWorker.class);
+        ObjectProvider<KafkaOutboxWorker> workerProvider = mock(ObjectProvider.class);
+        when(workerProvider.getIfAvailable()).thenReturn(worker);
+        engine = new DefaultKafkaOutboxEngine(dataSource, repository, serializer,
+                traceSnapshotResolver, listener, workerProvider);
+        beginTransaction(false, true);
+
+        engine.save(validMessage("mock-payload"));
+        verify(worker, never()).wakeup();
+        TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+
+        InOrder inOrder = inOrder(listener, worker);
+        inOrder.verify(listener).onSaved(any(OutboxEventContext.class));
+        inOrder.verify(worker).wakeup();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWakeupFailureIsIsolatedAfterCommit() {
+        ObjectProvider<KafkaOutboxWorker> workerProvider = mock(ObjectProvider.class);
+        when(workerProvider.getIfAvailable()).thenThrow(new IllegalStateException("mock-worker-failure"));
+        engine = new DefaultKafkaOutboxEngine(dataSource, repository, serializer,
+                traceSnapshotResolver, listener, workerProvider);
+        beginTransaction(false, true);
+
+        engine.save(validMessage("mock-payload"));
+        TransactionSynchronization synchronization =
+                TransactionSynchronizationManager.getSynchronizations().get(0);
+
+        assertDoesNotThrow(synchronization::afterCommit, "Worker 唤醒异常不应逃逸 afterCommit");
+        verify(listener).onSaved(any(OutboxEventContext.class));
+    }
+
     @Test
     public void testListenerFailureIsIsolatedAfterCommit() {
         beginTransaction(false, true);
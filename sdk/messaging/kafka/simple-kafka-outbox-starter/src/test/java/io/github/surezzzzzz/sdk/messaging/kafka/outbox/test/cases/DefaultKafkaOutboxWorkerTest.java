@@ -8,6 +8,7 @@ import io.github.surezzzzzz.sdk.messaging.kafka.outbox.entity.OutboxRecordEntity
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxException;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.listener.KafkaOutboxEventListener;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxEventContext;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryWriteBack;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.KafkaOutboxRepository;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.retry.KafkaOutboxRetryPolicy;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.serializer.KafkaOutboxMessageSerializer;
@@ -1175,6 +1176,211 @@ public class DefaultKafkaOutboxWorkerTest {
                 .build();
     }
 
+    @Test
+    public void shouldPublishBatchInOneTaskAndWriteBackSentInOneBatchWhenPipelineEnabled() {
+        enablePipeline(3, 3);
+        OutboxRecordEntity first = preparePipelineRecord(11L, "key-a");
+        OutboxRecordEntity second = preparePipelineRecord(12L, "key-b");
+        OutboxRecordEntity third = preparePipelineRecord(13L, null);
+        when(repository.claim(3, 1000000L)).thenReturn(Arrays.asList(first, second, third));
+        doAnswer(invocation -> {
+            KafkaPublishMessage<?> message = invocation.getArgument(0);
+            SettableListenableFuture<KafkaPublishResult> future = new SettableListenableFuture<>();
+            future.set(KafkaPublishResult.builder().messageId(message.getMessageId()).topic("mock-topic")
+                    .partition(0).offset(1L).timestamp(2L).build());
+            return future;
+        }).when(publisher).publish(any(KafkaPublishMessage.class));
+        when(repository.markSentBatch(anyList())).thenReturn(new boolean[]{true, true, false});
+
+        scanAndRunSubmittedTask();
+
+        verify(executor, times(1)).execute(any(Runnable.class));
+        verify(publisher, times(3)).publish(any(KafkaPublishMessage.class));
+        verify(repository).markSentBatch(Arrays.asList(first, second, third));
+        verify(repository, never()).markSent(any());
+        verify(listener, times(3)).onClaimed(any(OutboxEventContext.class));
+        verify(listener, times(2)).onSent(any(OutboxEventContext.class));
+        verify(listener).onLeaseLost(any(OutboxEventContext.class));
+    }
+
+    @Test
+    public void shouldReleaseLaterSameKeyRecordWhenEarlierPipelineSendFails() {
+        enablePipeline(3, 2);
+        OutboxRecordEntity first = preparePipelineRecord(21L, "key-a");
+        OutboxRecordEntity other = preparePipelineRecord(22L, "key-b");
+        OutboxRecordEntity second = preparePipelineRecord(23L, "key-a");
+        when(repository.claim(3, 1000000L)).thenReturn(Arrays.asList(first, other, second));
+        KafkaPublishException exception = new KafkaPublishException(
+                io.github.surezzzzzz.sdk.messaging.kafka.publisher.constant.ErrorCode.KAFKA_PUBLISHER_007,
+                "mock temporary failure");
+        doAnswer(invocation -> {
+            KafkaPublishMessage<?> message = invocation.getArgument(0);
+            SettableListenableFuture<KafkaPublishResult> future = new SettableListenableFuture<>();
+            if (first.getMessageId().equals(message.getMessageId())) {
+                future.setException(exception);
+            } else {
+                future.set(KafkaPublishResult.builder().messageId(message.getMessageId()).topic("mock-topic")
+                        .partition(0).offset(1L).timestamp(2L).build());
+            }
+            return future;
+        }).when(publisher).publish(any(KafkaPublishMessage.class));
+        when(retryPolicy.isRetryable(any(), eq(exception))).thenReturn(true);
+        when(retryPolicy.nextDelayMs(any())).thenReturn(25L);
+        when(repository.markSentBatch(anyList())).thenReturn(new boolean[]{true});
+        when(repository.markRetryBatch(anyList())).thenReturn(new boolean[]{true});
+        when(repository.releaseBeforeSend(eq(second), any(), any())).thenReturn(true);
+
+        scanAndRunSubmittedTask();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxRetryWriteBack>> retryCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repository).markRetryBatch(retryCaptor.capture());
+        log.info("同 key 前序失败输出: retry={}, 后序释放 recordId={}", retryCaptor.getValue().size(), second.getId());
+        assertEquals(1, retryCaptor.getValue().size(), "只有前序失败记录应批量进入 RETRY_WAIT");
+        assertSame(first, retryCaptor.getValue().get(0).getRecord());
+        assertEquals(25000L, retryCaptor.getValue().get(0).getDelayMicros());
+        verify(repository).markSentBatch(Collections.singletonList(other));
+        verify(repository).releaseBeforeSend(second, SimpleKafkaOutboxConstant.ERROR_CODE_ORDER_BLOCKED,
+                SimpleKafkaOutboxConstant.ERROR_SUMMARY_ORDER_BLOCKED);
+        verify(serializer, never()).deserialize(second);
+        verify(publisher, times(2)).publish(any(KafkaPublishMessage.class));
+        verify(listener).onRetry(any(OutboxEventContext.class));
+    }
+
+    @Test
+    public void shouldReleaseWholeBatchWhenExecutorRejectsPipelineTask() {
+        enablePipeline(2, 2);
+        OutboxRecordEntity first = preparePipelineRecord(31L, "key-a");
+        OutboxRecordEntity second = preparePipelineRecord(32L, "key-a");
+        when(repository.claim(2, 1000000L)).thenReturn(Arrays.asList(first, second));
+        when(repository.releaseBeforeSend(any(), any(), any())).thenReturn(true);
+        doThrow(new RejectedExecutionException("mock rejection")).when(executor).execute(any(Runnable.class));
+
+        worker.scanOnce();
+
+        verify(repository).releaseBeforeSend(first, SimpleKafkaOutboxConstant.ERROR_CODE_SHUTDOWN_RELEASE,
+                SimpleKafkaOutboxConstant.ERROR_SUMMARY_SHUTDOWN_RELEASE);
+        verify(repository).releaseBeforeSend(second, SimpleKafkaOutboxConstant.ERROR_CODE_SHUTDOWN_RELEASE,
+                SimpleKafkaOutboxConstant.ERROR_SUMMARY_SHUTDOWN_RELEASE);
+        verify(publisher, never()).publish(any(KafkaPublishMessage.class));
+    }
+
+    @Test
+    public void shouldRescheduleWithDebounceAndCancelIdleWaitWhenWokenUp() {
+        worker.wakeup();
+        worker.wakeup();
+
+        verify(scheduler, times(2)).schedule(any(Runnable.class), any(java.util.Date.class));
+        verify(scanFuture).cancel(false);
+    }
+
+    @Test
+    public void shouldIgnoreWakeupWhenDisabledOrStopped() {
+        properties.getWorker().setWakeupEnable(false);
+        worker.wakeup();
+        properties.getWorker().setWakeupEnable(true);
+        worker.stop();
+        worker.wakeup();
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), any(java.util.Date.class));
+        verify(scanFuture, times(1)).cancel(false);
+    }
+
+    @Test
+    public void shouldGrowPollingIntervalWhenEmptyAndShrinkWhenBusy() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<java.util.Date> fireTimes = new ArrayList<>();
+        restartWithRecordedSchedule(tasks, fireTimes, 100L, 400L);
+        OutboxRecordEntity record = prepareSuccessfulPublish();
+        when(repository.claim(1, 1000000L)).thenReturn(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.singletonList(record));
+        when(repository.markSent(record)).thenReturn(true);
+
+        assertNextDelay(tasks, fireTimes, 200L);
+        assertNextDelay(tasks, fireTimes, 400L);
+        assertNextDelay(tasks, fireTimes, 400L);
+        assertNextDelay(tasks, fireTimes, 100L);
+    }
+
+    @Test
+    public void shouldRescanAfterDebounceWhenWokenUpDuringScan() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<java.util.Date> fireTimes = new ArrayList<>();
+        restartWithRecordedSchedule(tasks, fireTimes, 100L, 400L);
+        properties.getWorker().setWakeupDebounceMs(0L);
+        when(repository.claim(1, 1000000L)).thenAnswer(invocation -> {
+            worker.wakeup();
+            return Collections.emptyList();
+        });
+
+        assertNextDelay(tasks, fireTimes, 0L);
+        verify(scanFuture, never()).cancel(false);
+    }
+
+    private void restartWithRecordedSchedule(List<Runnable> tasks, List<java.util.Date> fireTimes,
+                                             long scanIntervalMs, long idleIntervalMs) {
+        worker.stop();
+        properties.getWorker().setScanIntervalMs(scanIntervalMs);
+        properties.getWorker().setIdleIntervalMs(idleIntervalMs);
+        doAnswer(invocation -> {
+            tasks.add(invocation.getArgument(0));
+            fireTimes.add(invocation.getArgument(1));
+            return scanFuture;
+        }).when(scheduler).schedule(any(Runnable.class), any(java.util.Date.class));
+        worker = new DefaultKafkaOutboxWorker(repository, serializer, retryPolicy, listener,
+                traceScope, publisher, properties, executor, scheduler);
+        worker.start();
+        assertEquals(1, tasks.size(), "启动后应只排入一次首轮扫描");
+    }
+
+    private void assertNextDelay(List<Runnable> tasks, List<java.util.Date> fireTimes, long expectedDelayMs) {
+        int scheduled = tasks.size();
+        long before = System.currentTimeMillis();
+        tasks.get(scheduled - 1).run();
+        Runnable submitted = submittedTask.getAndSet(null);
+        if (submitted != null) {
+            submitted.run();
+        }
+        long after = System.currentTimeMillis();
+        assertEquals(scheduled + 1, tasks.size(), "每轮扫描结束后应只重排一次");
+        long fireTime = fireTimes.get(scheduled).getTime();
+        log.info("自适应轮询输出: 期望间隔={}ms, 实际触发时间偏移=[{}, {}]ms",
+                expectedDelayMs, fireTime - after, fireTime - before);
+        assertTrue(fireTime - before >= expectedDelayMs && fireTime - after <= expectedDelayMs,
+                "下一轮扫描间隔应为 " + expectedDelayMs + "ms");
+    }
+
+    private void enablePipeline(int batchSize, int maxInFlight) {
+        worker.stop();
+        properties.getWorker().setBatchSize(batchSize);
+        properties.getPipeline().setEnable(true);
+        properties.getPipeline().setMaxInFlight(maxInFlight);
+        worker = new DefaultKafkaOutboxWorker(repository, serializer, retryPolicy, listener,
+                traceScope, publisher, properties, executor, scheduler);
+        worker.start();
+    }
+
+    private OutboxRecordEntity preparePipelineRecord(long id, String recordKey) {
+        OutboxRecordEntity record = OutboxRecordEntity.builder()
+                .id(id)
+                .messageId("mock-message-id-" + id)
+                .topic("mock-topic")
+                .recordKey(recordKey)
+                .datasourceKey("mock-datasource")
+                .traceId("mock-trace-id")
+                .schemaVersion(1)
+                .status(OutboxStatus.PROCESSING.getCode())
+                .attempt(1)
+                .build();
+        when(serializer.deserialize(record)).thenReturn(KafkaPublishMessage.builder()
+                .messageId(record.getMessageId())
+                .topic(record.getTopic())
+                .key(recordKey)
+                .payload("mock-payload")
+                .build());
+        return record;
+    }
+
     private void awaitPublisherCalls(int expectedCalls) {
         long deadline = System.currentTimeMillis() + 1000L;
         while (System.currentTimeMillis() < deadline) {
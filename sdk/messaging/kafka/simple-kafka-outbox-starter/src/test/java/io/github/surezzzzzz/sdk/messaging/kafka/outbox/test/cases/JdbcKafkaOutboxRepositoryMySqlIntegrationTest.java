@@ -1,10 +1,12 @@
 package io.github.surezzzzzz.sdk.messaging.kafka.outbox.test.cases;
 
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.OutboxClaimMode;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.constant.OutboxStatus;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.entity.OutboxRecordEntity;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxException;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxCleanupBatchResult;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryWriteBack;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.JdbcKafkaOutboxRepository;
 import io.github.surezzzzzz.sdk.messaging.kafka.outbox.test.SimpleKafkaOutboxTestApplication;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,9 +26,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,7 +53,8 @@ import static org.junit.jupiter.api.Assertions.*;
 public class JdbcKafkaOutboxRepositoryMySqlIntegrationTest {
 
     private static final String MODULE_PATH = "sdk/messaging/kafka/simple-kafka-outbox-starter";
-    private static final String DDL_PATH = MODULE_PATH + "/docs/01_schema.sql";
+    private static final String DDL_FILE = "01_schema.sql";
+    private static final String PARTITIONED_DDL_FILE = "02_partitioned_schema.sql";
     private static final String OUTBOX_TABLE = "simple_kafka_outbox";
 
     @Autowired
@@ -62,12 +72,7 @@ public class JdbcKafkaOutboxRepositoryMySqlIntegrationTest {
 
     @BeforeEach
     public void recreateOutboxTable() throws IOException {
-        String ddl = new String(Files.readAllBytes(resolveDdlPath()), StandardCharsets.UTF_8);
-        for (String statement : ddl.split(";")) {
-            if (statement.trim().length() > 0) {
-                jdbcTemplate.execute(statement);
-            }
-        }
+        executeDdl(DDL_FILE);
         repository = new JdbcKafkaOutboxRepository(namedParameterJdbcTemplate, transactionTemplate, OUTBOX_TABLE);
     }
 
@@ -114,6 +119,84 @@ public class JdbcKafkaOutboxRepositoryMySqlIntegrationTest {
         assertEquals(Long.valueOf(1L), longValue(expiredId, "version"), "过期租约重领必须仅增加一次 version");
     }
 
+    @Test
+    public void shouldBatchClaimWithSkipLockedInEligibleTimeOrderUnderSingleOwnerToken() {
+        JdbcKafkaOutboxRepository skipLockedRepository = new JdbcKafkaOutboxRepository(namedParameterJdbcTemplate,
+                transactionTemplate, OUTBOX_TABLE, OutboxClaimMode.SKIP_LOCKED);
+        long pendingId = save("batch-pending");
+        long retryId = save("batch-retry");
+        long expiredId = save("batch-expired");
+        long activeId = save("batch-active");
+        long sentId = save("batch-sent");
+
+        updateState(pendingId, OutboxStatus.PENDING.getCode(), "DATE_SUB(CURRENT_TIMESTAMP(3), INTERVAL 3 SECOND)",
+                null);
+        updateState(retryId, OutboxStatus.RETRY_WAIT.getCode(), "DATE_SUB(CURRENT_TIMESTAMP(3), INTERVAL 5 SECOND)",
+                null);
+        updateState(expiredId, OutboxStatus.PROCESSING.getCode(), "DATE_SUB(CURRENT_TIMESTAMP(3), INTERVAL 4 SECOND)",
+                "expired-owner");
+        updateState(activeId, OutboxStatus.PROCESSING.getCode(), "DATE_ADD(CURRENT_TIMESTAMP(3), INTERVAL 30 SECOND)",
+                "active-owner");
+        updateState(sentId, OutboxStatus.SENT.getCode(), "DATE_SUB(CURRENT_TIMESTAMP(3), INTERVAL 5 SECOND)", null);
+
+        List<OutboxRecordEntity> firstClaim = skipLockedRepository.claim(2, 2_000_000L);
+
+        assertEquals(Arrays.asList(retryId, expiredId), ids(firstClaim),
+                "批量领取必须与逐条领取保持相同的 eligible_at、id 顺序和 candidateLimit");
+        assertClaimed(retryId, firstClaim.get(0));
+        assertEquals(firstClaim.get(0).getOwnerToken(), firstClaim.get(1).getOwnerToken(),
+                "同一批次必须共用一个 owner token");
+        assertEquals(Integer.valueOf(1), firstClaim.get(1).getAttempt(), "过期租约批量重领必须仅增加一次 attempt");
+        assertEquals(Long.valueOf(1L), firstClaim.get(1).getVersion(), "过期租约批量重领必须仅增加一次 version");
+        assertEquals(OutboxStatus.PENDING.getCode(), status(pendingId), "超出 candidateLimit 的记录不得被领取");
+        assertEquals("active-owner", stringValue(activeId, "owner_token"), "未过期 PROCESSING 记录不得被领取");
+        assertEquals(Integer.valueOf(0), integer(sentId, "attempt"), "SENT 终态不得被领取");
+
+        List<OutboxRecordEntity> secondClaim = skipLockedRepository.claim(2, 2_000_000L);
+        assertEquals(Arrays.asList(pendingId), ids(secondClaim), "下一批只能领取剩余的可领取记录");
+        assertTrue(skipLockedRepository.claim(2, 2_000_000L).isEmpty(), "无可领取记录时必须返回空批次");
+
+        secondClaim.get(0).setBrokerTopic("mock-broker-topic");
+        assertTrue(skipLockedRepository.markSent(secondClaim.get(0)), "批量领取的记录必须可以按 owner+version 回写");
+    }
+
+    @Test
+    public void shouldNotClaimSameRowTwiceWhenSkipLockedWorkersCompete() throws Exception {
+        JdbcKafkaOutboxRepository skipLockedRepository = new JdbcKafkaOutboxRepository(namedParameterJdbcTemplate,
+                transactionTemplate, OUTBOX_TABLE, OutboxClaimMode.SKIP_LOCKED);
+        int total = 40;
+        for (int index = 0; index < total; index++) {
+            save("batch-compete-" + index);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int worker = 0; worker < 4; worker++) {
+                futures.add(executor.submit((Callable<List<Long>>) () -> {
+                    List<Long> claimedIds = new ArrayList<>();
+                    List<OutboxRecordEntity> batch;
+                    while (!(batch = skipLockedRepository.claim(3, 10_000_000L)).isEmpty()) {
+                        for (OutboxRecordEntity record : batch) {
+                            claimedIds.add(record.getId());
+                        }
+                    }
+                    return claimedIds;
+                }));
+            }
+            Set<Long> unique = new HashSet<>();
+            int claimedCount = 0;
+            for (Future<List<Long>> future : futures) {
+                List<Long> claimedIds = future.get();
+                claimedCount += claimedIds.size();
+                unique.addAll(claimedIds);
+            }
+            assertEquals(total, claimedCount, "竞争 worker 合计必须恰好领取全部记录");
+            assertEquals(total, unique.size(), "同一记录不得被两个 worker 同时领取");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void shouldApplyTransitionsOnlyForCurrentOwnerAndVersionWithoutMutatingStaleRows() {
         long sentId = save("transition-sent");
@@ -175,6 +258,40 @@ public class JdbcKafkaOutboxRepositoryMySqlIntegrationTest {
         assertEquals("STOP_CODE", stringValue(releaseId, "last_error_code"), "发送前释放必须保留错误码");
     }
 
+    @Test
+    public void shouldApplyBatchWriteBackPerRowWithOwnerAndVersionCas() {
+        long sentId = save("batch-write-sent");
+        long retryId = save("batch-write-retry");
+        long staleId = save("batch-write-stale");
+        List<OutboxRecordEntity> claimed = repository.claim(3, 10_000_000L);
+        assertEquals(3, claimed.size(), "三条待领取记录必须一次领取");
+        OutboxRecordEntity sentRecord = claimed.get(0);
+        OutboxRecordEntity retryRecord = claimed.get(1);
+        OutboxRecordEntity staleRecord = copy(claimed.get(2));
+        staleRecord.setOwnerToken("wrong-owner");
+        sentRecord.setBrokerTopic("mock-broker-topic");
+        sentRecord.setBrokerPartition(1);
+        sentRecord.setBrokerOffset(77L);
+        Map<String, Object> beforeStaleWrite = row(staleId);
+
+        boolean[] sentResults = repository.markSentBatch(Arrays.asList(sentRecord, staleRecord));
+
+        assertArrayEquals(new boolean[]{true, false}, sentResults, "批量 SENT 必须逐行返回 CAS 结果");
+        assertEquals(OutboxStatus.SENT.getCode(), status(sentId), "批量 SENT 当前 owner 必须进入 SENT");
+        assertEquals(Long.valueOf(77L), longValue(sentId, "broker_offset"), "批量 SENT 必须保存 broker offset");
+        assertEquals(beforeStaleWrite, row(staleId), "批量中错误 owner 的行不得被修改");
+
+        boolean[] retryResults = repository.markRetryBatch(Arrays.asList(
+                new OutboxRetryWriteBack(retryRecord, 5_000_000L, "RETRY_CODE", "retry summary"),
+                new OutboxRetryWriteBack(claimed.get(2), 5_000_000L, "RETRY_CODE", "retry summary")));
+
+        assertArrayEquals(new boolean[]{true, true}, retryResults, "批量 RETRY_WAIT 必须逐行返回 CAS 结果");
+        assertEquals(OutboxStatus.RETRY_WAIT.getCode(), status(retryId), "批量重试必须进入 RETRY_WAIT");
+        assertEquals(OutboxStatus.RETRY_WAIT.getCode(), status(staleId), "当前 owner 的批量重试必须进入 RETRY_WAIT");
+        assertEquals("RETRY_CODE", stringValue(retryId, "last_error_code"), "批量重试必须保留错误码");
+        assertEquals(0, repository.markSentBatch(new ArrayList<>()).length, "空批次不得访问数据库");
+    }
+
     @Test
     public void shouldTranslateDuplicateMessageIdAndDeleteOnlyExpiredSentRowsWithKeysetCursor() {
         long originalId = repository.save(record("duplicate-message"));
@@ -215,6 +332,63 @@ public class JdbcKafkaOutboxRepositoryMySqlIntegrationTest {
         assertEquals(Integer.valueOf(1), countByIds(pendingId), "非 SENT 状态即使 sent_at 过期也不得被误删");
     }
 
+    @Test
+    public void shouldPrecreateDailyPartitionsAndDropOnlyFullyExpiredSentPartitions() throws IOException {
+        executeDdl(PARTITIONED_DDL_FILE);
+        jdbcTemplate.execute("ALTER TABLE " + OUTBOX_TABLE + " REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION p20190101 VALUES LESS THAN ('2019-01-02 00:00:00'), "
+                + "PARTITION p20190102 VALUES LESS THAN ('2019-01-03 00:00:00'), "
+                + "PARTITION p_max VALUES LESS THAN (MAXVALUE))");
+        long expiredFirstId = save("partition-expired-first");
+        long expiredSecondId = save("partition-expired-second");
+        long poisonId = save("partition-poison");
+        long blockedSentId = save("partition-blocked-sent");
+        long currentId = save("partition-current");
+        Timestamp sentAt = Timestamp.valueOf("2019-01-03 00:00:00");
+        for (long id : new long[]{expiredFirstId, expiredSecondId}) {
+            setCreatedAt(id, "2019-01-01 08:00:00");
+            setSent(id, sentAt);
+        }
+        setCreatedAt(poisonId, "2019-01-02 08:00:00");
+        jdbcTemplate.update("UPDATE " + OUTBOX_TABLE + " SET status = ? WHERE id = ?",
+                OutboxStatus.POISON.getCode(), poisonId);
+        setCreatedAt(blockedSentId, "2019-01-02 09:00:00");
+        setSent(blockedSentId, sentAt);
+
+        int created = repository.ensureDailyPartitions(2);
+        List<String> afterEnsure = partitionNames();
+
+        assertEquals(3, created, "必须补齐今天及未来两天共三个天分区");
+        assertEquals(0, repository.ensureDailyPartitions(2), "重复补齐不得创建新分区");
+        assertEquals(6, afterEnsure.size(), "两个历史分区、三个新分区与 p_max");
+        assertEquals("p_max", afterEnsure.get(afterEnsure.size() - 1), "p_max 必须保持为最后一个分区");
+        assertEquals(Integer.valueOf(1), countByIds(currentId), "补齐分区不得丢失当前记录");
+
+        long dropped = repository.dropExpiredPartitions(Timestamp.valueOf("2020-01-01 00:00:00"));
+
+        assertEquals(2L, dropped, "只有全部为过期 SENT 的分区被整体删除");
+        assertFalse(partitionNames().contains("p20190101"), "全部过期 SENT 的天分区必须被删除");
+        assertTrue(partitionNames().contains("p20190102"), "含 POISON 记录的天分区必须保留");
+        assertEquals(Integer.valueOf(0), countByIds(expiredFirstId, expiredSecondId), "过期 SENT 记录随分区删除");
+        assertEquals(Integer.valueOf(2), countByIds(poisonId, blockedSentId), "保留分区内的记录不得被删除");
+        assertEquals(Integer.valueOf(1), countByIds(currentId), "当前分区不得被删除");
+
+        OutboxCleanupBatchResult rowCleanup = repository.cleanupBatch(Timestamp.valueOf("2020-01-01 00:00:00"),
+                null, null, 10);
+        assertEquals(1, rowCleanup.getDeletedCount(), "保留分区内的过期 SENT 记录仍由逐行清理删除");
+        assertEquals(Integer.valueOf(1), countByIds(poisonId), "POISON 记录不得被清理");
+    }
+
+    @Test
+    public void shouldSkipPartitionMaintenanceForUnpartitionedTable() {
+        long id = save("unpartitioned");
+
+        assertEquals(0, repository.ensureDailyPartitions(3), "普通表不得执行分区补齐");
+        assertEquals(0L, repository.dropExpiredPartitions(Timestamp.valueOf("2999-01-01 00:00:00")),
+                "普通表不得执行分区删除");
+        assertEquals(Integer.valueOf(1), countByIds(id));
+    }
+
     private long save(String suffix) {
         return repository.save(record("mock-repository-" + suffix));
     }
@@ -317,11 +491,31 @@ public class JdbcKafkaOutboxRepositoryMySqlIntegrationTest {
                 Integer.class, parameters);
     }
 
-    private Path resolveDdlPath() {
-        Path rootPath = Paths.get(System.getProperty("user.dir"), DDL_PATH);
+    private void executeDdl(String fileName) throws IOException {
+        String ddl = new String(Files.readAllBytes(resolveDdlPath(fileName)), StandardCharsets.UTF_8);
+        for (String statement : ddl.split(";")) {
+            if (statement.trim().length() > 0) {
+                jdbcTemplate.execute(statement);
+            }
+        }
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, OUTBOX_TABLE);
+    }
+
+    private void setCreatedAt(long id, String createdAt) {
+        jdbcTemplate.update("UPDATE " + OUTBOX_TABLE + " SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(createdAt), id);
+    }
+
+    private Path resolveDdlPath(String fileName) {
+        Path rootPath = Paths.get(System.getProperty("user.dir"), MODULE_PATH, "docs", fileName);
         if (Files.exists(rootPath)) {
             return rootPath;
         }
-        return Paths.get(System.getProperty("user.dir"), "docs", "01_schema.sql");
+        return Paths.get(System.getProperty("user.dir"), "docs", fileName);
     }
 }
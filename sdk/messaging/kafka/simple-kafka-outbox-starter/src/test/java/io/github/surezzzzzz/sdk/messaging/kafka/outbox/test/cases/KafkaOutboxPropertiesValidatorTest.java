@@ -93,6 +93,15 @@ public class KafkaOutboxPropertiesValidatorTest {
         assertInvalid(properties -> properties.getWorker().setLeaseMs(
                         Long.MAX_VALUE / SimpleKafkaOutboxConstant.MILLIS_TO_MICROS + 1L),
                 SimpleKafkaOutboxConstant.REASON_LEASE_OVERFLOW, "租约微秒转换溢出边界");
+        assertInvalid(properties -> properties.getWorker().setClaimMode(null),
+                SimpleKafkaOutboxConstant.REASON_CLAIM_MODE_INVALID, "null 领取模式");
+        assertInvalid(properties -> properties.getWorker().setClaimMode("nowait"),
+                SimpleKafkaOutboxConstant.REASON_CLAIM_MODE_INVALID, "未知领取模式");
+        assertInvalid(properties -> properties.getWorker().setWakeupDebounceMs(-1L),
+                SimpleKafkaOutboxConstant.REASON_WAKEUP_DEBOUNCE_INVALID, "唤醒防抖负值");
+        SimpleKafkaOutboxProperties skipLocked = new SimpleKafkaOutboxProperties();
+        skipLocked.getWorker().setClaimMode("SKIP-LOCKED");
+        assertDoesNotThrow(() -> validator.validate(skipLocked), "领取模式代码应忽略大小写");
     }
 
     @Test
@@ -110,6 +119,18 @@ public class KafkaOutboxPropertiesValidatorTest {
                 SimpleKafkaOutboxConstant.REASON_SHUTDOWN_TIMEOUT_INVALID, "停机等待超过租约");
     }
 
+    @Test
+    public void testPipelineBoundaries() {
+        assertInvalid(properties -> properties.setPipeline(null),
+                SimpleKafkaOutboxConstant.REASON_PIPELINE_CONFIG_INVALID, "null Pipeline 配置");
+        assertInvalid(properties -> properties.getPipeline().setMaxInFlight(0),
+                SimpleKafkaOutboxConstant.REASON_PIPELINE_CONFIG_INVALID, "流水线窗口零值");
+        SimpleKafkaOutboxProperties pipeline = new SimpleKafkaOutboxProperties();
+        pipeline.getPipeline().setEnable(true);
+        pipeline.getPipeline().setMaxInFlight(1);
+        assertDoesNotThrow(() -> validator.validate(pipeline), "流水线窗口下界 1 应合法");
+    }
+
     @Test
     public void testRetryBoundaries() {
         assertInvalid(properties -> properties.setRetry(null),
@@ -155,6 +176,29 @@ public class KafkaOutboxPropertiesValidatorTest {
                 SimpleKafkaOutboxConstant.REASON_CLEANUP_CONFIG_INVALID, "清理间隔零值");
     }
 
+    @Test
+    public void testPartitionAndShardBoundaries() {
+        assertInvalid(properties -> properties.setPartition(null),
+                SimpleKafkaOutboxConstant.REASON_PARTITION_CONFIG_INVALID, "null Partition 配置");
+        assertInvalid(properties -> properties.getPartition().setPrecreateDays(0),
+                SimpleKafkaOutboxConstant.REASON_PARTITION_CONFIG_INVALID, "预建天数零值");
+        assertInvalid(properties -> properties.setShard(null),
+                SimpleKafkaOutboxConstant.REASON_SHARD_CONFIG_INVALID, "null Shard 配置");
+        assertInvalid(properties -> properties.getShard().setCount(0),
+                SimpleKafkaOutboxConstant.REASON_SHARD_CONFIG_INVALID, "分片数量零值");
+        assertInvalid(properties -> {
+            properties.setTableName(repeat('a', SimpleKafkaOutboxConstant.MAX_TABLE_NAME_LENGTH - 1));
+            properties.getShard().setCount(2);
+        }, SimpleKafkaOutboxConstant.REASON_SHARD_CONFIG_INVALID, "分片表名超长");
+
+        SimpleKafkaOutboxProperties inclusive = new SimpleKafkaOutboxProperties();
+        inclusive.setTableName(repeat('a', SimpleKafkaOutboxConstant.MAX_TABLE_NAME_LENGTH - 2));
+        inclusive.getShard().setCount(10);
+        inclusive.getPartition().setPrecreateDays(1);
+        log.info("分片表名等于上界的合法配置: {}", inclusive);
+        assertDoesNotThrow(() -> validator.validate(inclusive), "分片表名恰好 64 字符时应通过校验");
+    }
+
     private void assertInvalid(Consumer<SimpleKafkaOutboxProperties> mutation, String reason, String scenario) {
         SimpleKafkaOutboxProperties properties = mutation == null ? null : new SimpleKafkaOutboxProperties();
         if (mutation != null) {
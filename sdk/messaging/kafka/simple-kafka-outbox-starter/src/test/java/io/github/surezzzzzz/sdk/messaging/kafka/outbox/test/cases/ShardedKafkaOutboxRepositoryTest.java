@@ -0,0 +1,304 @@
+package io.github.surezzzzzz.sdk.messaging.kafka.outbox.test.cases;
+
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.entity.OutboxRecordEntity;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.exception.KafkaOutboxConfigurationException;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxCleanupBatchResult;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.model.OutboxRetryWriteBack;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.KafkaOutboxRepository;
+import io.github.surezzzzzz.sdk.messaging.kafka.outbox.repository.ShardedKafkaOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 按 record key 哈希分表 Repository 测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+public class ShardedKafkaOutboxRepositoryTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    private final List<KafkaOutboxRepository> shards = new ArrayList<>();
+    private ShardedKafkaOutboxRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        shards.clear();
+        for (int index = 0; index < SHARD_COUNT; index++) {
+            shards.add(mock(KafkaOutboxRepository.class));
+        }
+        repository = new ShardedKafkaOutboxRepository(shards);
+    }
+
+    @Test
+    public void testSameRecordKeyAlwaysRoutesToSameShard() {
+        OutboxRecordEntity first = record("order-1", "message-1");
+        OutboxRecordEntity second = record("order-1", "message-2");
+        KafkaOutboxRepository owner = shards.get(Math.floorMod("order-1".hashCode(), SHARD_COUNT));
+        when(owner.save(any())).thenReturn(1L, 2L);
+        when(owner.markSent(any())).thenReturn(true);
+
+        assertEquals(Long.valueOf(1L), repository.save(first));
+        assertEquals(Long.valueOf(2L), repository.save(second));
+        assertTrue(repository.markSent(second));
+
+        verify(owner).save(first);
+        verify(owner).save(second);
+        verify(owner).markSent(second);
+        for (KafkaOutboxRepository shard : shards) {
+            if (shard != owner) {
+                verifyNoInteractions(shard);
+            }
+        }
+    }
+
+    @Test
+    public void testNullRecordKeyRoutesByMessageId() {
+        OutboxRecordEntity record = record(null, "message-without-key");
+        KafkaOutboxRepository owner = shards.get(Math.floorMod("message-without-key".hashCode(), SHARD_COUNT));
+        when(owner.markPoison(any(), anyString(), anyString())).thenReturn(true);
+
+        assertTrue(repository.markPoison(record, "CODE", "summary"));
+        verify(owner).markPoison(record, "CODE", "summary");
+    }
+
+    @Test
+    public void testClaimRotatesAcrossShardsAndStopsAtLimit() {
+        for (int index = 0; index < SHARD_COUNT; index++) {
+            int shardIndex = index;
+            when(shards.get(index).claim(anyInt(), anyLong())).thenAnswer(invocation -> {
+                int limit = invocation.getArgument(0);
+                List<OutboxRecordEntity> claimed = new ArrayList<>();
+                for (int count = 0; count < Math.min(limit, 2); count++) {
+                    claimed.add(record("key-" + shardIndex, "shard-" + shardIndex + "-" + count));
+                }
+                return claimed;
+            });
+        }
+        Set<String> firstMessages = new HashSet<>();
+        for (int round = 0; round < SHARD_COUNT; round++) {
+            List<OutboxRecordEntity> claimed = repository.claim(3, 1000L);
+            log.info("第 {} 轮领取: {}", round, claimed.size());
+            assertEquals(3, claimed.size(), "首个分片不足时应由下一个分片补足剩余额度");
+            firstMessages.add(claimed.get(0).getMessageId());
+        }
+
+        assertEquals(SHARD_COUNT, firstMessages.size(), "连续领取的起始分片应轮转覆盖全部分片");
+        for (KafkaOutboxRepository shard : shards) {
+            verify(shard).claim(3, 1000L);
+            verify(shard).claim(1, 1000L);
+        }
+    }
+
+    @Test
+    public void testClaimSkipsEmptyShardsWithRemainingLimit() {
+        when(shards.get(0).claim(anyInt(), anyLong())).thenReturn(Collections.emptyList());
+        when(shards.get(1).claim(anyInt(), anyLong())).thenReturn(Collections.emptyList());
+        when(shards.get(2).claim(anyInt(), anyLong())).thenReturn(Collections.emptyList());
+
+        assertTrue(repository.claim(5, 1000L).isEmpty());
+        for (KafkaOutboxRepository shard : shards) {
+            verify(shard).claim(5, 1000L);
+        }
+    }
+
+    @Test
+    public void testBatchWriteBackGroupsByShardAndRestoresInputOrder() {
+        List<OutboxRecordEntity> records = new ArrayList<>();
+        for (int index = 0; index < 6; index++) {
+            records.add(record("batch-key-" + index, "batch-message-" + index));
+        }
+        for (KafkaOutboxRepository shard : shards) {
+            when(shard.markSentBatch(anyList())).thenAnswer(invocation -> {
+                List<OutboxRecordEntity> group = invocation.getArgument(0);
+                boolean[] results = new boolean[group.size()];
+                for (int index = 0; index < group.size(); index++) {
+                    results[index] = group.get(index).getMessageId().endsWith("0")
+                            || group.get(index).getMessageId().endsWith("3");
+                }
+                return results;
+            });
+            when(shard.markRetryBatch(anyList())).thenAnswer(invocation -> {
+                List<OutboxRetryWriteBack> group = invocation.getArgument(0);
+                boolean[] results = new boolean[group.size()];
+                Arrays.fill(results, true);
+                return results;
+            });
+        }
+
+        boolean[] sentResults = repository.markSentBatch(records);
+        boolean[] retryResults = repository.markRetryBatch(Arrays.asList(
+                new OutboxRetryWriteBack(records.get(1), 1L, "CODE", "summary"),
+                new OutboxRetryWriteBack(records.get(4), 1L, "CODE", "summary")));
+
+        assertArrayEquals(new boolean[]{true, false, false, true, false, false}, sentResults,
+                "分组回写结果必须按入参顺序还原");
+        assertArrayEquals(new boolean[]{true, true}, retryResults);
+        for (int index = 0; index < SHARD_COUNT; index++) {
+            int shardIndex = index;
+            List<OutboxRecordEntity> expected = new ArrayList<>();
+            for (OutboxRecordEntity record : records) {
+                if (Math.floorMod(record.getRecordKey().hashCode(), SHARD_COUNT) == shardIndex) {
+                    expected.add(record);
+                }
+            }
+            if (!expected.isEmpty()) {
+                verify(shards.get(shardIndex)).markSentBatch(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testClaimedRecordWritesBackToSourceShard() {
+        int ownerIndex = Math.floorMod("claimed-key".hashCode(), SHARD_COUNT);
+        int sourceIndex = (ownerIndex + 1) % SHARD_COUNT;
+        OutboxRecordEntity claimedRecord = record("claimed-key", "claimed-message");
+        for (int index = 0; index < SHARD_COUNT; index++) {
+            when(shards.get(index).claim(anyInt(), anyLong())).thenReturn(index == sourceIndex
+                    ? Collections.singletonList(claimedRecord) : Collections.emptyList());
+        }
+        when(shards.get(sourceIndex).markSent(claimedRecord)).thenReturn(true);
+        when(shards.get(sourceIndex).markSentBatch(anyList())).thenReturn(new boolean[]{true});
+
+        List<OutboxRecordEntity> claimed = repository.claim(5, 1000L);
+
+        assertEquals(Collections.singletonList(claimedRecord), claimed);
+        assertEquals(Integer.valueOf(sourceIndex), claimedRecord.getShardIndex());
+        assertTrue(repository.markSent(claimedRecord), "已领取记录必须回写到来源分片，而不是按哈希重新路由");
+        assertArrayEquals(new boolean[]{true}, repository.markSentBatch(claimed));
+        verify(shards.get(sourceIndex)).markSentBatch(claimed);
+        verify(shards.get(ownerIndex), never()).markSent(any());
+    }
+
+    @Test
+    public void testVerifyRoutingPassesWhenUnsentRecordsMatchShards() {
+        KafkaOutboxRepository overflowShard = mock(KafkaOutboxRepository.class);
+        for (int index = 0; index < SHARD_COUNT; index++) {
+            List<OutboxRecordEntity> sample = new ArrayList<>();
+            for (int keyIndex = 0; sample.size() < 2; keyIndex++) {
+                String key = "verify-key-" + keyIndex;
+                if (Math.floorMod(key.hashCode(), SHARD_COUNT) == index) {
+                    sample.add(record(key, "verify-message-" + keyIndex));
+                }
+            }
+            when(shards.get(index).sampleUnsent(100)).thenReturn(sample);
+        }
+        when(overflowShard.sampleUnsent(100)).thenReturn(Collections.emptyList());
+
+        assertDoesNotThrow(() -> repository.verifyRouting(overflowShard, 100));
+        verify(overflowShard).sampleUnsent(100);
+    }
+
+    @Test
+    public void testVerifyRoutingRejectsRecordsRoutedByOtherShardCount() {
+        int ownerIndex = Math.floorMod("moved-key".hashCode(), SHARD_COUNT);
+        int staleIndex = (ownerIndex + 1) % SHARD_COUNT;
+        when(shards.get(staleIndex).sampleUnsent(anyInt()))
+                .thenReturn(Collections.singletonList(record("moved-key", "moved-message")));
+
+        KafkaOutboxConfigurationException exception = assertThrows(KafkaOutboxConfigurationException.class,
+                () -> repository.verifyRouting(null, 100));
+        log.info("分片数变更校验：{}", exception.getMessage());
+        assertTrue(exception.getMessage().contains("分片 " + staleIndex));
+    }
+
+    @Test
+    public void testVerifyRoutingRejectsUnsentRecordsInOverflowShard() {
+        KafkaOutboxRepository overflowShard = mock(KafkaOutboxRepository.class);
+        when(overflowShard.sampleUnsent(anyInt()))
+                .thenReturn(Collections.singletonList(record(null, "left-behind")));
+
+        KafkaOutboxConfigurationException exception = assertThrows(KafkaOutboxConfigurationException.class,
+                () -> repository.verifyRouting(overflowShard, 100));
+        assertTrue(exception.getMessage().contains("分片 " + SHARD_COUNT), "缩小分片数后原有分片表仍有未发送记录必须拒绝启动");
+    }
+
+    @Test
+    public void testPartitionMaintenanceAggregatesShards() {
+        for (KafkaOutboxRepository shard : shards) {
+            when(shard.ensureDailyPartitions(2)).thenReturn(3);
+            when(shard.dropExpiredPartitions(any())).thenReturn(10L);
+        }
+
+        assertEquals(9, repository.ensureDailyPartitions(2));
+        assertEquals(30L, repository.dropExpiredPartitions(null));
+        assertEquals(shards, repository.getShards());
+        assertEquals("simple_kafka_outbox_2", ShardedKafkaOutboxRepository.shardTableName("simple_kafka_outbox", 2));
+    }
+
+    @Test
+    public void testCleanupBatchAggregatesShardsAndKeepsSlowestFullCursor() {
+        Timestamp expireBefore = Timestamp.valueOf("2026-01-01 00:00:00");
+        when(shards.get(0).cleanupBatch(expireBefore, null, null, 2)).thenReturn(
+                new OutboxCleanupBatchResult(2, Timestamp.valueOf("2025-12-01 00:00:00"), 20L, 2));
+        when(shards.get(1).cleanupBatch(expireBefore, null, null, 2)).thenReturn(
+                new OutboxCleanupBatchResult(2, Timestamp.valueOf("2025-11-01 00:00:00"), 10L, 2));
+        when(shards.get(2).cleanupBatch(expireBefore, null, null, 2)).thenReturn(
+                new OutboxCleanupBatchResult(1, Timestamp.valueOf("2025-12-20 00:00:00"), 5L, 1));
+
+        OutboxCleanupBatchResult result = repository.cleanupBatch(expireBefore, null, null, 2);
+        log.info("分片汇总清理：deleted={}，candidates={}，cursor=({}, {})", result.getDeletedCount(),
+                result.getCandidateCount(), result.getLastSentAt(), result.getLastId());
+
+        assertEquals(5, result.getDeletedCount());
+        assertEquals(5, result.getCandidateCount());
+        assertEquals(Timestamp.valueOf("2025-11-01 00:00:00"), result.getLastSentAt(),
+                "游标必须停在填满批次的分片中最慢的位置，避免跳过其后续记录");
+        assertEquals(Long.valueOf(10L), result.getLastId());
+    }
+
+    @Test
+    public void testCleanupBatchAdvancesToFurthestCursorWhenNoShardIsFull() {
+        Timestamp expireBefore = Timestamp.valueOf("2026-01-01 00:00:00");
+        Timestamp cursor = Timestamp.valueOf("2025-10-01 00:00:00");
+        when(shards.get(0).cleanupBatch(expireBefore, cursor, 1L, 5)).thenReturn(
+                new OutboxCleanupBatchResult(1, Timestamp.valueOf("2025-10-02 00:00:00"), 3L, 1));
+        when(shards.get(1).cleanupBatch(expireBefore, cursor, 1L, 5)).thenReturn(
+                new OutboxCleanupBatchResult(0, cursor, 1L, 0));
+        when(shards.get(2).cleanupBatch(expireBefore, cursor, 1L, 5)).thenReturn(
+                new OutboxCleanupBatchResult(2, Timestamp.valueOf("2025-10-05 00:00:00"), 2L, 2));
+
+        OutboxCleanupBatchResult result = repository.cleanupBatch(expireBefore, cursor, 1L, 5);
+
+        assertEquals(3, result.getDeletedCount());
+        assertEquals(Timestamp.valueOf("2025-10-05 00:00:00"), result.getLastSentAt());
+        assertEquals(Long.valueOf(2L), result.getLastId());
+    }
+
+    @Test
+    public void testCleanupBatchReturnsInputCursorWhenAllShardsEmpty() {
+        for (KafkaOutboxRepository shard : shards) {
+            when(shard.cleanupBatch(any(), any(), any(), anyInt())).thenReturn(
+                    new OutboxCleanupBatchResult(0, null, null, 0));
+        }
+
+        OutboxCleanupBatchResult result = repository.cleanupBatch(Timestamp.valueOf("2026-01-01 00:00:00"),
+                null, null, 5);
+
+        assertEquals(0, result.getCandidateCount());
+        assertNull(result.getLastSentAt());
+        assertNull(result.getLastId());
+    }
+
+    private OutboxRecordEntity record(String recordKey, String messageId) {
+        return OutboxRecordEntity.builder()
+                .recordKey(recordKey)
+                .messageId(messageId)
+                .topic("mock.shard.topic")
+                .build();
+    }
+}
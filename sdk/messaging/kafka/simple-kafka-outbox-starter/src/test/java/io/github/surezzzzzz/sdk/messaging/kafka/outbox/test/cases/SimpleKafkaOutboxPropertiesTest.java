@@ -47,11 +47,23 @@ public class SimpleKafkaOutboxPropertiesTest {
                 "默认租约时长应与常量一致");
         assertEquals(SimpleKafkaOutboxConstant.DEFAULT_SHUTDOWN_AWAIT_MS, worker.getShutdownAwaitMs(),
                 "默认停机等待时长应与常量一致");
+        assertEquals(SimpleKafkaOutboxConstant.DEFAULT_CLAIM_MODE, worker.getClaimMode(),
+                "默认领取模式应与常量一致");
+        assertEquals(SimpleKafkaOutboxConstant.DEFAULT_WAKEUP_ENABLE, worker.isWakeupEnable(),
+                "默认提交唤醒开关应与常量一致");
+        assertEquals(SimpleKafkaOutboxConstant.DEFAULT_WAKEUP_DEBOUNCE_MS, worker.getWakeupDebounceMs(),
+                "默认唤醒防抖时长应与常量一致");
 
         log.info("Send 默认配置: {}", properties.getSend());
         assertEquals(SimpleKafkaOutboxConstant.DEFAULT_SEND_TIMEOUT_MS, properties.getSend().getTimeoutMs(),
                 "默认发送超时应与常量一致");
 
+        log.info("Pipeline 默认配置: {}", properties.getPipeline());
+        assertEquals(SimpleKafkaOutboxConstant.DEFAULT_PIPELINE_ENABLE, properties.getPipeline().isEnable(),
+                "默认流水线开关应与常量一致");
+        assertEquals(SimpleKafkaOutboxConstant.DEFAULT_PIPELINE_MAX_IN_FLIGHT, properties.getPipeline().getMaxInFlight(),
+                "默认流水线窗口应与常量一致");
+
         SimpleKafkaOutboxProperties.RetryConfig retry = properties.getRetry();
         log.info("Retry 默认配置: {}", retry);
         assertEquals(SimpleKafkaOutboxConstant.DEFAULT_MAX_ATTEMPTS, retry.getMaxAttempts(),
@@ -74,6 +86,13 @@ public class SimpleKafkaOutboxPropertiesTest {
                 "默认清理批量大小应与常量一致");
         assertEquals(SimpleKafkaOutboxConstant.DEFAULT_CLEANUP_INTERVAL_MS, cleanup.getIntervalMs(),
                 "默认清理间隔应与常量一致");
+
+        log.info("Partition 默认配置: {}, Shard 默认配置: {}", properties.getPartition(), properties.getShard());
+        assertFalse(properties.getPartition().isEnable(), "默认不应启用按天分区维护");
+        assertEquals(SimpleKafkaOutboxConstant.DEFAULT_PARTITION_PRECREATE_DAYS,
+                properties.getPartition().getPrecreateDays(), "默认预建天数应与常量一致");
+        assertEquals(SimpleKafkaOutboxConstant.DEFAULT_SHARD_COUNT, properties.getShard().getCount(),
+                "默认分片数量应与常量一致");
         assertFalse(properties.isEnable(), "SDK 默认总开关应保持关闭");
     }
 }
@@ -234,6 +234,10 @@ public class SmartRedisRetryAutoConfiguration {
         if (properties.getRedis().getScanCount() <= SmartRedisRetryConstant.ARRAY_INITIAL_INDEX) {
             throw new RetryValidationException(ErrorCode.SCAN_COUNT_INVALID, ErrorMessage.SCAN_COUNT_INVALID);
         }
+        if (properties.getRedis().getDueClaimMillis() <= SmartRedisRetryConstant.LONG_ZERO) {
+            throw new RetryValidationException(ErrorCode.DUE_CLAIM_MILLIS_INVALID,
+                    ErrorMessage.DUE_CLAIM_MILLIS_INVALID);
+        }
         if (properties.getGuard().getMaxRetryKeyLength() <= SmartRedisRetryConstant.ARRAY_INITIAL_INDEX) {
             throw new RetryValidationException(ErrorCode.MAX_RETRY_KEY_LENGTH_INVALID,
                     ErrorMessage.MAX_RETRY_KEY_LENGTH_INVALID);
@@ -63,6 +63,14 @@ public class SmartRedisRetryProperties {
          * 重试耗尽后是否保留记录
          */
         private boolean retainExhausted = SmartRedisRetryConstant.DEFAULT_RETAIN_EXHAUSTED;
+        /**
+         * 是否维护按下次重试时间排序的到期索引
+         */
+        private boolean useDueIndex = SmartRedisRetryConstant.DEFAULT_USE_DUE_INDEX;
+        /**
+         * pollDue 认领记录的时长，单位毫秒；期间未清理或再次记录失败的记录会重新到期
+         */
+        private long dueClaimMillis = SmartRedisRetryConstant.DEFAULT_DUE_CLAIM_MILLIS;
     }
 
     /**
@@ -87,6 +87,18 @@ public final class ErrorCode {
      * 上下文最大长度配置非法
      */
     public static final String MAX_CONTEXT_JSON_LENGTH_INVALID = "SMART_REDIS_RETRY_020";
+    /**
+     * 到期拉取数量非法
+     */
+    public static final String POLL_LIMIT_INVALID = "SMART_REDIS_RETRY_021";
+    /**
+     * 到期索引认领时长配置非法
+     */
+    public static final String DUE_CLAIM_MILLIS_INVALID = "SMART_REDIS_RETRY_022";
+    /**
+     * 到期索引未启用
+     */
+    public static final String DUE_INDEX_DISABLED = "SMART_REDIS_RETRY_023";
 
     /**
      * 禁止实例化错误码常量类
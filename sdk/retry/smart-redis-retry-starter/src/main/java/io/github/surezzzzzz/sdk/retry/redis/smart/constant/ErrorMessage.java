@@ -87,6 +87,18 @@ public final class ErrorMessage {
      * 上下文最大长度配置非法
      */
     public static final String MAX_CONTEXT_JSON_LENGTH_INVALID = "maxContextJsonLength 必须大于 0";
+    /**
+     * 到期拉取数量非法
+     */
+    public static final String POLL_LIMIT_INVALID = "limit 必须大于 0 且不能超过 scanCount";
+    /**
+     * 到期索引认领时长配置非法
+     */
+    public static final String DUE_CLAIM_MILLIS_INVALID = "dueClaimMillis 必须大于 0";
+    /**
+     * 到期索引未启用
+     */
+    public static final String DUE_INDEX_DISABLED = "到期索引未启用，请开启 useDueIndex 后再调用 pollDue";
 
     /**
      * 禁止实例化错误消息常量类
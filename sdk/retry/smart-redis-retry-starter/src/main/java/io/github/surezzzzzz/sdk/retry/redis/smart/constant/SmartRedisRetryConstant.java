@@ -53,6 +53,14 @@ public final class SmartRedisRetryConstant {
      * 默认保留耗尽记录
      */
     public static final boolean DEFAULT_RETAIN_EXHAUSTED = true;
+    /**
+     * 默认维护按到期时间排序的索引
+     */
+    public static final boolean DEFAULT_USE_DUE_INDEX = true;
+    /**
+     * 默认到期索引认领时长，单位毫秒
+     */
+    public static final long DEFAULT_DUE_CLAIM_MILLIS = 60000L;
     /**
      * 默认重试标识最大长度
      */
@@ -187,6 +195,10 @@ public final class SmartRedisRetryConstant {
      * Redis Key 扫描模式模板
      */
     public static final String SCAN_PATTERN_TEMPLATE = "%s:%s:%s:%s::*";
+    /**
+     * 到期索引 Key 模板；以单冒号结尾，不会被记录扫描模式匹配
+     */
+    public static final String DUE_INDEX_KEY_TEMPLATE = "%s:%s:%s:%s:due";
     /**
      * 初始扫描游标
      */
@@ -227,6 +239,10 @@ public final class SmartRedisRetryConstant {
      * 清理重试记录 Lua 脚本路径
      */
     public static final String CLEAR_RETRY_SCRIPT_PATH = "scripts/smart_redis_retry_clear.lua";
+    /**
+     * 认领到期重试记录 Lua 脚本路径
+     */
+    public static final String POLL_DUE_SCRIPT_PATH = "scripts/smart_redis_retry_poll_due.lua";
 
     /**
      * Redis Hash 中的失败次数字段
@@ -5,6 +5,7 @@ import io.github.surezzzzzz.sdk.retry.redis.smart.clock.RetryClock;
 import io.github.surezzzzzz.sdk.retry.redis.smart.configuration.SmartRedisRetryProperties;
 import io.github.surezzzzzz.sdk.retry.redis.smart.constant.*;
 import io.github.surezzzzzz.sdk.retry.redis.smart.exception.RetryOperationException;
+import io.github.surezzzzzz.sdk.retry.redis.smart.exception.RetryValidationException;
 import io.github.surezzzzzz.sdk.retry.redis.smart.facade.DefaultRetryScene;
 import io.github.surezzzzzz.sdk.retry.redis.smart.facade.RetryScene;
 import io.github.surezzzzzz.sdk.retry.redis.smart.listener.SmartRedisRetryListener;
@@ -147,8 +148,9 @@ public class DefaultSmartRedisRetryEngine implements SmartRedisRetryEngine {
             String redisKey = retryKeyHelper.buildRedisKey(failure.getRetryType(), failure.getRetryKey());
             long nowMillis = retryClock.currentTimeMillis();
             long ttlMillis = toTtlMillis(properties.getRedis().getRecordTtlSeconds());
+            String dueIndexKey = dueIndexKey(failure.getRetryType());
             RetryInfo retryInfo = redisRouteTemplate.execute(redisKey, template ->
-                    scriptExecutor.recordFailure(template, redisKey, failure, policy, nowMillis, ttlMillis));
+                    scriptExecutor.recordFailure(template, redisKey, dueIndexKey, failure, policy, nowMillis, ttlMillis));
             safeOnRecord(failure, retryInfo);
             if (isFirstExhausted(retryInfo)) {
                 safeOnExhausted(failure.getRetryType(), failure.getRetryKey(), retryInfo);
@@ -174,8 +176,9 @@ public class DefaultSmartRedisRetryEngine implements SmartRedisRetryEngine {
         validatorChain.validate(failure);
         try {
             String redisKey = retryKeyHelper.buildRedisKey(retryType, retryKey);
+            String dueIndexKey = dueIndexKey(retryType);
             RetryInfo cleared = redisRouteTemplate.execute(redisKey,
-                    template -> scriptExecutor.clear(template, redisKey, null));
+                    template -> scriptExecutor.clear(template, redisKey, dueIndexKey, retryKey, null));
             if (cleared != null) {
                 safeOnClear(retryType, retryKey, cleared);
             }
@@ -255,6 +258,53 @@ public class DefaultSmartRedisRetryEngine implements SmartRedisRetryEngine {
         }
     }
 
+    /**
+     * 从到期索引中认领已到期的重试记录。
+     * <p>索引只是加速结构，记录本身才是事实来源：认领到的成员若记录已过期或已耗尽会从索引中剔除，
+     * 若记录尚未到期（Cluster 下索引与记录分开写入时可能出现）则跳过，认领到期后重新判定。</p>
+     *
+     * @param retryType 重试类型
+     * @param limit     最多认领数量
+     * @return 已认领的重试记录
+     */
+    @Override
+    public RetryPollResult pollDue(String retryType, int limit) {
+        validatePollDue(retryType, limit);
+        try {
+            String dueIndexKey = retryKeyHelper.buildDueIndexKey(retryType);
+            long nowMillis = retryClock.currentTimeMillis();
+            long claimUntilMillis = Math.addExact(nowMillis, properties.getRedis().getDueClaimMillis());
+            List<String> claimed = redisRouteTemplate.execute(dueIndexKey, template ->
+                    scriptExecutor.pollDue(template, dueIndexKey, nowMillis, claimUntilMillis, limit));
+            List<String> retryKeys = new ArrayList<String>(claimed.size());
+            Map<String, RetryInfo> infos = new LinkedHashMap<String, RetryInfo>();
+            for (String retryKey : claimed) {
+                String redisKey = retryKeyHelper.buildRedisKey(retryType, retryKey);
+                RetryInfo retryInfo = redisRouteTemplate.execute(redisKey, template -> readInfo(template, redisKey));
+                RetryDecision decision = buildDecision(retryInfo, nowMillis);
+                if (retryInfo == null || RetryDecisionType.EXHAUSTED == decision.getType()) {
+                    redisRouteTemplate.execute(dueIndexKey, template -> {
+                        scriptExecutor.removeDue(template, dueIndexKey, retryKey);
+                        return null;
+                    });
+                    continue;
+                }
+                if (decision.isAllowed()) {
+                    retryKeys.add(retryKey);
+                    infos.put(retryKey, retryInfo);
+                }
+            }
+            return RetryPollResult.builder().retryKeys(retryKeys).infos(infos).build();
+        } catch (RuntimeException e) {
+            log.warn("Smart Redis Retry pollDue 失败，retryType={}，limit={}", retryType, limit, e);
+            handleRedisFailure(e);
+            return RetryPollResult.builder()
+                    .retryKeys(Collections.<String>emptyList())
+                    .infos(Collections.<String, RetryInfo>emptyMap())
+                    .build();
+        }
+    }
+
     /**
      * 创建指定重试类型的场景门面。
      *
@@ -266,6 +316,22 @@ public class DefaultSmartRedisRetryEngine implements SmartRedisRetryEngine {
         return new DefaultRetryScene(retryType, this);
     }
 
+    private String dueIndexKey(String retryType) {
+        return properties.getRedis().isUseDueIndex() ? retryKeyHelper.buildDueIndexKey(retryType) : null;
+    }
+
+    private void validatePollDue(String retryType, int limit) {
+        if (!properties.getRedis().isUseDueIndex()) {
+            throw new RetryValidationException(ErrorCode.DUE_INDEX_DISABLED, ErrorMessage.DUE_INDEX_DISABLED);
+        }
+        if (retryType == null || retryType.trim().isEmpty()) {
+            throw new RetryValidationException(ErrorCode.RETRY_TYPE_EMPTY, ErrorMessage.RETRY_TYPE_EMPTY);
+        }
+        if (limit <= SmartRedisRetryConstant.ARRAY_INITIAL_INDEX || limit > properties.getRedis().getScanCount()) {
+            throw new RetryValidationException(ErrorCode.POLL_LIMIT_INVALID, ErrorMessage.POLL_LIMIT_INVALID);
+        }
+    }
+
     private RetryInfo readInfo(StringRedisTemplate template, String redisKey) {
         Map<Object, Object> hash = template.opsForHash().entries(redisKey);
         if (hash == null || hash.isEmpty()) {
@@ -455,8 +521,9 @@ public class DefaultSmartRedisRetryEngine implements SmartRedisRetryEngine {
         }
         try {
             String redisKey = retryKeyHelper.buildRedisKey(retryType, retryKey);
+            String dueIndexKey = dueIndexKey(retryType);
             redisRouteTemplate.execute(redisKey,
-                    template -> scriptExecutor.clear(template, redisKey, retryInfo.getCount()));
+                    template -> scriptExecutor.clear(template, redisKey, dueIndexKey, retryKey, retryInfo.getCount()));
         } catch (RuntimeException e) {
             log.warn("Smart Redis Retry 自动清理耗尽记录失败，retryType={}, retryKey={}", retryType, retryKey, e);
         }
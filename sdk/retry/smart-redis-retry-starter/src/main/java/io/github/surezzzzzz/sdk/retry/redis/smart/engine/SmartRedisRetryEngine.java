@@ -84,6 +84,17 @@ public interface SmartRedisRetryEngine {
      */
     RetryScanResult scan(RetryScanRequest request);
 
+    /**
+     * 从到期索引中认领已到期的重试记录。
+     * <p>被认领的记录在 dueClaimMillis 内不会被再次拉取；调用方处理成功后应 clear，
+     * 失败时 recordFailure 会按新的下次重试时间重新登记，超时未处理的记录会重新到期。</p>
+     *
+     * @param retryType 重试类型
+     * @param limit 最多认领数量，不能超过 scanCount
+     * @return 已认领的重试记录
+     */
+    RetryPollResult pollDue(String retryType, int limit);
+
     /**
      * 获取绑定重试类型的场景门面
      *
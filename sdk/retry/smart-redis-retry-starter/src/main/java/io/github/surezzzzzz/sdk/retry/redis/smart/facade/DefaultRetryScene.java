@@ -4,6 +4,7 @@ import io.github.surezzzzzz.sdk.retry.redis.smart.engine.SmartRedisRetryEngine;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryDecision;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryFailure;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryInfo;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryPollResult;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryScanResult;
 import lombok.RequiredArgsConstructor;
 
@@ -102,4 +103,15 @@ public class DefaultRetryScene implements RetryScene {
     public RetryScanResult scan(String routeKey, String cursor) {
         return engine.scan(routeKey, retryType, cursor);
     }
+
+    /**
+     * 从到期索引中认领指定场景已到期的重试记录。
+     *
+     * @param limit 最多认领数量
+     * @return 拉取结果
+     */
+    @Override
+    public RetryPollResult pollDue(int limit) {
+        return engine.pollDue(retryType, limit);
+    }
 }
@@ -3,6 +3,7 @@ package io.github.surezzzzzz.sdk.retry.redis.smart.facade;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryDecision;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryFailure;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryInfo;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryPollResult;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryScanResult;
 
 /**
@@ -69,4 +70,12 @@ public interface RetryScene {
      * @return 单页扫描结果
      */
     RetryScanResult scan(String routeKey, String cursor);
+
+    /**
+     * 从到期索引中认领当前场景已到期的重试记录。
+     *
+     * @param limit 最多认领数量
+     * @return 已认领的重试记录
+     */
+    RetryPollResult pollDue(int limit);
 }
@@ -0,0 +1,33 @@
+package io.github.surezzzzzz.sdk.retry.redis.smart.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 到期重试记录拉取结果
+ *
+ * @author surezzzzzz
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetryPollResult implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 已认领的重试标识，按到期时间升序
+     */
+    private List<String> retryKeys;
+    /**
+     * 按重试标识索引的重试状态
+     */
+    private Map<String, RetryInfo> infos;
+}
@@ -11,16 +11,20 @@ import io.github.surezzzzzz.sdk.retry.redis.smart.serializer.RetryContextSeriali
 import io.github.surezzzzzz.sdk.retry.redis.smart.support.RetryInfoConvertHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Lua Redis 重试脚本执行器
+ * <p>到期索引是单个 ZSET，而记录 Key 按重试标识各自落槽。Standalone / Sentinel 下索引与记录在同一脚本内原子维护；
+ * Cluster 下二者必然跨槽，脚本只写记录，索引在脚本成功后紧接着单独更新，
+ * 由 pollDue 读取记录时剔除已过期或已耗尽的成员兜底。</p>
  *
  * @author surezzzzzz
  */
@@ -43,6 +47,15 @@ public class LuaRedisRetryScriptExecutor implements RedisRetryScriptExecutor {
      * 原子清理记录脚本
      */
     private final DefaultRedisScript<List> clearScript = buildClearScript();
+    /**
+     * 原子认领到期记录脚本
+     */
+    private final DefaultRedisScript<List> pollDueScript = buildPollDueScript();
+    /**
+     * 连接工厂是否为 Cluster 连接的缓存
+     */
+    private final Map<RedisConnectionFactory, Boolean> clusterConnectionFactories =
+            new ConcurrentHashMap<RedisConnectionFactory, Boolean>();
 
     /**
      * 原子记录失败信息。
@@ -56,18 +69,42 @@ public class LuaRedisRetryScriptExecutor implements RedisRetryScriptExecutor {
      * @return 最新重试状态
      */
     @Override
+    public RetryInfo recordFailure(StringRedisTemplate template,
+                                   String redisKey,
+                                   RetryFailure failure,
+                                   RetryPolicy policy,
+                                   long nowMillis,
+                                   long ttlMillis) {
+        return recordFailure(template, redisKey, null, failure, policy, nowMillis, ttlMillis);
+    }
+
+    /**
+     * 原子记录失败信息，并同步维护到期索引。
+     *
+     * @param template    Redis 操作模板
+     * @param redisKey    Redis 记录 Key
+     * @param dueIndexKey 到期索引 Key，空值表示不维护索引
+     * @param failure     失败信息
+     * @param policy      重试策略
+     * @param nowMillis   当前时间毫秒值
+     * @param ttlMillis   记录存活时间毫秒值
+     * @return 最新重试状态
+     */
+    @Override
     @SuppressWarnings("unchecked")
     public RetryInfo recordFailure(StringRedisTemplate template,
                                    String redisKey,
+                                   String dueIndexKey,
                                    RetryFailure failure,
                                    RetryPolicy policy,
                                    long nowMillis,
                                    long ttlMillis) {
         String contextJson = serializer.serialize(failure.getContext());
+        boolean indexInScript = dueIndexKey != null && supportsMultiKeyScript(template);
         List<Object> result;
         try {
             result = (List<Object>) template.execute(recordFailureScript,
-                    Collections.singletonList(redisKey),
+                    scriptKeys(redisKey, indexInScript ? dueIndexKey : null),
                     String.valueOf(nowMillis),
                     String.valueOf(ttlMillis),
                     String.valueOf(policy.getMaxRetryTimes()),
@@ -78,26 +115,29 @@ public class LuaRedisRetryScriptExecutor implements RedisRetryScriptExecutor {
                     String.valueOf(failure.getRetryKey().hashCode()),
                     nullToEmpty(failure.getErrorCode()),
                     nullToEmpty(failure.getErrorMessage()),
-                    nullToEmpty(contextJson));
+                    nullToEmpty(contextJson),
+                    failure.getRetryKey());
         } catch (Exception e) {
             throw new RetryOperationException(ErrorCode.LUA_SCRIPT_EXECUTION_FAILED,
                     ErrorMessage.LUA_SCRIPT_EXECUTION_FAILED, e);
         }
+        RetryInfo retryInfo;
         try {
             String storedContextJson = retryInfoConvertHelper.contextJson(result);
-            RetryInfo retryInfo = retryInfoConvertHelper.fromScriptResult(result,
+            retryInfo = retryInfoConvertHelper.fromScriptResult(result,
                     serializer.deserialize(storedContextJson));
-            if (retryInfo == null) {
-                throw new RetryOperationException(ErrorCode.LUA_SCRIPT_RESULT_INVALID,
-                        ErrorMessage.LUA_SCRIPT_RESULT_INVALID);
-            }
-            return retryInfo;
-        } catch (RetryOperationException e) {
-            throw e;
         } catch (Exception e) {
             throw new RetryOperationException(ErrorCode.LUA_SCRIPT_RESULT_CONVERT_FAILED,
                     ErrorMessage.LUA_SCRIPT_RESULT_CONVERT_FAILED, e);
         }
+        if (retryInfo == null) {
+            throw new RetryOperationException(ErrorCode.LUA_SCRIPT_RESULT_INVALID,
+                    ErrorMessage.LUA_SCRIPT_RESULT_INVALID);
+        }
+        if (dueIndexKey != null && !indexInScript) {
+            updateDueIndex(template, dueIndexKey, failure.getRetryKey(), retryInfo);
+        }
+        return retryInfo;
     }
 
     /**
@@ -109,20 +149,46 @@ public class LuaRedisRetryScriptExecutor implements RedisRetryScriptExecutor {
      * @return 被删除的重试状态；记录不存在或失败次数已变化时返回 null
      */
     @Override
-    @SuppressWarnings("unchecked")
     public RetryInfo clear(StringRedisTemplate template, String redisKey, Integer expectedCount) {
+        return clear(template, redisKey, null, null, expectedCount);
+    }
+
+    /**
+     * 原子读取并删除重试状态，并同步移除到期索引成员。
+     *
+     * @param template      Redis 操作模板
+     * @param redisKey      Redis 记录 Key
+     * @param dueIndexKey   到期索引 Key，空值表示不维护索引
+     * @param retryKey      重试标识，即到期索引成员
+     * @param expectedCount 期望的失败次数，空值表示不校验
+     * @return 被删除的重试状态；记录不存在或失败次数已变化时返回 null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public RetryInfo clear(StringRedisTemplate template,
+                           String redisKey,
+                           String dueIndexKey,
+                           String retryKey,
+                           Integer expectedCount) {
+        boolean indexInScript = dueIndexKey != null && supportsMultiKeyScript(template);
         List<Object> values;
         try {
             values = (List<Object>) template.execute(clearScript,
-                    Collections.singletonList(redisKey),
-                    expectedCount == null ? SmartRedisRetryConstant.EMPTY : String.valueOf(expectedCount));
+                    scriptKeys(redisKey, indexInScript ? dueIndexKey : null),
+                    expectedCount == null ? SmartRedisRetryConstant.EMPTY : String.valueOf(expectedCount),
+                    nullToEmpty(retryKey));
         } catch (Exception e) {
             throw new RetryOperationException(ErrorCode.LUA_SCRIPT_EXECUTION_FAILED,
                     ErrorMessage.LUA_SCRIPT_EXECUTION_FAILED, e);
         }
         // clear.lua 在记录不存在或 expectedCount 不匹配时返回 nil，
-        // Spring 可能反序列化为 null 或不足一对的单元素结果，均表示未命中，直接返回 null。
-        if (values == null || values.size() < SmartRedisRetryConstant.HASH_ENTRY_WIDTH) {
+        // Spring 可能反序列化为 null 或不足一对的单元素结果，均表示未命中。
+        boolean hit = values != null && values.size() >= SmartRedisRetryConstant.HASH_ENTRY_WIDTH;
+        // 无条件清理时即使记录已过期也移除索引成员；带 expectedCount 未命中时记录可能已被再次更新，不能移除
+        if (dueIndexKey != null && !indexInScript && (hit || expectedCount == null)) {
+            removeDue(template, dueIndexKey, retryKey);
+        }
+        if (!hit) {
             return null;
         }
         try {
@@ -138,6 +204,100 @@ public class LuaRedisRetryScriptExecutor implements RedisRetryScriptExecutor {
         }
     }
 
+    /**
+     * 原子认领到期索引中已到期的重试标识。
+     *
+     * @param template         Redis 操作模板
+     * @param dueIndexKey      到期索引 Key
+     * @param nowMillis        当前时间毫秒值
+     * @param claimUntilMillis 认领截止时间毫秒值
+     * @param limit            最多认领数量
+     * @return 已认领的重试标识，按到期时间升序
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> pollDue(StringRedisTemplate template,
+                                String dueIndexKey,
+                                long nowMillis,
+                                long claimUntilMillis,
+                                int limit) {
+        List<Object> members;
+        try {
+            members = (List<Object>) template.execute(pollDueScript,
+                    Collections.singletonList(dueIndexKey),
+                    String.valueOf(nowMillis),
+                    String.valueOf(limit),
+                    String.valueOf(claimUntilMillis));
+        } catch (Exception e) {
+            throw new RetryOperationException(ErrorCode.LUA_SCRIPT_EXECUTION_FAILED,
+                    ErrorMessage.LUA_SCRIPT_EXECUTION_FAILED, e);
+        }
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> retryKeys = new ArrayList<String>(members.size());
+        for (Object member : members) {
+            retryKeys.add(String.valueOf(member));
+        }
+        return retryKeys;
+    }
+
+    /**
+     * 从到期索引中移除重试标识。
+     *
+     * @param template    Redis 操作模板
+     * @param dueIndexKey 到期索引 Key
+     * @param retryKey    重试标识
+     */
+    @Override
+    public void removeDue(StringRedisTemplate template, String dueIndexKey, String retryKey) {
+        try {
+            template.opsForZSet().remove(dueIndexKey, retryKey);
+        } catch (Exception e) {
+            throw new RetryOperationException(ErrorCode.REDIS_OPERATION_FAILED, ErrorMessage.REDIS_OPERATION_FAILED, e);
+        }
+    }
+
+    private void updateDueIndex(StringRedisTemplate template, String dueIndexKey, String retryKey, RetryInfo retryInfo) {
+        if (retryInfo.getCount() != null && retryInfo.getMaxRetryTimes() != null
+                && retryInfo.getCount() >= retryInfo.getMaxRetryTimes()) {
+            removeDue(template, dueIndexKey, retryKey);
+            return;
+        }
+        try {
+            template.opsForZSet().add(dueIndexKey, retryKey, retryInfo.getNextRetryTime());
+        } catch (Exception e) {
+            throw new RetryOperationException(ErrorCode.REDIS_OPERATION_FAILED, ErrorMessage.REDIS_OPERATION_FAILED, e);
+        }
+    }
+
+    private List<String> scriptKeys(String redisKey, String dueIndexKey) {
+        if (dueIndexKey == null) {
+            return Collections.singletonList(redisKey);
+        }
+        return Arrays.asList(redisKey, dueIndexKey);
+    }
+
+    /**
+     * 判断记录 Key 与到期索引 Key 能否在同一脚本中操作；Cluster 下二者跨槽，只能分开执行
+     */
+    private boolean supportsMultiKeyScript(StringRedisTemplate template) {
+        RedisConnectionFactory connectionFactory = template.getConnectionFactory();
+        if (connectionFactory == null) {
+            return false;
+        }
+        return !clusterConnectionFactories.computeIfAbsent(connectionFactory, this::isClusterConnectionFactory);
+    }
+
+    private boolean isClusterConnectionFactory(RedisConnectionFactory connectionFactory) {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            return connection instanceof RedisClusterConnection;
+        } finally {
+            connection.close();
+        }
+    }
+
     private DefaultRedisScript<List> buildRecordFailureScript() {
         return buildScript(SmartRedisRetryConstant.RECORD_FAILURE_SCRIPT_PATH);
     }
@@ -146,6 +306,10 @@ public class LuaRedisRetryScriptExecutor implements RedisRetryScriptExecutor {
         return buildScript(SmartRedisRetryConstant.CLEAR_RETRY_SCRIPT_PATH);
     }
 
+    private DefaultRedisScript<List> buildPollDueScript() {
+        return buildScript(SmartRedisRetryConstant.POLL_DUE_SCRIPT_PATH);
+    }
+
     private DefaultRedisScript<List> buildScript(String scriptPath) {
         DefaultRedisScript<List> script = new DefaultRedisScript<List>();
         script.setLocation(new ClassPathResource(scriptPath));
@@ -1,10 +1,15 @@
 package io.github.surezzzzzz.sdk.retry.redis.smart.script;
 
+import io.github.surezzzzzz.sdk.retry.redis.smart.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.retry.redis.smart.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.retry.redis.smart.exception.RetryOperationException;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryFailure;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryInfo;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryPolicy;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.util.List;
+
 /**
  * Redis 重试脚本执行器
  *
@@ -39,4 +44,77 @@ public interface RedisRetryScriptExecutor {
      * @return 被删除的重试状态；记录不存在或失败次数已变化时返回 null
      */
     RetryInfo clear(StringRedisTemplate template, String redisKey, Integer expectedCount);
+
+    /**
+     * 原子记录失败信息，并同步维护到期索引。
+     * <p>默认实现不维护到期索引，直接委托给 {@link #recordFailure(StringRedisTemplate, String, RetryFailure,
+     * RetryPolicy, long, long)}；自定义执行器需要支持 pollDue 时应覆盖此方法。</p>
+     *
+     * @param template    Redis 操作模板
+     * @param redisKey    Redis 记录 Key
+     * @param dueIndexKey 到期索引 Key，空值表示不维护索引
+     * @param failure     失败信息
+     * @param policy      重试策略
+     * @param nowMillis   当前时间毫秒值
+     * @param ttlMillis   记录存活时间毫秒值
+     * @return 最新重试状态
+     */
+    default RetryInfo recordFailure(StringRedisTemplate template,
+                                    String redisKey,
+                                    String dueIndexKey,
+                                    RetryFailure failure,
+                                    RetryPolicy policy,
+                                    long nowMillis,
+                                    long ttlMillis) {
+        return recordFailure(template, redisKey, failure, policy, nowMillis, ttlMillis);
+    }
+
+    /**
+     * 原子读取并删除重试状态，并同步移除到期索引成员。
+     * <p>默认实现不维护到期索引，直接委托给 {@link #clear(StringRedisTemplate, String, Integer)}。</p>
+     *
+     * @param template      Redis 操作模板
+     * @param redisKey      Redis 记录 Key
+     * @param dueIndexKey   到期索引 Key，空值表示不维护索引
+     * @param retryKey      重试标识，即到期索引成员
+     * @param expectedCount 期望的失败次数，空值表示不校验
+     * @return 被删除的重试状态；记录不存在或失败次数已变化时返回 null
+     */
+    default RetryInfo clear(StringRedisTemplate template,
+                            String redisKey,
+                            String dueIndexKey,
+                            String retryKey,
+                            Integer expectedCount) {
+        return clear(template, redisKey, expectedCount);
+    }
+
+    /**
+     * 原子认领到期索引中已到期的重试标识。
+     * <p>被认领的成员分数推迟到 claimUntilMillis，期间不会被其他调用方重复拉取。</p>
+     *
+     * @param template         Redis 操作模板
+     * @param dueIndexKey      到期索引 Key
+     * @param nowMillis        当前时间毫秒值
+     * @param claimUntilMillis 认领截止时间毫秒值
+     * @param limit            最多认领数量
+     * @return 已认领的重试标识，按到期时间升序
+     */
+    default List<String> pollDue(StringRedisTemplate template,
+                                 String dueIndexKey,
+                                 long nowMillis,
+                                 long claimUntilMillis,
+                                 int limit) {
+        throw new RetryOperationException(ErrorCode.DUE_INDEX_DISABLED, ErrorMessage.DUE_INDEX_DISABLED);
+    }
+
+    /**
+     * 从到期索引中移除重试标识，用于剔除记录已过期或已耗尽的成员。
+     *
+     * @param template    Redis 操作模板
+     * @param dueIndexKey 到期索引 Key
+     * @param retryKey    重试标识
+     */
+    default void removeDue(StringRedisTemplate template, String dueIndexKey, String retryKey) {
+        template.opsForZSet().remove(dueIndexKey, retryKey);
+    }
 }
@@ -56,6 +56,19 @@ public class RetryKeyHelper {
                 retryType, redis.getMe());
     }
 
+    /**
+     * 构建到期索引 Key
+     *
+     * @param retryType 重试类型
+     * @return 到期索引 Key
+     */
+    public String buildDueIndexKey(String retryType) {
+        SmartRedisRetryProperties.RedisConfig redis = properties.getRedis();
+        return String.format(SmartRedisRetryConstant.DUE_INDEX_KEY_TEMPLATE,
+                redis.getKeyPrefix(), SmartRedisRetryConstant.BUSINESS_TYPE_RETRY,
+                retryType, redis.getMe());
+    }
+
     /**
      * 计算 SHA-1 十六进制摘要
      *
@@ -1,10 +1,19 @@
 local KEY_RETRY_INFO = 1
+local KEY_DUE_INDEX = 2
 local ARGV_EXPECTED_COUNT = 1
+local ARGV_DUE_MEMBER = 2
 local FIELD_COUNT = 'count'
 local EXPECTED_COUNT_EMPTY = ''
 
+local function removeDueMember()
+    if #KEYS >= KEY_DUE_INDEX then
+        redis.call('ZREM', KEYS[KEY_DUE_INDEX], ARGV[ARGV_DUE_MEMBER])
+    end
+end
+
 local currentCount = redis.call('HGET', KEYS[KEY_RETRY_INFO], FIELD_COUNT)
 if currentCount == false or currentCount == nil then
+    removeDueMember()
     return nil
 end
 
@@ -15,4 +24,5 @@ end
 
 local values = redis.call('HGETALL', KEYS[KEY_RETRY_INFO])
 redis.call('DEL', KEYS[KEY_RETRY_INFO])
+removeDueMember()
 return values
@@ -0,0 +1,17 @@
+local KEY_DUE_INDEX = 1
+
+local ARGV_NOW_MILLIS = 1
+local ARGV_LIMIT = 2
+local ARGV_CLAIM_UNTIL_MILLIS = 3
+
+local SCORE_MIN = '-inf'
+local LIMIT_OFFSET = 0
+
+-- 取出已到期的成员，并把分数推迟到认领截止时间，避免并发拉取方重复获取；
+-- 认领方在截止前未清理或再次记录失败时，成员会重新到期
+local members = redis.call('ZRANGEBYSCORE', KEYS[KEY_DUE_INDEX], SCORE_MIN, ARGV[ARGV_NOW_MILLIS],
+    'LIMIT', LIMIT_OFFSET, ARGV[ARGV_LIMIT])
+for index = 1, #members do
+    redis.call('ZADD', KEYS[KEY_DUE_INDEX], ARGV[ARGV_CLAIM_UNTIL_MILLIS], members[index])
+end
+return members
@@ -1,4 +1,5 @@
 local KEY_RETRY_INFO = 1
+local KEY_DUE_INDEX = 2
 
 local ARGV_NOW_MILLIS = 1
 local ARGV_TTL_MILLIS = 2
@@ -11,6 +12,7 @@ local ARGV_RETRY_KEY_HASH = 8
 local ARGV_LAST_ERROR_CODE = 9
 local ARGV_LAST_ERROR_MESSAGE = 10
 local ARGV_CONTEXT = 11
+local ARGV_DUE_MEMBER = 12
 
 local FIELD_COUNT = 'count'
 local FIELD_MAX_RETRY_TIMES = 'maxRetryTimes'
@@ -108,6 +110,15 @@ redis.call('HMSET', KEYS[KEY_RETRY_INFO],
 )
 redis.call('PEXPIRE', KEYS[KEY_RETRY_INFO], tostring(ttlMillis))
 
+-- 到期索引与记录同节点时在同一脚本内维护；耗尽的记录不再参与到期拉取
+if #KEYS >= KEY_DUE_INDEX then
+    if newCount >= tonumber(ARGV[ARGV_MAX_RETRY_TIMES]) then
+        redis.call('ZREM', KEYS[KEY_DUE_INDEX], ARGV[ARGV_DUE_MEMBER])
+    else
+        redis.call('ZADD', KEYS[KEY_DUE_INDEX], tostring(nextRetryTime), ARGV[ARGV_DUE_MEMBER])
+    end
+end
+
 return {
     tostring(newCount),
     ARGV[ARGV_MAX_RETRY_TIMES],
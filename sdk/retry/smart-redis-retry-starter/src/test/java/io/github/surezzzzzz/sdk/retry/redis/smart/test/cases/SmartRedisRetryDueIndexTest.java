@@ -0,0 +1,175 @@
+package io.github.surezzzzzz.sdk.retry.redis.smart.test.cases;
+
+import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
+import io.github.surezzzzzz.sdk.retry.redis.smart.configuration.SmartRedisRetryProperties;
+import io.github.surezzzzzz.sdk.retry.redis.smart.engine.SmartRedisRetryEngine;
+import io.github.surezzzzzz.sdk.retry.redis.smart.exception.RetryValidationException;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryFailure;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryInfo;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryPolicy;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryPollResult;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryScanRequest;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryScanResult;
+import io.github.surezzzzzz.sdk.retry.redis.smart.support.RetryKeyHelper;
+import io.github.surezzzzzz.sdk.retry.redis.smart.test.SmartRedisRetryTestApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 到期索引与 pollDue 端到端测试（依赖本地 Redis 16379）。
+ *
+ * @author surezzzzzz
+ */
+@SpringBootTest(classes = SmartRedisRetryTestApplication.class)
+@Slf4j
+class SmartRedisRetryDueIndexTest {
+
+    private static final String RETRY_TYPE = "test-due-index";
+
+    @Autowired
+    private SmartRedisRetryEngine engine;
+
+    @Autowired
+    private RetryKeyHelper retryKeyHelper;
+
+    @Autowired
+    private RedisRouteTemplate redisRouteTemplate;
+
+    @Autowired
+    private SmartRedisRetryProperties properties;
+
+    @AfterEach
+    void cleanUp() {
+        log.info("清理到期索引测试资源");
+        for (String retryKey : new String[]{"due-key-1", "due-key-2", "waiting-key", "exhausted-key", "stale-key"}) {
+            engine.clear(RETRY_TYPE, retryKey);
+        }
+        String dueIndexKey = retryKeyHelper.buildDueIndexKey(RETRY_TYPE);
+        redisRouteTemplate.execute(dueIndexKey, template -> template.delete(dueIndexKey));
+    }
+
+    @Test
+    void recordFailureShouldRegisterNextRetryTimeInDueIndex() {
+        RetryInfo info = engine.recordFailure(failure("due-key-1", 0L, 3));
+        Double score = dueScore("due-key-1");
+        log.info("nextRetryTime={}, 索引分数={}", info.getNextRetryTime(), score);
+        assertNotNull(score);
+        assertEquals(info.getNextRetryTime().doubleValue(), score);
+    }
+
+    @Test
+    void pollDueShouldReturnOnlyDueRecords() {
+        engine.recordFailure(failure("due-key-1", 0L, 3));
+        engine.recordFailure(failure("due-key-2", 0L, 3));
+        engine.recordFailure(failure("waiting-key", 60000L, 3));
+
+        RetryPollResult result = engine.pollDue(RETRY_TYPE, 10);
+
+        log.info("pollDue 结果={}", result.getRetryKeys());
+        assertEquals(2, result.getRetryKeys().size());
+        assertTrue(result.getRetryKeys().containsAll(Arrays.asList("due-key-1", "due-key-2")));
+        assertFalse(result.getRetryKeys().contains("waiting-key"));
+        assertEquals(Integer.valueOf(1), result.getInfos().get("due-key-1").getCount());
+    }
+
+    @Test
+    void pollDueShouldRespectLimit() {
+        engine.recordFailure(failure("due-key-1", 0L, 3));
+        engine.recordFailure(failure("due-key-2", 0L, 3));
+
+        assertEquals(1, engine.pollDue(RETRY_TYPE, 1).getRetryKeys().size());
+        assertEquals(1, engine.pollDue(RETRY_TYPE, 1).getRetryKeys().size());
+        assertTrue(engine.pollDue(RETRY_TYPE, 1).getRetryKeys().isEmpty());
+    }
+
+    @Test
+    void claimedRecordShouldNotBePolledAgainUntilClaimExpires() {
+        engine.recordFailure(failure("due-key-1", 0L, 3));
+
+        assertEquals(Arrays.asList("due-key-1"), engine.pollDue(RETRY_TYPE, 10).getRetryKeys());
+        assertTrue(engine.pollDue(RETRY_TYPE, 10).getRetryKeys().isEmpty(), "认领期内不应被重复拉取");
+
+        // 模拟认领方未处理且认领已超时
+        String dueIndexKey = retryKeyHelper.buildDueIndexKey(RETRY_TYPE);
+        redisRouteTemplate.execute(dueIndexKey, template -> template.opsForZSet().add(dueIndexKey, "due-key-1", 0D));
+        assertEquals(Arrays.asList("due-key-1"), engine.pollDue(RETRY_TYPE, 10).getRetryKeys(),
+                "认领超时后应重新到期");
+    }
+
+    @Test
+    void clearShouldRemoveRecordFromDueIndex() {
+        engine.recordFailure(failure("due-key-1", 0L, 3));
+        assertNotNull(dueScore("due-key-1"));
+
+        engine.clear(RETRY_TYPE, "due-key-1");
+
+        assertNull(dueScore("due-key-1"));
+        assertTrue(engine.pollDue(RETRY_TYPE, 10).getRetryKeys().isEmpty());
+    }
+
+    @Test
+    void exhaustedRecordShouldLeaveDueIndex() {
+        engine.recordFailure(failure("exhausted-key", 0L, 1));
+
+        assertNull(dueScore("exhausted-key"));
+        assertTrue(engine.pollDue(RETRY_TYPE, 10).getRetryKeys().isEmpty());
+    }
+
+    @Test
+    void pollDueShouldDropMembersWhoseRecordExpired() {
+        engine.recordFailure(failure("stale-key", 0L, 3));
+        String redisKey = retryKeyHelper.buildRedisKey(RETRY_TYPE, "stale-key");
+        redisRouteTemplate.execute(redisKey, template -> template.delete(redisKey));
+
+        assertTrue(engine.pollDue(RETRY_TYPE, 10).getRetryKeys().isEmpty());
+        assertNull(dueScore("stale-key"), "记录已过期的索引成员应被剔除");
+    }
+
+    @Test
+    void dueIndexKeyShouldNotAppearInScan() {
+        engine.recordFailure(failure("due-key-1", 0L, 3));
+        String routeKey = retryKeyHelper.buildRedisKey(RETRY_TYPE, "due-key-1");
+        RetryScanResult result = engine.scan(RetryScanRequest.builder()
+                .routeKey(routeKey).retryType(RETRY_TYPE).cursor("0").count(500).build());
+        assertFalse(result.getKeys().contains(retryKeyHelper.buildDueIndexKey(RETRY_TYPE)));
+    }
+
+    @Test
+    void pollDueShouldRejectInvalidLimit() {
+        assertThrows(RetryValidationException.class, () -> engine.pollDue(RETRY_TYPE, 0));
+        assertThrows(RetryValidationException.class,
+                () -> engine.pollDue(RETRY_TYPE, properties.getRedis().getScanCount() + 1));
+        assertThrows(RetryValidationException.class, () -> engine.pollDue(" ", 10));
+    }
+
+    private RetryFailure failure(String retryKey, long retryIntervalMillis, int maxRetryTimes) {
+        return RetryFailure.builder()
+                .retryType(RETRY_TYPE)
+                .retryKey(retryKey)
+                .policy(RetryPolicy.builder()
+                        .maxRetryTimes(maxRetryTimes)
+                        .retryIntervalMillis(retryIntervalMillis)
+                        .maxIntervalMillis(Math.max(retryIntervalMillis, 1L))
+                        .backoffMultiplier(1D)
+                        .jitterRatio(0D)
+                        .build())
+                .build();
+    }
+
+    private Double dueScore(String retryKey) {
+        String dueIndexKey = retryKeyHelper.buildDueIndexKey(RETRY_TYPE);
+        return redisRouteTemplate.execute(dueIndexKey, template -> template.opsForZSet().score(dueIndexKey, retryKey));
+    }
+}
@@ -12,6 +12,7 @@ import io.github.surezzzzzz.sdk.retry.redis.smart.exception.RetryOperationExcept
 import io.github.surezzzzzz.sdk.retry.redis.smart.listener.NoopSmartRedisRetryListener;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryDecision;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryInfo;
+import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryPollResult;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryScanRequest;
 import io.github.surezzzzzz.sdk.retry.redis.smart.model.RetryScanResult;
 import io.github.surezzzzzz.sdk.retry.redis.smart.policy.DefaultRetryPolicyResolver;
@@ -61,6 +62,9 @@ class SmartRedisRetryFailureStrategyTest {
         assertTrue(scanResult.isFinished());
         assertTrue(scanResult.getKeys().isEmpty());
         assertTrue(scanResult.getInfos().isEmpty());
+        RetryPollResult pollResult = engine.pollDue("test-compensation", 10);
+        assertTrue(pollResult.getRetryKeys().isEmpty());
+        assertTrue(pollResult.getInfos().isEmpty());
     }
 
     @Test
@@ -76,6 +80,9 @@ class SmartRedisRetryFailureStrategyTest {
         assertTrue(scanResult.isFinished());
         assertTrue(scanResult.getKeys().isEmpty());
         assertTrue(scanResult.getInfos().isEmpty());
+        RetryPollResult pollResult = engine.pollDue("test-compensation", 10);
+        assertTrue(pollResult.getRetryKeys().isEmpty());
+        assertTrue(pollResult.getInfos().isEmpty());
     }
 
     @Test
@@ -86,6 +93,7 @@ class SmartRedisRetryFailureStrategyTest {
         assertThrows(RetryOperationException.class, () -> engine.getInfo("test-compensation", "test-key"));
         assertThrows(RetryOperationException.class, () -> engine.clear("test-compensation", "test-key"));
         assertThrows(RetryOperationException.class, () -> engine.scan(scanRequest()));
+        assertThrows(RetryOperationException.class, () -> engine.pollDue("test-compensation", 10));
     }
 
     @Test
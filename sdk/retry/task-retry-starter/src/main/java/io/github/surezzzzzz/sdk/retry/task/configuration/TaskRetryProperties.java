@@ -17,6 +17,7 @@ public class TaskRetryProperties {
     private Policy defaultPolicy = Policy.defaultPolicy();
     private Policy fastPolicy = Policy.fastPolicy();
     private Policy slowPolicy = Policy.slowPolicy();
+    private Async async = new Async();
 
     @Data
     public static class Policy {
@@ -52,4 +53,12 @@ public class TaskRetryProperties {
             return policy;
         }
     }
+
+    @Data
+    public static class Async {
+        private int schedulerPoolSize = TaskRetryConstant.DEFAULT_ASYNC_SCHEDULER_POOL_SIZE;
+        private boolean virtualThreads = TaskRetryConstant.DEFAULT_ASYNC_VIRTUAL_THREADS;
+        private int workerPoolSize = TaskRetryConstant.DEFAULT_ASYNC_WORKER_POOL_SIZE;
+        private int workerQueueCapacity = TaskRetryConstant.DEFAULT_ASYNC_WORKER_QUEUE_CAPACITY;
+    }
 }
@@ -8,6 +8,7 @@ package io.github.surezzzzzz.sdk.retry.task.constant;
 public class ErrorCode {
 
     public static final String VALIDATION_ERROR = "TASK_RETRY_VALIDATION_ERROR";
+    public static final String ASYNC_EXECUTION_ERROR = "TASK_RETRY_ASYNC_EXECUTION_ERROR";
 
     private ErrorCode() {
     }
@@ -15,6 +15,11 @@ public class ErrorMessage {
     public static final String MAX_DELAY_LESS_THAN_INITIAL_DELAY = "最大延迟毫秒数不能小于初始延迟毫秒数";
     public static final String BACKOFF_MULTIPLIER_INVALID = "退避倍数不能小于1";
     public static final String STRATEGY_TYPE_REQUIRED = "重试策略类型不能为空";
+    public static final String ASYNC_SCHEDULER_POOL_SIZE_INVALID = "异步重试调度线程数必须大于0";
+    public static final String ASYNC_WORKER_POOL_SIZE_INVALID = "异步重试工作线程数必须大于0";
+    public static final String ASYNC_WORKER_QUEUE_CAPACITY_INVALID = "异步重试工作队列容量必须大于0";
+    public static final String ASYNC_EXECUTOR_SHUTDOWN = "异步重试执行器已关闭";
+    public static final String ASYNC_EXECUTOR_BUSY = "异步重试工作线程池已满，拒绝本次尝试";
 
     private ErrorMessage() {
     }
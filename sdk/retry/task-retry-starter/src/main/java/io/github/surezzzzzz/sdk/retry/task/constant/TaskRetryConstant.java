@@ -28,6 +28,15 @@ public class TaskRetryConstant {
     public static final double SLOW_BACKOFF_MULTIPLIER = 2.0D;
     public static final long SLOW_MAX_DELAY_MILLIS = 60000L;
 
+    public static final int DEFAULT_ASYNC_SCHEDULER_POOL_SIZE = 2;
+    public static final boolean DEFAULT_ASYNC_VIRTUAL_THREADS = true;
+    public static final int DEFAULT_ASYNC_WORKER_POOL_SIZE = 8;
+    public static final int DEFAULT_ASYNC_WORKER_QUEUE_CAPACITY = 1024;
+    public static final long ASYNC_WORKER_KEEP_ALIVE_SECONDS = 60L;
+    public static final String ASYNC_THREAD_NAME_PREFIX = "task-retry-async-";
+    public static final String ASYNC_WORKER_THREAD_NAME_PREFIX = "task-retry-async-worker-";
+    public static final String VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
     private TaskRetryConstant() {
     }
 }
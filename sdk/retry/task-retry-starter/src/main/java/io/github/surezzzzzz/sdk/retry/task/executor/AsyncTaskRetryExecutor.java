@@ -0,0 +1,37 @@
+package io.github.surezzzzzz.sdk.retry.task.executor;
+
+import io.github.surezzzzzz.sdk.retry.task.model.RetryRequest;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步 Task Retry 执行器
+ * <p>与 {@link TaskRetryExecutor} 的退避语义一致，但不阻塞调用线程：每次尝试在共享调度器（或虚拟线程）上执行，
+ * 两次尝试之间的等待由调度器计时，不占用任何线程。</p>
+ *
+ * <p>参数非法时同步抛出 TaskRetryValidationException；任务最终失败时返回的 Future 以最后一次原始异常完成。
+ * 取消返回的 Future 会撤销尚未开始的下一次尝试，正在执行的尝试不会被中断，其结果被丢弃。</p>
+ *
+ * @author surezzzzzz
+ */
+public interface AsyncTaskRetryExecutor {
+
+    <T> CompletableFuture<T> execute(Callable<T> task);
+
+    <T> CompletableFuture<T> execute(Callable<T> task, RetryRequest request);
+
+    <T> CompletableFuture<T> executeWithRetry(Callable<T> task, int retryTimes, long initialDelayMillis);
+
+    <T> CompletableFuture<T> executeWithRetry(Callable<T> task,
+                                              int retryTimes,
+                                              long initialDelayMillis,
+                                              double backoffMultiplier,
+                                              long maxDelayMillis);
+
+    <T> CompletableFuture<T> executeWithFixedDelay(Callable<T> task, int retryTimes, long delayMillis);
+
+    <T> CompletableFuture<T> executeWithFastRetry(Callable<T> task);
+
+    <T> CompletableFuture<T> executeWithSlowRetry(Callable<T> task);
+}
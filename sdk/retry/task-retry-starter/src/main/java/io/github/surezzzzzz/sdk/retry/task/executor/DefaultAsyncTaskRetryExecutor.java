@@ -0,0 +1,264 @@
+package io.github.surezzzzzz.sdk.retry.task.executor;
+
+import io.github.surezzzzzz.sdk.retry.task.annotation.TaskRetryComponent;
+import io.github.surezzzzzz.sdk.retry.task.configuration.TaskRetryProperties;
+import io.github.surezzzzzz.sdk.retry.task.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.retry.task.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.retry.task.constant.RetryStrategyType;
+import io.github.surezzzzzz.sdk.retry.task.constant.TaskRetryConstant;
+import io.github.surezzzzzz.sdk.retry.task.exception.TaskRetryException;
+import io.github.surezzzzzz.sdk.retry.task.exception.TaskRetryValidationException;
+import io.github.surezzzzzz.sdk.retry.task.listener.RetryListener;
+import io.github.surezzzzzz.sdk.retry.task.model.RetryRequest;
+import io.github.surezzzzzz.sdk.retry.task.predicate.RetryPredicate;
+import io.github.surezzzzzz.sdk.retry.task.support.RetryBackoffHelper;
+import io.github.surezzzzzz.sdk.retry.task.support.RetryRequestHelper;
+import io.github.surezzzzzz.sdk.retry.task.support.RetryValidationHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 默认异步 Task Retry 执行器
+ * <p>所有调用共享一个 ScheduledThreadPoolExecutor：调度线程只负责延迟到期后派发下一次尝试，从不执行任务。
+ * 运行时支持虚拟线程时，每次尝试在新的虚拟线程上执行；否则在有界的工作线程池上执行，
+ * workerPoolSize 即最大并发尝试数，队列满时该次尝试被拒绝，Future 以 TaskRetryException 结束。
+ * 阻塞型任务只会占住工作线程，不影响其它调用的重试按时到期派发。</p>
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@TaskRetryComponent
+@ConditionalOnMissingBean(AsyncTaskRetryExecutor.class)
+public class DefaultAsyncTaskRetryExecutor implements AsyncTaskRetryExecutor, DisposableBean {
+
+    private final TaskRetryProperties properties;
+    private final RetryPredicate retryPredicate;
+    private final RetryListener listener;
+    private final ScheduledThreadPoolExecutor scheduler;
+    /**
+     * 尝试执行器：虚拟线程执行器，运行时不支持或配置关闭时为有界工作线程池
+     */
+    private final ExecutorService attemptExecutor;
+    private final Set<AsyncRetryRun<?>> activeRuns = ConcurrentHashMap.newKeySet();
+
+    public DefaultAsyncTaskRetryExecutor(TaskRetryProperties properties,
+                                         RetryPredicate retryPredicate,
+                                         RetryListener listener) {
+        TaskRetryProperties.Async async = properties.getAsync();
+        if (async.getSchedulerPoolSize() <= 0) {
+            throw new TaskRetryValidationException(ErrorCode.VALIDATION_ERROR, ErrorMessage.ASYNC_SCHEDULER_POOL_SIZE_INVALID);
+        }
+        if (async.getWorkerPoolSize() <= 0) {
+            throw new TaskRetryValidationException(ErrorCode.VALIDATION_ERROR, ErrorMessage.ASYNC_WORKER_POOL_SIZE_INVALID);
+        }
+        if (async.getWorkerQueueCapacity() <= 0) {
+            throw new TaskRetryValidationException(ErrorCode.VALIDATION_ERROR, ErrorMessage.ASYNC_WORKER_QUEUE_CAPACITY_INVALID);
+        }
+        this.properties = properties;
+        this.retryPredicate = retryPredicate;
+        this.listener = listener;
+        this.scheduler = new ScheduledThreadPoolExecutor(async.getSchedulerPoolSize(),
+                new NamedThreadFactory(TaskRetryConstant.ASYNC_THREAD_NAME_PREFIX));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        ExecutorService virtualThreadExecutor = async.isVirtualThreads() ? newVirtualThreadExecutor() : null;
+        this.attemptExecutor = virtualThreadExecutor != null ? virtualThreadExecutor : newWorkerExecutor(async);
+        log.info("异步重试执行器已初始化，调度线程数: {}，虚拟线程: {}，工作线程数: {}，工作队列容量: {}",
+                async.getSchedulerPoolSize(), virtualThreadExecutor != null,
+                async.getWorkerPoolSize(), async.getWorkerQueueCapacity());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> execute(Callable<T> task) {
+        return execute(task, RetryRequestHelper.fromPolicy(properties.getDefaultPolicy(), RetryStrategyType.EXPONENTIAL));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> execute(Callable<T> task, RetryRequest request) {
+        RetryValidationHelper.validate(task, request);
+        AsyncRetryRun<T> run = new AsyncRetryRun<T>(task, request);
+        activeRuns.add(run);
+        run.future.whenComplete((result, throwable) -> {
+            activeRuns.remove(run);
+            // 调用方取消时撤销尚未到期的下一次尝试
+            ScheduledFuture<?> pending = run.pending;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        });
+        dispatch(run, 1);
+        return run.future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithRetry(Callable<T> task, int retryTimes, long initialDelayMillis) {
+        return executeWithRetry(task, retryTimes, initialDelayMillis,
+                properties.getDefaultPolicy().getBackoffMultiplier(), properties.getDefaultPolicy().getMaxDelayMillis());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithRetry(Callable<T> task,
+                                                     int retryTimes,
+                                                     long initialDelayMillis,
+                                                     double backoffMultiplier,
+                                                     long maxDelayMillis) {
+        return execute(task, RetryRequestHelper.exponential(retryTimes, initialDelayMillis, backoffMultiplier, maxDelayMillis));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithFixedDelay(Callable<T> task, int retryTimes, long delayMillis) {
+        return execute(task, RetryRequestHelper.fixed(retryTimes, delayMillis));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithFastRetry(Callable<T> task) {
+        return execute(task, RetryRequestHelper.fromPolicy(properties.getFastPolicy(), RetryStrategyType.EXPONENTIAL));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithSlowRetry(Callable<T> task) {
+        return execute(task, RetryRequestHelper.fromPolicy(properties.getSlowPolicy(), RetryStrategyType.EXPONENTIAL));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        attemptExecutor.shutdownNow();
+        TaskRetryException shutdown = new TaskRetryException(ErrorCode.ASYNC_EXECUTION_ERROR, ErrorMessage.ASYNC_EXECUTOR_SHUTDOWN);
+        for (AsyncRetryRun<?> run : activeRuns) {
+            run.future.completeExceptionally(shutdown);
+        }
+        activeRuns.clear();
+    }
+
+    private <T> void dispatch(AsyncRetryRun<T> run, int attempt) {
+        try {
+            attemptExecutor.execute(() -> runAttempt(run, attempt));
+        } catch (RejectedExecutionException e) {
+            String message = attemptExecutor.isShutdown()
+                    ? ErrorMessage.ASYNC_EXECUTOR_SHUTDOWN
+                    : ErrorMessage.ASYNC_EXECUTOR_BUSY;
+            run.future.completeExceptionally(new TaskRetryException(ErrorCode.ASYNC_EXECUTION_ERROR, message, e));
+        }
+    }
+
+    private <T> void runAttempt(AsyncRetryRun<T> run, int attempt) {
+        if (run.future.isDone()) {
+            return;
+        }
+        int totalAttempts = run.request.getRetryTimes() + 1;
+        try {
+            onBeforeAttempt(attempt, totalAttempts);
+            T result = run.task.call();
+            onSuccess(attempt, totalAttempts);
+            run.future.complete(result);
+        } catch (Exception e) {
+            onFailure(attempt, totalAttempts, e);
+            if (attempt >= totalAttempts || !retryPredicate.shouldRetry(e, attempt, run.request)) {
+                run.future.completeExceptionally(e);
+                return;
+            }
+            long delayMillis = RetryBackoffHelper.calculateDelayMillis(run.request, attempt);
+            log.warn("第 {}/{} 次异步执行失败，{} 毫秒后重试", attempt, totalAttempts, delayMillis);
+            log.debug("重试异常详情", e);
+            schedule(run, attempt + 1, delayMillis);
+        } catch (Error e) {
+            run.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <T> void schedule(AsyncRetryRun<T> run, int nextAttempt, long delayMillis) {
+        try {
+            run.pending = scheduler.schedule(() -> dispatch(run, nextAttempt), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            run.future.completeExceptionally(
+                    new TaskRetryException(ErrorCode.ASYNC_EXECUTION_ERROR, ErrorMessage.ASYNC_EXECUTOR_SHUTDOWN, e));
+            return;
+        }
+        // 与 whenComplete 中的撤销存在竞争：登记 pending 前 Future 已被取消时在此补偿
+        if (run.future.isDone()) {
+            run.pending.cancel(false);
+        }
+    }
+
+    private ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod(TaskRetryConstant.VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD);
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (Exception e) {
+            log.warn("创建虚拟线程执行器失败，异步重试改为在工作线程池上执行", e);
+            return null;
+        }
+    }
+
+    private ExecutorService newWorkerExecutor(TaskRetryProperties.Async async) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(async.getWorkerPoolSize(), async.getWorkerPoolSize(),
+                TaskRetryConstant.ASYNC_WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(async.getWorkerQueueCapacity()),
+                new NamedThreadFactory(TaskRetryConstant.ASYNC_WORKER_THREAD_NAME_PREFIX));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void onBeforeAttempt(int attempt, int totalAttempts) {
+        try {
+            listener.onBeforeAttempt(attempt, totalAttempts);
+        } catch (Exception e) {
+            log.debug("重试监听器执行前回调异常", e);
+        }
+    }
+
+    private void onFailure(int attempt, int totalAttempts, Exception exception) {
+        try {
+            listener.onFailure(attempt, totalAttempts, exception);
+        } catch (Exception e) {
+            log.debug("重试监听器失败回调异常", e);
+        }
+    }
+
+    private void onSuccess(int attempt, int totalAttempts) {
+        try {
+            listener.onSuccess(attempt, totalAttempts);
+        } catch (Exception e) {
+            log.debug("重试监听器成功回调异常", e);
+        }
+    }
+
+    private static final class AsyncRetryRun<T> {
+
+        private final Callable<T> task;
+        private final RetryRequest request;
+        private final CompletableFuture<T> future = new CompletableFuture<T>();
+        private volatile ScheduledFuture<?> pending;
+
+        private AsyncRetryRun(Callable<T> task, RetryRequest request) {
+            this.task = task;
+            this.request = request;
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger index = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import io.github.surezzzzzz.sdk.retry.task.model.RetryRequest;
 import io.github.surezzzzzz.sdk.retry.task.predicate.RetryPredicate;
 import io.github.surezzzzzz.sdk.retry.task.sleeper.RetrySleeper;
 import io.github.surezzzzzz.sdk.retry.task.support.RetryBackoffHelper;
+import io.github.surezzzzzz.sdk.retry.task.support.RetryRequestHelper;
 import io.github.surezzzzzz.sdk.retry.task.support.RetryValidationHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +34,7 @@ public class DefaultTaskRetryExecutor implements TaskRetryExecutor {
 
     @Override
     public <T> T execute(Callable<T> task) throws Exception {
-        return execute(task, toRequest(properties.getDefaultPolicy(), RetryStrategyType.EXPONENTIAL));
+        return execute(task, RetryRequestHelper.fromPolicy(properties.getDefaultPolicy(), RetryStrategyType.EXPONENTIAL));
     }
 
     @Override
@@ -75,46 +76,22 @@ public class DefaultTaskRetryExecutor implements TaskRetryExecutor {
                                   long initialDelayMillis,
                                   double backoffMultiplier,
                                   long maxDelayMillis) throws Exception {
-        RetryRequest request = RetryRequest.builder()
-                .retryTimes(retryTimes)
-                .initialDelayMillis(initialDelayMillis)
-                .backoffMultiplier(backoffMultiplier)
-                .maxDelayMillis(maxDelayMillis)
-                .strategyType(RetryStrategyType.EXPONENTIAL)
-                .build();
-        return execute(task, request);
+        return execute(task, RetryRequestHelper.exponential(retryTimes, initialDelayMillis, backoffMultiplier, maxDelayMillis));
     }
 
     @Override
     public <T> T executeWithFixedDelay(Callable<T> task, int retryTimes, long delayMillis) throws Exception {
-        RetryRequest request = RetryRequest.builder()
-                .retryTimes(retryTimes)
-                .initialDelayMillis(delayMillis)
-                .backoffMultiplier(1D)
-                .maxDelayMillis(delayMillis)
-                .strategyType(RetryStrategyType.FIXED)
-                .build();
-        return execute(task, request);
+        return execute(task, RetryRequestHelper.fixed(retryTimes, delayMillis));
     }
 
     @Override
     public <T> T executeWithFastRetry(Callable<T> task) throws Exception {
-        return execute(task, toRequest(properties.getFastPolicy(), RetryStrategyType.EXPONENTIAL));
+        return execute(task, RetryRequestHelper.fromPolicy(properties.getFastPolicy(), RetryStrategyType.EXPONENTIAL));
     }
 
     @Override
     public <T> T executeWithSlowRetry(Callable<T> task) throws Exception {
-        return execute(task, toRequest(properties.getSlowPolicy(), RetryStrategyType.EXPONENTIAL));
-    }
-
-    private RetryRequest toRequest(TaskRetryProperties.Policy policy, RetryStrategyType strategyType) {
-        return RetryRequest.builder()
-                .retryTimes(policy.getRetryTimes())
-                .initialDelayMillis(policy.getInitialDelayMillis())
-                .backoffMultiplier(policy.getBackoffMultiplier())
-                .maxDelayMillis(policy.getMaxDelayMillis())
-                .strategyType(strategyType)
-                .build();
+        return execute(task, RetryRequestHelper.fromPolicy(properties.getSlowPolicy(), RetryStrategyType.EXPONENTIAL));
     }
 
     private void sleep(long delayMillis) throws InterruptedException {
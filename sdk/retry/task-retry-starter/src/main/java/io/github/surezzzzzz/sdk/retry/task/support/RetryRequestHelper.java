@@ -0,0 +1,49 @@
+package io.github.surezzzzzz.sdk.retry.task.support;
+
+import io.github.surezzzzzz.sdk.retry.task.configuration.TaskRetryProperties;
+import io.github.surezzzzzz.sdk.retry.task.constant.RetryStrategyType;
+import io.github.surezzzzzz.sdk.retry.task.model.RetryRequest;
+
+/**
+ * 重试请求构建 Helper
+ *
+ * @author surezzzzzz
+ */
+public class RetryRequestHelper {
+
+    public static RetryRequest fromPolicy(TaskRetryProperties.Policy policy, RetryStrategyType strategyType) {
+        return RetryRequest.builder()
+                .retryTimes(policy.getRetryTimes())
+                .initialDelayMillis(policy.getInitialDelayMillis())
+                .backoffMultiplier(policy.getBackoffMultiplier())
+                .maxDelayMillis(policy.getMaxDelayMillis())
+                .strategyType(strategyType)
+                .build();
+    }
+
+    public static RetryRequest exponential(int retryTimes,
+                                           long initialDelayMillis,
+                                           double backoffMultiplier,
+                                           long maxDelayMillis) {
+        return RetryRequest.builder()
+                .retryTimes(retryTimes)
+                .initialDelayMillis(initialDelayMillis)
+                .backoffMultiplier(backoffMultiplier)
+                .maxDelayMillis(maxDelayMillis)
+                .strategyType(RetryStrategyType.EXPONENTIAL)
+                .build();
+    }
+
+    public static RetryRequest fixed(int retryTimes, long delayMillis) {
+        return RetryRequest.builder()
+                .retryTimes(retryTimes)
+                .initialDelayMillis(delayMillis)
+                .backoffMultiplier(1D)
+                .maxDelayMillis(delayMillis)
+                .strategyType(RetryStrategyType.FIXED)
+                .build();
+    }
+
+    private RetryRequestHelper() {
+    }
+}
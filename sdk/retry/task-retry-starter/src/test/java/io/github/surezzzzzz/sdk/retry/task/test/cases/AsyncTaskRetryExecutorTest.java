@@ -0,0 +1,227 @@
+package io.github.surezzzzzz.sdk.retry.task.test.cases;
+
+import io.github.surezzzzzz.sdk.retry.task.configuration.TaskRetryProperties;
+import io.github.surezzzzzz.sdk.retry.task.constant.RetryStrategyType;
+import io.github.surezzzzzz.sdk.retry.task.exception.TaskRetryException;
+import io.github.surezzzzzz.sdk.retry.task.exception.TaskRetryValidationException;
+import io.github.surezzzzzz.sdk.retry.task.executor.AsyncTaskRetryExecutor;
+import io.github.surezzzzzz.sdk.retry.task.executor.DefaultAsyncTaskRetryExecutor;
+import io.github.surezzzzzz.sdk.retry.task.listener.NoopRetryListener;
+import io.github.surezzzzzz.sdk.retry.task.model.RetryRequest;
+import io.github.surezzzzzz.sdk.retry.task.test.TaskRetryTestApplication;
+import io.github.surezzzzzz.sdk.retry.task.test.TaskRetryTestConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 异步 Task Retry 执行器测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+@SpringBootTest(classes = TaskRetryTestApplication.class)
+@Import(TaskRetryTestConfiguration.class)
+class AsyncTaskRetryExecutorTest {
+
+    @Autowired
+    private AsyncTaskRetryExecutor asyncTaskRetryExecutor;
+
+    @Test
+    @DisplayName("测试调用线程不被任务阻塞")
+    void shouldReturnBeforeTaskCompletes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> future = asyncTaskRetryExecutor.executeWithFixedDelay(() -> {
+            release.await();
+            return "success";
+        }, 0, 0L);
+
+        assertFalse(future.isDone(), "任务未完成前调用方应立即拿到 Future");
+        release.countDown();
+        assertEquals("success", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("测试重试后执行成功且遵循退避语义")
+    void shouldReturnResultWhenRetrySuccess() throws Exception {
+        AtomicInteger attemptCount = new AtomicInteger(0);
+        long start = System.nanoTime();
+
+        CompletableFuture<String> future = asyncTaskRetryExecutor.executeWithRetry(() -> {
+            int attempt = attemptCount.incrementAndGet();
+            if (attempt < 3) {
+                throw new IllegalStateException("fail-" + attempt);
+            }
+            return "success-" + attempt;
+        }, 5, 50L, 2.0D, 1000L);
+
+        String result = future.get(5, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("执行结果: {}, 执行次数: {}, 耗时: {}ms", result, attemptCount.get(), elapsedMillis);
+        assertEquals("success-3", result);
+        assertEquals(3, attemptCount.get());
+        assertTrue(elapsedMillis >= 150L, "两次重试应分别等待 50ms 和 100ms");
+    }
+
+    @Test
+    @DisplayName("测试重试耗尽后以最后一次原始异常完成")
+    void shouldCompleteWithLastExceptionWhenRetryExhausted() throws Exception {
+        AtomicInteger attemptCount = new AtomicInteger(0);
+        IllegalStateException last = new IllegalStateException("last");
+
+        CompletableFuture<String> future = asyncTaskRetryExecutor.executeWithFixedDelay(() -> {
+            if (attemptCount.incrementAndGet() < 3) {
+                throw new IllegalStateException("fail");
+            }
+            throw last;
+        }, 2, 10L);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertSame(last, exception.getCause(), "应以最后一次原始异常完成");
+        assertEquals(3, attemptCount.get(), "总执行次数应为 retryTimes + 1");
+    }
+
+    @Test
+    @DisplayName("测试取消后不再发起后续尝试")
+    void shouldStopRetryWhenCancelled() throws Exception {
+        AtomicInteger attemptCount = new AtomicInteger(0);
+        CountDownLatch firstFailure = new CountDownLatch(1);
+
+        CompletableFuture<String> future = asyncTaskRetryExecutor.executeWithFixedDelay(() -> {
+            attemptCount.incrementAndGet();
+            firstFailure.countDown();
+            throw new IllegalStateException("fail");
+        }, 5, 200L);
+
+        assertTrue(firstFailure.await(5, TimeUnit.SECONDS));
+        assertTrue(future.cancel(false));
+        TimeUnit.MILLISECONDS.sleep(500L);
+
+        log.info("取消后的执行次数: {}", attemptCount.get());
+        assertEquals(1, attemptCount.get(), "取消后不应再执行");
+    }
+
+    @Test
+    @DisplayName("测试非法参数同步抛出校验异常")
+    void shouldThrowValidationExceptionSynchronously() {
+        RetryRequest request = RetryRequest.builder()
+                .retryTimes(-1)
+                .strategyType(RetryStrategyType.FIXED)
+                .build();
+        assertThrows(TaskRetryValidationException.class, () -> asyncTaskRetryExecutor.execute(() -> "x", request));
+    }
+
+    @Test
+    @DisplayName("测试阻塞型尝试占满调度线程数时，已到期的重试仍按时执行")
+    void shouldRunDueRetryWhileAttemptsBlock() throws Exception {
+        TaskRetryProperties properties = new TaskRetryProperties();
+        properties.getAsync().setVirtualThreads(false);
+        properties.getAsync().setSchedulerPoolSize(1);
+        properties.getAsync().setWorkerPoolSize(3);
+        DefaultAsyncTaskRetryExecutor executor = new DefaultAsyncTaskRetryExecutor(properties,
+                (exception, attempt, request) -> true, new NoopRetryListener());
+        CountDownLatch blocked = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger attemptCount = new AtomicInteger(0);
+        try {
+            CompletableFuture<String> retrying = executor.executeWithFixedDelay(() -> {
+                if (attemptCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("fail");
+                }
+                return "retried";
+            }, 1, 100L);
+            CompletableFuture<String> first = executor.executeWithFixedDelay(() -> {
+                blocked.countDown();
+                release.await();
+                return "first";
+            }, 0, 0L);
+            CompletableFuture<String> second = executor.executeWithFixedDelay(() -> {
+                blocked.countDown();
+                release.await();
+                return "second";
+            }, 0, 0L);
+            assertTrue(blocked.await(5, TimeUnit.SECONDS), "两个阻塞型尝试应同时在工作线程上执行");
+
+            assertEquals("retried", retrying.get(5, TimeUnit.SECONDS), "阻塞型尝试不应拖住已到期的重试");
+            assertEquals(2, attemptCount.get());
+            assertFalse(first.isDone());
+            assertFalse(second.isDone());
+
+            release.countDown();
+            assertEquals("first", first.get(5, TimeUnit.SECONDS));
+            assertEquals("second", second.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("测试工作队列已满时本次尝试以异常结束")
+    void shouldFailAttemptWhenWorkerQueueFull() throws Exception {
+        TaskRetryProperties properties = new TaskRetryProperties();
+        properties.getAsync().setVirtualThreads(false);
+        properties.getAsync().setWorkerPoolSize(1);
+        properties.getAsync().setWorkerQueueCapacity(1);
+        DefaultAsyncTaskRetryExecutor executor = new DefaultAsyncTaskRetryExecutor(properties,
+                (exception, attempt, request) -> true, new NoopRetryListener());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> blocking = executor.executeWithFixedDelay(() -> {
+                running.countDown();
+                release.await();
+                return "blocking";
+            }, 0, 0L);
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = executor.executeWithFixedDelay(() -> "queued", 0, 0L);
+            CompletableFuture<String> rejected = executor.executeWithFixedDelay(() -> "rejected", 0, 0L);
+
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> rejected.get(5, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof TaskRetryException);
+
+            release.countDown();
+            assertEquals("blocking", blocking.get(5, TimeUnit.SECONDS));
+            assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("测试关闭后未完成任务以异常结束")
+    void shouldFailPendingRunsWhenDestroyed() throws Exception {
+        TaskRetryProperties properties = new TaskRetryProperties();
+        properties.getAsync().setVirtualThreads(false);
+        DefaultAsyncTaskRetryExecutor executor = new DefaultAsyncTaskRetryExecutor(properties,
+                (exception, attempt, request) -> true, new NoopRetryListener());
+        CountDownLatch firstFailure = new CountDownLatch(1);
+        CompletableFuture<String> future = executor.executeWithFixedDelay(() -> {
+            firstFailure.countDown();
+            throw new IllegalStateException("fail");
+        }, 5, 60000L);
+        assertTrue(firstFailure.await(5, TimeUnit.SECONDS));
+
+        executor.destroy();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof TaskRetryException);
+    }
+}
@@ -33,6 +33,7 @@ class TaskRetryAutoConfigurationTest {
             assertTrue(context.containsBean("threadRetrySleeper"), "零配置应注册默认等待器");
             assertTrue(context.containsBean("defaultRetryPredicate"), "零配置应注册默认重试判断器");
             assertTrue(context.containsBean("noopRetryListener"), "零配置应注册默认监听器");
+            assertTrue(context.containsBean("defaultAsyncTaskRetryExecutor"), "零配置应注册默认异步执行器");
             assertEquals(1, context.getBeansOfType(TaskRetryExecutor.class).size(), "执行器 Bean 数量应正确");
         });
     }
@@ -62,6 +63,7 @@ class TaskRetryAutoConfigurationTest {
                     assertFalse(context.containsBean("threadRetrySleeper"), "不应注册默认等待器");
                     assertFalse(context.containsBean("defaultRetryPredicate"), "不应注册默认重试判断器");
                     assertFalse(context.containsBean("noopRetryListener"), "不应注册默认监听器");
+                    assertFalse(context.containsBean("defaultAsyncTaskRetryExecutor"), "不应注册默认异步执行器");
                     assertEquals(0, context.getBeansOfType(TaskRetryExecutor.class).size(), "执行器 Bean 数量应为 0");
                 });
     }
@@ -44,6 +44,11 @@ public class SimpleElasticsearchRouteProperties {
      */
     private VersionDetectConfig versionDetect = new VersionDetectConfig();
 
+    /**
+     * 路由解析缓存配置
+     */
+    private ResolutionCacheConfig resolutionCache = new ResolutionCacheConfig();
+
     /**
      * 代理类型（默认 AUTO）
      */
@@ -130,6 +135,22 @@ public class SimpleElasticsearchRouteProperties {
         private Integer timeoutMs = SimpleElasticsearchRouteConstant.DEFAULT_VERSION_DETECT_TIMEOUT_MS;
     }
 
+    /**
+     * 路由解析缓存配置
+     */
+    @Data
+    public static class ResolutionCacheConfig {
+        /**
+         * 是否启用路由解析缓存（默认：true）
+         */
+        private boolean enabled = SimpleElasticsearchRouteConstant.DEFAULT_RESOLUTION_CACHE_ENABLED;
+
+        /**
+         * 最大缓存条目数，超出后按代淘汰不活跃的索引名，默认 10000
+         */
+        private int maxSize = SimpleElasticsearchRouteConstant.DEFAULT_RESOLUTION_CACHE_MAX_SIZE;
+    }
+
     /**
      * 数据源配置
      */
@@ -29,6 +29,7 @@ public final class ErrorCode {
     public static final String CONFIG_ROUTE_EXACT_DUPLICATE = "CONFIG_018";
     public static final String CONFIG_VERSION_DETECT_TIMEOUT_INVALID = "CONFIG_019";
     public static final String CONFIG_ASYNC_WRITE_THREAD_POOL_INVALID = "CONFIG_020";
+    public static final String CONFIG_RESOLUTION_CACHE_MAX_SIZE_INVALID = "CONFIG_021";
     public static final String CONFIG_VALIDATION_FAILED = "CONFIG_999";
 
     // ========== 版本相关 (VERSION_xxx) ==========
@@ -28,6 +28,7 @@ public final class ErrorMessage {
     public static final String CONFIG_ROUTE_REGEX_INVALID = "[%s] 正则表达式语法错误: %s";
     public static final String CONFIG_ROUTE_EXACT_DUPLICATE = "存在 %d 个 exact 类型的重复规则，pattern: %s";
     public static final String CONFIG_VERSION_DETECT_TIMEOUT_INVALID = "versionDetect.timeoutMs 必须 > 0";
+    public static final String CONFIG_RESOLUTION_CACHE_MAX_SIZE_INVALID = "resolutionCache.maxSize 必须 > 0";
     public static final String CONFIG_VALIDATION_FAILED = "Simple Elasticsearch Route 配置验证失败，请检查配置文件";
 
     // ========== 版本相关 ==========
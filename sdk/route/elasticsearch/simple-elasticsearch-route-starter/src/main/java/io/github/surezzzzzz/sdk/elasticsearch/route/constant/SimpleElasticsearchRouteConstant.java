@@ -63,6 +63,16 @@ public final class SimpleElasticsearchRouteConstant {
      */
     public static final int DEFAULT_VERSION_DETECT_TIMEOUT_MS = 1500;
 
+    /**
+     * 默认是否启用路由解析缓存
+     */
+    public static final boolean DEFAULT_RESOLUTION_CACHE_ENABLED = true;
+
+    /**
+     * 默认路由解析缓存最大条目数
+     */
+    public static final int DEFAULT_RESOLUTION_CACHE_MAX_SIZE = 10000;
+
     // ==================== 路由优先级范围 ====================
 
     /**
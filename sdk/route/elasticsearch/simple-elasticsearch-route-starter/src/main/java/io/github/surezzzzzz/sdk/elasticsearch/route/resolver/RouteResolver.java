@@ -3,6 +3,7 @@ package io.github.surezzzzzz.sdk.elasticsearch.route.resolver;
 import io.github.surezzzzzz.sdk.elasticsearch.route.annotation.SimpleElasticsearchRouteComponent;
 import io.github.surezzzzzz.sdk.elasticsearch.route.configuration.SimpleElasticsearchRouteProperties;
 import io.github.surezzzzzz.sdk.elasticsearch.route.matcher.RoutePatternMatcher;
+import io.github.surezzzzzz.sdk.elasticsearch.route.support.ElasticsearchRouteResolutionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.CollectionUtils;
@@ -11,8 +12,7 @@ import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -28,15 +28,24 @@ public class RouteResolver {
 
     private final SimpleElasticsearchRouteProperties properties;
     private final RoutePatternMatcher patternMatcher;
-    private final Map<String, SimpleElasticsearchRouteProperties.RouteRule> routingCache = new ConcurrentHashMap<>();
 
     /**
      * 排序后的启用规则列表（缓存）
      */
     private List<SimpleElasticsearchRouteProperties.RouteRule> sortedEnabledRules;
 
+    /**
+     * 有界路由解析缓存，Optional.empty() 表示未命中任何规则；禁用时为 null
+     */
+    private ElasticsearchRouteResolutionCache<Optional<SimpleElasticsearchRouteProperties.RouteRule>> routingCache;
+
     @PostConstruct
     public void init() {
+        SimpleElasticsearchRouteProperties.ResolutionCacheConfig cacheConfig = properties.getResolutionCache();
+        if (cacheConfig != null && cacheConfig.isEnabled()) {
+            this.routingCache = new ElasticsearchRouteResolutionCache<>(cacheConfig.getMaxSize());
+        }
+
         // 缓存排序后的启用规则
         List<SimpleElasticsearchRouteProperties.RouteRule> rules = properties.getRules();
 
@@ -74,7 +83,10 @@ public class RouteResolver {
         if (indexName == null) {
             return null;
         }
-        return routingCache.computeIfAbsent(indexName, this::doResolve);
+        if (routingCache == null) {
+            return doResolve(indexName);
+        }
+        return routingCache.get(indexName, key -> Optional.ofNullable(doResolve(key))).orElse(null);
     }
 
     /**
@@ -107,7 +119,9 @@ public class RouteResolver {
      * 清除路由缓存
      */
     public void clearCache() {
-        routingCache.clear();
+        if (routingCache != null) {
+            routingCache.clear();
+        }
         log.info("路由缓存已清空");
     }
 
@@ -117,7 +131,9 @@ public class RouteResolver {
      * @param indexName 索引名称
      */
     public void clearCache(String indexName) {
-        routingCache.remove(indexName);
+        if (routingCache != null && indexName != null) {
+            routingCache.remove(indexName);
+        }
         log.debug("指定索引路由缓存已清空，index=[{}]", indexName);
     }
 
@@ -127,6 +143,24 @@ public class RouteResolver {
      * @return 缓存大小
      */
     public int getCacheSize() {
-        return routingCache.size();
+        return routingCache != null ? routingCache.size() : 0;
+    }
+
+    /**
+     * 获取缓存命中次数
+     *
+     * @return 命中次数，缓存禁用时为 0
+     */
+    public long getCacheHitCount() {
+        return routingCache != null ? routingCache.getHitCount() : 0L;
+    }
+
+    /**
+     * 获取缓存未命中次数
+     *
+     * @return 未命中次数，缓存禁用时为 0
+     */
+    public long getCacheMissCount() {
+        return routingCache != null ? routingCache.getMissCount() : 0L;
     }
 }
@@ -0,0 +1,126 @@
+package io.github.surezzzzzz.sdk.elasticsearch.route.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 有界路由解析缓存
+ * <p>采用两代分区淘汰：新结果写入当代，当代写满后整体降为上代、旧上代丢弃；
+ * 上代命中的 key 会被提升回当代，因此持续被访问的热 key 不会随代际轮换淘汰，
+ * 只访问一次的长尾 key 最多存活两代。总条目数不超过 maxSize，读路径无锁。</p>
+ *
+ * <p>loader 返回 null 时不缓存；需要缓存"未命中任何规则"时由调用方使用非 null 哨兵值。</p>
+ *
+ * <p>淘汰语义与 Redis / MySQL Route 的解析缓存一致，各 route starter 没有公共依赖，因此各自保留实现；
+ * 本模块额外提供 {@link #clear()} 与 {@link #remove(String)}，承接 {@code RouteResolver} 原有的
+ * {@code clearCache} / {@code clearCache(indexName)} 公共方法。</p>
+ *
+ * @param <V> 缓存值类型
+ * @author surezzzzzz
+ */
+public final class ElasticsearchRouteResolutionCache<V> {
+
+    private final int generationSize;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile ConcurrentHashMap<String, V> current = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, V> previous = new ConcurrentHashMap<>();
+
+    /**
+     * 创建有界路由解析缓存。
+     *
+     * @param maxSize 最大缓存条目数，必须大于 0
+     */
+    public ElasticsearchRouteResolutionCache(int maxSize) {
+        this.generationSize = Math.max(1, maxSize / 2);
+    }
+
+    /**
+     * 读取缓存，未命中时调用 loader 解析并写入。
+     *
+     * @param key    路由 key
+     * @param loader 未命中时的解析函数
+     * @return 缓存或新解析的值
+     */
+    public V get(String key, Function<String, V> loader) {
+        V value = current.get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+        value = previous.get(key);
+        if (value != null) {
+            hitCount.increment();
+            put(key, value);
+            return value;
+        }
+        missCount.increment();
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 移除指定 key 的缓存（两代均移除）。
+     *
+     * @param key 路由 key
+     */
+    public void remove(String key) {
+        current.remove(key);
+        previous.remove(key);
+    }
+
+    /**
+     * 清空缓存，路由规则变化后调用；命中与未命中计数保留。
+     */
+    public synchronized void clear() {
+        current = new ConcurrentHashMap<>();
+        previous = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 获取缓存命中次数。
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 获取缓存未命中次数。
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取当前缓存条目数（两代之和，可能包含同一 key 的重复条目）。
+     *
+     * @return 缓存条目数
+     */
+    public int size() {
+        return current.size() + previous.size();
+    }
+
+    private void put(String key, V value) {
+        ConcurrentHashMap<String, V> generation = current;
+        generation.put(key, value);
+        if (generation.size() >= generationSize) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(ConcurrentHashMap<String, V> full) {
+        if (current != full) {
+            return;
+        }
+        previous = full;
+        current = new ConcurrentHashMap<>();
+    }
+}
@@ -71,6 +71,8 @@ public class SimpleElasticsearchRouteValidator {
 
             validateVersionDetectConfig(properties.getVersionDetect());
 
+            validateResolutionCacheConfig(properties.getResolutionCache());
+
             // 3.1 全局写索引配置新旧冲突提示
             validateGlobalWriteIndexConfigCompatibility();
 
@@ -264,6 +266,16 @@ public class SimpleElasticsearchRouteValidator {
         }
     }
 
+    private void validateResolutionCacheConfig(SimpleElasticsearchRouteProperties.ResolutionCacheConfig config) {
+        if (config == null || !config.isEnabled()) {
+            return;
+        }
+        if (config.getMaxSize() <= 0) {
+            throw new ConfigurationException(ErrorCode.CONFIG_RESOLUTION_CACHE_MAX_SIZE_INVALID,
+                    ErrorMessage.CONFIG_RESOLUTION_CACHE_MAX_SIZE_INVALID);
+        }
+    }
+
     /**
      * 校验全局写索引新旧配置冲突（冲突只 warn，不抛异常）
      */
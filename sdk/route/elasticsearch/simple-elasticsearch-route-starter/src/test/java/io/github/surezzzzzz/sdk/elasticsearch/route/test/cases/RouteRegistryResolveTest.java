@@ -57,7 +57,56 @@ public class RouteRegistryResolveTest {
         assertTrue(ex.getMessage().contains("不支持跨数据源查询"));
     }
 
+    @Test
+    public void testResolutionCacheBoundedAndCachesMisses() {
+        log.info("=== testResolutionCacheBoundedAndCachesMisses ===");
+        SimpleElasticsearchRouteProperties properties = createPropertiesWithRules();
+        properties.getResolutionCache().setMaxSize(8);
+        RouteResolver resolver = new RouteResolver(properties, new RoutePatternMatcher());
+        resolver.init();
+
+        assertEquals("secondary", resolver.resolveDataSource("user-1"));
+        assertEquals("secondary", resolver.resolveDataSource("user-1"));
+        assertEquals("primary", resolver.resolveDataSource("unknown"));
+        assertEquals("primary", resolver.resolveDataSource("unknown"));
+        assertEquals(2, resolver.getCacheMissCount());
+        assertEquals(2, resolver.getCacheHitCount(), "未命中规则的索引也应被缓存");
+
+        for (int i = 0; i < 100; i++) {
+            resolver.resolveDataSource("order-" + i);
+        }
+        log.info("缓存条目数: {}", resolver.getCacheSize());
+        assertTrue(resolver.getCacheSize() <= 8);
+
+        resolver.clearCache();
+        assertEquals(0, resolver.getCacheSize());
+    }
+
+    @Test
+    public void testResolutionCacheDisabled() {
+        log.info("=== testResolutionCacheDisabled ===");
+        SimpleElasticsearchRouteProperties properties = createPropertiesWithRules();
+        properties.getResolutionCache().setEnabled(false);
+        RouteResolver resolver = new RouteResolver(properties, new RoutePatternMatcher());
+        resolver.init();
+
+        assertEquals("secondary", resolver.resolveDataSource("user-1"));
+        assertEquals("primary", resolver.resolveDataSource("order-1"));
+        assertEquals(0, resolver.getCacheSize());
+        assertEquals(0, resolver.getCacheHitCount());
+    }
+
     private SimpleElasticsearchRouteRegistry createRegistryWithRules() {
+        SimpleElasticsearchRouteProperties properties = createPropertiesWithRules();
+
+        RoutePatternMatcher matcher = new RoutePatternMatcher();
+        RouteResolver resolver = new RouteResolver(properties, matcher);
+        resolver.init();
+
+        return new SimpleElasticsearchRouteRegistry(properties, resolver);
+    }
+
+    private SimpleElasticsearchRouteProperties createPropertiesWithRules() {
         SimpleElasticsearchRouteProperties properties = new SimpleElasticsearchRouteProperties();
         properties.setEnable(true);
         properties.setDefaultSource("primary");
@@ -67,12 +116,7 @@ public class RouteRegistryResolveTest {
         rules.add(createRule("user-", "prefix", "secondary", 1));
         rules.add(createRule("order-", "prefix", "primary", 1));
         properties.setRules(rules);
-
-        RoutePatternMatcher matcher = new RoutePatternMatcher();
-        RouteResolver resolver = new RouteResolver(properties, matcher);
-        resolver.init();
-
-        return new SimpleElasticsearchRouteRegistry(properties, resolver);
+        return properties;
     }
 
     private SimpleElasticsearchRouteProperties.RouteRule createRule(String pattern, String type, String ds, int priority) {
@@ -39,6 +39,11 @@ public class SimpleMysqlRouteProperties {
      */
     private List<RouteRule> rules = new ArrayList<>();
 
+    /**
+     * 路由解析缓存。
+     */
+    private ResolutionCacheConfig resolutionCache = new ResolutionCacheConfig();
+
     /**
      * 数据源配置。
      */
@@ -103,4 +108,21 @@ public class SimpleMysqlRouteProperties {
          */
         private boolean enable = SimpleMysqlRouteConstant.DEFAULT_ROUTE_RULE_ENABLE;
     }
+
+    /**
+     * 路由解析缓存配置。
+     */
+    @Data
+    public static class ResolutionCacheConfig {
+
+        /**
+         * 是否缓存业务路由键的解析结果。
+         */
+        private boolean enabled = SimpleMysqlRouteConstant.DEFAULT_RESOLUTION_CACHE_ENABLED;
+
+        /**
+         * 最大缓存条目数。
+         */
+        private int maxSize = SimpleMysqlRouteConstant.DEFAULT_RESOLUTION_CACHE_MAX_SIZE;
+    }
 }
@@ -40,6 +40,7 @@ public final class ErrorMessage {
     public static final String RULE_MATCH_TYPE_INVALID = "第 %s 条规则 match-type 无效";
     public static final String RULE_DATASOURCE_NOT_FOUND = "第 %s 条规则引用的 datasource 不存在";
     public static final String RULE_PATTERN_COMPILE_FAILED = "第 %s 条规则 pattern 无法编译";
+    public static final String RESOLUTION_CACHE_MAX_SIZE_INVALID = "resolution-cache.max-size 必须大于 0";
     public static final String SHA_256_UNAVAILABLE = "SHA-256 算法不可用";
     public static final String ROUTING_BEAN_NAME_CONFLICT = "MySQL Route 路由 Bean 名称冲突";
     public static final String HIKARI_CONFIGURATION_INVALID = "datasource [%s] Hikari 配置无效";
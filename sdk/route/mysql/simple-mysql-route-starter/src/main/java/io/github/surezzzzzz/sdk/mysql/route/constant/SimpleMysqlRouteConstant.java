@@ -39,6 +39,8 @@ public final class SimpleMysqlRouteConstant {
     public static final int DEFAULT_RULE_PRIORITY = 1000;
     public static final String DEFAULT_ROUTE_MATCH_TYPE = "exact";
     public static final boolean DEFAULT_ROUTE_RULE_ENABLE = true;
+    public static final boolean DEFAULT_RESOLUTION_CACHE_ENABLED = true;
+    public static final int DEFAULT_RESOLUTION_CACHE_MAX_SIZE = 10000;
     public static final String DEFAULT_DRIVER_CLASS_NAME = "com.mysql.cj.jdbc.Driver";
     public static final String MIDDLEWARE_TYPE_MYSQL = "mysql";
     public static final int AUDIT_STATUS_SUCCESS = 200;
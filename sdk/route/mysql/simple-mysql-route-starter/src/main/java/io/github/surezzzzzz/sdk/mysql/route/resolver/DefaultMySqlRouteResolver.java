@@ -6,23 +6,32 @@ import io.github.surezzzzzz.sdk.mysql.route.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.mysql.route.constant.RouteMatchType;
 import io.github.surezzzzzz.sdk.mysql.route.exception.SimpleMysqlRouteException;
 import io.github.surezzzzzz.sdk.mysql.route.matcher.MySqlRoutePatternMatcher;
+import io.github.surezzzzzz.sdk.mysql.route.support.MySqlRouteResolutionCache;
 import io.github.surezzzzzz.sdk.mysql.route.support.MySqlRouteStringHelper;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 import java.util.regex.Pattern;
 
 /**
  * 默认 MySQL Route 解析器。
+ * <p>exact 规则按哈希表、prefix 规则按前缀树定位候选，其余规则只检查排在候选之前的部分；
+ * 解析结果（包括未命中）写入有界缓存。</p>
  *
  * @author surezzzzzz
  */
 public class DefaultMySqlRouteResolver implements MySqlRouteResolver {
 
+    private static final int NO_RULE = Integer.MAX_VALUE;
+
     private final MySqlRoutePatternMatcher patternMatcher;
     private final List<CompiledRule> rules;
+    private final Map<String, Integer> exactRuleOrders = new HashMap<>();
+    private final PrefixTrie prefixTrie = new PrefixTrie();
+    private final int[] scannedRuleOrders;
+    /**
+     * 路由解析缓存，resolution-cache.enabled=false 时为 null；规则在构造时编译且不可变，缓存无需失效
+     */
+    private final MySqlRouteResolutionCache<Optional<String>> resolutionCache;
 
     /**
      * 基于已校验配置构建规则解析器。
@@ -33,6 +42,11 @@ public class DefaultMySqlRouteResolver implements MySqlRouteResolver {
     public DefaultMySqlRouteResolver(SimpleMysqlRouteProperties properties, MySqlRoutePatternMatcher patternMatcher) {
         this.patternMatcher = patternMatcher;
         this.rules = compile(properties.getRules());
+        this.scannedRuleOrders = index(rules);
+        SimpleMysqlRouteProperties.ResolutionCacheConfig cacheConfig = properties.getResolutionCache();
+        this.resolutionCache = cacheConfig != null && cacheConfig.isEnabled()
+                ? new MySqlRouteResolutionCache<>(cacheConfig.getMaxSize())
+                : null;
     }
 
     /**
@@ -46,13 +60,78 @@ public class DefaultMySqlRouteResolver implements MySqlRouteResolver {
         if (!MySqlRouteStringHelper.hasText(routeKey)) {
             throw new SimpleMysqlRouteException(ErrorCode.ROUTE_KEY_INVALID, ErrorMessage.ROUTE_KEY_INVALID);
         }
-        for (CompiledRule rule : rules) {
+        String datasource = resolutionCache == null
+                ? match(routeKey)
+                : resolutionCache.get(routeKey, key -> Optional.ofNullable(match(key))).orElse(null);
+        if (datasource == null) {
+            throw new SimpleMysqlRouteException(ErrorCode.ROUTE_NOT_FOUND,
+                    String.format(ErrorMessage.ROUTE_NOT_FOUND, routeKey));
+        }
+        return datasource;
+    }
+
+    /**
+     * 获取路由解析缓存命中次数。
+     *
+     * @return 命中次数，缓存关闭时为 0
+     */
+    public long getCacheHitCount() {
+        return resolutionCache == null ? 0L : resolutionCache.getHitCount();
+    }
+
+    /**
+     * 获取路由解析缓存未命中次数。
+     *
+     * @return 未命中次数，缓存关闭时为 0
+     */
+    public long getCacheMissCount() {
+        return resolutionCache == null ? 0L : resolutionCache.getMissCount();
+    }
+
+    /**
+     * 获取路由解析缓存条目数。
+     *
+     * @return 缓存条目数，缓存关闭时为 0
+     */
+    public int getCacheSize() {
+        return resolutionCache == null ? 0 : resolutionCache.size();
+    }
+
+    private String match(String routeKey) {
+        int best = prefixTrie.match(routeKey);
+        Integer exactOrder = exactRuleOrders.get(routeKey);
+        if (exactOrder != null && exactOrder < best) {
+            best = exactOrder;
+        }
+        for (int order : scannedRuleOrders) {
+            if (order > best) {
+                break;
+            }
+            CompiledRule rule = rules.get(order);
             if (patternMatcher.matches(routeKey, rule.matchType, rule.pattern, rule.compiledPattern)) {
                 return rule.datasource;
             }
         }
-        throw new SimpleMysqlRouteException(ErrorCode.ROUTE_NOT_FOUND,
-                String.format(ErrorMessage.ROUTE_NOT_FOUND, routeKey));
+        return best == NO_RULE ? null : rules.get(best).datasource;
+    }
+
+    private int[] index(List<CompiledRule> compiledRules) {
+        List<Integer> scanned = new ArrayList<>();
+        for (int order = 0; order < compiledRules.size(); order++) {
+            CompiledRule rule = compiledRules.get(order);
+            if (rule.matchType == RouteMatchType.EXACT) {
+                exactRuleOrders.putIfAbsent(rule.pattern, order);
+            } else if (rule.matchType == RouteMatchType.PREFIX) {
+                prefixTrie.add(rule.pattern, order);
+            } else {
+                scanned.add(order);
+            }
+        }
+        int[] result = new int[scanned.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = scanned.get(i);
+        }
+        return result;
     }
 
     private List<CompiledRule> compile(List<SimpleMysqlRouteProperties.RouteRule> configuredRules) {
@@ -105,4 +184,34 @@ public class DefaultMySqlRouteResolver implements MySqlRouteResolver {
             this.compiledPattern = compiledPattern;
         }
     }
+
+    private static final class PrefixTrie {
+        private final PrefixNode root = new PrefixNode();
+
+        private void add(String prefix, int order) {
+            PrefixNode node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new PrefixNode());
+            }
+            node.order = Math.min(node.order, order);
+        }
+
+        private int match(String routeKey) {
+            int best = root.order;
+            PrefixNode node = root;
+            for (int i = 0; i < routeKey.length(); i++) {
+                node = node.children.get(routeKey.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                best = Math.min(best, node.order);
+            }
+            return best;
+        }
+    }
+
+    private static final class PrefixNode {
+        private final Map<Character, PrefixNode> children = new HashMap<>();
+        private int order = NO_RULE;
+    }
 }
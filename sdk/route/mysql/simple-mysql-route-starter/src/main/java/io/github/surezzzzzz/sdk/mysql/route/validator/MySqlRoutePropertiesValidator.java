@@ -48,6 +48,13 @@ public class MySqlRoutePropertiesValidator {
             validateDatasource(entry.getKey(), entry.getValue());
         }
         validateRules(datasources, properties.getRules());
+        validateResolutionCache(properties.getResolutionCache());
+    }
+
+    private void validateResolutionCache(SimpleMysqlRouteProperties.ResolutionCacheConfig resolutionCache) {
+        if (resolutionCache != null && resolutionCache.isEnabled() && resolutionCache.getMaxSize() <= 0) {
+            fail(ErrorMessage.RESOLUTION_CACHE_MAX_SIZE_INVALID);
+        }
     }
 
     private void validateDatasource(String datasourceName, SimpleMysqlRouteProperties.DatasourceConfig datasource) {
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * MySQL Route 默认解析器测试。
@@ -62,6 +63,60 @@ public class DefaultMySqlRouteResolverTest {
         assertEquals(ErrorCode.ROUTE_KEY_INVALID, blank.getCode());
     }
 
+    @Test
+    public void shouldKeepPriorityAcrossIndexedAndScannedRules() {
+        SimpleMysqlRouteProperties properties = new SimpleMysqlRouteProperties();
+        properties.getRules().add(rule("test_hot_*", "test-audit-a", 300));
+        properties.getRules().add(typedRule("test_", "prefix", "test-ops-a", 200));
+        properties.getRules().add(typedRule("test_exact", "exact", "test-audit-a", 100));
+        properties.getRules().add(typedRule("_tmp", "suffix", "test-audit-a", 100));
+
+        DefaultMySqlRouteResolver resolver = new DefaultMySqlRouteResolver(properties, new MySqlRoutePatternMatcher());
+
+        assertEquals("test-audit-a", resolver.resolve("test_hot_order"));
+        assertEquals("test-ops-a", resolver.resolve("test_exact"));
+        assertEquals("test-ops-a", resolver.resolve("test_order_tmp"));
+        assertEquals("test-audit-a", resolver.resolve("other_tmp"));
+    }
+
+    @Test
+    public void shouldCacheResolvedAndUnmatchedRouteKeys() {
+        SimpleMysqlRouteProperties properties = new SimpleMysqlRouteProperties();
+        properties.getRules().add(typedRule("test_", "prefix", "test-ops-a", 100));
+        DefaultMySqlRouteResolver resolver = new DefaultMySqlRouteResolver(properties, new MySqlRoutePatternMatcher());
+
+        assertEquals("test-ops-a", resolver.resolve("test_order"));
+        assertEquals("test-ops-a", resolver.resolve("test_order"));
+        assertThrows(SimpleMysqlRouteException.class, () -> resolver.resolve("other_order"));
+        SimpleMysqlRouteException cachedMiss = assertThrows(SimpleMysqlRouteException.class,
+                () -> resolver.resolve("other_order"));
+
+        assertEquals(ErrorCode.ROUTE_NOT_FOUND, cachedMiss.getCode());
+        assertEquals(2L, resolver.getCacheHitCount());
+        assertEquals(2L, resolver.getCacheMissCount());
+        assertEquals(2, resolver.getCacheSize());
+    }
+
+    @Test
+    public void shouldBoundResolutionCache() {
+        SimpleMysqlRouteProperties properties = new SimpleMysqlRouteProperties();
+        properties.getRules().add(typedRule("test_", "prefix", "test-ops-a", 100));
+        properties.getResolutionCache().setMaxSize(8);
+        DefaultMySqlRouteResolver resolver = new DefaultMySqlRouteResolver(properties, new MySqlRoutePatternMatcher());
+
+        for (int index = 0; index < 1000; index++) {
+            assertEquals("test-ops-a", resolver.resolve("test_order_" + index));
+        }
+        assertTrue(resolver.getCacheSize() <= 8);
+    }
+
+    private SimpleMysqlRouteProperties.RouteRule typedRule(String pattern, String matchType, String datasource,
+                                                           int priority) {
+        SimpleMysqlRouteProperties.RouteRule rule = rule(pattern, datasource, priority);
+        rule.setMatchType(matchType);
+        return rule;
+    }
+
     private SimpleMysqlRouteProperties.RouteRule rule(String pattern, String datasource, int priority) {
         SimpleMysqlRouteProperties.RouteRule rule = new SimpleMysqlRouteProperties.RouteRule();
         rule.setPattern(pattern);
@@ -2,6 +2,7 @@ package io.github.surezzzzzz.sdk.mysql.route.test.cases;
 
 import io.github.surezzzzzz.sdk.mysql.route.configuration.SimpleMysqlRouteProperties;
 import io.github.surezzzzzz.sdk.mysql.route.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.mysql.route.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.mysql.route.exception.ConfigurationException;
 import io.github.surezzzzzz.sdk.mysql.route.matcher.MySqlRoutePatternMatcher;
 import io.github.surezzzzzz.sdk.mysql.route.validator.MySqlRoutePropertiesValidator;
@@ -121,6 +122,16 @@ public class MySqlRoutePropertiesValidatorTest {
         assertConfigInvalid(invalidRegex, "无法编译");
     }
 
+    @Test
+    public void shouldRejectNonPositiveResolutionCacheSizeOnlyWhenEnabled() {
+        SimpleMysqlRouteProperties properties = validProperties();
+        properties.getResolutionCache().setMaxSize(0);
+        assertConfigInvalid(properties, ErrorMessage.RESOLUTION_CACHE_MAX_SIZE_INVALID);
+
+        properties.getResolutionCache().setEnabled(false);
+        assertDoesNotThrow(() -> validator.validate(properties));
+    }
+
     private void assertConfigInvalid(SimpleMysqlRouteProperties properties, String expectedDetail) {
         ConfigurationException exception = assertThrows(ConfigurationException.class,
                 () -> validator.validate(properties));
@@ -196,13 +196,15 @@ public class SimpleRedisRouteConfiguration {
      *
      * @param registry      Route 数据源注册表
      * @param routeResolver Route 路由解析器
+     * @param properties    Route 配置
      * @return 显式路由门面
      */
     @Bean
     @ConditionalOnMissingBean(RedisRouteTemplate.class)
     public RedisRouteTemplate redisRouteTemplate(SimpleRedisRouteRegistry registry,
-                                                 RedisRouteResolver routeResolver) {
-        return new RedisRouteTemplate(registry, routeResolver);
+                                                 RedisRouteResolver routeResolver,
+                                                 SimpleRedisRouteProperties properties) {
+        return new RedisRouteTemplate(registry, routeResolver, properties.getScatter());
     }
 
     private static final class RedisConnectionFactoryPublisher implements FactoryBean<RedisConnectionFactory> {
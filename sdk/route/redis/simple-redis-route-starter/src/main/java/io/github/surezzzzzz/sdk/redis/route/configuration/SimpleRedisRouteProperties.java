@@ -46,6 +46,16 @@ public class SimpleRedisRouteProperties {
      */
     private ProbeConfig probe = new ProbeConfig();
 
+    /**
+     * 跨 datasource scatter-gather 配置
+     */
+    private ScatterConfig scatter = new ScatterConfig();
+
+    /**
+     * 路由解析缓存配置
+     */
+    private ResolutionCacheConfig resolutionCache = new ResolutionCacheConfig();
+
     /**
      * Redis 数据源配置
      */
@@ -243,6 +253,40 @@ public class SimpleRedisRouteProperties {
         private boolean serverInfo = SimpleRedisRouteConstant.DEFAULT_PROBE_SERVER_INFO;
     }
 
+    /**
+     * 跨 datasource scatter-gather 配置
+     */
+    @Data
+    public static class ScatterConfig {
+
+        /**
+         * 并行执行 datasource 分组的线程数
+         */
+        private int threads = SimpleRedisRouteConstant.DEFAULT_SCATTER_THREADS;
+
+        /**
+         * 单个 datasource 分组的默认超时，毫秒
+         */
+        private long timeoutMs = SimpleRedisRouteConstant.DEFAULT_SCATTER_TIMEOUT_MS;
+    }
+
+    /**
+     * 路由解析缓存配置
+     */
+    @Data
+    public static class ResolutionCacheConfig {
+
+        /**
+         * 是否缓存 key 到路由规则的解析结果
+         */
+        private boolean enabled = SimpleRedisRouteConstant.DEFAULT_RESOLUTION_CACHE_ENABLED;
+
+        /**
+         * 最大缓存条目数
+         */
+        private int maxSize = SimpleRedisRouteConstant.DEFAULT_RESOLUTION_CACHE_MAX_SIZE;
+    }
+
     /**
      * 路由规则配置
      */
@@ -48,6 +48,21 @@ public final class ErrorCode {
      */
     public static final String REDIS_ROUTE_016 = "REDIS_ROUTE_016";
 
+    /**
+     * scatter-gather 配置不合法
+     */
+    public static final String REDIS_ROUTE_017 = "REDIS_ROUTE_017";
+
+    /**
+     * scatter-gather datasource 分组执行失败
+     */
+    public static final String REDIS_ROUTE_018 = "REDIS_ROUTE_018";
+
+    /**
+     * 路由解析缓存配置不合法
+     */
+    public static final String REDIS_ROUTE_019 = "REDIS_ROUTE_019";
+
     private ErrorCode() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -52,6 +52,13 @@ public final class ErrorMessage {
     public static final String ROUTE_KEY_EMPTY = "route key 不能为空";
     public static final String ROUTE_CROSS_DATASOURCE = "多 key 路由到不同 Redis 数据源，datasources=%s，keys=%s";
     public static final String CALLBACK_EMPTY = "Redis route callback 不能为空";
+    public static final String CONFIG_SCATTER_THREADS_INVALID = "scatter.threads 必须大于 0，当前值: %d";
+    public static final String CONFIG_SCATTER_TIMEOUT_INVALID = "scatter.timeout-ms 必须大于 0，当前值: %d";
+    public static final String CONFIG_RESOLUTION_CACHE_MAX_SIZE_INVALID = "resolution-cache.max-size 必须大于 0，当前值: %d";
+    public static final String SCATTER_TIMEOUT_INVALID = "scatter-gather 超时时间必须大于 0，当前值: %d";
+    public static final String SCATTER_DATASOURCE_FAILED = "Redis 数据源 [%s] 的 scatter-gather 分组执行失败，key 数量=%d";
+    public static final String SCATTER_DATASOURCE_TIMEOUT = "Redis 数据源 [%s] 的 scatter-gather 分组执行超时，timeout=%dms，key 数量=%d";
+    public static final String SCATTER_RESULT_SIZE_MISMATCH = "Redis 数据源 [%s] 的 scatter-gather 回调返回 %d 个结果，期望 %d 个";
 
     /**
      * probe.server-info=false 时主动跳过探测的消息
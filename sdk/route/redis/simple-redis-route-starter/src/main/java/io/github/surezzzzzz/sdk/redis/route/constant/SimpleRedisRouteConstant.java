@@ -40,6 +40,31 @@ public final class SimpleRedisRouteConstant {
      */
     public static final boolean DEFAULT_PROBE_SERVER_INFO = true;
 
+    /**
+     * scatter-gather 默认并行线程数
+     */
+    public static final int DEFAULT_SCATTER_THREADS = 4;
+
+    /**
+     * scatter-gather 默认单 datasource 分组超时，毫秒
+     */
+    public static final long DEFAULT_SCATTER_TIMEOUT_MS = 3000L;
+
+    /**
+     * scatter-gather 线程名前缀
+     */
+    public static final String SCATTER_THREAD_NAME_PREFIX = "redis-route-scatter-";
+
+    /**
+     * 默认是否启用路由解析缓存
+     */
+    public static final boolean DEFAULT_RESOLUTION_CACHE_ENABLED = true;
+
+    /**
+     * 路由解析缓存默认最大条目数
+     */
+    public static final int DEFAULT_RESOLUTION_CACHE_MAX_SIZE = 10000;
+
     private SimpleRedisRouteConstant() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -0,0 +1,47 @@
+package io.github.surezzzzzz.sdk.redis.route.model;
+
+import io.github.surezzzzzz.sdk.redis.route.exception.RouteException;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 跨 datasource scatter-gather 执行结果（不可变快照）
+ *
+ * @author surezzzzzz
+ */
+@Getter
+public final class RedisScatterResult<T> {
+
+    /**
+     * 按输入 key 顺序排列的结果，所属 datasource 分组失败的位置为 null
+     */
+    private final List<T> values;
+
+    /**
+     * 失败分组，key 为 datasource key，value 为携带原始异常的路由异常
+     */
+    private final Map<String, RouteException> failures;
+
+    /**
+     * 所属分组失败的 Redis key，保持输入顺序
+     */
+    private final List<String> failedKeys;
+
+    public RedisScatterResult(List<T> values, Map<String, RouteException> failures, List<String> failedKeys) {
+        this.values = Collections.unmodifiableList(values);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.failedKeys = Collections.unmodifiableList(failedKeys);
+    }
+
+    /**
+     * 是否所有 datasource 分组均执行成功。
+     *
+     * @return 全部成功时返回 true
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+}
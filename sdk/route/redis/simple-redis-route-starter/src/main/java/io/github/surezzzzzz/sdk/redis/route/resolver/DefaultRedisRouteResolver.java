@@ -6,24 +6,37 @@ import io.github.surezzzzzz.sdk.redis.route.constant.ErrorMessage;
 import io.github.surezzzzzz.sdk.redis.route.constant.RouteMatchType;
 import io.github.surezzzzzz.sdk.redis.route.exception.RouteException;
 import io.github.surezzzzzz.sdk.redis.route.matcher.RedisRoutePatternMatcher;
+import io.github.surezzzzzz.sdk.redis.route.support.RedisRouteResolutionCache;
 import io.github.surezzzzzz.sdk.redis.route.support.RedisRouteStringHelper;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 import java.util.regex.Pattern;
 
 /**
  * 默认 Redis 路由解析器
+ * <p>exact 规则按哈希表、prefix 规则按前缀树一次定位优先级最高的候选，
+ * 只有 suffix / wildcard / regex 规则需要逐条匹配，且排在候选之后的规则不再检查。
+ * 解析结果（包括未命中任何规则）写入有界缓存。</p>
  *
  * @author surezzzzzz
  */
 public class DefaultRedisRouteResolver implements RedisRouteResolver {
 
+    private static final int NO_RULE = Integer.MAX_VALUE;
+
     private final SimpleRedisRouteProperties properties;
     private final RedisRoutePatternMatcher patternMatcher;
     private final List<CompiledRouteRule> compiledRules;
+    private final Map<String, Integer> exactRuleOrders = new HashMap<>();
+    private final PrefixTrie prefixTrie = new PrefixTrie();
+    /**
+     * 需要逐条匹配的规则在 compiledRules 中的下标，升序
+     */
+    private final int[] scannedRuleOrders;
+    /**
+     * 路由解析缓存，resolution-cache.enabled=false 时为 null；规则在构造时编译且不可变，缓存无需失效
+     */
+    private final RedisRouteResolutionCache<Optional<SimpleRedisRouteProperties.RouteRule>> resolutionCache;
 
     /**
      * 创建默认路由解析器，并在创建时预编译全部已启用规则。
@@ -35,6 +48,11 @@ public class DefaultRedisRouteResolver implements RedisRouteResolver {
         this.properties = properties;
         this.patternMatcher = patternMatcher;
         this.compiledRules = compileRules(properties.getRules());
+        this.scannedRuleOrders = indexRules(compiledRules);
+        SimpleRedisRouteProperties.ResolutionCacheConfig cacheConfig = properties.getResolutionCache();
+        this.resolutionCache = cacheConfig != null && cacheConfig.isEnabled()
+                ? new RedisRouteResolutionCache<>(cacheConfig.getMaxSize())
+                : null;
     }
 
     @Override
@@ -51,12 +69,74 @@ public class DefaultRedisRouteResolver implements RedisRouteResolver {
         if (!RedisRouteStringHelper.hasText(routeKey)) {
             throw new RouteException(ErrorCode.REDIS_ROUTE_008, ErrorMessage.ROUTE_KEY_EMPTY);
         }
-        for (CompiledRouteRule rule : compiledRules) {
+        if (resolutionCache == null) {
+            return matchRule(routeKey);
+        }
+        return resolutionCache.get(routeKey, key -> Optional.ofNullable(matchRule(key))).orElse(null);
+    }
+
+    /**
+     * 获取路由解析缓存命中次数。
+     *
+     * @return 命中次数，缓存关闭时为 0
+     */
+    public long getCacheHitCount() {
+        return resolutionCache == null ? 0L : resolutionCache.getHitCount();
+    }
+
+    /**
+     * 获取路由解析缓存未命中次数。
+     *
+     * @return 未命中次数，缓存关闭时为 0
+     */
+    public long getCacheMissCount() {
+        return resolutionCache == null ? 0L : resolutionCache.getMissCount();
+    }
+
+    /**
+     * 获取路由解析缓存条目数。
+     *
+     * @return 缓存条目数，缓存关闭时为 0
+     */
+    public int getCacheSize() {
+        return resolutionCache == null ? 0 : resolutionCache.size();
+    }
+
+    private SimpleRedisRouteProperties.RouteRule matchRule(String routeKey) {
+        int best = prefixTrie.match(routeKey);
+        Integer exactOrder = exactRuleOrders.get(routeKey);
+        if (exactOrder != null && exactOrder < best) {
+            best = exactOrder;
+        }
+        for (int order : scannedRuleOrders) {
+            if (order > best) {
+                break;
+            }
+            CompiledRouteRule rule = compiledRules.get(order);
             if (patternMatcher.matches(routeKey, rule.getMatchType(), rule.getRule().getPattern(), rule.getPattern())) {
                 return rule.getRule();
             }
         }
-        return null;
+        return best == NO_RULE ? null : compiledRules.get(best).getRule();
+    }
+
+    private int[] indexRules(List<CompiledRouteRule> rules) {
+        List<Integer> scanned = new ArrayList<>();
+        for (int order = 0; order < rules.size(); order++) {
+            CompiledRouteRule rule = rules.get(order);
+            if (rule.getMatchType() == RouteMatchType.EXACT) {
+                exactRuleOrders.putIfAbsent(rule.getRule().getPattern(), order);
+            } else if (rule.getMatchType() == RouteMatchType.PREFIX) {
+                prefixTrie.add(rule.getRule().getPattern(), order);
+            } else {
+                scanned.add(order);
+            }
+        }
+        int[] result = new int[scanned.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = scanned.get(i);
+        }
+        return result;
     }
 
     private List<CompiledRouteRule> compileRules(List<SimpleRedisRouteProperties.RouteRule> rules) {
@@ -130,4 +210,37 @@ public class DefaultRedisRouteResolver implements RedisRouteResolver {
             return pattern;
         }
     }
+
+    /**
+     * prefix 规则前缀树，每个节点记录以该节点结尾的 prefix 规则中最小的规则下标
+     */
+    private static class PrefixTrie {
+        private final PrefixNode root = new PrefixNode();
+
+        void add(String prefix, int order) {
+            PrefixNode node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new PrefixNode());
+            }
+            node.order = Math.min(node.order, order);
+        }
+
+        int match(String routeKey) {
+            int best = root.order;
+            PrefixNode node = root;
+            for (int i = 0; i < routeKey.length(); i++) {
+                node = node.children.get(routeKey.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                best = Math.min(best, node.order);
+            }
+            return best;
+        }
+    }
+
+    private static class PrefixNode {
+        private final Map<Character, PrefixNode> children = new HashMap<>();
+        private int order = NO_RULE;
+    }
 }
@@ -0,0 +1,108 @@
+package io.github.surezzzzzz.sdk.redis.route.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 有界路由解析缓存
+ * <p>采用两代分区淘汰：新结果写入当代，当代写满后整体降为上代、旧上代丢弃；
+ * 上代命中的 key 会被提升回当代，因此持续被访问的热 key 不会随代际轮换淘汰，
+ * 只访问一次的长尾 key 最多存活两代。总条目数不超过 maxSize，读路径无锁。</p>
+ *
+ * <p>loader 返回 null 时不缓存；需要缓存"未命中任何规则"时由调用方使用非 null 哨兵值。
+ * 路由规则在解析器构造时编译且运行期不可变，缓存条目无需失效。</p>
+ *
+ * <p>各 route starter 独立发布、互不依赖，MySQL 与 Elasticsearch Route 各持有一份同构实现，
+ * 调整淘汰语义时需同步修改。</p>
+ *
+ * @param <V> 缓存值类型
+ * @author surezzzzzz
+ */
+public final class RedisRouteResolutionCache<V> {
+
+    private final int generationSize;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile ConcurrentHashMap<String, V> current = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, V> previous = new ConcurrentHashMap<>();
+
+    /**
+     * 创建有界路由解析缓存。
+     *
+     * @param maxSize 最大缓存条目数，必须大于 0
+     */
+    public RedisRouteResolutionCache(int maxSize) {
+        this.generationSize = Math.max(1, maxSize / 2);
+    }
+
+    /**
+     * 读取缓存，未命中时调用 loader 解析并写入。
+     *
+     * @param key    路由 key
+     * @param loader 未命中时的解析函数
+     * @return 缓存或新解析的值
+     */
+    public V get(String key, Function<String, V> loader) {
+        V value = current.get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+        value = previous.get(key);
+        if (value != null) {
+            hitCount.increment();
+            put(key, value);
+            return value;
+        }
+        missCount.increment();
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 获取缓存命中次数。
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 获取缓存未命中次数。
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取当前缓存条目数（两代之和，可能包含同一 key 的重复条目）。
+     *
+     * @return 缓存条目数
+     */
+    public int size() {
+        return current.size() + previous.size();
+    }
+
+    private void put(String key, V value) {
+        ConcurrentHashMap<String, V> generation = current;
+        generation.put(key, value);
+        if (generation.size() >= generationSize) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(ConcurrentHashMap<String, V> full) {
+        if (current != full) {
+            return;
+        }
+        previous = full;
+        current = new ConcurrentHashMap<>();
+    }
+}
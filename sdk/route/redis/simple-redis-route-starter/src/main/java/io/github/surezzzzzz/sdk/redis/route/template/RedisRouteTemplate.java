@@ -1,18 +1,26 @@
 package io.github.surezzzzzz.sdk.redis.route.template;
 
+import io.github.surezzzzzz.sdk.redis.route.configuration.SimpleRedisRouteProperties;
 import io.github.surezzzzzz.sdk.redis.route.constant.ErrorCode;
 import io.github.surezzzzzz.sdk.redis.route.constant.ErrorMessage;
+import io.github.surezzzzzz.sdk.redis.route.constant.SimpleRedisRouteConstant;
 import io.github.surezzzzzz.sdk.redis.route.exception.RouteException;
+import io.github.surezzzzzz.sdk.redis.route.model.RedisScatterResult;
 import io.github.surezzzzzz.sdk.redis.route.model.RedisServerInfo;
 import io.github.surezzzzzz.sdk.redis.route.registry.SimpleRedisRouteRegistry;
 import io.github.surezzzzzz.sdk.redis.route.resolver.RedisRouteResolver;
 import io.github.surezzzzzz.sdk.redis.route.support.RedisRouteStringHelper;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
-import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -20,20 +28,39 @@ import java.util.function.Function;
  *
  * @author surezzzzzz
  */
-public class RedisRouteTemplate {
+public class RedisRouteTemplate implements DisposableBean {
 
     private final SimpleRedisRouteRegistry registry;
     private final RedisRouteResolver routeResolver;
+    private final SimpleRedisRouteProperties.ScatterConfig scatterConfig;
+    /**
+     * scatter-gather 并行线程池，首次跨 datasource 执行时创建
+     */
+    private volatile ThreadPoolExecutor scatterExecutor;
 
     /**
-     * 创建显式路由门面。
+     * 创建使用默认 scatter-gather 配置的显式路由门面。
      *
      * @param registry      Route 数据源注册表
      * @param routeResolver Route 路由解析器
      */
     public RedisRouteTemplate(SimpleRedisRouteRegistry registry, RedisRouteResolver routeResolver) {
+        this(registry, routeResolver, new SimpleRedisRouteProperties.ScatterConfig());
+    }
+
+    /**
+     * 创建显式路由门面。
+     *
+     * @param registry      Route 数据源注册表
+     * @param routeResolver Route 路由解析器
+     * @param scatterConfig 跨 datasource scatter-gather 配置
+     */
+    public RedisRouteTemplate(SimpleRedisRouteRegistry registry,
+                              RedisRouteResolver routeResolver,
+                              SimpleRedisRouteProperties.ScatterConfig scatterConfig) {
         this.registry = registry;
         this.routeResolver = routeResolver;
+        this.scatterConfig = scatterConfig;
     }
 
     /**
@@ -127,6 +154,97 @@ public class RedisRouteTemplate {
         return callback.apply(registry.getStringRedisTemplate(datasourceKey));
     }
 
+    /**
+     * 按 datasource 分组后并行执行回调，并按输入顺序合并结果。
+     * <p>每个 datasource 只回调一次，入参为该 datasource 的 template 与按输入顺序排列的 key 子列表，
+     * 回调必须返回与子列表等长且一一对应的结果。单个分组失败或超时只影响该分组的 key，
+     * 记录在 {@link RedisScatterResult#getFailures()} 中，不会中断其他分组。</p>
+     *
+     * @param redisKeys Redis key 集合
+     * @param callback  单 datasource 分组回调
+     * @param <T>       单个 key 的结果类型
+     * @return 按输入顺序合并的结果
+     * @throws RouteException key 集合为空、包含空 key、callback 为空或路由目标 datasource 未注册时抛出
+     */
+    public <T> RedisScatterResult<T> scatterGather(Collection<String> redisKeys,
+                                                   BiFunction<StringRedisTemplate, List<String>, List<T>> callback) {
+        return scatterGather(redisKeys, callback, scatterConfig.getTimeoutMs());
+    }
+
+    /**
+     * 按 datasource 分组后并行执行回调，并按输入顺序合并结果。
+     * <p>所有 key 落在同一 datasource 时直接在调用线程执行，超时由 Redis 命令超时控制；
+     * 跨 datasource 时各分组在 scatter 线程池并行执行，每个分组最多等待 timeoutMs。</p>
+     *
+     * @param redisKeys Redis key 集合
+     * @param callback  单 datasource 分组回调
+     * @param timeoutMs 单个 datasource 分组超时，毫秒
+     * @param <T>       单个 key 的结果类型
+     * @return 按输入顺序合并的结果
+     * @throws RouteException key 集合为空、包含空 key、callback 为空、timeoutMs 不合法或路由目标 datasource 未注册时抛出
+     */
+    public <T> RedisScatterResult<T> scatterGather(Collection<String> redisKeys,
+                                                   BiFunction<StringRedisTemplate, List<String>, List<T>> callback,
+                                                   long timeoutMs) {
+        validateCallback(callback);
+        if (timeoutMs <= 0) {
+            throw new RouteException(ErrorCode.REDIS_ROUTE_017,
+                    String.format(ErrorMessage.SCATTER_TIMEOUT_INVALID, timeoutMs));
+        }
+        List<String> keys = validateRouteKeys(redisKeys);
+        Map<String, List<Integer>> groups = groupByDatasource(keys);
+        List<T> values = new ArrayList<>(Collections.<T>nCopies(keys.size(), null));
+        Map<String, RouteException> failures = new LinkedHashMap<>();
+        if (groups.size() == 1) {
+            Map.Entry<String, List<Integer>> group = groups.entrySet().iterator().next();
+            List<String> groupKeys = subKeys(keys, group.getValue());
+            try {
+                fill(values, group.getValue(), executeGroup(group.getKey(), groupKeys, callback));
+            } catch (RuntimeException e) {
+                failures.put(group.getKey(), toGroupFailure(group.getKey(), groupKeys.size(), e));
+            }
+        } else {
+            gather(keys, groups, callback, timeoutMs, values, failures);
+        }
+        List<String> failedKeys = new ArrayList<>();
+        for (String datasourceKey : failures.keySet()) {
+            failedKeys.addAll(subKeys(keys, groups.get(datasourceKey)));
+        }
+        return new RedisScatterResult<>(values, failures, failedKeys);
+    }
+
+    /**
+     * 跨 datasource 批量读取字符串值，每个 datasource 执行一次 MGET。
+     *
+     * @param redisKeys Redis key 集合
+     * @return 按输入顺序合并的值，key 不存在或所属分组失败时为 null
+     * @throws RouteException key 集合为空、包含空 key 或路由目标 datasource 未注册时抛出
+     */
+    public RedisScatterResult<String> multiGet(Collection<String> redisKeys) {
+        return scatterGather(redisKeys, (template, keys) -> template.opsForValue().multiGet(keys));
+    }
+
+    /**
+     * 跨 datasource 批量执行单 key 命令，每个 datasource 使用一条 pipeline。
+     * <p>command 对每个 key 必须恰好发出一条命令，结果按 StringRedisTemplate 的序列化规则反序列化。</p>
+     *
+     * @param redisKeys Redis key 集合
+     * @param command   对单个 key 发出 pipeline 命令的回调
+     * @return 按输入顺序合并的命令结果
+     * @throws RouteException key 集合为空、包含空 key、command 为空或路由目标 datasource 未注册时抛出
+     */
+    public RedisScatterResult<Object> scatterPipelined(Collection<String> redisKeys,
+                                                       BiConsumer<StringRedisConnection, String> command) {
+        validateCallback(command);
+        return scatterGather(redisKeys, (template, keys) -> template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String key : keys) {
+                command.accept(stringConnection, key);
+            }
+            return null;
+        }));
+    }
+
     /**
      * 在指定 datasource 上执行回调。
      *
@@ -173,6 +291,137 @@ public class RedisRouteTemplate {
         return registry.getServerInfo(datasourceKey);
     }
 
+    /**
+     * 关闭 scatter-gather 线程池。
+     */
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (scatterExecutor != null) {
+                scatterExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private <T> void gather(List<String> keys,
+                            Map<String, List<Integer>> groups,
+                            BiFunction<StringRedisTemplate, List<String>, List<T>> callback,
+                            long timeoutMs,
+                            List<T> values,
+                            Map<String, RouteException> failures) {
+        ExecutorService executor = scatterExecutor();
+        Map<String, Future<List<T>>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            String datasourceKey = group.getKey();
+            List<String> groupKeys = subKeys(keys, group.getValue());
+            try {
+                futures.put(datasourceKey, executor.submit(() -> executeGroup(datasourceKey, groupKeys, callback)));
+            } catch (RejectedExecutionException e) {
+                failures.put(datasourceKey, toGroupFailure(datasourceKey, groupKeys.size(), e));
+            }
+        }
+        // 各分组同时开始执行，统一截止时间即每个分组各自的超时
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        boolean interrupted = false;
+        for (Map.Entry<String, Future<List<T>>> entry : futures.entrySet()) {
+            String datasourceKey = entry.getKey();
+            Future<List<T>> future = entry.getValue();
+            List<Integer> indexes = groups.get(datasourceKey);
+            if (interrupted) {
+                future.cancel(true);
+                failures.put(datasourceKey, toGroupFailure(datasourceKey, indexes.size(), new InterruptedException()));
+                continue;
+            }
+            try {
+                fill(values, indexes, future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failures.put(datasourceKey, new RouteException(ErrorCode.REDIS_ROUTE_018,
+                        String.format(ErrorMessage.SCATTER_DATASOURCE_TIMEOUT, datasourceKey, timeoutMs, indexes.size()), e));
+            } catch (ExecutionException e) {
+                failures.put(datasourceKey, toGroupFailure(datasourceKey, indexes.size(), e.getCause()));
+            } catch (InterruptedException e) {
+                interrupted = true;
+                future.cancel(true);
+                failures.put(datasourceKey, toGroupFailure(datasourceKey, indexes.size(), e));
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> List<T> executeGroup(String datasourceKey,
+                                     List<String> groupKeys,
+                                     BiFunction<StringRedisTemplate, List<String>, List<T>> callback) {
+        List<T> result = callback.apply(registry.getStringRedisTemplate(datasourceKey), groupKeys);
+        int size = result == null ? 0 : result.size();
+        if (size != groupKeys.size()) {
+            throw new RouteException(ErrorCode.REDIS_ROUTE_018,
+                    String.format(ErrorMessage.SCATTER_RESULT_SIZE_MISMATCH, datasourceKey, size, groupKeys.size()));
+        }
+        return result;
+    }
+
+    private RouteException toGroupFailure(String datasourceKey, int keyCount, Throwable cause) {
+        if (cause instanceof RouteException && ErrorCode.REDIS_ROUTE_018.equals(((RouteException) cause).getErrorCode())) {
+            return (RouteException) cause;
+        }
+        return new RouteException(ErrorCode.REDIS_ROUTE_018,
+                String.format(ErrorMessage.SCATTER_DATASOURCE_FAILED, datasourceKey, keyCount), cause);
+    }
+
+    private Map<String, List<Integer>> groupByDatasource(List<String> keys) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String datasourceKey = routeResolver.resolveDataSource(keys.get(i));
+            groups.computeIfAbsent(datasourceKey, key -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    private List<String> subKeys(List<String> keys, List<Integer> indexes) {
+        List<String> groupKeys = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            groupKeys.add(keys.get(index));
+        }
+        return groupKeys;
+    }
+
+    private <T> void fill(List<T> values, List<Integer> indexes, List<T> groupValues) {
+        for (int i = 0; i < indexes.size(); i++) {
+            values.set(indexes.get(i), groupValues.get(i));
+        }
+    }
+
+    private ExecutorService scatterExecutor() {
+        ThreadPoolExecutor executor = scatterExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (scatterExecutor == null) {
+                    int threads = scatterConfig.getThreads();
+                    ThreadPoolExecutor created = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), new ScatterThreadFactory());
+                    created.allowCoreThreadTimeOut(true);
+                    scatterExecutor = created;
+                }
+                executor = scatterExecutor;
+            }
+        }
+        return executor;
+    }
+
+    private List<String> validateRouteKeys(Collection<String> redisKeys) {
+        if (redisKeys == null || redisKeys.isEmpty()) {
+            throw new RouteException(ErrorCode.REDIS_ROUTE_008, ErrorMessage.ROUTE_KEY_EMPTY);
+        }
+        List<String> keys = new ArrayList<>(redisKeys.size());
+        for (String redisKey : redisKeys) {
+            keys.add(validateRouteKey(redisKey));
+        }
+        return keys;
+    }
+
     private String resolveSameDatasource(Collection<String> redisKeys) {
         if (redisKeys == null || redisKeys.isEmpty()) {
             throw new RouteException(ErrorCode.REDIS_ROUTE_008, ErrorMessage.ROUTE_KEY_EMPTY);
@@ -203,9 +452,21 @@ public class RedisRouteTemplate {
         return datasourceKey;
     }
 
-    private void validateCallback(Function<StringRedisTemplate, ?> callback) {
+    private void validateCallback(Object callback) {
         if (callback == null) {
             throw new RouteException(ErrorCode.REDIS_ROUTE_010, ErrorMessage.CALLBACK_EMPTY);
         }
     }
+
+    private static final class ScatterThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger index = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, SimpleRedisRouteConstant.SCATTER_THREAD_NAME_PREFIX + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -37,6 +37,32 @@ public class RedisRoutePropertiesValidator {
     public void validate(SimpleRedisRouteProperties properties) {
         validateSources(properties);
         validateRules(properties);
+        validateScatter(properties.getScatter());
+        validateResolutionCache(properties.getResolutionCache());
+    }
+
+    private void validateResolutionCache(SimpleRedisRouteProperties.ResolutionCacheConfig resolutionCache) {
+        if (resolutionCache == null || !resolutionCache.isEnabled()) {
+            return;
+        }
+        if (resolutionCache.getMaxSize() <= 0) {
+            throw new ConfigurationException(ErrorCode.REDIS_ROUTE_019,
+                    String.format(ErrorMessage.CONFIG_RESOLUTION_CACHE_MAX_SIZE_INVALID, resolutionCache.getMaxSize()));
+        }
+    }
+
+    private void validateScatter(SimpleRedisRouteProperties.ScatterConfig scatter) {
+        if (scatter == null) {
+            return;
+        }
+        if (scatter.getThreads() <= 0) {
+            throw new ConfigurationException(ErrorCode.REDIS_ROUTE_017,
+                    String.format(ErrorMessage.CONFIG_SCATTER_THREADS_INVALID, scatter.getThreads()));
+        }
+        if (scatter.getTimeoutMs() <= 0) {
+            throw new ConfigurationException(ErrorCode.REDIS_ROUTE_017,
+                    String.format(ErrorMessage.CONFIG_SCATTER_TIMEOUT_INVALID, scatter.getTimeoutMs()));
+        }
     }
 
     private void validateSources(SimpleRedisRouteProperties properties) {
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * 默认 Redis 路由解析器测试
@@ -34,6 +35,71 @@ public class DefaultRedisRouteResolverTest {
         assertEquals("default", resolver.resolveDataSource("unknown:001"));
     }
 
+    @Test
+    public void testIndexedRulesKeepPriorityAcrossMatchTypes() {
+        SimpleRedisRouteProperties properties = baseProperties();
+        properties.getRules().add(rule("cache:hot:*", "wildcard", "lock", 0));
+        properties.getRules().add(rule("cache:", "prefix", "user-cache", 1));
+        properties.getRules().add(rule(":tmp", "suffix", "lock", 2));
+        properties.getRules().add(rule("cache:exact", "exact", "lock", 3));
+        properties.getRules().add(rule("session:001", "exact", "lock", 0));
+        properties.getRules().add(rule("session:", "prefix", "user-cache", 1));
+
+        DefaultRedisRouteResolver resolver = new DefaultRedisRouteResolver(properties, new RedisRoutePatternMatcher());
+
+        assertEquals("lock", resolver.resolveDataSource("cache:hot:001"), "高优先级 wildcard 应先于 prefix");
+        assertEquals("user-cache", resolver.resolveDataSource("cache:001:tmp"), "高优先级 prefix 应先于 suffix");
+        assertEquals("user-cache", resolver.resolveDataSource("cache:exact"), "高优先级 prefix 应先于 exact");
+        assertEquals("lock", resolver.resolveDataSource("session:001"), "高优先级 exact 应先于 prefix");
+        assertEquals("user-cache", resolver.resolveDataSource("session:002"));
+        assertEquals("lock", resolver.resolveDataSource("other:tmp"));
+        assertEquals("default", resolver.resolveDataSource("other:001"));
+    }
+
+    @Test
+    public void testResolutionCacheRecordsHitsAndCachesMisses() {
+        SimpleRedisRouteProperties properties = baseProperties();
+        properties.getRules().add(rule("lock:", "prefix", "lock", 0));
+        DefaultRedisRouteResolver resolver = new DefaultRedisRouteResolver(properties, new RedisRoutePatternMatcher());
+
+        assertEquals("lock", resolver.resolveDataSource("lock:order:001"));
+        assertEquals("lock", resolver.resolveDataSource("lock:order:001"));
+        assertEquals("default", resolver.resolveDataSource("unknown:001"));
+        assertEquals("default", resolver.resolveDataSource("unknown:001"));
+
+        log.info("解析缓存 hit={}, miss={}, size={}",
+                resolver.getCacheHitCount(), resolver.getCacheMissCount(), resolver.getCacheSize());
+        assertEquals(2L, resolver.getCacheHitCount(), "未命中规则的结果也应被缓存");
+        assertEquals(2L, resolver.getCacheMissCount());
+        assertEquals(2, resolver.getCacheSize());
+    }
+
+    @Test
+    public void testResolutionCacheIsBounded() {
+        SimpleRedisRouteProperties properties = baseProperties();
+        properties.getRules().add(rule("lock:", "prefix", "lock", 0));
+        properties.getResolutionCache().setMaxSize(8);
+        DefaultRedisRouteResolver resolver = new DefaultRedisRouteResolver(properties, new RedisRoutePatternMatcher());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("lock", resolver.resolveDataSource("lock:order:" + i));
+        }
+        assertTrue(resolver.getCacheSize() <= 8, "缓存条目数不应超过 max-size");
+    }
+
+    @Test
+    public void testResolutionCacheCanBeDisabled() {
+        SimpleRedisRouteProperties properties = baseProperties();
+        properties.getRules().add(rule("lock:", "prefix", "lock", 0));
+        properties.getResolutionCache().setEnabled(false);
+        DefaultRedisRouteResolver resolver = new DefaultRedisRouteResolver(properties, new RedisRoutePatternMatcher());
+
+        assertEquals("lock", resolver.resolveDataSource("lock:order:001"));
+        assertEquals("lock", resolver.resolveDataSource("lock:order:001"));
+        assertEquals(0L, resolver.getCacheHitCount());
+        assertEquals(0, resolver.getCacheSize());
+    }
+
     @Test
     public void testBlankRouteKeyThrowsRouteException() {
         DefaultRedisRouteResolver resolver = new DefaultRedisRouteResolver(baseProperties(), new RedisRoutePatternMatcher());
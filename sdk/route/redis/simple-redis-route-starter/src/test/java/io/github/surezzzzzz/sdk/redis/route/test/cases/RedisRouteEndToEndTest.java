@@ -2,6 +2,7 @@ package io.github.surezzzzzz.sdk.redis.route.test.cases;
 
 import io.github.surezzzzzz.sdk.redis.route.constant.ErrorCode;
 import io.github.surezzzzzz.sdk.redis.route.exception.RouteException;
+import io.github.surezzzzzz.sdk.redis.route.model.RedisScatterResult;
 import io.github.surezzzzzz.sdk.redis.route.registry.SimpleRedisRouteRegistry;
 import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
 import io.github.surezzzzzz.sdk.redis.route.test.SimpleRedisRouteTestApplication;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
@@ -127,6 +129,33 @@ public class RedisRouteEndToEndTest {
         assertTrue(exception.getMessage().contains("lock:order:001"));
     }
 
+    @Test
+    public void testScatterGatherCrossDatasource() {
+        template.executeOn("cache", redisTemplate -> {
+            redisTemplate.opsForValue().set("cache:user:001", "user-value");
+            return null;
+        });
+        template.executeOn("lock", redisTemplate -> {
+            redisTemplate.opsForValue().set("lock:order:001", "lock-value");
+            return null;
+        });
+        template.executeOn("default", redisTemplate -> {
+            redisTemplate.opsForValue().set("route:default:001", "default-value");
+            return null;
+        });
+
+        RedisScatterResult<String> result = template.multiGet(Arrays.asList(
+                "lock:order:001", "cache:user:001", "route:default:001", "cache:order:001"));
+        log.info("scatter-gather 结果: {}", result.getValues());
+        assertTrue(result.isSuccess());
+        assertEquals(Arrays.asList("lock-value", "user-value", "default-value", null), result.getValues());
+
+        RedisScatterResult<Object> pipelined = template.scatterPipelined(
+                Arrays.asList("cache:user:001", "lock:order:001"), StringRedisConnection::get);
+        assertTrue(pipelined.isSuccess());
+        assertEquals(Arrays.asList("user-value", "lock-value"), pipelined.getValues());
+    }
+
     @Test
     public void testInputBoundary() {
         assertEquals(ErrorCode.REDIS_ROUTE_008,
@@ -78,6 +78,32 @@ public class RedisRoutePropertiesValidatorTest {
         assertTrue(exception.getMessage().contains("cluster-refresh-period-ms"));
     }
 
+    @Test
+    public void testScatterThreadsAndTimeoutMustBePositive() {
+        SimpleRedisRouteProperties threads = baseProperties();
+        threads.getScatter().setThreads(0);
+        ConfigurationException threadsException = assertThrows(ConfigurationException.class, () -> validator.validate(threads));
+        assertEquals(ErrorCode.REDIS_ROUTE_017, threadsException.getErrorCode());
+        assertTrue(threadsException.getMessage().contains("scatter.threads"));
+
+        SimpleRedisRouteProperties timeout = baseProperties();
+        timeout.getScatter().setTimeoutMs(0L);
+        ConfigurationException timeoutException = assertThrows(ConfigurationException.class, () -> validator.validate(timeout));
+        assertEquals(ErrorCode.REDIS_ROUTE_017, timeoutException.getErrorCode());
+        assertTrue(timeoutException.getMessage().contains("scatter.timeout-ms"));
+    }
+
+    @Test
+    public void testResolutionCacheMaxSizeMustBePositiveWhenEnabled() {
+        SimpleRedisRouteProperties properties = baseProperties();
+        properties.getResolutionCache().setMaxSize(0);
+        ConfigurationException exception = assertThrows(ConfigurationException.class, () -> validator.validate(properties));
+        assertEquals(ErrorCode.REDIS_ROUTE_019, exception.getErrorCode());
+
+        properties.getResolutionCache().setEnabled(false);
+        assertDoesNotThrow(() -> validator.validate(properties));
+    }
+
     @Test
     public void testLettucePoolBindsFromKebabCaseProperties() {
         StandardEnvironment environment = new StandardEnvironment();
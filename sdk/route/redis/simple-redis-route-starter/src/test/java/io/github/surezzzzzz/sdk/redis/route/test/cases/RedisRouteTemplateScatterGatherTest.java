@@ -0,0 +1,167 @@
+package io.github.surezzzzzz.sdk.redis.route.test.cases;
+
+import io.github.surezzzzzz.sdk.redis.route.configuration.SimpleRedisRouteProperties;
+import io.github.surezzzzzz.sdk.redis.route.constant.ErrorCode;
+import io.github.surezzzzzz.sdk.redis.route.exception.RouteException;
+import io.github.surezzzzzz.sdk.redis.route.model.RedisScatterResult;
+import io.github.surezzzzzz.sdk.redis.route.registry.SimpleRedisRouteRegistry;
+import io.github.surezzzzzz.sdk.redis.route.resolver.RedisRouteResolver;
+import io.github.surezzzzzz.sdk.redis.route.template.RedisRouteTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisRouteTemplate scatter-gather API 测试
+ *
+ * @author surezzzzzz
+ */
+@Slf4j
+public class RedisRouteTemplateScatterGatherTest {
+
+    private final Map<StringRedisTemplate, String> datasourceOfTemplate = new ConcurrentHashMap<>();
+    private RedisRouteTemplate template;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleRedisRouteRegistry registry = mock(SimpleRedisRouteRegistry.class);
+        RedisRouteResolver resolver = mock(RedisRouteResolver.class);
+        when(resolver.resolveDataSource(anyString())).thenAnswer(invocation -> {
+            String redisKey = invocation.getArgument(0);
+            return redisKey.substring(0, redisKey.indexOf(':'));
+        });
+        for (String datasourceKey : Arrays.asList("default", "cache", "lock")) {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            datasourceOfTemplate.put(redisTemplate, datasourceKey);
+            when(registry.getStringRedisTemplate(datasourceKey)).thenReturn(redisTemplate);
+        }
+        SimpleRedisRouteProperties.ScatterConfig scatterConfig = new SimpleRedisRouteProperties.ScatterConfig();
+        scatterConfig.setTimeoutMs(500L);
+        template = new RedisRouteTemplate(registry, resolver, scatterConfig);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        template.destroy();
+    }
+
+    @Test
+    public void testResultsMergedInInputOrder() {
+        List<String> callbackThreads = Collections.synchronizedList(new ArrayList<>());
+        RedisScatterResult<String> result = template.scatterGather(
+                Arrays.asList("lock:1", "cache:1", "default:1", "cache:2"),
+                (redisTemplate, keys) -> {
+                    callbackThreads.add(Thread.currentThread().getName());
+                    List<String> values = new ArrayList<>();
+                    for (String key : keys) {
+                        values.add(datasourceOfTemplate.get(redisTemplate) + "=" + key);
+                    }
+                    return values;
+                });
+
+        log.info("scatter-gather 结果: {}, 回调线程: {}", result.getValues(), callbackThreads);
+        assertTrue(result.isSuccess());
+        assertEquals(Arrays.asList("lock=lock:1", "cache=cache:1", "default=default:1", "cache=cache:2"),
+                result.getValues());
+        assertEquals(3, callbackThreads.size(), "每个 datasource 只应回调一次");
+    }
+
+    @Test
+    public void testSingleDatasourceRunsOnCallerThread() {
+        String caller = Thread.currentThread().getName();
+        RedisScatterResult<String> result = template.scatterGather(Arrays.asList("cache:1", "cache:2"),
+                (redisTemplate, keys) -> Arrays.asList(Thread.currentThread().getName(), Thread.currentThread().getName()));
+
+        assertTrue(result.isSuccess());
+        assertEquals(Arrays.asList(caller, caller), result.getValues());
+    }
+
+    @Test
+    public void testPartialFailureOnlyAffectsFailedDatasource() {
+        RedisScatterResult<String> result = template.scatterGather(
+                Arrays.asList("cache:1", "lock:1", "cache:2"),
+                (redisTemplate, keys) -> {
+                    if ("lock".equals(datasourceOfTemplate.get(redisTemplate))) {
+                        throw new IllegalStateException("lock datasource down");
+                    }
+                    return keys;
+                });
+
+        log.info("部分失败结果: values={}, failures={}", result.getValues(), result.getFailures().keySet());
+        assertFalse(result.isSuccess());
+        assertEquals(Arrays.asList("cache:1", null, "cache:2"), result.getValues());
+        assertEquals(Collections.singletonList("lock:1"), result.getFailedKeys());
+        RouteException failure = result.getFailures().get("lock");
+        assertEquals(ErrorCode.REDIS_ROUTE_018, failure.getErrorCode());
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testSlowDatasourceTimesOutWithoutBlockingOthers() {
+        CountDownLatch release = new CountDownLatch(1);
+        long start = System.nanoTime();
+        RedisScatterResult<String> result = template.scatterGather(
+                Arrays.asList("cache:1", "lock:1"),
+                (redisTemplate, keys) -> {
+                    if ("lock".equals(datasourceOfTemplate.get(redisTemplate))) {
+                        awaitQuietly(release);
+                    }
+                    return keys;
+                },
+                200L);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        log.info("超时结果: values={}, 耗时={}ms", result.getValues(), elapsedMillis);
+        assertEquals(Arrays.asList("cache:1", null), result.getValues());
+        assertEquals(ErrorCode.REDIS_ROUTE_018, result.getFailures().get("lock").getErrorCode());
+        assertTrue(result.getFailures().get("lock").getMessage().contains("超时"));
+        assertTrue(elapsedMillis < 2000L, "超时分组不应拖住调用方");
+    }
+
+    @Test
+    public void testResultSizeMismatchIsReportedAsFailure() {
+        RedisScatterResult<String> result = template.scatterGather(Arrays.asList("cache:1", "cache:2"),
+                (redisTemplate, keys) -> Collections.singletonList("only-one"));
+
+        assertFalse(result.isSuccess());
+        assertEquals(Arrays.asList("cache:1", "cache:2"), result.getFailedKeys());
+        assertEquals(ErrorCode.REDIS_ROUTE_018, result.getFailures().get("cache").getErrorCode());
+    }
+
+    @Test
+    public void testInputBoundary() {
+        assertEquals(ErrorCode.REDIS_ROUTE_008, assertThrows(RouteException.class,
+                () -> template.scatterGather(Collections.emptyList(), (redisTemplate, keys) -> keys)).getErrorCode());
+        assertEquals(ErrorCode.REDIS_ROUTE_008, assertThrows(RouteException.class,
+                () -> template.scatterGather(Arrays.asList("cache:1", " "), (redisTemplate, keys) -> keys)).getErrorCode());
+        assertEquals(ErrorCode.REDIS_ROUTE_010, assertThrows(RouteException.class,
+                () -> template.scatterGather(Arrays.asList("cache:1"), null)).getErrorCode());
+        assertEquals(ErrorCode.REDIS_ROUTE_017, assertThrows(RouteException.class,
+                () -> template.scatterGather(Arrays.asList("cache:1"), (redisTemplate, keys) -> keys, 0L)).getErrorCode());
+        assertEquals(ErrorCode.REDIS_ROUTE_010, assertThrows(RouteException.class,
+                () -> template.scatterPipelined(Arrays.asList("cache:1"), null)).getErrorCode());
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}